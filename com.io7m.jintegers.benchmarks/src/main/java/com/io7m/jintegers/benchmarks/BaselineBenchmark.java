@@ -0,0 +1,457 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Baseline benchmarks for the JDK's own integer access paths, against
+ * which the library's functions can be compared.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaselineBenchmark
+{
+  private static final VarHandle ARRAY_SHORT_BE =
+    MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle ARRAY_SHORT_LE =
+    MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_SHORT_BE =
+    MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle ARRAY_INT_BE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle ARRAY_INT_LE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_INT_BE =
+    MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle ARRAY_LONG_BE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle ARRAY_LONG_LE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_LONG_BE =
+    MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public BaselineBenchmark()
+  {
+
+  }
+
+  /**
+   * Read values with {@link ByteBuffer#getShort(int)}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long bufferGetShort(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += b.getShort(index);
+      index += 2;
+    }
+    return sum;
+  }
+
+  /**
+   * Write values with {@link ByteBuffer#putShort(int, short)}.
+   *
+   * @param s The state
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public void bufferPutShort(
+    final BenchmarkBuffers.Writable s)
+  {
+    final ByteBuffer b = s.buffer;
+    final long[] v = s.values;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      b.putShort(index, (short) v[k]);
+      index += 2;
+    }
+  }
+
+  /**
+   * Read a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The value
+   */
+
+  @Benchmark
+  public short arrayHandleGetShortBigEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return (short) ARRAY_SHORT_BE.get(s.data, 0);
+  }
+
+  /**
+   * Write a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  public byte[] arrayHandleSetShortBigEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    ARRAY_SHORT_BE.set(s.data, 0, (short) s.value);
+    return s.data;
+  }
+
+  /**
+   * Read a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The value
+   */
+
+  @Benchmark
+  public short arrayHandleGetShortLittleEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return (short) ARRAY_SHORT_LE.get(s.data, 0);
+  }
+
+  /**
+   * Write a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  public byte[] arrayHandleSetShortLittleEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    ARRAY_SHORT_LE.set(s.data, 0, (short) s.value);
+    return s.data;
+  }
+
+  /**
+   * Read values with a {@link ByteBuffer} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long bufferHandleGetShort(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += (short) BUFFER_SHORT_BE.get(b, index);
+      index += 2;
+    }
+    return sum;
+  }
+
+  /**
+   * Read values with {@link ByteBuffer#getInt(int)}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long bufferGetInt(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += b.getInt(index);
+      index += 4;
+    }
+    return sum;
+  }
+
+  /**
+   * Write values with {@link ByteBuffer#putInt(int, int)}.
+   *
+   * @param s The state
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public void bufferPutInt(
+    final BenchmarkBuffers.Writable s)
+  {
+    final ByteBuffer b = s.buffer;
+    final long[] v = s.values;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      b.putInt(index, (int) v[k]);
+      index += 4;
+    }
+  }
+
+  /**
+   * Read a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The value
+   */
+
+  @Benchmark
+  public int arrayHandleGetIntBigEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return (int) ARRAY_INT_BE.get(s.data, 0);
+  }
+
+  /**
+   * Write a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  public byte[] arrayHandleSetIntBigEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    ARRAY_INT_BE.set(s.data, 0, (int) s.value);
+    return s.data;
+  }
+
+  /**
+   * Read a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The value
+   */
+
+  @Benchmark
+  public int arrayHandleGetIntLittleEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return (int) ARRAY_INT_LE.get(s.data, 0);
+  }
+
+  /**
+   * Write a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  public byte[] arrayHandleSetIntLittleEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    ARRAY_INT_LE.set(s.data, 0, (int) s.value);
+    return s.data;
+  }
+
+  /**
+   * Read values with a {@link ByteBuffer} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long bufferHandleGetInt(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += (int) BUFFER_INT_BE.get(b, index);
+      index += 4;
+    }
+    return sum;
+  }
+
+  /**
+   * Read values with {@link ByteBuffer#getLong(int)}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long bufferGetLong(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += b.getLong(index);
+      index += 8;
+    }
+    return sum;
+  }
+
+  /**
+   * Write values with {@link ByteBuffer#putLong(int, long)}.
+   *
+   * @param s The state
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public void bufferPutLong(
+    final BenchmarkBuffers.Writable s)
+  {
+    final ByteBuffer b = s.buffer;
+    final long[] v = s.values;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      b.putLong(index, v[k]);
+      index += 8;
+    }
+  }
+
+  /**
+   * Read a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The value
+   */
+
+  @Benchmark
+  public long arrayHandleGetLongBigEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return (long) ARRAY_LONG_BE.get(s.data, 0);
+  }
+
+  /**
+   * Write a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  public byte[] arrayHandleSetLongBigEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    ARRAY_LONG_BE.set(s.data, 0, s.value);
+    return s.data;
+  }
+
+  /**
+   * Read a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The value
+   */
+
+  @Benchmark
+  public long arrayHandleGetLongLittleEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return (long) ARRAY_LONG_LE.get(s.data, 0);
+  }
+
+  /**
+   * Write a value with a {@code byte[]} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  public byte[] arrayHandleSetLongLittleEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    ARRAY_LONG_LE.set(s.data, 0, s.value);
+    return s.data;
+  }
+
+  /**
+   * Read values with a {@link ByteBuffer} view {@link VarHandle}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long bufferHandleGetLong(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += (long) BUFFER_LONG_BE.get(b, index);
+      index += 8;
+    }
+    return sum;
+  }
+}
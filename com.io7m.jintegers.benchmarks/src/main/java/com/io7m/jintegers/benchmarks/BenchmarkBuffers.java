@@ -0,0 +1,313 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+/**
+ * Shared benchmark state.
+ */
+
+public final class BenchmarkBuffers
+{
+  /**
+   * The number of values processed by each buffer benchmark invocation.
+   */
+
+  public static final int COUNT = 1024;
+
+  /**
+   * The number of bytes in each benchmark buffer. Large enough for
+   * {@link #COUNT} 64-bit values starting at an unaligned index.
+   */
+
+  public static final int SIZE = (COUNT * 8) + 8;
+
+  /**
+   * The number of channels used by the interleaved audio benchmarks.
+   */
+
+  public static final int CHANNELS = 32;
+
+  private BenchmarkBuffers()
+  {
+
+  }
+
+  private static ByteOrder orderOf(
+    final String name)
+  {
+    if ("BIG_ENDIAN".equals(name)) {
+      return ByteOrder.BIG_ENDIAN;
+    }
+    return ByteOrder.LITTLE_ENDIAN;
+  }
+
+  private static byte[] randomBytes()
+  {
+    final byte[] data = new byte[SIZE];
+    new Random(0x6a696e74L).nextBytes(data);
+    return data;
+  }
+
+  /**
+   * A buffer that is only read from. Covers heap, direct, and read-only
+   * buffers in both byte orders, with aligned and unaligned start indices.
+   */
+
+  @State(Scope.Thread)
+  public static class Readable
+  {
+    /**
+     * The kind of buffer.
+     */
+
+    @Param({"HEAP", "DIRECT", "READ_ONLY"})
+    public BufferKind kind;
+
+    /**
+     * The byte order of the buffer.
+     */
+
+    @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+    public String order;
+
+    /**
+     * The index of the first value; 0 is aligned, 1 is unaligned.
+     */
+
+    @Param({"0", "1"})
+    public int offset;
+
+    /**
+     * The buffer.
+     */
+
+    public ByteBuffer buffer;
+
+    /**
+     * Construct state.
+     */
+
+    public Readable()
+    {
+
+    }
+
+    /**
+     * Allocate and fill the buffer.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      final ByteBuffer writable;
+      if (this.kind == BufferKind.DIRECT) {
+        writable = ByteBuffer.allocateDirect(SIZE);
+      } else {
+        writable = ByteBuffer.allocate(SIZE);
+      }
+      writable.put(0, randomBytes());
+
+      if (this.kind == BufferKind.READ_ONLY) {
+        this.buffer = writable.asReadOnlyBuffer();
+      } else {
+        this.buffer = writable;
+      }
+      this.buffer.order(orderOf(this.order));
+    }
+  }
+
+  /**
+   * A buffer that is written to. Covers heap and direct buffers in both
+   * byte orders, with aligned and unaligned start indices.
+   */
+
+  @State(Scope.Thread)
+  public static class Writable
+  {
+    /**
+     * The kind of buffer.
+     */
+
+    @Param({"HEAP", "DIRECT"})
+    public BufferKind kind;
+
+    /**
+     * The byte order of the buffer.
+     */
+
+    @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+    public String order;
+
+    /**
+     * The index of the first value; 0 is aligned, 1 is unaligned.
+     */
+
+    @Param({"0", "1"})
+    public int offset;
+
+    /**
+     * The buffer.
+     */
+
+    public ByteBuffer buffer;
+
+    /**
+     * The values written by the benchmarks.
+     */
+
+    public long[] values;
+
+    /**
+     * Construct state.
+     */
+
+    public Writable()
+    {
+
+    }
+
+    /**
+     * Allocate the buffer and the values.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.buffer = this.kind.allocate(SIZE);
+      this.buffer.order(orderOf(this.order));
+      this.values = new Random(0x6a696e74L).longs(COUNT).toArray();
+    }
+  }
+
+  /**
+   * A small array used by the byte array benchmarks.
+   */
+
+  @State(Scope.Thread)
+  public static class Bytes
+  {
+    /**
+     * The array.
+     */
+
+    public byte[] data;
+
+    /**
+     * A value to be packed. Non-final to avoid constant folding.
+     */
+
+    public long value;
+
+    /**
+     * Construct state.
+     */
+
+    public Bytes()
+    {
+
+    }
+
+    /**
+     * Allocate the array.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.data = new byte[8];
+      new Random(0x6a696e74L).nextBytes(this.data);
+      this.value = 0x0123_4567_89ab_cdefL;
+    }
+  }
+
+  /**
+   * Arrays used by the bulk benchmarks.
+   */
+
+  @State(Scope.Thread)
+  public static class Arrays
+  {
+    /**
+     * An array of {@link #COUNT} integers.
+     */
+
+    public int[] ints;
+
+    /**
+     * An array of {@link #COUNT} longs.
+     */
+
+    public long[] longs;
+
+    /**
+     * An array of {@link #COUNT} normalized floats.
+     */
+
+    public float[] floats;
+
+    /**
+     * {@link #CHANNELS} channels of {@code COUNT / CHANNELS} normalized
+     * floats.
+     */
+
+    public float[][] channels;
+
+    /**
+     * Construct state.
+     */
+
+    public Arrays()
+    {
+
+    }
+
+    /**
+     * Allocate the arrays.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      final Random random = new Random(0x6a696e74L);
+      this.ints = random.ints(COUNT).toArray();
+      this.longs = random.longs(COUNT).toArray();
+      this.floats = new float[COUNT];
+      for (int index = 0; index < COUNT; ++index) {
+        this.floats[index] = (random.nextFloat() * 2.0f) - 1.0f;
+      }
+      this.channels = new float[CHANNELS][COUNT / CHANNELS];
+      for (int channel = 0; channel < CHANNELS; ++channel) {
+        System.arraycopy(
+          this.floats,
+          channel * (COUNT / CHANNELS),
+          this.channels[channel],
+          0,
+          COUNT / CHANNELS);
+      }
+    }
+  }
+}
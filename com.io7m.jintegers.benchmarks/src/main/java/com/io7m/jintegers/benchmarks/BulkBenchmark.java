@@ -0,0 +1,712 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.Unsigned8;
+import com.io7m.jintegers.Unsigned16;
+import com.io7m.jintegers.Unsigned24;
+import com.io7m.jintegers.Unsigned32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the bulk array functions.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkBenchmark
+{
+  /**
+   * Construct a benchmark.
+   */
+
+  public BulkBenchmark()
+  {
+
+  }
+
+  /**
+   * Benchmark {@link Signed16#packArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed16PackArrayBigEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed16.packArrayBigEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed16#unpackArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] signed16UnpackArrayBigEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed16.unpackArrayBigEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed16#packArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed16PackArrayLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed16.packArrayLittleEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed16#unpackArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] signed16UnpackArrayLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed16.unpackArrayLittleEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed24#packArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed24PackArrayBigEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed24.packArrayBigEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed24#unpackArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] signed24UnpackArrayBigEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed24.unpackArrayBigEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed24#packArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed24PackArrayLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed24.packArrayLittleEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed24#unpackArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] signed24UnpackArrayLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed24.unpackArrayLittleEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned24#packArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer unsigned24PackArrayBigEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned24.packArrayBigEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned24#unpackArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] unsigned24UnpackArrayBigEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned24.unpackArrayBigEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned24#packArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer unsigned24PackArrayLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned24.packArrayLittleEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned24#unpackArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] unsigned24UnpackArrayLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned24.unpackArrayLittleEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed32#packArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed32PackArrayBigEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed32.packArrayBigEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed32#unpackArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] signed32UnpackArrayBigEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed32.unpackArrayBigEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed32#packArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed32PackArrayLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed32.packArrayLittleEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed32#unpackArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] signed32UnpackArrayLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed32.unpackArrayLittleEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed64#packArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed64PackArrayBigEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed64.packArrayBigEndian(
+      a.longs, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed64#unpackArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long[] signed64UnpackArrayBigEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed64.unpackArrayBigEndian(
+      s.buffer, s.offset, a.longs, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed64#packArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed64PackArrayLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed64.packArrayLittleEndian(
+      a.longs, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed64#unpackArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long[] signed64UnpackArrayLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed64.unpackArrayLittleEndian(
+      s.buffer, s.offset, a.longs, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned8#packArray}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer unsigned8PackArray(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned8.packArray(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned8#unpackArray}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] unsigned8UnpackArray(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned8.unpackArray(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned16#packArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer unsigned16PackArrayBigEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned16.packArrayBigEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned16#unpackArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] unsigned16UnpackArrayBigEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned16.unpackArrayBigEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned16#packArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer unsigned16PackArrayLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned16.packArrayLittleEndian(
+      a.ints, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned16#unpackArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int[] unsigned16UnpackArrayLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned16.unpackArrayLittleEndian(
+      s.buffer, s.offset, a.ints, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned32#packArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer unsigned32PackArrayBigEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned32.packArrayBigEndian(
+      a.longs, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned32#unpackArrayBigEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long[] unsigned32UnpackArrayBigEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned32.unpackArrayBigEndian(
+      s.buffer, s.offset, a.longs, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned32#packArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer unsigned32PackArrayLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned32.packArrayLittleEndian(
+      a.longs, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Unsigned32#unpackArrayLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long[] unsigned32UnpackArrayLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Unsigned32.unpackArrayLittleEndian(
+      s.buffer, s.offset, a.longs, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed24#unpackArrayNormalizedLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public float[] signed24UnpackArrayNormalizedLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed24.unpackArrayNormalizedLittleEndian(
+      s.buffer, s.offset, a.floats, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed24#packArrayNormalizedLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed24PackArrayNormalizedLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed24.packArrayNormalizedLittleEndian(
+      a.floats, 0, s.buffer, s.offset, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Benchmark {@link Signed24#unpackInterleavedNormalizedLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The arrays
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public float[][] signed24UnpackInterleavedNormalizedLittleEndian(
+    final BenchmarkBuffers.Readable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed24.unpackInterleavedNormalizedLittleEndian(
+      s.buffer,
+      s.offset,
+      a.channels,
+      0,
+      BenchmarkBuffers.COUNT / BenchmarkBuffers.CHANNELS);
+  }
+
+  /**
+   * Benchmark {@link Signed24#packInterleavedNormalizedLittleEndian}.
+   *
+   * @param s The buffer state
+   * @param a The array state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public ByteBuffer signed24PackInterleavedNormalizedLittleEndian(
+    final BenchmarkBuffers.Writable s,
+    final BenchmarkBuffers.Arrays a)
+  {
+    return Signed24.packInterleavedNormalizedLittleEndian(
+      a.channels,
+      0,
+      s.buffer,
+      s.offset,
+      BenchmarkBuffers.COUNT / BenchmarkBuffers.CHANNELS);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.IntegerCursor;
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link IntegerCursor}. Each operation decodes one record
+ * consisting of a 16-bit, a 24-bit, a 32-bit, and a 64-bit value.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorBenchmark
+{
+  private static final int RECORD_SIZE = 2 + 3 + 4 + 8;
+  private static final int RECORDS = (BenchmarkBuffers.COUNT * 8) / RECORD_SIZE;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public CursorBenchmark()
+  {
+
+  }
+
+  /**
+   * Decode records with a cursor.
+   *
+   * @param s The state
+   *
+   * @return The sum of the unpacked values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public long cursor(
+    final BenchmarkBuffers.Readable s)
+  {
+    final IntegerCursor c = IntegerCursor.of(s.buffer, s.offset);
+    long sum = 0L;
+    for (int k = 0; k < RECORDS; ++k) {
+      c.require(RECORD_SIZE);
+      sum += c.readSigned16BE();
+      sum += c.readSigned24BE();
+      sum += c.readSigned32BE();
+      sum += c.readSigned64BE();
+    }
+    return sum;
+  }
+
+  /**
+   * Decode records with the absolute functions.
+   *
+   * @param s The state
+   *
+   * @return The sum of the unpacked values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public long absolute(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < RECORDS; ++k) {
+      sum += Signed16.unpackFromBufferBigEndian(b, index);
+      sum += Signed24.unpackFromBufferBigEndian(b, index + 2);
+      sum += Signed32.unpackFromBufferBigEndian(b, index + 5);
+      sum += Signed64.unpackFromBufferBigEndian(b, index + 9);
+      index += RECORD_SIZE;
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.DeltaBlockCodec;
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link DeltaBlockCodec}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeltaBlockCodecBenchmark
+{
+  /**
+   * Construct a benchmark.
+   */
+
+  public DeltaBlockCodecBenchmark()
+  {
+
+  }
+
+  /**
+   * A buffer of encoded timestamps.
+   */
+
+  @State(Scope.Thread)
+  public static class Encoded
+  {
+    /**
+     * {@code true} if the codec is second-order.
+     */
+
+    @Param({"false", "true"})
+    public boolean secondOrder;
+
+    /**
+     * The codec.
+     */
+
+    public DeltaBlockCodec codec;
+
+    /**
+     * The encoded values.
+     */
+
+    public ByteBuffer data;
+
+    /**
+     * The values.
+     */
+
+    public long[] values;
+
+    /**
+     * Construct a state.
+     */
+
+    public Encoded()
+    {
+
+    }
+
+    /**
+     * Encode the values.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      final Random r = new Random(0x6a696e74L);
+      this.values = new long[BenchmarkBuffers.COUNT];
+      long time = 1_700_000_000_000L;
+      for (int index = 0; index < this.values.length; ++index) {
+        time += 1000L + r.nextInt(21) - 10;
+        this.values[index] = time;
+      }
+
+      final IntegerCodecType residuals = IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN);
+      this.codec = this.secondOrder
+        ? DeltaBlockCodec.secondOrder(residuals, 128)
+        : DeltaBlockCodec.firstOrder(residuals, 128);
+      this.data = ByteBuffer.allocateDirect((int) this.codec.encodedLength(BenchmarkBuffers.COUNT));
+      this.codec.encode(this.values, 0, this.data, 0, BenchmarkBuffers.COUNT);
+    }
+  }
+
+  /**
+   * Decode all values.
+   *
+   * @param s The state
+   *
+   * @return The output array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long[] decode(
+    final Encoded s)
+  {
+    return s.codec.decode(s.data, 0, s.values, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Encode all values.
+   *
+   * @param s The state
+   *
+   * @return The number of bytes written
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int encode(
+    final Encoded s)
+  {
+    return s.codec.encode(s.values, 0, s.data, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Read a value in the middle of a block.
+   *
+   * @param s The state
+   *
+   * @return The value
+   */
+
+  @Benchmark
+  public long get(
+    final Encoded s)
+  {
+    return s.codec.get(s.data, 0, 700);
+  }
+}
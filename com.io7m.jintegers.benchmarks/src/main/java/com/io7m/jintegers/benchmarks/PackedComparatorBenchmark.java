@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.PackedComparator;
+import com.io7m.jintegers.Signed64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link PackedComparator}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedComparatorBenchmark
+{
+  private static final int KEYS = 65536;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public PackedComparatorBenchmark()
+  {
+
+  }
+
+  /**
+   * A sorted buffer of big-endian {@code Signed64} keys.
+   */
+
+  @State(Scope.Thread)
+  public static class Keys
+  {
+    /**
+     * The packed keys.
+     */
+
+    public ByteBuffer data;
+
+    /**
+     * The keys to search for.
+     */
+
+    public long[] queries;
+
+    /**
+     * The comparator.
+     */
+
+    public PackedComparator comparator;
+
+    /**
+     * Construct a state.
+     */
+
+    public Keys()
+    {
+
+    }
+
+    /**
+     * Pack the keys.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      final Random r = new Random(0x6a696e74L);
+      final long[] keys = new long[KEYS];
+      for (int index = 0; index < keys.length; ++index) {
+        keys[index] = r.nextLong();
+      }
+      Arrays.sort(keys);
+
+      this.data = ByteBuffer.allocateDirect(KEYS * 8);
+      Signed64.packArrayBigEndian(keys, 0, this.data, 0, KEYS);
+      this.comparator = PackedComparator.of(IntegerCodecs.of(8, true, ByteOrder.BIG_ENDIAN));
+
+      this.queries = new long[BenchmarkBuffers.COUNT];
+      for (int index = 0; index < this.queries.length; ++index) {
+        this.queries[index] = r.nextBoolean() ? keys[r.nextInt(KEYS)] : r.nextLong();
+      }
+    }
+  }
+
+  /**
+   * Search with {@link PackedComparator#binarySearch}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the results
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long binarySearch(
+    final Keys s)
+  {
+    long sum = 0L;
+    for (final long query : s.queries) {
+      sum += s.comparator.binarySearch(s.data, 0, KEYS, query);
+    }
+    return sum;
+  }
+
+  /**
+   * Search by unpacking each probe with
+   * {@link Signed64#unpackFromBufferBigEndian}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the results
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long binarySearchUnpacked(
+    final Keys s)
+  {
+    long sum = 0L;
+    for (final long query : s.queries) {
+      int low = 0;
+      int high = KEYS - 1;
+      int result = -1;
+      while (low <= high) {
+        final int middle = (low + high) >>> 1;
+        final long value = Signed64.unpackFromBufferBigEndian(s.data, middle * 8);
+        if (value < query) {
+          low = middle + 1;
+        } else if (value > query) {
+          high = middle - 1;
+        } else {
+          result = middle;
+          break;
+        }
+      }
+      sum += result >= 0 ? result : -(low + 1);
+    }
+    return sum;
+  }
+}
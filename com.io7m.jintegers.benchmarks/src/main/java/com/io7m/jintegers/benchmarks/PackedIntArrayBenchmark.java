@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.PackedIntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link PackedIntArray}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedIntArrayBenchmark
+{
+  /**
+   * Construct a benchmark.
+   */
+
+  public PackedIntArrayBenchmark()
+  {
+
+  }
+
+  /**
+   * A populated array.
+   */
+
+  @State(Scope.Thread)
+  public static class Packed
+  {
+    /**
+     * The bit width.
+     */
+
+    @Param({"7", "19", "37"})
+    public int bits;
+
+    /**
+     * The array.
+     */
+
+    public PackedIntArray array;
+
+    /**
+     * The values.
+     */
+
+    public long[] values;
+
+    /**
+     * Construct a state.
+     */
+
+    public Packed()
+    {
+
+    }
+
+    /**
+     * Populate the array.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      final Random r = new Random(0x6a696e74L);
+      this.values = new long[BenchmarkBuffers.COUNT];
+      this.array = PackedIntArray.allocate(this.bits, false, BenchmarkBuffers.COUNT);
+      for (int index = 0; index < this.values.length; ++index) {
+        this.values[index] = r.nextLong() & this.array.maximum();
+      }
+      this.array.setArray(0L, this.values, 0, this.values.length);
+    }
+  }
+
+  /**
+   * Read values one at a time.
+   *
+   * @param s The state
+   *
+   * @return The sum of the values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long get(
+    final Packed s)
+  {
+    long sum = 0L;
+    for (int index = 0; index < BenchmarkBuffers.COUNT; ++index) {
+      sum += s.array.get(index);
+    }
+    return sum;
+  }
+
+  /**
+   * Read values in blocks.
+   *
+   * @param s The state
+   *
+   * @return The output array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long[] getArray(
+    final Packed s)
+  {
+    return s.array.getArray(0L, s.values, 0, BenchmarkBuffers.COUNT);
+  }
+
+  /**
+   * Write values in blocks.
+   *
+   * @param s The state
+   *
+   * @return The array
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public PackedIntArray setArray(
+    final Packed s)
+  {
+    s.array.setArray(0L, s.values, 0, BenchmarkBuffers.COUNT);
+    return s.array;
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.RecordSort;
+import com.io7m.jintegers.Unsigned32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link RecordSort}, sorting 16-byte records by an
+ * {@code Unsigned32} key at offset 4.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordSortBenchmark
+{
+  private static final int RECORDS = 1 << 20;
+  private static final int RECORD_SIZE = 16;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RecordSortBenchmark()
+  {
+
+  }
+
+  /**
+   * A buffer of unsorted records.
+   */
+
+  @State(Scope.Thread)
+  public static class Records
+  {
+    /**
+     * The records to be sorted.
+     */
+
+    public ByteBuffer data;
+
+    /**
+     * The unsorted records.
+     */
+
+    public ByteBuffer unsorted;
+
+    /**
+     * The sort.
+     */
+
+    public RecordSort sort;
+
+    /**
+     * Construct a state.
+     */
+
+    public Records()
+    {
+
+    }
+
+    /**
+     * Generate the records.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      final Random r = new Random(0x6a696e74L);
+      this.unsorted = ByteBuffer.allocateDirect(RECORDS * RECORD_SIZE);
+      for (int index = 0; index < RECORDS; ++index) {
+        this.unsorted.putLong(index * RECORD_SIZE, r.nextLong());
+        this.unsorted.putLong(index * RECORD_SIZE + 8, r.nextLong());
+      }
+      this.data = ByteBuffer.allocateDirect(RECORDS * RECORD_SIZE);
+      this.sort = RecordSort.of(IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN), RECORD_SIZE, 4);
+    }
+
+    /**
+     * Restore the unsorted records.
+     */
+
+    @Setup(Level.Invocation)
+    public void restore()
+    {
+      this.data.put(0, this.unsorted, 0, RECORDS * RECORD_SIZE);
+    }
+  }
+
+  /**
+   * A decoded record.
+   *
+   * @param key   The key
+   * @param bytes The record
+   */
+
+  private record Decoded(long key, byte[] bytes)
+  {
+
+  }
+
+  /**
+   * Sort with {@link RecordSort#sort}.
+   *
+   * @param s The state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public ByteBuffer sort(
+    final Records s)
+  {
+    s.sort.sort(s.data, 0, RECORDS);
+    return s.data;
+  }
+
+  /**
+   * Sort with {@link RecordSort#sortParallel} on the common pool.
+   *
+   * @param s The state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public ByteBuffer sortParallel(
+    final Records s)
+  {
+    s.sort.sortParallel(s.data, 0, RECORDS, ForkJoinPool.commonPool());
+    return s.data;
+  }
+
+  /**
+   * Sort by decoding records into objects, sorting the objects, and
+   * writing them back.
+   *
+   * @param s The state
+   *
+   * @return The buffer
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public ByteBuffer sortDecoded(
+    final Records s)
+  {
+    final Decoded[] records = new Decoded[RECORDS];
+    for (int index = 0; index < RECORDS; ++index) {
+      final byte[] bytes = new byte[RECORD_SIZE];
+      s.data.get(index * RECORD_SIZE, bytes);
+      records[index] = new Decoded(
+        Unsigned32.unpackFromBufferBigEndian(s.data, index * RECORD_SIZE + 4), bytes);
+    }
+    Arrays.sort(records, Comparator.comparingLong(Decoded::key));
+    for (int index = 0; index < RECORDS; ++index) {
+      s.data.put(index * RECORD_SIZE, records[index].bytes());
+    }
+    return s.data;
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Signed48;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Signed48}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Signed48Benchmark
+{
+  /**
+   * Construct a benchmark.
+   */
+
+  public Signed48Benchmark()
+  {
+
+  }
+
+  /**
+   * Benchmark {@link Signed48#packToBytesBigEndianAllocate}.
+   *
+   * @param s The state
+   *
+   * @return The packed bytes
+   */
+
+  @Benchmark
+  public byte[] packToBytesBigEndianAllocate(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return Signed48.packToBytesBigEndianAllocate(s.value);
+  }
+
+  /**
+   * Benchmark {@link Signed48#packToBytesBigEndian}.
+   *
+   * @param s The state
+   *
+   * @return The packed bytes
+   */
+
+  @Benchmark
+  public byte[] packToBytesBigEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return Signed48.packToBytesBigEndian(s.value, s.data);
+  }
+
+  /**
+   * Benchmark {@link Signed48#packToBytesLittleEndianAllocate}.
+   *
+   * @param s The state
+   *
+   * @return The packed bytes
+   */
+
+  @Benchmark
+  public byte[] packToBytesLittleEndianAllocate(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return Signed48.packToBytesLittleEndianAllocate(s.value);
+  }
+
+  /**
+   * Benchmark {@link Signed48#packToBytesLittleEndian}.
+   *
+   * @param s The state
+   *
+   * @return The packed bytes
+   */
+
+  @Benchmark
+  public byte[] packToBytesLittleEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return Signed48.packToBytesLittleEndian(s.value, s.data);
+  }
+
+  /**
+   * Benchmark {@link Signed48#packToBufferBigEndian}.
+   *
+   * @param s The state
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public void packToBufferBigEndian(
+    final BenchmarkBuffers.Writable s)
+  {
+    final ByteBuffer b = s.buffer;
+    final long[] v = s.values;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      Signed48.packToBufferBigEndian(v[k], b, index);
+      index += 6;
+    }
+  }
+
+  /**
+   * Benchmark {@link Signed48#packToBufferLittleEndian}.
+   *
+   * @param s The state
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public void packToBufferLittleEndian(
+    final BenchmarkBuffers.Writable s)
+  {
+    final ByteBuffer b = s.buffer;
+    final long[] v = s.values;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      Signed48.packToBufferLittleEndian(v[k], b, index);
+      index += 6;
+    }
+  }
+
+  /**
+   * Benchmark {@link Signed48#packToBuffer}.
+   *
+   * @param s The state
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public void packToBuffer(
+    final BenchmarkBuffers.Writable s)
+  {
+    final ByteBuffer b = s.buffer;
+    final long[] v = s.values;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      Signed48.packToBuffer(v[k], b, index);
+      index += 6;
+    }
+  }
+
+  /**
+   * Benchmark {@link Signed48#unpackFromBytesBigEndian}.
+   *
+   * @param s The state
+   *
+   * @return The unpacked value
+   */
+
+  @Benchmark
+  public long unpackFromBytesBigEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return Signed48.unpackFromBytesBigEndian(s.data);
+  }
+
+  /**
+   * Benchmark {@link Signed48#unpackFromBytesLittleEndian}.
+   *
+   * @param s The state
+   *
+   * @return The unpacked value
+   */
+
+  @Benchmark
+  public long unpackFromBytesLittleEndian(
+    final BenchmarkBuffers.Bytes s)
+  {
+    return Signed48.unpackFromBytesLittleEndian(s.data);
+  }
+
+  /**
+   * Benchmark {@link Signed48#unpackFromBufferBigEndian}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the unpacked values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long unpackFromBufferBigEndian(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += Signed48.unpackFromBufferBigEndian(b, index);
+      index += 6;
+    }
+    return sum;
+  }
+
+  /**
+   * Benchmark {@link Signed48#unpackFromBufferLittleEndian}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the unpacked values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long unpackFromBufferLittleEndian(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += Signed48.unpackFromBufferLittleEndian(b, index);
+      index += 6;
+    }
+    return sum;
+  }
+
+  /**
+   * Benchmark {@link Signed48#unpackFromBuffer}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the unpacked values
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public long unpackFromBuffer(
+    final BenchmarkBuffers.Readable s)
+  {
+    final ByteBuffer b = s.buffer;
+    long sum = 0L;
+    int index = s.offset;
+    for (int k = 0; k < BenchmarkBuffers.COUNT; ++k) {
+      sum += Signed48.unpackFromBuffer(b, index);
+      index += 6;
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing composite keys of a {@link Signed64} field followed
+ * by a {@link Signed32} field, either by comparing sortable encodings
+ * directly or by decoding and comparing the fields.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortableKeyBenchmark
+{
+  /**
+   * Construct a benchmark.
+   */
+
+  public SortableKeyBenchmark()
+  {
+
+  }
+
+  /**
+   * A set of keys.
+   */
+
+  @State(Scope.Thread)
+  public static class Keys
+  {
+    /**
+     * The keys in the sortable encoding.
+     */
+
+    public byte[][] sortable;
+
+    /**
+     * The keys in the little-endian encoding.
+     */
+
+    public byte[][] plain;
+
+    /**
+     * Construct a state.
+     */
+
+    public Keys()
+    {
+
+    }
+
+    /**
+     * Generate keys. Half of the keys share their first field with their
+     * predecessor.
+     */
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      final Random r = new Random(0x6a696e74L);
+      this.sortable = new byte[BenchmarkBuffers.COUNT + 1][];
+      this.plain = new byte[BenchmarkBuffers.COUNT + 1][];
+      long high = r.nextLong();
+      for (int index = 0; index < this.sortable.length; ++index) {
+        if (r.nextBoolean()) {
+          high = r.nextLong();
+        }
+        final int low = r.nextInt();
+        this.sortable[index] = new byte[12];
+        Signed64.packToBytesSortable(high, this.sortable[index], 0);
+        Signed32.packToBytesSortable(low, this.sortable[index], 8);
+        this.plain[index] = new byte[12];
+        Signed64.packToBytesLittleEndian(high, this.plain[index], 0);
+        Signed32.packToBytesLittleEndian(low, this.plain[index], 8);
+      }
+    }
+  }
+
+  /**
+   * Compare adjacent keys with {@link Arrays#compareUnsigned(byte[], byte[])}.
+   *
+   * @param s The state
+   *
+   * @return The sum of the comparison results
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int compareSortable(
+    final Keys s)
+  {
+    int sum = 0;
+    for (int index = 0; index < BenchmarkBuffers.COUNT; ++index) {
+      sum += Arrays.compareUnsigned(s.sortable[index], s.sortable[index + 1]);
+    }
+    return sum;
+  }
+
+  /**
+   * Compare adjacent keys by decoding their fields.
+   *
+   * @param s The state
+   *
+   * @return The sum of the comparison results
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkBuffers.COUNT)
+  public int compareDecoded(
+    final Keys s)
+  {
+    int sum = 0;
+    for (int index = 0; index < BenchmarkBuffers.COUNT; ++index) {
+      final byte[] x = s.plain[index];
+      final byte[] y = s.plain[index + 1];
+      final int c = Long.compare(
+        Signed64.unpackFromBytesLittleEndian(x, 0),
+        Signed64.unpackFromBytesLittleEndian(y, 0));
+      sum += c != 0 ? c : Integer.compare(
+        Signed32.unpackFromBytesLittleEndian(x, 8),
+        Signed32.unpackFromBytesLittleEndian(y, 8));
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,512 @@
+#!/usr/bin/env python3
+#
+# Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+#
+# Permission to use, copy, modify, and/or distribute this software for any
+# purpose with or without fee is hereby granted, provided that the above
+# copyright notice and this permission notice appear in all copies.
+#
+# THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+# WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+# MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+# SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+# WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+# ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+# IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+#
+
+#
+# Generate the width-specialized bit packing and unpacking kernels used by
+# BitPacking.
+#
+# Usage: bit_packing.py <output directory>
+#
+# BitUnpack holds the kernels that unpack 64 values, either from a buffer
+# (used by FrameOfReference) or from an array of words (used by
+# PackedIntArray). BitPack holds the kernels that pack 64 values into an
+# array of words. Widths 0 and 64 are handled directly by BitPacking, and
+# widths 8, 16, and 32 in buffers are handled by dedicated loops in
+# BitPacking, so those kernels are not generated.
+#
+# The generated classes are checked in as ordinary sources and must pass
+# checkstyle like any other: lines are at most 80 columns, and the kernels
+# are spread over several classes so that no method or file exceeds the
+# project's length limits.
+#
+# Edit this script rather than the generated classes, and regenerate with:
+#
+#   python3 src/generator/bit_packing.py src/main/java/com/io7m/jintegers
+#
+
+import os
+import sys
+
+HEADER = """/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+"""
+
+NOTICE = """/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+"""
+
+WIDTH = 80
+SPECIAL = (8, 16, 32)
+
+#
+# Each unpacking class holds two kernels per width, and so covers four
+# widths. Each packing class holds one kernel per width, and so covers
+# eight.
+#
+
+UNPACK_SPAN = 4
+PACK_SPAN = 8
+
+
+def groups(span):
+  return [(first, min(first + span - 1, 63)) for first in range(1, 64, span)]
+
+
+def buffer_widths(first, last):
+  return [b for b in range(first, last + 1) if b not in SPECIAL]
+
+
+def word_widths(first, last):
+  return list(range(first, last + 1))
+
+
+def unpack_name(first, last):
+  return "BitUnpack%dTo%d" % (first, last)
+
+
+def pack_name(first, last):
+  return "BitPack%dTo%d" % (first, last)
+
+
+def offset(name, number):
+  return name if number == 0 else "%s + %d" % (name, number)
+
+
+def value_expression(bits, index):
+  position = index * bits
+  word = position >> 6
+  shift = position & 63
+  if shift + bits <= 64:
+    if shift == 0:
+      return "w%d & mask" % word
+    if shift + bits == 64:
+      return "w%d >>> %d" % (word, shift)
+    return "(w%d >>> %d) & mask" % (word, shift)
+  return "((w%d >>> %d) | (w%d << %d)) & mask" % (
+    word, shift, word + 1, 64 - shift)
+
+
+def word_terms(bits, word):
+  terms = []
+  low = word * 64
+  high = low + 64
+  for index in range(64):
+    start = index * bits
+    if start >= high or start + bits <= low:
+      continue
+    if start >= low:
+      shift = start - low
+      terms.append("v%d" % index if shift == 0 else
+                   "(v%d << %d)" % (index, shift))
+    else:
+      terms.append("(v%d >>> %d)" % (index, low - start))
+  return terms
+
+
+def wrap_terms(prefix, terms):
+  lines = []
+  line = prefix + terms[0]
+  for term in terms[1:]:
+    if len(line) + len(" | ") + len(term) + 1 <= WIDTH:
+      line += " | " + term
+    else:
+      lines.append(line)
+      line = "      | " + term
+  lines.append(line + ";")
+  return lines
+
+
+def signature(name, parameters):
+  lines = ["  private static void %s(" % name]
+  for parameter in parameters[:-1]:
+    lines.append("    final %s," % parameter)
+  lines.append("    final %s)" % parameters[-1])
+  return lines
+
+
+def mask_line(bits):
+  return "    final long mask = 0x%xL;" % ((1 << bits) - 1)
+
+
+def unpack_buffer_kernel(bits):
+  lines = signature(
+    "unpack%d" % bits,
+    ["ByteBuffer src",
+     "int index",
+     "long base",
+     "long[] dst",
+     "int dstOffset"])
+  lines.append("  {")
+  lines.append(mask_line(bits))
+  for word in range(bits):
+    lines.append(
+      "    final long w%d = (long) WORDS.get(src, %s);"
+      % (word, offset("index", word * 8)))
+  for index in range(64):
+    lines.append(
+      "    dst[%s] = (%s) + base;"
+      % (offset("dstOffset", index), value_expression(bits, index)))
+  lines.append("  }")
+  return "\n".join(lines) + "\n"
+
+
+def unpack_words_kernel(bits):
+  lines = signature(
+    "unpack%d" % bits,
+    ["long[] src",
+     "int srcOffset",
+     "long[] dst",
+     "int dstOffset"])
+  lines.append("  {")
+  lines.append(mask_line(bits))
+  for word in range(bits):
+    lines.append(
+      "    final long w%d = src[%s];" % (word, offset("srcOffset", word)))
+  for index in range(64):
+    lines.append(
+      "    dst[%s] = %s;"
+      % (offset("dstOffset", index), value_expression(bits, index)))
+  lines.append("  }")
+  return "\n".join(lines) + "\n"
+
+
+def pack_words_kernel(bits):
+  lines = signature(
+    "pack%d" % bits,
+    ["long[] src",
+     "int srcOffset",
+     "long[] dst",
+     "int dstOffset"])
+  lines.append("  {")
+  lines.append(mask_line(bits))
+  for index in range(64):
+    lines.append(
+      "    final long v%d = src[%s] & mask;"
+      % (index, offset("srcOffset", index)))
+  for word in range(bits):
+    lines.extend(
+      wrap_terms(
+        "    dst[%s] = " % offset("dstOffset", word),
+        word_terms(bits, word)))
+  lines.append("  }")
+  return "\n".join(lines) + "\n"
+
+
+def switch(selector, cases, default):
+  out = ["    switch (%s) {\n" % selector]
+  for label, call in cases:
+    line = "      case %s -> %s;\n" % (label, call)
+    if len(line) - 1 <= WIDTH:
+      out.append(line)
+    else:
+      out.append("      case %s ->\n" % label)
+      out.append("        %s;\n" % call)
+  out.append("      default -> throw %s;\n" % default)
+  out.append("    }\n")
+  return out
+
+
+def method(name, parameters, body):
+  out = ["  static void %s(\n" % name]
+  for parameter in parameters[:-1]:
+    out.append("    final %s,\n" % parameter)
+  out.append("    final %s)\n" % parameters[-1])
+  out.append("  {\n")
+  out.extend(body)
+  out.append("  }\n")
+  return out
+
+
+BUFFER_PARAMETERS = [
+  "int bits",
+  "ByteBuffer src",
+  "int index",
+  "long base",
+  "long[] dst",
+  "int dstOffset",
+]
+
+WORDS_PARAMETERS = [
+  "int bits",
+  "long[] src",
+  "int srcOffset",
+  "long[] dst",
+  "int dstOffset",
+]
+
+BUFFER_ARGUMENTS = "src, index, base, dst, dstOffset"
+WORDS_ARGUMENTS = "src, srcOffset, dst, dstOffset"
+
+
+def private_constructor(name):
+  return "  private %s()\n  {\n\n  }\n" % name
+
+
+def unpack_class(first, last):
+  name = unpack_name(first, last)
+  out = [HEADER, NOTICE]
+  out.append("package com.io7m.jintegers;\n\n")
+  out.append("import java.lang.invoke.MethodHandles;\n")
+  out.append("import java.lang.invoke.VarHandle;\n")
+  out.append("import java.nio.ByteBuffer;\n")
+  out.append("import java.nio.ByteOrder;\n\n")
+  out.append("/**\n")
+  out.append(" * Unrolled kernels that unpack 64 values of widths %d to %d.\n"
+             % (first, last))
+  out.append(" *\n")
+  out.append(" * @see BitUnpack\n")
+  out.append(" */\n\n")
+  out.append("final class %s\n{\n" % name)
+  out.append("  private static final VarHandle WORDS =\n")
+  out.append("    MethodHandles.byteBufferViewVarHandle(\n")
+  out.append("      long[].class,\n")
+  out.append("      ByteOrder.LITTLE_ENDIAN);\n\n")
+  out.append(private_constructor(name))
+  out.append("\n")
+  out.extend(method(
+    "unpack64",
+    BUFFER_PARAMETERS,
+    switch(
+      "bits",
+      [(str(b), "unpack%d(%s)" % (b, BUFFER_ARGUMENTS))
+       for b in buffer_widths(first, last)],
+      "BitUnpack.unsupported(bits)")))
+  out.append("\n")
+  out.extend(method(
+    "unpack64",
+    WORDS_PARAMETERS,
+    switch(
+      "bits",
+      [(str(b), "unpack%d(%s)" % (b, WORDS_ARGUMENTS))
+       for b in word_widths(first, last)],
+      "BitUnpack.unsupported(bits)")))
+  for bits in word_widths(first, last):
+    if bits not in SPECIAL:
+      out.append("\n")
+      out.append(unpack_buffer_kernel(bits))
+    out.append("\n")
+    out.append(unpack_words_kernel(bits))
+  out.append("}\n")
+  return "".join(out)
+
+
+def pack_class(first, last):
+  name = pack_name(first, last)
+  out = [HEADER, NOTICE]
+  out.append("package com.io7m.jintegers;\n\n")
+  out.append("/**\n")
+  out.append(" * Unrolled kernels that pack 64 values of widths %d to %d.\n"
+             % (first, last))
+  out.append(" *\n")
+  out.append(" * @see BitPack\n")
+  out.append(" */\n\n")
+  out.append("final class %s\n{\n" % name)
+  out.append(private_constructor(name))
+  out.append("\n")
+  out.extend(method(
+    "pack64",
+    WORDS_PARAMETERS,
+    switch(
+      "bits",
+      [(str(b), "pack%d(%s)" % (b, WORDS_ARGUMENTS))
+       for b in word_widths(first, last)],
+      "BitPack.unsupported(bits)")))
+  for bits in word_widths(first, last):
+    out.append("\n")
+    out.append(pack_words_kernel(bits))
+  out.append("}\n")
+  return "".join(out)
+
+
+def unsupported(verb):
+  out = ["  static IllegalArgumentException unsupported(\n"]
+  out.append("    final int bits)\n")
+  out.append("  {\n")
+  out.append("    return new IllegalArgumentException(\n")
+  out.append("      String.format(\n")
+  out.append("        \"No %s kernel for width %%d\",\n" % verb)
+  out.append("        Integer.valueOf(bits)));\n")
+  out.append("  }\n")
+  return out
+
+
+def unpack_dispatcher():
+  span = UNPACK_SPAN.bit_length() - 1
+  out = [HEADER, NOTICE]
+  out.append("package com.io7m.jintegers;\n\n")
+  out.append("import java.nio.ByteBuffer;\n\n")
+  out.append("""/**
+ * <p>
+ * Width-specialized kernels that unpack exactly 64 values, occupying
+ * exactly {@code bits} little-endian words. Each kernel loads its words
+ * once and extracts every value with constant shifts and masks.
+ * </p>
+ * <p>
+ * Words are read either from a buffer, in which case {@code base} is added
+ * to each value, or from an array of words. Widths 8, 16, and 32 are plain
+ * little-endian arrays in buffers and have dedicated loops in
+ * {@link BitPacking}.
+ * </p>
+ */
+
+""")
+  out.append("final class BitUnpack\n{\n")
+  out.append(private_constructor("BitUnpack"))
+  out.append("""
+  /**
+   * @param bits The bit width in the range {@code [1, 63]}, excluding 8, 16,
+   *             and 32
+   *
+   * @return {@code true} if a buffer kernel exists for {@code bits}
+   */
+
+  static boolean supports(
+    final int bits)
+  {
+    return bits > 0
+      && bits < 64
+      && bits != 8
+      && bits != 16
+      && bits != 32;
+  }
+
+  /**
+   * Unpack 64 values of width {@code bits} from a buffer.
+   *
+   * @param bits      The bit width, for which {@link #supports(int)} is
+   *                  {@code true}
+   * @param src       The buffer
+   * @param index     The index of the first word
+   * @param base      The value added to each unpacked value
+   * @param dst       The output values
+   * @param dstOffset The offset of the first output value
+   */
+
+""")
+  body = ["    if (!supports(bits)) {\n",
+          "      throw unsupported(bits);\n",
+          "    }\n"]
+  body.extend(switch(
+    "(bits - 1) >>> %d" % span,
+    [(str(number),
+      "%s.unpack64(bits, %s)" % (unpack_name(first, last), BUFFER_ARGUMENTS))
+     for number, (first, last) in enumerate(groups(UNPACK_SPAN))],
+    "unsupported(bits)"))
+  out.extend(method("unpack64", BUFFER_PARAMETERS, body))
+  out.append("""
+  /**
+   * Unpack 64 values of width {@code bits} from an array of words.
+   *
+   * @param bits      The bit width in the range {@code [1, 63]}
+   * @param src       The packed words
+   * @param srcOffset The offset of the first word
+   * @param dst       The output values
+   * @param dstOffset The offset of the first output value
+   */
+
+""")
+  out.extend(method(
+    "unpack64",
+    WORDS_PARAMETERS,
+    switch(
+      "(bits - 1) >>> %d" % span,
+      [(str(number),
+        "%s.unpack64(bits, %s)" % (unpack_name(first, last), WORDS_ARGUMENTS))
+       for number, (first, last) in enumerate(groups(UNPACK_SPAN))],
+      "unsupported(bits)")))
+  out.append("\n")
+  out.extend(unsupported("unpacking"))
+  out.append("}\n")
+  return "".join(out)
+
+
+def pack_dispatcher():
+  span = PACK_SPAN.bit_length() - 1
+  out = [HEADER, NOTICE]
+  out.append("package com.io7m.jintegers;\n\n")
+  out.append("""/**
+ * Width-specialized kernels that pack exactly 64 values into exactly
+ * {@code bits} little-endian words, ignoring the bits of each value above
+ * the low {@code bits} bits. Each kernel loads every value once and stores
+ * each word once.
+ */
+
+""")
+  out.append("final class BitPack\n{\n")
+  out.append(private_constructor("BitPack"))
+  out.append("""
+  /**
+   * Pack 64 values of width {@code bits} into an array of words.
+   *
+   * @param bits      The bit width in the range {@code [1, 63]}
+   * @param src       The input values
+   * @param srcOffset The offset of the first input value
+   * @param dst       The packed words
+   * @param dstOffset The offset of the first word
+   */
+
+""")
+  out.extend(method(
+    "pack64",
+    WORDS_PARAMETERS,
+    switch(
+      "(bits - 1) >>> %d" % span,
+      [(str(number),
+        "%s.pack64(bits, %s)" % (pack_name(first, last), WORDS_ARGUMENTS))
+       for number, (first, last) in enumerate(groups(PACK_SPAN))],
+      "unsupported(bits)")))
+  out.append("\n")
+  out.extend(unsupported("packing"))
+  out.append("}\n")
+  return "".join(out)
+
+
+def write(directory, name, text):
+  path = os.path.join(directory, name + ".java")
+  with open(path, "w", encoding="utf-8") as stream:
+    stream.write(text)
+
+
+def main():
+  directory = sys.argv[1]
+  for first, last in groups(UNPACK_SPAN):
+    write(directory, unpack_name(first, last), unpack_class(first, last))
+  for first, last in groups(PACK_SPAN):
+    write(directory, pack_name(first, last), pack_class(first, last))
+  write(directory, "BitUnpack", unpack_dispatcher())
+  write(directory, "BitPack", pack_dispatcher())
+
+
+if __name__ == "__main__":
+  main()
@@ -0,0 +1,315 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The base class of off-heap arrays of fixed-width integers.
+ * </p>
+ * <p>
+ * Values are stored packed, with no padding, in direct byte buffers of at
+ * most 1 GiB each, in the byte order given at allocation time. Arrays are
+ * indexed with {@code long} values and may therefore hold more than
+ * {@code 2^31} elements. Each chunk holds a power-of-two number of values,
+ * so no value straddles two chunks.
+ * </p>
+ * <p>
+ * Arrays are not thread-safe.
+ * </p>
+ */
+
+public abstract class AbstractPackedArray
+{
+  private final BufferChunks storage;
+  private final ByteOrder order;
+
+  AbstractPackedArray(
+    final BufferChunks inStorage,
+    final ByteOrder inOrder)
+  {
+    this.storage = Objects.requireNonNull(inStorage, "Storage");
+    this.order = Objects.requireNonNull(inOrder, "Order");
+  }
+
+  final BufferChunks storage()
+  {
+    return this.storage;
+  }
+
+  /**
+   * @return The number of elements in the array
+   */
+
+  public final long size()
+  {
+    return this.storage.count();
+  }
+
+  /**
+   * @return The byte order of the stored values
+   */
+
+  public final ByteOrder order()
+  {
+    return this.order;
+  }
+
+  /**
+   * @return The width in bytes of the stored values
+   */
+
+  public final int width()
+  {
+    return this.storage.codec().width();
+  }
+
+  /**
+   * @return The codec that describes the stored values
+   */
+
+  public final IntegerCodecType codec()
+  {
+    return this.storage.codec();
+  }
+
+  final int getInt(
+    final long index)
+  {
+    final BufferChunks s = this.storage;
+    Objects.checkIndex(index, s.count());
+    return s.codec().unpackInt(s.chunk(index), s.offsetOf(index));
+  }
+
+  final void setInt(
+    final long index,
+    final int value)
+  {
+    final BufferChunks s = this.storage;
+    Objects.checkIndex(index, s.count());
+    s.codec().packInt(value, s.chunk(index), s.offsetOf(index));
+  }
+
+  final int[] getInts(
+    final long index,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    this.checkArrayAccess(index, dstOffset, count, dst.length);
+
+    final BufferChunks s = this.storage;
+    final IntegerCodecType codec = s.codec();
+    long i = index;
+    int offset = dstOffset;
+    int remaining = count;
+    while (remaining > 0) {
+      final int n = s.run(i, remaining);
+      codec.unpackArray(s.chunk(i), s.offsetOf(i), dst, offset, n);
+      i += n;
+      offset += n;
+      remaining -= n;
+    }
+    return dst;
+  }
+
+  final void setInts(
+    final long index,
+    final int[] src,
+    final int srcOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    this.checkArrayAccess(index, srcOffset, count, src.length);
+
+    final BufferChunks s = this.storage;
+    final IntegerCodecType codec = s.codec();
+    long i = index;
+    int offset = srcOffset;
+    int remaining = count;
+    while (remaining > 0) {
+      final int n = s.run(i, remaining);
+      codec.packArray(src, offset, s.chunk(i), s.offsetOf(i), n);
+      i += n;
+      offset += n;
+      remaining -= n;
+    }
+  }
+
+  final void fillInt(
+    final long from,
+    final long to,
+    final int value)
+  {
+    Objects.checkFromToIndex(from, to, this.size());
+    if (from != to) {
+      this.setInt(from, value);
+      this.replicate(from, to);
+    }
+  }
+
+  final void fillLong(
+    final long from,
+    final long to,
+    final long value)
+  {
+    Objects.checkFromToIndex(from, to, this.size());
+    if (from != to) {
+      this.storage.set(from, value);
+      this.replicate(from, to);
+    }
+  }
+
+  final void checkArrayAccess(
+    final long index,
+    final int offset,
+    final int count,
+    final int length)
+  {
+    Objects.checkFromIndexSize(index, count, this.storage.count());
+    Objects.checkFromIndexSize(offset, count, length);
+  }
+
+  /**
+   * Copy the value at {@code from} to every element of {@code [from, to)}.
+   * The copy doubles in size on each step, so filling {@code n} values
+   * takes {@code O(log n)} buffer copies per chunk.
+   */
+
+  final void replicate(
+    final long from,
+    final long to)
+  {
+    final BufferChunks s = this.storage;
+    final int width = s.codec().width();
+    final ByteBuffer first = s.chunk(from);
+    final int firstOffset = s.offsetOf(from);
+
+    long index = from;
+    while (index < to) {
+      final int n = s.run(index, to - index);
+      final ByteBuffer chunk = s.chunk(index);
+      final int base = s.offsetOf(index);
+      final int bytes = n * width;
+
+      if (index != from) {
+        chunk.put(base, first, firstOffset, width);
+      }
+      int filled = width;
+      while (filled < bytes) {
+        final int size = Math.min(filled, bytes - filled);
+        chunk.put(base + filled, chunk, base, size);
+        filled += size;
+      }
+      index += n;
+    }
+  }
+
+  /**
+   * Copy {@code count} elements from this array to {@code dst}. The arrays
+   * are assumed to be of the same type. Overlapping copies within a single
+   * array behave as if the source were first copied to a temporary array.
+   */
+
+  final void copyElements(
+    final long srcIndex,
+    final AbstractPackedArray dst,
+    final long dstIndex,
+    final long count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcIndex, count, this.size());
+    Objects.checkFromIndexSize(dstIndex, count, dst.size());
+
+    if (count == 0L || (dst == this && srcIndex == dstIndex)) {
+      return;
+    }
+    if (this.order != dst.order) {
+      this.copyConverting(srcIndex, dst, dstIndex, count);
+      return;
+    }
+    if (dst == this && dstIndex > srcIndex) {
+      this.copyBackwards(srcIndex, dst, dstIndex, count);
+      return;
+    }
+
+    final BufferChunks s = this.storage;
+    final BufferChunks d = dst.storage;
+    final int width = s.codec().width();
+
+    long si = srcIndex;
+    long di = dstIndex;
+    long remaining = count;
+    while (remaining > 0L) {
+      final int n = Math.min(s.run(si, remaining), d.run(di, remaining));
+      d.chunk(di).put(d.offsetOf(di), s.chunk(si), s.offsetOf(si), n * width);
+      si += n;
+      di += n;
+      remaining -= n;
+    }
+  }
+
+  private void copyBackwards(
+    final long srcIndex,
+    final AbstractPackedArray dst,
+    final long dstIndex,
+    final long count)
+  {
+    final BufferChunks s = this.storage;
+    final BufferChunks d = dst.storage;
+    final int width = s.codec().width();
+
+    long se = srcIndex + count;
+    long de = dstIndex + count;
+    long remaining = count;
+    while (remaining > 0L) {
+      final int n =
+        Math.min(s.runBackwards(se, remaining), d.runBackwards(de, remaining));
+      se -= n;
+      de -= n;
+      d.chunk(de).put(d.offsetOf(de), s.chunk(se), s.offsetOf(se), n * width);
+      remaining -= n;
+    }
+  }
+
+  private void copyConverting(
+    final long srcIndex,
+    final AbstractPackedArray dst,
+    final long dstIndex,
+    final long count)
+  {
+    final BufferChunks s = this.storage;
+    final BufferChunks d = dst.storage;
+    for (long index = 0L; index < count; ++index) {
+      d.set(dstIndex + index, s.get(srcIndex + index));
+    }
+  }
+
+  @Override
+  public final String toString()
+  {
+    return String.format(
+      "[%s %d %s]",
+      this.getClass().getSimpleName(),
+      Long.valueOf(this.size()),
+      this.order);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Width-specialized kernels that pack exactly 64 values into exactly
+ * {@code bits} little-endian words, ignoring the bits of each value above
+ * the low {@code bits} bits. Each kernel loads every value once and stores
+ * each word once.
+ */
+
+final class BitPack
+{
+  private BitPack()
+  {
+
+  }
+
+  /**
+   * Pack 64 values of width {@code bits} into an array of words.
+   *
+   * @param bits      The bit width in the range {@code [1, 63]}
+   * @param src       The input values
+   * @param srcOffset The offset of the first input value
+   * @param dst       The packed words
+   * @param dstOffset The offset of the first word
+   */
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch ((bits - 1) >>> 3) {
+      case 0 -> BitPack1To8.pack64(bits, src, srcOffset, dst, dstOffset);
+      case 1 -> BitPack9To16.pack64(bits, src, srcOffset, dst, dstOffset);
+      case 2 -> BitPack17To24.pack64(bits, src, srcOffset, dst, dstOffset);
+      case 3 -> BitPack25To32.pack64(bits, src, srcOffset, dst, dstOffset);
+      case 4 -> BitPack33To40.pack64(bits, src, srcOffset, dst, dstOffset);
+      case 5 -> BitPack41To48.pack64(bits, src, srcOffset, dst, dstOffset);
+      case 6 -> BitPack49To56.pack64(bits, src, srcOffset, dst, dstOffset);
+      case 7 -> BitPack57To63.pack64(bits, src, srcOffset, dst, dstOffset);
+      default -> throw unsupported(bits);
+    }
+  }
+
+  static IllegalArgumentException unsupported(
+    final int bits)
+  {
+    return new IllegalArgumentException(
+      String.format(
+        "No packing kernel for width %d",
+        Integer.valueOf(bits)));
+  }
+}
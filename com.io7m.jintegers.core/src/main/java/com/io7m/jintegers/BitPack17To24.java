@@ -0,0 +1,836 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Unrolled kernels that pack 64 values of widths 17 to 24.
+ *
+ * @see BitPack
+ */
+
+final class BitPack17To24
+{
+  private BitPack17To24()
+  {
+
+  }
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 17 -> pack17(src, srcOffset, dst, dstOffset);
+      case 18 -> pack18(src, srcOffset, dst, dstOffset);
+      case 19 -> pack19(src, srcOffset, dst, dstOffset);
+      case 20 -> pack20(src, srcOffset, dst, dstOffset);
+      case 21 -> pack21(src, srcOffset, dst, dstOffset);
+      case 22 -> pack22(src, srcOffset, dst, dstOffset);
+      case 23 -> pack23(src, srcOffset, dst, dstOffset);
+      case 24 -> pack24(src, srcOffset, dst, dstOffset);
+      default -> throw BitPack.unsupported(bits);
+    }
+  }
+
+  private static void pack17(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 17) | (v2 << 34) | (v3 << 51);
+    dst[dstOffset + 1] = (v3 >>> 13) | (v4 << 4) | (v5 << 21) | (v6 << 38)
+      | (v7 << 55);
+    dst[dstOffset + 2] = (v7 >>> 9) | (v8 << 8) | (v9 << 25) | (v10 << 42)
+      | (v11 << 59);
+    dst[dstOffset + 3] = (v11 >>> 5) | (v12 << 12) | (v13 << 29) | (v14 << 46)
+      | (v15 << 63);
+    dst[dstOffset + 4] = (v15 >>> 1) | (v16 << 16) | (v17 << 33) | (v18 << 50);
+    dst[dstOffset + 5] = (v18 >>> 14) | (v19 << 3) | (v20 << 20) | (v21 << 37)
+      | (v22 << 54);
+    dst[dstOffset + 6] = (v22 >>> 10) | (v23 << 7) | (v24 << 24) | (v25 << 41)
+      | (v26 << 58);
+    dst[dstOffset + 7] = (v26 >>> 6) | (v27 << 11) | (v28 << 28) | (v29 << 45)
+      | (v30 << 62);
+    dst[dstOffset + 8] = (v30 >>> 2) | (v31 << 15) | (v32 << 32) | (v33 << 49);
+    dst[dstOffset + 9] = (v33 >>> 15) | (v34 << 2) | (v35 << 19) | (v36 << 36)
+      | (v37 << 53);
+    dst[dstOffset + 10] = (v37 >>> 11) | (v38 << 6) | (v39 << 23) | (v40 << 40)
+      | (v41 << 57);
+    dst[dstOffset + 11] = (v41 >>> 7) | (v42 << 10) | (v43 << 27) | (v44 << 44)
+      | (v45 << 61);
+    dst[dstOffset + 12] = (v45 >>> 3) | (v46 << 14) | (v47 << 31) | (v48 << 48);
+    dst[dstOffset + 13] = (v48 >>> 16) | (v49 << 1) | (v50 << 18) | (v51 << 35)
+      | (v52 << 52);
+    dst[dstOffset + 14] = (v52 >>> 12) | (v53 << 5) | (v54 << 22) | (v55 << 39)
+      | (v56 << 56);
+    dst[dstOffset + 15] = (v56 >>> 8) | (v57 << 9) | (v58 << 26) | (v59 << 43)
+      | (v60 << 60);
+    dst[dstOffset + 16] = (v60 >>> 4) | (v61 << 13) | (v62 << 30) | (v63 << 47);
+  }
+
+  private static void pack18(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 18) | (v2 << 36) | (v3 << 54);
+    dst[dstOffset + 1] = (v3 >>> 10) | (v4 << 8) | (v5 << 26) | (v6 << 44)
+      | (v7 << 62);
+    dst[dstOffset + 2] = (v7 >>> 2) | (v8 << 16) | (v9 << 34) | (v10 << 52);
+    dst[dstOffset + 3] = (v10 >>> 12) | (v11 << 6) | (v12 << 24) | (v13 << 42)
+      | (v14 << 60);
+    dst[dstOffset + 4] = (v14 >>> 4) | (v15 << 14) | (v16 << 32) | (v17 << 50);
+    dst[dstOffset + 5] = (v17 >>> 14) | (v18 << 4) | (v19 << 22) | (v20 << 40)
+      | (v21 << 58);
+    dst[dstOffset + 6] = (v21 >>> 6) | (v22 << 12) | (v23 << 30) | (v24 << 48);
+    dst[dstOffset + 7] = (v24 >>> 16) | (v25 << 2) | (v26 << 20) | (v27 << 38)
+      | (v28 << 56);
+    dst[dstOffset + 8] = (v28 >>> 8) | (v29 << 10) | (v30 << 28) | (v31 << 46);
+    dst[dstOffset + 9] = v32 | (v33 << 18) | (v34 << 36) | (v35 << 54);
+    dst[dstOffset + 10] = (v35 >>> 10) | (v36 << 8) | (v37 << 26) | (v38 << 44)
+      | (v39 << 62);
+    dst[dstOffset + 11] = (v39 >>> 2) | (v40 << 16) | (v41 << 34) | (v42 << 52);
+    dst[dstOffset + 12] = (v42 >>> 12) | (v43 << 6) | (v44 << 24) | (v45 << 42)
+      | (v46 << 60);
+    dst[dstOffset + 13] = (v46 >>> 4) | (v47 << 14) | (v48 << 32) | (v49 << 50);
+    dst[dstOffset + 14] = (v49 >>> 14) | (v50 << 4) | (v51 << 22) | (v52 << 40)
+      | (v53 << 58);
+    dst[dstOffset + 15] = (v53 >>> 6) | (v54 << 12) | (v55 << 30) | (v56 << 48);
+    dst[dstOffset + 16] = (v56 >>> 16) | (v57 << 2) | (v58 << 20) | (v59 << 38)
+      | (v60 << 56);
+    dst[dstOffset + 17] = (v60 >>> 8) | (v61 << 10) | (v62 << 28) | (v63 << 46);
+  }
+
+  private static void pack19(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 19) | (v2 << 38) | (v3 << 57);
+    dst[dstOffset + 1] = (v3 >>> 7) | (v4 << 12) | (v5 << 31) | (v6 << 50);
+    dst[dstOffset + 2] = (v6 >>> 14) | (v7 << 5) | (v8 << 24) | (v9 << 43)
+      | (v10 << 62);
+    dst[dstOffset + 3] = (v10 >>> 2) | (v11 << 17) | (v12 << 36) | (v13 << 55);
+    dst[dstOffset + 4] = (v13 >>> 9) | (v14 << 10) | (v15 << 29) | (v16 << 48);
+    dst[dstOffset + 5] = (v16 >>> 16) | (v17 << 3) | (v18 << 22) | (v19 << 41)
+      | (v20 << 60);
+    dst[dstOffset + 6] = (v20 >>> 4) | (v21 << 15) | (v22 << 34) | (v23 << 53);
+    dst[dstOffset + 7] = (v23 >>> 11) | (v24 << 8) | (v25 << 27) | (v26 << 46);
+    dst[dstOffset + 8] = (v26 >>> 18) | (v27 << 1) | (v28 << 20) | (v29 << 39)
+      | (v30 << 58);
+    dst[dstOffset + 9] = (v30 >>> 6) | (v31 << 13) | (v32 << 32) | (v33 << 51);
+    dst[dstOffset + 10] = (v33 >>> 13) | (v34 << 6) | (v35 << 25) | (v36 << 44)
+      | (v37 << 63);
+    dst[dstOffset + 11] = (v37 >>> 1) | (v38 << 18) | (v39 << 37) | (v40 << 56);
+    dst[dstOffset + 12] = (v40 >>> 8) | (v41 << 11) | (v42 << 30) | (v43 << 49);
+    dst[dstOffset + 13] = (v43 >>> 15) | (v44 << 4) | (v45 << 23) | (v46 << 42)
+      | (v47 << 61);
+    dst[dstOffset + 14] = (v47 >>> 3) | (v48 << 16) | (v49 << 35) | (v50 << 54);
+    dst[dstOffset + 15] = (v50 >>> 10) | (v51 << 9) | (v52 << 28) | (v53 << 47);
+    dst[dstOffset + 16] = (v53 >>> 17) | (v54 << 2) | (v55 << 21) | (v56 << 40)
+      | (v57 << 59);
+    dst[dstOffset + 17] = (v57 >>> 5) | (v58 << 14) | (v59 << 33) | (v60 << 52);
+    dst[dstOffset + 18] = (v60 >>> 12) | (v61 << 7) | (v62 << 26) | (v63 << 45);
+  }
+
+  private static void pack20(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 20) | (v2 << 40) | (v3 << 60);
+    dst[dstOffset + 1] = (v3 >>> 4) | (v4 << 16) | (v5 << 36) | (v6 << 56);
+    dst[dstOffset + 2] = (v6 >>> 8) | (v7 << 12) | (v8 << 32) | (v9 << 52);
+    dst[dstOffset + 3] = (v9 >>> 12) | (v10 << 8) | (v11 << 28) | (v12 << 48);
+    dst[dstOffset + 4] = (v12 >>> 16) | (v13 << 4) | (v14 << 24) | (v15 << 44);
+    dst[dstOffset + 5] = v16 | (v17 << 20) | (v18 << 40) | (v19 << 60);
+    dst[dstOffset + 6] = (v19 >>> 4) | (v20 << 16) | (v21 << 36) | (v22 << 56);
+    dst[dstOffset + 7] = (v22 >>> 8) | (v23 << 12) | (v24 << 32) | (v25 << 52);
+    dst[dstOffset + 8] = (v25 >>> 12) | (v26 << 8) | (v27 << 28) | (v28 << 48);
+    dst[dstOffset + 9] = (v28 >>> 16) | (v29 << 4) | (v30 << 24) | (v31 << 44);
+    dst[dstOffset + 10] = v32 | (v33 << 20) | (v34 << 40) | (v35 << 60);
+    dst[dstOffset + 11] = (v35 >>> 4) | (v36 << 16) | (v37 << 36) | (v38 << 56);
+    dst[dstOffset + 12] = (v38 >>> 8) | (v39 << 12) | (v40 << 32) | (v41 << 52);
+    dst[dstOffset + 13] = (v41 >>> 12) | (v42 << 8) | (v43 << 28) | (v44 << 48);
+    dst[dstOffset + 14] = (v44 >>> 16) | (v45 << 4) | (v46 << 24) | (v47 << 44);
+    dst[dstOffset + 15] = v48 | (v49 << 20) | (v50 << 40) | (v51 << 60);
+    dst[dstOffset + 16] = (v51 >>> 4) | (v52 << 16) | (v53 << 36) | (v54 << 56);
+    dst[dstOffset + 17] = (v54 >>> 8) | (v55 << 12) | (v56 << 32) | (v57 << 52);
+    dst[dstOffset + 18] = (v57 >>> 12) | (v58 << 8) | (v59 << 28) | (v60 << 48);
+    dst[dstOffset + 19] = (v60 >>> 16) | (v61 << 4) | (v62 << 24) | (v63 << 44);
+  }
+
+  private static void pack21(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 21) | (v2 << 42) | (v3 << 63);
+    dst[dstOffset + 1] = (v3 >>> 1) | (v4 << 20) | (v5 << 41) | (v6 << 62);
+    dst[dstOffset + 2] = (v6 >>> 2) | (v7 << 19) | (v8 << 40) | (v9 << 61);
+    dst[dstOffset + 3] = (v9 >>> 3) | (v10 << 18) | (v11 << 39) | (v12 << 60);
+    dst[dstOffset + 4] = (v12 >>> 4) | (v13 << 17) | (v14 << 38) | (v15 << 59);
+    dst[dstOffset + 5] = (v15 >>> 5) | (v16 << 16) | (v17 << 37) | (v18 << 58);
+    dst[dstOffset + 6] = (v18 >>> 6) | (v19 << 15) | (v20 << 36) | (v21 << 57);
+    dst[dstOffset + 7] = (v21 >>> 7) | (v22 << 14) | (v23 << 35) | (v24 << 56);
+    dst[dstOffset + 8] = (v24 >>> 8) | (v25 << 13) | (v26 << 34) | (v27 << 55);
+    dst[dstOffset + 9] = (v27 >>> 9) | (v28 << 12) | (v29 << 33) | (v30 << 54);
+    dst[dstOffset + 10] = (v30 >>> 10) | (v31 << 11) | (v32 << 32)
+      | (v33 << 53);
+    dst[dstOffset + 11] = (v33 >>> 11) | (v34 << 10) | (v35 << 31)
+      | (v36 << 52);
+    dst[dstOffset + 12] = (v36 >>> 12) | (v37 << 9) | (v38 << 30) | (v39 << 51);
+    dst[dstOffset + 13] = (v39 >>> 13) | (v40 << 8) | (v41 << 29) | (v42 << 50);
+    dst[dstOffset + 14] = (v42 >>> 14) | (v43 << 7) | (v44 << 28) | (v45 << 49);
+    dst[dstOffset + 15] = (v45 >>> 15) | (v46 << 6) | (v47 << 27) | (v48 << 48);
+    dst[dstOffset + 16] = (v48 >>> 16) | (v49 << 5) | (v50 << 26) | (v51 << 47);
+    dst[dstOffset + 17] = (v51 >>> 17) | (v52 << 4) | (v53 << 25) | (v54 << 46);
+    dst[dstOffset + 18] = (v54 >>> 18) | (v55 << 3) | (v56 << 24) | (v57 << 45);
+    dst[dstOffset + 19] = (v57 >>> 19) | (v58 << 2) | (v59 << 23) | (v60 << 44);
+    dst[dstOffset + 20] = (v60 >>> 20) | (v61 << 1) | (v62 << 22) | (v63 << 43);
+  }
+
+  private static void pack22(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 22) | (v2 << 44);
+    dst[dstOffset + 1] = (v2 >>> 20) | (v3 << 2) | (v4 << 24) | (v5 << 46);
+    dst[dstOffset + 2] = (v5 >>> 18) | (v6 << 4) | (v7 << 26) | (v8 << 48);
+    dst[dstOffset + 3] = (v8 >>> 16) | (v9 << 6) | (v10 << 28) | (v11 << 50);
+    dst[dstOffset + 4] = (v11 >>> 14) | (v12 << 8) | (v13 << 30) | (v14 << 52);
+    dst[dstOffset + 5] = (v14 >>> 12) | (v15 << 10) | (v16 << 32) | (v17 << 54);
+    dst[dstOffset + 6] = (v17 >>> 10) | (v18 << 12) | (v19 << 34) | (v20 << 56);
+    dst[dstOffset + 7] = (v20 >>> 8) | (v21 << 14) | (v22 << 36) | (v23 << 58);
+    dst[dstOffset + 8] = (v23 >>> 6) | (v24 << 16) | (v25 << 38) | (v26 << 60);
+    dst[dstOffset + 9] = (v26 >>> 4) | (v27 << 18) | (v28 << 40) | (v29 << 62);
+    dst[dstOffset + 10] = (v29 >>> 2) | (v30 << 20) | (v31 << 42);
+    dst[dstOffset + 11] = v32 | (v33 << 22) | (v34 << 44);
+    dst[dstOffset + 12] = (v34 >>> 20) | (v35 << 2) | (v36 << 24) | (v37 << 46);
+    dst[dstOffset + 13] = (v37 >>> 18) | (v38 << 4) | (v39 << 26) | (v40 << 48);
+    dst[dstOffset + 14] = (v40 >>> 16) | (v41 << 6) | (v42 << 28) | (v43 << 50);
+    dst[dstOffset + 15] = (v43 >>> 14) | (v44 << 8) | (v45 << 30) | (v46 << 52);
+    dst[dstOffset + 16] = (v46 >>> 12) | (v47 << 10) | (v48 << 32)
+      | (v49 << 54);
+    dst[dstOffset + 17] = (v49 >>> 10) | (v50 << 12) | (v51 << 34)
+      | (v52 << 56);
+    dst[dstOffset + 18] = (v52 >>> 8) | (v53 << 14) | (v54 << 36) | (v55 << 58);
+    dst[dstOffset + 19] = (v55 >>> 6) | (v56 << 16) | (v57 << 38) | (v58 << 60);
+    dst[dstOffset + 20] = (v58 >>> 4) | (v59 << 18) | (v60 << 40) | (v61 << 62);
+    dst[dstOffset + 21] = (v61 >>> 2) | (v62 << 20) | (v63 << 42);
+  }
+
+  private static void pack23(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 23) | (v2 << 46);
+    dst[dstOffset + 1] = (v2 >>> 18) | (v3 << 5) | (v4 << 28) | (v5 << 51);
+    dst[dstOffset + 2] = (v5 >>> 13) | (v6 << 10) | (v7 << 33) | (v8 << 56);
+    dst[dstOffset + 3] = (v8 >>> 8) | (v9 << 15) | (v10 << 38) | (v11 << 61);
+    dst[dstOffset + 4] = (v11 >>> 3) | (v12 << 20) | (v13 << 43);
+    dst[dstOffset + 5] = (v13 >>> 21) | (v14 << 2) | (v15 << 25) | (v16 << 48);
+    dst[dstOffset + 6] = (v16 >>> 16) | (v17 << 7) | (v18 << 30) | (v19 << 53);
+    dst[dstOffset + 7] = (v19 >>> 11) | (v20 << 12) | (v21 << 35) | (v22 << 58);
+    dst[dstOffset + 8] = (v22 >>> 6) | (v23 << 17) | (v24 << 40) | (v25 << 63);
+    dst[dstOffset + 9] = (v25 >>> 1) | (v26 << 22) | (v27 << 45);
+    dst[dstOffset + 10] = (v27 >>> 19) | (v28 << 4) | (v29 << 27) | (v30 << 50);
+    dst[dstOffset + 11] = (v30 >>> 14) | (v31 << 9) | (v32 << 32) | (v33 << 55);
+    dst[dstOffset + 12] = (v33 >>> 9) | (v34 << 14) | (v35 << 37) | (v36 << 60);
+    dst[dstOffset + 13] = (v36 >>> 4) | (v37 << 19) | (v38 << 42);
+    dst[dstOffset + 14] = (v38 >>> 22) | (v39 << 1) | (v40 << 24) | (v41 << 47);
+    dst[dstOffset + 15] = (v41 >>> 17) | (v42 << 6) | (v43 << 29) | (v44 << 52);
+    dst[dstOffset + 16] = (v44 >>> 12) | (v45 << 11) | (v46 << 34)
+      | (v47 << 57);
+    dst[dstOffset + 17] = (v47 >>> 7) | (v48 << 16) | (v49 << 39) | (v50 << 62);
+    dst[dstOffset + 18] = (v50 >>> 2) | (v51 << 21) | (v52 << 44);
+    dst[dstOffset + 19] = (v52 >>> 20) | (v53 << 3) | (v54 << 26) | (v55 << 49);
+    dst[dstOffset + 20] = (v55 >>> 15) | (v56 << 8) | (v57 << 31) | (v58 << 54);
+    dst[dstOffset + 21] = (v58 >>> 10) | (v59 << 13) | (v60 << 36)
+      | (v61 << 59);
+    dst[dstOffset + 22] = (v61 >>> 5) | (v62 << 18) | (v63 << 41);
+  }
+
+  private static void pack24(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 24) | (v2 << 48);
+    dst[dstOffset + 1] = (v2 >>> 16) | (v3 << 8) | (v4 << 32) | (v5 << 56);
+    dst[dstOffset + 2] = (v5 >>> 8) | (v6 << 16) | (v7 << 40);
+    dst[dstOffset + 3] = v8 | (v9 << 24) | (v10 << 48);
+    dst[dstOffset + 4] = (v10 >>> 16) | (v11 << 8) | (v12 << 32) | (v13 << 56);
+    dst[dstOffset + 5] = (v13 >>> 8) | (v14 << 16) | (v15 << 40);
+    dst[dstOffset + 6] = v16 | (v17 << 24) | (v18 << 48);
+    dst[dstOffset + 7] = (v18 >>> 16) | (v19 << 8) | (v20 << 32) | (v21 << 56);
+    dst[dstOffset + 8] = (v21 >>> 8) | (v22 << 16) | (v23 << 40);
+    dst[dstOffset + 9] = v24 | (v25 << 24) | (v26 << 48);
+    dst[dstOffset + 10] = (v26 >>> 16) | (v27 << 8) | (v28 << 32) | (v29 << 56);
+    dst[dstOffset + 11] = (v29 >>> 8) | (v30 << 16) | (v31 << 40);
+    dst[dstOffset + 12] = v32 | (v33 << 24) | (v34 << 48);
+    dst[dstOffset + 13] = (v34 >>> 16) | (v35 << 8) | (v36 << 32) | (v37 << 56);
+    dst[dstOffset + 14] = (v37 >>> 8) | (v38 << 16) | (v39 << 40);
+    dst[dstOffset + 15] = v40 | (v41 << 24) | (v42 << 48);
+    dst[dstOffset + 16] = (v42 >>> 16) | (v43 << 8) | (v44 << 32) | (v45 << 56);
+    dst[dstOffset + 17] = (v45 >>> 8) | (v46 << 16) | (v47 << 40);
+    dst[dstOffset + 18] = v48 | (v49 << 24) | (v50 << 48);
+    dst[dstOffset + 19] = (v50 >>> 16) | (v51 << 8) | (v52 << 32) | (v53 << 56);
+    dst[dstOffset + 20] = (v53 >>> 8) | (v54 << 16) | (v55 << 40);
+    dst[dstOffset + 21] = v56 | (v57 << 24) | (v58 << 48);
+    dst[dstOffset + 22] = (v58 >>> 16) | (v59 << 8) | (v60 << 32) | (v61 << 56);
+    dst[dstOffset + 23] = (v61 >>> 8) | (v62 << 16) | (v63 << 40);
+  }
+}
@@ -0,0 +1,767 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Unrolled kernels that pack 64 values of widths 1 to 8.
+ *
+ * @see BitPack
+ */
+
+final class BitPack1To8
+{
+  private BitPack1To8()
+  {
+
+  }
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 1 -> pack1(src, srcOffset, dst, dstOffset);
+      case 2 -> pack2(src, srcOffset, dst, dstOffset);
+      case 3 -> pack3(src, srcOffset, dst, dstOffset);
+      case 4 -> pack4(src, srcOffset, dst, dstOffset);
+      case 5 -> pack5(src, srcOffset, dst, dstOffset);
+      case 6 -> pack6(src, srcOffset, dst, dstOffset);
+      case 7 -> pack7(src, srcOffset, dst, dstOffset);
+      case 8 -> pack8(src, srcOffset, dst, dstOffset);
+      default -> throw BitPack.unsupported(bits);
+    }
+  }
+
+  private static void pack1(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1L;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 1) | (v2 << 2) | (v3 << 3) | (v4 << 4)
+      | (v5 << 5) | (v6 << 6) | (v7 << 7) | (v8 << 8) | (v9 << 9) | (v10 << 10)
+      | (v11 << 11) | (v12 << 12) | (v13 << 13) | (v14 << 14) | (v15 << 15)
+      | (v16 << 16) | (v17 << 17) | (v18 << 18) | (v19 << 19) | (v20 << 20)
+      | (v21 << 21) | (v22 << 22) | (v23 << 23) | (v24 << 24) | (v25 << 25)
+      | (v26 << 26) | (v27 << 27) | (v28 << 28) | (v29 << 29) | (v30 << 30)
+      | (v31 << 31) | (v32 << 32) | (v33 << 33) | (v34 << 34) | (v35 << 35)
+      | (v36 << 36) | (v37 << 37) | (v38 << 38) | (v39 << 39) | (v40 << 40)
+      | (v41 << 41) | (v42 << 42) | (v43 << 43) | (v44 << 44) | (v45 << 45)
+      | (v46 << 46) | (v47 << 47) | (v48 << 48) | (v49 << 49) | (v50 << 50)
+      | (v51 << 51) | (v52 << 52) | (v53 << 53) | (v54 << 54) | (v55 << 55)
+      | (v56 << 56) | (v57 << 57) | (v58 << 58) | (v59 << 59) | (v60 << 60)
+      | (v61 << 61) | (v62 << 62) | (v63 << 63);
+  }
+
+  private static void pack2(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3L;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 2) | (v2 << 4) | (v3 << 6) | (v4 << 8)
+      | (v5 << 10) | (v6 << 12) | (v7 << 14) | (v8 << 16) | (v9 << 18)
+      | (v10 << 20) | (v11 << 22) | (v12 << 24) | (v13 << 26) | (v14 << 28)
+      | (v15 << 30) | (v16 << 32) | (v17 << 34) | (v18 << 36) | (v19 << 38)
+      | (v20 << 40) | (v21 << 42) | (v22 << 44) | (v23 << 46) | (v24 << 48)
+      | (v25 << 50) | (v26 << 52) | (v27 << 54) | (v28 << 56) | (v29 << 58)
+      | (v30 << 60) | (v31 << 62);
+    dst[dstOffset + 1] = v32 | (v33 << 2) | (v34 << 4) | (v35 << 6)
+      | (v36 << 8) | (v37 << 10) | (v38 << 12) | (v39 << 14) | (v40 << 16)
+      | (v41 << 18) | (v42 << 20) | (v43 << 22) | (v44 << 24) | (v45 << 26)
+      | (v46 << 28) | (v47 << 30) | (v48 << 32) | (v49 << 34) | (v50 << 36)
+      | (v51 << 38) | (v52 << 40) | (v53 << 42) | (v54 << 44) | (v55 << 46)
+      | (v56 << 48) | (v57 << 50) | (v58 << 52) | (v59 << 54) | (v60 << 56)
+      | (v61 << 58) | (v62 << 60) | (v63 << 62);
+  }
+
+  private static void pack3(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7L;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 3) | (v2 << 6) | (v3 << 9) | (v4 << 12)
+      | (v5 << 15) | (v6 << 18) | (v7 << 21) | (v8 << 24) | (v9 << 27)
+      | (v10 << 30) | (v11 << 33) | (v12 << 36) | (v13 << 39) | (v14 << 42)
+      | (v15 << 45) | (v16 << 48) | (v17 << 51) | (v18 << 54) | (v19 << 57)
+      | (v20 << 60) | (v21 << 63);
+    dst[dstOffset + 1] = (v21 >>> 1) | (v22 << 2) | (v23 << 5) | (v24 << 8)
+      | (v25 << 11) | (v26 << 14) | (v27 << 17) | (v28 << 20) | (v29 << 23)
+      | (v30 << 26) | (v31 << 29) | (v32 << 32) | (v33 << 35) | (v34 << 38)
+      | (v35 << 41) | (v36 << 44) | (v37 << 47) | (v38 << 50) | (v39 << 53)
+      | (v40 << 56) | (v41 << 59) | (v42 << 62);
+    dst[dstOffset + 2] = (v42 >>> 2) | (v43 << 1) | (v44 << 4) | (v45 << 7)
+      | (v46 << 10) | (v47 << 13) | (v48 << 16) | (v49 << 19) | (v50 << 22)
+      | (v51 << 25) | (v52 << 28) | (v53 << 31) | (v54 << 34) | (v55 << 37)
+      | (v56 << 40) | (v57 << 43) | (v58 << 46) | (v59 << 49) | (v60 << 52)
+      | (v61 << 55) | (v62 << 58) | (v63 << 61);
+  }
+
+  private static void pack4(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 4) | (v2 << 8) | (v3 << 12) | (v4 << 16)
+      | (v5 << 20) | (v6 << 24) | (v7 << 28) | (v8 << 32) | (v9 << 36)
+      | (v10 << 40) | (v11 << 44) | (v12 << 48) | (v13 << 52) | (v14 << 56)
+      | (v15 << 60);
+    dst[dstOffset + 1] = v16 | (v17 << 4) | (v18 << 8) | (v19 << 12)
+      | (v20 << 16) | (v21 << 20) | (v22 << 24) | (v23 << 28) | (v24 << 32)
+      | (v25 << 36) | (v26 << 40) | (v27 << 44) | (v28 << 48) | (v29 << 52)
+      | (v30 << 56) | (v31 << 60);
+    dst[dstOffset + 2] = v32 | (v33 << 4) | (v34 << 8) | (v35 << 12)
+      | (v36 << 16) | (v37 << 20) | (v38 << 24) | (v39 << 28) | (v40 << 32)
+      | (v41 << 36) | (v42 << 40) | (v43 << 44) | (v44 << 48) | (v45 << 52)
+      | (v46 << 56) | (v47 << 60);
+    dst[dstOffset + 3] = v48 | (v49 << 4) | (v50 << 8) | (v51 << 12)
+      | (v52 << 16) | (v53 << 20) | (v54 << 24) | (v55 << 28) | (v56 << 32)
+      | (v57 << 36) | (v58 << 40) | (v59 << 44) | (v60 << 48) | (v61 << 52)
+      | (v62 << 56) | (v63 << 60);
+  }
+
+  private static void pack5(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 5) | (v2 << 10) | (v3 << 15) | (v4 << 20)
+      | (v5 << 25) | (v6 << 30) | (v7 << 35) | (v8 << 40) | (v9 << 45)
+      | (v10 << 50) | (v11 << 55) | (v12 << 60);
+    dst[dstOffset + 1] = (v12 >>> 4) | (v13 << 1) | (v14 << 6) | (v15 << 11)
+      | (v16 << 16) | (v17 << 21) | (v18 << 26) | (v19 << 31) | (v20 << 36)
+      | (v21 << 41) | (v22 << 46) | (v23 << 51) | (v24 << 56) | (v25 << 61);
+    dst[dstOffset + 2] = (v25 >>> 3) | (v26 << 2) | (v27 << 7) | (v28 << 12)
+      | (v29 << 17) | (v30 << 22) | (v31 << 27) | (v32 << 32) | (v33 << 37)
+      | (v34 << 42) | (v35 << 47) | (v36 << 52) | (v37 << 57) | (v38 << 62);
+    dst[dstOffset + 3] = (v38 >>> 2) | (v39 << 3) | (v40 << 8) | (v41 << 13)
+      | (v42 << 18) | (v43 << 23) | (v44 << 28) | (v45 << 33) | (v46 << 38)
+      | (v47 << 43) | (v48 << 48) | (v49 << 53) | (v50 << 58) | (v51 << 63);
+    dst[dstOffset + 4] = (v51 >>> 1) | (v52 << 4) | (v53 << 9) | (v54 << 14)
+      | (v55 << 19) | (v56 << 24) | (v57 << 29) | (v58 << 34) | (v59 << 39)
+      | (v60 << 44) | (v61 << 49) | (v62 << 54) | (v63 << 59);
+  }
+
+  private static void pack6(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 6) | (v2 << 12) | (v3 << 18) | (v4 << 24)
+      | (v5 << 30) | (v6 << 36) | (v7 << 42) | (v8 << 48) | (v9 << 54)
+      | (v10 << 60);
+    dst[dstOffset + 1] = (v10 >>> 4) | (v11 << 2) | (v12 << 8) | (v13 << 14)
+      | (v14 << 20) | (v15 << 26) | (v16 << 32) | (v17 << 38) | (v18 << 44)
+      | (v19 << 50) | (v20 << 56) | (v21 << 62);
+    dst[dstOffset + 2] = (v21 >>> 2) | (v22 << 4) | (v23 << 10) | (v24 << 16)
+      | (v25 << 22) | (v26 << 28) | (v27 << 34) | (v28 << 40) | (v29 << 46)
+      | (v30 << 52) | (v31 << 58);
+    dst[dstOffset + 3] = v32 | (v33 << 6) | (v34 << 12) | (v35 << 18)
+      | (v36 << 24) | (v37 << 30) | (v38 << 36) | (v39 << 42) | (v40 << 48)
+      | (v41 << 54) | (v42 << 60);
+    dst[dstOffset + 4] = (v42 >>> 4) | (v43 << 2) | (v44 << 8) | (v45 << 14)
+      | (v46 << 20) | (v47 << 26) | (v48 << 32) | (v49 << 38) | (v50 << 44)
+      | (v51 << 50) | (v52 << 56) | (v53 << 62);
+    dst[dstOffset + 5] = (v53 >>> 2) | (v54 << 4) | (v55 << 10) | (v56 << 16)
+      | (v57 << 22) | (v58 << 28) | (v59 << 34) | (v60 << 40) | (v61 << 46)
+      | (v62 << 52) | (v63 << 58);
+  }
+
+  private static void pack7(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 7) | (v2 << 14) | (v3 << 21) | (v4 << 28)
+      | (v5 << 35) | (v6 << 42) | (v7 << 49) | (v8 << 56) | (v9 << 63);
+    dst[dstOffset + 1] = (v9 >>> 1) | (v10 << 6) | (v11 << 13) | (v12 << 20)
+      | (v13 << 27) | (v14 << 34) | (v15 << 41) | (v16 << 48) | (v17 << 55)
+      | (v18 << 62);
+    dst[dstOffset + 2] = (v18 >>> 2) | (v19 << 5) | (v20 << 12) | (v21 << 19)
+      | (v22 << 26) | (v23 << 33) | (v24 << 40) | (v25 << 47) | (v26 << 54)
+      | (v27 << 61);
+    dst[dstOffset + 3] = (v27 >>> 3) | (v28 << 4) | (v29 << 11) | (v30 << 18)
+      | (v31 << 25) | (v32 << 32) | (v33 << 39) | (v34 << 46) | (v35 << 53)
+      | (v36 << 60);
+    dst[dstOffset + 4] = (v36 >>> 4) | (v37 << 3) | (v38 << 10) | (v39 << 17)
+      | (v40 << 24) | (v41 << 31) | (v42 << 38) | (v43 << 45) | (v44 << 52)
+      | (v45 << 59);
+    dst[dstOffset + 5] = (v45 >>> 5) | (v46 << 2) | (v47 << 9) | (v48 << 16)
+      | (v49 << 23) | (v50 << 30) | (v51 << 37) | (v52 << 44) | (v53 << 51)
+      | (v54 << 58);
+    dst[dstOffset + 6] = (v54 >>> 6) | (v55 << 1) | (v56 << 8) | (v57 << 15)
+      | (v58 << 22) | (v59 << 29) | (v60 << 36) | (v61 << 43) | (v62 << 50)
+      | (v63 << 57);
+  }
+
+  private static void pack8(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 8) | (v2 << 16) | (v3 << 24) | (v4 << 32)
+      | (v5 << 40) | (v6 << 48) | (v7 << 56);
+    dst[dstOffset + 1] = v8 | (v9 << 8) | (v10 << 16) | (v11 << 24)
+      | (v12 << 32) | (v13 << 40) | (v14 << 48) | (v15 << 56);
+    dst[dstOffset + 2] = v16 | (v17 << 8) | (v18 << 16) | (v19 << 24)
+      | (v20 << 32) | (v21 << 40) | (v22 << 48) | (v23 << 56);
+    dst[dstOffset + 3] = v24 | (v25 << 8) | (v26 << 16) | (v27 << 24)
+      | (v28 << 32) | (v29 << 40) | (v30 << 48) | (v31 << 56);
+    dst[dstOffset + 4] = v32 | (v33 << 8) | (v34 << 16) | (v35 << 24)
+      | (v36 << 32) | (v37 << 40) | (v38 << 48) | (v39 << 56);
+    dst[dstOffset + 5] = v40 | (v41 << 8) | (v42 << 16) | (v43 << 24)
+      | (v44 << 32) | (v45 << 40) | (v46 << 48) | (v47 << 56);
+    dst[dstOffset + 6] = v48 | (v49 << 8) | (v50 << 16) | (v51 << 24)
+      | (v52 << 32) | (v53 << 40) | (v54 << 48) | (v55 << 56);
+    dst[dstOffset + 7] = v56 | (v57 << 8) | (v58 << 16) | (v59 << 24)
+      | (v60 << 32) | (v61 << 40) | (v62 << 48) | (v63 << 56);
+  }
+}
@@ -0,0 +1,872 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Unrolled kernels that pack 64 values of widths 25 to 32.
+ *
+ * @see BitPack
+ */
+
+final class BitPack25To32
+{
+  private BitPack25To32()
+  {
+
+  }
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 25 -> pack25(src, srcOffset, dst, dstOffset);
+      case 26 -> pack26(src, srcOffset, dst, dstOffset);
+      case 27 -> pack27(src, srcOffset, dst, dstOffset);
+      case 28 -> pack28(src, srcOffset, dst, dstOffset);
+      case 29 -> pack29(src, srcOffset, dst, dstOffset);
+      case 30 -> pack30(src, srcOffset, dst, dstOffset);
+      case 31 -> pack31(src, srcOffset, dst, dstOffset);
+      case 32 -> pack32(src, srcOffset, dst, dstOffset);
+      default -> throw BitPack.unsupported(bits);
+    }
+  }
+
+  private static void pack25(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 25) | (v2 << 50);
+    dst[dstOffset + 1] = (v2 >>> 14) | (v3 << 11) | (v4 << 36) | (v5 << 61);
+    dst[dstOffset + 2] = (v5 >>> 3) | (v6 << 22) | (v7 << 47);
+    dst[dstOffset + 3] = (v7 >>> 17) | (v8 << 8) | (v9 << 33) | (v10 << 58);
+    dst[dstOffset + 4] = (v10 >>> 6) | (v11 << 19) | (v12 << 44);
+    dst[dstOffset + 5] = (v12 >>> 20) | (v13 << 5) | (v14 << 30) | (v15 << 55);
+    dst[dstOffset + 6] = (v15 >>> 9) | (v16 << 16) | (v17 << 41);
+    dst[dstOffset + 7] = (v17 >>> 23) | (v18 << 2) | (v19 << 27) | (v20 << 52);
+    dst[dstOffset + 8] = (v20 >>> 12) | (v21 << 13) | (v22 << 38) | (v23 << 63);
+    dst[dstOffset + 9] = (v23 >>> 1) | (v24 << 24) | (v25 << 49);
+    dst[dstOffset + 10] = (v25 >>> 15) | (v26 << 10) | (v27 << 35)
+      | (v28 << 60);
+    dst[dstOffset + 11] = (v28 >>> 4) | (v29 << 21) | (v30 << 46);
+    dst[dstOffset + 12] = (v30 >>> 18) | (v31 << 7) | (v32 << 32) | (v33 << 57);
+    dst[dstOffset + 13] = (v33 >>> 7) | (v34 << 18) | (v35 << 43);
+    dst[dstOffset + 14] = (v35 >>> 21) | (v36 << 4) | (v37 << 29) | (v38 << 54);
+    dst[dstOffset + 15] = (v38 >>> 10) | (v39 << 15) | (v40 << 40);
+    dst[dstOffset + 16] = (v40 >>> 24) | (v41 << 1) | (v42 << 26) | (v43 << 51);
+    dst[dstOffset + 17] = (v43 >>> 13) | (v44 << 12) | (v45 << 37)
+      | (v46 << 62);
+    dst[dstOffset + 18] = (v46 >>> 2) | (v47 << 23) | (v48 << 48);
+    dst[dstOffset + 19] = (v48 >>> 16) | (v49 << 9) | (v50 << 34) | (v51 << 59);
+    dst[dstOffset + 20] = (v51 >>> 5) | (v52 << 20) | (v53 << 45);
+    dst[dstOffset + 21] = (v53 >>> 19) | (v54 << 6) | (v55 << 31) | (v56 << 56);
+    dst[dstOffset + 22] = (v56 >>> 8) | (v57 << 17) | (v58 << 42);
+    dst[dstOffset + 23] = (v58 >>> 22) | (v59 << 3) | (v60 << 28) | (v61 << 53);
+    dst[dstOffset + 24] = (v61 >>> 11) | (v62 << 14) | (v63 << 39);
+  }
+
+  private static void pack26(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 26) | (v2 << 52);
+    dst[dstOffset + 1] = (v2 >>> 12) | (v3 << 14) | (v4 << 40);
+    dst[dstOffset + 2] = (v4 >>> 24) | (v5 << 2) | (v6 << 28) | (v7 << 54);
+    dst[dstOffset + 3] = (v7 >>> 10) | (v8 << 16) | (v9 << 42);
+    dst[dstOffset + 4] = (v9 >>> 22) | (v10 << 4) | (v11 << 30) | (v12 << 56);
+    dst[dstOffset + 5] = (v12 >>> 8) | (v13 << 18) | (v14 << 44);
+    dst[dstOffset + 6] = (v14 >>> 20) | (v15 << 6) | (v16 << 32) | (v17 << 58);
+    dst[dstOffset + 7] = (v17 >>> 6) | (v18 << 20) | (v19 << 46);
+    dst[dstOffset + 8] = (v19 >>> 18) | (v20 << 8) | (v21 << 34) | (v22 << 60);
+    dst[dstOffset + 9] = (v22 >>> 4) | (v23 << 22) | (v24 << 48);
+    dst[dstOffset + 10] = (v24 >>> 16) | (v25 << 10) | (v26 << 36)
+      | (v27 << 62);
+    dst[dstOffset + 11] = (v27 >>> 2) | (v28 << 24) | (v29 << 50);
+    dst[dstOffset + 12] = (v29 >>> 14) | (v30 << 12) | (v31 << 38);
+    dst[dstOffset + 13] = v32 | (v33 << 26) | (v34 << 52);
+    dst[dstOffset + 14] = (v34 >>> 12) | (v35 << 14) | (v36 << 40);
+    dst[dstOffset + 15] = (v36 >>> 24) | (v37 << 2) | (v38 << 28) | (v39 << 54);
+    dst[dstOffset + 16] = (v39 >>> 10) | (v40 << 16) | (v41 << 42);
+    dst[dstOffset + 17] = (v41 >>> 22) | (v42 << 4) | (v43 << 30) | (v44 << 56);
+    dst[dstOffset + 18] = (v44 >>> 8) | (v45 << 18) | (v46 << 44);
+    dst[dstOffset + 19] = (v46 >>> 20) | (v47 << 6) | (v48 << 32) | (v49 << 58);
+    dst[dstOffset + 20] = (v49 >>> 6) | (v50 << 20) | (v51 << 46);
+    dst[dstOffset + 21] = (v51 >>> 18) | (v52 << 8) | (v53 << 34) | (v54 << 60);
+    dst[dstOffset + 22] = (v54 >>> 4) | (v55 << 22) | (v56 << 48);
+    dst[dstOffset + 23] = (v56 >>> 16) | (v57 << 10) | (v58 << 36)
+      | (v59 << 62);
+    dst[dstOffset + 24] = (v59 >>> 2) | (v60 << 24) | (v61 << 50);
+    dst[dstOffset + 25] = (v61 >>> 14) | (v62 << 12) | (v63 << 38);
+  }
+
+  private static void pack27(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 27) | (v2 << 54);
+    dst[dstOffset + 1] = (v2 >>> 10) | (v3 << 17) | (v4 << 44);
+    dst[dstOffset + 2] = (v4 >>> 20) | (v5 << 7) | (v6 << 34) | (v7 << 61);
+    dst[dstOffset + 3] = (v7 >>> 3) | (v8 << 24) | (v9 << 51);
+    dst[dstOffset + 4] = (v9 >>> 13) | (v10 << 14) | (v11 << 41);
+    dst[dstOffset + 5] = (v11 >>> 23) | (v12 << 4) | (v13 << 31) | (v14 << 58);
+    dst[dstOffset + 6] = (v14 >>> 6) | (v15 << 21) | (v16 << 48);
+    dst[dstOffset + 7] = (v16 >>> 16) | (v17 << 11) | (v18 << 38);
+    dst[dstOffset + 8] = (v18 >>> 26) | (v19 << 1) | (v20 << 28) | (v21 << 55);
+    dst[dstOffset + 9] = (v21 >>> 9) | (v22 << 18) | (v23 << 45);
+    dst[dstOffset + 10] = (v23 >>> 19) | (v24 << 8) | (v25 << 35) | (v26 << 62);
+    dst[dstOffset + 11] = (v26 >>> 2) | (v27 << 25) | (v28 << 52);
+    dst[dstOffset + 12] = (v28 >>> 12) | (v29 << 15) | (v30 << 42);
+    dst[dstOffset + 13] = (v30 >>> 22) | (v31 << 5) | (v32 << 32) | (v33 << 59);
+    dst[dstOffset + 14] = (v33 >>> 5) | (v34 << 22) | (v35 << 49);
+    dst[dstOffset + 15] = (v35 >>> 15) | (v36 << 12) | (v37 << 39);
+    dst[dstOffset + 16] = (v37 >>> 25) | (v38 << 2) | (v39 << 29) | (v40 << 56);
+    dst[dstOffset + 17] = (v40 >>> 8) | (v41 << 19) | (v42 << 46);
+    dst[dstOffset + 18] = (v42 >>> 18) | (v43 << 9) | (v44 << 36) | (v45 << 63);
+    dst[dstOffset + 19] = (v45 >>> 1) | (v46 << 26) | (v47 << 53);
+    dst[dstOffset + 20] = (v47 >>> 11) | (v48 << 16) | (v49 << 43);
+    dst[dstOffset + 21] = (v49 >>> 21) | (v50 << 6) | (v51 << 33) | (v52 << 60);
+    dst[dstOffset + 22] = (v52 >>> 4) | (v53 << 23) | (v54 << 50);
+    dst[dstOffset + 23] = (v54 >>> 14) | (v55 << 13) | (v56 << 40);
+    dst[dstOffset + 24] = (v56 >>> 24) | (v57 << 3) | (v58 << 30) | (v59 << 57);
+    dst[dstOffset + 25] = (v59 >>> 7) | (v60 << 20) | (v61 << 47);
+    dst[dstOffset + 26] = (v61 >>> 17) | (v62 << 10) | (v63 << 37);
+  }
+
+  private static void pack28(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 28) | (v2 << 56);
+    dst[dstOffset + 1] = (v2 >>> 8) | (v3 << 20) | (v4 << 48);
+    dst[dstOffset + 2] = (v4 >>> 16) | (v5 << 12) | (v6 << 40);
+    dst[dstOffset + 3] = (v6 >>> 24) | (v7 << 4) | (v8 << 32) | (v9 << 60);
+    dst[dstOffset + 4] = (v9 >>> 4) | (v10 << 24) | (v11 << 52);
+    dst[dstOffset + 5] = (v11 >>> 12) | (v12 << 16) | (v13 << 44);
+    dst[dstOffset + 6] = (v13 >>> 20) | (v14 << 8) | (v15 << 36);
+    dst[dstOffset + 7] = v16 | (v17 << 28) | (v18 << 56);
+    dst[dstOffset + 8] = (v18 >>> 8) | (v19 << 20) | (v20 << 48);
+    dst[dstOffset + 9] = (v20 >>> 16) | (v21 << 12) | (v22 << 40);
+    dst[dstOffset + 10] = (v22 >>> 24) | (v23 << 4) | (v24 << 32) | (v25 << 60);
+    dst[dstOffset + 11] = (v25 >>> 4) | (v26 << 24) | (v27 << 52);
+    dst[dstOffset + 12] = (v27 >>> 12) | (v28 << 16) | (v29 << 44);
+    dst[dstOffset + 13] = (v29 >>> 20) | (v30 << 8) | (v31 << 36);
+    dst[dstOffset + 14] = v32 | (v33 << 28) | (v34 << 56);
+    dst[dstOffset + 15] = (v34 >>> 8) | (v35 << 20) | (v36 << 48);
+    dst[dstOffset + 16] = (v36 >>> 16) | (v37 << 12) | (v38 << 40);
+    dst[dstOffset + 17] = (v38 >>> 24) | (v39 << 4) | (v40 << 32) | (v41 << 60);
+    dst[dstOffset + 18] = (v41 >>> 4) | (v42 << 24) | (v43 << 52);
+    dst[dstOffset + 19] = (v43 >>> 12) | (v44 << 16) | (v45 << 44);
+    dst[dstOffset + 20] = (v45 >>> 20) | (v46 << 8) | (v47 << 36);
+    dst[dstOffset + 21] = v48 | (v49 << 28) | (v50 << 56);
+    dst[dstOffset + 22] = (v50 >>> 8) | (v51 << 20) | (v52 << 48);
+    dst[dstOffset + 23] = (v52 >>> 16) | (v53 << 12) | (v54 << 40);
+    dst[dstOffset + 24] = (v54 >>> 24) | (v55 << 4) | (v56 << 32) | (v57 << 60);
+    dst[dstOffset + 25] = (v57 >>> 4) | (v58 << 24) | (v59 << 52);
+    dst[dstOffset + 26] = (v59 >>> 12) | (v60 << 16) | (v61 << 44);
+    dst[dstOffset + 27] = (v61 >>> 20) | (v62 << 8) | (v63 << 36);
+  }
+
+  private static void pack29(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 29) | (v2 << 58);
+    dst[dstOffset + 1] = (v2 >>> 6) | (v3 << 23) | (v4 << 52);
+    dst[dstOffset + 2] = (v4 >>> 12) | (v5 << 17) | (v6 << 46);
+    dst[dstOffset + 3] = (v6 >>> 18) | (v7 << 11) | (v8 << 40);
+    dst[dstOffset + 4] = (v8 >>> 24) | (v9 << 5) | (v10 << 34) | (v11 << 63);
+    dst[dstOffset + 5] = (v11 >>> 1) | (v12 << 28) | (v13 << 57);
+    dst[dstOffset + 6] = (v13 >>> 7) | (v14 << 22) | (v15 << 51);
+    dst[dstOffset + 7] = (v15 >>> 13) | (v16 << 16) | (v17 << 45);
+    dst[dstOffset + 8] = (v17 >>> 19) | (v18 << 10) | (v19 << 39);
+    dst[dstOffset + 9] = (v19 >>> 25) | (v20 << 4) | (v21 << 33) | (v22 << 62);
+    dst[dstOffset + 10] = (v22 >>> 2) | (v23 << 27) | (v24 << 56);
+    dst[dstOffset + 11] = (v24 >>> 8) | (v25 << 21) | (v26 << 50);
+    dst[dstOffset + 12] = (v26 >>> 14) | (v27 << 15) | (v28 << 44);
+    dst[dstOffset + 13] = (v28 >>> 20) | (v29 << 9) | (v30 << 38);
+    dst[dstOffset + 14] = (v30 >>> 26) | (v31 << 3) | (v32 << 32) | (v33 << 61);
+    dst[dstOffset + 15] = (v33 >>> 3) | (v34 << 26) | (v35 << 55);
+    dst[dstOffset + 16] = (v35 >>> 9) | (v36 << 20) | (v37 << 49);
+    dst[dstOffset + 17] = (v37 >>> 15) | (v38 << 14) | (v39 << 43);
+    dst[dstOffset + 18] = (v39 >>> 21) | (v40 << 8) | (v41 << 37);
+    dst[dstOffset + 19] = (v41 >>> 27) | (v42 << 2) | (v43 << 31) | (v44 << 60);
+    dst[dstOffset + 20] = (v44 >>> 4) | (v45 << 25) | (v46 << 54);
+    dst[dstOffset + 21] = (v46 >>> 10) | (v47 << 19) | (v48 << 48);
+    dst[dstOffset + 22] = (v48 >>> 16) | (v49 << 13) | (v50 << 42);
+    dst[dstOffset + 23] = (v50 >>> 22) | (v51 << 7) | (v52 << 36);
+    dst[dstOffset + 24] = (v52 >>> 28) | (v53 << 1) | (v54 << 30) | (v55 << 59);
+    dst[dstOffset + 25] = (v55 >>> 5) | (v56 << 24) | (v57 << 53);
+    dst[dstOffset + 26] = (v57 >>> 11) | (v58 << 18) | (v59 << 47);
+    dst[dstOffset + 27] = (v59 >>> 17) | (v60 << 12) | (v61 << 41);
+    dst[dstOffset + 28] = (v61 >>> 23) | (v62 << 6) | (v63 << 35);
+  }
+
+  private static void pack30(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 30) | (v2 << 60);
+    dst[dstOffset + 1] = (v2 >>> 4) | (v3 << 26) | (v4 << 56);
+    dst[dstOffset + 2] = (v4 >>> 8) | (v5 << 22) | (v6 << 52);
+    dst[dstOffset + 3] = (v6 >>> 12) | (v7 << 18) | (v8 << 48);
+    dst[dstOffset + 4] = (v8 >>> 16) | (v9 << 14) | (v10 << 44);
+    dst[dstOffset + 5] = (v10 >>> 20) | (v11 << 10) | (v12 << 40);
+    dst[dstOffset + 6] = (v12 >>> 24) | (v13 << 6) | (v14 << 36);
+    dst[dstOffset + 7] = (v14 >>> 28) | (v15 << 2) | (v16 << 32) | (v17 << 62);
+    dst[dstOffset + 8] = (v17 >>> 2) | (v18 << 28) | (v19 << 58);
+    dst[dstOffset + 9] = (v19 >>> 6) | (v20 << 24) | (v21 << 54);
+    dst[dstOffset + 10] = (v21 >>> 10) | (v22 << 20) | (v23 << 50);
+    dst[dstOffset + 11] = (v23 >>> 14) | (v24 << 16) | (v25 << 46);
+    dst[dstOffset + 12] = (v25 >>> 18) | (v26 << 12) | (v27 << 42);
+    dst[dstOffset + 13] = (v27 >>> 22) | (v28 << 8) | (v29 << 38);
+    dst[dstOffset + 14] = (v29 >>> 26) | (v30 << 4) | (v31 << 34);
+    dst[dstOffset + 15] = v32 | (v33 << 30) | (v34 << 60);
+    dst[dstOffset + 16] = (v34 >>> 4) | (v35 << 26) | (v36 << 56);
+    dst[dstOffset + 17] = (v36 >>> 8) | (v37 << 22) | (v38 << 52);
+    dst[dstOffset + 18] = (v38 >>> 12) | (v39 << 18) | (v40 << 48);
+    dst[dstOffset + 19] = (v40 >>> 16) | (v41 << 14) | (v42 << 44);
+    dst[dstOffset + 20] = (v42 >>> 20) | (v43 << 10) | (v44 << 40);
+    dst[dstOffset + 21] = (v44 >>> 24) | (v45 << 6) | (v46 << 36);
+    dst[dstOffset + 22] = (v46 >>> 28) | (v47 << 2) | (v48 << 32) | (v49 << 62);
+    dst[dstOffset + 23] = (v49 >>> 2) | (v50 << 28) | (v51 << 58);
+    dst[dstOffset + 24] = (v51 >>> 6) | (v52 << 24) | (v53 << 54);
+    dst[dstOffset + 25] = (v53 >>> 10) | (v54 << 20) | (v55 << 50);
+    dst[dstOffset + 26] = (v55 >>> 14) | (v56 << 16) | (v57 << 46);
+    dst[dstOffset + 27] = (v57 >>> 18) | (v58 << 12) | (v59 << 42);
+    dst[dstOffset + 28] = (v59 >>> 22) | (v60 << 8) | (v61 << 38);
+    dst[dstOffset + 29] = (v61 >>> 26) | (v62 << 4) | (v63 << 34);
+  }
+
+  private static void pack31(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 31) | (v2 << 62);
+    dst[dstOffset + 1] = (v2 >>> 2) | (v3 << 29) | (v4 << 60);
+    dst[dstOffset + 2] = (v4 >>> 4) | (v5 << 27) | (v6 << 58);
+    dst[dstOffset + 3] = (v6 >>> 6) | (v7 << 25) | (v8 << 56);
+    dst[dstOffset + 4] = (v8 >>> 8) | (v9 << 23) | (v10 << 54);
+    dst[dstOffset + 5] = (v10 >>> 10) | (v11 << 21) | (v12 << 52);
+    dst[dstOffset + 6] = (v12 >>> 12) | (v13 << 19) | (v14 << 50);
+    dst[dstOffset + 7] = (v14 >>> 14) | (v15 << 17) | (v16 << 48);
+    dst[dstOffset + 8] = (v16 >>> 16) | (v17 << 15) | (v18 << 46);
+    dst[dstOffset + 9] = (v18 >>> 18) | (v19 << 13) | (v20 << 44);
+    dst[dstOffset + 10] = (v20 >>> 20) | (v21 << 11) | (v22 << 42);
+    dst[dstOffset + 11] = (v22 >>> 22) | (v23 << 9) | (v24 << 40);
+    dst[dstOffset + 12] = (v24 >>> 24) | (v25 << 7) | (v26 << 38);
+    dst[dstOffset + 13] = (v26 >>> 26) | (v27 << 5) | (v28 << 36);
+    dst[dstOffset + 14] = (v28 >>> 28) | (v29 << 3) | (v30 << 34);
+    dst[dstOffset + 15] = (v30 >>> 30) | (v31 << 1) | (v32 << 32) | (v33 << 63);
+    dst[dstOffset + 16] = (v33 >>> 1) | (v34 << 30) | (v35 << 61);
+    dst[dstOffset + 17] = (v35 >>> 3) | (v36 << 28) | (v37 << 59);
+    dst[dstOffset + 18] = (v37 >>> 5) | (v38 << 26) | (v39 << 57);
+    dst[dstOffset + 19] = (v39 >>> 7) | (v40 << 24) | (v41 << 55);
+    dst[dstOffset + 20] = (v41 >>> 9) | (v42 << 22) | (v43 << 53);
+    dst[dstOffset + 21] = (v43 >>> 11) | (v44 << 20) | (v45 << 51);
+    dst[dstOffset + 22] = (v45 >>> 13) | (v46 << 18) | (v47 << 49);
+    dst[dstOffset + 23] = (v47 >>> 15) | (v48 << 16) | (v49 << 47);
+    dst[dstOffset + 24] = (v49 >>> 17) | (v50 << 14) | (v51 << 45);
+    dst[dstOffset + 25] = (v51 >>> 19) | (v52 << 12) | (v53 << 43);
+    dst[dstOffset + 26] = (v53 >>> 21) | (v54 << 10) | (v55 << 41);
+    dst[dstOffset + 27] = (v55 >>> 23) | (v56 << 8) | (v57 << 39);
+    dst[dstOffset + 28] = (v57 >>> 25) | (v58 << 6) | (v59 << 37);
+    dst[dstOffset + 29] = (v59 >>> 27) | (v60 << 4) | (v61 << 35);
+    dst[dstOffset + 30] = (v61 >>> 29) | (v62 << 2) | (v63 << 33);
+  }
+
+  private static void pack32(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 32);
+    dst[dstOffset + 1] = v2 | (v3 << 32);
+    dst[dstOffset + 2] = v4 | (v5 << 32);
+    dst[dstOffset + 3] = v6 | (v7 << 32);
+    dst[dstOffset + 4] = v8 | (v9 << 32);
+    dst[dstOffset + 5] = v10 | (v11 << 32);
+    dst[dstOffset + 6] = v12 | (v13 << 32);
+    dst[dstOffset + 7] = v14 | (v15 << 32);
+    dst[dstOffset + 8] = v16 | (v17 << 32);
+    dst[dstOffset + 9] = v18 | (v19 << 32);
+    dst[dstOffset + 10] = v20 | (v21 << 32);
+    dst[dstOffset + 11] = v22 | (v23 << 32);
+    dst[dstOffset + 12] = v24 | (v25 << 32);
+    dst[dstOffset + 13] = v26 | (v27 << 32);
+    dst[dstOffset + 14] = v28 | (v29 << 32);
+    dst[dstOffset + 15] = v30 | (v31 << 32);
+    dst[dstOffset + 16] = v32 | (v33 << 32);
+    dst[dstOffset + 17] = v34 | (v35 << 32);
+    dst[dstOffset + 18] = v36 | (v37 << 32);
+    dst[dstOffset + 19] = v38 | (v39 << 32);
+    dst[dstOffset + 20] = v40 | (v41 << 32);
+    dst[dstOffset + 21] = v42 | (v43 << 32);
+    dst[dstOffset + 22] = v44 | (v45 << 32);
+    dst[dstOffset + 23] = v46 | (v47 << 32);
+    dst[dstOffset + 24] = v48 | (v49 << 32);
+    dst[dstOffset + 25] = v50 | (v51 << 32);
+    dst[dstOffset + 26] = v52 | (v53 << 32);
+    dst[dstOffset + 27] = v54 | (v55 << 32);
+    dst[dstOffset + 28] = v56 | (v57 << 32);
+    dst[dstOffset + 29] = v58 | (v59 << 32);
+    dst[dstOffset + 30] = v60 | (v61 << 32);
+    dst[dstOffset + 31] = v62 | (v63 << 32);
+  }
+}
@@ -0,0 +1,932 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Unrolled kernels that pack 64 values of widths 33 to 40.
+ *
+ * @see BitPack
+ */
+
+final class BitPack33To40
+{
+  private BitPack33To40()
+  {
+
+  }
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 33 -> pack33(src, srcOffset, dst, dstOffset);
+      case 34 -> pack34(src, srcOffset, dst, dstOffset);
+      case 35 -> pack35(src, srcOffset, dst, dstOffset);
+      case 36 -> pack36(src, srcOffset, dst, dstOffset);
+      case 37 -> pack37(src, srcOffset, dst, dstOffset);
+      case 38 -> pack38(src, srcOffset, dst, dstOffset);
+      case 39 -> pack39(src, srcOffset, dst, dstOffset);
+      case 40 -> pack40(src, srcOffset, dst, dstOffset);
+      default -> throw BitPack.unsupported(bits);
+    }
+  }
+
+  private static void pack33(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 33);
+    dst[dstOffset + 1] = (v1 >>> 31) | (v2 << 2) | (v3 << 35);
+    dst[dstOffset + 2] = (v3 >>> 29) | (v4 << 4) | (v5 << 37);
+    dst[dstOffset + 3] = (v5 >>> 27) | (v6 << 6) | (v7 << 39);
+    dst[dstOffset + 4] = (v7 >>> 25) | (v8 << 8) | (v9 << 41);
+    dst[dstOffset + 5] = (v9 >>> 23) | (v10 << 10) | (v11 << 43);
+    dst[dstOffset + 6] = (v11 >>> 21) | (v12 << 12) | (v13 << 45);
+    dst[dstOffset + 7] = (v13 >>> 19) | (v14 << 14) | (v15 << 47);
+    dst[dstOffset + 8] = (v15 >>> 17) | (v16 << 16) | (v17 << 49);
+    dst[dstOffset + 9] = (v17 >>> 15) | (v18 << 18) | (v19 << 51);
+    dst[dstOffset + 10] = (v19 >>> 13) | (v20 << 20) | (v21 << 53);
+    dst[dstOffset + 11] = (v21 >>> 11) | (v22 << 22) | (v23 << 55);
+    dst[dstOffset + 12] = (v23 >>> 9) | (v24 << 24) | (v25 << 57);
+    dst[dstOffset + 13] = (v25 >>> 7) | (v26 << 26) | (v27 << 59);
+    dst[dstOffset + 14] = (v27 >>> 5) | (v28 << 28) | (v29 << 61);
+    dst[dstOffset + 15] = (v29 >>> 3) | (v30 << 30) | (v31 << 63);
+    dst[dstOffset + 16] = (v31 >>> 1) | (v32 << 32);
+    dst[dstOffset + 17] = (v32 >>> 32) | (v33 << 1) | (v34 << 34);
+    dst[dstOffset + 18] = (v34 >>> 30) | (v35 << 3) | (v36 << 36);
+    dst[dstOffset + 19] = (v36 >>> 28) | (v37 << 5) | (v38 << 38);
+    dst[dstOffset + 20] = (v38 >>> 26) | (v39 << 7) | (v40 << 40);
+    dst[dstOffset + 21] = (v40 >>> 24) | (v41 << 9) | (v42 << 42);
+    dst[dstOffset + 22] = (v42 >>> 22) | (v43 << 11) | (v44 << 44);
+    dst[dstOffset + 23] = (v44 >>> 20) | (v45 << 13) | (v46 << 46);
+    dst[dstOffset + 24] = (v46 >>> 18) | (v47 << 15) | (v48 << 48);
+    dst[dstOffset + 25] = (v48 >>> 16) | (v49 << 17) | (v50 << 50);
+    dst[dstOffset + 26] = (v50 >>> 14) | (v51 << 19) | (v52 << 52);
+    dst[dstOffset + 27] = (v52 >>> 12) | (v53 << 21) | (v54 << 54);
+    dst[dstOffset + 28] = (v54 >>> 10) | (v55 << 23) | (v56 << 56);
+    dst[dstOffset + 29] = (v56 >>> 8) | (v57 << 25) | (v58 << 58);
+    dst[dstOffset + 30] = (v58 >>> 6) | (v59 << 27) | (v60 << 60);
+    dst[dstOffset + 31] = (v60 >>> 4) | (v61 << 29) | (v62 << 62);
+    dst[dstOffset + 32] = (v62 >>> 2) | (v63 << 31);
+  }
+
+  private static void pack34(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 34);
+    dst[dstOffset + 1] = (v1 >>> 30) | (v2 << 4) | (v3 << 38);
+    dst[dstOffset + 2] = (v3 >>> 26) | (v4 << 8) | (v5 << 42);
+    dst[dstOffset + 3] = (v5 >>> 22) | (v6 << 12) | (v7 << 46);
+    dst[dstOffset + 4] = (v7 >>> 18) | (v8 << 16) | (v9 << 50);
+    dst[dstOffset + 5] = (v9 >>> 14) | (v10 << 20) | (v11 << 54);
+    dst[dstOffset + 6] = (v11 >>> 10) | (v12 << 24) | (v13 << 58);
+    dst[dstOffset + 7] = (v13 >>> 6) | (v14 << 28) | (v15 << 62);
+    dst[dstOffset + 8] = (v15 >>> 2) | (v16 << 32);
+    dst[dstOffset + 9] = (v16 >>> 32) | (v17 << 2) | (v18 << 36);
+    dst[dstOffset + 10] = (v18 >>> 28) | (v19 << 6) | (v20 << 40);
+    dst[dstOffset + 11] = (v20 >>> 24) | (v21 << 10) | (v22 << 44);
+    dst[dstOffset + 12] = (v22 >>> 20) | (v23 << 14) | (v24 << 48);
+    dst[dstOffset + 13] = (v24 >>> 16) | (v25 << 18) | (v26 << 52);
+    dst[dstOffset + 14] = (v26 >>> 12) | (v27 << 22) | (v28 << 56);
+    dst[dstOffset + 15] = (v28 >>> 8) | (v29 << 26) | (v30 << 60);
+    dst[dstOffset + 16] = (v30 >>> 4) | (v31 << 30);
+    dst[dstOffset + 17] = v32 | (v33 << 34);
+    dst[dstOffset + 18] = (v33 >>> 30) | (v34 << 4) | (v35 << 38);
+    dst[dstOffset + 19] = (v35 >>> 26) | (v36 << 8) | (v37 << 42);
+    dst[dstOffset + 20] = (v37 >>> 22) | (v38 << 12) | (v39 << 46);
+    dst[dstOffset + 21] = (v39 >>> 18) | (v40 << 16) | (v41 << 50);
+    dst[dstOffset + 22] = (v41 >>> 14) | (v42 << 20) | (v43 << 54);
+    dst[dstOffset + 23] = (v43 >>> 10) | (v44 << 24) | (v45 << 58);
+    dst[dstOffset + 24] = (v45 >>> 6) | (v46 << 28) | (v47 << 62);
+    dst[dstOffset + 25] = (v47 >>> 2) | (v48 << 32);
+    dst[dstOffset + 26] = (v48 >>> 32) | (v49 << 2) | (v50 << 36);
+    dst[dstOffset + 27] = (v50 >>> 28) | (v51 << 6) | (v52 << 40);
+    dst[dstOffset + 28] = (v52 >>> 24) | (v53 << 10) | (v54 << 44);
+    dst[dstOffset + 29] = (v54 >>> 20) | (v55 << 14) | (v56 << 48);
+    dst[dstOffset + 30] = (v56 >>> 16) | (v57 << 18) | (v58 << 52);
+    dst[dstOffset + 31] = (v58 >>> 12) | (v59 << 22) | (v60 << 56);
+    dst[dstOffset + 32] = (v60 >>> 8) | (v61 << 26) | (v62 << 60);
+    dst[dstOffset + 33] = (v62 >>> 4) | (v63 << 30);
+  }
+
+  private static void pack35(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 35);
+    dst[dstOffset + 1] = (v1 >>> 29) | (v2 << 6) | (v3 << 41);
+    dst[dstOffset + 2] = (v3 >>> 23) | (v4 << 12) | (v5 << 47);
+    dst[dstOffset + 3] = (v5 >>> 17) | (v6 << 18) | (v7 << 53);
+    dst[dstOffset + 4] = (v7 >>> 11) | (v8 << 24) | (v9 << 59);
+    dst[dstOffset + 5] = (v9 >>> 5) | (v10 << 30);
+    dst[dstOffset + 6] = (v10 >>> 34) | (v11 << 1) | (v12 << 36);
+    dst[dstOffset + 7] = (v12 >>> 28) | (v13 << 7) | (v14 << 42);
+    dst[dstOffset + 8] = (v14 >>> 22) | (v15 << 13) | (v16 << 48);
+    dst[dstOffset + 9] = (v16 >>> 16) | (v17 << 19) | (v18 << 54);
+    dst[dstOffset + 10] = (v18 >>> 10) | (v19 << 25) | (v20 << 60);
+    dst[dstOffset + 11] = (v20 >>> 4) | (v21 << 31);
+    dst[dstOffset + 12] = (v21 >>> 33) | (v22 << 2) | (v23 << 37);
+    dst[dstOffset + 13] = (v23 >>> 27) | (v24 << 8) | (v25 << 43);
+    dst[dstOffset + 14] = (v25 >>> 21) | (v26 << 14) | (v27 << 49);
+    dst[dstOffset + 15] = (v27 >>> 15) | (v28 << 20) | (v29 << 55);
+    dst[dstOffset + 16] = (v29 >>> 9) | (v30 << 26) | (v31 << 61);
+    dst[dstOffset + 17] = (v31 >>> 3) | (v32 << 32);
+    dst[dstOffset + 18] = (v32 >>> 32) | (v33 << 3) | (v34 << 38);
+    dst[dstOffset + 19] = (v34 >>> 26) | (v35 << 9) | (v36 << 44);
+    dst[dstOffset + 20] = (v36 >>> 20) | (v37 << 15) | (v38 << 50);
+    dst[dstOffset + 21] = (v38 >>> 14) | (v39 << 21) | (v40 << 56);
+    dst[dstOffset + 22] = (v40 >>> 8) | (v41 << 27) | (v42 << 62);
+    dst[dstOffset + 23] = (v42 >>> 2) | (v43 << 33);
+    dst[dstOffset + 24] = (v43 >>> 31) | (v44 << 4) | (v45 << 39);
+    dst[dstOffset + 25] = (v45 >>> 25) | (v46 << 10) | (v47 << 45);
+    dst[dstOffset + 26] = (v47 >>> 19) | (v48 << 16) | (v49 << 51);
+    dst[dstOffset + 27] = (v49 >>> 13) | (v50 << 22) | (v51 << 57);
+    dst[dstOffset + 28] = (v51 >>> 7) | (v52 << 28) | (v53 << 63);
+    dst[dstOffset + 29] = (v53 >>> 1) | (v54 << 34);
+    dst[dstOffset + 30] = (v54 >>> 30) | (v55 << 5) | (v56 << 40);
+    dst[dstOffset + 31] = (v56 >>> 24) | (v57 << 11) | (v58 << 46);
+    dst[dstOffset + 32] = (v58 >>> 18) | (v59 << 17) | (v60 << 52);
+    dst[dstOffset + 33] = (v60 >>> 12) | (v61 << 23) | (v62 << 58);
+    dst[dstOffset + 34] = (v62 >>> 6) | (v63 << 29);
+  }
+
+  private static void pack36(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 36);
+    dst[dstOffset + 1] = (v1 >>> 28) | (v2 << 8) | (v3 << 44);
+    dst[dstOffset + 2] = (v3 >>> 20) | (v4 << 16) | (v5 << 52);
+    dst[dstOffset + 3] = (v5 >>> 12) | (v6 << 24) | (v7 << 60);
+    dst[dstOffset + 4] = (v7 >>> 4) | (v8 << 32);
+    dst[dstOffset + 5] = (v8 >>> 32) | (v9 << 4) | (v10 << 40);
+    dst[dstOffset + 6] = (v10 >>> 24) | (v11 << 12) | (v12 << 48);
+    dst[dstOffset + 7] = (v12 >>> 16) | (v13 << 20) | (v14 << 56);
+    dst[dstOffset + 8] = (v14 >>> 8) | (v15 << 28);
+    dst[dstOffset + 9] = v16 | (v17 << 36);
+    dst[dstOffset + 10] = (v17 >>> 28) | (v18 << 8) | (v19 << 44);
+    dst[dstOffset + 11] = (v19 >>> 20) | (v20 << 16) | (v21 << 52);
+    dst[dstOffset + 12] = (v21 >>> 12) | (v22 << 24) | (v23 << 60);
+    dst[dstOffset + 13] = (v23 >>> 4) | (v24 << 32);
+    dst[dstOffset + 14] = (v24 >>> 32) | (v25 << 4) | (v26 << 40);
+    dst[dstOffset + 15] = (v26 >>> 24) | (v27 << 12) | (v28 << 48);
+    dst[dstOffset + 16] = (v28 >>> 16) | (v29 << 20) | (v30 << 56);
+    dst[dstOffset + 17] = (v30 >>> 8) | (v31 << 28);
+    dst[dstOffset + 18] = v32 | (v33 << 36);
+    dst[dstOffset + 19] = (v33 >>> 28) | (v34 << 8) | (v35 << 44);
+    dst[dstOffset + 20] = (v35 >>> 20) | (v36 << 16) | (v37 << 52);
+    dst[dstOffset + 21] = (v37 >>> 12) | (v38 << 24) | (v39 << 60);
+    dst[dstOffset + 22] = (v39 >>> 4) | (v40 << 32);
+    dst[dstOffset + 23] = (v40 >>> 32) | (v41 << 4) | (v42 << 40);
+    dst[dstOffset + 24] = (v42 >>> 24) | (v43 << 12) | (v44 << 48);
+    dst[dstOffset + 25] = (v44 >>> 16) | (v45 << 20) | (v46 << 56);
+    dst[dstOffset + 26] = (v46 >>> 8) | (v47 << 28);
+    dst[dstOffset + 27] = v48 | (v49 << 36);
+    dst[dstOffset + 28] = (v49 >>> 28) | (v50 << 8) | (v51 << 44);
+    dst[dstOffset + 29] = (v51 >>> 20) | (v52 << 16) | (v53 << 52);
+    dst[dstOffset + 30] = (v53 >>> 12) | (v54 << 24) | (v55 << 60);
+    dst[dstOffset + 31] = (v55 >>> 4) | (v56 << 32);
+    dst[dstOffset + 32] = (v56 >>> 32) | (v57 << 4) | (v58 << 40);
+    dst[dstOffset + 33] = (v58 >>> 24) | (v59 << 12) | (v60 << 48);
+    dst[dstOffset + 34] = (v60 >>> 16) | (v61 << 20) | (v62 << 56);
+    dst[dstOffset + 35] = (v62 >>> 8) | (v63 << 28);
+  }
+
+  private static void pack37(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 37);
+    dst[dstOffset + 1] = (v1 >>> 27) | (v2 << 10) | (v3 << 47);
+    dst[dstOffset + 2] = (v3 >>> 17) | (v4 << 20) | (v5 << 57);
+    dst[dstOffset + 3] = (v5 >>> 7) | (v6 << 30);
+    dst[dstOffset + 4] = (v6 >>> 34) | (v7 << 3) | (v8 << 40);
+    dst[dstOffset + 5] = (v8 >>> 24) | (v9 << 13) | (v10 << 50);
+    dst[dstOffset + 6] = (v10 >>> 14) | (v11 << 23) | (v12 << 60);
+    dst[dstOffset + 7] = (v12 >>> 4) | (v13 << 33);
+    dst[dstOffset + 8] = (v13 >>> 31) | (v14 << 6) | (v15 << 43);
+    dst[dstOffset + 9] = (v15 >>> 21) | (v16 << 16) | (v17 << 53);
+    dst[dstOffset + 10] = (v17 >>> 11) | (v18 << 26) | (v19 << 63);
+    dst[dstOffset + 11] = (v19 >>> 1) | (v20 << 36);
+    dst[dstOffset + 12] = (v20 >>> 28) | (v21 << 9) | (v22 << 46);
+    dst[dstOffset + 13] = (v22 >>> 18) | (v23 << 19) | (v24 << 56);
+    dst[dstOffset + 14] = (v24 >>> 8) | (v25 << 29);
+    dst[dstOffset + 15] = (v25 >>> 35) | (v26 << 2) | (v27 << 39);
+    dst[dstOffset + 16] = (v27 >>> 25) | (v28 << 12) | (v29 << 49);
+    dst[dstOffset + 17] = (v29 >>> 15) | (v30 << 22) | (v31 << 59);
+    dst[dstOffset + 18] = (v31 >>> 5) | (v32 << 32);
+    dst[dstOffset + 19] = (v32 >>> 32) | (v33 << 5) | (v34 << 42);
+    dst[dstOffset + 20] = (v34 >>> 22) | (v35 << 15) | (v36 << 52);
+    dst[dstOffset + 21] = (v36 >>> 12) | (v37 << 25) | (v38 << 62);
+    dst[dstOffset + 22] = (v38 >>> 2) | (v39 << 35);
+    dst[dstOffset + 23] = (v39 >>> 29) | (v40 << 8) | (v41 << 45);
+    dst[dstOffset + 24] = (v41 >>> 19) | (v42 << 18) | (v43 << 55);
+    dst[dstOffset + 25] = (v43 >>> 9) | (v44 << 28);
+    dst[dstOffset + 26] = (v44 >>> 36) | (v45 << 1) | (v46 << 38);
+    dst[dstOffset + 27] = (v46 >>> 26) | (v47 << 11) | (v48 << 48);
+    dst[dstOffset + 28] = (v48 >>> 16) | (v49 << 21) | (v50 << 58);
+    dst[dstOffset + 29] = (v50 >>> 6) | (v51 << 31);
+    dst[dstOffset + 30] = (v51 >>> 33) | (v52 << 4) | (v53 << 41);
+    dst[dstOffset + 31] = (v53 >>> 23) | (v54 << 14) | (v55 << 51);
+    dst[dstOffset + 32] = (v55 >>> 13) | (v56 << 24) | (v57 << 61);
+    dst[dstOffset + 33] = (v57 >>> 3) | (v58 << 34);
+    dst[dstOffset + 34] = (v58 >>> 30) | (v59 << 7) | (v60 << 44);
+    dst[dstOffset + 35] = (v60 >>> 20) | (v61 << 17) | (v62 << 54);
+    dst[dstOffset + 36] = (v62 >>> 10) | (v63 << 27);
+  }
+
+  private static void pack38(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 38);
+    dst[dstOffset + 1] = (v1 >>> 26) | (v2 << 12) | (v3 << 50);
+    dst[dstOffset + 2] = (v3 >>> 14) | (v4 << 24) | (v5 << 62);
+    dst[dstOffset + 3] = (v5 >>> 2) | (v6 << 36);
+    dst[dstOffset + 4] = (v6 >>> 28) | (v7 << 10) | (v8 << 48);
+    dst[dstOffset + 5] = (v8 >>> 16) | (v9 << 22) | (v10 << 60);
+    dst[dstOffset + 6] = (v10 >>> 4) | (v11 << 34);
+    dst[dstOffset + 7] = (v11 >>> 30) | (v12 << 8) | (v13 << 46);
+    dst[dstOffset + 8] = (v13 >>> 18) | (v14 << 20) | (v15 << 58);
+    dst[dstOffset + 9] = (v15 >>> 6) | (v16 << 32);
+    dst[dstOffset + 10] = (v16 >>> 32) | (v17 << 6) | (v18 << 44);
+    dst[dstOffset + 11] = (v18 >>> 20) | (v19 << 18) | (v20 << 56);
+    dst[dstOffset + 12] = (v20 >>> 8) | (v21 << 30);
+    dst[dstOffset + 13] = (v21 >>> 34) | (v22 << 4) | (v23 << 42);
+    dst[dstOffset + 14] = (v23 >>> 22) | (v24 << 16) | (v25 << 54);
+    dst[dstOffset + 15] = (v25 >>> 10) | (v26 << 28);
+    dst[dstOffset + 16] = (v26 >>> 36) | (v27 << 2) | (v28 << 40);
+    dst[dstOffset + 17] = (v28 >>> 24) | (v29 << 14) | (v30 << 52);
+    dst[dstOffset + 18] = (v30 >>> 12) | (v31 << 26);
+    dst[dstOffset + 19] = v32 | (v33 << 38);
+    dst[dstOffset + 20] = (v33 >>> 26) | (v34 << 12) | (v35 << 50);
+    dst[dstOffset + 21] = (v35 >>> 14) | (v36 << 24) | (v37 << 62);
+    dst[dstOffset + 22] = (v37 >>> 2) | (v38 << 36);
+    dst[dstOffset + 23] = (v38 >>> 28) | (v39 << 10) | (v40 << 48);
+    dst[dstOffset + 24] = (v40 >>> 16) | (v41 << 22) | (v42 << 60);
+    dst[dstOffset + 25] = (v42 >>> 4) | (v43 << 34);
+    dst[dstOffset + 26] = (v43 >>> 30) | (v44 << 8) | (v45 << 46);
+    dst[dstOffset + 27] = (v45 >>> 18) | (v46 << 20) | (v47 << 58);
+    dst[dstOffset + 28] = (v47 >>> 6) | (v48 << 32);
+    dst[dstOffset + 29] = (v48 >>> 32) | (v49 << 6) | (v50 << 44);
+    dst[dstOffset + 30] = (v50 >>> 20) | (v51 << 18) | (v52 << 56);
+    dst[dstOffset + 31] = (v52 >>> 8) | (v53 << 30);
+    dst[dstOffset + 32] = (v53 >>> 34) | (v54 << 4) | (v55 << 42);
+    dst[dstOffset + 33] = (v55 >>> 22) | (v56 << 16) | (v57 << 54);
+    dst[dstOffset + 34] = (v57 >>> 10) | (v58 << 28);
+    dst[dstOffset + 35] = (v58 >>> 36) | (v59 << 2) | (v60 << 40);
+    dst[dstOffset + 36] = (v60 >>> 24) | (v61 << 14) | (v62 << 52);
+    dst[dstOffset + 37] = (v62 >>> 12) | (v63 << 26);
+  }
+
+  private static void pack39(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 39);
+    dst[dstOffset + 1] = (v1 >>> 25) | (v2 << 14) | (v3 << 53);
+    dst[dstOffset + 2] = (v3 >>> 11) | (v4 << 28);
+    dst[dstOffset + 3] = (v4 >>> 36) | (v5 << 3) | (v6 << 42);
+    dst[dstOffset + 4] = (v6 >>> 22) | (v7 << 17) | (v8 << 56);
+    dst[dstOffset + 5] = (v8 >>> 8) | (v9 << 31);
+    dst[dstOffset + 6] = (v9 >>> 33) | (v10 << 6) | (v11 << 45);
+    dst[dstOffset + 7] = (v11 >>> 19) | (v12 << 20) | (v13 << 59);
+    dst[dstOffset + 8] = (v13 >>> 5) | (v14 << 34);
+    dst[dstOffset + 9] = (v14 >>> 30) | (v15 << 9) | (v16 << 48);
+    dst[dstOffset + 10] = (v16 >>> 16) | (v17 << 23) | (v18 << 62);
+    dst[dstOffset + 11] = (v18 >>> 2) | (v19 << 37);
+    dst[dstOffset + 12] = (v19 >>> 27) | (v20 << 12) | (v21 << 51);
+    dst[dstOffset + 13] = (v21 >>> 13) | (v22 << 26);
+    dst[dstOffset + 14] = (v22 >>> 38) | (v23 << 1) | (v24 << 40);
+    dst[dstOffset + 15] = (v24 >>> 24) | (v25 << 15) | (v26 << 54);
+    dst[dstOffset + 16] = (v26 >>> 10) | (v27 << 29);
+    dst[dstOffset + 17] = (v27 >>> 35) | (v28 << 4) | (v29 << 43);
+    dst[dstOffset + 18] = (v29 >>> 21) | (v30 << 18) | (v31 << 57);
+    dst[dstOffset + 19] = (v31 >>> 7) | (v32 << 32);
+    dst[dstOffset + 20] = (v32 >>> 32) | (v33 << 7) | (v34 << 46);
+    dst[dstOffset + 21] = (v34 >>> 18) | (v35 << 21) | (v36 << 60);
+    dst[dstOffset + 22] = (v36 >>> 4) | (v37 << 35);
+    dst[dstOffset + 23] = (v37 >>> 29) | (v38 << 10) | (v39 << 49);
+    dst[dstOffset + 24] = (v39 >>> 15) | (v40 << 24) | (v41 << 63);
+    dst[dstOffset + 25] = (v41 >>> 1) | (v42 << 38);
+    dst[dstOffset + 26] = (v42 >>> 26) | (v43 << 13) | (v44 << 52);
+    dst[dstOffset + 27] = (v44 >>> 12) | (v45 << 27);
+    dst[dstOffset + 28] = (v45 >>> 37) | (v46 << 2) | (v47 << 41);
+    dst[dstOffset + 29] = (v47 >>> 23) | (v48 << 16) | (v49 << 55);
+    dst[dstOffset + 30] = (v49 >>> 9) | (v50 << 30);
+    dst[dstOffset + 31] = (v50 >>> 34) | (v51 << 5) | (v52 << 44);
+    dst[dstOffset + 32] = (v52 >>> 20) | (v53 << 19) | (v54 << 58);
+    dst[dstOffset + 33] = (v54 >>> 6) | (v55 << 33);
+    dst[dstOffset + 34] = (v55 >>> 31) | (v56 << 8) | (v57 << 47);
+    dst[dstOffset + 35] = (v57 >>> 17) | (v58 << 22) | (v59 << 61);
+    dst[dstOffset + 36] = (v59 >>> 3) | (v60 << 36);
+    dst[dstOffset + 37] = (v60 >>> 28) | (v61 << 11) | (v62 << 50);
+    dst[dstOffset + 38] = (v62 >>> 14) | (v63 << 25);
+  }
+
+  private static void pack40(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 40);
+    dst[dstOffset + 1] = (v1 >>> 24) | (v2 << 16) | (v3 << 56);
+    dst[dstOffset + 2] = (v3 >>> 8) | (v4 << 32);
+    dst[dstOffset + 3] = (v4 >>> 32) | (v5 << 8) | (v6 << 48);
+    dst[dstOffset + 4] = (v6 >>> 16) | (v7 << 24);
+    dst[dstOffset + 5] = v8 | (v9 << 40);
+    dst[dstOffset + 6] = (v9 >>> 24) | (v10 << 16) | (v11 << 56);
+    dst[dstOffset + 7] = (v11 >>> 8) | (v12 << 32);
+    dst[dstOffset + 8] = (v12 >>> 32) | (v13 << 8) | (v14 << 48);
+    dst[dstOffset + 9] = (v14 >>> 16) | (v15 << 24);
+    dst[dstOffset + 10] = v16 | (v17 << 40);
+    dst[dstOffset + 11] = (v17 >>> 24) | (v18 << 16) | (v19 << 56);
+    dst[dstOffset + 12] = (v19 >>> 8) | (v20 << 32);
+    dst[dstOffset + 13] = (v20 >>> 32) | (v21 << 8) | (v22 << 48);
+    dst[dstOffset + 14] = (v22 >>> 16) | (v23 << 24);
+    dst[dstOffset + 15] = v24 | (v25 << 40);
+    dst[dstOffset + 16] = (v25 >>> 24) | (v26 << 16) | (v27 << 56);
+    dst[dstOffset + 17] = (v27 >>> 8) | (v28 << 32);
+    dst[dstOffset + 18] = (v28 >>> 32) | (v29 << 8) | (v30 << 48);
+    dst[dstOffset + 19] = (v30 >>> 16) | (v31 << 24);
+    dst[dstOffset + 20] = v32 | (v33 << 40);
+    dst[dstOffset + 21] = (v33 >>> 24) | (v34 << 16) | (v35 << 56);
+    dst[dstOffset + 22] = (v35 >>> 8) | (v36 << 32);
+    dst[dstOffset + 23] = (v36 >>> 32) | (v37 << 8) | (v38 << 48);
+    dst[dstOffset + 24] = (v38 >>> 16) | (v39 << 24);
+    dst[dstOffset + 25] = v40 | (v41 << 40);
+    dst[dstOffset + 26] = (v41 >>> 24) | (v42 << 16) | (v43 << 56);
+    dst[dstOffset + 27] = (v43 >>> 8) | (v44 << 32);
+    dst[dstOffset + 28] = (v44 >>> 32) | (v45 << 8) | (v46 << 48);
+    dst[dstOffset + 29] = (v46 >>> 16) | (v47 << 24);
+    dst[dstOffset + 30] = v48 | (v49 << 40);
+    dst[dstOffset + 31] = (v49 >>> 24) | (v50 << 16) | (v51 << 56);
+    dst[dstOffset + 32] = (v51 >>> 8) | (v52 << 32);
+    dst[dstOffset + 33] = (v52 >>> 32) | (v53 << 8) | (v54 << 48);
+    dst[dstOffset + 34] = (v54 >>> 16) | (v55 << 24);
+    dst[dstOffset + 35] = v56 | (v57 << 40);
+    dst[dstOffset + 36] = (v57 >>> 24) | (v58 << 16) | (v59 << 56);
+    dst[dstOffset + 37] = (v59 >>> 8) | (v60 << 32);
+    dst[dstOffset + 38] = (v60 >>> 32) | (v61 << 8) | (v62 << 48);
+    dst[dstOffset + 39] = (v62 >>> 16) | (v63 << 24);
+  }
+}
@@ -0,0 +1,996 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Unrolled kernels that pack 64 values of widths 41 to 48.
+ *
+ * @see BitPack
+ */
+
+final class BitPack41To48
+{
+  private BitPack41To48()
+  {
+
+  }
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 41 -> pack41(src, srcOffset, dst, dstOffset);
+      case 42 -> pack42(src, srcOffset, dst, dstOffset);
+      case 43 -> pack43(src, srcOffset, dst, dstOffset);
+      case 44 -> pack44(src, srcOffset, dst, dstOffset);
+      case 45 -> pack45(src, srcOffset, dst, dstOffset);
+      case 46 -> pack46(src, srcOffset, dst, dstOffset);
+      case 47 -> pack47(src, srcOffset, dst, dstOffset);
+      case 48 -> pack48(src, srcOffset, dst, dstOffset);
+      default -> throw BitPack.unsupported(bits);
+    }
+  }
+
+  private static void pack41(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 41);
+    dst[dstOffset + 1] = (v1 >>> 23) | (v2 << 18) | (v3 << 59);
+    dst[dstOffset + 2] = (v3 >>> 5) | (v4 << 36);
+    dst[dstOffset + 3] = (v4 >>> 28) | (v5 << 13) | (v6 << 54);
+    dst[dstOffset + 4] = (v6 >>> 10) | (v7 << 31);
+    dst[dstOffset + 5] = (v7 >>> 33) | (v8 << 8) | (v9 << 49);
+    dst[dstOffset + 6] = (v9 >>> 15) | (v10 << 26);
+    dst[dstOffset + 7] = (v10 >>> 38) | (v11 << 3) | (v12 << 44);
+    dst[dstOffset + 8] = (v12 >>> 20) | (v13 << 21) | (v14 << 62);
+    dst[dstOffset + 9] = (v14 >>> 2) | (v15 << 39);
+    dst[dstOffset + 10] = (v15 >>> 25) | (v16 << 16) | (v17 << 57);
+    dst[dstOffset + 11] = (v17 >>> 7) | (v18 << 34);
+    dst[dstOffset + 12] = (v18 >>> 30) | (v19 << 11) | (v20 << 52);
+    dst[dstOffset + 13] = (v20 >>> 12) | (v21 << 29);
+    dst[dstOffset + 14] = (v21 >>> 35) | (v22 << 6) | (v23 << 47);
+    dst[dstOffset + 15] = (v23 >>> 17) | (v24 << 24);
+    dst[dstOffset + 16] = (v24 >>> 40) | (v25 << 1) | (v26 << 42);
+    dst[dstOffset + 17] = (v26 >>> 22) | (v27 << 19) | (v28 << 60);
+    dst[dstOffset + 18] = (v28 >>> 4) | (v29 << 37);
+    dst[dstOffset + 19] = (v29 >>> 27) | (v30 << 14) | (v31 << 55);
+    dst[dstOffset + 20] = (v31 >>> 9) | (v32 << 32);
+    dst[dstOffset + 21] = (v32 >>> 32) | (v33 << 9) | (v34 << 50);
+    dst[dstOffset + 22] = (v34 >>> 14) | (v35 << 27);
+    dst[dstOffset + 23] = (v35 >>> 37) | (v36 << 4) | (v37 << 45);
+    dst[dstOffset + 24] = (v37 >>> 19) | (v38 << 22) | (v39 << 63);
+    dst[dstOffset + 25] = (v39 >>> 1) | (v40 << 40);
+    dst[dstOffset + 26] = (v40 >>> 24) | (v41 << 17) | (v42 << 58);
+    dst[dstOffset + 27] = (v42 >>> 6) | (v43 << 35);
+    dst[dstOffset + 28] = (v43 >>> 29) | (v44 << 12) | (v45 << 53);
+    dst[dstOffset + 29] = (v45 >>> 11) | (v46 << 30);
+    dst[dstOffset + 30] = (v46 >>> 34) | (v47 << 7) | (v48 << 48);
+    dst[dstOffset + 31] = (v48 >>> 16) | (v49 << 25);
+    dst[dstOffset + 32] = (v49 >>> 39) | (v50 << 2) | (v51 << 43);
+    dst[dstOffset + 33] = (v51 >>> 21) | (v52 << 20) | (v53 << 61);
+    dst[dstOffset + 34] = (v53 >>> 3) | (v54 << 38);
+    dst[dstOffset + 35] = (v54 >>> 26) | (v55 << 15) | (v56 << 56);
+    dst[dstOffset + 36] = (v56 >>> 8) | (v57 << 33);
+    dst[dstOffset + 37] = (v57 >>> 31) | (v58 << 10) | (v59 << 51);
+    dst[dstOffset + 38] = (v59 >>> 13) | (v60 << 28);
+    dst[dstOffset + 39] = (v60 >>> 36) | (v61 << 5) | (v62 << 46);
+    dst[dstOffset + 40] = (v62 >>> 18) | (v63 << 23);
+  }
+
+  private static void pack42(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 42);
+    dst[dstOffset + 1] = (v1 >>> 22) | (v2 << 20) | (v3 << 62);
+    dst[dstOffset + 2] = (v3 >>> 2) | (v4 << 40);
+    dst[dstOffset + 3] = (v4 >>> 24) | (v5 << 18) | (v6 << 60);
+    dst[dstOffset + 4] = (v6 >>> 4) | (v7 << 38);
+    dst[dstOffset + 5] = (v7 >>> 26) | (v8 << 16) | (v9 << 58);
+    dst[dstOffset + 6] = (v9 >>> 6) | (v10 << 36);
+    dst[dstOffset + 7] = (v10 >>> 28) | (v11 << 14) | (v12 << 56);
+    dst[dstOffset + 8] = (v12 >>> 8) | (v13 << 34);
+    dst[dstOffset + 9] = (v13 >>> 30) | (v14 << 12) | (v15 << 54);
+    dst[dstOffset + 10] = (v15 >>> 10) | (v16 << 32);
+    dst[dstOffset + 11] = (v16 >>> 32) | (v17 << 10) | (v18 << 52);
+    dst[dstOffset + 12] = (v18 >>> 12) | (v19 << 30);
+    dst[dstOffset + 13] = (v19 >>> 34) | (v20 << 8) | (v21 << 50);
+    dst[dstOffset + 14] = (v21 >>> 14) | (v22 << 28);
+    dst[dstOffset + 15] = (v22 >>> 36) | (v23 << 6) | (v24 << 48);
+    dst[dstOffset + 16] = (v24 >>> 16) | (v25 << 26);
+    dst[dstOffset + 17] = (v25 >>> 38) | (v26 << 4) | (v27 << 46);
+    dst[dstOffset + 18] = (v27 >>> 18) | (v28 << 24);
+    dst[dstOffset + 19] = (v28 >>> 40) | (v29 << 2) | (v30 << 44);
+    dst[dstOffset + 20] = (v30 >>> 20) | (v31 << 22);
+    dst[dstOffset + 21] = v32 | (v33 << 42);
+    dst[dstOffset + 22] = (v33 >>> 22) | (v34 << 20) | (v35 << 62);
+    dst[dstOffset + 23] = (v35 >>> 2) | (v36 << 40);
+    dst[dstOffset + 24] = (v36 >>> 24) | (v37 << 18) | (v38 << 60);
+    dst[dstOffset + 25] = (v38 >>> 4) | (v39 << 38);
+    dst[dstOffset + 26] = (v39 >>> 26) | (v40 << 16) | (v41 << 58);
+    dst[dstOffset + 27] = (v41 >>> 6) | (v42 << 36);
+    dst[dstOffset + 28] = (v42 >>> 28) | (v43 << 14) | (v44 << 56);
+    dst[dstOffset + 29] = (v44 >>> 8) | (v45 << 34);
+    dst[dstOffset + 30] = (v45 >>> 30) | (v46 << 12) | (v47 << 54);
+    dst[dstOffset + 31] = (v47 >>> 10) | (v48 << 32);
+    dst[dstOffset + 32] = (v48 >>> 32) | (v49 << 10) | (v50 << 52);
+    dst[dstOffset + 33] = (v50 >>> 12) | (v51 << 30);
+    dst[dstOffset + 34] = (v51 >>> 34) | (v52 << 8) | (v53 << 50);
+    dst[dstOffset + 35] = (v53 >>> 14) | (v54 << 28);
+    dst[dstOffset + 36] = (v54 >>> 36) | (v55 << 6) | (v56 << 48);
+    dst[dstOffset + 37] = (v56 >>> 16) | (v57 << 26);
+    dst[dstOffset + 38] = (v57 >>> 38) | (v58 << 4) | (v59 << 46);
+    dst[dstOffset + 39] = (v59 >>> 18) | (v60 << 24);
+    dst[dstOffset + 40] = (v60 >>> 40) | (v61 << 2) | (v62 << 44);
+    dst[dstOffset + 41] = (v62 >>> 20) | (v63 << 22);
+  }
+
+  private static void pack43(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 43);
+    dst[dstOffset + 1] = (v1 >>> 21) | (v2 << 22);
+    dst[dstOffset + 2] = (v2 >>> 42) | (v3 << 1) | (v4 << 44);
+    dst[dstOffset + 3] = (v4 >>> 20) | (v5 << 23);
+    dst[dstOffset + 4] = (v5 >>> 41) | (v6 << 2) | (v7 << 45);
+    dst[dstOffset + 5] = (v7 >>> 19) | (v8 << 24);
+    dst[dstOffset + 6] = (v8 >>> 40) | (v9 << 3) | (v10 << 46);
+    dst[dstOffset + 7] = (v10 >>> 18) | (v11 << 25);
+    dst[dstOffset + 8] = (v11 >>> 39) | (v12 << 4) | (v13 << 47);
+    dst[dstOffset + 9] = (v13 >>> 17) | (v14 << 26);
+    dst[dstOffset + 10] = (v14 >>> 38) | (v15 << 5) | (v16 << 48);
+    dst[dstOffset + 11] = (v16 >>> 16) | (v17 << 27);
+    dst[dstOffset + 12] = (v17 >>> 37) | (v18 << 6) | (v19 << 49);
+    dst[dstOffset + 13] = (v19 >>> 15) | (v20 << 28);
+    dst[dstOffset + 14] = (v20 >>> 36) | (v21 << 7) | (v22 << 50);
+    dst[dstOffset + 15] = (v22 >>> 14) | (v23 << 29);
+    dst[dstOffset + 16] = (v23 >>> 35) | (v24 << 8) | (v25 << 51);
+    dst[dstOffset + 17] = (v25 >>> 13) | (v26 << 30);
+    dst[dstOffset + 18] = (v26 >>> 34) | (v27 << 9) | (v28 << 52);
+    dst[dstOffset + 19] = (v28 >>> 12) | (v29 << 31);
+    dst[dstOffset + 20] = (v29 >>> 33) | (v30 << 10) | (v31 << 53);
+    dst[dstOffset + 21] = (v31 >>> 11) | (v32 << 32);
+    dst[dstOffset + 22] = (v32 >>> 32) | (v33 << 11) | (v34 << 54);
+    dst[dstOffset + 23] = (v34 >>> 10) | (v35 << 33);
+    dst[dstOffset + 24] = (v35 >>> 31) | (v36 << 12) | (v37 << 55);
+    dst[dstOffset + 25] = (v37 >>> 9) | (v38 << 34);
+    dst[dstOffset + 26] = (v38 >>> 30) | (v39 << 13) | (v40 << 56);
+    dst[dstOffset + 27] = (v40 >>> 8) | (v41 << 35);
+    dst[dstOffset + 28] = (v41 >>> 29) | (v42 << 14) | (v43 << 57);
+    dst[dstOffset + 29] = (v43 >>> 7) | (v44 << 36);
+    dst[dstOffset + 30] = (v44 >>> 28) | (v45 << 15) | (v46 << 58);
+    dst[dstOffset + 31] = (v46 >>> 6) | (v47 << 37);
+    dst[dstOffset + 32] = (v47 >>> 27) | (v48 << 16) | (v49 << 59);
+    dst[dstOffset + 33] = (v49 >>> 5) | (v50 << 38);
+    dst[dstOffset + 34] = (v50 >>> 26) | (v51 << 17) | (v52 << 60);
+    dst[dstOffset + 35] = (v52 >>> 4) | (v53 << 39);
+    dst[dstOffset + 36] = (v53 >>> 25) | (v54 << 18) | (v55 << 61);
+    dst[dstOffset + 37] = (v55 >>> 3) | (v56 << 40);
+    dst[dstOffset + 38] = (v56 >>> 24) | (v57 << 19) | (v58 << 62);
+    dst[dstOffset + 39] = (v58 >>> 2) | (v59 << 41);
+    dst[dstOffset + 40] = (v59 >>> 23) | (v60 << 20) | (v61 << 63);
+    dst[dstOffset + 41] = (v61 >>> 1) | (v62 << 42);
+    dst[dstOffset + 42] = (v62 >>> 22) | (v63 << 21);
+  }
+
+  private static void pack44(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 44);
+    dst[dstOffset + 1] = (v1 >>> 20) | (v2 << 24);
+    dst[dstOffset + 2] = (v2 >>> 40) | (v3 << 4) | (v4 << 48);
+    dst[dstOffset + 3] = (v4 >>> 16) | (v5 << 28);
+    dst[dstOffset + 4] = (v5 >>> 36) | (v6 << 8) | (v7 << 52);
+    dst[dstOffset + 5] = (v7 >>> 12) | (v8 << 32);
+    dst[dstOffset + 6] = (v8 >>> 32) | (v9 << 12) | (v10 << 56);
+    dst[dstOffset + 7] = (v10 >>> 8) | (v11 << 36);
+    dst[dstOffset + 8] = (v11 >>> 28) | (v12 << 16) | (v13 << 60);
+    dst[dstOffset + 9] = (v13 >>> 4) | (v14 << 40);
+    dst[dstOffset + 10] = (v14 >>> 24) | (v15 << 20);
+    dst[dstOffset + 11] = v16 | (v17 << 44);
+    dst[dstOffset + 12] = (v17 >>> 20) | (v18 << 24);
+    dst[dstOffset + 13] = (v18 >>> 40) | (v19 << 4) | (v20 << 48);
+    dst[dstOffset + 14] = (v20 >>> 16) | (v21 << 28);
+    dst[dstOffset + 15] = (v21 >>> 36) | (v22 << 8) | (v23 << 52);
+    dst[dstOffset + 16] = (v23 >>> 12) | (v24 << 32);
+    dst[dstOffset + 17] = (v24 >>> 32) | (v25 << 12) | (v26 << 56);
+    dst[dstOffset + 18] = (v26 >>> 8) | (v27 << 36);
+    dst[dstOffset + 19] = (v27 >>> 28) | (v28 << 16) | (v29 << 60);
+    dst[dstOffset + 20] = (v29 >>> 4) | (v30 << 40);
+    dst[dstOffset + 21] = (v30 >>> 24) | (v31 << 20);
+    dst[dstOffset + 22] = v32 | (v33 << 44);
+    dst[dstOffset + 23] = (v33 >>> 20) | (v34 << 24);
+    dst[dstOffset + 24] = (v34 >>> 40) | (v35 << 4) | (v36 << 48);
+    dst[dstOffset + 25] = (v36 >>> 16) | (v37 << 28);
+    dst[dstOffset + 26] = (v37 >>> 36) | (v38 << 8) | (v39 << 52);
+    dst[dstOffset + 27] = (v39 >>> 12) | (v40 << 32);
+    dst[dstOffset + 28] = (v40 >>> 32) | (v41 << 12) | (v42 << 56);
+    dst[dstOffset + 29] = (v42 >>> 8) | (v43 << 36);
+    dst[dstOffset + 30] = (v43 >>> 28) | (v44 << 16) | (v45 << 60);
+    dst[dstOffset + 31] = (v45 >>> 4) | (v46 << 40);
+    dst[dstOffset + 32] = (v46 >>> 24) | (v47 << 20);
+    dst[dstOffset + 33] = v48 | (v49 << 44);
+    dst[dstOffset + 34] = (v49 >>> 20) | (v50 << 24);
+    dst[dstOffset + 35] = (v50 >>> 40) | (v51 << 4) | (v52 << 48);
+    dst[dstOffset + 36] = (v52 >>> 16) | (v53 << 28);
+    dst[dstOffset + 37] = (v53 >>> 36) | (v54 << 8) | (v55 << 52);
+    dst[dstOffset + 38] = (v55 >>> 12) | (v56 << 32);
+    dst[dstOffset + 39] = (v56 >>> 32) | (v57 << 12) | (v58 << 56);
+    dst[dstOffset + 40] = (v58 >>> 8) | (v59 << 36);
+    dst[dstOffset + 41] = (v59 >>> 28) | (v60 << 16) | (v61 << 60);
+    dst[dstOffset + 42] = (v61 >>> 4) | (v62 << 40);
+    dst[dstOffset + 43] = (v62 >>> 24) | (v63 << 20);
+  }
+
+  private static void pack45(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 45);
+    dst[dstOffset + 1] = (v1 >>> 19) | (v2 << 26);
+    dst[dstOffset + 2] = (v2 >>> 38) | (v3 << 7) | (v4 << 52);
+    dst[dstOffset + 3] = (v4 >>> 12) | (v5 << 33);
+    dst[dstOffset + 4] = (v5 >>> 31) | (v6 << 14) | (v7 << 59);
+    dst[dstOffset + 5] = (v7 >>> 5) | (v8 << 40);
+    dst[dstOffset + 6] = (v8 >>> 24) | (v9 << 21);
+    dst[dstOffset + 7] = (v9 >>> 43) | (v10 << 2) | (v11 << 47);
+    dst[dstOffset + 8] = (v11 >>> 17) | (v12 << 28);
+    dst[dstOffset + 9] = (v12 >>> 36) | (v13 << 9) | (v14 << 54);
+    dst[dstOffset + 10] = (v14 >>> 10) | (v15 << 35);
+    dst[dstOffset + 11] = (v15 >>> 29) | (v16 << 16) | (v17 << 61);
+    dst[dstOffset + 12] = (v17 >>> 3) | (v18 << 42);
+    dst[dstOffset + 13] = (v18 >>> 22) | (v19 << 23);
+    dst[dstOffset + 14] = (v19 >>> 41) | (v20 << 4) | (v21 << 49);
+    dst[dstOffset + 15] = (v21 >>> 15) | (v22 << 30);
+    dst[dstOffset + 16] = (v22 >>> 34) | (v23 << 11) | (v24 << 56);
+    dst[dstOffset + 17] = (v24 >>> 8) | (v25 << 37);
+    dst[dstOffset + 18] = (v25 >>> 27) | (v26 << 18) | (v27 << 63);
+    dst[dstOffset + 19] = (v27 >>> 1) | (v28 << 44);
+    dst[dstOffset + 20] = (v28 >>> 20) | (v29 << 25);
+    dst[dstOffset + 21] = (v29 >>> 39) | (v30 << 6) | (v31 << 51);
+    dst[dstOffset + 22] = (v31 >>> 13) | (v32 << 32);
+    dst[dstOffset + 23] = (v32 >>> 32) | (v33 << 13) | (v34 << 58);
+    dst[dstOffset + 24] = (v34 >>> 6) | (v35 << 39);
+    dst[dstOffset + 25] = (v35 >>> 25) | (v36 << 20);
+    dst[dstOffset + 26] = (v36 >>> 44) | (v37 << 1) | (v38 << 46);
+    dst[dstOffset + 27] = (v38 >>> 18) | (v39 << 27);
+    dst[dstOffset + 28] = (v39 >>> 37) | (v40 << 8) | (v41 << 53);
+    dst[dstOffset + 29] = (v41 >>> 11) | (v42 << 34);
+    dst[dstOffset + 30] = (v42 >>> 30) | (v43 << 15) | (v44 << 60);
+    dst[dstOffset + 31] = (v44 >>> 4) | (v45 << 41);
+    dst[dstOffset + 32] = (v45 >>> 23) | (v46 << 22);
+    dst[dstOffset + 33] = (v46 >>> 42) | (v47 << 3) | (v48 << 48);
+    dst[dstOffset + 34] = (v48 >>> 16) | (v49 << 29);
+    dst[dstOffset + 35] = (v49 >>> 35) | (v50 << 10) | (v51 << 55);
+    dst[dstOffset + 36] = (v51 >>> 9) | (v52 << 36);
+    dst[dstOffset + 37] = (v52 >>> 28) | (v53 << 17) | (v54 << 62);
+    dst[dstOffset + 38] = (v54 >>> 2) | (v55 << 43);
+    dst[dstOffset + 39] = (v55 >>> 21) | (v56 << 24);
+    dst[dstOffset + 40] = (v56 >>> 40) | (v57 << 5) | (v58 << 50);
+    dst[dstOffset + 41] = (v58 >>> 14) | (v59 << 31);
+    dst[dstOffset + 42] = (v59 >>> 33) | (v60 << 12) | (v61 << 57);
+    dst[dstOffset + 43] = (v61 >>> 7) | (v62 << 38);
+    dst[dstOffset + 44] = (v62 >>> 26) | (v63 << 19);
+  }
+
+  private static void pack46(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 46);
+    dst[dstOffset + 1] = (v1 >>> 18) | (v2 << 28);
+    dst[dstOffset + 2] = (v2 >>> 36) | (v3 << 10) | (v4 << 56);
+    dst[dstOffset + 3] = (v4 >>> 8) | (v5 << 38);
+    dst[dstOffset + 4] = (v5 >>> 26) | (v6 << 20);
+    dst[dstOffset + 5] = (v6 >>> 44) | (v7 << 2) | (v8 << 48);
+    dst[dstOffset + 6] = (v8 >>> 16) | (v9 << 30);
+    dst[dstOffset + 7] = (v9 >>> 34) | (v10 << 12) | (v11 << 58);
+    dst[dstOffset + 8] = (v11 >>> 6) | (v12 << 40);
+    dst[dstOffset + 9] = (v12 >>> 24) | (v13 << 22);
+    dst[dstOffset + 10] = (v13 >>> 42) | (v14 << 4) | (v15 << 50);
+    dst[dstOffset + 11] = (v15 >>> 14) | (v16 << 32);
+    dst[dstOffset + 12] = (v16 >>> 32) | (v17 << 14) | (v18 << 60);
+    dst[dstOffset + 13] = (v18 >>> 4) | (v19 << 42);
+    dst[dstOffset + 14] = (v19 >>> 22) | (v20 << 24);
+    dst[dstOffset + 15] = (v20 >>> 40) | (v21 << 6) | (v22 << 52);
+    dst[dstOffset + 16] = (v22 >>> 12) | (v23 << 34);
+    dst[dstOffset + 17] = (v23 >>> 30) | (v24 << 16) | (v25 << 62);
+    dst[dstOffset + 18] = (v25 >>> 2) | (v26 << 44);
+    dst[dstOffset + 19] = (v26 >>> 20) | (v27 << 26);
+    dst[dstOffset + 20] = (v27 >>> 38) | (v28 << 8) | (v29 << 54);
+    dst[dstOffset + 21] = (v29 >>> 10) | (v30 << 36);
+    dst[dstOffset + 22] = (v30 >>> 28) | (v31 << 18);
+    dst[dstOffset + 23] = v32 | (v33 << 46);
+    dst[dstOffset + 24] = (v33 >>> 18) | (v34 << 28);
+    dst[dstOffset + 25] = (v34 >>> 36) | (v35 << 10) | (v36 << 56);
+    dst[dstOffset + 26] = (v36 >>> 8) | (v37 << 38);
+    dst[dstOffset + 27] = (v37 >>> 26) | (v38 << 20);
+    dst[dstOffset + 28] = (v38 >>> 44) | (v39 << 2) | (v40 << 48);
+    dst[dstOffset + 29] = (v40 >>> 16) | (v41 << 30);
+    dst[dstOffset + 30] = (v41 >>> 34) | (v42 << 12) | (v43 << 58);
+    dst[dstOffset + 31] = (v43 >>> 6) | (v44 << 40);
+    dst[dstOffset + 32] = (v44 >>> 24) | (v45 << 22);
+    dst[dstOffset + 33] = (v45 >>> 42) | (v46 << 4) | (v47 << 50);
+    dst[dstOffset + 34] = (v47 >>> 14) | (v48 << 32);
+    dst[dstOffset + 35] = (v48 >>> 32) | (v49 << 14) | (v50 << 60);
+    dst[dstOffset + 36] = (v50 >>> 4) | (v51 << 42);
+    dst[dstOffset + 37] = (v51 >>> 22) | (v52 << 24);
+    dst[dstOffset + 38] = (v52 >>> 40) | (v53 << 6) | (v54 << 52);
+    dst[dstOffset + 39] = (v54 >>> 12) | (v55 << 34);
+    dst[dstOffset + 40] = (v55 >>> 30) | (v56 << 16) | (v57 << 62);
+    dst[dstOffset + 41] = (v57 >>> 2) | (v58 << 44);
+    dst[dstOffset + 42] = (v58 >>> 20) | (v59 << 26);
+    dst[dstOffset + 43] = (v59 >>> 38) | (v60 << 8) | (v61 << 54);
+    dst[dstOffset + 44] = (v61 >>> 10) | (v62 << 36);
+    dst[dstOffset + 45] = (v62 >>> 28) | (v63 << 18);
+  }
+
+  private static void pack47(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 47);
+    dst[dstOffset + 1] = (v1 >>> 17) | (v2 << 30);
+    dst[dstOffset + 2] = (v2 >>> 34) | (v3 << 13) | (v4 << 60);
+    dst[dstOffset + 3] = (v4 >>> 4) | (v5 << 43);
+    dst[dstOffset + 4] = (v5 >>> 21) | (v6 << 26);
+    dst[dstOffset + 5] = (v6 >>> 38) | (v7 << 9) | (v8 << 56);
+    dst[dstOffset + 6] = (v8 >>> 8) | (v9 << 39);
+    dst[dstOffset + 7] = (v9 >>> 25) | (v10 << 22);
+    dst[dstOffset + 8] = (v10 >>> 42) | (v11 << 5) | (v12 << 52);
+    dst[dstOffset + 9] = (v12 >>> 12) | (v13 << 35);
+    dst[dstOffset + 10] = (v13 >>> 29) | (v14 << 18);
+    dst[dstOffset + 11] = (v14 >>> 46) | (v15 << 1) | (v16 << 48);
+    dst[dstOffset + 12] = (v16 >>> 16) | (v17 << 31);
+    dst[dstOffset + 13] = (v17 >>> 33) | (v18 << 14) | (v19 << 61);
+    dst[dstOffset + 14] = (v19 >>> 3) | (v20 << 44);
+    dst[dstOffset + 15] = (v20 >>> 20) | (v21 << 27);
+    dst[dstOffset + 16] = (v21 >>> 37) | (v22 << 10) | (v23 << 57);
+    dst[dstOffset + 17] = (v23 >>> 7) | (v24 << 40);
+    dst[dstOffset + 18] = (v24 >>> 24) | (v25 << 23);
+    dst[dstOffset + 19] = (v25 >>> 41) | (v26 << 6) | (v27 << 53);
+    dst[dstOffset + 20] = (v27 >>> 11) | (v28 << 36);
+    dst[dstOffset + 21] = (v28 >>> 28) | (v29 << 19);
+    dst[dstOffset + 22] = (v29 >>> 45) | (v30 << 2) | (v31 << 49);
+    dst[dstOffset + 23] = (v31 >>> 15) | (v32 << 32);
+    dst[dstOffset + 24] = (v32 >>> 32) | (v33 << 15) | (v34 << 62);
+    dst[dstOffset + 25] = (v34 >>> 2) | (v35 << 45);
+    dst[dstOffset + 26] = (v35 >>> 19) | (v36 << 28);
+    dst[dstOffset + 27] = (v36 >>> 36) | (v37 << 11) | (v38 << 58);
+    dst[dstOffset + 28] = (v38 >>> 6) | (v39 << 41);
+    dst[dstOffset + 29] = (v39 >>> 23) | (v40 << 24);
+    dst[dstOffset + 30] = (v40 >>> 40) | (v41 << 7) | (v42 << 54);
+    dst[dstOffset + 31] = (v42 >>> 10) | (v43 << 37);
+    dst[dstOffset + 32] = (v43 >>> 27) | (v44 << 20);
+    dst[dstOffset + 33] = (v44 >>> 44) | (v45 << 3) | (v46 << 50);
+    dst[dstOffset + 34] = (v46 >>> 14) | (v47 << 33);
+    dst[dstOffset + 35] = (v47 >>> 31) | (v48 << 16) | (v49 << 63);
+    dst[dstOffset + 36] = (v49 >>> 1) | (v50 << 46);
+    dst[dstOffset + 37] = (v50 >>> 18) | (v51 << 29);
+    dst[dstOffset + 38] = (v51 >>> 35) | (v52 << 12) | (v53 << 59);
+    dst[dstOffset + 39] = (v53 >>> 5) | (v54 << 42);
+    dst[dstOffset + 40] = (v54 >>> 22) | (v55 << 25);
+    dst[dstOffset + 41] = (v55 >>> 39) | (v56 << 8) | (v57 << 55);
+    dst[dstOffset + 42] = (v57 >>> 9) | (v58 << 38);
+    dst[dstOffset + 43] = (v58 >>> 26) | (v59 << 21);
+    dst[dstOffset + 44] = (v59 >>> 43) | (v60 << 4) | (v61 << 51);
+    dst[dstOffset + 45] = (v61 >>> 13) | (v62 << 34);
+    dst[dstOffset + 46] = (v62 >>> 30) | (v63 << 17);
+  }
+
+  private static void pack48(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 48);
+    dst[dstOffset + 1] = (v1 >>> 16) | (v2 << 32);
+    dst[dstOffset + 2] = (v2 >>> 32) | (v3 << 16);
+    dst[dstOffset + 3] = v4 | (v5 << 48);
+    dst[dstOffset + 4] = (v5 >>> 16) | (v6 << 32);
+    dst[dstOffset + 5] = (v6 >>> 32) | (v7 << 16);
+    dst[dstOffset + 6] = v8 | (v9 << 48);
+    dst[dstOffset + 7] = (v9 >>> 16) | (v10 << 32);
+    dst[dstOffset + 8] = (v10 >>> 32) | (v11 << 16);
+    dst[dstOffset + 9] = v12 | (v13 << 48);
+    dst[dstOffset + 10] = (v13 >>> 16) | (v14 << 32);
+    dst[dstOffset + 11] = (v14 >>> 32) | (v15 << 16);
+    dst[dstOffset + 12] = v16 | (v17 << 48);
+    dst[dstOffset + 13] = (v17 >>> 16) | (v18 << 32);
+    dst[dstOffset + 14] = (v18 >>> 32) | (v19 << 16);
+    dst[dstOffset + 15] = v20 | (v21 << 48);
+    dst[dstOffset + 16] = (v21 >>> 16) | (v22 << 32);
+    dst[dstOffset + 17] = (v22 >>> 32) | (v23 << 16);
+    dst[dstOffset + 18] = v24 | (v25 << 48);
+    dst[dstOffset + 19] = (v25 >>> 16) | (v26 << 32);
+    dst[dstOffset + 20] = (v26 >>> 32) | (v27 << 16);
+    dst[dstOffset + 21] = v28 | (v29 << 48);
+    dst[dstOffset + 22] = (v29 >>> 16) | (v30 << 32);
+    dst[dstOffset + 23] = (v30 >>> 32) | (v31 << 16);
+    dst[dstOffset + 24] = v32 | (v33 << 48);
+    dst[dstOffset + 25] = (v33 >>> 16) | (v34 << 32);
+    dst[dstOffset + 26] = (v34 >>> 32) | (v35 << 16);
+    dst[dstOffset + 27] = v36 | (v37 << 48);
+    dst[dstOffset + 28] = (v37 >>> 16) | (v38 << 32);
+    dst[dstOffset + 29] = (v38 >>> 32) | (v39 << 16);
+    dst[dstOffset + 30] = v40 | (v41 << 48);
+    dst[dstOffset + 31] = (v41 >>> 16) | (v42 << 32);
+    dst[dstOffset + 32] = (v42 >>> 32) | (v43 << 16);
+    dst[dstOffset + 33] = v44 | (v45 << 48);
+    dst[dstOffset + 34] = (v45 >>> 16) | (v46 << 32);
+    dst[dstOffset + 35] = (v46 >>> 32) | (v47 << 16);
+    dst[dstOffset + 36] = v48 | (v49 << 48);
+    dst[dstOffset + 37] = (v49 >>> 16) | (v50 << 32);
+    dst[dstOffset + 38] = (v50 >>> 32) | (v51 << 16);
+    dst[dstOffset + 39] = v52 | (v53 << 48);
+    dst[dstOffset + 40] = (v53 >>> 16) | (v54 << 32);
+    dst[dstOffset + 41] = (v54 >>> 32) | (v55 << 16);
+    dst[dstOffset + 42] = v56 | (v57 << 48);
+    dst[dstOffset + 43] = (v57 >>> 16) | (v58 << 32);
+    dst[dstOffset + 44] = (v58 >>> 32) | (v59 << 16);
+    dst[dstOffset + 45] = v60 | (v61 << 48);
+    dst[dstOffset + 46] = (v61 >>> 16) | (v62 << 32);
+    dst[dstOffset + 47] = (v62 >>> 32) | (v63 << 16);
+  }
+}
@@ -0,0 +1,1060 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Unrolled kernels that pack 64 values of widths 49 to 56.
+ *
+ * @see BitPack
+ */
+
+final class BitPack49To56
+{
+  private BitPack49To56()
+  {
+
+  }
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 49 -> pack49(src, srcOffset, dst, dstOffset);
+      case 50 -> pack50(src, srcOffset, dst, dstOffset);
+      case 51 -> pack51(src, srcOffset, dst, dstOffset);
+      case 52 -> pack52(src, srcOffset, dst, dstOffset);
+      case 53 -> pack53(src, srcOffset, dst, dstOffset);
+      case 54 -> pack54(src, srcOffset, dst, dstOffset);
+      case 55 -> pack55(src, srcOffset, dst, dstOffset);
+      case 56 -> pack56(src, srcOffset, dst, dstOffset);
+      default -> throw BitPack.unsupported(bits);
+    }
+  }
+
+  private static void pack49(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 49);
+    dst[dstOffset + 1] = (v1 >>> 15) | (v2 << 34);
+    dst[dstOffset + 2] = (v2 >>> 30) | (v3 << 19);
+    dst[dstOffset + 3] = (v3 >>> 45) | (v4 << 4) | (v5 << 53);
+    dst[dstOffset + 4] = (v5 >>> 11) | (v6 << 38);
+    dst[dstOffset + 5] = (v6 >>> 26) | (v7 << 23);
+    dst[dstOffset + 6] = (v7 >>> 41) | (v8 << 8) | (v9 << 57);
+    dst[dstOffset + 7] = (v9 >>> 7) | (v10 << 42);
+    dst[dstOffset + 8] = (v10 >>> 22) | (v11 << 27);
+    dst[dstOffset + 9] = (v11 >>> 37) | (v12 << 12) | (v13 << 61);
+    dst[dstOffset + 10] = (v13 >>> 3) | (v14 << 46);
+    dst[dstOffset + 11] = (v14 >>> 18) | (v15 << 31);
+    dst[dstOffset + 12] = (v15 >>> 33) | (v16 << 16);
+    dst[dstOffset + 13] = (v16 >>> 48) | (v17 << 1) | (v18 << 50);
+    dst[dstOffset + 14] = (v18 >>> 14) | (v19 << 35);
+    dst[dstOffset + 15] = (v19 >>> 29) | (v20 << 20);
+    dst[dstOffset + 16] = (v20 >>> 44) | (v21 << 5) | (v22 << 54);
+    dst[dstOffset + 17] = (v22 >>> 10) | (v23 << 39);
+    dst[dstOffset + 18] = (v23 >>> 25) | (v24 << 24);
+    dst[dstOffset + 19] = (v24 >>> 40) | (v25 << 9) | (v26 << 58);
+    dst[dstOffset + 20] = (v26 >>> 6) | (v27 << 43);
+    dst[dstOffset + 21] = (v27 >>> 21) | (v28 << 28);
+    dst[dstOffset + 22] = (v28 >>> 36) | (v29 << 13) | (v30 << 62);
+    dst[dstOffset + 23] = (v30 >>> 2) | (v31 << 47);
+    dst[dstOffset + 24] = (v31 >>> 17) | (v32 << 32);
+    dst[dstOffset + 25] = (v32 >>> 32) | (v33 << 17);
+    dst[dstOffset + 26] = (v33 >>> 47) | (v34 << 2) | (v35 << 51);
+    dst[dstOffset + 27] = (v35 >>> 13) | (v36 << 36);
+    dst[dstOffset + 28] = (v36 >>> 28) | (v37 << 21);
+    dst[dstOffset + 29] = (v37 >>> 43) | (v38 << 6) | (v39 << 55);
+    dst[dstOffset + 30] = (v39 >>> 9) | (v40 << 40);
+    dst[dstOffset + 31] = (v40 >>> 24) | (v41 << 25);
+    dst[dstOffset + 32] = (v41 >>> 39) | (v42 << 10) | (v43 << 59);
+    dst[dstOffset + 33] = (v43 >>> 5) | (v44 << 44);
+    dst[dstOffset + 34] = (v44 >>> 20) | (v45 << 29);
+    dst[dstOffset + 35] = (v45 >>> 35) | (v46 << 14) | (v47 << 63);
+    dst[dstOffset + 36] = (v47 >>> 1) | (v48 << 48);
+    dst[dstOffset + 37] = (v48 >>> 16) | (v49 << 33);
+    dst[dstOffset + 38] = (v49 >>> 31) | (v50 << 18);
+    dst[dstOffset + 39] = (v50 >>> 46) | (v51 << 3) | (v52 << 52);
+    dst[dstOffset + 40] = (v52 >>> 12) | (v53 << 37);
+    dst[dstOffset + 41] = (v53 >>> 27) | (v54 << 22);
+    dst[dstOffset + 42] = (v54 >>> 42) | (v55 << 7) | (v56 << 56);
+    dst[dstOffset + 43] = (v56 >>> 8) | (v57 << 41);
+    dst[dstOffset + 44] = (v57 >>> 23) | (v58 << 26);
+    dst[dstOffset + 45] = (v58 >>> 38) | (v59 << 11) | (v60 << 60);
+    dst[dstOffset + 46] = (v60 >>> 4) | (v61 << 45);
+    dst[dstOffset + 47] = (v61 >>> 19) | (v62 << 30);
+    dst[dstOffset + 48] = (v62 >>> 34) | (v63 << 15);
+  }
+
+  private static void pack50(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 50);
+    dst[dstOffset + 1] = (v1 >>> 14) | (v2 << 36);
+    dst[dstOffset + 2] = (v2 >>> 28) | (v3 << 22);
+    dst[dstOffset + 3] = (v3 >>> 42) | (v4 << 8) | (v5 << 58);
+    dst[dstOffset + 4] = (v5 >>> 6) | (v6 << 44);
+    dst[dstOffset + 5] = (v6 >>> 20) | (v7 << 30);
+    dst[dstOffset + 6] = (v7 >>> 34) | (v8 << 16);
+    dst[dstOffset + 7] = (v8 >>> 48) | (v9 << 2) | (v10 << 52);
+    dst[dstOffset + 8] = (v10 >>> 12) | (v11 << 38);
+    dst[dstOffset + 9] = (v11 >>> 26) | (v12 << 24);
+    dst[dstOffset + 10] = (v12 >>> 40) | (v13 << 10) | (v14 << 60);
+    dst[dstOffset + 11] = (v14 >>> 4) | (v15 << 46);
+    dst[dstOffset + 12] = (v15 >>> 18) | (v16 << 32);
+    dst[dstOffset + 13] = (v16 >>> 32) | (v17 << 18);
+    dst[dstOffset + 14] = (v17 >>> 46) | (v18 << 4) | (v19 << 54);
+    dst[dstOffset + 15] = (v19 >>> 10) | (v20 << 40);
+    dst[dstOffset + 16] = (v20 >>> 24) | (v21 << 26);
+    dst[dstOffset + 17] = (v21 >>> 38) | (v22 << 12) | (v23 << 62);
+    dst[dstOffset + 18] = (v23 >>> 2) | (v24 << 48);
+    dst[dstOffset + 19] = (v24 >>> 16) | (v25 << 34);
+    dst[dstOffset + 20] = (v25 >>> 30) | (v26 << 20);
+    dst[dstOffset + 21] = (v26 >>> 44) | (v27 << 6) | (v28 << 56);
+    dst[dstOffset + 22] = (v28 >>> 8) | (v29 << 42);
+    dst[dstOffset + 23] = (v29 >>> 22) | (v30 << 28);
+    dst[dstOffset + 24] = (v30 >>> 36) | (v31 << 14);
+    dst[dstOffset + 25] = v32 | (v33 << 50);
+    dst[dstOffset + 26] = (v33 >>> 14) | (v34 << 36);
+    dst[dstOffset + 27] = (v34 >>> 28) | (v35 << 22);
+    dst[dstOffset + 28] = (v35 >>> 42) | (v36 << 8) | (v37 << 58);
+    dst[dstOffset + 29] = (v37 >>> 6) | (v38 << 44);
+    dst[dstOffset + 30] = (v38 >>> 20) | (v39 << 30);
+    dst[dstOffset + 31] = (v39 >>> 34) | (v40 << 16);
+    dst[dstOffset + 32] = (v40 >>> 48) | (v41 << 2) | (v42 << 52);
+    dst[dstOffset + 33] = (v42 >>> 12) | (v43 << 38);
+    dst[dstOffset + 34] = (v43 >>> 26) | (v44 << 24);
+    dst[dstOffset + 35] = (v44 >>> 40) | (v45 << 10) | (v46 << 60);
+    dst[dstOffset + 36] = (v46 >>> 4) | (v47 << 46);
+    dst[dstOffset + 37] = (v47 >>> 18) | (v48 << 32);
+    dst[dstOffset + 38] = (v48 >>> 32) | (v49 << 18);
+    dst[dstOffset + 39] = (v49 >>> 46) | (v50 << 4) | (v51 << 54);
+    dst[dstOffset + 40] = (v51 >>> 10) | (v52 << 40);
+    dst[dstOffset + 41] = (v52 >>> 24) | (v53 << 26);
+    dst[dstOffset + 42] = (v53 >>> 38) | (v54 << 12) | (v55 << 62);
+    dst[dstOffset + 43] = (v55 >>> 2) | (v56 << 48);
+    dst[dstOffset + 44] = (v56 >>> 16) | (v57 << 34);
+    dst[dstOffset + 45] = (v57 >>> 30) | (v58 << 20);
+    dst[dstOffset + 46] = (v58 >>> 44) | (v59 << 6) | (v60 << 56);
+    dst[dstOffset + 47] = (v60 >>> 8) | (v61 << 42);
+    dst[dstOffset + 48] = (v61 >>> 22) | (v62 << 28);
+    dst[dstOffset + 49] = (v62 >>> 36) | (v63 << 14);
+  }
+
+  private static void pack51(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 51);
+    dst[dstOffset + 1] = (v1 >>> 13) | (v2 << 38);
+    dst[dstOffset + 2] = (v2 >>> 26) | (v3 << 25);
+    dst[dstOffset + 3] = (v3 >>> 39) | (v4 << 12) | (v5 << 63);
+    dst[dstOffset + 4] = (v5 >>> 1) | (v6 << 50);
+    dst[dstOffset + 5] = (v6 >>> 14) | (v7 << 37);
+    dst[dstOffset + 6] = (v7 >>> 27) | (v8 << 24);
+    dst[dstOffset + 7] = (v8 >>> 40) | (v9 << 11) | (v10 << 62);
+    dst[dstOffset + 8] = (v10 >>> 2) | (v11 << 49);
+    dst[dstOffset + 9] = (v11 >>> 15) | (v12 << 36);
+    dst[dstOffset + 10] = (v12 >>> 28) | (v13 << 23);
+    dst[dstOffset + 11] = (v13 >>> 41) | (v14 << 10) | (v15 << 61);
+    dst[dstOffset + 12] = (v15 >>> 3) | (v16 << 48);
+    dst[dstOffset + 13] = (v16 >>> 16) | (v17 << 35);
+    dst[dstOffset + 14] = (v17 >>> 29) | (v18 << 22);
+    dst[dstOffset + 15] = (v18 >>> 42) | (v19 << 9) | (v20 << 60);
+    dst[dstOffset + 16] = (v20 >>> 4) | (v21 << 47);
+    dst[dstOffset + 17] = (v21 >>> 17) | (v22 << 34);
+    dst[dstOffset + 18] = (v22 >>> 30) | (v23 << 21);
+    dst[dstOffset + 19] = (v23 >>> 43) | (v24 << 8) | (v25 << 59);
+    dst[dstOffset + 20] = (v25 >>> 5) | (v26 << 46);
+    dst[dstOffset + 21] = (v26 >>> 18) | (v27 << 33);
+    dst[dstOffset + 22] = (v27 >>> 31) | (v28 << 20);
+    dst[dstOffset + 23] = (v28 >>> 44) | (v29 << 7) | (v30 << 58);
+    dst[dstOffset + 24] = (v30 >>> 6) | (v31 << 45);
+    dst[dstOffset + 25] = (v31 >>> 19) | (v32 << 32);
+    dst[dstOffset + 26] = (v32 >>> 32) | (v33 << 19);
+    dst[dstOffset + 27] = (v33 >>> 45) | (v34 << 6) | (v35 << 57);
+    dst[dstOffset + 28] = (v35 >>> 7) | (v36 << 44);
+    dst[dstOffset + 29] = (v36 >>> 20) | (v37 << 31);
+    dst[dstOffset + 30] = (v37 >>> 33) | (v38 << 18);
+    dst[dstOffset + 31] = (v38 >>> 46) | (v39 << 5) | (v40 << 56);
+    dst[dstOffset + 32] = (v40 >>> 8) | (v41 << 43);
+    dst[dstOffset + 33] = (v41 >>> 21) | (v42 << 30);
+    dst[dstOffset + 34] = (v42 >>> 34) | (v43 << 17);
+    dst[dstOffset + 35] = (v43 >>> 47) | (v44 << 4) | (v45 << 55);
+    dst[dstOffset + 36] = (v45 >>> 9) | (v46 << 42);
+    dst[dstOffset + 37] = (v46 >>> 22) | (v47 << 29);
+    dst[dstOffset + 38] = (v47 >>> 35) | (v48 << 16);
+    dst[dstOffset + 39] = (v48 >>> 48) | (v49 << 3) | (v50 << 54);
+    dst[dstOffset + 40] = (v50 >>> 10) | (v51 << 41);
+    dst[dstOffset + 41] = (v51 >>> 23) | (v52 << 28);
+    dst[dstOffset + 42] = (v52 >>> 36) | (v53 << 15);
+    dst[dstOffset + 43] = (v53 >>> 49) | (v54 << 2) | (v55 << 53);
+    dst[dstOffset + 44] = (v55 >>> 11) | (v56 << 40);
+    dst[dstOffset + 45] = (v56 >>> 24) | (v57 << 27);
+    dst[dstOffset + 46] = (v57 >>> 37) | (v58 << 14);
+    dst[dstOffset + 47] = (v58 >>> 50) | (v59 << 1) | (v60 << 52);
+    dst[dstOffset + 48] = (v60 >>> 12) | (v61 << 39);
+    dst[dstOffset + 49] = (v61 >>> 25) | (v62 << 26);
+    dst[dstOffset + 50] = (v62 >>> 38) | (v63 << 13);
+  }
+
+  private static void pack52(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 52);
+    dst[dstOffset + 1] = (v1 >>> 12) | (v2 << 40);
+    dst[dstOffset + 2] = (v2 >>> 24) | (v3 << 28);
+    dst[dstOffset + 3] = (v3 >>> 36) | (v4 << 16);
+    dst[dstOffset + 4] = (v4 >>> 48) | (v5 << 4) | (v6 << 56);
+    dst[dstOffset + 5] = (v6 >>> 8) | (v7 << 44);
+    dst[dstOffset + 6] = (v7 >>> 20) | (v8 << 32);
+    dst[dstOffset + 7] = (v8 >>> 32) | (v9 << 20);
+    dst[dstOffset + 8] = (v9 >>> 44) | (v10 << 8) | (v11 << 60);
+    dst[dstOffset + 9] = (v11 >>> 4) | (v12 << 48);
+    dst[dstOffset + 10] = (v12 >>> 16) | (v13 << 36);
+    dst[dstOffset + 11] = (v13 >>> 28) | (v14 << 24);
+    dst[dstOffset + 12] = (v14 >>> 40) | (v15 << 12);
+    dst[dstOffset + 13] = v16 | (v17 << 52);
+    dst[dstOffset + 14] = (v17 >>> 12) | (v18 << 40);
+    dst[dstOffset + 15] = (v18 >>> 24) | (v19 << 28);
+    dst[dstOffset + 16] = (v19 >>> 36) | (v20 << 16);
+    dst[dstOffset + 17] = (v20 >>> 48) | (v21 << 4) | (v22 << 56);
+    dst[dstOffset + 18] = (v22 >>> 8) | (v23 << 44);
+    dst[dstOffset + 19] = (v23 >>> 20) | (v24 << 32);
+    dst[dstOffset + 20] = (v24 >>> 32) | (v25 << 20);
+    dst[dstOffset + 21] = (v25 >>> 44) | (v26 << 8) | (v27 << 60);
+    dst[dstOffset + 22] = (v27 >>> 4) | (v28 << 48);
+    dst[dstOffset + 23] = (v28 >>> 16) | (v29 << 36);
+    dst[dstOffset + 24] = (v29 >>> 28) | (v30 << 24);
+    dst[dstOffset + 25] = (v30 >>> 40) | (v31 << 12);
+    dst[dstOffset + 26] = v32 | (v33 << 52);
+    dst[dstOffset + 27] = (v33 >>> 12) | (v34 << 40);
+    dst[dstOffset + 28] = (v34 >>> 24) | (v35 << 28);
+    dst[dstOffset + 29] = (v35 >>> 36) | (v36 << 16);
+    dst[dstOffset + 30] = (v36 >>> 48) | (v37 << 4) | (v38 << 56);
+    dst[dstOffset + 31] = (v38 >>> 8) | (v39 << 44);
+    dst[dstOffset + 32] = (v39 >>> 20) | (v40 << 32);
+    dst[dstOffset + 33] = (v40 >>> 32) | (v41 << 20);
+    dst[dstOffset + 34] = (v41 >>> 44) | (v42 << 8) | (v43 << 60);
+    dst[dstOffset + 35] = (v43 >>> 4) | (v44 << 48);
+    dst[dstOffset + 36] = (v44 >>> 16) | (v45 << 36);
+    dst[dstOffset + 37] = (v45 >>> 28) | (v46 << 24);
+    dst[dstOffset + 38] = (v46 >>> 40) | (v47 << 12);
+    dst[dstOffset + 39] = v48 | (v49 << 52);
+    dst[dstOffset + 40] = (v49 >>> 12) | (v50 << 40);
+    dst[dstOffset + 41] = (v50 >>> 24) | (v51 << 28);
+    dst[dstOffset + 42] = (v51 >>> 36) | (v52 << 16);
+    dst[dstOffset + 43] = (v52 >>> 48) | (v53 << 4) | (v54 << 56);
+    dst[dstOffset + 44] = (v54 >>> 8) | (v55 << 44);
+    dst[dstOffset + 45] = (v55 >>> 20) | (v56 << 32);
+    dst[dstOffset + 46] = (v56 >>> 32) | (v57 << 20);
+    dst[dstOffset + 47] = (v57 >>> 44) | (v58 << 8) | (v59 << 60);
+    dst[dstOffset + 48] = (v59 >>> 4) | (v60 << 48);
+    dst[dstOffset + 49] = (v60 >>> 16) | (v61 << 36);
+    dst[dstOffset + 50] = (v61 >>> 28) | (v62 << 24);
+    dst[dstOffset + 51] = (v62 >>> 40) | (v63 << 12);
+  }
+
+  private static void pack53(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 53);
+    dst[dstOffset + 1] = (v1 >>> 11) | (v2 << 42);
+    dst[dstOffset + 2] = (v2 >>> 22) | (v3 << 31);
+    dst[dstOffset + 3] = (v3 >>> 33) | (v4 << 20);
+    dst[dstOffset + 4] = (v4 >>> 44) | (v5 << 9) | (v6 << 62);
+    dst[dstOffset + 5] = (v6 >>> 2) | (v7 << 51);
+    dst[dstOffset + 6] = (v7 >>> 13) | (v8 << 40);
+    dst[dstOffset + 7] = (v8 >>> 24) | (v9 << 29);
+    dst[dstOffset + 8] = (v9 >>> 35) | (v10 << 18);
+    dst[dstOffset + 9] = (v10 >>> 46) | (v11 << 7) | (v12 << 60);
+    dst[dstOffset + 10] = (v12 >>> 4) | (v13 << 49);
+    dst[dstOffset + 11] = (v13 >>> 15) | (v14 << 38);
+    dst[dstOffset + 12] = (v14 >>> 26) | (v15 << 27);
+    dst[dstOffset + 13] = (v15 >>> 37) | (v16 << 16);
+    dst[dstOffset + 14] = (v16 >>> 48) | (v17 << 5) | (v18 << 58);
+    dst[dstOffset + 15] = (v18 >>> 6) | (v19 << 47);
+    dst[dstOffset + 16] = (v19 >>> 17) | (v20 << 36);
+    dst[dstOffset + 17] = (v20 >>> 28) | (v21 << 25);
+    dst[dstOffset + 18] = (v21 >>> 39) | (v22 << 14);
+    dst[dstOffset + 19] = (v22 >>> 50) | (v23 << 3) | (v24 << 56);
+    dst[dstOffset + 20] = (v24 >>> 8) | (v25 << 45);
+    dst[dstOffset + 21] = (v25 >>> 19) | (v26 << 34);
+    dst[dstOffset + 22] = (v26 >>> 30) | (v27 << 23);
+    dst[dstOffset + 23] = (v27 >>> 41) | (v28 << 12);
+    dst[dstOffset + 24] = (v28 >>> 52) | (v29 << 1) | (v30 << 54);
+    dst[dstOffset + 25] = (v30 >>> 10) | (v31 << 43);
+    dst[dstOffset + 26] = (v31 >>> 21) | (v32 << 32);
+    dst[dstOffset + 27] = (v32 >>> 32) | (v33 << 21);
+    dst[dstOffset + 28] = (v33 >>> 43) | (v34 << 10) | (v35 << 63);
+    dst[dstOffset + 29] = (v35 >>> 1) | (v36 << 52);
+    dst[dstOffset + 30] = (v36 >>> 12) | (v37 << 41);
+    dst[dstOffset + 31] = (v37 >>> 23) | (v38 << 30);
+    dst[dstOffset + 32] = (v38 >>> 34) | (v39 << 19);
+    dst[dstOffset + 33] = (v39 >>> 45) | (v40 << 8) | (v41 << 61);
+    dst[dstOffset + 34] = (v41 >>> 3) | (v42 << 50);
+    dst[dstOffset + 35] = (v42 >>> 14) | (v43 << 39);
+    dst[dstOffset + 36] = (v43 >>> 25) | (v44 << 28);
+    dst[dstOffset + 37] = (v44 >>> 36) | (v45 << 17);
+    dst[dstOffset + 38] = (v45 >>> 47) | (v46 << 6) | (v47 << 59);
+    dst[dstOffset + 39] = (v47 >>> 5) | (v48 << 48);
+    dst[dstOffset + 40] = (v48 >>> 16) | (v49 << 37);
+    dst[dstOffset + 41] = (v49 >>> 27) | (v50 << 26);
+    dst[dstOffset + 42] = (v50 >>> 38) | (v51 << 15);
+    dst[dstOffset + 43] = (v51 >>> 49) | (v52 << 4) | (v53 << 57);
+    dst[dstOffset + 44] = (v53 >>> 7) | (v54 << 46);
+    dst[dstOffset + 45] = (v54 >>> 18) | (v55 << 35);
+    dst[dstOffset + 46] = (v55 >>> 29) | (v56 << 24);
+    dst[dstOffset + 47] = (v56 >>> 40) | (v57 << 13);
+    dst[dstOffset + 48] = (v57 >>> 51) | (v58 << 2) | (v59 << 55);
+    dst[dstOffset + 49] = (v59 >>> 9) | (v60 << 44);
+    dst[dstOffset + 50] = (v60 >>> 20) | (v61 << 33);
+    dst[dstOffset + 51] = (v61 >>> 31) | (v62 << 22);
+    dst[dstOffset + 52] = (v62 >>> 42) | (v63 << 11);
+  }
+
+  private static void pack54(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 54);
+    dst[dstOffset + 1] = (v1 >>> 10) | (v2 << 44);
+    dst[dstOffset + 2] = (v2 >>> 20) | (v3 << 34);
+    dst[dstOffset + 3] = (v3 >>> 30) | (v4 << 24);
+    dst[dstOffset + 4] = (v4 >>> 40) | (v5 << 14);
+    dst[dstOffset + 5] = (v5 >>> 50) | (v6 << 4) | (v7 << 58);
+    dst[dstOffset + 6] = (v7 >>> 6) | (v8 << 48);
+    dst[dstOffset + 7] = (v8 >>> 16) | (v9 << 38);
+    dst[dstOffset + 8] = (v9 >>> 26) | (v10 << 28);
+    dst[dstOffset + 9] = (v10 >>> 36) | (v11 << 18);
+    dst[dstOffset + 10] = (v11 >>> 46) | (v12 << 8) | (v13 << 62);
+    dst[dstOffset + 11] = (v13 >>> 2) | (v14 << 52);
+    dst[dstOffset + 12] = (v14 >>> 12) | (v15 << 42);
+    dst[dstOffset + 13] = (v15 >>> 22) | (v16 << 32);
+    dst[dstOffset + 14] = (v16 >>> 32) | (v17 << 22);
+    dst[dstOffset + 15] = (v17 >>> 42) | (v18 << 12);
+    dst[dstOffset + 16] = (v18 >>> 52) | (v19 << 2) | (v20 << 56);
+    dst[dstOffset + 17] = (v20 >>> 8) | (v21 << 46);
+    dst[dstOffset + 18] = (v21 >>> 18) | (v22 << 36);
+    dst[dstOffset + 19] = (v22 >>> 28) | (v23 << 26);
+    dst[dstOffset + 20] = (v23 >>> 38) | (v24 << 16);
+    dst[dstOffset + 21] = (v24 >>> 48) | (v25 << 6) | (v26 << 60);
+    dst[dstOffset + 22] = (v26 >>> 4) | (v27 << 50);
+    dst[dstOffset + 23] = (v27 >>> 14) | (v28 << 40);
+    dst[dstOffset + 24] = (v28 >>> 24) | (v29 << 30);
+    dst[dstOffset + 25] = (v29 >>> 34) | (v30 << 20);
+    dst[dstOffset + 26] = (v30 >>> 44) | (v31 << 10);
+    dst[dstOffset + 27] = v32 | (v33 << 54);
+    dst[dstOffset + 28] = (v33 >>> 10) | (v34 << 44);
+    dst[dstOffset + 29] = (v34 >>> 20) | (v35 << 34);
+    dst[dstOffset + 30] = (v35 >>> 30) | (v36 << 24);
+    dst[dstOffset + 31] = (v36 >>> 40) | (v37 << 14);
+    dst[dstOffset + 32] = (v37 >>> 50) | (v38 << 4) | (v39 << 58);
+    dst[dstOffset + 33] = (v39 >>> 6) | (v40 << 48);
+    dst[dstOffset + 34] = (v40 >>> 16) | (v41 << 38);
+    dst[dstOffset + 35] = (v41 >>> 26) | (v42 << 28);
+    dst[dstOffset + 36] = (v42 >>> 36) | (v43 << 18);
+    dst[dstOffset + 37] = (v43 >>> 46) | (v44 << 8) | (v45 << 62);
+    dst[dstOffset + 38] = (v45 >>> 2) | (v46 << 52);
+    dst[dstOffset + 39] = (v46 >>> 12) | (v47 << 42);
+    dst[dstOffset + 40] = (v47 >>> 22) | (v48 << 32);
+    dst[dstOffset + 41] = (v48 >>> 32) | (v49 << 22);
+    dst[dstOffset + 42] = (v49 >>> 42) | (v50 << 12);
+    dst[dstOffset + 43] = (v50 >>> 52) | (v51 << 2) | (v52 << 56);
+    dst[dstOffset + 44] = (v52 >>> 8) | (v53 << 46);
+    dst[dstOffset + 45] = (v53 >>> 18) | (v54 << 36);
+    dst[dstOffset + 46] = (v54 >>> 28) | (v55 << 26);
+    dst[dstOffset + 47] = (v55 >>> 38) | (v56 << 16);
+    dst[dstOffset + 48] = (v56 >>> 48) | (v57 << 6) | (v58 << 60);
+    dst[dstOffset + 49] = (v58 >>> 4) | (v59 << 50);
+    dst[dstOffset + 50] = (v59 >>> 14) | (v60 << 40);
+    dst[dstOffset + 51] = (v60 >>> 24) | (v61 << 30);
+    dst[dstOffset + 52] = (v61 >>> 34) | (v62 << 20);
+    dst[dstOffset + 53] = (v62 >>> 44) | (v63 << 10);
+  }
+
+  private static void pack55(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 55);
+    dst[dstOffset + 1] = (v1 >>> 9) | (v2 << 46);
+    dst[dstOffset + 2] = (v2 >>> 18) | (v3 << 37);
+    dst[dstOffset + 3] = (v3 >>> 27) | (v4 << 28);
+    dst[dstOffset + 4] = (v4 >>> 36) | (v5 << 19);
+    dst[dstOffset + 5] = (v5 >>> 45) | (v6 << 10);
+    dst[dstOffset + 6] = (v6 >>> 54) | (v7 << 1) | (v8 << 56);
+    dst[dstOffset + 7] = (v8 >>> 8) | (v9 << 47);
+    dst[dstOffset + 8] = (v9 >>> 17) | (v10 << 38);
+    dst[dstOffset + 9] = (v10 >>> 26) | (v11 << 29);
+    dst[dstOffset + 10] = (v11 >>> 35) | (v12 << 20);
+    dst[dstOffset + 11] = (v12 >>> 44) | (v13 << 11);
+    dst[dstOffset + 12] = (v13 >>> 53) | (v14 << 2) | (v15 << 57);
+    dst[dstOffset + 13] = (v15 >>> 7) | (v16 << 48);
+    dst[dstOffset + 14] = (v16 >>> 16) | (v17 << 39);
+    dst[dstOffset + 15] = (v17 >>> 25) | (v18 << 30);
+    dst[dstOffset + 16] = (v18 >>> 34) | (v19 << 21);
+    dst[dstOffset + 17] = (v19 >>> 43) | (v20 << 12);
+    dst[dstOffset + 18] = (v20 >>> 52) | (v21 << 3) | (v22 << 58);
+    dst[dstOffset + 19] = (v22 >>> 6) | (v23 << 49);
+    dst[dstOffset + 20] = (v23 >>> 15) | (v24 << 40);
+    dst[dstOffset + 21] = (v24 >>> 24) | (v25 << 31);
+    dst[dstOffset + 22] = (v25 >>> 33) | (v26 << 22);
+    dst[dstOffset + 23] = (v26 >>> 42) | (v27 << 13);
+    dst[dstOffset + 24] = (v27 >>> 51) | (v28 << 4) | (v29 << 59);
+    dst[dstOffset + 25] = (v29 >>> 5) | (v30 << 50);
+    dst[dstOffset + 26] = (v30 >>> 14) | (v31 << 41);
+    dst[dstOffset + 27] = (v31 >>> 23) | (v32 << 32);
+    dst[dstOffset + 28] = (v32 >>> 32) | (v33 << 23);
+    dst[dstOffset + 29] = (v33 >>> 41) | (v34 << 14);
+    dst[dstOffset + 30] = (v34 >>> 50) | (v35 << 5) | (v36 << 60);
+    dst[dstOffset + 31] = (v36 >>> 4) | (v37 << 51);
+    dst[dstOffset + 32] = (v37 >>> 13) | (v38 << 42);
+    dst[dstOffset + 33] = (v38 >>> 22) | (v39 << 33);
+    dst[dstOffset + 34] = (v39 >>> 31) | (v40 << 24);
+    dst[dstOffset + 35] = (v40 >>> 40) | (v41 << 15);
+    dst[dstOffset + 36] = (v41 >>> 49) | (v42 << 6) | (v43 << 61);
+    dst[dstOffset + 37] = (v43 >>> 3) | (v44 << 52);
+    dst[dstOffset + 38] = (v44 >>> 12) | (v45 << 43);
+    dst[dstOffset + 39] = (v45 >>> 21) | (v46 << 34);
+    dst[dstOffset + 40] = (v46 >>> 30) | (v47 << 25);
+    dst[dstOffset + 41] = (v47 >>> 39) | (v48 << 16);
+    dst[dstOffset + 42] = (v48 >>> 48) | (v49 << 7) | (v50 << 62);
+    dst[dstOffset + 43] = (v50 >>> 2) | (v51 << 53);
+    dst[dstOffset + 44] = (v51 >>> 11) | (v52 << 44);
+    dst[dstOffset + 45] = (v52 >>> 20) | (v53 << 35);
+    dst[dstOffset + 46] = (v53 >>> 29) | (v54 << 26);
+    dst[dstOffset + 47] = (v54 >>> 38) | (v55 << 17);
+    dst[dstOffset + 48] = (v55 >>> 47) | (v56 << 8) | (v57 << 63);
+    dst[dstOffset + 49] = (v57 >>> 1) | (v58 << 54);
+    dst[dstOffset + 50] = (v58 >>> 10) | (v59 << 45);
+    dst[dstOffset + 51] = (v59 >>> 19) | (v60 << 36);
+    dst[dstOffset + 52] = (v60 >>> 28) | (v61 << 27);
+    dst[dstOffset + 53] = (v61 >>> 37) | (v62 << 18);
+    dst[dstOffset + 54] = (v62 >>> 46) | (v63 << 9);
+  }
+
+  private static void pack56(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 56);
+    dst[dstOffset + 1] = (v1 >>> 8) | (v2 << 48);
+    dst[dstOffset + 2] = (v2 >>> 16) | (v3 << 40);
+    dst[dstOffset + 3] = (v3 >>> 24) | (v4 << 32);
+    dst[dstOffset + 4] = (v4 >>> 32) | (v5 << 24);
+    dst[dstOffset + 5] = (v5 >>> 40) | (v6 << 16);
+    dst[dstOffset + 6] = (v6 >>> 48) | (v7 << 8);
+    dst[dstOffset + 7] = v8 | (v9 << 56);
+    dst[dstOffset + 8] = (v9 >>> 8) | (v10 << 48);
+    dst[dstOffset + 9] = (v10 >>> 16) | (v11 << 40);
+    dst[dstOffset + 10] = (v11 >>> 24) | (v12 << 32);
+    dst[dstOffset + 11] = (v12 >>> 32) | (v13 << 24);
+    dst[dstOffset + 12] = (v13 >>> 40) | (v14 << 16);
+    dst[dstOffset + 13] = (v14 >>> 48) | (v15 << 8);
+    dst[dstOffset + 14] = v16 | (v17 << 56);
+    dst[dstOffset + 15] = (v17 >>> 8) | (v18 << 48);
+    dst[dstOffset + 16] = (v18 >>> 16) | (v19 << 40);
+    dst[dstOffset + 17] = (v19 >>> 24) | (v20 << 32);
+    dst[dstOffset + 18] = (v20 >>> 32) | (v21 << 24);
+    dst[dstOffset + 19] = (v21 >>> 40) | (v22 << 16);
+    dst[dstOffset + 20] = (v22 >>> 48) | (v23 << 8);
+    dst[dstOffset + 21] = v24 | (v25 << 56);
+    dst[dstOffset + 22] = (v25 >>> 8) | (v26 << 48);
+    dst[dstOffset + 23] = (v26 >>> 16) | (v27 << 40);
+    dst[dstOffset + 24] = (v27 >>> 24) | (v28 << 32);
+    dst[dstOffset + 25] = (v28 >>> 32) | (v29 << 24);
+    dst[dstOffset + 26] = (v29 >>> 40) | (v30 << 16);
+    dst[dstOffset + 27] = (v30 >>> 48) | (v31 << 8);
+    dst[dstOffset + 28] = v32 | (v33 << 56);
+    dst[dstOffset + 29] = (v33 >>> 8) | (v34 << 48);
+    dst[dstOffset + 30] = (v34 >>> 16) | (v35 << 40);
+    dst[dstOffset + 31] = (v35 >>> 24) | (v36 << 32);
+    dst[dstOffset + 32] = (v36 >>> 32) | (v37 << 24);
+    dst[dstOffset + 33] = (v37 >>> 40) | (v38 << 16);
+    dst[dstOffset + 34] = (v38 >>> 48) | (v39 << 8);
+    dst[dstOffset + 35] = v40 | (v41 << 56);
+    dst[dstOffset + 36] = (v41 >>> 8) | (v42 << 48);
+    dst[dstOffset + 37] = (v42 >>> 16) | (v43 << 40);
+    dst[dstOffset + 38] = (v43 >>> 24) | (v44 << 32);
+    dst[dstOffset + 39] = (v44 >>> 32) | (v45 << 24);
+    dst[dstOffset + 40] = (v45 >>> 40) | (v46 << 16);
+    dst[dstOffset + 41] = (v46 >>> 48) | (v47 << 8);
+    dst[dstOffset + 42] = v48 | (v49 << 56);
+    dst[dstOffset + 43] = (v49 >>> 8) | (v50 << 48);
+    dst[dstOffset + 44] = (v50 >>> 16) | (v51 << 40);
+    dst[dstOffset + 45] = (v51 >>> 24) | (v52 << 32);
+    dst[dstOffset + 46] = (v52 >>> 32) | (v53 << 24);
+    dst[dstOffset + 47] = (v53 >>> 40) | (v54 << 16);
+    dst[dstOffset + 48] = (v54 >>> 48) | (v55 << 8);
+    dst[dstOffset + 49] = v56 | (v57 << 56);
+    dst[dstOffset + 50] = (v57 >>> 8) | (v58 << 48);
+    dst[dstOffset + 51] = (v58 >>> 16) | (v59 << 40);
+    dst[dstOffset + 52] = (v59 >>> 24) | (v60 << 32);
+    dst[dstOffset + 53] = (v60 >>> 32) | (v61 << 24);
+    dst[dstOffset + 54] = (v61 >>> 40) | (v62 << 16);
+    dst[dstOffset + 55] = (v62 >>> 48) | (v63 << 8);
+  }
+}
@@ -0,0 +1,986 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Unrolled kernels that pack 64 values of widths 57 to 63.
+ *
+ * @see BitPack
+ */
+
+final class BitPack57To63
+{
+  private BitPack57To63()
+  {
+
+  }
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 57 -> pack57(src, srcOffset, dst, dstOffset);
+      case 58 -> pack58(src, srcOffset, dst, dstOffset);
+      case 59 -> pack59(src, srcOffset, dst, dstOffset);
+      case 60 -> pack60(src, srcOffset, dst, dstOffset);
+      case 61 -> pack61(src, srcOffset, dst, dstOffset);
+      case 62 -> pack62(src, srcOffset, dst, dstOffset);
+      case 63 -> pack63(src, srcOffset, dst, dstOffset);
+      default -> throw BitPack.unsupported(bits);
+    }
+  }
+
+  private static void pack57(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 57);
+    dst[dstOffset + 1] = (v1 >>> 7) | (v2 << 50);
+    dst[dstOffset + 2] = (v2 >>> 14) | (v3 << 43);
+    dst[dstOffset + 3] = (v3 >>> 21) | (v4 << 36);
+    dst[dstOffset + 4] = (v4 >>> 28) | (v5 << 29);
+    dst[dstOffset + 5] = (v5 >>> 35) | (v6 << 22);
+    dst[dstOffset + 6] = (v6 >>> 42) | (v7 << 15);
+    dst[dstOffset + 7] = (v7 >>> 49) | (v8 << 8);
+    dst[dstOffset + 8] = (v8 >>> 56) | (v9 << 1) | (v10 << 58);
+    dst[dstOffset + 9] = (v10 >>> 6) | (v11 << 51);
+    dst[dstOffset + 10] = (v11 >>> 13) | (v12 << 44);
+    dst[dstOffset + 11] = (v12 >>> 20) | (v13 << 37);
+    dst[dstOffset + 12] = (v13 >>> 27) | (v14 << 30);
+    dst[dstOffset + 13] = (v14 >>> 34) | (v15 << 23);
+    dst[dstOffset + 14] = (v15 >>> 41) | (v16 << 16);
+    dst[dstOffset + 15] = (v16 >>> 48) | (v17 << 9);
+    dst[dstOffset + 16] = (v17 >>> 55) | (v18 << 2) | (v19 << 59);
+    dst[dstOffset + 17] = (v19 >>> 5) | (v20 << 52);
+    dst[dstOffset + 18] = (v20 >>> 12) | (v21 << 45);
+    dst[dstOffset + 19] = (v21 >>> 19) | (v22 << 38);
+    dst[dstOffset + 20] = (v22 >>> 26) | (v23 << 31);
+    dst[dstOffset + 21] = (v23 >>> 33) | (v24 << 24);
+    dst[dstOffset + 22] = (v24 >>> 40) | (v25 << 17);
+    dst[dstOffset + 23] = (v25 >>> 47) | (v26 << 10);
+    dst[dstOffset + 24] = (v26 >>> 54) | (v27 << 3) | (v28 << 60);
+    dst[dstOffset + 25] = (v28 >>> 4) | (v29 << 53);
+    dst[dstOffset + 26] = (v29 >>> 11) | (v30 << 46);
+    dst[dstOffset + 27] = (v30 >>> 18) | (v31 << 39);
+    dst[dstOffset + 28] = (v31 >>> 25) | (v32 << 32);
+    dst[dstOffset + 29] = (v32 >>> 32) | (v33 << 25);
+    dst[dstOffset + 30] = (v33 >>> 39) | (v34 << 18);
+    dst[dstOffset + 31] = (v34 >>> 46) | (v35 << 11);
+    dst[dstOffset + 32] = (v35 >>> 53) | (v36 << 4) | (v37 << 61);
+    dst[dstOffset + 33] = (v37 >>> 3) | (v38 << 54);
+    dst[dstOffset + 34] = (v38 >>> 10) | (v39 << 47);
+    dst[dstOffset + 35] = (v39 >>> 17) | (v40 << 40);
+    dst[dstOffset + 36] = (v40 >>> 24) | (v41 << 33);
+    dst[dstOffset + 37] = (v41 >>> 31) | (v42 << 26);
+    dst[dstOffset + 38] = (v42 >>> 38) | (v43 << 19);
+    dst[dstOffset + 39] = (v43 >>> 45) | (v44 << 12);
+    dst[dstOffset + 40] = (v44 >>> 52) | (v45 << 5) | (v46 << 62);
+    dst[dstOffset + 41] = (v46 >>> 2) | (v47 << 55);
+    dst[dstOffset + 42] = (v47 >>> 9) | (v48 << 48);
+    dst[dstOffset + 43] = (v48 >>> 16) | (v49 << 41);
+    dst[dstOffset + 44] = (v49 >>> 23) | (v50 << 34);
+    dst[dstOffset + 45] = (v50 >>> 30) | (v51 << 27);
+    dst[dstOffset + 46] = (v51 >>> 37) | (v52 << 20);
+    dst[dstOffset + 47] = (v52 >>> 44) | (v53 << 13);
+    dst[dstOffset + 48] = (v53 >>> 51) | (v54 << 6) | (v55 << 63);
+    dst[dstOffset + 49] = (v55 >>> 1) | (v56 << 56);
+    dst[dstOffset + 50] = (v56 >>> 8) | (v57 << 49);
+    dst[dstOffset + 51] = (v57 >>> 15) | (v58 << 42);
+    dst[dstOffset + 52] = (v58 >>> 22) | (v59 << 35);
+    dst[dstOffset + 53] = (v59 >>> 29) | (v60 << 28);
+    dst[dstOffset + 54] = (v60 >>> 36) | (v61 << 21);
+    dst[dstOffset + 55] = (v61 >>> 43) | (v62 << 14);
+    dst[dstOffset + 56] = (v62 >>> 50) | (v63 << 7);
+  }
+
+  private static void pack58(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 58);
+    dst[dstOffset + 1] = (v1 >>> 6) | (v2 << 52);
+    dst[dstOffset + 2] = (v2 >>> 12) | (v3 << 46);
+    dst[dstOffset + 3] = (v3 >>> 18) | (v4 << 40);
+    dst[dstOffset + 4] = (v4 >>> 24) | (v5 << 34);
+    dst[dstOffset + 5] = (v5 >>> 30) | (v6 << 28);
+    dst[dstOffset + 6] = (v6 >>> 36) | (v7 << 22);
+    dst[dstOffset + 7] = (v7 >>> 42) | (v8 << 16);
+    dst[dstOffset + 8] = (v8 >>> 48) | (v9 << 10);
+    dst[dstOffset + 9] = (v9 >>> 54) | (v10 << 4) | (v11 << 62);
+    dst[dstOffset + 10] = (v11 >>> 2) | (v12 << 56);
+    dst[dstOffset + 11] = (v12 >>> 8) | (v13 << 50);
+    dst[dstOffset + 12] = (v13 >>> 14) | (v14 << 44);
+    dst[dstOffset + 13] = (v14 >>> 20) | (v15 << 38);
+    dst[dstOffset + 14] = (v15 >>> 26) | (v16 << 32);
+    dst[dstOffset + 15] = (v16 >>> 32) | (v17 << 26);
+    dst[dstOffset + 16] = (v17 >>> 38) | (v18 << 20);
+    dst[dstOffset + 17] = (v18 >>> 44) | (v19 << 14);
+    dst[dstOffset + 18] = (v19 >>> 50) | (v20 << 8);
+    dst[dstOffset + 19] = (v20 >>> 56) | (v21 << 2) | (v22 << 60);
+    dst[dstOffset + 20] = (v22 >>> 4) | (v23 << 54);
+    dst[dstOffset + 21] = (v23 >>> 10) | (v24 << 48);
+    dst[dstOffset + 22] = (v24 >>> 16) | (v25 << 42);
+    dst[dstOffset + 23] = (v25 >>> 22) | (v26 << 36);
+    dst[dstOffset + 24] = (v26 >>> 28) | (v27 << 30);
+    dst[dstOffset + 25] = (v27 >>> 34) | (v28 << 24);
+    dst[dstOffset + 26] = (v28 >>> 40) | (v29 << 18);
+    dst[dstOffset + 27] = (v29 >>> 46) | (v30 << 12);
+    dst[dstOffset + 28] = (v30 >>> 52) | (v31 << 6);
+    dst[dstOffset + 29] = v32 | (v33 << 58);
+    dst[dstOffset + 30] = (v33 >>> 6) | (v34 << 52);
+    dst[dstOffset + 31] = (v34 >>> 12) | (v35 << 46);
+    dst[dstOffset + 32] = (v35 >>> 18) | (v36 << 40);
+    dst[dstOffset + 33] = (v36 >>> 24) | (v37 << 34);
+    dst[dstOffset + 34] = (v37 >>> 30) | (v38 << 28);
+    dst[dstOffset + 35] = (v38 >>> 36) | (v39 << 22);
+    dst[dstOffset + 36] = (v39 >>> 42) | (v40 << 16);
+    dst[dstOffset + 37] = (v40 >>> 48) | (v41 << 10);
+    dst[dstOffset + 38] = (v41 >>> 54) | (v42 << 4) | (v43 << 62);
+    dst[dstOffset + 39] = (v43 >>> 2) | (v44 << 56);
+    dst[dstOffset + 40] = (v44 >>> 8) | (v45 << 50);
+    dst[dstOffset + 41] = (v45 >>> 14) | (v46 << 44);
+    dst[dstOffset + 42] = (v46 >>> 20) | (v47 << 38);
+    dst[dstOffset + 43] = (v47 >>> 26) | (v48 << 32);
+    dst[dstOffset + 44] = (v48 >>> 32) | (v49 << 26);
+    dst[dstOffset + 45] = (v49 >>> 38) | (v50 << 20);
+    dst[dstOffset + 46] = (v50 >>> 44) | (v51 << 14);
+    dst[dstOffset + 47] = (v51 >>> 50) | (v52 << 8);
+    dst[dstOffset + 48] = (v52 >>> 56) | (v53 << 2) | (v54 << 60);
+    dst[dstOffset + 49] = (v54 >>> 4) | (v55 << 54);
+    dst[dstOffset + 50] = (v55 >>> 10) | (v56 << 48);
+    dst[dstOffset + 51] = (v56 >>> 16) | (v57 << 42);
+    dst[dstOffset + 52] = (v57 >>> 22) | (v58 << 36);
+    dst[dstOffset + 53] = (v58 >>> 28) | (v59 << 30);
+    dst[dstOffset + 54] = (v59 >>> 34) | (v60 << 24);
+    dst[dstOffset + 55] = (v60 >>> 40) | (v61 << 18);
+    dst[dstOffset + 56] = (v61 >>> 46) | (v62 << 12);
+    dst[dstOffset + 57] = (v62 >>> 52) | (v63 << 6);
+  }
+
+  private static void pack59(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 59);
+    dst[dstOffset + 1] = (v1 >>> 5) | (v2 << 54);
+    dst[dstOffset + 2] = (v2 >>> 10) | (v3 << 49);
+    dst[dstOffset + 3] = (v3 >>> 15) | (v4 << 44);
+    dst[dstOffset + 4] = (v4 >>> 20) | (v5 << 39);
+    dst[dstOffset + 5] = (v5 >>> 25) | (v6 << 34);
+    dst[dstOffset + 6] = (v6 >>> 30) | (v7 << 29);
+    dst[dstOffset + 7] = (v7 >>> 35) | (v8 << 24);
+    dst[dstOffset + 8] = (v8 >>> 40) | (v9 << 19);
+    dst[dstOffset + 9] = (v9 >>> 45) | (v10 << 14);
+    dst[dstOffset + 10] = (v10 >>> 50) | (v11 << 9);
+    dst[dstOffset + 11] = (v11 >>> 55) | (v12 << 4) | (v13 << 63);
+    dst[dstOffset + 12] = (v13 >>> 1) | (v14 << 58);
+    dst[dstOffset + 13] = (v14 >>> 6) | (v15 << 53);
+    dst[dstOffset + 14] = (v15 >>> 11) | (v16 << 48);
+    dst[dstOffset + 15] = (v16 >>> 16) | (v17 << 43);
+    dst[dstOffset + 16] = (v17 >>> 21) | (v18 << 38);
+    dst[dstOffset + 17] = (v18 >>> 26) | (v19 << 33);
+    dst[dstOffset + 18] = (v19 >>> 31) | (v20 << 28);
+    dst[dstOffset + 19] = (v20 >>> 36) | (v21 << 23);
+    dst[dstOffset + 20] = (v21 >>> 41) | (v22 << 18);
+    dst[dstOffset + 21] = (v22 >>> 46) | (v23 << 13);
+    dst[dstOffset + 22] = (v23 >>> 51) | (v24 << 8);
+    dst[dstOffset + 23] = (v24 >>> 56) | (v25 << 3) | (v26 << 62);
+    dst[dstOffset + 24] = (v26 >>> 2) | (v27 << 57);
+    dst[dstOffset + 25] = (v27 >>> 7) | (v28 << 52);
+    dst[dstOffset + 26] = (v28 >>> 12) | (v29 << 47);
+    dst[dstOffset + 27] = (v29 >>> 17) | (v30 << 42);
+    dst[dstOffset + 28] = (v30 >>> 22) | (v31 << 37);
+    dst[dstOffset + 29] = (v31 >>> 27) | (v32 << 32);
+    dst[dstOffset + 30] = (v32 >>> 32) | (v33 << 27);
+    dst[dstOffset + 31] = (v33 >>> 37) | (v34 << 22);
+    dst[dstOffset + 32] = (v34 >>> 42) | (v35 << 17);
+    dst[dstOffset + 33] = (v35 >>> 47) | (v36 << 12);
+    dst[dstOffset + 34] = (v36 >>> 52) | (v37 << 7);
+    dst[dstOffset + 35] = (v37 >>> 57) | (v38 << 2) | (v39 << 61);
+    dst[dstOffset + 36] = (v39 >>> 3) | (v40 << 56);
+    dst[dstOffset + 37] = (v40 >>> 8) | (v41 << 51);
+    dst[dstOffset + 38] = (v41 >>> 13) | (v42 << 46);
+    dst[dstOffset + 39] = (v42 >>> 18) | (v43 << 41);
+    dst[dstOffset + 40] = (v43 >>> 23) | (v44 << 36);
+    dst[dstOffset + 41] = (v44 >>> 28) | (v45 << 31);
+    dst[dstOffset + 42] = (v45 >>> 33) | (v46 << 26);
+    dst[dstOffset + 43] = (v46 >>> 38) | (v47 << 21);
+    dst[dstOffset + 44] = (v47 >>> 43) | (v48 << 16);
+    dst[dstOffset + 45] = (v48 >>> 48) | (v49 << 11);
+    dst[dstOffset + 46] = (v49 >>> 53) | (v50 << 6);
+    dst[dstOffset + 47] = (v50 >>> 58) | (v51 << 1) | (v52 << 60);
+    dst[dstOffset + 48] = (v52 >>> 4) | (v53 << 55);
+    dst[dstOffset + 49] = (v53 >>> 9) | (v54 << 50);
+    dst[dstOffset + 50] = (v54 >>> 14) | (v55 << 45);
+    dst[dstOffset + 51] = (v55 >>> 19) | (v56 << 40);
+    dst[dstOffset + 52] = (v56 >>> 24) | (v57 << 35);
+    dst[dstOffset + 53] = (v57 >>> 29) | (v58 << 30);
+    dst[dstOffset + 54] = (v58 >>> 34) | (v59 << 25);
+    dst[dstOffset + 55] = (v59 >>> 39) | (v60 << 20);
+    dst[dstOffset + 56] = (v60 >>> 44) | (v61 << 15);
+    dst[dstOffset + 57] = (v61 >>> 49) | (v62 << 10);
+    dst[dstOffset + 58] = (v62 >>> 54) | (v63 << 5);
+  }
+
+  private static void pack60(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 60);
+    dst[dstOffset + 1] = (v1 >>> 4) | (v2 << 56);
+    dst[dstOffset + 2] = (v2 >>> 8) | (v3 << 52);
+    dst[dstOffset + 3] = (v3 >>> 12) | (v4 << 48);
+    dst[dstOffset + 4] = (v4 >>> 16) | (v5 << 44);
+    dst[dstOffset + 5] = (v5 >>> 20) | (v6 << 40);
+    dst[dstOffset + 6] = (v6 >>> 24) | (v7 << 36);
+    dst[dstOffset + 7] = (v7 >>> 28) | (v8 << 32);
+    dst[dstOffset + 8] = (v8 >>> 32) | (v9 << 28);
+    dst[dstOffset + 9] = (v9 >>> 36) | (v10 << 24);
+    dst[dstOffset + 10] = (v10 >>> 40) | (v11 << 20);
+    dst[dstOffset + 11] = (v11 >>> 44) | (v12 << 16);
+    dst[dstOffset + 12] = (v12 >>> 48) | (v13 << 12);
+    dst[dstOffset + 13] = (v13 >>> 52) | (v14 << 8);
+    dst[dstOffset + 14] = (v14 >>> 56) | (v15 << 4);
+    dst[dstOffset + 15] = v16 | (v17 << 60);
+    dst[dstOffset + 16] = (v17 >>> 4) | (v18 << 56);
+    dst[dstOffset + 17] = (v18 >>> 8) | (v19 << 52);
+    dst[dstOffset + 18] = (v19 >>> 12) | (v20 << 48);
+    dst[dstOffset + 19] = (v20 >>> 16) | (v21 << 44);
+    dst[dstOffset + 20] = (v21 >>> 20) | (v22 << 40);
+    dst[dstOffset + 21] = (v22 >>> 24) | (v23 << 36);
+    dst[dstOffset + 22] = (v23 >>> 28) | (v24 << 32);
+    dst[dstOffset + 23] = (v24 >>> 32) | (v25 << 28);
+    dst[dstOffset + 24] = (v25 >>> 36) | (v26 << 24);
+    dst[dstOffset + 25] = (v26 >>> 40) | (v27 << 20);
+    dst[dstOffset + 26] = (v27 >>> 44) | (v28 << 16);
+    dst[dstOffset + 27] = (v28 >>> 48) | (v29 << 12);
+    dst[dstOffset + 28] = (v29 >>> 52) | (v30 << 8);
+    dst[dstOffset + 29] = (v30 >>> 56) | (v31 << 4);
+    dst[dstOffset + 30] = v32 | (v33 << 60);
+    dst[dstOffset + 31] = (v33 >>> 4) | (v34 << 56);
+    dst[dstOffset + 32] = (v34 >>> 8) | (v35 << 52);
+    dst[dstOffset + 33] = (v35 >>> 12) | (v36 << 48);
+    dst[dstOffset + 34] = (v36 >>> 16) | (v37 << 44);
+    dst[dstOffset + 35] = (v37 >>> 20) | (v38 << 40);
+    dst[dstOffset + 36] = (v38 >>> 24) | (v39 << 36);
+    dst[dstOffset + 37] = (v39 >>> 28) | (v40 << 32);
+    dst[dstOffset + 38] = (v40 >>> 32) | (v41 << 28);
+    dst[dstOffset + 39] = (v41 >>> 36) | (v42 << 24);
+    dst[dstOffset + 40] = (v42 >>> 40) | (v43 << 20);
+    dst[dstOffset + 41] = (v43 >>> 44) | (v44 << 16);
+    dst[dstOffset + 42] = (v44 >>> 48) | (v45 << 12);
+    dst[dstOffset + 43] = (v45 >>> 52) | (v46 << 8);
+    dst[dstOffset + 44] = (v46 >>> 56) | (v47 << 4);
+    dst[dstOffset + 45] = v48 | (v49 << 60);
+    dst[dstOffset + 46] = (v49 >>> 4) | (v50 << 56);
+    dst[dstOffset + 47] = (v50 >>> 8) | (v51 << 52);
+    dst[dstOffset + 48] = (v51 >>> 12) | (v52 << 48);
+    dst[dstOffset + 49] = (v52 >>> 16) | (v53 << 44);
+    dst[dstOffset + 50] = (v53 >>> 20) | (v54 << 40);
+    dst[dstOffset + 51] = (v54 >>> 24) | (v55 << 36);
+    dst[dstOffset + 52] = (v55 >>> 28) | (v56 << 32);
+    dst[dstOffset + 53] = (v56 >>> 32) | (v57 << 28);
+    dst[dstOffset + 54] = (v57 >>> 36) | (v58 << 24);
+    dst[dstOffset + 55] = (v58 >>> 40) | (v59 << 20);
+    dst[dstOffset + 56] = (v59 >>> 44) | (v60 << 16);
+    dst[dstOffset + 57] = (v60 >>> 48) | (v61 << 12);
+    dst[dstOffset + 58] = (v61 >>> 52) | (v62 << 8);
+    dst[dstOffset + 59] = (v62 >>> 56) | (v63 << 4);
+  }
+
+  private static void pack61(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 61);
+    dst[dstOffset + 1] = (v1 >>> 3) | (v2 << 58);
+    dst[dstOffset + 2] = (v2 >>> 6) | (v3 << 55);
+    dst[dstOffset + 3] = (v3 >>> 9) | (v4 << 52);
+    dst[dstOffset + 4] = (v4 >>> 12) | (v5 << 49);
+    dst[dstOffset + 5] = (v5 >>> 15) | (v6 << 46);
+    dst[dstOffset + 6] = (v6 >>> 18) | (v7 << 43);
+    dst[dstOffset + 7] = (v7 >>> 21) | (v8 << 40);
+    dst[dstOffset + 8] = (v8 >>> 24) | (v9 << 37);
+    dst[dstOffset + 9] = (v9 >>> 27) | (v10 << 34);
+    dst[dstOffset + 10] = (v10 >>> 30) | (v11 << 31);
+    dst[dstOffset + 11] = (v11 >>> 33) | (v12 << 28);
+    dst[dstOffset + 12] = (v12 >>> 36) | (v13 << 25);
+    dst[dstOffset + 13] = (v13 >>> 39) | (v14 << 22);
+    dst[dstOffset + 14] = (v14 >>> 42) | (v15 << 19);
+    dst[dstOffset + 15] = (v15 >>> 45) | (v16 << 16);
+    dst[dstOffset + 16] = (v16 >>> 48) | (v17 << 13);
+    dst[dstOffset + 17] = (v17 >>> 51) | (v18 << 10);
+    dst[dstOffset + 18] = (v18 >>> 54) | (v19 << 7);
+    dst[dstOffset + 19] = (v19 >>> 57) | (v20 << 4);
+    dst[dstOffset + 20] = (v20 >>> 60) | (v21 << 1) | (v22 << 62);
+    dst[dstOffset + 21] = (v22 >>> 2) | (v23 << 59);
+    dst[dstOffset + 22] = (v23 >>> 5) | (v24 << 56);
+    dst[dstOffset + 23] = (v24 >>> 8) | (v25 << 53);
+    dst[dstOffset + 24] = (v25 >>> 11) | (v26 << 50);
+    dst[dstOffset + 25] = (v26 >>> 14) | (v27 << 47);
+    dst[dstOffset + 26] = (v27 >>> 17) | (v28 << 44);
+    dst[dstOffset + 27] = (v28 >>> 20) | (v29 << 41);
+    dst[dstOffset + 28] = (v29 >>> 23) | (v30 << 38);
+    dst[dstOffset + 29] = (v30 >>> 26) | (v31 << 35);
+    dst[dstOffset + 30] = (v31 >>> 29) | (v32 << 32);
+    dst[dstOffset + 31] = (v32 >>> 32) | (v33 << 29);
+    dst[dstOffset + 32] = (v33 >>> 35) | (v34 << 26);
+    dst[dstOffset + 33] = (v34 >>> 38) | (v35 << 23);
+    dst[dstOffset + 34] = (v35 >>> 41) | (v36 << 20);
+    dst[dstOffset + 35] = (v36 >>> 44) | (v37 << 17);
+    dst[dstOffset + 36] = (v37 >>> 47) | (v38 << 14);
+    dst[dstOffset + 37] = (v38 >>> 50) | (v39 << 11);
+    dst[dstOffset + 38] = (v39 >>> 53) | (v40 << 8);
+    dst[dstOffset + 39] = (v40 >>> 56) | (v41 << 5);
+    dst[dstOffset + 40] = (v41 >>> 59) | (v42 << 2) | (v43 << 63);
+    dst[dstOffset + 41] = (v43 >>> 1) | (v44 << 60);
+    dst[dstOffset + 42] = (v44 >>> 4) | (v45 << 57);
+    dst[dstOffset + 43] = (v45 >>> 7) | (v46 << 54);
+    dst[dstOffset + 44] = (v46 >>> 10) | (v47 << 51);
+    dst[dstOffset + 45] = (v47 >>> 13) | (v48 << 48);
+    dst[dstOffset + 46] = (v48 >>> 16) | (v49 << 45);
+    dst[dstOffset + 47] = (v49 >>> 19) | (v50 << 42);
+    dst[dstOffset + 48] = (v50 >>> 22) | (v51 << 39);
+    dst[dstOffset + 49] = (v51 >>> 25) | (v52 << 36);
+    dst[dstOffset + 50] = (v52 >>> 28) | (v53 << 33);
+    dst[dstOffset + 51] = (v53 >>> 31) | (v54 << 30);
+    dst[dstOffset + 52] = (v54 >>> 34) | (v55 << 27);
+    dst[dstOffset + 53] = (v55 >>> 37) | (v56 << 24);
+    dst[dstOffset + 54] = (v56 >>> 40) | (v57 << 21);
+    dst[dstOffset + 55] = (v57 >>> 43) | (v58 << 18);
+    dst[dstOffset + 56] = (v58 >>> 46) | (v59 << 15);
+    dst[dstOffset + 57] = (v59 >>> 49) | (v60 << 12);
+    dst[dstOffset + 58] = (v60 >>> 52) | (v61 << 9);
+    dst[dstOffset + 59] = (v61 >>> 55) | (v62 << 6);
+    dst[dstOffset + 60] = (v62 >>> 58) | (v63 << 3);
+  }
+
+  private static void pack62(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 62);
+    dst[dstOffset + 1] = (v1 >>> 2) | (v2 << 60);
+    dst[dstOffset + 2] = (v2 >>> 4) | (v3 << 58);
+    dst[dstOffset + 3] = (v3 >>> 6) | (v4 << 56);
+    dst[dstOffset + 4] = (v4 >>> 8) | (v5 << 54);
+    dst[dstOffset + 5] = (v5 >>> 10) | (v6 << 52);
+    dst[dstOffset + 6] = (v6 >>> 12) | (v7 << 50);
+    dst[dstOffset + 7] = (v7 >>> 14) | (v8 << 48);
+    dst[dstOffset + 8] = (v8 >>> 16) | (v9 << 46);
+    dst[dstOffset + 9] = (v9 >>> 18) | (v10 << 44);
+    dst[dstOffset + 10] = (v10 >>> 20) | (v11 << 42);
+    dst[dstOffset + 11] = (v11 >>> 22) | (v12 << 40);
+    dst[dstOffset + 12] = (v12 >>> 24) | (v13 << 38);
+    dst[dstOffset + 13] = (v13 >>> 26) | (v14 << 36);
+    dst[dstOffset + 14] = (v14 >>> 28) | (v15 << 34);
+    dst[dstOffset + 15] = (v15 >>> 30) | (v16 << 32);
+    dst[dstOffset + 16] = (v16 >>> 32) | (v17 << 30);
+    dst[dstOffset + 17] = (v17 >>> 34) | (v18 << 28);
+    dst[dstOffset + 18] = (v18 >>> 36) | (v19 << 26);
+    dst[dstOffset + 19] = (v19 >>> 38) | (v20 << 24);
+    dst[dstOffset + 20] = (v20 >>> 40) | (v21 << 22);
+    dst[dstOffset + 21] = (v21 >>> 42) | (v22 << 20);
+    dst[dstOffset + 22] = (v22 >>> 44) | (v23 << 18);
+    dst[dstOffset + 23] = (v23 >>> 46) | (v24 << 16);
+    dst[dstOffset + 24] = (v24 >>> 48) | (v25 << 14);
+    dst[dstOffset + 25] = (v25 >>> 50) | (v26 << 12);
+    dst[dstOffset + 26] = (v26 >>> 52) | (v27 << 10);
+    dst[dstOffset + 27] = (v27 >>> 54) | (v28 << 8);
+    dst[dstOffset + 28] = (v28 >>> 56) | (v29 << 6);
+    dst[dstOffset + 29] = (v29 >>> 58) | (v30 << 4);
+    dst[dstOffset + 30] = (v30 >>> 60) | (v31 << 2);
+    dst[dstOffset + 31] = v32 | (v33 << 62);
+    dst[dstOffset + 32] = (v33 >>> 2) | (v34 << 60);
+    dst[dstOffset + 33] = (v34 >>> 4) | (v35 << 58);
+    dst[dstOffset + 34] = (v35 >>> 6) | (v36 << 56);
+    dst[dstOffset + 35] = (v36 >>> 8) | (v37 << 54);
+    dst[dstOffset + 36] = (v37 >>> 10) | (v38 << 52);
+    dst[dstOffset + 37] = (v38 >>> 12) | (v39 << 50);
+    dst[dstOffset + 38] = (v39 >>> 14) | (v40 << 48);
+    dst[dstOffset + 39] = (v40 >>> 16) | (v41 << 46);
+    dst[dstOffset + 40] = (v41 >>> 18) | (v42 << 44);
+    dst[dstOffset + 41] = (v42 >>> 20) | (v43 << 42);
+    dst[dstOffset + 42] = (v43 >>> 22) | (v44 << 40);
+    dst[dstOffset + 43] = (v44 >>> 24) | (v45 << 38);
+    dst[dstOffset + 44] = (v45 >>> 26) | (v46 << 36);
+    dst[dstOffset + 45] = (v46 >>> 28) | (v47 << 34);
+    dst[dstOffset + 46] = (v47 >>> 30) | (v48 << 32);
+    dst[dstOffset + 47] = (v48 >>> 32) | (v49 << 30);
+    dst[dstOffset + 48] = (v49 >>> 34) | (v50 << 28);
+    dst[dstOffset + 49] = (v50 >>> 36) | (v51 << 26);
+    dst[dstOffset + 50] = (v51 >>> 38) | (v52 << 24);
+    dst[dstOffset + 51] = (v52 >>> 40) | (v53 << 22);
+    dst[dstOffset + 52] = (v53 >>> 42) | (v54 << 20);
+    dst[dstOffset + 53] = (v54 >>> 44) | (v55 << 18);
+    dst[dstOffset + 54] = (v55 >>> 46) | (v56 << 16);
+    dst[dstOffset + 55] = (v56 >>> 48) | (v57 << 14);
+    dst[dstOffset + 56] = (v57 >>> 50) | (v58 << 12);
+    dst[dstOffset + 57] = (v58 >>> 52) | (v59 << 10);
+    dst[dstOffset + 58] = (v59 >>> 54) | (v60 << 8);
+    dst[dstOffset + 59] = (v60 >>> 56) | (v61 << 6);
+    dst[dstOffset + 60] = (v61 >>> 58) | (v62 << 4);
+    dst[dstOffset + 61] = (v62 >>> 60) | (v63 << 2);
+  }
+
+  private static void pack63(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 63);
+    dst[dstOffset + 1] = (v1 >>> 1) | (v2 << 62);
+    dst[dstOffset + 2] = (v2 >>> 2) | (v3 << 61);
+    dst[dstOffset + 3] = (v3 >>> 3) | (v4 << 60);
+    dst[dstOffset + 4] = (v4 >>> 4) | (v5 << 59);
+    dst[dstOffset + 5] = (v5 >>> 5) | (v6 << 58);
+    dst[dstOffset + 6] = (v6 >>> 6) | (v7 << 57);
+    dst[dstOffset + 7] = (v7 >>> 7) | (v8 << 56);
+    dst[dstOffset + 8] = (v8 >>> 8) | (v9 << 55);
+    dst[dstOffset + 9] = (v9 >>> 9) | (v10 << 54);
+    dst[dstOffset + 10] = (v10 >>> 10) | (v11 << 53);
+    dst[dstOffset + 11] = (v11 >>> 11) | (v12 << 52);
+    dst[dstOffset + 12] = (v12 >>> 12) | (v13 << 51);
+    dst[dstOffset + 13] = (v13 >>> 13) | (v14 << 50);
+    dst[dstOffset + 14] = (v14 >>> 14) | (v15 << 49);
+    dst[dstOffset + 15] = (v15 >>> 15) | (v16 << 48);
+    dst[dstOffset + 16] = (v16 >>> 16) | (v17 << 47);
+    dst[dstOffset + 17] = (v17 >>> 17) | (v18 << 46);
+    dst[dstOffset + 18] = (v18 >>> 18) | (v19 << 45);
+    dst[dstOffset + 19] = (v19 >>> 19) | (v20 << 44);
+    dst[dstOffset + 20] = (v20 >>> 20) | (v21 << 43);
+    dst[dstOffset + 21] = (v21 >>> 21) | (v22 << 42);
+    dst[dstOffset + 22] = (v22 >>> 22) | (v23 << 41);
+    dst[dstOffset + 23] = (v23 >>> 23) | (v24 << 40);
+    dst[dstOffset + 24] = (v24 >>> 24) | (v25 << 39);
+    dst[dstOffset + 25] = (v25 >>> 25) | (v26 << 38);
+    dst[dstOffset + 26] = (v26 >>> 26) | (v27 << 37);
+    dst[dstOffset + 27] = (v27 >>> 27) | (v28 << 36);
+    dst[dstOffset + 28] = (v28 >>> 28) | (v29 << 35);
+    dst[dstOffset + 29] = (v29 >>> 29) | (v30 << 34);
+    dst[dstOffset + 30] = (v30 >>> 30) | (v31 << 33);
+    dst[dstOffset + 31] = (v31 >>> 31) | (v32 << 32);
+    dst[dstOffset + 32] = (v32 >>> 32) | (v33 << 31);
+    dst[dstOffset + 33] = (v33 >>> 33) | (v34 << 30);
+    dst[dstOffset + 34] = (v34 >>> 34) | (v35 << 29);
+    dst[dstOffset + 35] = (v35 >>> 35) | (v36 << 28);
+    dst[dstOffset + 36] = (v36 >>> 36) | (v37 << 27);
+    dst[dstOffset + 37] = (v37 >>> 37) | (v38 << 26);
+    dst[dstOffset + 38] = (v38 >>> 38) | (v39 << 25);
+    dst[dstOffset + 39] = (v39 >>> 39) | (v40 << 24);
+    dst[dstOffset + 40] = (v40 >>> 40) | (v41 << 23);
+    dst[dstOffset + 41] = (v41 >>> 41) | (v42 << 22);
+    dst[dstOffset + 42] = (v42 >>> 42) | (v43 << 21);
+    dst[dstOffset + 43] = (v43 >>> 43) | (v44 << 20);
+    dst[dstOffset + 44] = (v44 >>> 44) | (v45 << 19);
+    dst[dstOffset + 45] = (v45 >>> 45) | (v46 << 18);
+    dst[dstOffset + 46] = (v46 >>> 46) | (v47 << 17);
+    dst[dstOffset + 47] = (v47 >>> 47) | (v48 << 16);
+    dst[dstOffset + 48] = (v48 >>> 48) | (v49 << 15);
+    dst[dstOffset + 49] = (v49 >>> 49) | (v50 << 14);
+    dst[dstOffset + 50] = (v50 >>> 50) | (v51 << 13);
+    dst[dstOffset + 51] = (v51 >>> 51) | (v52 << 12);
+    dst[dstOffset + 52] = (v52 >>> 52) | (v53 << 11);
+    dst[dstOffset + 53] = (v53 >>> 53) | (v54 << 10);
+    dst[dstOffset + 54] = (v54 >>> 54) | (v55 << 9);
+    dst[dstOffset + 55] = (v55 >>> 55) | (v56 << 8);
+    dst[dstOffset + 56] = (v56 >>> 56) | (v57 << 7);
+    dst[dstOffset + 57] = (v57 >>> 57) | (v58 << 6);
+    dst[dstOffset + 58] = (v58 >>> 58) | (v59 << 5);
+    dst[dstOffset + 59] = (v59 >>> 59) | (v60 << 4);
+    dst[dstOffset + 60] = (v60 >>> 60) | (v61 << 3);
+    dst[dstOffset + 61] = (v61 >>> 61) | (v62 << 2);
+    dst[dstOffset + 62] = (v62 >>> 62) | (v63 << 1);
+  }
+}
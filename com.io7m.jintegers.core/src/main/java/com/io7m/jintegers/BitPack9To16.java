@@ -0,0 +1,821 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * Unrolled kernels that pack 64 values of widths 9 to 16.
+ *
+ * @see BitPack
+ */
+
+final class BitPack9To16
+{
+  private BitPack9To16()
+  {
+
+  }
+
+  static void pack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 9 -> pack9(src, srcOffset, dst, dstOffset);
+      case 10 -> pack10(src, srcOffset, dst, dstOffset);
+      case 11 -> pack11(src, srcOffset, dst, dstOffset);
+      case 12 -> pack12(src, srcOffset, dst, dstOffset);
+      case 13 -> pack13(src, srcOffset, dst, dstOffset);
+      case 14 -> pack14(src, srcOffset, dst, dstOffset);
+      case 15 -> pack15(src, srcOffset, dst, dstOffset);
+      case 16 -> pack16(src, srcOffset, dst, dstOffset);
+      default -> throw BitPack.unsupported(bits);
+    }
+  }
+
+  private static void pack9(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 9) | (v2 << 18) | (v3 << 27) | (v4 << 36)
+      | (v5 << 45) | (v6 << 54) | (v7 << 63);
+    dst[dstOffset + 1] = (v7 >>> 1) | (v8 << 8) | (v9 << 17) | (v10 << 26)
+      | (v11 << 35) | (v12 << 44) | (v13 << 53) | (v14 << 62);
+    dst[dstOffset + 2] = (v14 >>> 2) | (v15 << 7) | (v16 << 16) | (v17 << 25)
+      | (v18 << 34) | (v19 << 43) | (v20 << 52) | (v21 << 61);
+    dst[dstOffset + 3] = (v21 >>> 3) | (v22 << 6) | (v23 << 15) | (v24 << 24)
+      | (v25 << 33) | (v26 << 42) | (v27 << 51) | (v28 << 60);
+    dst[dstOffset + 4] = (v28 >>> 4) | (v29 << 5) | (v30 << 14) | (v31 << 23)
+      | (v32 << 32) | (v33 << 41) | (v34 << 50) | (v35 << 59);
+    dst[dstOffset + 5] = (v35 >>> 5) | (v36 << 4) | (v37 << 13) | (v38 << 22)
+      | (v39 << 31) | (v40 << 40) | (v41 << 49) | (v42 << 58);
+    dst[dstOffset + 6] = (v42 >>> 6) | (v43 << 3) | (v44 << 12) | (v45 << 21)
+      | (v46 << 30) | (v47 << 39) | (v48 << 48) | (v49 << 57);
+    dst[dstOffset + 7] = (v49 >>> 7) | (v50 << 2) | (v51 << 11) | (v52 << 20)
+      | (v53 << 29) | (v54 << 38) | (v55 << 47) | (v56 << 56);
+    dst[dstOffset + 8] = (v56 >>> 8) | (v57 << 1) | (v58 << 10) | (v59 << 19)
+      | (v60 << 28) | (v61 << 37) | (v62 << 46) | (v63 << 55);
+  }
+
+  private static void pack10(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 10) | (v2 << 20) | (v3 << 30) | (v4 << 40)
+      | (v5 << 50) | (v6 << 60);
+    dst[dstOffset + 1] = (v6 >>> 4) | (v7 << 6) | (v8 << 16) | (v9 << 26)
+      | (v10 << 36) | (v11 << 46) | (v12 << 56);
+    dst[dstOffset + 2] = (v12 >>> 8) | (v13 << 2) | (v14 << 12) | (v15 << 22)
+      | (v16 << 32) | (v17 << 42) | (v18 << 52) | (v19 << 62);
+    dst[dstOffset + 3] = (v19 >>> 2) | (v20 << 8) | (v21 << 18) | (v22 << 28)
+      | (v23 << 38) | (v24 << 48) | (v25 << 58);
+    dst[dstOffset + 4] = (v25 >>> 6) | (v26 << 4) | (v27 << 14) | (v28 << 24)
+      | (v29 << 34) | (v30 << 44) | (v31 << 54);
+    dst[dstOffset + 5] = v32 | (v33 << 10) | (v34 << 20) | (v35 << 30)
+      | (v36 << 40) | (v37 << 50) | (v38 << 60);
+    dst[dstOffset + 6] = (v38 >>> 4) | (v39 << 6) | (v40 << 16) | (v41 << 26)
+      | (v42 << 36) | (v43 << 46) | (v44 << 56);
+    dst[dstOffset + 7] = (v44 >>> 8) | (v45 << 2) | (v46 << 12) | (v47 << 22)
+      | (v48 << 32) | (v49 << 42) | (v50 << 52) | (v51 << 62);
+    dst[dstOffset + 8] = (v51 >>> 2) | (v52 << 8) | (v53 << 18) | (v54 << 28)
+      | (v55 << 38) | (v56 << 48) | (v57 << 58);
+    dst[dstOffset + 9] = (v57 >>> 6) | (v58 << 4) | (v59 << 14) | (v60 << 24)
+      | (v61 << 34) | (v62 << 44) | (v63 << 54);
+  }
+
+  private static void pack11(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 11) | (v2 << 22) | (v3 << 33) | (v4 << 44)
+      | (v5 << 55);
+    dst[dstOffset + 1] = (v5 >>> 9) | (v6 << 2) | (v7 << 13) | (v8 << 24)
+      | (v9 << 35) | (v10 << 46) | (v11 << 57);
+    dst[dstOffset + 2] = (v11 >>> 7) | (v12 << 4) | (v13 << 15) | (v14 << 26)
+      | (v15 << 37) | (v16 << 48) | (v17 << 59);
+    dst[dstOffset + 3] = (v17 >>> 5) | (v18 << 6) | (v19 << 17) | (v20 << 28)
+      | (v21 << 39) | (v22 << 50) | (v23 << 61);
+    dst[dstOffset + 4] = (v23 >>> 3) | (v24 << 8) | (v25 << 19) | (v26 << 30)
+      | (v27 << 41) | (v28 << 52) | (v29 << 63);
+    dst[dstOffset + 5] = (v29 >>> 1) | (v30 << 10) | (v31 << 21) | (v32 << 32)
+      | (v33 << 43) | (v34 << 54);
+    dst[dstOffset + 6] = (v34 >>> 10) | (v35 << 1) | (v36 << 12) | (v37 << 23)
+      | (v38 << 34) | (v39 << 45) | (v40 << 56);
+    dst[dstOffset + 7] = (v40 >>> 8) | (v41 << 3) | (v42 << 14) | (v43 << 25)
+      | (v44 << 36) | (v45 << 47) | (v46 << 58);
+    dst[dstOffset + 8] = (v46 >>> 6) | (v47 << 5) | (v48 << 16) | (v49 << 27)
+      | (v50 << 38) | (v51 << 49) | (v52 << 60);
+    dst[dstOffset + 9] = (v52 >>> 4) | (v53 << 7) | (v54 << 18) | (v55 << 29)
+      | (v56 << 40) | (v57 << 51) | (v58 << 62);
+    dst[dstOffset + 10] = (v58 >>> 2) | (v59 << 9) | (v60 << 20) | (v61 << 31)
+      | (v62 << 42) | (v63 << 53);
+  }
+
+  private static void pack12(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 12) | (v2 << 24) | (v3 << 36) | (v4 << 48)
+      | (v5 << 60);
+    dst[dstOffset + 1] = (v5 >>> 4) | (v6 << 8) | (v7 << 20) | (v8 << 32)
+      | (v9 << 44) | (v10 << 56);
+    dst[dstOffset + 2] = (v10 >>> 8) | (v11 << 4) | (v12 << 16) | (v13 << 28)
+      | (v14 << 40) | (v15 << 52);
+    dst[dstOffset + 3] = v16 | (v17 << 12) | (v18 << 24) | (v19 << 36)
+      | (v20 << 48) | (v21 << 60);
+    dst[dstOffset + 4] = (v21 >>> 4) | (v22 << 8) | (v23 << 20) | (v24 << 32)
+      | (v25 << 44) | (v26 << 56);
+    dst[dstOffset + 5] = (v26 >>> 8) | (v27 << 4) | (v28 << 16) | (v29 << 28)
+      | (v30 << 40) | (v31 << 52);
+    dst[dstOffset + 6] = v32 | (v33 << 12) | (v34 << 24) | (v35 << 36)
+      | (v36 << 48) | (v37 << 60);
+    dst[dstOffset + 7] = (v37 >>> 4) | (v38 << 8) | (v39 << 20) | (v40 << 32)
+      | (v41 << 44) | (v42 << 56);
+    dst[dstOffset + 8] = (v42 >>> 8) | (v43 << 4) | (v44 << 16) | (v45 << 28)
+      | (v46 << 40) | (v47 << 52);
+    dst[dstOffset + 9] = v48 | (v49 << 12) | (v50 << 24) | (v51 << 36)
+      | (v52 << 48) | (v53 << 60);
+    dst[dstOffset + 10] = (v53 >>> 4) | (v54 << 8) | (v55 << 20) | (v56 << 32)
+      | (v57 << 44) | (v58 << 56);
+    dst[dstOffset + 11] = (v58 >>> 8) | (v59 << 4) | (v60 << 16) | (v61 << 28)
+      | (v62 << 40) | (v63 << 52);
+  }
+
+  private static void pack13(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 13) | (v2 << 26) | (v3 << 39) | (v4 << 52);
+    dst[dstOffset + 1] = (v4 >>> 12) | (v5 << 1) | (v6 << 14) | (v7 << 27)
+      | (v8 << 40) | (v9 << 53);
+    dst[dstOffset + 2] = (v9 >>> 11) | (v10 << 2) | (v11 << 15) | (v12 << 28)
+      | (v13 << 41) | (v14 << 54);
+    dst[dstOffset + 3] = (v14 >>> 10) | (v15 << 3) | (v16 << 16) | (v17 << 29)
+      | (v18 << 42) | (v19 << 55);
+    dst[dstOffset + 4] = (v19 >>> 9) | (v20 << 4) | (v21 << 17) | (v22 << 30)
+      | (v23 << 43) | (v24 << 56);
+    dst[dstOffset + 5] = (v24 >>> 8) | (v25 << 5) | (v26 << 18) | (v27 << 31)
+      | (v28 << 44) | (v29 << 57);
+    dst[dstOffset + 6] = (v29 >>> 7) | (v30 << 6) | (v31 << 19) | (v32 << 32)
+      | (v33 << 45) | (v34 << 58);
+    dst[dstOffset + 7] = (v34 >>> 6) | (v35 << 7) | (v36 << 20) | (v37 << 33)
+      | (v38 << 46) | (v39 << 59);
+    dst[dstOffset + 8] = (v39 >>> 5) | (v40 << 8) | (v41 << 21) | (v42 << 34)
+      | (v43 << 47) | (v44 << 60);
+    dst[dstOffset + 9] = (v44 >>> 4) | (v45 << 9) | (v46 << 22) | (v47 << 35)
+      | (v48 << 48) | (v49 << 61);
+    dst[dstOffset + 10] = (v49 >>> 3) | (v50 << 10) | (v51 << 23) | (v52 << 36)
+      | (v53 << 49) | (v54 << 62);
+    dst[dstOffset + 11] = (v54 >>> 2) | (v55 << 11) | (v56 << 24) | (v57 << 37)
+      | (v58 << 50) | (v59 << 63);
+    dst[dstOffset + 12] = (v59 >>> 1) | (v60 << 12) | (v61 << 25) | (v62 << 38)
+      | (v63 << 51);
+  }
+
+  private static void pack14(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 14) | (v2 << 28) | (v3 << 42) | (v4 << 56);
+    dst[dstOffset + 1] = (v4 >>> 8) | (v5 << 6) | (v6 << 20) | (v7 << 34)
+      | (v8 << 48) | (v9 << 62);
+    dst[dstOffset + 2] = (v9 >>> 2) | (v10 << 12) | (v11 << 26) | (v12 << 40)
+      | (v13 << 54);
+    dst[dstOffset + 3] = (v13 >>> 10) | (v14 << 4) | (v15 << 18) | (v16 << 32)
+      | (v17 << 46) | (v18 << 60);
+    dst[dstOffset + 4] = (v18 >>> 4) | (v19 << 10) | (v20 << 24) | (v21 << 38)
+      | (v22 << 52);
+    dst[dstOffset + 5] = (v22 >>> 12) | (v23 << 2) | (v24 << 16) | (v25 << 30)
+      | (v26 << 44) | (v27 << 58);
+    dst[dstOffset + 6] = (v27 >>> 6) | (v28 << 8) | (v29 << 22) | (v30 << 36)
+      | (v31 << 50);
+    dst[dstOffset + 7] = v32 | (v33 << 14) | (v34 << 28) | (v35 << 42)
+      | (v36 << 56);
+    dst[dstOffset + 8] = (v36 >>> 8) | (v37 << 6) | (v38 << 20) | (v39 << 34)
+      | (v40 << 48) | (v41 << 62);
+    dst[dstOffset + 9] = (v41 >>> 2) | (v42 << 12) | (v43 << 26) | (v44 << 40)
+      | (v45 << 54);
+    dst[dstOffset + 10] = (v45 >>> 10) | (v46 << 4) | (v47 << 18) | (v48 << 32)
+      | (v49 << 46) | (v50 << 60);
+    dst[dstOffset + 11] = (v50 >>> 4) | (v51 << 10) | (v52 << 24) | (v53 << 38)
+      | (v54 << 52);
+    dst[dstOffset + 12] = (v54 >>> 12) | (v55 << 2) | (v56 << 16) | (v57 << 30)
+      | (v58 << 44) | (v59 << 58);
+    dst[dstOffset + 13] = (v59 >>> 6) | (v60 << 8) | (v61 << 22) | (v62 << 36)
+      | (v63 << 50);
+  }
+
+  private static void pack15(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 15) | (v2 << 30) | (v3 << 45) | (v4 << 60);
+    dst[dstOffset + 1] = (v4 >>> 4) | (v5 << 11) | (v6 << 26) | (v7 << 41)
+      | (v8 << 56);
+    dst[dstOffset + 2] = (v8 >>> 8) | (v9 << 7) | (v10 << 22) | (v11 << 37)
+      | (v12 << 52);
+    dst[dstOffset + 3] = (v12 >>> 12) | (v13 << 3) | (v14 << 18) | (v15 << 33)
+      | (v16 << 48) | (v17 << 63);
+    dst[dstOffset + 4] = (v17 >>> 1) | (v18 << 14) | (v19 << 29) | (v20 << 44)
+      | (v21 << 59);
+    dst[dstOffset + 5] = (v21 >>> 5) | (v22 << 10) | (v23 << 25) | (v24 << 40)
+      | (v25 << 55);
+    dst[dstOffset + 6] = (v25 >>> 9) | (v26 << 6) | (v27 << 21) | (v28 << 36)
+      | (v29 << 51);
+    dst[dstOffset + 7] = (v29 >>> 13) | (v30 << 2) | (v31 << 17) | (v32 << 32)
+      | (v33 << 47) | (v34 << 62);
+    dst[dstOffset + 8] = (v34 >>> 2) | (v35 << 13) | (v36 << 28) | (v37 << 43)
+      | (v38 << 58);
+    dst[dstOffset + 9] = (v38 >>> 6) | (v39 << 9) | (v40 << 24) | (v41 << 39)
+      | (v42 << 54);
+    dst[dstOffset + 10] = (v42 >>> 10) | (v43 << 5) | (v44 << 20) | (v45 << 35)
+      | (v46 << 50);
+    dst[dstOffset + 11] = (v46 >>> 14) | (v47 << 1) | (v48 << 16) | (v49 << 31)
+      | (v50 << 46) | (v51 << 61);
+    dst[dstOffset + 12] = (v51 >>> 3) | (v52 << 12) | (v53 << 27) | (v54 << 42)
+      | (v55 << 57);
+    dst[dstOffset + 13] = (v55 >>> 7) | (v56 << 8) | (v57 << 23) | (v58 << 38)
+      | (v59 << 53);
+    dst[dstOffset + 14] = (v59 >>> 11) | (v60 << 4) | (v61 << 19) | (v62 << 34)
+      | (v63 << 49);
+  }
+
+  private static void pack16(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffL;
+    final long v0 = src[srcOffset] & mask;
+    final long v1 = src[srcOffset + 1] & mask;
+    final long v2 = src[srcOffset + 2] & mask;
+    final long v3 = src[srcOffset + 3] & mask;
+    final long v4 = src[srcOffset + 4] & mask;
+    final long v5 = src[srcOffset + 5] & mask;
+    final long v6 = src[srcOffset + 6] & mask;
+    final long v7 = src[srcOffset + 7] & mask;
+    final long v8 = src[srcOffset + 8] & mask;
+    final long v9 = src[srcOffset + 9] & mask;
+    final long v10 = src[srcOffset + 10] & mask;
+    final long v11 = src[srcOffset + 11] & mask;
+    final long v12 = src[srcOffset + 12] & mask;
+    final long v13 = src[srcOffset + 13] & mask;
+    final long v14 = src[srcOffset + 14] & mask;
+    final long v15 = src[srcOffset + 15] & mask;
+    final long v16 = src[srcOffset + 16] & mask;
+    final long v17 = src[srcOffset + 17] & mask;
+    final long v18 = src[srcOffset + 18] & mask;
+    final long v19 = src[srcOffset + 19] & mask;
+    final long v20 = src[srcOffset + 20] & mask;
+    final long v21 = src[srcOffset + 21] & mask;
+    final long v22 = src[srcOffset + 22] & mask;
+    final long v23 = src[srcOffset + 23] & mask;
+    final long v24 = src[srcOffset + 24] & mask;
+    final long v25 = src[srcOffset + 25] & mask;
+    final long v26 = src[srcOffset + 26] & mask;
+    final long v27 = src[srcOffset + 27] & mask;
+    final long v28 = src[srcOffset + 28] & mask;
+    final long v29 = src[srcOffset + 29] & mask;
+    final long v30 = src[srcOffset + 30] & mask;
+    final long v31 = src[srcOffset + 31] & mask;
+    final long v32 = src[srcOffset + 32] & mask;
+    final long v33 = src[srcOffset + 33] & mask;
+    final long v34 = src[srcOffset + 34] & mask;
+    final long v35 = src[srcOffset + 35] & mask;
+    final long v36 = src[srcOffset + 36] & mask;
+    final long v37 = src[srcOffset + 37] & mask;
+    final long v38 = src[srcOffset + 38] & mask;
+    final long v39 = src[srcOffset + 39] & mask;
+    final long v40 = src[srcOffset + 40] & mask;
+    final long v41 = src[srcOffset + 41] & mask;
+    final long v42 = src[srcOffset + 42] & mask;
+    final long v43 = src[srcOffset + 43] & mask;
+    final long v44 = src[srcOffset + 44] & mask;
+    final long v45 = src[srcOffset + 45] & mask;
+    final long v46 = src[srcOffset + 46] & mask;
+    final long v47 = src[srcOffset + 47] & mask;
+    final long v48 = src[srcOffset + 48] & mask;
+    final long v49 = src[srcOffset + 49] & mask;
+    final long v50 = src[srcOffset + 50] & mask;
+    final long v51 = src[srcOffset + 51] & mask;
+    final long v52 = src[srcOffset + 52] & mask;
+    final long v53 = src[srcOffset + 53] & mask;
+    final long v54 = src[srcOffset + 54] & mask;
+    final long v55 = src[srcOffset + 55] & mask;
+    final long v56 = src[srcOffset + 56] & mask;
+    final long v57 = src[srcOffset + 57] & mask;
+    final long v58 = src[srcOffset + 58] & mask;
+    final long v59 = src[srcOffset + 59] & mask;
+    final long v60 = src[srcOffset + 60] & mask;
+    final long v61 = src[srcOffset + 61] & mask;
+    final long v62 = src[srcOffset + 62] & mask;
+    final long v63 = src[srcOffset + 63] & mask;
+    dst[dstOffset] = v0 | (v1 << 16) | (v2 << 32) | (v3 << 48);
+    dst[dstOffset + 1] = v4 | (v5 << 16) | (v6 << 32) | (v7 << 48);
+    dst[dstOffset + 2] = v8 | (v9 << 16) | (v10 << 32) | (v11 << 48);
+    dst[dstOffset + 3] = v12 | (v13 << 16) | (v14 << 32) | (v15 << 48);
+    dst[dstOffset + 4] = v16 | (v17 << 16) | (v18 << 32) | (v19 << 48);
+    dst[dstOffset + 5] = v20 | (v21 << 16) | (v22 << 32) | (v23 << 48);
+    dst[dstOffset + 6] = v24 | (v25 << 16) | (v26 << 32) | (v27 << 48);
+    dst[dstOffset + 7] = v28 | (v29 << 16) | (v30 << 32) | (v31 << 48);
+    dst[dstOffset + 8] = v32 | (v33 << 16) | (v34 << 32) | (v35 << 48);
+    dst[dstOffset + 9] = v36 | (v37 << 16) | (v38 << 32) | (v39 << 48);
+    dst[dstOffset + 10] = v40 | (v41 << 16) | (v42 << 32) | (v43 << 48);
+    dst[dstOffset + 11] = v44 | (v45 << 16) | (v46 << 32) | (v47 << 48);
+    dst[dstOffset + 12] = v48 | (v49 << 16) | (v50 << 32) | (v51 << 48);
+    dst[dstOffset + 13] = v52 | (v53 << 16) | (v54 << 32) | (v55 << 48);
+    dst[dstOffset + 14] = v56 | (v57 << 16) | (v58 << 32) | (v59 << 48);
+    dst[dstOffset + 15] = v60 | (v61 << 16) | (v62 << 32) | (v63 << 48);
+  }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>
+ * Kernels for packing blocks of 64 integers of an arbitrary bit width.
+ * </p>
+ * <p>
+ * A block of 64 values of width {@code b} occupies exactly {@code b}
+ * {@code long} words. Values are packed least significant bit first: value
+ * {@code i} occupies bits {@code [i * b, (i + 1) * b)} of the block, where
+ * bit {@code j} is bit {@code j % 64} of word {@code j / 64}. Blocks are
+ * unpacked and packed by the generated unrolled kernels of
+ * {@link BitUnpack} and {@link BitPack}.
+ * </p>
+ * <p>
+ * The buffer kernels use the same layout for runs of any length, stored as
+ * little-endian words. A run of {@code n} values of width {@code b}
+ * occupies {@link #words(int, int)} words, and the unused bits of the final
+ * word are zero. As the words are little-endian, a run of 8, 16, or 32-bit
+ * values is also a plain sequence of little-endian values of that width,
+ * and those widths are decoded by dedicated kernels. Other widths are
+ * decoded 64 values at a time by the generated unrolled kernels of
+ * {@link BitUnpack}.
+ * </p>
+ */
+
+final class BitPacking
+{
+  /**
+   * The number of values in a block.
+   */
+
+  static final int BLOCK_VALUES = 64;
+
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitPacking()
+  {
+
+  }
+
+  /**
+   * @param bits The bit width in the range {@code [1, 64]}
+   *
+   * @return A mask of the low {@code bits} bits
+   */
+
+  static long mask(
+    final int bits)
+  {
+    return -1L >>> (64 - bits);
+  }
+
+  /**
+   * Unpack a block of 64 values from {@code bits} words with the unrolled
+   * kernels of {@link BitUnpack}.
+   *
+   * @param bits      The bit width in the range {@code [1, 64]}
+   * @param signed    {@code true} if values should be sign-extended
+   * @param src       The packed words
+   * @param srcOffset The offset of the first word
+   * @param dst       The output values
+   * @param dstOffset The offset of the first output value
+   */
+
+  static void unpackBlock(
+    final int bits,
+    final boolean signed,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    if (bits == 64) {
+      System.arraycopy(src, srcOffset, dst, dstOffset, BLOCK_VALUES);
+      return;
+    }
+
+    BitUnpack.unpack64(bits, src, srcOffset, dst, dstOffset);
+    if (signed) {
+      final int shift = 64 - bits;
+      for (int index = 0; index < BLOCK_VALUES; ++index) {
+        final int d = dstOffset + index;
+        dst[d] = (dst[d] << shift) >> shift;
+      }
+    }
+  }
+
+  /**
+   * Pack a block of 64 values into {@code bits} words with the unrolled
+   * kernels of {@link BitPack}. Bits above the low {@code bits} bits of
+   * each value are ignored.
+   *
+   * @param bits      The bit width in the range {@code [1, 64]}
+   * @param src       The input values
+   * @param srcOffset The offset of the first input value
+   * @param dst       The packed words
+   * @param dstOffset The offset of the first word
+   */
+
+  static void packBlock(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    if (bits == 64) {
+      System.arraycopy(src, srcOffset, dst, dstOffset, BLOCK_VALUES);
+      return;
+    }
+
+    BitPack.pack64(bits, src, srcOffset, dst, dstOffset);
+  }
+
+  /**
+   * Read a single value.
+   *
+   * @param bits   The bit width in the range {@code [1, 64]}
+   * @param signed {@code true} if the value should be sign-extended
+   * @param words  The packed words
+   * @param offset The offset of the value in bits
+   *
+   * @return The value
+   */
+
+  static long get(
+    final int bits,
+    final boolean signed,
+    final long[] words,
+    final long offset)
+  {
+    final int word = (int) (offset >>> 6);
+    final int shift = (int) offset & 63;
+
+    long value = words[word] >>> shift;
+    if (shift + bits > 64) {
+      value |= words[word + 1] << (64 - shift);
+    }
+
+    final int extend = 64 - bits;
+    if (signed) {
+      return (value << extend) >> extend;
+    }
+    return (value << extend) >>> extend;
+  }
+
+  /**
+   * Write a single value. Bits above the low {@code bits} bits of the value
+   * are ignored.
+   *
+   * @param bits   The bit width in the range {@code [1, 64]}
+   * @param words  The packed words
+   * @param offset The offset of the value in bits
+   * @param value  The value
+   */
+
+  static void set(
+    final int bits,
+    final long[] words,
+    final long offset,
+    final long value)
+  {
+    final long mask = mask(bits);
+    final long v = value & mask;
+    final int word = (int) (offset >>> 6);
+    final int shift = (int) offset & 63;
+
+    words[word] = (words[word] & ~(mask << shift)) | (v << shift);
+    final int spill = shift + bits - 64;
+    if (spill > 0) {
+      final int low = bits - spill;
+      words[word + 1] = (words[word + 1] & ~(mask >>> low)) | (v >>> low);
+    }
+  }
+
+  /**
+   * @param bits  The bit width in the range {@code [0, 64]}
+   * @param count The number of values
+   *
+   * @return The number of words occupied by {@code count} values
+   */
+
+  static int words(
+    final int bits,
+    final int count)
+  {
+    return (int) (((long) bits * count + 63L) >>> 6);
+  }
+
+  /**
+   * Unpack {@code count} values of width {@code bits} from the words
+   * starting at {@code index}, adding {@code base} to each.
+   *
+   * @param bits      The bit width in the range {@code [0, 64]}
+   * @param src       The buffer
+   * @param index     The index of the first word
+   * @param count     The number of values
+   * @param base      The value added to each unpacked value
+   * @param dst       The output values
+   * @param dstOffset The offset of the first output value
+   */
+
+  static void unpackBuffer(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final int count,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 0 -> {
+        for (int k = 0; k < count; ++k) {
+          dst[dstOffset + k] = base;
+        }
+      }
+      case 8 -> {
+        for (int k = 0; k < count; ++k) {
+          dst[dstOffset + k] = (src.get(index + k) & 0xffL) + base;
+        }
+      }
+      case 16 -> {
+        for (int k = 0; k < count; ++k) {
+          final int x = Signed16Unchecked.unpackFromBufferLittleEndian(
+            src, index + (k << 1));
+          dst[dstOffset + k] = (x & 0xffffL) + base;
+        }
+      }
+      case 32 -> {
+        for (int k = 0; k < count; ++k) {
+          final int x = Signed32Unchecked.unpackFromBufferLittleEndian(
+            src, index + (k << 2));
+          dst[dstOffset + k] = (x & 0xffffffffL) + base;
+        }
+      }
+      case 64 -> {
+        for (int k = 0; k < count; ++k) {
+          final long x = Signed64Unchecked.unpackFromBufferLittleEndian(
+            src, index + (k << 3));
+          dst[dstOffset + k] = x + base;
+        }
+      }
+      default -> {
+        unpackBufferGroups(bits, src, index, count, base, dst, dstOffset);
+      }
+    }
+  }
+
+  /*
+   * Unpack whole groups of 64 values with the unrolled kernels of
+   * BitUnpack, each group occupying exactly {@code bits} words, and then
+   * unpack any remaining values with the generic kernel.
+   */
+
+  private static void unpackBufferGroups(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final int count,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final int groups = count >>> 6;
+    final int groupBytes = bits << 3;
+
+    int word = index;
+    int offset = dstOffset;
+    for (int group = 0; group < groups; ++group) {
+      BitUnpack.unpack64(bits, src, word, base, dst, offset);
+      word += groupBytes;
+      offset += BLOCK_VALUES;
+    }
+
+    final int remaining = count & (BLOCK_VALUES - 1);
+    if (remaining > 0) {
+      unpackBufferAny(bits, src, word, remaining, base, dst, offset);
+    }
+  }
+
+  private static void unpackBufferAny(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final int count,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = mask(bits);
+
+    int next = index;
+    long current = (long) BUFFER_LE.get(src, next);
+    next += 8;
+    int used = 0;
+    for (int k = 0; k < count; ++k) {
+      long value = current >>> used;
+      used += bits;
+      if (used >= 64 && (used > 64 || k + 1 < count)) {
+        used -= 64;
+        current = (long) BUFFER_LE.get(src, next);
+        next += 8;
+        if (used > 0) {
+          value |= current << (bits - used);
+        }
+      }
+      dst[dstOffset + k] = (value & mask) + base;
+    }
+  }
+
+  /**
+   * Pack {@code count} values into words of width {@code bits} starting at
+   * {@code index}, subtracting {@code base} from each. Bits above the low
+   * {@code bits} bits of each difference are ignored.
+   *
+   * @param bits      The bit width in the range {@code [0, 64]}
+   * @param src       The input values
+   * @param srcOffset The offset of the first input value
+   * @param count     The number of values
+   * @param base      The value subtracted from each value
+   * @param dst       The buffer
+   * @param index     The index of the first word
+   */
+
+  static void packBuffer(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final int count,
+    final long base,
+    final ByteBuffer dst,
+    final int index)
+  {
+    if (bits == 0) {
+      return;
+    }
+
+    final long mask = mask(bits);
+
+    int next = index;
+    int used = 0;
+    long accumulator = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long value = (src[srcOffset + k] - base) & mask;
+      accumulator |= value << used;
+      used += bits;
+      if (used >= 64) {
+        BUFFER_LE.set(dst, next, accumulator);
+        next += 8;
+        used -= 64;
+        accumulator = used > 0 ? value >>> (bits - used) : 0L;
+      }
+    }
+    if (used > 0) {
+      BUFFER_LE.set(dst, next, accumulator);
+    }
+  }
+}
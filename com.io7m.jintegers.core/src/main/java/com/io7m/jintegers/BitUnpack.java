@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * Width-specialized kernels that unpack exactly 64 values, occupying
+ * exactly {@code bits} little-endian words. Each kernel loads its words
+ * once and extracts every value with constant shifts and masks.
+ * </p>
+ * <p>
+ * Words are read either from a buffer, in which case {@code base} is added
+ * to each value, or from an array of words. Widths 8, 16, and 32 are plain
+ * little-endian arrays in buffers and have dedicated loops in
+ * {@link BitPacking}.
+ * </p>
+ */
+
+final class BitUnpack
+{
+  private BitUnpack()
+  {
+
+  }
+
+  /**
+   * @param bits The bit width in the range {@code [1, 63]}, excluding 8, 16,
+   *             and 32
+   *
+   * @return {@code true} if a buffer kernel exists for {@code bits}
+   */
+
+  static boolean supports(
+    final int bits)
+  {
+    return bits > 0
+      && bits < 64
+      && bits != 8
+      && bits != 16
+      && bits != 32;
+  }
+
+  /**
+   * Unpack 64 values of width {@code bits} from a buffer.
+   *
+   * @param bits      The bit width, for which {@link #supports(int)} is
+   *                  {@code true}
+   * @param src       The buffer
+   * @param index     The index of the first word
+   * @param base      The value added to each unpacked value
+   * @param dst       The output values
+   * @param dstOffset The offset of the first output value
+   */
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    if (!supports(bits)) {
+      throw unsupported(bits);
+    }
+    switch ((bits - 1) >>> 2) {
+      case 0 -> BitUnpack1To4.unpack64(bits, src, index, base, dst, dstOffset);
+      case 1 -> BitUnpack5To8.unpack64(bits, src, index, base, dst, dstOffset);
+      case 2 -> BitUnpack9To12.unpack64(bits, src, index, base, dst, dstOffset);
+      case 3 ->
+        BitUnpack13To16.unpack64(bits, src, index, base, dst, dstOffset);
+      case 4 ->
+        BitUnpack17To20.unpack64(bits, src, index, base, dst, dstOffset);
+      case 5 ->
+        BitUnpack21To24.unpack64(bits, src, index, base, dst, dstOffset);
+      case 6 ->
+        BitUnpack25To28.unpack64(bits, src, index, base, dst, dstOffset);
+      case 7 ->
+        BitUnpack29To32.unpack64(bits, src, index, base, dst, dstOffset);
+      case 8 ->
+        BitUnpack33To36.unpack64(bits, src, index, base, dst, dstOffset);
+      case 9 ->
+        BitUnpack37To40.unpack64(bits, src, index, base, dst, dstOffset);
+      case 10 ->
+        BitUnpack41To44.unpack64(bits, src, index, base, dst, dstOffset);
+      case 11 ->
+        BitUnpack45To48.unpack64(bits, src, index, base, dst, dstOffset);
+      case 12 ->
+        BitUnpack49To52.unpack64(bits, src, index, base, dst, dstOffset);
+      case 13 ->
+        BitUnpack53To56.unpack64(bits, src, index, base, dst, dstOffset);
+      case 14 ->
+        BitUnpack57To60.unpack64(bits, src, index, base, dst, dstOffset);
+      case 15 ->
+        BitUnpack61To63.unpack64(bits, src, index, base, dst, dstOffset);
+      default -> throw unsupported(bits);
+    }
+  }
+
+  /**
+   * Unpack 64 values of width {@code bits} from an array of words.
+   *
+   * @param bits      The bit width in the range {@code [1, 63]}
+   * @param src       The packed words
+   * @param srcOffset The offset of the first word
+   * @param dst       The output values
+   * @param dstOffset The offset of the first output value
+   */
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch ((bits - 1) >>> 2) {
+      case 0 -> BitUnpack1To4.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 1 -> BitUnpack5To8.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 2 -> BitUnpack9To12.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 3 -> BitUnpack13To16.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 4 -> BitUnpack17To20.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 5 -> BitUnpack21To24.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 6 -> BitUnpack25To28.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 7 -> BitUnpack29To32.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 8 -> BitUnpack33To36.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 9 -> BitUnpack37To40.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 10 -> BitUnpack41To44.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 11 -> BitUnpack45To48.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 12 -> BitUnpack49To52.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 13 -> BitUnpack53To56.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 14 -> BitUnpack57To60.unpack64(bits, src, srcOffset, dst, dstOffset);
+      case 15 -> BitUnpack61To63.unpack64(bits, src, srcOffset, dst, dstOffset);
+      default -> throw unsupported(bits);
+    }
+  }
+
+  static IllegalArgumentException unsupported(
+    final int bits)
+  {
+    return new IllegalArgumentException(
+      String.format(
+        "No unpacking kernel for width %d",
+        Integer.valueOf(bits)));
+  }
+}
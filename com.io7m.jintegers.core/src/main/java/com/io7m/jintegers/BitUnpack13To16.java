@@ -0,0 +1,692 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 13 to 16.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack13To16
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack13To16()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 13 -> unpack13(src, index, base, dst, dstOffset);
+      case 14 -> unpack14(src, index, base, dst, dstOffset);
+      case 15 -> unpack15(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 13 -> unpack13(src, srcOffset, dst, dstOffset);
+      case 14 -> unpack14(src, srcOffset, dst, dstOffset);
+      case 15 -> unpack15(src, srcOffset, dst, dstOffset);
+      case 16 -> unpack16(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack13(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 13) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 26) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 39) & mask) + base;
+    dst[dstOffset + 4] = (((w0 >>> 52) | (w1 << 12)) & mask) + base;
+    dst[dstOffset + 5] = ((w1 >>> 1) & mask) + base;
+    dst[dstOffset + 6] = ((w1 >>> 14) & mask) + base;
+    dst[dstOffset + 7] = ((w1 >>> 27) & mask) + base;
+    dst[dstOffset + 8] = ((w1 >>> 40) & mask) + base;
+    dst[dstOffset + 9] = (((w1 >>> 53) | (w2 << 11)) & mask) + base;
+    dst[dstOffset + 10] = ((w2 >>> 2) & mask) + base;
+    dst[dstOffset + 11] = ((w2 >>> 15) & mask) + base;
+    dst[dstOffset + 12] = ((w2 >>> 28) & mask) + base;
+    dst[dstOffset + 13] = ((w2 >>> 41) & mask) + base;
+    dst[dstOffset + 14] = (((w2 >>> 54) | (w3 << 10)) & mask) + base;
+    dst[dstOffset + 15] = ((w3 >>> 3) & mask) + base;
+    dst[dstOffset + 16] = ((w3 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = ((w3 >>> 29) & mask) + base;
+    dst[dstOffset + 18] = ((w3 >>> 42) & mask) + base;
+    dst[dstOffset + 19] = (((w3 >>> 55) | (w4 << 9)) & mask) + base;
+    dst[dstOffset + 20] = ((w4 >>> 4) & mask) + base;
+    dst[dstOffset + 21] = ((w4 >>> 17) & mask) + base;
+    dst[dstOffset + 22] = ((w4 >>> 30) & mask) + base;
+    dst[dstOffset + 23] = ((w4 >>> 43) & mask) + base;
+    dst[dstOffset + 24] = (((w4 >>> 56) | (w5 << 8)) & mask) + base;
+    dst[dstOffset + 25] = ((w5 >>> 5) & mask) + base;
+    dst[dstOffset + 26] = ((w5 >>> 18) & mask) + base;
+    dst[dstOffset + 27] = ((w5 >>> 31) & mask) + base;
+    dst[dstOffset + 28] = ((w5 >>> 44) & mask) + base;
+    dst[dstOffset + 29] = (((w5 >>> 57) | (w6 << 7)) & mask) + base;
+    dst[dstOffset + 30] = ((w6 >>> 6) & mask) + base;
+    dst[dstOffset + 31] = ((w6 >>> 19) & mask) + base;
+    dst[dstOffset + 32] = ((w6 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = ((w6 >>> 45) & mask) + base;
+    dst[dstOffset + 34] = (((w6 >>> 58) | (w7 << 6)) & mask) + base;
+    dst[dstOffset + 35] = ((w7 >>> 7) & mask) + base;
+    dst[dstOffset + 36] = ((w7 >>> 20) & mask) + base;
+    dst[dstOffset + 37] = ((w7 >>> 33) & mask) + base;
+    dst[dstOffset + 38] = ((w7 >>> 46) & mask) + base;
+    dst[dstOffset + 39] = (((w7 >>> 59) | (w8 << 5)) & mask) + base;
+    dst[dstOffset + 40] = ((w8 >>> 8) & mask) + base;
+    dst[dstOffset + 41] = ((w8 >>> 21) & mask) + base;
+    dst[dstOffset + 42] = ((w8 >>> 34) & mask) + base;
+    dst[dstOffset + 43] = ((w8 >>> 47) & mask) + base;
+    dst[dstOffset + 44] = (((w8 >>> 60) | (w9 << 4)) & mask) + base;
+    dst[dstOffset + 45] = ((w9 >>> 9) & mask) + base;
+    dst[dstOffset + 46] = ((w9 >>> 22) & mask) + base;
+    dst[dstOffset + 47] = ((w9 >>> 35) & mask) + base;
+    dst[dstOffset + 48] = ((w9 >>> 48) & mask) + base;
+    dst[dstOffset + 49] = (((w9 >>> 61) | (w10 << 3)) & mask) + base;
+    dst[dstOffset + 50] = ((w10 >>> 10) & mask) + base;
+    dst[dstOffset + 51] = ((w10 >>> 23) & mask) + base;
+    dst[dstOffset + 52] = ((w10 >>> 36) & mask) + base;
+    dst[dstOffset + 53] = ((w10 >>> 49) & mask) + base;
+    dst[dstOffset + 54] = (((w10 >>> 62) | (w11 << 2)) & mask) + base;
+    dst[dstOffset + 55] = ((w11 >>> 11) & mask) + base;
+    dst[dstOffset + 56] = ((w11 >>> 24) & mask) + base;
+    dst[dstOffset + 57] = ((w11 >>> 37) & mask) + base;
+    dst[dstOffset + 58] = ((w11 >>> 50) & mask) + base;
+    dst[dstOffset + 59] = (((w11 >>> 63) | (w12 << 1)) & mask) + base;
+    dst[dstOffset + 60] = ((w12 >>> 12) & mask) + base;
+    dst[dstOffset + 61] = ((w12 >>> 25) & mask) + base;
+    dst[dstOffset + 62] = ((w12 >>> 38) & mask) + base;
+    dst[dstOffset + 63] = (w12 >>> 51) + base;
+  }
+
+  private static void unpack13(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 13) & mask;
+    dst[dstOffset + 2] = (w0 >>> 26) & mask;
+    dst[dstOffset + 3] = (w0 >>> 39) & mask;
+    dst[dstOffset + 4] = ((w0 >>> 52) | (w1 << 12)) & mask;
+    dst[dstOffset + 5] = (w1 >>> 1) & mask;
+    dst[dstOffset + 6] = (w1 >>> 14) & mask;
+    dst[dstOffset + 7] = (w1 >>> 27) & mask;
+    dst[dstOffset + 8] = (w1 >>> 40) & mask;
+    dst[dstOffset + 9] = ((w1 >>> 53) | (w2 << 11)) & mask;
+    dst[dstOffset + 10] = (w2 >>> 2) & mask;
+    dst[dstOffset + 11] = (w2 >>> 15) & mask;
+    dst[dstOffset + 12] = (w2 >>> 28) & mask;
+    dst[dstOffset + 13] = (w2 >>> 41) & mask;
+    dst[dstOffset + 14] = ((w2 >>> 54) | (w3 << 10)) & mask;
+    dst[dstOffset + 15] = (w3 >>> 3) & mask;
+    dst[dstOffset + 16] = (w3 >>> 16) & mask;
+    dst[dstOffset + 17] = (w3 >>> 29) & mask;
+    dst[dstOffset + 18] = (w3 >>> 42) & mask;
+    dst[dstOffset + 19] = ((w3 >>> 55) | (w4 << 9)) & mask;
+    dst[dstOffset + 20] = (w4 >>> 4) & mask;
+    dst[dstOffset + 21] = (w4 >>> 17) & mask;
+    dst[dstOffset + 22] = (w4 >>> 30) & mask;
+    dst[dstOffset + 23] = (w4 >>> 43) & mask;
+    dst[dstOffset + 24] = ((w4 >>> 56) | (w5 << 8)) & mask;
+    dst[dstOffset + 25] = (w5 >>> 5) & mask;
+    dst[dstOffset + 26] = (w5 >>> 18) & mask;
+    dst[dstOffset + 27] = (w5 >>> 31) & mask;
+    dst[dstOffset + 28] = (w5 >>> 44) & mask;
+    dst[dstOffset + 29] = ((w5 >>> 57) | (w6 << 7)) & mask;
+    dst[dstOffset + 30] = (w6 >>> 6) & mask;
+    dst[dstOffset + 31] = (w6 >>> 19) & mask;
+    dst[dstOffset + 32] = (w6 >>> 32) & mask;
+    dst[dstOffset + 33] = (w6 >>> 45) & mask;
+    dst[dstOffset + 34] = ((w6 >>> 58) | (w7 << 6)) & mask;
+    dst[dstOffset + 35] = (w7 >>> 7) & mask;
+    dst[dstOffset + 36] = (w7 >>> 20) & mask;
+    dst[dstOffset + 37] = (w7 >>> 33) & mask;
+    dst[dstOffset + 38] = (w7 >>> 46) & mask;
+    dst[dstOffset + 39] = ((w7 >>> 59) | (w8 << 5)) & mask;
+    dst[dstOffset + 40] = (w8 >>> 8) & mask;
+    dst[dstOffset + 41] = (w8 >>> 21) & mask;
+    dst[dstOffset + 42] = (w8 >>> 34) & mask;
+    dst[dstOffset + 43] = (w8 >>> 47) & mask;
+    dst[dstOffset + 44] = ((w8 >>> 60) | (w9 << 4)) & mask;
+    dst[dstOffset + 45] = (w9 >>> 9) & mask;
+    dst[dstOffset + 46] = (w9 >>> 22) & mask;
+    dst[dstOffset + 47] = (w9 >>> 35) & mask;
+    dst[dstOffset + 48] = (w9 >>> 48) & mask;
+    dst[dstOffset + 49] = ((w9 >>> 61) | (w10 << 3)) & mask;
+    dst[dstOffset + 50] = (w10 >>> 10) & mask;
+    dst[dstOffset + 51] = (w10 >>> 23) & mask;
+    dst[dstOffset + 52] = (w10 >>> 36) & mask;
+    dst[dstOffset + 53] = (w10 >>> 49) & mask;
+    dst[dstOffset + 54] = ((w10 >>> 62) | (w11 << 2)) & mask;
+    dst[dstOffset + 55] = (w11 >>> 11) & mask;
+    dst[dstOffset + 56] = (w11 >>> 24) & mask;
+    dst[dstOffset + 57] = (w11 >>> 37) & mask;
+    dst[dstOffset + 58] = (w11 >>> 50) & mask;
+    dst[dstOffset + 59] = ((w11 >>> 63) | (w12 << 1)) & mask;
+    dst[dstOffset + 60] = (w12 >>> 12) & mask;
+    dst[dstOffset + 61] = (w12 >>> 25) & mask;
+    dst[dstOffset + 62] = (w12 >>> 38) & mask;
+    dst[dstOffset + 63] = w12 >>> 51;
+  }
+
+  private static void unpack14(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 14) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 28) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 42) & mask) + base;
+    dst[dstOffset + 4] = (((w0 >>> 56) | (w1 << 8)) & mask) + base;
+    dst[dstOffset + 5] = ((w1 >>> 6) & mask) + base;
+    dst[dstOffset + 6] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 7] = ((w1 >>> 34) & mask) + base;
+    dst[dstOffset + 8] = ((w1 >>> 48) & mask) + base;
+    dst[dstOffset + 9] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 10] = ((w2 >>> 12) & mask) + base;
+    dst[dstOffset + 11] = ((w2 >>> 26) & mask) + base;
+    dst[dstOffset + 12] = ((w2 >>> 40) & mask) + base;
+    dst[dstOffset + 13] = (((w2 >>> 54) | (w3 << 10)) & mask) + base;
+    dst[dstOffset + 14] = ((w3 >>> 4) & mask) + base;
+    dst[dstOffset + 15] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 16] = ((w3 >>> 32) & mask) + base;
+    dst[dstOffset + 17] = ((w3 >>> 46) & mask) + base;
+    dst[dstOffset + 18] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 19] = ((w4 >>> 10) & mask) + base;
+    dst[dstOffset + 20] = ((w4 >>> 24) & mask) + base;
+    dst[dstOffset + 21] = ((w4 >>> 38) & mask) + base;
+    dst[dstOffset + 22] = (((w4 >>> 52) | (w5 << 12)) & mask) + base;
+    dst[dstOffset + 23] = ((w5 >>> 2) & mask) + base;
+    dst[dstOffset + 24] = ((w5 >>> 16) & mask) + base;
+    dst[dstOffset + 25] = ((w5 >>> 30) & mask) + base;
+    dst[dstOffset + 26] = ((w5 >>> 44) & mask) + base;
+    dst[dstOffset + 27] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 28] = ((w6 >>> 8) & mask) + base;
+    dst[dstOffset + 29] = ((w6 >>> 22) & mask) + base;
+    dst[dstOffset + 30] = ((w6 >>> 36) & mask) + base;
+    dst[dstOffset + 31] = (w6 >>> 50) + base;
+    dst[dstOffset + 32] = (w7 & mask) + base;
+    dst[dstOffset + 33] = ((w7 >>> 14) & mask) + base;
+    dst[dstOffset + 34] = ((w7 >>> 28) & mask) + base;
+    dst[dstOffset + 35] = ((w7 >>> 42) & mask) + base;
+    dst[dstOffset + 36] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 37] = ((w8 >>> 6) & mask) + base;
+    dst[dstOffset + 38] = ((w8 >>> 20) & mask) + base;
+    dst[dstOffset + 39] = ((w8 >>> 34) & mask) + base;
+    dst[dstOffset + 40] = ((w8 >>> 48) & mask) + base;
+    dst[dstOffset + 41] = (((w8 >>> 62) | (w9 << 2)) & mask) + base;
+    dst[dstOffset + 42] = ((w9 >>> 12) & mask) + base;
+    dst[dstOffset + 43] = ((w9 >>> 26) & mask) + base;
+    dst[dstOffset + 44] = ((w9 >>> 40) & mask) + base;
+    dst[dstOffset + 45] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 46] = ((w10 >>> 4) & mask) + base;
+    dst[dstOffset + 47] = ((w10 >>> 18) & mask) + base;
+    dst[dstOffset + 48] = ((w10 >>> 32) & mask) + base;
+    dst[dstOffset + 49] = ((w10 >>> 46) & mask) + base;
+    dst[dstOffset + 50] = (((w10 >>> 60) | (w11 << 4)) & mask) + base;
+    dst[dstOffset + 51] = ((w11 >>> 10) & mask) + base;
+    dst[dstOffset + 52] = ((w11 >>> 24) & mask) + base;
+    dst[dstOffset + 53] = ((w11 >>> 38) & mask) + base;
+    dst[dstOffset + 54] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 55] = ((w12 >>> 2) & mask) + base;
+    dst[dstOffset + 56] = ((w12 >>> 16) & mask) + base;
+    dst[dstOffset + 57] = ((w12 >>> 30) & mask) + base;
+    dst[dstOffset + 58] = ((w12 >>> 44) & mask) + base;
+    dst[dstOffset + 59] = (((w12 >>> 58) | (w13 << 6)) & mask) + base;
+    dst[dstOffset + 60] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 61] = ((w13 >>> 22) & mask) + base;
+    dst[dstOffset + 62] = ((w13 >>> 36) & mask) + base;
+    dst[dstOffset + 63] = (w13 >>> 50) + base;
+  }
+
+  private static void unpack14(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 14) & mask;
+    dst[dstOffset + 2] = (w0 >>> 28) & mask;
+    dst[dstOffset + 3] = (w0 >>> 42) & mask;
+    dst[dstOffset + 4] = ((w0 >>> 56) | (w1 << 8)) & mask;
+    dst[dstOffset + 5] = (w1 >>> 6) & mask;
+    dst[dstOffset + 6] = (w1 >>> 20) & mask;
+    dst[dstOffset + 7] = (w1 >>> 34) & mask;
+    dst[dstOffset + 8] = (w1 >>> 48) & mask;
+    dst[dstOffset + 9] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 10] = (w2 >>> 12) & mask;
+    dst[dstOffset + 11] = (w2 >>> 26) & mask;
+    dst[dstOffset + 12] = (w2 >>> 40) & mask;
+    dst[dstOffset + 13] = ((w2 >>> 54) | (w3 << 10)) & mask;
+    dst[dstOffset + 14] = (w3 >>> 4) & mask;
+    dst[dstOffset + 15] = (w3 >>> 18) & mask;
+    dst[dstOffset + 16] = (w3 >>> 32) & mask;
+    dst[dstOffset + 17] = (w3 >>> 46) & mask;
+    dst[dstOffset + 18] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 19] = (w4 >>> 10) & mask;
+    dst[dstOffset + 20] = (w4 >>> 24) & mask;
+    dst[dstOffset + 21] = (w4 >>> 38) & mask;
+    dst[dstOffset + 22] = ((w4 >>> 52) | (w5 << 12)) & mask;
+    dst[dstOffset + 23] = (w5 >>> 2) & mask;
+    dst[dstOffset + 24] = (w5 >>> 16) & mask;
+    dst[dstOffset + 25] = (w5 >>> 30) & mask;
+    dst[dstOffset + 26] = (w5 >>> 44) & mask;
+    dst[dstOffset + 27] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 28] = (w6 >>> 8) & mask;
+    dst[dstOffset + 29] = (w6 >>> 22) & mask;
+    dst[dstOffset + 30] = (w6 >>> 36) & mask;
+    dst[dstOffset + 31] = w6 >>> 50;
+    dst[dstOffset + 32] = w7 & mask;
+    dst[dstOffset + 33] = (w7 >>> 14) & mask;
+    dst[dstOffset + 34] = (w7 >>> 28) & mask;
+    dst[dstOffset + 35] = (w7 >>> 42) & mask;
+    dst[dstOffset + 36] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 37] = (w8 >>> 6) & mask;
+    dst[dstOffset + 38] = (w8 >>> 20) & mask;
+    dst[dstOffset + 39] = (w8 >>> 34) & mask;
+    dst[dstOffset + 40] = (w8 >>> 48) & mask;
+    dst[dstOffset + 41] = ((w8 >>> 62) | (w9 << 2)) & mask;
+    dst[dstOffset + 42] = (w9 >>> 12) & mask;
+    dst[dstOffset + 43] = (w9 >>> 26) & mask;
+    dst[dstOffset + 44] = (w9 >>> 40) & mask;
+    dst[dstOffset + 45] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 46] = (w10 >>> 4) & mask;
+    dst[dstOffset + 47] = (w10 >>> 18) & mask;
+    dst[dstOffset + 48] = (w10 >>> 32) & mask;
+    dst[dstOffset + 49] = (w10 >>> 46) & mask;
+    dst[dstOffset + 50] = ((w10 >>> 60) | (w11 << 4)) & mask;
+    dst[dstOffset + 51] = (w11 >>> 10) & mask;
+    dst[dstOffset + 52] = (w11 >>> 24) & mask;
+    dst[dstOffset + 53] = (w11 >>> 38) & mask;
+    dst[dstOffset + 54] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 55] = (w12 >>> 2) & mask;
+    dst[dstOffset + 56] = (w12 >>> 16) & mask;
+    dst[dstOffset + 57] = (w12 >>> 30) & mask;
+    dst[dstOffset + 58] = (w12 >>> 44) & mask;
+    dst[dstOffset + 59] = ((w12 >>> 58) | (w13 << 6)) & mask;
+    dst[dstOffset + 60] = (w13 >>> 8) & mask;
+    dst[dstOffset + 61] = (w13 >>> 22) & mask;
+    dst[dstOffset + 62] = (w13 >>> 36) & mask;
+    dst[dstOffset + 63] = w13 >>> 50;
+  }
+
+  private static void unpack15(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 15) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 30) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 45) & mask) + base;
+    dst[dstOffset + 4] = (((w0 >>> 60) | (w1 << 4)) & mask) + base;
+    dst[dstOffset + 5] = ((w1 >>> 11) & mask) + base;
+    dst[dstOffset + 6] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 7] = ((w1 >>> 41) & mask) + base;
+    dst[dstOffset + 8] = (((w1 >>> 56) | (w2 << 8)) & mask) + base;
+    dst[dstOffset + 9] = ((w2 >>> 7) & mask) + base;
+    dst[dstOffset + 10] = ((w2 >>> 22) & mask) + base;
+    dst[dstOffset + 11] = ((w2 >>> 37) & mask) + base;
+    dst[dstOffset + 12] = (((w2 >>> 52) | (w3 << 12)) & mask) + base;
+    dst[dstOffset + 13] = ((w3 >>> 3) & mask) + base;
+    dst[dstOffset + 14] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 15] = ((w3 >>> 33) & mask) + base;
+    dst[dstOffset + 16] = ((w3 >>> 48) & mask) + base;
+    dst[dstOffset + 17] = (((w3 >>> 63) | (w4 << 1)) & mask) + base;
+    dst[dstOffset + 18] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 19] = ((w4 >>> 29) & mask) + base;
+    dst[dstOffset + 20] = ((w4 >>> 44) & mask) + base;
+    dst[dstOffset + 21] = (((w4 >>> 59) | (w5 << 5)) & mask) + base;
+    dst[dstOffset + 22] = ((w5 >>> 10) & mask) + base;
+    dst[dstOffset + 23] = ((w5 >>> 25) & mask) + base;
+    dst[dstOffset + 24] = ((w5 >>> 40) & mask) + base;
+    dst[dstOffset + 25] = (((w5 >>> 55) | (w6 << 9)) & mask) + base;
+    dst[dstOffset + 26] = ((w6 >>> 6) & mask) + base;
+    dst[dstOffset + 27] = ((w6 >>> 21) & mask) + base;
+    dst[dstOffset + 28] = ((w6 >>> 36) & mask) + base;
+    dst[dstOffset + 29] = (((w6 >>> 51) | (w7 << 13)) & mask) + base;
+    dst[dstOffset + 30] = ((w7 >>> 2) & mask) + base;
+    dst[dstOffset + 31] = ((w7 >>> 17) & mask) + base;
+    dst[dstOffset + 32] = ((w7 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = ((w7 >>> 47) & mask) + base;
+    dst[dstOffset + 34] = (((w7 >>> 62) | (w8 << 2)) & mask) + base;
+    dst[dstOffset + 35] = ((w8 >>> 13) & mask) + base;
+    dst[dstOffset + 36] = ((w8 >>> 28) & mask) + base;
+    dst[dstOffset + 37] = ((w8 >>> 43) & mask) + base;
+    dst[dstOffset + 38] = (((w8 >>> 58) | (w9 << 6)) & mask) + base;
+    dst[dstOffset + 39] = ((w9 >>> 9) & mask) + base;
+    dst[dstOffset + 40] = ((w9 >>> 24) & mask) + base;
+    dst[dstOffset + 41] = ((w9 >>> 39) & mask) + base;
+    dst[dstOffset + 42] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 43] = ((w10 >>> 5) & mask) + base;
+    dst[dstOffset + 44] = ((w10 >>> 20) & mask) + base;
+    dst[dstOffset + 45] = ((w10 >>> 35) & mask) + base;
+    dst[dstOffset + 46] = (((w10 >>> 50) | (w11 << 14)) & mask) + base;
+    dst[dstOffset + 47] = ((w11 >>> 1) & mask) + base;
+    dst[dstOffset + 48] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = ((w11 >>> 31) & mask) + base;
+    dst[dstOffset + 50] = ((w11 >>> 46) & mask) + base;
+    dst[dstOffset + 51] = (((w11 >>> 61) | (w12 << 3)) & mask) + base;
+    dst[dstOffset + 52] = ((w12 >>> 12) & mask) + base;
+    dst[dstOffset + 53] = ((w12 >>> 27) & mask) + base;
+    dst[dstOffset + 54] = ((w12 >>> 42) & mask) + base;
+    dst[dstOffset + 55] = (((w12 >>> 57) | (w13 << 7)) & mask) + base;
+    dst[dstOffset + 56] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 57] = ((w13 >>> 23) & mask) + base;
+    dst[dstOffset + 58] = ((w13 >>> 38) & mask) + base;
+    dst[dstOffset + 59] = (((w13 >>> 53) | (w14 << 11)) & mask) + base;
+    dst[dstOffset + 60] = ((w14 >>> 4) & mask) + base;
+    dst[dstOffset + 61] = ((w14 >>> 19) & mask) + base;
+    dst[dstOffset + 62] = ((w14 >>> 34) & mask) + base;
+    dst[dstOffset + 63] = (w14 >>> 49) + base;
+  }
+
+  private static void unpack15(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 15) & mask;
+    dst[dstOffset + 2] = (w0 >>> 30) & mask;
+    dst[dstOffset + 3] = (w0 >>> 45) & mask;
+    dst[dstOffset + 4] = ((w0 >>> 60) | (w1 << 4)) & mask;
+    dst[dstOffset + 5] = (w1 >>> 11) & mask;
+    dst[dstOffset + 6] = (w1 >>> 26) & mask;
+    dst[dstOffset + 7] = (w1 >>> 41) & mask;
+    dst[dstOffset + 8] = ((w1 >>> 56) | (w2 << 8)) & mask;
+    dst[dstOffset + 9] = (w2 >>> 7) & mask;
+    dst[dstOffset + 10] = (w2 >>> 22) & mask;
+    dst[dstOffset + 11] = (w2 >>> 37) & mask;
+    dst[dstOffset + 12] = ((w2 >>> 52) | (w3 << 12)) & mask;
+    dst[dstOffset + 13] = (w3 >>> 3) & mask;
+    dst[dstOffset + 14] = (w3 >>> 18) & mask;
+    dst[dstOffset + 15] = (w3 >>> 33) & mask;
+    dst[dstOffset + 16] = (w3 >>> 48) & mask;
+    dst[dstOffset + 17] = ((w3 >>> 63) | (w4 << 1)) & mask;
+    dst[dstOffset + 18] = (w4 >>> 14) & mask;
+    dst[dstOffset + 19] = (w4 >>> 29) & mask;
+    dst[dstOffset + 20] = (w4 >>> 44) & mask;
+    dst[dstOffset + 21] = ((w4 >>> 59) | (w5 << 5)) & mask;
+    dst[dstOffset + 22] = (w5 >>> 10) & mask;
+    dst[dstOffset + 23] = (w5 >>> 25) & mask;
+    dst[dstOffset + 24] = (w5 >>> 40) & mask;
+    dst[dstOffset + 25] = ((w5 >>> 55) | (w6 << 9)) & mask;
+    dst[dstOffset + 26] = (w6 >>> 6) & mask;
+    dst[dstOffset + 27] = (w6 >>> 21) & mask;
+    dst[dstOffset + 28] = (w6 >>> 36) & mask;
+    dst[dstOffset + 29] = ((w6 >>> 51) | (w7 << 13)) & mask;
+    dst[dstOffset + 30] = (w7 >>> 2) & mask;
+    dst[dstOffset + 31] = (w7 >>> 17) & mask;
+    dst[dstOffset + 32] = (w7 >>> 32) & mask;
+    dst[dstOffset + 33] = (w7 >>> 47) & mask;
+    dst[dstOffset + 34] = ((w7 >>> 62) | (w8 << 2)) & mask;
+    dst[dstOffset + 35] = (w8 >>> 13) & mask;
+    dst[dstOffset + 36] = (w8 >>> 28) & mask;
+    dst[dstOffset + 37] = (w8 >>> 43) & mask;
+    dst[dstOffset + 38] = ((w8 >>> 58) | (w9 << 6)) & mask;
+    dst[dstOffset + 39] = (w9 >>> 9) & mask;
+    dst[dstOffset + 40] = (w9 >>> 24) & mask;
+    dst[dstOffset + 41] = (w9 >>> 39) & mask;
+    dst[dstOffset + 42] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 43] = (w10 >>> 5) & mask;
+    dst[dstOffset + 44] = (w10 >>> 20) & mask;
+    dst[dstOffset + 45] = (w10 >>> 35) & mask;
+    dst[dstOffset + 46] = ((w10 >>> 50) | (w11 << 14)) & mask;
+    dst[dstOffset + 47] = (w11 >>> 1) & mask;
+    dst[dstOffset + 48] = (w11 >>> 16) & mask;
+    dst[dstOffset + 49] = (w11 >>> 31) & mask;
+    dst[dstOffset + 50] = (w11 >>> 46) & mask;
+    dst[dstOffset + 51] = ((w11 >>> 61) | (w12 << 3)) & mask;
+    dst[dstOffset + 52] = (w12 >>> 12) & mask;
+    dst[dstOffset + 53] = (w12 >>> 27) & mask;
+    dst[dstOffset + 54] = (w12 >>> 42) & mask;
+    dst[dstOffset + 55] = ((w12 >>> 57) | (w13 << 7)) & mask;
+    dst[dstOffset + 56] = (w13 >>> 8) & mask;
+    dst[dstOffset + 57] = (w13 >>> 23) & mask;
+    dst[dstOffset + 58] = (w13 >>> 38) & mask;
+    dst[dstOffset + 59] = ((w13 >>> 53) | (w14 << 11)) & mask;
+    dst[dstOffset + 60] = (w14 >>> 4) & mask;
+    dst[dstOffset + 61] = (w14 >>> 19) & mask;
+    dst[dstOffset + 62] = (w14 >>> 34) & mask;
+    dst[dstOffset + 63] = w14 >>> 49;
+  }
+
+  private static void unpack16(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 16) & mask;
+    dst[dstOffset + 2] = (w0 >>> 32) & mask;
+    dst[dstOffset + 3] = w0 >>> 48;
+    dst[dstOffset + 4] = w1 & mask;
+    dst[dstOffset + 5] = (w1 >>> 16) & mask;
+    dst[dstOffset + 6] = (w1 >>> 32) & mask;
+    dst[dstOffset + 7] = w1 >>> 48;
+    dst[dstOffset + 8] = w2 & mask;
+    dst[dstOffset + 9] = (w2 >>> 16) & mask;
+    dst[dstOffset + 10] = (w2 >>> 32) & mask;
+    dst[dstOffset + 11] = w2 >>> 48;
+    dst[dstOffset + 12] = w3 & mask;
+    dst[dstOffset + 13] = (w3 >>> 16) & mask;
+    dst[dstOffset + 14] = (w3 >>> 32) & mask;
+    dst[dstOffset + 15] = w3 >>> 48;
+    dst[dstOffset + 16] = w4 & mask;
+    dst[dstOffset + 17] = (w4 >>> 16) & mask;
+    dst[dstOffset + 18] = (w4 >>> 32) & mask;
+    dst[dstOffset + 19] = w4 >>> 48;
+    dst[dstOffset + 20] = w5 & mask;
+    dst[dstOffset + 21] = (w5 >>> 16) & mask;
+    dst[dstOffset + 22] = (w5 >>> 32) & mask;
+    dst[dstOffset + 23] = w5 >>> 48;
+    dst[dstOffset + 24] = w6 & mask;
+    dst[dstOffset + 25] = (w6 >>> 16) & mask;
+    dst[dstOffset + 26] = (w6 >>> 32) & mask;
+    dst[dstOffset + 27] = w6 >>> 48;
+    dst[dstOffset + 28] = w7 & mask;
+    dst[dstOffset + 29] = (w7 >>> 16) & mask;
+    dst[dstOffset + 30] = (w7 >>> 32) & mask;
+    dst[dstOffset + 31] = w7 >>> 48;
+    dst[dstOffset + 32] = w8 & mask;
+    dst[dstOffset + 33] = (w8 >>> 16) & mask;
+    dst[dstOffset + 34] = (w8 >>> 32) & mask;
+    dst[dstOffset + 35] = w8 >>> 48;
+    dst[dstOffset + 36] = w9 & mask;
+    dst[dstOffset + 37] = (w9 >>> 16) & mask;
+    dst[dstOffset + 38] = (w9 >>> 32) & mask;
+    dst[dstOffset + 39] = w9 >>> 48;
+    dst[dstOffset + 40] = w10 & mask;
+    dst[dstOffset + 41] = (w10 >>> 16) & mask;
+    dst[dstOffset + 42] = (w10 >>> 32) & mask;
+    dst[dstOffset + 43] = w10 >>> 48;
+    dst[dstOffset + 44] = w11 & mask;
+    dst[dstOffset + 45] = (w11 >>> 16) & mask;
+    dst[dstOffset + 46] = (w11 >>> 32) & mask;
+    dst[dstOffset + 47] = w11 >>> 48;
+    dst[dstOffset + 48] = w12 & mask;
+    dst[dstOffset + 49] = (w12 >>> 16) & mask;
+    dst[dstOffset + 50] = (w12 >>> 32) & mask;
+    dst[dstOffset + 51] = w12 >>> 48;
+    dst[dstOffset + 52] = w13 & mask;
+    dst[dstOffset + 53] = (w13 >>> 16) & mask;
+    dst[dstOffset + 54] = (w13 >>> 32) & mask;
+    dst[dstOffset + 55] = w13 >>> 48;
+    dst[dstOffset + 56] = w14 & mask;
+    dst[dstOffset + 57] = (w14 >>> 16) & mask;
+    dst[dstOffset + 58] = (w14 >>> 32) & mask;
+    dst[dstOffset + 59] = w14 >>> 48;
+    dst[dstOffset + 60] = w15 & mask;
+    dst[dstOffset + 61] = (w15 >>> 16) & mask;
+    dst[dstOffset + 62] = (w15 >>> 32) & mask;
+    dst[dstOffset + 63] = w15 >>> 48;
+  }
+}
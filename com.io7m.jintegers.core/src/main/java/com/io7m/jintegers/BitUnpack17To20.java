@@ -0,0 +1,815 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 17 to 20.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack17To20
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack17To20()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 17 -> unpack17(src, index, base, dst, dstOffset);
+      case 18 -> unpack18(src, index, base, dst, dstOffset);
+      case 19 -> unpack19(src, index, base, dst, dstOffset);
+      case 20 -> unpack20(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 17 -> unpack17(src, srcOffset, dst, dstOffset);
+      case 18 -> unpack18(src, srcOffset, dst, dstOffset);
+      case 19 -> unpack19(src, srcOffset, dst, dstOffset);
+      case 20 -> unpack20(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack17(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 17) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 34) & mask) + base;
+    dst[dstOffset + 3] = (((w0 >>> 51) | (w1 << 13)) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 4) & mask) + base;
+    dst[dstOffset + 5] = ((w1 >>> 21) & mask) + base;
+    dst[dstOffset + 6] = ((w1 >>> 38) & mask) + base;
+    dst[dstOffset + 7] = (((w1 >>> 55) | (w2 << 9)) & mask) + base;
+    dst[dstOffset + 8] = ((w2 >>> 8) & mask) + base;
+    dst[dstOffset + 9] = ((w2 >>> 25) & mask) + base;
+    dst[dstOffset + 10] = ((w2 >>> 42) & mask) + base;
+    dst[dstOffset + 11] = (((w2 >>> 59) | (w3 << 5)) & mask) + base;
+    dst[dstOffset + 12] = ((w3 >>> 12) & mask) + base;
+    dst[dstOffset + 13] = ((w3 >>> 29) & mask) + base;
+    dst[dstOffset + 14] = ((w3 >>> 46) & mask) + base;
+    dst[dstOffset + 15] = (((w3 >>> 63) | (w4 << 1)) & mask) + base;
+    dst[dstOffset + 16] = ((w4 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = ((w4 >>> 33) & mask) + base;
+    dst[dstOffset + 18] = (((w4 >>> 50) | (w5 << 14)) & mask) + base;
+    dst[dstOffset + 19] = ((w5 >>> 3) & mask) + base;
+    dst[dstOffset + 20] = ((w5 >>> 20) & mask) + base;
+    dst[dstOffset + 21] = ((w5 >>> 37) & mask) + base;
+    dst[dstOffset + 22] = (((w5 >>> 54) | (w6 << 10)) & mask) + base;
+    dst[dstOffset + 23] = ((w6 >>> 7) & mask) + base;
+    dst[dstOffset + 24] = ((w6 >>> 24) & mask) + base;
+    dst[dstOffset + 25] = ((w6 >>> 41) & mask) + base;
+    dst[dstOffset + 26] = (((w6 >>> 58) | (w7 << 6)) & mask) + base;
+    dst[dstOffset + 27] = ((w7 >>> 11) & mask) + base;
+    dst[dstOffset + 28] = ((w7 >>> 28) & mask) + base;
+    dst[dstOffset + 29] = ((w7 >>> 45) & mask) + base;
+    dst[dstOffset + 30] = (((w7 >>> 62) | (w8 << 2)) & mask) + base;
+    dst[dstOffset + 31] = ((w8 >>> 15) & mask) + base;
+    dst[dstOffset + 32] = ((w8 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = (((w8 >>> 49) | (w9 << 15)) & mask) + base;
+    dst[dstOffset + 34] = ((w9 >>> 2) & mask) + base;
+    dst[dstOffset + 35] = ((w9 >>> 19) & mask) + base;
+    dst[dstOffset + 36] = ((w9 >>> 36) & mask) + base;
+    dst[dstOffset + 37] = (((w9 >>> 53) | (w10 << 11)) & mask) + base;
+    dst[dstOffset + 38] = ((w10 >>> 6) & mask) + base;
+    dst[dstOffset + 39] = ((w10 >>> 23) & mask) + base;
+    dst[dstOffset + 40] = ((w10 >>> 40) & mask) + base;
+    dst[dstOffset + 41] = (((w10 >>> 57) | (w11 << 7)) & mask) + base;
+    dst[dstOffset + 42] = ((w11 >>> 10) & mask) + base;
+    dst[dstOffset + 43] = ((w11 >>> 27) & mask) + base;
+    dst[dstOffset + 44] = ((w11 >>> 44) & mask) + base;
+    dst[dstOffset + 45] = (((w11 >>> 61) | (w12 << 3)) & mask) + base;
+    dst[dstOffset + 46] = ((w12 >>> 14) & mask) + base;
+    dst[dstOffset + 47] = ((w12 >>> 31) & mask) + base;
+    dst[dstOffset + 48] = (((w12 >>> 48) | (w13 << 16)) & mask) + base;
+    dst[dstOffset + 49] = ((w13 >>> 1) & mask) + base;
+    dst[dstOffset + 50] = ((w13 >>> 18) & mask) + base;
+    dst[dstOffset + 51] = ((w13 >>> 35) & mask) + base;
+    dst[dstOffset + 52] = (((w13 >>> 52) | (w14 << 12)) & mask) + base;
+    dst[dstOffset + 53] = ((w14 >>> 5) & mask) + base;
+    dst[dstOffset + 54] = ((w14 >>> 22) & mask) + base;
+    dst[dstOffset + 55] = ((w14 >>> 39) & mask) + base;
+    dst[dstOffset + 56] = (((w14 >>> 56) | (w15 << 8)) & mask) + base;
+    dst[dstOffset + 57] = ((w15 >>> 9) & mask) + base;
+    dst[dstOffset + 58] = ((w15 >>> 26) & mask) + base;
+    dst[dstOffset + 59] = ((w15 >>> 43) & mask) + base;
+    dst[dstOffset + 60] = (((w15 >>> 60) | (w16 << 4)) & mask) + base;
+    dst[dstOffset + 61] = ((w16 >>> 13) & mask) + base;
+    dst[dstOffset + 62] = ((w16 >>> 30) & mask) + base;
+    dst[dstOffset + 63] = (w16 >>> 47) + base;
+  }
+
+  private static void unpack17(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 17) & mask;
+    dst[dstOffset + 2] = (w0 >>> 34) & mask;
+    dst[dstOffset + 3] = ((w0 >>> 51) | (w1 << 13)) & mask;
+    dst[dstOffset + 4] = (w1 >>> 4) & mask;
+    dst[dstOffset + 5] = (w1 >>> 21) & mask;
+    dst[dstOffset + 6] = (w1 >>> 38) & mask;
+    dst[dstOffset + 7] = ((w1 >>> 55) | (w2 << 9)) & mask;
+    dst[dstOffset + 8] = (w2 >>> 8) & mask;
+    dst[dstOffset + 9] = (w2 >>> 25) & mask;
+    dst[dstOffset + 10] = (w2 >>> 42) & mask;
+    dst[dstOffset + 11] = ((w2 >>> 59) | (w3 << 5)) & mask;
+    dst[dstOffset + 12] = (w3 >>> 12) & mask;
+    dst[dstOffset + 13] = (w3 >>> 29) & mask;
+    dst[dstOffset + 14] = (w3 >>> 46) & mask;
+    dst[dstOffset + 15] = ((w3 >>> 63) | (w4 << 1)) & mask;
+    dst[dstOffset + 16] = (w4 >>> 16) & mask;
+    dst[dstOffset + 17] = (w4 >>> 33) & mask;
+    dst[dstOffset + 18] = ((w4 >>> 50) | (w5 << 14)) & mask;
+    dst[dstOffset + 19] = (w5 >>> 3) & mask;
+    dst[dstOffset + 20] = (w5 >>> 20) & mask;
+    dst[dstOffset + 21] = (w5 >>> 37) & mask;
+    dst[dstOffset + 22] = ((w5 >>> 54) | (w6 << 10)) & mask;
+    dst[dstOffset + 23] = (w6 >>> 7) & mask;
+    dst[dstOffset + 24] = (w6 >>> 24) & mask;
+    dst[dstOffset + 25] = (w6 >>> 41) & mask;
+    dst[dstOffset + 26] = ((w6 >>> 58) | (w7 << 6)) & mask;
+    dst[dstOffset + 27] = (w7 >>> 11) & mask;
+    dst[dstOffset + 28] = (w7 >>> 28) & mask;
+    dst[dstOffset + 29] = (w7 >>> 45) & mask;
+    dst[dstOffset + 30] = ((w7 >>> 62) | (w8 << 2)) & mask;
+    dst[dstOffset + 31] = (w8 >>> 15) & mask;
+    dst[dstOffset + 32] = (w8 >>> 32) & mask;
+    dst[dstOffset + 33] = ((w8 >>> 49) | (w9 << 15)) & mask;
+    dst[dstOffset + 34] = (w9 >>> 2) & mask;
+    dst[dstOffset + 35] = (w9 >>> 19) & mask;
+    dst[dstOffset + 36] = (w9 >>> 36) & mask;
+    dst[dstOffset + 37] = ((w9 >>> 53) | (w10 << 11)) & mask;
+    dst[dstOffset + 38] = (w10 >>> 6) & mask;
+    dst[dstOffset + 39] = (w10 >>> 23) & mask;
+    dst[dstOffset + 40] = (w10 >>> 40) & mask;
+    dst[dstOffset + 41] = ((w10 >>> 57) | (w11 << 7)) & mask;
+    dst[dstOffset + 42] = (w11 >>> 10) & mask;
+    dst[dstOffset + 43] = (w11 >>> 27) & mask;
+    dst[dstOffset + 44] = (w11 >>> 44) & mask;
+    dst[dstOffset + 45] = ((w11 >>> 61) | (w12 << 3)) & mask;
+    dst[dstOffset + 46] = (w12 >>> 14) & mask;
+    dst[dstOffset + 47] = (w12 >>> 31) & mask;
+    dst[dstOffset + 48] = ((w12 >>> 48) | (w13 << 16)) & mask;
+    dst[dstOffset + 49] = (w13 >>> 1) & mask;
+    dst[dstOffset + 50] = (w13 >>> 18) & mask;
+    dst[dstOffset + 51] = (w13 >>> 35) & mask;
+    dst[dstOffset + 52] = ((w13 >>> 52) | (w14 << 12)) & mask;
+    dst[dstOffset + 53] = (w14 >>> 5) & mask;
+    dst[dstOffset + 54] = (w14 >>> 22) & mask;
+    dst[dstOffset + 55] = (w14 >>> 39) & mask;
+    dst[dstOffset + 56] = ((w14 >>> 56) | (w15 << 8)) & mask;
+    dst[dstOffset + 57] = (w15 >>> 9) & mask;
+    dst[dstOffset + 58] = (w15 >>> 26) & mask;
+    dst[dstOffset + 59] = (w15 >>> 43) & mask;
+    dst[dstOffset + 60] = ((w15 >>> 60) | (w16 << 4)) & mask;
+    dst[dstOffset + 61] = (w16 >>> 13) & mask;
+    dst[dstOffset + 62] = (w16 >>> 30) & mask;
+    dst[dstOffset + 63] = w16 >>> 47;
+  }
+
+  private static void unpack18(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 18) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 36) & mask) + base;
+    dst[dstOffset + 3] = (((w0 >>> 54) | (w1 << 10)) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 5] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 6] = ((w1 >>> 44) & mask) + base;
+    dst[dstOffset + 7] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 8] = ((w2 >>> 16) & mask) + base;
+    dst[dstOffset + 9] = ((w2 >>> 34) & mask) + base;
+    dst[dstOffset + 10] = (((w2 >>> 52) | (w3 << 12)) & mask) + base;
+    dst[dstOffset + 11] = ((w3 >>> 6) & mask) + base;
+    dst[dstOffset + 12] = ((w3 >>> 24) & mask) + base;
+    dst[dstOffset + 13] = ((w3 >>> 42) & mask) + base;
+    dst[dstOffset + 14] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 15] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 16] = ((w4 >>> 32) & mask) + base;
+    dst[dstOffset + 17] = (((w4 >>> 50) | (w5 << 14)) & mask) + base;
+    dst[dstOffset + 18] = ((w5 >>> 4) & mask) + base;
+    dst[dstOffset + 19] = ((w5 >>> 22) & mask) + base;
+    dst[dstOffset + 20] = ((w5 >>> 40) & mask) + base;
+    dst[dstOffset + 21] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 22] = ((w6 >>> 12) & mask) + base;
+    dst[dstOffset + 23] = ((w6 >>> 30) & mask) + base;
+    dst[dstOffset + 24] = (((w6 >>> 48) | (w7 << 16)) & mask) + base;
+    dst[dstOffset + 25] = ((w7 >>> 2) & mask) + base;
+    dst[dstOffset + 26] = ((w7 >>> 20) & mask) + base;
+    dst[dstOffset + 27] = ((w7 >>> 38) & mask) + base;
+    dst[dstOffset + 28] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 29] = ((w8 >>> 10) & mask) + base;
+    dst[dstOffset + 30] = ((w8 >>> 28) & mask) + base;
+    dst[dstOffset + 31] = (w8 >>> 46) + base;
+    dst[dstOffset + 32] = (w9 & mask) + base;
+    dst[dstOffset + 33] = ((w9 >>> 18) & mask) + base;
+    dst[dstOffset + 34] = ((w9 >>> 36) & mask) + base;
+    dst[dstOffset + 35] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 36] = ((w10 >>> 8) & mask) + base;
+    dst[dstOffset + 37] = ((w10 >>> 26) & mask) + base;
+    dst[dstOffset + 38] = ((w10 >>> 44) & mask) + base;
+    dst[dstOffset + 39] = (((w10 >>> 62) | (w11 << 2)) & mask) + base;
+    dst[dstOffset + 40] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 41] = ((w11 >>> 34) & mask) + base;
+    dst[dstOffset + 42] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 43] = ((w12 >>> 6) & mask) + base;
+    dst[dstOffset + 44] = ((w12 >>> 24) & mask) + base;
+    dst[dstOffset + 45] = ((w12 >>> 42) & mask) + base;
+    dst[dstOffset + 46] = (((w12 >>> 60) | (w13 << 4)) & mask) + base;
+    dst[dstOffset + 47] = ((w13 >>> 14) & mask) + base;
+    dst[dstOffset + 48] = ((w13 >>> 32) & mask) + base;
+    dst[dstOffset + 49] = (((w13 >>> 50) | (w14 << 14)) & mask) + base;
+    dst[dstOffset + 50] = ((w14 >>> 4) & mask) + base;
+    dst[dstOffset + 51] = ((w14 >>> 22) & mask) + base;
+    dst[dstOffset + 52] = ((w14 >>> 40) & mask) + base;
+    dst[dstOffset + 53] = (((w14 >>> 58) | (w15 << 6)) & mask) + base;
+    dst[dstOffset + 54] = ((w15 >>> 12) & mask) + base;
+    dst[dstOffset + 55] = ((w15 >>> 30) & mask) + base;
+    dst[dstOffset + 56] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 57] = ((w16 >>> 2) & mask) + base;
+    dst[dstOffset + 58] = ((w16 >>> 20) & mask) + base;
+    dst[dstOffset + 59] = ((w16 >>> 38) & mask) + base;
+    dst[dstOffset + 60] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 61] = ((w17 >>> 10) & mask) + base;
+    dst[dstOffset + 62] = ((w17 >>> 28) & mask) + base;
+    dst[dstOffset + 63] = (w17 >>> 46) + base;
+  }
+
+  private static void unpack18(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 18) & mask;
+    dst[dstOffset + 2] = (w0 >>> 36) & mask;
+    dst[dstOffset + 3] = ((w0 >>> 54) | (w1 << 10)) & mask;
+    dst[dstOffset + 4] = (w1 >>> 8) & mask;
+    dst[dstOffset + 5] = (w1 >>> 26) & mask;
+    dst[dstOffset + 6] = (w1 >>> 44) & mask;
+    dst[dstOffset + 7] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 8] = (w2 >>> 16) & mask;
+    dst[dstOffset + 9] = (w2 >>> 34) & mask;
+    dst[dstOffset + 10] = ((w2 >>> 52) | (w3 << 12)) & mask;
+    dst[dstOffset + 11] = (w3 >>> 6) & mask;
+    dst[dstOffset + 12] = (w3 >>> 24) & mask;
+    dst[dstOffset + 13] = (w3 >>> 42) & mask;
+    dst[dstOffset + 14] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 15] = (w4 >>> 14) & mask;
+    dst[dstOffset + 16] = (w4 >>> 32) & mask;
+    dst[dstOffset + 17] = ((w4 >>> 50) | (w5 << 14)) & mask;
+    dst[dstOffset + 18] = (w5 >>> 4) & mask;
+    dst[dstOffset + 19] = (w5 >>> 22) & mask;
+    dst[dstOffset + 20] = (w5 >>> 40) & mask;
+    dst[dstOffset + 21] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 22] = (w6 >>> 12) & mask;
+    dst[dstOffset + 23] = (w6 >>> 30) & mask;
+    dst[dstOffset + 24] = ((w6 >>> 48) | (w7 << 16)) & mask;
+    dst[dstOffset + 25] = (w7 >>> 2) & mask;
+    dst[dstOffset + 26] = (w7 >>> 20) & mask;
+    dst[dstOffset + 27] = (w7 >>> 38) & mask;
+    dst[dstOffset + 28] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 29] = (w8 >>> 10) & mask;
+    dst[dstOffset + 30] = (w8 >>> 28) & mask;
+    dst[dstOffset + 31] = w8 >>> 46;
+    dst[dstOffset + 32] = w9 & mask;
+    dst[dstOffset + 33] = (w9 >>> 18) & mask;
+    dst[dstOffset + 34] = (w9 >>> 36) & mask;
+    dst[dstOffset + 35] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 36] = (w10 >>> 8) & mask;
+    dst[dstOffset + 37] = (w10 >>> 26) & mask;
+    dst[dstOffset + 38] = (w10 >>> 44) & mask;
+    dst[dstOffset + 39] = ((w10 >>> 62) | (w11 << 2)) & mask;
+    dst[dstOffset + 40] = (w11 >>> 16) & mask;
+    dst[dstOffset + 41] = (w11 >>> 34) & mask;
+    dst[dstOffset + 42] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 43] = (w12 >>> 6) & mask;
+    dst[dstOffset + 44] = (w12 >>> 24) & mask;
+    dst[dstOffset + 45] = (w12 >>> 42) & mask;
+    dst[dstOffset + 46] = ((w12 >>> 60) | (w13 << 4)) & mask;
+    dst[dstOffset + 47] = (w13 >>> 14) & mask;
+    dst[dstOffset + 48] = (w13 >>> 32) & mask;
+    dst[dstOffset + 49] = ((w13 >>> 50) | (w14 << 14)) & mask;
+    dst[dstOffset + 50] = (w14 >>> 4) & mask;
+    dst[dstOffset + 51] = (w14 >>> 22) & mask;
+    dst[dstOffset + 52] = (w14 >>> 40) & mask;
+    dst[dstOffset + 53] = ((w14 >>> 58) | (w15 << 6)) & mask;
+    dst[dstOffset + 54] = (w15 >>> 12) & mask;
+    dst[dstOffset + 55] = (w15 >>> 30) & mask;
+    dst[dstOffset + 56] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 57] = (w16 >>> 2) & mask;
+    dst[dstOffset + 58] = (w16 >>> 20) & mask;
+    dst[dstOffset + 59] = (w16 >>> 38) & mask;
+    dst[dstOffset + 60] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 61] = (w17 >>> 10) & mask;
+    dst[dstOffset + 62] = (w17 >>> 28) & mask;
+    dst[dstOffset + 63] = w17 >>> 46;
+  }
+
+  private static void unpack19(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 19) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 38) & mask) + base;
+    dst[dstOffset + 3] = (((w0 >>> 57) | (w1 << 7)) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 12) & mask) + base;
+    dst[dstOffset + 5] = ((w1 >>> 31) & mask) + base;
+    dst[dstOffset + 6] = (((w1 >>> 50) | (w2 << 14)) & mask) + base;
+    dst[dstOffset + 7] = ((w2 >>> 5) & mask) + base;
+    dst[dstOffset + 8] = ((w2 >>> 24) & mask) + base;
+    dst[dstOffset + 9] = ((w2 >>> 43) & mask) + base;
+    dst[dstOffset + 10] = (((w2 >>> 62) | (w3 << 2)) & mask) + base;
+    dst[dstOffset + 11] = ((w3 >>> 17) & mask) + base;
+    dst[dstOffset + 12] = ((w3 >>> 36) & mask) + base;
+    dst[dstOffset + 13] = (((w3 >>> 55) | (w4 << 9)) & mask) + base;
+    dst[dstOffset + 14] = ((w4 >>> 10) & mask) + base;
+    dst[dstOffset + 15] = ((w4 >>> 29) & mask) + base;
+    dst[dstOffset + 16] = (((w4 >>> 48) | (w5 << 16)) & mask) + base;
+    dst[dstOffset + 17] = ((w5 >>> 3) & mask) + base;
+    dst[dstOffset + 18] = ((w5 >>> 22) & mask) + base;
+    dst[dstOffset + 19] = ((w5 >>> 41) & mask) + base;
+    dst[dstOffset + 20] = (((w5 >>> 60) | (w6 << 4)) & mask) + base;
+    dst[dstOffset + 21] = ((w6 >>> 15) & mask) + base;
+    dst[dstOffset + 22] = ((w6 >>> 34) & mask) + base;
+    dst[dstOffset + 23] = (((w6 >>> 53) | (w7 << 11)) & mask) + base;
+    dst[dstOffset + 24] = ((w7 >>> 8) & mask) + base;
+    dst[dstOffset + 25] = ((w7 >>> 27) & mask) + base;
+    dst[dstOffset + 26] = (((w7 >>> 46) | (w8 << 18)) & mask) + base;
+    dst[dstOffset + 27] = ((w8 >>> 1) & mask) + base;
+    dst[dstOffset + 28] = ((w8 >>> 20) & mask) + base;
+    dst[dstOffset + 29] = ((w8 >>> 39) & mask) + base;
+    dst[dstOffset + 30] = (((w8 >>> 58) | (w9 << 6)) & mask) + base;
+    dst[dstOffset + 31] = ((w9 >>> 13) & mask) + base;
+    dst[dstOffset + 32] = ((w9 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = (((w9 >>> 51) | (w10 << 13)) & mask) + base;
+    dst[dstOffset + 34] = ((w10 >>> 6) & mask) + base;
+    dst[dstOffset + 35] = ((w10 >>> 25) & mask) + base;
+    dst[dstOffset + 36] = ((w10 >>> 44) & mask) + base;
+    dst[dstOffset + 37] = (((w10 >>> 63) | (w11 << 1)) & mask) + base;
+    dst[dstOffset + 38] = ((w11 >>> 18) & mask) + base;
+    dst[dstOffset + 39] = ((w11 >>> 37) & mask) + base;
+    dst[dstOffset + 40] = (((w11 >>> 56) | (w12 << 8)) & mask) + base;
+    dst[dstOffset + 41] = ((w12 >>> 11) & mask) + base;
+    dst[dstOffset + 42] = ((w12 >>> 30) & mask) + base;
+    dst[dstOffset + 43] = (((w12 >>> 49) | (w13 << 15)) & mask) + base;
+    dst[dstOffset + 44] = ((w13 >>> 4) & mask) + base;
+    dst[dstOffset + 45] = ((w13 >>> 23) & mask) + base;
+    dst[dstOffset + 46] = ((w13 >>> 42) & mask) + base;
+    dst[dstOffset + 47] = (((w13 >>> 61) | (w14 << 3)) & mask) + base;
+    dst[dstOffset + 48] = ((w14 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = ((w14 >>> 35) & mask) + base;
+    dst[dstOffset + 50] = (((w14 >>> 54) | (w15 << 10)) & mask) + base;
+    dst[dstOffset + 51] = ((w15 >>> 9) & mask) + base;
+    dst[dstOffset + 52] = ((w15 >>> 28) & mask) + base;
+    dst[dstOffset + 53] = (((w15 >>> 47) | (w16 << 17)) & mask) + base;
+    dst[dstOffset + 54] = ((w16 >>> 2) & mask) + base;
+    dst[dstOffset + 55] = ((w16 >>> 21) & mask) + base;
+    dst[dstOffset + 56] = ((w16 >>> 40) & mask) + base;
+    dst[dstOffset + 57] = (((w16 >>> 59) | (w17 << 5)) & mask) + base;
+    dst[dstOffset + 58] = ((w17 >>> 14) & mask) + base;
+    dst[dstOffset + 59] = ((w17 >>> 33) & mask) + base;
+    dst[dstOffset + 60] = (((w17 >>> 52) | (w18 << 12)) & mask) + base;
+    dst[dstOffset + 61] = ((w18 >>> 7) & mask) + base;
+    dst[dstOffset + 62] = ((w18 >>> 26) & mask) + base;
+    dst[dstOffset + 63] = (w18 >>> 45) + base;
+  }
+
+  private static void unpack19(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 19) & mask;
+    dst[dstOffset + 2] = (w0 >>> 38) & mask;
+    dst[dstOffset + 3] = ((w0 >>> 57) | (w1 << 7)) & mask;
+    dst[dstOffset + 4] = (w1 >>> 12) & mask;
+    dst[dstOffset + 5] = (w1 >>> 31) & mask;
+    dst[dstOffset + 6] = ((w1 >>> 50) | (w2 << 14)) & mask;
+    dst[dstOffset + 7] = (w2 >>> 5) & mask;
+    dst[dstOffset + 8] = (w2 >>> 24) & mask;
+    dst[dstOffset + 9] = (w2 >>> 43) & mask;
+    dst[dstOffset + 10] = ((w2 >>> 62) | (w3 << 2)) & mask;
+    dst[dstOffset + 11] = (w3 >>> 17) & mask;
+    dst[dstOffset + 12] = (w3 >>> 36) & mask;
+    dst[dstOffset + 13] = ((w3 >>> 55) | (w4 << 9)) & mask;
+    dst[dstOffset + 14] = (w4 >>> 10) & mask;
+    dst[dstOffset + 15] = (w4 >>> 29) & mask;
+    dst[dstOffset + 16] = ((w4 >>> 48) | (w5 << 16)) & mask;
+    dst[dstOffset + 17] = (w5 >>> 3) & mask;
+    dst[dstOffset + 18] = (w5 >>> 22) & mask;
+    dst[dstOffset + 19] = (w5 >>> 41) & mask;
+    dst[dstOffset + 20] = ((w5 >>> 60) | (w6 << 4)) & mask;
+    dst[dstOffset + 21] = (w6 >>> 15) & mask;
+    dst[dstOffset + 22] = (w6 >>> 34) & mask;
+    dst[dstOffset + 23] = ((w6 >>> 53) | (w7 << 11)) & mask;
+    dst[dstOffset + 24] = (w7 >>> 8) & mask;
+    dst[dstOffset + 25] = (w7 >>> 27) & mask;
+    dst[dstOffset + 26] = ((w7 >>> 46) | (w8 << 18)) & mask;
+    dst[dstOffset + 27] = (w8 >>> 1) & mask;
+    dst[dstOffset + 28] = (w8 >>> 20) & mask;
+    dst[dstOffset + 29] = (w8 >>> 39) & mask;
+    dst[dstOffset + 30] = ((w8 >>> 58) | (w9 << 6)) & mask;
+    dst[dstOffset + 31] = (w9 >>> 13) & mask;
+    dst[dstOffset + 32] = (w9 >>> 32) & mask;
+    dst[dstOffset + 33] = ((w9 >>> 51) | (w10 << 13)) & mask;
+    dst[dstOffset + 34] = (w10 >>> 6) & mask;
+    dst[dstOffset + 35] = (w10 >>> 25) & mask;
+    dst[dstOffset + 36] = (w10 >>> 44) & mask;
+    dst[dstOffset + 37] = ((w10 >>> 63) | (w11 << 1)) & mask;
+    dst[dstOffset + 38] = (w11 >>> 18) & mask;
+    dst[dstOffset + 39] = (w11 >>> 37) & mask;
+    dst[dstOffset + 40] = ((w11 >>> 56) | (w12 << 8)) & mask;
+    dst[dstOffset + 41] = (w12 >>> 11) & mask;
+    dst[dstOffset + 42] = (w12 >>> 30) & mask;
+    dst[dstOffset + 43] = ((w12 >>> 49) | (w13 << 15)) & mask;
+    dst[dstOffset + 44] = (w13 >>> 4) & mask;
+    dst[dstOffset + 45] = (w13 >>> 23) & mask;
+    dst[dstOffset + 46] = (w13 >>> 42) & mask;
+    dst[dstOffset + 47] = ((w13 >>> 61) | (w14 << 3)) & mask;
+    dst[dstOffset + 48] = (w14 >>> 16) & mask;
+    dst[dstOffset + 49] = (w14 >>> 35) & mask;
+    dst[dstOffset + 50] = ((w14 >>> 54) | (w15 << 10)) & mask;
+    dst[dstOffset + 51] = (w15 >>> 9) & mask;
+    dst[dstOffset + 52] = (w15 >>> 28) & mask;
+    dst[dstOffset + 53] = ((w15 >>> 47) | (w16 << 17)) & mask;
+    dst[dstOffset + 54] = (w16 >>> 2) & mask;
+    dst[dstOffset + 55] = (w16 >>> 21) & mask;
+    dst[dstOffset + 56] = (w16 >>> 40) & mask;
+    dst[dstOffset + 57] = ((w16 >>> 59) | (w17 << 5)) & mask;
+    dst[dstOffset + 58] = (w17 >>> 14) & mask;
+    dst[dstOffset + 59] = (w17 >>> 33) & mask;
+    dst[dstOffset + 60] = ((w17 >>> 52) | (w18 << 12)) & mask;
+    dst[dstOffset + 61] = (w18 >>> 7) & mask;
+    dst[dstOffset + 62] = (w18 >>> 26) & mask;
+    dst[dstOffset + 63] = w18 >>> 45;
+  }
+
+  private static void unpack20(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 20) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 40) & mask) + base;
+    dst[dstOffset + 3] = (((w0 >>> 60) | (w1 << 4)) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 16) & mask) + base;
+    dst[dstOffset + 5] = ((w1 >>> 36) & mask) + base;
+    dst[dstOffset + 6] = (((w1 >>> 56) | (w2 << 8)) & mask) + base;
+    dst[dstOffset + 7] = ((w2 >>> 12) & mask) + base;
+    dst[dstOffset + 8] = ((w2 >>> 32) & mask) + base;
+    dst[dstOffset + 9] = (((w2 >>> 52) | (w3 << 12)) & mask) + base;
+    dst[dstOffset + 10] = ((w3 >>> 8) & mask) + base;
+    dst[dstOffset + 11] = ((w3 >>> 28) & mask) + base;
+    dst[dstOffset + 12] = (((w3 >>> 48) | (w4 << 16)) & mask) + base;
+    dst[dstOffset + 13] = ((w4 >>> 4) & mask) + base;
+    dst[dstOffset + 14] = ((w4 >>> 24) & mask) + base;
+    dst[dstOffset + 15] = (w4 >>> 44) + base;
+    dst[dstOffset + 16] = (w5 & mask) + base;
+    dst[dstOffset + 17] = ((w5 >>> 20) & mask) + base;
+    dst[dstOffset + 18] = ((w5 >>> 40) & mask) + base;
+    dst[dstOffset + 19] = (((w5 >>> 60) | (w6 << 4)) & mask) + base;
+    dst[dstOffset + 20] = ((w6 >>> 16) & mask) + base;
+    dst[dstOffset + 21] = ((w6 >>> 36) & mask) + base;
+    dst[dstOffset + 22] = (((w6 >>> 56) | (w7 << 8)) & mask) + base;
+    dst[dstOffset + 23] = ((w7 >>> 12) & mask) + base;
+    dst[dstOffset + 24] = ((w7 >>> 32) & mask) + base;
+    dst[dstOffset + 25] = (((w7 >>> 52) | (w8 << 12)) & mask) + base;
+    dst[dstOffset + 26] = ((w8 >>> 8) & mask) + base;
+    dst[dstOffset + 27] = ((w8 >>> 28) & mask) + base;
+    dst[dstOffset + 28] = (((w8 >>> 48) | (w9 << 16)) & mask) + base;
+    dst[dstOffset + 29] = ((w9 >>> 4) & mask) + base;
+    dst[dstOffset + 30] = ((w9 >>> 24) & mask) + base;
+    dst[dstOffset + 31] = (w9 >>> 44) + base;
+    dst[dstOffset + 32] = (w10 & mask) + base;
+    dst[dstOffset + 33] = ((w10 >>> 20) & mask) + base;
+    dst[dstOffset + 34] = ((w10 >>> 40) & mask) + base;
+    dst[dstOffset + 35] = (((w10 >>> 60) | (w11 << 4)) & mask) + base;
+    dst[dstOffset + 36] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 37] = ((w11 >>> 36) & mask) + base;
+    dst[dstOffset + 38] = (((w11 >>> 56) | (w12 << 8)) & mask) + base;
+    dst[dstOffset + 39] = ((w12 >>> 12) & mask) + base;
+    dst[dstOffset + 40] = ((w12 >>> 32) & mask) + base;
+    dst[dstOffset + 41] = (((w12 >>> 52) | (w13 << 12)) & mask) + base;
+    dst[dstOffset + 42] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 43] = ((w13 >>> 28) & mask) + base;
+    dst[dstOffset + 44] = (((w13 >>> 48) | (w14 << 16)) & mask) + base;
+    dst[dstOffset + 45] = ((w14 >>> 4) & mask) + base;
+    dst[dstOffset + 46] = ((w14 >>> 24) & mask) + base;
+    dst[dstOffset + 47] = (w14 >>> 44) + base;
+    dst[dstOffset + 48] = (w15 & mask) + base;
+    dst[dstOffset + 49] = ((w15 >>> 20) & mask) + base;
+    dst[dstOffset + 50] = ((w15 >>> 40) & mask) + base;
+    dst[dstOffset + 51] = (((w15 >>> 60) | (w16 << 4)) & mask) + base;
+    dst[dstOffset + 52] = ((w16 >>> 16) & mask) + base;
+    dst[dstOffset + 53] = ((w16 >>> 36) & mask) + base;
+    dst[dstOffset + 54] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 55] = ((w17 >>> 12) & mask) + base;
+    dst[dstOffset + 56] = ((w17 >>> 32) & mask) + base;
+    dst[dstOffset + 57] = (((w17 >>> 52) | (w18 << 12)) & mask) + base;
+    dst[dstOffset + 58] = ((w18 >>> 8) & mask) + base;
+    dst[dstOffset + 59] = ((w18 >>> 28) & mask) + base;
+    dst[dstOffset + 60] = (((w18 >>> 48) | (w19 << 16)) & mask) + base;
+    dst[dstOffset + 61] = ((w19 >>> 4) & mask) + base;
+    dst[dstOffset + 62] = ((w19 >>> 24) & mask) + base;
+    dst[dstOffset + 63] = (w19 >>> 44) + base;
+  }
+
+  private static void unpack20(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 20) & mask;
+    dst[dstOffset + 2] = (w0 >>> 40) & mask;
+    dst[dstOffset + 3] = ((w0 >>> 60) | (w1 << 4)) & mask;
+    dst[dstOffset + 4] = (w1 >>> 16) & mask;
+    dst[dstOffset + 5] = (w1 >>> 36) & mask;
+    dst[dstOffset + 6] = ((w1 >>> 56) | (w2 << 8)) & mask;
+    dst[dstOffset + 7] = (w2 >>> 12) & mask;
+    dst[dstOffset + 8] = (w2 >>> 32) & mask;
+    dst[dstOffset + 9] = ((w2 >>> 52) | (w3 << 12)) & mask;
+    dst[dstOffset + 10] = (w3 >>> 8) & mask;
+    dst[dstOffset + 11] = (w3 >>> 28) & mask;
+    dst[dstOffset + 12] = ((w3 >>> 48) | (w4 << 16)) & mask;
+    dst[dstOffset + 13] = (w4 >>> 4) & mask;
+    dst[dstOffset + 14] = (w4 >>> 24) & mask;
+    dst[dstOffset + 15] = w4 >>> 44;
+    dst[dstOffset + 16] = w5 & mask;
+    dst[dstOffset + 17] = (w5 >>> 20) & mask;
+    dst[dstOffset + 18] = (w5 >>> 40) & mask;
+    dst[dstOffset + 19] = ((w5 >>> 60) | (w6 << 4)) & mask;
+    dst[dstOffset + 20] = (w6 >>> 16) & mask;
+    dst[dstOffset + 21] = (w6 >>> 36) & mask;
+    dst[dstOffset + 22] = ((w6 >>> 56) | (w7 << 8)) & mask;
+    dst[dstOffset + 23] = (w7 >>> 12) & mask;
+    dst[dstOffset + 24] = (w7 >>> 32) & mask;
+    dst[dstOffset + 25] = ((w7 >>> 52) | (w8 << 12)) & mask;
+    dst[dstOffset + 26] = (w8 >>> 8) & mask;
+    dst[dstOffset + 27] = (w8 >>> 28) & mask;
+    dst[dstOffset + 28] = ((w8 >>> 48) | (w9 << 16)) & mask;
+    dst[dstOffset + 29] = (w9 >>> 4) & mask;
+    dst[dstOffset + 30] = (w9 >>> 24) & mask;
+    dst[dstOffset + 31] = w9 >>> 44;
+    dst[dstOffset + 32] = w10 & mask;
+    dst[dstOffset + 33] = (w10 >>> 20) & mask;
+    dst[dstOffset + 34] = (w10 >>> 40) & mask;
+    dst[dstOffset + 35] = ((w10 >>> 60) | (w11 << 4)) & mask;
+    dst[dstOffset + 36] = (w11 >>> 16) & mask;
+    dst[dstOffset + 37] = (w11 >>> 36) & mask;
+    dst[dstOffset + 38] = ((w11 >>> 56) | (w12 << 8)) & mask;
+    dst[dstOffset + 39] = (w12 >>> 12) & mask;
+    dst[dstOffset + 40] = (w12 >>> 32) & mask;
+    dst[dstOffset + 41] = ((w12 >>> 52) | (w13 << 12)) & mask;
+    dst[dstOffset + 42] = (w13 >>> 8) & mask;
+    dst[dstOffset + 43] = (w13 >>> 28) & mask;
+    dst[dstOffset + 44] = ((w13 >>> 48) | (w14 << 16)) & mask;
+    dst[dstOffset + 45] = (w14 >>> 4) & mask;
+    dst[dstOffset + 46] = (w14 >>> 24) & mask;
+    dst[dstOffset + 47] = w14 >>> 44;
+    dst[dstOffset + 48] = w15 & mask;
+    dst[dstOffset + 49] = (w15 >>> 20) & mask;
+    dst[dstOffset + 50] = (w15 >>> 40) & mask;
+    dst[dstOffset + 51] = ((w15 >>> 60) | (w16 << 4)) & mask;
+    dst[dstOffset + 52] = (w16 >>> 16) & mask;
+    dst[dstOffset + 53] = (w16 >>> 36) & mask;
+    dst[dstOffset + 54] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 55] = (w17 >>> 12) & mask;
+    dst[dstOffset + 56] = (w17 >>> 32) & mask;
+    dst[dstOffset + 57] = ((w17 >>> 52) | (w18 << 12)) & mask;
+    dst[dstOffset + 58] = (w18 >>> 8) & mask;
+    dst[dstOffset + 59] = (w18 >>> 28) & mask;
+    dst[dstOffset + 60] = ((w18 >>> 48) | (w19 << 16)) & mask;
+    dst[dstOffset + 61] = (w19 >>> 4) & mask;
+    dst[dstOffset + 62] = (w19 >>> 24) & mask;
+    dst[dstOffset + 63] = w19 >>> 44;
+  }
+}
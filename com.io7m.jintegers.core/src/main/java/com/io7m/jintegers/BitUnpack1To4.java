@@ -0,0 +1,687 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 1 to 4.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack1To4
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack1To4()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 1 -> unpack1(src, index, base, dst, dstOffset);
+      case 2 -> unpack2(src, index, base, dst, dstOffset);
+      case 3 -> unpack3(src, index, base, dst, dstOffset);
+      case 4 -> unpack4(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 1 -> unpack1(src, srcOffset, dst, dstOffset);
+      case 2 -> unpack2(src, srcOffset, dst, dstOffset);
+      case 3 -> unpack3(src, srcOffset, dst, dstOffset);
+      case 4 -> unpack4(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack1(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1L;
+    final long w0 = (long) WORDS.get(src, index);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 1) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 2) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 3) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 4) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 5) & mask) + base;
+    dst[dstOffset + 6] = ((w0 >>> 6) & mask) + base;
+    dst[dstOffset + 7] = ((w0 >>> 7) & mask) + base;
+    dst[dstOffset + 8] = ((w0 >>> 8) & mask) + base;
+    dst[dstOffset + 9] = ((w0 >>> 9) & mask) + base;
+    dst[dstOffset + 10] = ((w0 >>> 10) & mask) + base;
+    dst[dstOffset + 11] = ((w0 >>> 11) & mask) + base;
+    dst[dstOffset + 12] = ((w0 >>> 12) & mask) + base;
+    dst[dstOffset + 13] = ((w0 >>> 13) & mask) + base;
+    dst[dstOffset + 14] = ((w0 >>> 14) & mask) + base;
+    dst[dstOffset + 15] = ((w0 >>> 15) & mask) + base;
+    dst[dstOffset + 16] = ((w0 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = ((w0 >>> 17) & mask) + base;
+    dst[dstOffset + 18] = ((w0 >>> 18) & mask) + base;
+    dst[dstOffset + 19] = ((w0 >>> 19) & mask) + base;
+    dst[dstOffset + 20] = ((w0 >>> 20) & mask) + base;
+    dst[dstOffset + 21] = ((w0 >>> 21) & mask) + base;
+    dst[dstOffset + 22] = ((w0 >>> 22) & mask) + base;
+    dst[dstOffset + 23] = ((w0 >>> 23) & mask) + base;
+    dst[dstOffset + 24] = ((w0 >>> 24) & mask) + base;
+    dst[dstOffset + 25] = ((w0 >>> 25) & mask) + base;
+    dst[dstOffset + 26] = ((w0 >>> 26) & mask) + base;
+    dst[dstOffset + 27] = ((w0 >>> 27) & mask) + base;
+    dst[dstOffset + 28] = ((w0 >>> 28) & mask) + base;
+    dst[dstOffset + 29] = ((w0 >>> 29) & mask) + base;
+    dst[dstOffset + 30] = ((w0 >>> 30) & mask) + base;
+    dst[dstOffset + 31] = ((w0 >>> 31) & mask) + base;
+    dst[dstOffset + 32] = ((w0 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = ((w0 >>> 33) & mask) + base;
+    dst[dstOffset + 34] = ((w0 >>> 34) & mask) + base;
+    dst[dstOffset + 35] = ((w0 >>> 35) & mask) + base;
+    dst[dstOffset + 36] = ((w0 >>> 36) & mask) + base;
+    dst[dstOffset + 37] = ((w0 >>> 37) & mask) + base;
+    dst[dstOffset + 38] = ((w0 >>> 38) & mask) + base;
+    dst[dstOffset + 39] = ((w0 >>> 39) & mask) + base;
+    dst[dstOffset + 40] = ((w0 >>> 40) & mask) + base;
+    dst[dstOffset + 41] = ((w0 >>> 41) & mask) + base;
+    dst[dstOffset + 42] = ((w0 >>> 42) & mask) + base;
+    dst[dstOffset + 43] = ((w0 >>> 43) & mask) + base;
+    dst[dstOffset + 44] = ((w0 >>> 44) & mask) + base;
+    dst[dstOffset + 45] = ((w0 >>> 45) & mask) + base;
+    dst[dstOffset + 46] = ((w0 >>> 46) & mask) + base;
+    dst[dstOffset + 47] = ((w0 >>> 47) & mask) + base;
+    dst[dstOffset + 48] = ((w0 >>> 48) & mask) + base;
+    dst[dstOffset + 49] = ((w0 >>> 49) & mask) + base;
+    dst[dstOffset + 50] = ((w0 >>> 50) & mask) + base;
+    dst[dstOffset + 51] = ((w0 >>> 51) & mask) + base;
+    dst[dstOffset + 52] = ((w0 >>> 52) & mask) + base;
+    dst[dstOffset + 53] = ((w0 >>> 53) & mask) + base;
+    dst[dstOffset + 54] = ((w0 >>> 54) & mask) + base;
+    dst[dstOffset + 55] = ((w0 >>> 55) & mask) + base;
+    dst[dstOffset + 56] = ((w0 >>> 56) & mask) + base;
+    dst[dstOffset + 57] = ((w0 >>> 57) & mask) + base;
+    dst[dstOffset + 58] = ((w0 >>> 58) & mask) + base;
+    dst[dstOffset + 59] = ((w0 >>> 59) & mask) + base;
+    dst[dstOffset + 60] = ((w0 >>> 60) & mask) + base;
+    dst[dstOffset + 61] = ((w0 >>> 61) & mask) + base;
+    dst[dstOffset + 62] = ((w0 >>> 62) & mask) + base;
+    dst[dstOffset + 63] = (w0 >>> 63) + base;
+  }
+
+  private static void unpack1(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1L;
+    final long w0 = src[srcOffset];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 1) & mask;
+    dst[dstOffset + 2] = (w0 >>> 2) & mask;
+    dst[dstOffset + 3] = (w0 >>> 3) & mask;
+    dst[dstOffset + 4] = (w0 >>> 4) & mask;
+    dst[dstOffset + 5] = (w0 >>> 5) & mask;
+    dst[dstOffset + 6] = (w0 >>> 6) & mask;
+    dst[dstOffset + 7] = (w0 >>> 7) & mask;
+    dst[dstOffset + 8] = (w0 >>> 8) & mask;
+    dst[dstOffset + 9] = (w0 >>> 9) & mask;
+    dst[dstOffset + 10] = (w0 >>> 10) & mask;
+    dst[dstOffset + 11] = (w0 >>> 11) & mask;
+    dst[dstOffset + 12] = (w0 >>> 12) & mask;
+    dst[dstOffset + 13] = (w0 >>> 13) & mask;
+    dst[dstOffset + 14] = (w0 >>> 14) & mask;
+    dst[dstOffset + 15] = (w0 >>> 15) & mask;
+    dst[dstOffset + 16] = (w0 >>> 16) & mask;
+    dst[dstOffset + 17] = (w0 >>> 17) & mask;
+    dst[dstOffset + 18] = (w0 >>> 18) & mask;
+    dst[dstOffset + 19] = (w0 >>> 19) & mask;
+    dst[dstOffset + 20] = (w0 >>> 20) & mask;
+    dst[dstOffset + 21] = (w0 >>> 21) & mask;
+    dst[dstOffset + 22] = (w0 >>> 22) & mask;
+    dst[dstOffset + 23] = (w0 >>> 23) & mask;
+    dst[dstOffset + 24] = (w0 >>> 24) & mask;
+    dst[dstOffset + 25] = (w0 >>> 25) & mask;
+    dst[dstOffset + 26] = (w0 >>> 26) & mask;
+    dst[dstOffset + 27] = (w0 >>> 27) & mask;
+    dst[dstOffset + 28] = (w0 >>> 28) & mask;
+    dst[dstOffset + 29] = (w0 >>> 29) & mask;
+    dst[dstOffset + 30] = (w0 >>> 30) & mask;
+    dst[dstOffset + 31] = (w0 >>> 31) & mask;
+    dst[dstOffset + 32] = (w0 >>> 32) & mask;
+    dst[dstOffset + 33] = (w0 >>> 33) & mask;
+    dst[dstOffset + 34] = (w0 >>> 34) & mask;
+    dst[dstOffset + 35] = (w0 >>> 35) & mask;
+    dst[dstOffset + 36] = (w0 >>> 36) & mask;
+    dst[dstOffset + 37] = (w0 >>> 37) & mask;
+    dst[dstOffset + 38] = (w0 >>> 38) & mask;
+    dst[dstOffset + 39] = (w0 >>> 39) & mask;
+    dst[dstOffset + 40] = (w0 >>> 40) & mask;
+    dst[dstOffset + 41] = (w0 >>> 41) & mask;
+    dst[dstOffset + 42] = (w0 >>> 42) & mask;
+    dst[dstOffset + 43] = (w0 >>> 43) & mask;
+    dst[dstOffset + 44] = (w0 >>> 44) & mask;
+    dst[dstOffset + 45] = (w0 >>> 45) & mask;
+    dst[dstOffset + 46] = (w0 >>> 46) & mask;
+    dst[dstOffset + 47] = (w0 >>> 47) & mask;
+    dst[dstOffset + 48] = (w0 >>> 48) & mask;
+    dst[dstOffset + 49] = (w0 >>> 49) & mask;
+    dst[dstOffset + 50] = (w0 >>> 50) & mask;
+    dst[dstOffset + 51] = (w0 >>> 51) & mask;
+    dst[dstOffset + 52] = (w0 >>> 52) & mask;
+    dst[dstOffset + 53] = (w0 >>> 53) & mask;
+    dst[dstOffset + 54] = (w0 >>> 54) & mask;
+    dst[dstOffset + 55] = (w0 >>> 55) & mask;
+    dst[dstOffset + 56] = (w0 >>> 56) & mask;
+    dst[dstOffset + 57] = (w0 >>> 57) & mask;
+    dst[dstOffset + 58] = (w0 >>> 58) & mask;
+    dst[dstOffset + 59] = (w0 >>> 59) & mask;
+    dst[dstOffset + 60] = (w0 >>> 60) & mask;
+    dst[dstOffset + 61] = (w0 >>> 61) & mask;
+    dst[dstOffset + 62] = (w0 >>> 62) & mask;
+    dst[dstOffset + 63] = w0 >>> 63;
+  }
+
+  private static void unpack2(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3L;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 2) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 4) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 6) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 8) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 10) & mask) + base;
+    dst[dstOffset + 6] = ((w0 >>> 12) & mask) + base;
+    dst[dstOffset + 7] = ((w0 >>> 14) & mask) + base;
+    dst[dstOffset + 8] = ((w0 >>> 16) & mask) + base;
+    dst[dstOffset + 9] = ((w0 >>> 18) & mask) + base;
+    dst[dstOffset + 10] = ((w0 >>> 20) & mask) + base;
+    dst[dstOffset + 11] = ((w0 >>> 22) & mask) + base;
+    dst[dstOffset + 12] = ((w0 >>> 24) & mask) + base;
+    dst[dstOffset + 13] = ((w0 >>> 26) & mask) + base;
+    dst[dstOffset + 14] = ((w0 >>> 28) & mask) + base;
+    dst[dstOffset + 15] = ((w0 >>> 30) & mask) + base;
+    dst[dstOffset + 16] = ((w0 >>> 32) & mask) + base;
+    dst[dstOffset + 17] = ((w0 >>> 34) & mask) + base;
+    dst[dstOffset + 18] = ((w0 >>> 36) & mask) + base;
+    dst[dstOffset + 19] = ((w0 >>> 38) & mask) + base;
+    dst[dstOffset + 20] = ((w0 >>> 40) & mask) + base;
+    dst[dstOffset + 21] = ((w0 >>> 42) & mask) + base;
+    dst[dstOffset + 22] = ((w0 >>> 44) & mask) + base;
+    dst[dstOffset + 23] = ((w0 >>> 46) & mask) + base;
+    dst[dstOffset + 24] = ((w0 >>> 48) & mask) + base;
+    dst[dstOffset + 25] = ((w0 >>> 50) & mask) + base;
+    dst[dstOffset + 26] = ((w0 >>> 52) & mask) + base;
+    dst[dstOffset + 27] = ((w0 >>> 54) & mask) + base;
+    dst[dstOffset + 28] = ((w0 >>> 56) & mask) + base;
+    dst[dstOffset + 29] = ((w0 >>> 58) & mask) + base;
+    dst[dstOffset + 30] = ((w0 >>> 60) & mask) + base;
+    dst[dstOffset + 31] = (w0 >>> 62) + base;
+    dst[dstOffset + 32] = (w1 & mask) + base;
+    dst[dstOffset + 33] = ((w1 >>> 2) & mask) + base;
+    dst[dstOffset + 34] = ((w1 >>> 4) & mask) + base;
+    dst[dstOffset + 35] = ((w1 >>> 6) & mask) + base;
+    dst[dstOffset + 36] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 37] = ((w1 >>> 10) & mask) + base;
+    dst[dstOffset + 38] = ((w1 >>> 12) & mask) + base;
+    dst[dstOffset + 39] = ((w1 >>> 14) & mask) + base;
+    dst[dstOffset + 40] = ((w1 >>> 16) & mask) + base;
+    dst[dstOffset + 41] = ((w1 >>> 18) & mask) + base;
+    dst[dstOffset + 42] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 43] = ((w1 >>> 22) & mask) + base;
+    dst[dstOffset + 44] = ((w1 >>> 24) & mask) + base;
+    dst[dstOffset + 45] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 46] = ((w1 >>> 28) & mask) + base;
+    dst[dstOffset + 47] = ((w1 >>> 30) & mask) + base;
+    dst[dstOffset + 48] = ((w1 >>> 32) & mask) + base;
+    dst[dstOffset + 49] = ((w1 >>> 34) & mask) + base;
+    dst[dstOffset + 50] = ((w1 >>> 36) & mask) + base;
+    dst[dstOffset + 51] = ((w1 >>> 38) & mask) + base;
+    dst[dstOffset + 52] = ((w1 >>> 40) & mask) + base;
+    dst[dstOffset + 53] = ((w1 >>> 42) & mask) + base;
+    dst[dstOffset + 54] = ((w1 >>> 44) & mask) + base;
+    dst[dstOffset + 55] = ((w1 >>> 46) & mask) + base;
+    dst[dstOffset + 56] = ((w1 >>> 48) & mask) + base;
+    dst[dstOffset + 57] = ((w1 >>> 50) & mask) + base;
+    dst[dstOffset + 58] = ((w1 >>> 52) & mask) + base;
+    dst[dstOffset + 59] = ((w1 >>> 54) & mask) + base;
+    dst[dstOffset + 60] = ((w1 >>> 56) & mask) + base;
+    dst[dstOffset + 61] = ((w1 >>> 58) & mask) + base;
+    dst[dstOffset + 62] = ((w1 >>> 60) & mask) + base;
+    dst[dstOffset + 63] = (w1 >>> 62) + base;
+  }
+
+  private static void unpack2(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3L;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 2) & mask;
+    dst[dstOffset + 2] = (w0 >>> 4) & mask;
+    dst[dstOffset + 3] = (w0 >>> 6) & mask;
+    dst[dstOffset + 4] = (w0 >>> 8) & mask;
+    dst[dstOffset + 5] = (w0 >>> 10) & mask;
+    dst[dstOffset + 6] = (w0 >>> 12) & mask;
+    dst[dstOffset + 7] = (w0 >>> 14) & mask;
+    dst[dstOffset + 8] = (w0 >>> 16) & mask;
+    dst[dstOffset + 9] = (w0 >>> 18) & mask;
+    dst[dstOffset + 10] = (w0 >>> 20) & mask;
+    dst[dstOffset + 11] = (w0 >>> 22) & mask;
+    dst[dstOffset + 12] = (w0 >>> 24) & mask;
+    dst[dstOffset + 13] = (w0 >>> 26) & mask;
+    dst[dstOffset + 14] = (w0 >>> 28) & mask;
+    dst[dstOffset + 15] = (w0 >>> 30) & mask;
+    dst[dstOffset + 16] = (w0 >>> 32) & mask;
+    dst[dstOffset + 17] = (w0 >>> 34) & mask;
+    dst[dstOffset + 18] = (w0 >>> 36) & mask;
+    dst[dstOffset + 19] = (w0 >>> 38) & mask;
+    dst[dstOffset + 20] = (w0 >>> 40) & mask;
+    dst[dstOffset + 21] = (w0 >>> 42) & mask;
+    dst[dstOffset + 22] = (w0 >>> 44) & mask;
+    dst[dstOffset + 23] = (w0 >>> 46) & mask;
+    dst[dstOffset + 24] = (w0 >>> 48) & mask;
+    dst[dstOffset + 25] = (w0 >>> 50) & mask;
+    dst[dstOffset + 26] = (w0 >>> 52) & mask;
+    dst[dstOffset + 27] = (w0 >>> 54) & mask;
+    dst[dstOffset + 28] = (w0 >>> 56) & mask;
+    dst[dstOffset + 29] = (w0 >>> 58) & mask;
+    dst[dstOffset + 30] = (w0 >>> 60) & mask;
+    dst[dstOffset + 31] = w0 >>> 62;
+    dst[dstOffset + 32] = w1 & mask;
+    dst[dstOffset + 33] = (w1 >>> 2) & mask;
+    dst[dstOffset + 34] = (w1 >>> 4) & mask;
+    dst[dstOffset + 35] = (w1 >>> 6) & mask;
+    dst[dstOffset + 36] = (w1 >>> 8) & mask;
+    dst[dstOffset + 37] = (w1 >>> 10) & mask;
+    dst[dstOffset + 38] = (w1 >>> 12) & mask;
+    dst[dstOffset + 39] = (w1 >>> 14) & mask;
+    dst[dstOffset + 40] = (w1 >>> 16) & mask;
+    dst[dstOffset + 41] = (w1 >>> 18) & mask;
+    dst[dstOffset + 42] = (w1 >>> 20) & mask;
+    dst[dstOffset + 43] = (w1 >>> 22) & mask;
+    dst[dstOffset + 44] = (w1 >>> 24) & mask;
+    dst[dstOffset + 45] = (w1 >>> 26) & mask;
+    dst[dstOffset + 46] = (w1 >>> 28) & mask;
+    dst[dstOffset + 47] = (w1 >>> 30) & mask;
+    dst[dstOffset + 48] = (w1 >>> 32) & mask;
+    dst[dstOffset + 49] = (w1 >>> 34) & mask;
+    dst[dstOffset + 50] = (w1 >>> 36) & mask;
+    dst[dstOffset + 51] = (w1 >>> 38) & mask;
+    dst[dstOffset + 52] = (w1 >>> 40) & mask;
+    dst[dstOffset + 53] = (w1 >>> 42) & mask;
+    dst[dstOffset + 54] = (w1 >>> 44) & mask;
+    dst[dstOffset + 55] = (w1 >>> 46) & mask;
+    dst[dstOffset + 56] = (w1 >>> 48) & mask;
+    dst[dstOffset + 57] = (w1 >>> 50) & mask;
+    dst[dstOffset + 58] = (w1 >>> 52) & mask;
+    dst[dstOffset + 59] = (w1 >>> 54) & mask;
+    dst[dstOffset + 60] = (w1 >>> 56) & mask;
+    dst[dstOffset + 61] = (w1 >>> 58) & mask;
+    dst[dstOffset + 62] = (w1 >>> 60) & mask;
+    dst[dstOffset + 63] = w1 >>> 62;
+  }
+
+  private static void unpack3(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7L;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 3) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 6) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 9) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 12) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 15) & mask) + base;
+    dst[dstOffset + 6] = ((w0 >>> 18) & mask) + base;
+    dst[dstOffset + 7] = ((w0 >>> 21) & mask) + base;
+    dst[dstOffset + 8] = ((w0 >>> 24) & mask) + base;
+    dst[dstOffset + 9] = ((w0 >>> 27) & mask) + base;
+    dst[dstOffset + 10] = ((w0 >>> 30) & mask) + base;
+    dst[dstOffset + 11] = ((w0 >>> 33) & mask) + base;
+    dst[dstOffset + 12] = ((w0 >>> 36) & mask) + base;
+    dst[dstOffset + 13] = ((w0 >>> 39) & mask) + base;
+    dst[dstOffset + 14] = ((w0 >>> 42) & mask) + base;
+    dst[dstOffset + 15] = ((w0 >>> 45) & mask) + base;
+    dst[dstOffset + 16] = ((w0 >>> 48) & mask) + base;
+    dst[dstOffset + 17] = ((w0 >>> 51) & mask) + base;
+    dst[dstOffset + 18] = ((w0 >>> 54) & mask) + base;
+    dst[dstOffset + 19] = ((w0 >>> 57) & mask) + base;
+    dst[dstOffset + 20] = ((w0 >>> 60) & mask) + base;
+    dst[dstOffset + 21] = (((w0 >>> 63) | (w1 << 1)) & mask) + base;
+    dst[dstOffset + 22] = ((w1 >>> 2) & mask) + base;
+    dst[dstOffset + 23] = ((w1 >>> 5) & mask) + base;
+    dst[dstOffset + 24] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 25] = ((w1 >>> 11) & mask) + base;
+    dst[dstOffset + 26] = ((w1 >>> 14) & mask) + base;
+    dst[dstOffset + 27] = ((w1 >>> 17) & mask) + base;
+    dst[dstOffset + 28] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 29] = ((w1 >>> 23) & mask) + base;
+    dst[dstOffset + 30] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 31] = ((w1 >>> 29) & mask) + base;
+    dst[dstOffset + 32] = ((w1 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = ((w1 >>> 35) & mask) + base;
+    dst[dstOffset + 34] = ((w1 >>> 38) & mask) + base;
+    dst[dstOffset + 35] = ((w1 >>> 41) & mask) + base;
+    dst[dstOffset + 36] = ((w1 >>> 44) & mask) + base;
+    dst[dstOffset + 37] = ((w1 >>> 47) & mask) + base;
+    dst[dstOffset + 38] = ((w1 >>> 50) & mask) + base;
+    dst[dstOffset + 39] = ((w1 >>> 53) & mask) + base;
+    dst[dstOffset + 40] = ((w1 >>> 56) & mask) + base;
+    dst[dstOffset + 41] = ((w1 >>> 59) & mask) + base;
+    dst[dstOffset + 42] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 43] = ((w2 >>> 1) & mask) + base;
+    dst[dstOffset + 44] = ((w2 >>> 4) & mask) + base;
+    dst[dstOffset + 45] = ((w2 >>> 7) & mask) + base;
+    dst[dstOffset + 46] = ((w2 >>> 10) & mask) + base;
+    dst[dstOffset + 47] = ((w2 >>> 13) & mask) + base;
+    dst[dstOffset + 48] = ((w2 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = ((w2 >>> 19) & mask) + base;
+    dst[dstOffset + 50] = ((w2 >>> 22) & mask) + base;
+    dst[dstOffset + 51] = ((w2 >>> 25) & mask) + base;
+    dst[dstOffset + 52] = ((w2 >>> 28) & mask) + base;
+    dst[dstOffset + 53] = ((w2 >>> 31) & mask) + base;
+    dst[dstOffset + 54] = ((w2 >>> 34) & mask) + base;
+    dst[dstOffset + 55] = ((w2 >>> 37) & mask) + base;
+    dst[dstOffset + 56] = ((w2 >>> 40) & mask) + base;
+    dst[dstOffset + 57] = ((w2 >>> 43) & mask) + base;
+    dst[dstOffset + 58] = ((w2 >>> 46) & mask) + base;
+    dst[dstOffset + 59] = ((w2 >>> 49) & mask) + base;
+    dst[dstOffset + 60] = ((w2 >>> 52) & mask) + base;
+    dst[dstOffset + 61] = ((w2 >>> 55) & mask) + base;
+    dst[dstOffset + 62] = ((w2 >>> 58) & mask) + base;
+    dst[dstOffset + 63] = (w2 >>> 61) + base;
+  }
+
+  private static void unpack3(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7L;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 3) & mask;
+    dst[dstOffset + 2] = (w0 >>> 6) & mask;
+    dst[dstOffset + 3] = (w0 >>> 9) & mask;
+    dst[dstOffset + 4] = (w0 >>> 12) & mask;
+    dst[dstOffset + 5] = (w0 >>> 15) & mask;
+    dst[dstOffset + 6] = (w0 >>> 18) & mask;
+    dst[dstOffset + 7] = (w0 >>> 21) & mask;
+    dst[dstOffset + 8] = (w0 >>> 24) & mask;
+    dst[dstOffset + 9] = (w0 >>> 27) & mask;
+    dst[dstOffset + 10] = (w0 >>> 30) & mask;
+    dst[dstOffset + 11] = (w0 >>> 33) & mask;
+    dst[dstOffset + 12] = (w0 >>> 36) & mask;
+    dst[dstOffset + 13] = (w0 >>> 39) & mask;
+    dst[dstOffset + 14] = (w0 >>> 42) & mask;
+    dst[dstOffset + 15] = (w0 >>> 45) & mask;
+    dst[dstOffset + 16] = (w0 >>> 48) & mask;
+    dst[dstOffset + 17] = (w0 >>> 51) & mask;
+    dst[dstOffset + 18] = (w0 >>> 54) & mask;
+    dst[dstOffset + 19] = (w0 >>> 57) & mask;
+    dst[dstOffset + 20] = (w0 >>> 60) & mask;
+    dst[dstOffset + 21] = ((w0 >>> 63) | (w1 << 1)) & mask;
+    dst[dstOffset + 22] = (w1 >>> 2) & mask;
+    dst[dstOffset + 23] = (w1 >>> 5) & mask;
+    dst[dstOffset + 24] = (w1 >>> 8) & mask;
+    dst[dstOffset + 25] = (w1 >>> 11) & mask;
+    dst[dstOffset + 26] = (w1 >>> 14) & mask;
+    dst[dstOffset + 27] = (w1 >>> 17) & mask;
+    dst[dstOffset + 28] = (w1 >>> 20) & mask;
+    dst[dstOffset + 29] = (w1 >>> 23) & mask;
+    dst[dstOffset + 30] = (w1 >>> 26) & mask;
+    dst[dstOffset + 31] = (w1 >>> 29) & mask;
+    dst[dstOffset + 32] = (w1 >>> 32) & mask;
+    dst[dstOffset + 33] = (w1 >>> 35) & mask;
+    dst[dstOffset + 34] = (w1 >>> 38) & mask;
+    dst[dstOffset + 35] = (w1 >>> 41) & mask;
+    dst[dstOffset + 36] = (w1 >>> 44) & mask;
+    dst[dstOffset + 37] = (w1 >>> 47) & mask;
+    dst[dstOffset + 38] = (w1 >>> 50) & mask;
+    dst[dstOffset + 39] = (w1 >>> 53) & mask;
+    dst[dstOffset + 40] = (w1 >>> 56) & mask;
+    dst[dstOffset + 41] = (w1 >>> 59) & mask;
+    dst[dstOffset + 42] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 43] = (w2 >>> 1) & mask;
+    dst[dstOffset + 44] = (w2 >>> 4) & mask;
+    dst[dstOffset + 45] = (w2 >>> 7) & mask;
+    dst[dstOffset + 46] = (w2 >>> 10) & mask;
+    dst[dstOffset + 47] = (w2 >>> 13) & mask;
+    dst[dstOffset + 48] = (w2 >>> 16) & mask;
+    dst[dstOffset + 49] = (w2 >>> 19) & mask;
+    dst[dstOffset + 50] = (w2 >>> 22) & mask;
+    dst[dstOffset + 51] = (w2 >>> 25) & mask;
+    dst[dstOffset + 52] = (w2 >>> 28) & mask;
+    dst[dstOffset + 53] = (w2 >>> 31) & mask;
+    dst[dstOffset + 54] = (w2 >>> 34) & mask;
+    dst[dstOffset + 55] = (w2 >>> 37) & mask;
+    dst[dstOffset + 56] = (w2 >>> 40) & mask;
+    dst[dstOffset + 57] = (w2 >>> 43) & mask;
+    dst[dstOffset + 58] = (w2 >>> 46) & mask;
+    dst[dstOffset + 59] = (w2 >>> 49) & mask;
+    dst[dstOffset + 60] = (w2 >>> 52) & mask;
+    dst[dstOffset + 61] = (w2 >>> 55) & mask;
+    dst[dstOffset + 62] = (w2 >>> 58) & mask;
+    dst[dstOffset + 63] = w2 >>> 61;
+  }
+
+  private static void unpack4(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 4) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 8) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 12) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 16) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 20) & mask) + base;
+    dst[dstOffset + 6] = ((w0 >>> 24) & mask) + base;
+    dst[dstOffset + 7] = ((w0 >>> 28) & mask) + base;
+    dst[dstOffset + 8] = ((w0 >>> 32) & mask) + base;
+    dst[dstOffset + 9] = ((w0 >>> 36) & mask) + base;
+    dst[dstOffset + 10] = ((w0 >>> 40) & mask) + base;
+    dst[dstOffset + 11] = ((w0 >>> 44) & mask) + base;
+    dst[dstOffset + 12] = ((w0 >>> 48) & mask) + base;
+    dst[dstOffset + 13] = ((w0 >>> 52) & mask) + base;
+    dst[dstOffset + 14] = ((w0 >>> 56) & mask) + base;
+    dst[dstOffset + 15] = (w0 >>> 60) + base;
+    dst[dstOffset + 16] = (w1 & mask) + base;
+    dst[dstOffset + 17] = ((w1 >>> 4) & mask) + base;
+    dst[dstOffset + 18] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 19] = ((w1 >>> 12) & mask) + base;
+    dst[dstOffset + 20] = ((w1 >>> 16) & mask) + base;
+    dst[dstOffset + 21] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 22] = ((w1 >>> 24) & mask) + base;
+    dst[dstOffset + 23] = ((w1 >>> 28) & mask) + base;
+    dst[dstOffset + 24] = ((w1 >>> 32) & mask) + base;
+    dst[dstOffset + 25] = ((w1 >>> 36) & mask) + base;
+    dst[dstOffset + 26] = ((w1 >>> 40) & mask) + base;
+    dst[dstOffset + 27] = ((w1 >>> 44) & mask) + base;
+    dst[dstOffset + 28] = ((w1 >>> 48) & mask) + base;
+    dst[dstOffset + 29] = ((w1 >>> 52) & mask) + base;
+    dst[dstOffset + 30] = ((w1 >>> 56) & mask) + base;
+    dst[dstOffset + 31] = (w1 >>> 60) + base;
+    dst[dstOffset + 32] = (w2 & mask) + base;
+    dst[dstOffset + 33] = ((w2 >>> 4) & mask) + base;
+    dst[dstOffset + 34] = ((w2 >>> 8) & mask) + base;
+    dst[dstOffset + 35] = ((w2 >>> 12) & mask) + base;
+    dst[dstOffset + 36] = ((w2 >>> 16) & mask) + base;
+    dst[dstOffset + 37] = ((w2 >>> 20) & mask) + base;
+    dst[dstOffset + 38] = ((w2 >>> 24) & mask) + base;
+    dst[dstOffset + 39] = ((w2 >>> 28) & mask) + base;
+    dst[dstOffset + 40] = ((w2 >>> 32) & mask) + base;
+    dst[dstOffset + 41] = ((w2 >>> 36) & mask) + base;
+    dst[dstOffset + 42] = ((w2 >>> 40) & mask) + base;
+    dst[dstOffset + 43] = ((w2 >>> 44) & mask) + base;
+    dst[dstOffset + 44] = ((w2 >>> 48) & mask) + base;
+    dst[dstOffset + 45] = ((w2 >>> 52) & mask) + base;
+    dst[dstOffset + 46] = ((w2 >>> 56) & mask) + base;
+    dst[dstOffset + 47] = (w2 >>> 60) + base;
+    dst[dstOffset + 48] = (w3 & mask) + base;
+    dst[dstOffset + 49] = ((w3 >>> 4) & mask) + base;
+    dst[dstOffset + 50] = ((w3 >>> 8) & mask) + base;
+    dst[dstOffset + 51] = ((w3 >>> 12) & mask) + base;
+    dst[dstOffset + 52] = ((w3 >>> 16) & mask) + base;
+    dst[dstOffset + 53] = ((w3 >>> 20) & mask) + base;
+    dst[dstOffset + 54] = ((w3 >>> 24) & mask) + base;
+    dst[dstOffset + 55] = ((w3 >>> 28) & mask) + base;
+    dst[dstOffset + 56] = ((w3 >>> 32) & mask) + base;
+    dst[dstOffset + 57] = ((w3 >>> 36) & mask) + base;
+    dst[dstOffset + 58] = ((w3 >>> 40) & mask) + base;
+    dst[dstOffset + 59] = ((w3 >>> 44) & mask) + base;
+    dst[dstOffset + 60] = ((w3 >>> 48) & mask) + base;
+    dst[dstOffset + 61] = ((w3 >>> 52) & mask) + base;
+    dst[dstOffset + 62] = ((w3 >>> 56) & mask) + base;
+    dst[dstOffset + 63] = (w3 >>> 60) + base;
+  }
+
+  private static void unpack4(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 4) & mask;
+    dst[dstOffset + 2] = (w0 >>> 8) & mask;
+    dst[dstOffset + 3] = (w0 >>> 12) & mask;
+    dst[dstOffset + 4] = (w0 >>> 16) & mask;
+    dst[dstOffset + 5] = (w0 >>> 20) & mask;
+    dst[dstOffset + 6] = (w0 >>> 24) & mask;
+    dst[dstOffset + 7] = (w0 >>> 28) & mask;
+    dst[dstOffset + 8] = (w0 >>> 32) & mask;
+    dst[dstOffset + 9] = (w0 >>> 36) & mask;
+    dst[dstOffset + 10] = (w0 >>> 40) & mask;
+    dst[dstOffset + 11] = (w0 >>> 44) & mask;
+    dst[dstOffset + 12] = (w0 >>> 48) & mask;
+    dst[dstOffset + 13] = (w0 >>> 52) & mask;
+    dst[dstOffset + 14] = (w0 >>> 56) & mask;
+    dst[dstOffset + 15] = w0 >>> 60;
+    dst[dstOffset + 16] = w1 & mask;
+    dst[dstOffset + 17] = (w1 >>> 4) & mask;
+    dst[dstOffset + 18] = (w1 >>> 8) & mask;
+    dst[dstOffset + 19] = (w1 >>> 12) & mask;
+    dst[dstOffset + 20] = (w1 >>> 16) & mask;
+    dst[dstOffset + 21] = (w1 >>> 20) & mask;
+    dst[dstOffset + 22] = (w1 >>> 24) & mask;
+    dst[dstOffset + 23] = (w1 >>> 28) & mask;
+    dst[dstOffset + 24] = (w1 >>> 32) & mask;
+    dst[dstOffset + 25] = (w1 >>> 36) & mask;
+    dst[dstOffset + 26] = (w1 >>> 40) & mask;
+    dst[dstOffset + 27] = (w1 >>> 44) & mask;
+    dst[dstOffset + 28] = (w1 >>> 48) & mask;
+    dst[dstOffset + 29] = (w1 >>> 52) & mask;
+    dst[dstOffset + 30] = (w1 >>> 56) & mask;
+    dst[dstOffset + 31] = w1 >>> 60;
+    dst[dstOffset + 32] = w2 & mask;
+    dst[dstOffset + 33] = (w2 >>> 4) & mask;
+    dst[dstOffset + 34] = (w2 >>> 8) & mask;
+    dst[dstOffset + 35] = (w2 >>> 12) & mask;
+    dst[dstOffset + 36] = (w2 >>> 16) & mask;
+    dst[dstOffset + 37] = (w2 >>> 20) & mask;
+    dst[dstOffset + 38] = (w2 >>> 24) & mask;
+    dst[dstOffset + 39] = (w2 >>> 28) & mask;
+    dst[dstOffset + 40] = (w2 >>> 32) & mask;
+    dst[dstOffset + 41] = (w2 >>> 36) & mask;
+    dst[dstOffset + 42] = (w2 >>> 40) & mask;
+    dst[dstOffset + 43] = (w2 >>> 44) & mask;
+    dst[dstOffset + 44] = (w2 >>> 48) & mask;
+    dst[dstOffset + 45] = (w2 >>> 52) & mask;
+    dst[dstOffset + 46] = (w2 >>> 56) & mask;
+    dst[dstOffset + 47] = w2 >>> 60;
+    dst[dstOffset + 48] = w3 & mask;
+    dst[dstOffset + 49] = (w3 >>> 4) & mask;
+    dst[dstOffset + 50] = (w3 >>> 8) & mask;
+    dst[dstOffset + 51] = (w3 >>> 12) & mask;
+    dst[dstOffset + 52] = (w3 >>> 16) & mask;
+    dst[dstOffset + 53] = (w3 >>> 20) & mask;
+    dst[dstOffset + 54] = (w3 >>> 24) & mask;
+    dst[dstOffset + 55] = (w3 >>> 28) & mask;
+    dst[dstOffset + 56] = (w3 >>> 32) & mask;
+    dst[dstOffset + 57] = (w3 >>> 36) & mask;
+    dst[dstOffset + 58] = (w3 >>> 40) & mask;
+    dst[dstOffset + 59] = (w3 >>> 44) & mask;
+    dst[dstOffset + 60] = (w3 >>> 48) & mask;
+    dst[dstOffset + 61] = (w3 >>> 52) & mask;
+    dst[dstOffset + 62] = (w3 >>> 56) & mask;
+    dst[dstOffset + 63] = w3 >>> 60;
+  }
+}
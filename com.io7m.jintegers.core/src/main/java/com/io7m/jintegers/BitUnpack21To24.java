@@ -0,0 +1,847 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 21 to 24.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack21To24
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack21To24()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 21 -> unpack21(src, index, base, dst, dstOffset);
+      case 22 -> unpack22(src, index, base, dst, dstOffset);
+      case 23 -> unpack23(src, index, base, dst, dstOffset);
+      case 24 -> unpack24(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 21 -> unpack21(src, srcOffset, dst, dstOffset);
+      case 22 -> unpack22(src, srcOffset, dst, dstOffset);
+      case 23 -> unpack23(src, srcOffset, dst, dstOffset);
+      case 24 -> unpack24(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack21(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 21) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 42) & mask) + base;
+    dst[dstOffset + 3] = (((w0 >>> 63) | (w1 << 1)) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 5] = ((w1 >>> 41) & mask) + base;
+    dst[dstOffset + 6] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 7] = ((w2 >>> 19) & mask) + base;
+    dst[dstOffset + 8] = ((w2 >>> 40) & mask) + base;
+    dst[dstOffset + 9] = (((w2 >>> 61) | (w3 << 3)) & mask) + base;
+    dst[dstOffset + 10] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 11] = ((w3 >>> 39) & mask) + base;
+    dst[dstOffset + 12] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 13] = ((w4 >>> 17) & mask) + base;
+    dst[dstOffset + 14] = ((w4 >>> 38) & mask) + base;
+    dst[dstOffset + 15] = (((w4 >>> 59) | (w5 << 5)) & mask) + base;
+    dst[dstOffset + 16] = ((w5 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = ((w5 >>> 37) & mask) + base;
+    dst[dstOffset + 18] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 19] = ((w6 >>> 15) & mask) + base;
+    dst[dstOffset + 20] = ((w6 >>> 36) & mask) + base;
+    dst[dstOffset + 21] = (((w6 >>> 57) | (w7 << 7)) & mask) + base;
+    dst[dstOffset + 22] = ((w7 >>> 14) & mask) + base;
+    dst[dstOffset + 23] = ((w7 >>> 35) & mask) + base;
+    dst[dstOffset + 24] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 25] = ((w8 >>> 13) & mask) + base;
+    dst[dstOffset + 26] = ((w8 >>> 34) & mask) + base;
+    dst[dstOffset + 27] = (((w8 >>> 55) | (w9 << 9)) & mask) + base;
+    dst[dstOffset + 28] = ((w9 >>> 12) & mask) + base;
+    dst[dstOffset + 29] = ((w9 >>> 33) & mask) + base;
+    dst[dstOffset + 30] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 31] = ((w10 >>> 11) & mask) + base;
+    dst[dstOffset + 32] = ((w10 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = (((w10 >>> 53) | (w11 << 11)) & mask) + base;
+    dst[dstOffset + 34] = ((w11 >>> 10) & mask) + base;
+    dst[dstOffset + 35] = ((w11 >>> 31) & mask) + base;
+    dst[dstOffset + 36] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 37] = ((w12 >>> 9) & mask) + base;
+    dst[dstOffset + 38] = ((w12 >>> 30) & mask) + base;
+    dst[dstOffset + 39] = (((w12 >>> 51) | (w13 << 13)) & mask) + base;
+    dst[dstOffset + 40] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 41] = ((w13 >>> 29) & mask) + base;
+    dst[dstOffset + 42] = (((w13 >>> 50) | (w14 << 14)) & mask) + base;
+    dst[dstOffset + 43] = ((w14 >>> 7) & mask) + base;
+    dst[dstOffset + 44] = ((w14 >>> 28) & mask) + base;
+    dst[dstOffset + 45] = (((w14 >>> 49) | (w15 << 15)) & mask) + base;
+    dst[dstOffset + 46] = ((w15 >>> 6) & mask) + base;
+    dst[dstOffset + 47] = ((w15 >>> 27) & mask) + base;
+    dst[dstOffset + 48] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 49] = ((w16 >>> 5) & mask) + base;
+    dst[dstOffset + 50] = ((w16 >>> 26) & mask) + base;
+    dst[dstOffset + 51] = (((w16 >>> 47) | (w17 << 17)) & mask) + base;
+    dst[dstOffset + 52] = ((w17 >>> 4) & mask) + base;
+    dst[dstOffset + 53] = ((w17 >>> 25) & mask) + base;
+    dst[dstOffset + 54] = (((w17 >>> 46) | (w18 << 18)) & mask) + base;
+    dst[dstOffset + 55] = ((w18 >>> 3) & mask) + base;
+    dst[dstOffset + 56] = ((w18 >>> 24) & mask) + base;
+    dst[dstOffset + 57] = (((w18 >>> 45) | (w19 << 19)) & mask) + base;
+    dst[dstOffset + 58] = ((w19 >>> 2) & mask) + base;
+    dst[dstOffset + 59] = ((w19 >>> 23) & mask) + base;
+    dst[dstOffset + 60] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 61] = ((w20 >>> 1) & mask) + base;
+    dst[dstOffset + 62] = ((w20 >>> 22) & mask) + base;
+    dst[dstOffset + 63] = (w20 >>> 43) + base;
+  }
+
+  private static void unpack21(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 21) & mask;
+    dst[dstOffset + 2] = (w0 >>> 42) & mask;
+    dst[dstOffset + 3] = ((w0 >>> 63) | (w1 << 1)) & mask;
+    dst[dstOffset + 4] = (w1 >>> 20) & mask;
+    dst[dstOffset + 5] = (w1 >>> 41) & mask;
+    dst[dstOffset + 6] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 7] = (w2 >>> 19) & mask;
+    dst[dstOffset + 8] = (w2 >>> 40) & mask;
+    dst[dstOffset + 9] = ((w2 >>> 61) | (w3 << 3)) & mask;
+    dst[dstOffset + 10] = (w3 >>> 18) & mask;
+    dst[dstOffset + 11] = (w3 >>> 39) & mask;
+    dst[dstOffset + 12] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 13] = (w4 >>> 17) & mask;
+    dst[dstOffset + 14] = (w4 >>> 38) & mask;
+    dst[dstOffset + 15] = ((w4 >>> 59) | (w5 << 5)) & mask;
+    dst[dstOffset + 16] = (w5 >>> 16) & mask;
+    dst[dstOffset + 17] = (w5 >>> 37) & mask;
+    dst[dstOffset + 18] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 19] = (w6 >>> 15) & mask;
+    dst[dstOffset + 20] = (w6 >>> 36) & mask;
+    dst[dstOffset + 21] = ((w6 >>> 57) | (w7 << 7)) & mask;
+    dst[dstOffset + 22] = (w7 >>> 14) & mask;
+    dst[dstOffset + 23] = (w7 >>> 35) & mask;
+    dst[dstOffset + 24] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 25] = (w8 >>> 13) & mask;
+    dst[dstOffset + 26] = (w8 >>> 34) & mask;
+    dst[dstOffset + 27] = ((w8 >>> 55) | (w9 << 9)) & mask;
+    dst[dstOffset + 28] = (w9 >>> 12) & mask;
+    dst[dstOffset + 29] = (w9 >>> 33) & mask;
+    dst[dstOffset + 30] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 31] = (w10 >>> 11) & mask;
+    dst[dstOffset + 32] = (w10 >>> 32) & mask;
+    dst[dstOffset + 33] = ((w10 >>> 53) | (w11 << 11)) & mask;
+    dst[dstOffset + 34] = (w11 >>> 10) & mask;
+    dst[dstOffset + 35] = (w11 >>> 31) & mask;
+    dst[dstOffset + 36] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 37] = (w12 >>> 9) & mask;
+    dst[dstOffset + 38] = (w12 >>> 30) & mask;
+    dst[dstOffset + 39] = ((w12 >>> 51) | (w13 << 13)) & mask;
+    dst[dstOffset + 40] = (w13 >>> 8) & mask;
+    dst[dstOffset + 41] = (w13 >>> 29) & mask;
+    dst[dstOffset + 42] = ((w13 >>> 50) | (w14 << 14)) & mask;
+    dst[dstOffset + 43] = (w14 >>> 7) & mask;
+    dst[dstOffset + 44] = (w14 >>> 28) & mask;
+    dst[dstOffset + 45] = ((w14 >>> 49) | (w15 << 15)) & mask;
+    dst[dstOffset + 46] = (w15 >>> 6) & mask;
+    dst[dstOffset + 47] = (w15 >>> 27) & mask;
+    dst[dstOffset + 48] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 49] = (w16 >>> 5) & mask;
+    dst[dstOffset + 50] = (w16 >>> 26) & mask;
+    dst[dstOffset + 51] = ((w16 >>> 47) | (w17 << 17)) & mask;
+    dst[dstOffset + 52] = (w17 >>> 4) & mask;
+    dst[dstOffset + 53] = (w17 >>> 25) & mask;
+    dst[dstOffset + 54] = ((w17 >>> 46) | (w18 << 18)) & mask;
+    dst[dstOffset + 55] = (w18 >>> 3) & mask;
+    dst[dstOffset + 56] = (w18 >>> 24) & mask;
+    dst[dstOffset + 57] = ((w18 >>> 45) | (w19 << 19)) & mask;
+    dst[dstOffset + 58] = (w19 >>> 2) & mask;
+    dst[dstOffset + 59] = (w19 >>> 23) & mask;
+    dst[dstOffset + 60] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 61] = (w20 >>> 1) & mask;
+    dst[dstOffset + 62] = (w20 >>> 22) & mask;
+    dst[dstOffset + 63] = w20 >>> 43;
+  }
+
+  private static void unpack22(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 22) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 44) | (w1 << 20)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 2) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 24) & mask) + base;
+    dst[dstOffset + 5] = (((w1 >>> 46) | (w2 << 18)) & mask) + base;
+    dst[dstOffset + 6] = ((w2 >>> 4) & mask) + base;
+    dst[dstOffset + 7] = ((w2 >>> 26) & mask) + base;
+    dst[dstOffset + 8] = (((w2 >>> 48) | (w3 << 16)) & mask) + base;
+    dst[dstOffset + 9] = ((w3 >>> 6) & mask) + base;
+    dst[dstOffset + 10] = ((w3 >>> 28) & mask) + base;
+    dst[dstOffset + 11] = (((w3 >>> 50) | (w4 << 14)) & mask) + base;
+    dst[dstOffset + 12] = ((w4 >>> 8) & mask) + base;
+    dst[dstOffset + 13] = ((w4 >>> 30) & mask) + base;
+    dst[dstOffset + 14] = (((w4 >>> 52) | (w5 << 12)) & mask) + base;
+    dst[dstOffset + 15] = ((w5 >>> 10) & mask) + base;
+    dst[dstOffset + 16] = ((w5 >>> 32) & mask) + base;
+    dst[dstOffset + 17] = (((w5 >>> 54) | (w6 << 10)) & mask) + base;
+    dst[dstOffset + 18] = ((w6 >>> 12) & mask) + base;
+    dst[dstOffset + 19] = ((w6 >>> 34) & mask) + base;
+    dst[dstOffset + 20] = (((w6 >>> 56) | (w7 << 8)) & mask) + base;
+    dst[dstOffset + 21] = ((w7 >>> 14) & mask) + base;
+    dst[dstOffset + 22] = ((w7 >>> 36) & mask) + base;
+    dst[dstOffset + 23] = (((w7 >>> 58) | (w8 << 6)) & mask) + base;
+    dst[dstOffset + 24] = ((w8 >>> 16) & mask) + base;
+    dst[dstOffset + 25] = ((w8 >>> 38) & mask) + base;
+    dst[dstOffset + 26] = (((w8 >>> 60) | (w9 << 4)) & mask) + base;
+    dst[dstOffset + 27] = ((w9 >>> 18) & mask) + base;
+    dst[dstOffset + 28] = ((w9 >>> 40) & mask) + base;
+    dst[dstOffset + 29] = (((w9 >>> 62) | (w10 << 2)) & mask) + base;
+    dst[dstOffset + 30] = ((w10 >>> 20) & mask) + base;
+    dst[dstOffset + 31] = (w10 >>> 42) + base;
+    dst[dstOffset + 32] = (w11 & mask) + base;
+    dst[dstOffset + 33] = ((w11 >>> 22) & mask) + base;
+    dst[dstOffset + 34] = (((w11 >>> 44) | (w12 << 20)) & mask) + base;
+    dst[dstOffset + 35] = ((w12 >>> 2) & mask) + base;
+    dst[dstOffset + 36] = ((w12 >>> 24) & mask) + base;
+    dst[dstOffset + 37] = (((w12 >>> 46) | (w13 << 18)) & mask) + base;
+    dst[dstOffset + 38] = ((w13 >>> 4) & mask) + base;
+    dst[dstOffset + 39] = ((w13 >>> 26) & mask) + base;
+    dst[dstOffset + 40] = (((w13 >>> 48) | (w14 << 16)) & mask) + base;
+    dst[dstOffset + 41] = ((w14 >>> 6) & mask) + base;
+    dst[dstOffset + 42] = ((w14 >>> 28) & mask) + base;
+    dst[dstOffset + 43] = (((w14 >>> 50) | (w15 << 14)) & mask) + base;
+    dst[dstOffset + 44] = ((w15 >>> 8) & mask) + base;
+    dst[dstOffset + 45] = ((w15 >>> 30) & mask) + base;
+    dst[dstOffset + 46] = (((w15 >>> 52) | (w16 << 12)) & mask) + base;
+    dst[dstOffset + 47] = ((w16 >>> 10) & mask) + base;
+    dst[dstOffset + 48] = ((w16 >>> 32) & mask) + base;
+    dst[dstOffset + 49] = (((w16 >>> 54) | (w17 << 10)) & mask) + base;
+    dst[dstOffset + 50] = ((w17 >>> 12) & mask) + base;
+    dst[dstOffset + 51] = ((w17 >>> 34) & mask) + base;
+    dst[dstOffset + 52] = (((w17 >>> 56) | (w18 << 8)) & mask) + base;
+    dst[dstOffset + 53] = ((w18 >>> 14) & mask) + base;
+    dst[dstOffset + 54] = ((w18 >>> 36) & mask) + base;
+    dst[dstOffset + 55] = (((w18 >>> 58) | (w19 << 6)) & mask) + base;
+    dst[dstOffset + 56] = ((w19 >>> 16) & mask) + base;
+    dst[dstOffset + 57] = ((w19 >>> 38) & mask) + base;
+    dst[dstOffset + 58] = (((w19 >>> 60) | (w20 << 4)) & mask) + base;
+    dst[dstOffset + 59] = ((w20 >>> 18) & mask) + base;
+    dst[dstOffset + 60] = ((w20 >>> 40) & mask) + base;
+    dst[dstOffset + 61] = (((w20 >>> 62) | (w21 << 2)) & mask) + base;
+    dst[dstOffset + 62] = ((w21 >>> 20) & mask) + base;
+    dst[dstOffset + 63] = (w21 >>> 42) + base;
+  }
+
+  private static void unpack22(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 22) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 44) | (w1 << 20)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 2) & mask;
+    dst[dstOffset + 4] = (w1 >>> 24) & mask;
+    dst[dstOffset + 5] = ((w1 >>> 46) | (w2 << 18)) & mask;
+    dst[dstOffset + 6] = (w2 >>> 4) & mask;
+    dst[dstOffset + 7] = (w2 >>> 26) & mask;
+    dst[dstOffset + 8] = ((w2 >>> 48) | (w3 << 16)) & mask;
+    dst[dstOffset + 9] = (w3 >>> 6) & mask;
+    dst[dstOffset + 10] = (w3 >>> 28) & mask;
+    dst[dstOffset + 11] = ((w3 >>> 50) | (w4 << 14)) & mask;
+    dst[dstOffset + 12] = (w4 >>> 8) & mask;
+    dst[dstOffset + 13] = (w4 >>> 30) & mask;
+    dst[dstOffset + 14] = ((w4 >>> 52) | (w5 << 12)) & mask;
+    dst[dstOffset + 15] = (w5 >>> 10) & mask;
+    dst[dstOffset + 16] = (w5 >>> 32) & mask;
+    dst[dstOffset + 17] = ((w5 >>> 54) | (w6 << 10)) & mask;
+    dst[dstOffset + 18] = (w6 >>> 12) & mask;
+    dst[dstOffset + 19] = (w6 >>> 34) & mask;
+    dst[dstOffset + 20] = ((w6 >>> 56) | (w7 << 8)) & mask;
+    dst[dstOffset + 21] = (w7 >>> 14) & mask;
+    dst[dstOffset + 22] = (w7 >>> 36) & mask;
+    dst[dstOffset + 23] = ((w7 >>> 58) | (w8 << 6)) & mask;
+    dst[dstOffset + 24] = (w8 >>> 16) & mask;
+    dst[dstOffset + 25] = (w8 >>> 38) & mask;
+    dst[dstOffset + 26] = ((w8 >>> 60) | (w9 << 4)) & mask;
+    dst[dstOffset + 27] = (w9 >>> 18) & mask;
+    dst[dstOffset + 28] = (w9 >>> 40) & mask;
+    dst[dstOffset + 29] = ((w9 >>> 62) | (w10 << 2)) & mask;
+    dst[dstOffset + 30] = (w10 >>> 20) & mask;
+    dst[dstOffset + 31] = w10 >>> 42;
+    dst[dstOffset + 32] = w11 & mask;
+    dst[dstOffset + 33] = (w11 >>> 22) & mask;
+    dst[dstOffset + 34] = ((w11 >>> 44) | (w12 << 20)) & mask;
+    dst[dstOffset + 35] = (w12 >>> 2) & mask;
+    dst[dstOffset + 36] = (w12 >>> 24) & mask;
+    dst[dstOffset + 37] = ((w12 >>> 46) | (w13 << 18)) & mask;
+    dst[dstOffset + 38] = (w13 >>> 4) & mask;
+    dst[dstOffset + 39] = (w13 >>> 26) & mask;
+    dst[dstOffset + 40] = ((w13 >>> 48) | (w14 << 16)) & mask;
+    dst[dstOffset + 41] = (w14 >>> 6) & mask;
+    dst[dstOffset + 42] = (w14 >>> 28) & mask;
+    dst[dstOffset + 43] = ((w14 >>> 50) | (w15 << 14)) & mask;
+    dst[dstOffset + 44] = (w15 >>> 8) & mask;
+    dst[dstOffset + 45] = (w15 >>> 30) & mask;
+    dst[dstOffset + 46] = ((w15 >>> 52) | (w16 << 12)) & mask;
+    dst[dstOffset + 47] = (w16 >>> 10) & mask;
+    dst[dstOffset + 48] = (w16 >>> 32) & mask;
+    dst[dstOffset + 49] = ((w16 >>> 54) | (w17 << 10)) & mask;
+    dst[dstOffset + 50] = (w17 >>> 12) & mask;
+    dst[dstOffset + 51] = (w17 >>> 34) & mask;
+    dst[dstOffset + 52] = ((w17 >>> 56) | (w18 << 8)) & mask;
+    dst[dstOffset + 53] = (w18 >>> 14) & mask;
+    dst[dstOffset + 54] = (w18 >>> 36) & mask;
+    dst[dstOffset + 55] = ((w18 >>> 58) | (w19 << 6)) & mask;
+    dst[dstOffset + 56] = (w19 >>> 16) & mask;
+    dst[dstOffset + 57] = (w19 >>> 38) & mask;
+    dst[dstOffset + 58] = ((w19 >>> 60) | (w20 << 4)) & mask;
+    dst[dstOffset + 59] = (w20 >>> 18) & mask;
+    dst[dstOffset + 60] = (w20 >>> 40) & mask;
+    dst[dstOffset + 61] = ((w20 >>> 62) | (w21 << 2)) & mask;
+    dst[dstOffset + 62] = (w21 >>> 20) & mask;
+    dst[dstOffset + 63] = w21 >>> 42;
+  }
+
+  private static void unpack23(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 23) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 46) | (w1 << 18)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 5) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 28) & mask) + base;
+    dst[dstOffset + 5] = (((w1 >>> 51) | (w2 << 13)) & mask) + base;
+    dst[dstOffset + 6] = ((w2 >>> 10) & mask) + base;
+    dst[dstOffset + 7] = ((w2 >>> 33) & mask) + base;
+    dst[dstOffset + 8] = (((w2 >>> 56) | (w3 << 8)) & mask) + base;
+    dst[dstOffset + 9] = ((w3 >>> 15) & mask) + base;
+    dst[dstOffset + 10] = ((w3 >>> 38) & mask) + base;
+    dst[dstOffset + 11] = (((w3 >>> 61) | (w4 << 3)) & mask) + base;
+    dst[dstOffset + 12] = ((w4 >>> 20) & mask) + base;
+    dst[dstOffset + 13] = (((w4 >>> 43) | (w5 << 21)) & mask) + base;
+    dst[dstOffset + 14] = ((w5 >>> 2) & mask) + base;
+    dst[dstOffset + 15] = ((w5 >>> 25) & mask) + base;
+    dst[dstOffset + 16] = (((w5 >>> 48) | (w6 << 16)) & mask) + base;
+    dst[dstOffset + 17] = ((w6 >>> 7) & mask) + base;
+    dst[dstOffset + 18] = ((w6 >>> 30) & mask) + base;
+    dst[dstOffset + 19] = (((w6 >>> 53) | (w7 << 11)) & mask) + base;
+    dst[dstOffset + 20] = ((w7 >>> 12) & mask) + base;
+    dst[dstOffset + 21] = ((w7 >>> 35) & mask) + base;
+    dst[dstOffset + 22] = (((w7 >>> 58) | (w8 << 6)) & mask) + base;
+    dst[dstOffset + 23] = ((w8 >>> 17) & mask) + base;
+    dst[dstOffset + 24] = ((w8 >>> 40) & mask) + base;
+    dst[dstOffset + 25] = (((w8 >>> 63) | (w9 << 1)) & mask) + base;
+    dst[dstOffset + 26] = ((w9 >>> 22) & mask) + base;
+    dst[dstOffset + 27] = (((w9 >>> 45) | (w10 << 19)) & mask) + base;
+    dst[dstOffset + 28] = ((w10 >>> 4) & mask) + base;
+    dst[dstOffset + 29] = ((w10 >>> 27) & mask) + base;
+    dst[dstOffset + 30] = (((w10 >>> 50) | (w11 << 14)) & mask) + base;
+    dst[dstOffset + 31] = ((w11 >>> 9) & mask) + base;
+    dst[dstOffset + 32] = ((w11 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = (((w11 >>> 55) | (w12 << 9)) & mask) + base;
+    dst[dstOffset + 34] = ((w12 >>> 14) & mask) + base;
+    dst[dstOffset + 35] = ((w12 >>> 37) & mask) + base;
+    dst[dstOffset + 36] = (((w12 >>> 60) | (w13 << 4)) & mask) + base;
+    dst[dstOffset + 37] = ((w13 >>> 19) & mask) + base;
+    dst[dstOffset + 38] = (((w13 >>> 42) | (w14 << 22)) & mask) + base;
+    dst[dstOffset + 39] = ((w14 >>> 1) & mask) + base;
+    dst[dstOffset + 40] = ((w14 >>> 24) & mask) + base;
+    dst[dstOffset + 41] = (((w14 >>> 47) | (w15 << 17)) & mask) + base;
+    dst[dstOffset + 42] = ((w15 >>> 6) & mask) + base;
+    dst[dstOffset + 43] = ((w15 >>> 29) & mask) + base;
+    dst[dstOffset + 44] = (((w15 >>> 52) | (w16 << 12)) & mask) + base;
+    dst[dstOffset + 45] = ((w16 >>> 11) & mask) + base;
+    dst[dstOffset + 46] = ((w16 >>> 34) & mask) + base;
+    dst[dstOffset + 47] = (((w16 >>> 57) | (w17 << 7)) & mask) + base;
+    dst[dstOffset + 48] = ((w17 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = ((w17 >>> 39) & mask) + base;
+    dst[dstOffset + 50] = (((w17 >>> 62) | (w18 << 2)) & mask) + base;
+    dst[dstOffset + 51] = ((w18 >>> 21) & mask) + base;
+    dst[dstOffset + 52] = (((w18 >>> 44) | (w19 << 20)) & mask) + base;
+    dst[dstOffset + 53] = ((w19 >>> 3) & mask) + base;
+    dst[dstOffset + 54] = ((w19 >>> 26) & mask) + base;
+    dst[dstOffset + 55] = (((w19 >>> 49) | (w20 << 15)) & mask) + base;
+    dst[dstOffset + 56] = ((w20 >>> 8) & mask) + base;
+    dst[dstOffset + 57] = ((w20 >>> 31) & mask) + base;
+    dst[dstOffset + 58] = (((w20 >>> 54) | (w21 << 10)) & mask) + base;
+    dst[dstOffset + 59] = ((w21 >>> 13) & mask) + base;
+    dst[dstOffset + 60] = ((w21 >>> 36) & mask) + base;
+    dst[dstOffset + 61] = (((w21 >>> 59) | (w22 << 5)) & mask) + base;
+    dst[dstOffset + 62] = ((w22 >>> 18) & mask) + base;
+    dst[dstOffset + 63] = (w22 >>> 41) + base;
+  }
+
+  private static void unpack23(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 23) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 46) | (w1 << 18)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 5) & mask;
+    dst[dstOffset + 4] = (w1 >>> 28) & mask;
+    dst[dstOffset + 5] = ((w1 >>> 51) | (w2 << 13)) & mask;
+    dst[dstOffset + 6] = (w2 >>> 10) & mask;
+    dst[dstOffset + 7] = (w2 >>> 33) & mask;
+    dst[dstOffset + 8] = ((w2 >>> 56) | (w3 << 8)) & mask;
+    dst[dstOffset + 9] = (w3 >>> 15) & mask;
+    dst[dstOffset + 10] = (w3 >>> 38) & mask;
+    dst[dstOffset + 11] = ((w3 >>> 61) | (w4 << 3)) & mask;
+    dst[dstOffset + 12] = (w4 >>> 20) & mask;
+    dst[dstOffset + 13] = ((w4 >>> 43) | (w5 << 21)) & mask;
+    dst[dstOffset + 14] = (w5 >>> 2) & mask;
+    dst[dstOffset + 15] = (w5 >>> 25) & mask;
+    dst[dstOffset + 16] = ((w5 >>> 48) | (w6 << 16)) & mask;
+    dst[dstOffset + 17] = (w6 >>> 7) & mask;
+    dst[dstOffset + 18] = (w6 >>> 30) & mask;
+    dst[dstOffset + 19] = ((w6 >>> 53) | (w7 << 11)) & mask;
+    dst[dstOffset + 20] = (w7 >>> 12) & mask;
+    dst[dstOffset + 21] = (w7 >>> 35) & mask;
+    dst[dstOffset + 22] = ((w7 >>> 58) | (w8 << 6)) & mask;
+    dst[dstOffset + 23] = (w8 >>> 17) & mask;
+    dst[dstOffset + 24] = (w8 >>> 40) & mask;
+    dst[dstOffset + 25] = ((w8 >>> 63) | (w9 << 1)) & mask;
+    dst[dstOffset + 26] = (w9 >>> 22) & mask;
+    dst[dstOffset + 27] = ((w9 >>> 45) | (w10 << 19)) & mask;
+    dst[dstOffset + 28] = (w10 >>> 4) & mask;
+    dst[dstOffset + 29] = (w10 >>> 27) & mask;
+    dst[dstOffset + 30] = ((w10 >>> 50) | (w11 << 14)) & mask;
+    dst[dstOffset + 31] = (w11 >>> 9) & mask;
+    dst[dstOffset + 32] = (w11 >>> 32) & mask;
+    dst[dstOffset + 33] = ((w11 >>> 55) | (w12 << 9)) & mask;
+    dst[dstOffset + 34] = (w12 >>> 14) & mask;
+    dst[dstOffset + 35] = (w12 >>> 37) & mask;
+    dst[dstOffset + 36] = ((w12 >>> 60) | (w13 << 4)) & mask;
+    dst[dstOffset + 37] = (w13 >>> 19) & mask;
+    dst[dstOffset + 38] = ((w13 >>> 42) | (w14 << 22)) & mask;
+    dst[dstOffset + 39] = (w14 >>> 1) & mask;
+    dst[dstOffset + 40] = (w14 >>> 24) & mask;
+    dst[dstOffset + 41] = ((w14 >>> 47) | (w15 << 17)) & mask;
+    dst[dstOffset + 42] = (w15 >>> 6) & mask;
+    dst[dstOffset + 43] = (w15 >>> 29) & mask;
+    dst[dstOffset + 44] = ((w15 >>> 52) | (w16 << 12)) & mask;
+    dst[dstOffset + 45] = (w16 >>> 11) & mask;
+    dst[dstOffset + 46] = (w16 >>> 34) & mask;
+    dst[dstOffset + 47] = ((w16 >>> 57) | (w17 << 7)) & mask;
+    dst[dstOffset + 48] = (w17 >>> 16) & mask;
+    dst[dstOffset + 49] = (w17 >>> 39) & mask;
+    dst[dstOffset + 50] = ((w17 >>> 62) | (w18 << 2)) & mask;
+    dst[dstOffset + 51] = (w18 >>> 21) & mask;
+    dst[dstOffset + 52] = ((w18 >>> 44) | (w19 << 20)) & mask;
+    dst[dstOffset + 53] = (w19 >>> 3) & mask;
+    dst[dstOffset + 54] = (w19 >>> 26) & mask;
+    dst[dstOffset + 55] = ((w19 >>> 49) | (w20 << 15)) & mask;
+    dst[dstOffset + 56] = (w20 >>> 8) & mask;
+    dst[dstOffset + 57] = (w20 >>> 31) & mask;
+    dst[dstOffset + 58] = ((w20 >>> 54) | (w21 << 10)) & mask;
+    dst[dstOffset + 59] = (w21 >>> 13) & mask;
+    dst[dstOffset + 60] = (w21 >>> 36) & mask;
+    dst[dstOffset + 61] = ((w21 >>> 59) | (w22 << 5)) & mask;
+    dst[dstOffset + 62] = (w22 >>> 18) & mask;
+    dst[dstOffset + 63] = w22 >>> 41;
+  }
+
+  private static void unpack24(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 24) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 48) | (w1 << 16)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 32) & mask) + base;
+    dst[dstOffset + 5] = (((w1 >>> 56) | (w2 << 8)) & mask) + base;
+    dst[dstOffset + 6] = ((w2 >>> 16) & mask) + base;
+    dst[dstOffset + 7] = (w2 >>> 40) + base;
+    dst[dstOffset + 8] = (w3 & mask) + base;
+    dst[dstOffset + 9] = ((w3 >>> 24) & mask) + base;
+    dst[dstOffset + 10] = (((w3 >>> 48) | (w4 << 16)) & mask) + base;
+    dst[dstOffset + 11] = ((w4 >>> 8) & mask) + base;
+    dst[dstOffset + 12] = ((w4 >>> 32) & mask) + base;
+    dst[dstOffset + 13] = (((w4 >>> 56) | (w5 << 8)) & mask) + base;
+    dst[dstOffset + 14] = ((w5 >>> 16) & mask) + base;
+    dst[dstOffset + 15] = (w5 >>> 40) + base;
+    dst[dstOffset + 16] = (w6 & mask) + base;
+    dst[dstOffset + 17] = ((w6 >>> 24) & mask) + base;
+    dst[dstOffset + 18] = (((w6 >>> 48) | (w7 << 16)) & mask) + base;
+    dst[dstOffset + 19] = ((w7 >>> 8) & mask) + base;
+    dst[dstOffset + 20] = ((w7 >>> 32) & mask) + base;
+    dst[dstOffset + 21] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 22] = ((w8 >>> 16) & mask) + base;
+    dst[dstOffset + 23] = (w8 >>> 40) + base;
+    dst[dstOffset + 24] = (w9 & mask) + base;
+    dst[dstOffset + 25] = ((w9 >>> 24) & mask) + base;
+    dst[dstOffset + 26] = (((w9 >>> 48) | (w10 << 16)) & mask) + base;
+    dst[dstOffset + 27] = ((w10 >>> 8) & mask) + base;
+    dst[dstOffset + 28] = ((w10 >>> 32) & mask) + base;
+    dst[dstOffset + 29] = (((w10 >>> 56) | (w11 << 8)) & mask) + base;
+    dst[dstOffset + 30] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 31] = (w11 >>> 40) + base;
+    dst[dstOffset + 32] = (w12 & mask) + base;
+    dst[dstOffset + 33] = ((w12 >>> 24) & mask) + base;
+    dst[dstOffset + 34] = (((w12 >>> 48) | (w13 << 16)) & mask) + base;
+    dst[dstOffset + 35] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 36] = ((w13 >>> 32) & mask) + base;
+    dst[dstOffset + 37] = (((w13 >>> 56) | (w14 << 8)) & mask) + base;
+    dst[dstOffset + 38] = ((w14 >>> 16) & mask) + base;
+    dst[dstOffset + 39] = (w14 >>> 40) + base;
+    dst[dstOffset + 40] = (w15 & mask) + base;
+    dst[dstOffset + 41] = ((w15 >>> 24) & mask) + base;
+    dst[dstOffset + 42] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 43] = ((w16 >>> 8) & mask) + base;
+    dst[dstOffset + 44] = ((w16 >>> 32) & mask) + base;
+    dst[dstOffset + 45] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 46] = ((w17 >>> 16) & mask) + base;
+    dst[dstOffset + 47] = (w17 >>> 40) + base;
+    dst[dstOffset + 48] = (w18 & mask) + base;
+    dst[dstOffset + 49] = ((w18 >>> 24) & mask) + base;
+    dst[dstOffset + 50] = (((w18 >>> 48) | (w19 << 16)) & mask) + base;
+    dst[dstOffset + 51] = ((w19 >>> 8) & mask) + base;
+    dst[dstOffset + 52] = ((w19 >>> 32) & mask) + base;
+    dst[dstOffset + 53] = (((w19 >>> 56) | (w20 << 8)) & mask) + base;
+    dst[dstOffset + 54] = ((w20 >>> 16) & mask) + base;
+    dst[dstOffset + 55] = (w20 >>> 40) + base;
+    dst[dstOffset + 56] = (w21 & mask) + base;
+    dst[dstOffset + 57] = ((w21 >>> 24) & mask) + base;
+    dst[dstOffset + 58] = (((w21 >>> 48) | (w22 << 16)) & mask) + base;
+    dst[dstOffset + 59] = ((w22 >>> 8) & mask) + base;
+    dst[dstOffset + 60] = ((w22 >>> 32) & mask) + base;
+    dst[dstOffset + 61] = (((w22 >>> 56) | (w23 << 8)) & mask) + base;
+    dst[dstOffset + 62] = ((w23 >>> 16) & mask) + base;
+    dst[dstOffset + 63] = (w23 >>> 40) + base;
+  }
+
+  private static void unpack24(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 24) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 48) | (w1 << 16)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 8) & mask;
+    dst[dstOffset + 4] = (w1 >>> 32) & mask;
+    dst[dstOffset + 5] = ((w1 >>> 56) | (w2 << 8)) & mask;
+    dst[dstOffset + 6] = (w2 >>> 16) & mask;
+    dst[dstOffset + 7] = w2 >>> 40;
+    dst[dstOffset + 8] = w3 & mask;
+    dst[dstOffset + 9] = (w3 >>> 24) & mask;
+    dst[dstOffset + 10] = ((w3 >>> 48) | (w4 << 16)) & mask;
+    dst[dstOffset + 11] = (w4 >>> 8) & mask;
+    dst[dstOffset + 12] = (w4 >>> 32) & mask;
+    dst[dstOffset + 13] = ((w4 >>> 56) | (w5 << 8)) & mask;
+    dst[dstOffset + 14] = (w5 >>> 16) & mask;
+    dst[dstOffset + 15] = w5 >>> 40;
+    dst[dstOffset + 16] = w6 & mask;
+    dst[dstOffset + 17] = (w6 >>> 24) & mask;
+    dst[dstOffset + 18] = ((w6 >>> 48) | (w7 << 16)) & mask;
+    dst[dstOffset + 19] = (w7 >>> 8) & mask;
+    dst[dstOffset + 20] = (w7 >>> 32) & mask;
+    dst[dstOffset + 21] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 22] = (w8 >>> 16) & mask;
+    dst[dstOffset + 23] = w8 >>> 40;
+    dst[dstOffset + 24] = w9 & mask;
+    dst[dstOffset + 25] = (w9 >>> 24) & mask;
+    dst[dstOffset + 26] = ((w9 >>> 48) | (w10 << 16)) & mask;
+    dst[dstOffset + 27] = (w10 >>> 8) & mask;
+    dst[dstOffset + 28] = (w10 >>> 32) & mask;
+    dst[dstOffset + 29] = ((w10 >>> 56) | (w11 << 8)) & mask;
+    dst[dstOffset + 30] = (w11 >>> 16) & mask;
+    dst[dstOffset + 31] = w11 >>> 40;
+    dst[dstOffset + 32] = w12 & mask;
+    dst[dstOffset + 33] = (w12 >>> 24) & mask;
+    dst[dstOffset + 34] = ((w12 >>> 48) | (w13 << 16)) & mask;
+    dst[dstOffset + 35] = (w13 >>> 8) & mask;
+    dst[dstOffset + 36] = (w13 >>> 32) & mask;
+    dst[dstOffset + 37] = ((w13 >>> 56) | (w14 << 8)) & mask;
+    dst[dstOffset + 38] = (w14 >>> 16) & mask;
+    dst[dstOffset + 39] = w14 >>> 40;
+    dst[dstOffset + 40] = w15 & mask;
+    dst[dstOffset + 41] = (w15 >>> 24) & mask;
+    dst[dstOffset + 42] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 43] = (w16 >>> 8) & mask;
+    dst[dstOffset + 44] = (w16 >>> 32) & mask;
+    dst[dstOffset + 45] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 46] = (w17 >>> 16) & mask;
+    dst[dstOffset + 47] = w17 >>> 40;
+    dst[dstOffset + 48] = w18 & mask;
+    dst[dstOffset + 49] = (w18 >>> 24) & mask;
+    dst[dstOffset + 50] = ((w18 >>> 48) | (w19 << 16)) & mask;
+    dst[dstOffset + 51] = (w19 >>> 8) & mask;
+    dst[dstOffset + 52] = (w19 >>> 32) & mask;
+    dst[dstOffset + 53] = ((w19 >>> 56) | (w20 << 8)) & mask;
+    dst[dstOffset + 54] = (w20 >>> 16) & mask;
+    dst[dstOffset + 55] = w20 >>> 40;
+    dst[dstOffset + 56] = w21 & mask;
+    dst[dstOffset + 57] = (w21 >>> 24) & mask;
+    dst[dstOffset + 58] = ((w21 >>> 48) | (w22 << 16)) & mask;
+    dst[dstOffset + 59] = (w22 >>> 8) & mask;
+    dst[dstOffset + 60] = (w22 >>> 32) & mask;
+    dst[dstOffset + 61] = ((w22 >>> 56) | (w23 << 8)) & mask;
+    dst[dstOffset + 62] = (w23 >>> 16) & mask;
+    dst[dstOffset + 63] = w23 >>> 40;
+  }
+}
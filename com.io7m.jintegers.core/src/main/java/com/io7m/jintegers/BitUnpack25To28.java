@@ -0,0 +1,879 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 25 to 28.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack25To28
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack25To28()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 25 -> unpack25(src, index, base, dst, dstOffset);
+      case 26 -> unpack26(src, index, base, dst, dstOffset);
+      case 27 -> unpack27(src, index, base, dst, dstOffset);
+      case 28 -> unpack28(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 25 -> unpack25(src, srcOffset, dst, dstOffset);
+      case 26 -> unpack26(src, srcOffset, dst, dstOffset);
+      case 27 -> unpack27(src, srcOffset, dst, dstOffset);
+      case 28 -> unpack28(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack25(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 25) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 50) | (w1 << 14)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 11) & mask) + base;
+    dst[dstOffset + 4] = ((w1 >>> 36) & mask) + base;
+    dst[dstOffset + 5] = (((w1 >>> 61) | (w2 << 3)) & mask) + base;
+    dst[dstOffset + 6] = ((w2 >>> 22) & mask) + base;
+    dst[dstOffset + 7] = (((w2 >>> 47) | (w3 << 17)) & mask) + base;
+    dst[dstOffset + 8] = ((w3 >>> 8) & mask) + base;
+    dst[dstOffset + 9] = ((w3 >>> 33) & mask) + base;
+    dst[dstOffset + 10] = (((w3 >>> 58) | (w4 << 6)) & mask) + base;
+    dst[dstOffset + 11] = ((w4 >>> 19) & mask) + base;
+    dst[dstOffset + 12] = (((w4 >>> 44) | (w5 << 20)) & mask) + base;
+    dst[dstOffset + 13] = ((w5 >>> 5) & mask) + base;
+    dst[dstOffset + 14] = ((w5 >>> 30) & mask) + base;
+    dst[dstOffset + 15] = (((w5 >>> 55) | (w6 << 9)) & mask) + base;
+    dst[dstOffset + 16] = ((w6 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = (((w6 >>> 41) | (w7 << 23)) & mask) + base;
+    dst[dstOffset + 18] = ((w7 >>> 2) & mask) + base;
+    dst[dstOffset + 19] = ((w7 >>> 27) & mask) + base;
+    dst[dstOffset + 20] = (((w7 >>> 52) | (w8 << 12)) & mask) + base;
+    dst[dstOffset + 21] = ((w8 >>> 13) & mask) + base;
+    dst[dstOffset + 22] = ((w8 >>> 38) & mask) + base;
+    dst[dstOffset + 23] = (((w8 >>> 63) | (w9 << 1)) & mask) + base;
+    dst[dstOffset + 24] = ((w9 >>> 24) & mask) + base;
+    dst[dstOffset + 25] = (((w9 >>> 49) | (w10 << 15)) & mask) + base;
+    dst[dstOffset + 26] = ((w10 >>> 10) & mask) + base;
+    dst[dstOffset + 27] = ((w10 >>> 35) & mask) + base;
+    dst[dstOffset + 28] = (((w10 >>> 60) | (w11 << 4)) & mask) + base;
+    dst[dstOffset + 29] = ((w11 >>> 21) & mask) + base;
+    dst[dstOffset + 30] = (((w11 >>> 46) | (w12 << 18)) & mask) + base;
+    dst[dstOffset + 31] = ((w12 >>> 7) & mask) + base;
+    dst[dstOffset + 32] = ((w12 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = (((w12 >>> 57) | (w13 << 7)) & mask) + base;
+    dst[dstOffset + 34] = ((w13 >>> 18) & mask) + base;
+    dst[dstOffset + 35] = (((w13 >>> 43) | (w14 << 21)) & mask) + base;
+    dst[dstOffset + 36] = ((w14 >>> 4) & mask) + base;
+    dst[dstOffset + 37] = ((w14 >>> 29) & mask) + base;
+    dst[dstOffset + 38] = (((w14 >>> 54) | (w15 << 10)) & mask) + base;
+    dst[dstOffset + 39] = ((w15 >>> 15) & mask) + base;
+    dst[dstOffset + 40] = (((w15 >>> 40) | (w16 << 24)) & mask) + base;
+    dst[dstOffset + 41] = ((w16 >>> 1) & mask) + base;
+    dst[dstOffset + 42] = ((w16 >>> 26) & mask) + base;
+    dst[dstOffset + 43] = (((w16 >>> 51) | (w17 << 13)) & mask) + base;
+    dst[dstOffset + 44] = ((w17 >>> 12) & mask) + base;
+    dst[dstOffset + 45] = ((w17 >>> 37) & mask) + base;
+    dst[dstOffset + 46] = (((w17 >>> 62) | (w18 << 2)) & mask) + base;
+    dst[dstOffset + 47] = ((w18 >>> 23) & mask) + base;
+    dst[dstOffset + 48] = (((w18 >>> 48) | (w19 << 16)) & mask) + base;
+    dst[dstOffset + 49] = ((w19 >>> 9) & mask) + base;
+    dst[dstOffset + 50] = ((w19 >>> 34) & mask) + base;
+    dst[dstOffset + 51] = (((w19 >>> 59) | (w20 << 5)) & mask) + base;
+    dst[dstOffset + 52] = ((w20 >>> 20) & mask) + base;
+    dst[dstOffset + 53] = (((w20 >>> 45) | (w21 << 19)) & mask) + base;
+    dst[dstOffset + 54] = ((w21 >>> 6) & mask) + base;
+    dst[dstOffset + 55] = ((w21 >>> 31) & mask) + base;
+    dst[dstOffset + 56] = (((w21 >>> 56) | (w22 << 8)) & mask) + base;
+    dst[dstOffset + 57] = ((w22 >>> 17) & mask) + base;
+    dst[dstOffset + 58] = (((w22 >>> 42) | (w23 << 22)) & mask) + base;
+    dst[dstOffset + 59] = ((w23 >>> 3) & mask) + base;
+    dst[dstOffset + 60] = ((w23 >>> 28) & mask) + base;
+    dst[dstOffset + 61] = (((w23 >>> 53) | (w24 << 11)) & mask) + base;
+    dst[dstOffset + 62] = ((w24 >>> 14) & mask) + base;
+    dst[dstOffset + 63] = (w24 >>> 39) + base;
+  }
+
+  private static void unpack25(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 25) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 50) | (w1 << 14)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 11) & mask;
+    dst[dstOffset + 4] = (w1 >>> 36) & mask;
+    dst[dstOffset + 5] = ((w1 >>> 61) | (w2 << 3)) & mask;
+    dst[dstOffset + 6] = (w2 >>> 22) & mask;
+    dst[dstOffset + 7] = ((w2 >>> 47) | (w3 << 17)) & mask;
+    dst[dstOffset + 8] = (w3 >>> 8) & mask;
+    dst[dstOffset + 9] = (w3 >>> 33) & mask;
+    dst[dstOffset + 10] = ((w3 >>> 58) | (w4 << 6)) & mask;
+    dst[dstOffset + 11] = (w4 >>> 19) & mask;
+    dst[dstOffset + 12] = ((w4 >>> 44) | (w5 << 20)) & mask;
+    dst[dstOffset + 13] = (w5 >>> 5) & mask;
+    dst[dstOffset + 14] = (w5 >>> 30) & mask;
+    dst[dstOffset + 15] = ((w5 >>> 55) | (w6 << 9)) & mask;
+    dst[dstOffset + 16] = (w6 >>> 16) & mask;
+    dst[dstOffset + 17] = ((w6 >>> 41) | (w7 << 23)) & mask;
+    dst[dstOffset + 18] = (w7 >>> 2) & mask;
+    dst[dstOffset + 19] = (w7 >>> 27) & mask;
+    dst[dstOffset + 20] = ((w7 >>> 52) | (w8 << 12)) & mask;
+    dst[dstOffset + 21] = (w8 >>> 13) & mask;
+    dst[dstOffset + 22] = (w8 >>> 38) & mask;
+    dst[dstOffset + 23] = ((w8 >>> 63) | (w9 << 1)) & mask;
+    dst[dstOffset + 24] = (w9 >>> 24) & mask;
+    dst[dstOffset + 25] = ((w9 >>> 49) | (w10 << 15)) & mask;
+    dst[dstOffset + 26] = (w10 >>> 10) & mask;
+    dst[dstOffset + 27] = (w10 >>> 35) & mask;
+    dst[dstOffset + 28] = ((w10 >>> 60) | (w11 << 4)) & mask;
+    dst[dstOffset + 29] = (w11 >>> 21) & mask;
+    dst[dstOffset + 30] = ((w11 >>> 46) | (w12 << 18)) & mask;
+    dst[dstOffset + 31] = (w12 >>> 7) & mask;
+    dst[dstOffset + 32] = (w12 >>> 32) & mask;
+    dst[dstOffset + 33] = ((w12 >>> 57) | (w13 << 7)) & mask;
+    dst[dstOffset + 34] = (w13 >>> 18) & mask;
+    dst[dstOffset + 35] = ((w13 >>> 43) | (w14 << 21)) & mask;
+    dst[dstOffset + 36] = (w14 >>> 4) & mask;
+    dst[dstOffset + 37] = (w14 >>> 29) & mask;
+    dst[dstOffset + 38] = ((w14 >>> 54) | (w15 << 10)) & mask;
+    dst[dstOffset + 39] = (w15 >>> 15) & mask;
+    dst[dstOffset + 40] = ((w15 >>> 40) | (w16 << 24)) & mask;
+    dst[dstOffset + 41] = (w16 >>> 1) & mask;
+    dst[dstOffset + 42] = (w16 >>> 26) & mask;
+    dst[dstOffset + 43] = ((w16 >>> 51) | (w17 << 13)) & mask;
+    dst[dstOffset + 44] = (w17 >>> 12) & mask;
+    dst[dstOffset + 45] = (w17 >>> 37) & mask;
+    dst[dstOffset + 46] = ((w17 >>> 62) | (w18 << 2)) & mask;
+    dst[dstOffset + 47] = (w18 >>> 23) & mask;
+    dst[dstOffset + 48] = ((w18 >>> 48) | (w19 << 16)) & mask;
+    dst[dstOffset + 49] = (w19 >>> 9) & mask;
+    dst[dstOffset + 50] = (w19 >>> 34) & mask;
+    dst[dstOffset + 51] = ((w19 >>> 59) | (w20 << 5)) & mask;
+    dst[dstOffset + 52] = (w20 >>> 20) & mask;
+    dst[dstOffset + 53] = ((w20 >>> 45) | (w21 << 19)) & mask;
+    dst[dstOffset + 54] = (w21 >>> 6) & mask;
+    dst[dstOffset + 55] = (w21 >>> 31) & mask;
+    dst[dstOffset + 56] = ((w21 >>> 56) | (w22 << 8)) & mask;
+    dst[dstOffset + 57] = (w22 >>> 17) & mask;
+    dst[dstOffset + 58] = ((w22 >>> 42) | (w23 << 22)) & mask;
+    dst[dstOffset + 59] = (w23 >>> 3) & mask;
+    dst[dstOffset + 60] = (w23 >>> 28) & mask;
+    dst[dstOffset + 61] = ((w23 >>> 53) | (w24 << 11)) & mask;
+    dst[dstOffset + 62] = (w24 >>> 14) & mask;
+    dst[dstOffset + 63] = w24 >>> 39;
+  }
+
+  private static void unpack26(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 26) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 52) | (w1 << 12)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 14) & mask) + base;
+    dst[dstOffset + 4] = (((w1 >>> 40) | (w2 << 24)) & mask) + base;
+    dst[dstOffset + 5] = ((w2 >>> 2) & mask) + base;
+    dst[dstOffset + 6] = ((w2 >>> 28) & mask) + base;
+    dst[dstOffset + 7] = (((w2 >>> 54) | (w3 << 10)) & mask) + base;
+    dst[dstOffset + 8] = ((w3 >>> 16) & mask) + base;
+    dst[dstOffset + 9] = (((w3 >>> 42) | (w4 << 22)) & mask) + base;
+    dst[dstOffset + 10] = ((w4 >>> 4) & mask) + base;
+    dst[dstOffset + 11] = ((w4 >>> 30) & mask) + base;
+    dst[dstOffset + 12] = (((w4 >>> 56) | (w5 << 8)) & mask) + base;
+    dst[dstOffset + 13] = ((w5 >>> 18) & mask) + base;
+    dst[dstOffset + 14] = (((w5 >>> 44) | (w6 << 20)) & mask) + base;
+    dst[dstOffset + 15] = ((w6 >>> 6) & mask) + base;
+    dst[dstOffset + 16] = ((w6 >>> 32) & mask) + base;
+    dst[dstOffset + 17] = (((w6 >>> 58) | (w7 << 6)) & mask) + base;
+    dst[dstOffset + 18] = ((w7 >>> 20) & mask) + base;
+    dst[dstOffset + 19] = (((w7 >>> 46) | (w8 << 18)) & mask) + base;
+    dst[dstOffset + 20] = ((w8 >>> 8) & mask) + base;
+    dst[dstOffset + 21] = ((w8 >>> 34) & mask) + base;
+    dst[dstOffset + 22] = (((w8 >>> 60) | (w9 << 4)) & mask) + base;
+    dst[dstOffset + 23] = ((w9 >>> 22) & mask) + base;
+    dst[dstOffset + 24] = (((w9 >>> 48) | (w10 << 16)) & mask) + base;
+    dst[dstOffset + 25] = ((w10 >>> 10) & mask) + base;
+    dst[dstOffset + 26] = ((w10 >>> 36) & mask) + base;
+    dst[dstOffset + 27] = (((w10 >>> 62) | (w11 << 2)) & mask) + base;
+    dst[dstOffset + 28] = ((w11 >>> 24) & mask) + base;
+    dst[dstOffset + 29] = (((w11 >>> 50) | (w12 << 14)) & mask) + base;
+    dst[dstOffset + 30] = ((w12 >>> 12) & mask) + base;
+    dst[dstOffset + 31] = (w12 >>> 38) + base;
+    dst[dstOffset + 32] = (w13 & mask) + base;
+    dst[dstOffset + 33] = ((w13 >>> 26) & mask) + base;
+    dst[dstOffset + 34] = (((w13 >>> 52) | (w14 << 12)) & mask) + base;
+    dst[dstOffset + 35] = ((w14 >>> 14) & mask) + base;
+    dst[dstOffset + 36] = (((w14 >>> 40) | (w15 << 24)) & mask) + base;
+    dst[dstOffset + 37] = ((w15 >>> 2) & mask) + base;
+    dst[dstOffset + 38] = ((w15 >>> 28) & mask) + base;
+    dst[dstOffset + 39] = (((w15 >>> 54) | (w16 << 10)) & mask) + base;
+    dst[dstOffset + 40] = ((w16 >>> 16) & mask) + base;
+    dst[dstOffset + 41] = (((w16 >>> 42) | (w17 << 22)) & mask) + base;
+    dst[dstOffset + 42] = ((w17 >>> 4) & mask) + base;
+    dst[dstOffset + 43] = ((w17 >>> 30) & mask) + base;
+    dst[dstOffset + 44] = (((w17 >>> 56) | (w18 << 8)) & mask) + base;
+    dst[dstOffset + 45] = ((w18 >>> 18) & mask) + base;
+    dst[dstOffset + 46] = (((w18 >>> 44) | (w19 << 20)) & mask) + base;
+    dst[dstOffset + 47] = ((w19 >>> 6) & mask) + base;
+    dst[dstOffset + 48] = ((w19 >>> 32) & mask) + base;
+    dst[dstOffset + 49] = (((w19 >>> 58) | (w20 << 6)) & mask) + base;
+    dst[dstOffset + 50] = ((w20 >>> 20) & mask) + base;
+    dst[dstOffset + 51] = (((w20 >>> 46) | (w21 << 18)) & mask) + base;
+    dst[dstOffset + 52] = ((w21 >>> 8) & mask) + base;
+    dst[dstOffset + 53] = ((w21 >>> 34) & mask) + base;
+    dst[dstOffset + 54] = (((w21 >>> 60) | (w22 << 4)) & mask) + base;
+    dst[dstOffset + 55] = ((w22 >>> 22) & mask) + base;
+    dst[dstOffset + 56] = (((w22 >>> 48) | (w23 << 16)) & mask) + base;
+    dst[dstOffset + 57] = ((w23 >>> 10) & mask) + base;
+    dst[dstOffset + 58] = ((w23 >>> 36) & mask) + base;
+    dst[dstOffset + 59] = (((w23 >>> 62) | (w24 << 2)) & mask) + base;
+    dst[dstOffset + 60] = ((w24 >>> 24) & mask) + base;
+    dst[dstOffset + 61] = (((w24 >>> 50) | (w25 << 14)) & mask) + base;
+    dst[dstOffset + 62] = ((w25 >>> 12) & mask) + base;
+    dst[dstOffset + 63] = (w25 >>> 38) + base;
+  }
+
+  private static void unpack26(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 26) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 52) | (w1 << 12)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 14) & mask;
+    dst[dstOffset + 4] = ((w1 >>> 40) | (w2 << 24)) & mask;
+    dst[dstOffset + 5] = (w2 >>> 2) & mask;
+    dst[dstOffset + 6] = (w2 >>> 28) & mask;
+    dst[dstOffset + 7] = ((w2 >>> 54) | (w3 << 10)) & mask;
+    dst[dstOffset + 8] = (w3 >>> 16) & mask;
+    dst[dstOffset + 9] = ((w3 >>> 42) | (w4 << 22)) & mask;
+    dst[dstOffset + 10] = (w4 >>> 4) & mask;
+    dst[dstOffset + 11] = (w4 >>> 30) & mask;
+    dst[dstOffset + 12] = ((w4 >>> 56) | (w5 << 8)) & mask;
+    dst[dstOffset + 13] = (w5 >>> 18) & mask;
+    dst[dstOffset + 14] = ((w5 >>> 44) | (w6 << 20)) & mask;
+    dst[dstOffset + 15] = (w6 >>> 6) & mask;
+    dst[dstOffset + 16] = (w6 >>> 32) & mask;
+    dst[dstOffset + 17] = ((w6 >>> 58) | (w7 << 6)) & mask;
+    dst[dstOffset + 18] = (w7 >>> 20) & mask;
+    dst[dstOffset + 19] = ((w7 >>> 46) | (w8 << 18)) & mask;
+    dst[dstOffset + 20] = (w8 >>> 8) & mask;
+    dst[dstOffset + 21] = (w8 >>> 34) & mask;
+    dst[dstOffset + 22] = ((w8 >>> 60) | (w9 << 4)) & mask;
+    dst[dstOffset + 23] = (w9 >>> 22) & mask;
+    dst[dstOffset + 24] = ((w9 >>> 48) | (w10 << 16)) & mask;
+    dst[dstOffset + 25] = (w10 >>> 10) & mask;
+    dst[dstOffset + 26] = (w10 >>> 36) & mask;
+    dst[dstOffset + 27] = ((w10 >>> 62) | (w11 << 2)) & mask;
+    dst[dstOffset + 28] = (w11 >>> 24) & mask;
+    dst[dstOffset + 29] = ((w11 >>> 50) | (w12 << 14)) & mask;
+    dst[dstOffset + 30] = (w12 >>> 12) & mask;
+    dst[dstOffset + 31] = w12 >>> 38;
+    dst[dstOffset + 32] = w13 & mask;
+    dst[dstOffset + 33] = (w13 >>> 26) & mask;
+    dst[dstOffset + 34] = ((w13 >>> 52) | (w14 << 12)) & mask;
+    dst[dstOffset + 35] = (w14 >>> 14) & mask;
+    dst[dstOffset + 36] = ((w14 >>> 40) | (w15 << 24)) & mask;
+    dst[dstOffset + 37] = (w15 >>> 2) & mask;
+    dst[dstOffset + 38] = (w15 >>> 28) & mask;
+    dst[dstOffset + 39] = ((w15 >>> 54) | (w16 << 10)) & mask;
+    dst[dstOffset + 40] = (w16 >>> 16) & mask;
+    dst[dstOffset + 41] = ((w16 >>> 42) | (w17 << 22)) & mask;
+    dst[dstOffset + 42] = (w17 >>> 4) & mask;
+    dst[dstOffset + 43] = (w17 >>> 30) & mask;
+    dst[dstOffset + 44] = ((w17 >>> 56) | (w18 << 8)) & mask;
+    dst[dstOffset + 45] = (w18 >>> 18) & mask;
+    dst[dstOffset + 46] = ((w18 >>> 44) | (w19 << 20)) & mask;
+    dst[dstOffset + 47] = (w19 >>> 6) & mask;
+    dst[dstOffset + 48] = (w19 >>> 32) & mask;
+    dst[dstOffset + 49] = ((w19 >>> 58) | (w20 << 6)) & mask;
+    dst[dstOffset + 50] = (w20 >>> 20) & mask;
+    dst[dstOffset + 51] = ((w20 >>> 46) | (w21 << 18)) & mask;
+    dst[dstOffset + 52] = (w21 >>> 8) & mask;
+    dst[dstOffset + 53] = (w21 >>> 34) & mask;
+    dst[dstOffset + 54] = ((w21 >>> 60) | (w22 << 4)) & mask;
+    dst[dstOffset + 55] = (w22 >>> 22) & mask;
+    dst[dstOffset + 56] = ((w22 >>> 48) | (w23 << 16)) & mask;
+    dst[dstOffset + 57] = (w23 >>> 10) & mask;
+    dst[dstOffset + 58] = (w23 >>> 36) & mask;
+    dst[dstOffset + 59] = ((w23 >>> 62) | (w24 << 2)) & mask;
+    dst[dstOffset + 60] = (w24 >>> 24) & mask;
+    dst[dstOffset + 61] = ((w24 >>> 50) | (w25 << 14)) & mask;
+    dst[dstOffset + 62] = (w25 >>> 12) & mask;
+    dst[dstOffset + 63] = w25 >>> 38;
+  }
+
+  private static void unpack27(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 27) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 54) | (w1 << 10)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 17) & mask) + base;
+    dst[dstOffset + 4] = (((w1 >>> 44) | (w2 << 20)) & mask) + base;
+    dst[dstOffset + 5] = ((w2 >>> 7) & mask) + base;
+    dst[dstOffset + 6] = ((w2 >>> 34) & mask) + base;
+    dst[dstOffset + 7] = (((w2 >>> 61) | (w3 << 3)) & mask) + base;
+    dst[dstOffset + 8] = ((w3 >>> 24) & mask) + base;
+    dst[dstOffset + 9] = (((w3 >>> 51) | (w4 << 13)) & mask) + base;
+    dst[dstOffset + 10] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 11] = (((w4 >>> 41) | (w5 << 23)) & mask) + base;
+    dst[dstOffset + 12] = ((w5 >>> 4) & mask) + base;
+    dst[dstOffset + 13] = ((w5 >>> 31) & mask) + base;
+    dst[dstOffset + 14] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 15] = ((w6 >>> 21) & mask) + base;
+    dst[dstOffset + 16] = (((w6 >>> 48) | (w7 << 16)) & mask) + base;
+    dst[dstOffset + 17] = ((w7 >>> 11) & mask) + base;
+    dst[dstOffset + 18] = (((w7 >>> 38) | (w8 << 26)) & mask) + base;
+    dst[dstOffset + 19] = ((w8 >>> 1) & mask) + base;
+    dst[dstOffset + 20] = ((w8 >>> 28) & mask) + base;
+    dst[dstOffset + 21] = (((w8 >>> 55) | (w9 << 9)) & mask) + base;
+    dst[dstOffset + 22] = ((w9 >>> 18) & mask) + base;
+    dst[dstOffset + 23] = (((w9 >>> 45) | (w10 << 19)) & mask) + base;
+    dst[dstOffset + 24] = ((w10 >>> 8) & mask) + base;
+    dst[dstOffset + 25] = ((w10 >>> 35) & mask) + base;
+    dst[dstOffset + 26] = (((w10 >>> 62) | (w11 << 2)) & mask) + base;
+    dst[dstOffset + 27] = ((w11 >>> 25) & mask) + base;
+    dst[dstOffset + 28] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 29] = ((w12 >>> 15) & mask) + base;
+    dst[dstOffset + 30] = (((w12 >>> 42) | (w13 << 22)) & mask) + base;
+    dst[dstOffset + 31] = ((w13 >>> 5) & mask) + base;
+    dst[dstOffset + 32] = ((w13 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = (((w13 >>> 59) | (w14 << 5)) & mask) + base;
+    dst[dstOffset + 34] = ((w14 >>> 22) & mask) + base;
+    dst[dstOffset + 35] = (((w14 >>> 49) | (w15 << 15)) & mask) + base;
+    dst[dstOffset + 36] = ((w15 >>> 12) & mask) + base;
+    dst[dstOffset + 37] = (((w15 >>> 39) | (w16 << 25)) & mask) + base;
+    dst[dstOffset + 38] = ((w16 >>> 2) & mask) + base;
+    dst[dstOffset + 39] = ((w16 >>> 29) & mask) + base;
+    dst[dstOffset + 40] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 41] = ((w17 >>> 19) & mask) + base;
+    dst[dstOffset + 42] = (((w17 >>> 46) | (w18 << 18)) & mask) + base;
+    dst[dstOffset + 43] = ((w18 >>> 9) & mask) + base;
+    dst[dstOffset + 44] = ((w18 >>> 36) & mask) + base;
+    dst[dstOffset + 45] = (((w18 >>> 63) | (w19 << 1)) & mask) + base;
+    dst[dstOffset + 46] = ((w19 >>> 26) & mask) + base;
+    dst[dstOffset + 47] = (((w19 >>> 53) | (w20 << 11)) & mask) + base;
+    dst[dstOffset + 48] = ((w20 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = (((w20 >>> 43) | (w21 << 21)) & mask) + base;
+    dst[dstOffset + 50] = ((w21 >>> 6) & mask) + base;
+    dst[dstOffset + 51] = ((w21 >>> 33) & mask) + base;
+    dst[dstOffset + 52] = (((w21 >>> 60) | (w22 << 4)) & mask) + base;
+    dst[dstOffset + 53] = ((w22 >>> 23) & mask) + base;
+    dst[dstOffset + 54] = (((w22 >>> 50) | (w23 << 14)) & mask) + base;
+    dst[dstOffset + 55] = ((w23 >>> 13) & mask) + base;
+    dst[dstOffset + 56] = (((w23 >>> 40) | (w24 << 24)) & mask) + base;
+    dst[dstOffset + 57] = ((w24 >>> 3) & mask) + base;
+    dst[dstOffset + 58] = ((w24 >>> 30) & mask) + base;
+    dst[dstOffset + 59] = (((w24 >>> 57) | (w25 << 7)) & mask) + base;
+    dst[dstOffset + 60] = ((w25 >>> 20) & mask) + base;
+    dst[dstOffset + 61] = (((w25 >>> 47) | (w26 << 17)) & mask) + base;
+    dst[dstOffset + 62] = ((w26 >>> 10) & mask) + base;
+    dst[dstOffset + 63] = (w26 >>> 37) + base;
+  }
+
+  private static void unpack27(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 27) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 54) | (w1 << 10)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 17) & mask;
+    dst[dstOffset + 4] = ((w1 >>> 44) | (w2 << 20)) & mask;
+    dst[dstOffset + 5] = (w2 >>> 7) & mask;
+    dst[dstOffset + 6] = (w2 >>> 34) & mask;
+    dst[dstOffset + 7] = ((w2 >>> 61) | (w3 << 3)) & mask;
+    dst[dstOffset + 8] = (w3 >>> 24) & mask;
+    dst[dstOffset + 9] = ((w3 >>> 51) | (w4 << 13)) & mask;
+    dst[dstOffset + 10] = (w4 >>> 14) & mask;
+    dst[dstOffset + 11] = ((w4 >>> 41) | (w5 << 23)) & mask;
+    dst[dstOffset + 12] = (w5 >>> 4) & mask;
+    dst[dstOffset + 13] = (w5 >>> 31) & mask;
+    dst[dstOffset + 14] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 15] = (w6 >>> 21) & mask;
+    dst[dstOffset + 16] = ((w6 >>> 48) | (w7 << 16)) & mask;
+    dst[dstOffset + 17] = (w7 >>> 11) & mask;
+    dst[dstOffset + 18] = ((w7 >>> 38) | (w8 << 26)) & mask;
+    dst[dstOffset + 19] = (w8 >>> 1) & mask;
+    dst[dstOffset + 20] = (w8 >>> 28) & mask;
+    dst[dstOffset + 21] = ((w8 >>> 55) | (w9 << 9)) & mask;
+    dst[dstOffset + 22] = (w9 >>> 18) & mask;
+    dst[dstOffset + 23] = ((w9 >>> 45) | (w10 << 19)) & mask;
+    dst[dstOffset + 24] = (w10 >>> 8) & mask;
+    dst[dstOffset + 25] = (w10 >>> 35) & mask;
+    dst[dstOffset + 26] = ((w10 >>> 62) | (w11 << 2)) & mask;
+    dst[dstOffset + 27] = (w11 >>> 25) & mask;
+    dst[dstOffset + 28] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 29] = (w12 >>> 15) & mask;
+    dst[dstOffset + 30] = ((w12 >>> 42) | (w13 << 22)) & mask;
+    dst[dstOffset + 31] = (w13 >>> 5) & mask;
+    dst[dstOffset + 32] = (w13 >>> 32) & mask;
+    dst[dstOffset + 33] = ((w13 >>> 59) | (w14 << 5)) & mask;
+    dst[dstOffset + 34] = (w14 >>> 22) & mask;
+    dst[dstOffset + 35] = ((w14 >>> 49) | (w15 << 15)) & mask;
+    dst[dstOffset + 36] = (w15 >>> 12) & mask;
+    dst[dstOffset + 37] = ((w15 >>> 39) | (w16 << 25)) & mask;
+    dst[dstOffset + 38] = (w16 >>> 2) & mask;
+    dst[dstOffset + 39] = (w16 >>> 29) & mask;
+    dst[dstOffset + 40] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 41] = (w17 >>> 19) & mask;
+    dst[dstOffset + 42] = ((w17 >>> 46) | (w18 << 18)) & mask;
+    dst[dstOffset + 43] = (w18 >>> 9) & mask;
+    dst[dstOffset + 44] = (w18 >>> 36) & mask;
+    dst[dstOffset + 45] = ((w18 >>> 63) | (w19 << 1)) & mask;
+    dst[dstOffset + 46] = (w19 >>> 26) & mask;
+    dst[dstOffset + 47] = ((w19 >>> 53) | (w20 << 11)) & mask;
+    dst[dstOffset + 48] = (w20 >>> 16) & mask;
+    dst[dstOffset + 49] = ((w20 >>> 43) | (w21 << 21)) & mask;
+    dst[dstOffset + 50] = (w21 >>> 6) & mask;
+    dst[dstOffset + 51] = (w21 >>> 33) & mask;
+    dst[dstOffset + 52] = ((w21 >>> 60) | (w22 << 4)) & mask;
+    dst[dstOffset + 53] = (w22 >>> 23) & mask;
+    dst[dstOffset + 54] = ((w22 >>> 50) | (w23 << 14)) & mask;
+    dst[dstOffset + 55] = (w23 >>> 13) & mask;
+    dst[dstOffset + 56] = ((w23 >>> 40) | (w24 << 24)) & mask;
+    dst[dstOffset + 57] = (w24 >>> 3) & mask;
+    dst[dstOffset + 58] = (w24 >>> 30) & mask;
+    dst[dstOffset + 59] = ((w24 >>> 57) | (w25 << 7)) & mask;
+    dst[dstOffset + 60] = (w25 >>> 20) & mask;
+    dst[dstOffset + 61] = ((w25 >>> 47) | (w26 << 17)) & mask;
+    dst[dstOffset + 62] = (w26 >>> 10) & mask;
+    dst[dstOffset + 63] = w26 >>> 37;
+  }
+
+  private static void unpack28(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 28) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 56) | (w1 << 8)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 4] = (((w1 >>> 48) | (w2 << 16)) & mask) + base;
+    dst[dstOffset + 5] = ((w2 >>> 12) & mask) + base;
+    dst[dstOffset + 6] = (((w2 >>> 40) | (w3 << 24)) & mask) + base;
+    dst[dstOffset + 7] = ((w3 >>> 4) & mask) + base;
+    dst[dstOffset + 8] = ((w3 >>> 32) & mask) + base;
+    dst[dstOffset + 9] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 10] = ((w4 >>> 24) & mask) + base;
+    dst[dstOffset + 11] = (((w4 >>> 52) | (w5 << 12)) & mask) + base;
+    dst[dstOffset + 12] = ((w5 >>> 16) & mask) + base;
+    dst[dstOffset + 13] = (((w5 >>> 44) | (w6 << 20)) & mask) + base;
+    dst[dstOffset + 14] = ((w6 >>> 8) & mask) + base;
+    dst[dstOffset + 15] = (w6 >>> 36) + base;
+    dst[dstOffset + 16] = (w7 & mask) + base;
+    dst[dstOffset + 17] = ((w7 >>> 28) & mask) + base;
+    dst[dstOffset + 18] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 19] = ((w8 >>> 20) & mask) + base;
+    dst[dstOffset + 20] = (((w8 >>> 48) | (w9 << 16)) & mask) + base;
+    dst[dstOffset + 21] = ((w9 >>> 12) & mask) + base;
+    dst[dstOffset + 22] = (((w9 >>> 40) | (w10 << 24)) & mask) + base;
+    dst[dstOffset + 23] = ((w10 >>> 4) & mask) + base;
+    dst[dstOffset + 24] = ((w10 >>> 32) & mask) + base;
+    dst[dstOffset + 25] = (((w10 >>> 60) | (w11 << 4)) & mask) + base;
+    dst[dstOffset + 26] = ((w11 >>> 24) & mask) + base;
+    dst[dstOffset + 27] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 28] = ((w12 >>> 16) & mask) + base;
+    dst[dstOffset + 29] = (((w12 >>> 44) | (w13 << 20)) & mask) + base;
+    dst[dstOffset + 30] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 31] = (w13 >>> 36) + base;
+    dst[dstOffset + 32] = (w14 & mask) + base;
+    dst[dstOffset + 33] = ((w14 >>> 28) & mask) + base;
+    dst[dstOffset + 34] = (((w14 >>> 56) | (w15 << 8)) & mask) + base;
+    dst[dstOffset + 35] = ((w15 >>> 20) & mask) + base;
+    dst[dstOffset + 36] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 37] = ((w16 >>> 12) & mask) + base;
+    dst[dstOffset + 38] = (((w16 >>> 40) | (w17 << 24)) & mask) + base;
+    dst[dstOffset + 39] = ((w17 >>> 4) & mask) + base;
+    dst[dstOffset + 40] = ((w17 >>> 32) & mask) + base;
+    dst[dstOffset + 41] = (((w17 >>> 60) | (w18 << 4)) & mask) + base;
+    dst[dstOffset + 42] = ((w18 >>> 24) & mask) + base;
+    dst[dstOffset + 43] = (((w18 >>> 52) | (w19 << 12)) & mask) + base;
+    dst[dstOffset + 44] = ((w19 >>> 16) & mask) + base;
+    dst[dstOffset + 45] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 46] = ((w20 >>> 8) & mask) + base;
+    dst[dstOffset + 47] = (w20 >>> 36) + base;
+    dst[dstOffset + 48] = (w21 & mask) + base;
+    dst[dstOffset + 49] = ((w21 >>> 28) & mask) + base;
+    dst[dstOffset + 50] = (((w21 >>> 56) | (w22 << 8)) & mask) + base;
+    dst[dstOffset + 51] = ((w22 >>> 20) & mask) + base;
+    dst[dstOffset + 52] = (((w22 >>> 48) | (w23 << 16)) & mask) + base;
+    dst[dstOffset + 53] = ((w23 >>> 12) & mask) + base;
+    dst[dstOffset + 54] = (((w23 >>> 40) | (w24 << 24)) & mask) + base;
+    dst[dstOffset + 55] = ((w24 >>> 4) & mask) + base;
+    dst[dstOffset + 56] = ((w24 >>> 32) & mask) + base;
+    dst[dstOffset + 57] = (((w24 >>> 60) | (w25 << 4)) & mask) + base;
+    dst[dstOffset + 58] = ((w25 >>> 24) & mask) + base;
+    dst[dstOffset + 59] = (((w25 >>> 52) | (w26 << 12)) & mask) + base;
+    dst[dstOffset + 60] = ((w26 >>> 16) & mask) + base;
+    dst[dstOffset + 61] = (((w26 >>> 44) | (w27 << 20)) & mask) + base;
+    dst[dstOffset + 62] = ((w27 >>> 8) & mask) + base;
+    dst[dstOffset + 63] = (w27 >>> 36) + base;
+  }
+
+  private static void unpack28(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 28) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 56) | (w1 << 8)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 20) & mask;
+    dst[dstOffset + 4] = ((w1 >>> 48) | (w2 << 16)) & mask;
+    dst[dstOffset + 5] = (w2 >>> 12) & mask;
+    dst[dstOffset + 6] = ((w2 >>> 40) | (w3 << 24)) & mask;
+    dst[dstOffset + 7] = (w3 >>> 4) & mask;
+    dst[dstOffset + 8] = (w3 >>> 32) & mask;
+    dst[dstOffset + 9] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 10] = (w4 >>> 24) & mask;
+    dst[dstOffset + 11] = ((w4 >>> 52) | (w5 << 12)) & mask;
+    dst[dstOffset + 12] = (w5 >>> 16) & mask;
+    dst[dstOffset + 13] = ((w5 >>> 44) | (w6 << 20)) & mask;
+    dst[dstOffset + 14] = (w6 >>> 8) & mask;
+    dst[dstOffset + 15] = w6 >>> 36;
+    dst[dstOffset + 16] = w7 & mask;
+    dst[dstOffset + 17] = (w7 >>> 28) & mask;
+    dst[dstOffset + 18] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 19] = (w8 >>> 20) & mask;
+    dst[dstOffset + 20] = ((w8 >>> 48) | (w9 << 16)) & mask;
+    dst[dstOffset + 21] = (w9 >>> 12) & mask;
+    dst[dstOffset + 22] = ((w9 >>> 40) | (w10 << 24)) & mask;
+    dst[dstOffset + 23] = (w10 >>> 4) & mask;
+    dst[dstOffset + 24] = (w10 >>> 32) & mask;
+    dst[dstOffset + 25] = ((w10 >>> 60) | (w11 << 4)) & mask;
+    dst[dstOffset + 26] = (w11 >>> 24) & mask;
+    dst[dstOffset + 27] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 28] = (w12 >>> 16) & mask;
+    dst[dstOffset + 29] = ((w12 >>> 44) | (w13 << 20)) & mask;
+    dst[dstOffset + 30] = (w13 >>> 8) & mask;
+    dst[dstOffset + 31] = w13 >>> 36;
+    dst[dstOffset + 32] = w14 & mask;
+    dst[dstOffset + 33] = (w14 >>> 28) & mask;
+    dst[dstOffset + 34] = ((w14 >>> 56) | (w15 << 8)) & mask;
+    dst[dstOffset + 35] = (w15 >>> 20) & mask;
+    dst[dstOffset + 36] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 37] = (w16 >>> 12) & mask;
+    dst[dstOffset + 38] = ((w16 >>> 40) | (w17 << 24)) & mask;
+    dst[dstOffset + 39] = (w17 >>> 4) & mask;
+    dst[dstOffset + 40] = (w17 >>> 32) & mask;
+    dst[dstOffset + 41] = ((w17 >>> 60) | (w18 << 4)) & mask;
+    dst[dstOffset + 42] = (w18 >>> 24) & mask;
+    dst[dstOffset + 43] = ((w18 >>> 52) | (w19 << 12)) & mask;
+    dst[dstOffset + 44] = (w19 >>> 16) & mask;
+    dst[dstOffset + 45] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 46] = (w20 >>> 8) & mask;
+    dst[dstOffset + 47] = w20 >>> 36;
+    dst[dstOffset + 48] = w21 & mask;
+    dst[dstOffset + 49] = (w21 >>> 28) & mask;
+    dst[dstOffset + 50] = ((w21 >>> 56) | (w22 << 8)) & mask;
+    dst[dstOffset + 51] = (w22 >>> 20) & mask;
+    dst[dstOffset + 52] = ((w22 >>> 48) | (w23 << 16)) & mask;
+    dst[dstOffset + 53] = (w23 >>> 12) & mask;
+    dst[dstOffset + 54] = ((w23 >>> 40) | (w24 << 24)) & mask;
+    dst[dstOffset + 55] = (w24 >>> 4) & mask;
+    dst[dstOffset + 56] = (w24 >>> 32) & mask;
+    dst[dstOffset + 57] = ((w24 >>> 60) | (w25 << 4)) & mask;
+    dst[dstOffset + 58] = (w25 >>> 24) & mask;
+    dst[dstOffset + 59] = ((w25 >>> 52) | (w26 << 12)) & mask;
+    dst[dstOffset + 60] = (w26 >>> 16) & mask;
+    dst[dstOffset + 61] = ((w26 >>> 44) | (w27 << 20)) & mask;
+    dst[dstOffset + 62] = (w27 >>> 8) & mask;
+    dst[dstOffset + 63] = w27 >>> 36;
+  }
+}
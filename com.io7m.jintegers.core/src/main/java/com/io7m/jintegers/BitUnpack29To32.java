@@ -0,0 +1,804 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 29 to 32.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack29To32
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack29To32()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 29 -> unpack29(src, index, base, dst, dstOffset);
+      case 30 -> unpack30(src, index, base, dst, dstOffset);
+      case 31 -> unpack31(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 29 -> unpack29(src, srcOffset, dst, dstOffset);
+      case 30 -> unpack30(src, srcOffset, dst, dstOffset);
+      case 31 -> unpack31(src, srcOffset, dst, dstOffset);
+      case 32 -> unpack32(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack29(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 29) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 58) | (w1 << 6)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 23) & mask) + base;
+    dst[dstOffset + 4] = (((w1 >>> 52) | (w2 << 12)) & mask) + base;
+    dst[dstOffset + 5] = ((w2 >>> 17) & mask) + base;
+    dst[dstOffset + 6] = (((w2 >>> 46) | (w3 << 18)) & mask) + base;
+    dst[dstOffset + 7] = ((w3 >>> 11) & mask) + base;
+    dst[dstOffset + 8] = (((w3 >>> 40) | (w4 << 24)) & mask) + base;
+    dst[dstOffset + 9] = ((w4 >>> 5) & mask) + base;
+    dst[dstOffset + 10] = ((w4 >>> 34) & mask) + base;
+    dst[dstOffset + 11] = (((w4 >>> 63) | (w5 << 1)) & mask) + base;
+    dst[dstOffset + 12] = ((w5 >>> 28) & mask) + base;
+    dst[dstOffset + 13] = (((w5 >>> 57) | (w6 << 7)) & mask) + base;
+    dst[dstOffset + 14] = ((w6 >>> 22) & mask) + base;
+    dst[dstOffset + 15] = (((w6 >>> 51) | (w7 << 13)) & mask) + base;
+    dst[dstOffset + 16] = ((w7 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = (((w7 >>> 45) | (w8 << 19)) & mask) + base;
+    dst[dstOffset + 18] = ((w8 >>> 10) & mask) + base;
+    dst[dstOffset + 19] = (((w8 >>> 39) | (w9 << 25)) & mask) + base;
+    dst[dstOffset + 20] = ((w9 >>> 4) & mask) + base;
+    dst[dstOffset + 21] = ((w9 >>> 33) & mask) + base;
+    dst[dstOffset + 22] = (((w9 >>> 62) | (w10 << 2)) & mask) + base;
+    dst[dstOffset + 23] = ((w10 >>> 27) & mask) + base;
+    dst[dstOffset + 24] = (((w10 >>> 56) | (w11 << 8)) & mask) + base;
+    dst[dstOffset + 25] = ((w11 >>> 21) & mask) + base;
+    dst[dstOffset + 26] = (((w11 >>> 50) | (w12 << 14)) & mask) + base;
+    dst[dstOffset + 27] = ((w12 >>> 15) & mask) + base;
+    dst[dstOffset + 28] = (((w12 >>> 44) | (w13 << 20)) & mask) + base;
+    dst[dstOffset + 29] = ((w13 >>> 9) & mask) + base;
+    dst[dstOffset + 30] = (((w13 >>> 38) | (w14 << 26)) & mask) + base;
+    dst[dstOffset + 31] = ((w14 >>> 3) & mask) + base;
+    dst[dstOffset + 32] = ((w14 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = (((w14 >>> 61) | (w15 << 3)) & mask) + base;
+    dst[dstOffset + 34] = ((w15 >>> 26) & mask) + base;
+    dst[dstOffset + 35] = (((w15 >>> 55) | (w16 << 9)) & mask) + base;
+    dst[dstOffset + 36] = ((w16 >>> 20) & mask) + base;
+    dst[dstOffset + 37] = (((w16 >>> 49) | (w17 << 15)) & mask) + base;
+    dst[dstOffset + 38] = ((w17 >>> 14) & mask) + base;
+    dst[dstOffset + 39] = (((w17 >>> 43) | (w18 << 21)) & mask) + base;
+    dst[dstOffset + 40] = ((w18 >>> 8) & mask) + base;
+    dst[dstOffset + 41] = (((w18 >>> 37) | (w19 << 27)) & mask) + base;
+    dst[dstOffset + 42] = ((w19 >>> 2) & mask) + base;
+    dst[dstOffset + 43] = ((w19 >>> 31) & mask) + base;
+    dst[dstOffset + 44] = (((w19 >>> 60) | (w20 << 4)) & mask) + base;
+    dst[dstOffset + 45] = ((w20 >>> 25) & mask) + base;
+    dst[dstOffset + 46] = (((w20 >>> 54) | (w21 << 10)) & mask) + base;
+    dst[dstOffset + 47] = ((w21 >>> 19) & mask) + base;
+    dst[dstOffset + 48] = (((w21 >>> 48) | (w22 << 16)) & mask) + base;
+    dst[dstOffset + 49] = ((w22 >>> 13) & mask) + base;
+    dst[dstOffset + 50] = (((w22 >>> 42) | (w23 << 22)) & mask) + base;
+    dst[dstOffset + 51] = ((w23 >>> 7) & mask) + base;
+    dst[dstOffset + 52] = (((w23 >>> 36) | (w24 << 28)) & mask) + base;
+    dst[dstOffset + 53] = ((w24 >>> 1) & mask) + base;
+    dst[dstOffset + 54] = ((w24 >>> 30) & mask) + base;
+    dst[dstOffset + 55] = (((w24 >>> 59) | (w25 << 5)) & mask) + base;
+    dst[dstOffset + 56] = ((w25 >>> 24) & mask) + base;
+    dst[dstOffset + 57] = (((w25 >>> 53) | (w26 << 11)) & mask) + base;
+    dst[dstOffset + 58] = ((w26 >>> 18) & mask) + base;
+    dst[dstOffset + 59] = (((w26 >>> 47) | (w27 << 17)) & mask) + base;
+    dst[dstOffset + 60] = ((w27 >>> 12) & mask) + base;
+    dst[dstOffset + 61] = (((w27 >>> 41) | (w28 << 23)) & mask) + base;
+    dst[dstOffset + 62] = ((w28 >>> 6) & mask) + base;
+    dst[dstOffset + 63] = (w28 >>> 35) + base;
+  }
+
+  private static void unpack29(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 29) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 58) | (w1 << 6)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 23) & mask;
+    dst[dstOffset + 4] = ((w1 >>> 52) | (w2 << 12)) & mask;
+    dst[dstOffset + 5] = (w2 >>> 17) & mask;
+    dst[dstOffset + 6] = ((w2 >>> 46) | (w3 << 18)) & mask;
+    dst[dstOffset + 7] = (w3 >>> 11) & mask;
+    dst[dstOffset + 8] = ((w3 >>> 40) | (w4 << 24)) & mask;
+    dst[dstOffset + 9] = (w4 >>> 5) & mask;
+    dst[dstOffset + 10] = (w4 >>> 34) & mask;
+    dst[dstOffset + 11] = ((w4 >>> 63) | (w5 << 1)) & mask;
+    dst[dstOffset + 12] = (w5 >>> 28) & mask;
+    dst[dstOffset + 13] = ((w5 >>> 57) | (w6 << 7)) & mask;
+    dst[dstOffset + 14] = (w6 >>> 22) & mask;
+    dst[dstOffset + 15] = ((w6 >>> 51) | (w7 << 13)) & mask;
+    dst[dstOffset + 16] = (w7 >>> 16) & mask;
+    dst[dstOffset + 17] = ((w7 >>> 45) | (w8 << 19)) & mask;
+    dst[dstOffset + 18] = (w8 >>> 10) & mask;
+    dst[dstOffset + 19] = ((w8 >>> 39) | (w9 << 25)) & mask;
+    dst[dstOffset + 20] = (w9 >>> 4) & mask;
+    dst[dstOffset + 21] = (w9 >>> 33) & mask;
+    dst[dstOffset + 22] = ((w9 >>> 62) | (w10 << 2)) & mask;
+    dst[dstOffset + 23] = (w10 >>> 27) & mask;
+    dst[dstOffset + 24] = ((w10 >>> 56) | (w11 << 8)) & mask;
+    dst[dstOffset + 25] = (w11 >>> 21) & mask;
+    dst[dstOffset + 26] = ((w11 >>> 50) | (w12 << 14)) & mask;
+    dst[dstOffset + 27] = (w12 >>> 15) & mask;
+    dst[dstOffset + 28] = ((w12 >>> 44) | (w13 << 20)) & mask;
+    dst[dstOffset + 29] = (w13 >>> 9) & mask;
+    dst[dstOffset + 30] = ((w13 >>> 38) | (w14 << 26)) & mask;
+    dst[dstOffset + 31] = (w14 >>> 3) & mask;
+    dst[dstOffset + 32] = (w14 >>> 32) & mask;
+    dst[dstOffset + 33] = ((w14 >>> 61) | (w15 << 3)) & mask;
+    dst[dstOffset + 34] = (w15 >>> 26) & mask;
+    dst[dstOffset + 35] = ((w15 >>> 55) | (w16 << 9)) & mask;
+    dst[dstOffset + 36] = (w16 >>> 20) & mask;
+    dst[dstOffset + 37] = ((w16 >>> 49) | (w17 << 15)) & mask;
+    dst[dstOffset + 38] = (w17 >>> 14) & mask;
+    dst[dstOffset + 39] = ((w17 >>> 43) | (w18 << 21)) & mask;
+    dst[dstOffset + 40] = (w18 >>> 8) & mask;
+    dst[dstOffset + 41] = ((w18 >>> 37) | (w19 << 27)) & mask;
+    dst[dstOffset + 42] = (w19 >>> 2) & mask;
+    dst[dstOffset + 43] = (w19 >>> 31) & mask;
+    dst[dstOffset + 44] = ((w19 >>> 60) | (w20 << 4)) & mask;
+    dst[dstOffset + 45] = (w20 >>> 25) & mask;
+    dst[dstOffset + 46] = ((w20 >>> 54) | (w21 << 10)) & mask;
+    dst[dstOffset + 47] = (w21 >>> 19) & mask;
+    dst[dstOffset + 48] = ((w21 >>> 48) | (w22 << 16)) & mask;
+    dst[dstOffset + 49] = (w22 >>> 13) & mask;
+    dst[dstOffset + 50] = ((w22 >>> 42) | (w23 << 22)) & mask;
+    dst[dstOffset + 51] = (w23 >>> 7) & mask;
+    dst[dstOffset + 52] = ((w23 >>> 36) | (w24 << 28)) & mask;
+    dst[dstOffset + 53] = (w24 >>> 1) & mask;
+    dst[dstOffset + 54] = (w24 >>> 30) & mask;
+    dst[dstOffset + 55] = ((w24 >>> 59) | (w25 << 5)) & mask;
+    dst[dstOffset + 56] = (w25 >>> 24) & mask;
+    dst[dstOffset + 57] = ((w25 >>> 53) | (w26 << 11)) & mask;
+    dst[dstOffset + 58] = (w26 >>> 18) & mask;
+    dst[dstOffset + 59] = ((w26 >>> 47) | (w27 << 17)) & mask;
+    dst[dstOffset + 60] = (w27 >>> 12) & mask;
+    dst[dstOffset + 61] = ((w27 >>> 41) | (w28 << 23)) & mask;
+    dst[dstOffset + 62] = (w28 >>> 6) & mask;
+    dst[dstOffset + 63] = w28 >>> 35;
+  }
+
+  private static void unpack30(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 30) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 60) | (w1 << 4)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 4] = (((w1 >>> 56) | (w2 << 8)) & mask) + base;
+    dst[dstOffset + 5] = ((w2 >>> 22) & mask) + base;
+    dst[dstOffset + 6] = (((w2 >>> 52) | (w3 << 12)) & mask) + base;
+    dst[dstOffset + 7] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 8] = (((w3 >>> 48) | (w4 << 16)) & mask) + base;
+    dst[dstOffset + 9] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 10] = (((w4 >>> 44) | (w5 << 20)) & mask) + base;
+    dst[dstOffset + 11] = ((w5 >>> 10) & mask) + base;
+    dst[dstOffset + 12] = (((w5 >>> 40) | (w6 << 24)) & mask) + base;
+    dst[dstOffset + 13] = ((w6 >>> 6) & mask) + base;
+    dst[dstOffset + 14] = (((w6 >>> 36) | (w7 << 28)) & mask) + base;
+    dst[dstOffset + 15] = ((w7 >>> 2) & mask) + base;
+    dst[dstOffset + 16] = ((w7 >>> 32) & mask) + base;
+    dst[dstOffset + 17] = (((w7 >>> 62) | (w8 << 2)) & mask) + base;
+    dst[dstOffset + 18] = ((w8 >>> 28) & mask) + base;
+    dst[dstOffset + 19] = (((w8 >>> 58) | (w9 << 6)) & mask) + base;
+    dst[dstOffset + 20] = ((w9 >>> 24) & mask) + base;
+    dst[dstOffset + 21] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 22] = ((w10 >>> 20) & mask) + base;
+    dst[dstOffset + 23] = (((w10 >>> 50) | (w11 << 14)) & mask) + base;
+    dst[dstOffset + 24] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 25] = (((w11 >>> 46) | (w12 << 18)) & mask) + base;
+    dst[dstOffset + 26] = ((w12 >>> 12) & mask) + base;
+    dst[dstOffset + 27] = (((w12 >>> 42) | (w13 << 22)) & mask) + base;
+    dst[dstOffset + 28] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 29] = (((w13 >>> 38) | (w14 << 26)) & mask) + base;
+    dst[dstOffset + 30] = ((w14 >>> 4) & mask) + base;
+    dst[dstOffset + 31] = (w14 >>> 34) + base;
+    dst[dstOffset + 32] = (w15 & mask) + base;
+    dst[dstOffset + 33] = ((w15 >>> 30) & mask) + base;
+    dst[dstOffset + 34] = (((w15 >>> 60) | (w16 << 4)) & mask) + base;
+    dst[dstOffset + 35] = ((w16 >>> 26) & mask) + base;
+    dst[dstOffset + 36] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 37] = ((w17 >>> 22) & mask) + base;
+    dst[dstOffset + 38] = (((w17 >>> 52) | (w18 << 12)) & mask) + base;
+    dst[dstOffset + 39] = ((w18 >>> 18) & mask) + base;
+    dst[dstOffset + 40] = (((w18 >>> 48) | (w19 << 16)) & mask) + base;
+    dst[dstOffset + 41] = ((w19 >>> 14) & mask) + base;
+    dst[dstOffset + 42] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 43] = ((w20 >>> 10) & mask) + base;
+    dst[dstOffset + 44] = (((w20 >>> 40) | (w21 << 24)) & mask) + base;
+    dst[dstOffset + 45] = ((w21 >>> 6) & mask) + base;
+    dst[dstOffset + 46] = (((w21 >>> 36) | (w22 << 28)) & mask) + base;
+    dst[dstOffset + 47] = ((w22 >>> 2) & mask) + base;
+    dst[dstOffset + 48] = ((w22 >>> 32) & mask) + base;
+    dst[dstOffset + 49] = (((w22 >>> 62) | (w23 << 2)) & mask) + base;
+    dst[dstOffset + 50] = ((w23 >>> 28) & mask) + base;
+    dst[dstOffset + 51] = (((w23 >>> 58) | (w24 << 6)) & mask) + base;
+    dst[dstOffset + 52] = ((w24 >>> 24) & mask) + base;
+    dst[dstOffset + 53] = (((w24 >>> 54) | (w25 << 10)) & mask) + base;
+    dst[dstOffset + 54] = ((w25 >>> 20) & mask) + base;
+    dst[dstOffset + 55] = (((w25 >>> 50) | (w26 << 14)) & mask) + base;
+    dst[dstOffset + 56] = ((w26 >>> 16) & mask) + base;
+    dst[dstOffset + 57] = (((w26 >>> 46) | (w27 << 18)) & mask) + base;
+    dst[dstOffset + 58] = ((w27 >>> 12) & mask) + base;
+    dst[dstOffset + 59] = (((w27 >>> 42) | (w28 << 22)) & mask) + base;
+    dst[dstOffset + 60] = ((w28 >>> 8) & mask) + base;
+    dst[dstOffset + 61] = (((w28 >>> 38) | (w29 << 26)) & mask) + base;
+    dst[dstOffset + 62] = ((w29 >>> 4) & mask) + base;
+    dst[dstOffset + 63] = (w29 >>> 34) + base;
+  }
+
+  private static void unpack30(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 30) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 60) | (w1 << 4)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 26) & mask;
+    dst[dstOffset + 4] = ((w1 >>> 56) | (w2 << 8)) & mask;
+    dst[dstOffset + 5] = (w2 >>> 22) & mask;
+    dst[dstOffset + 6] = ((w2 >>> 52) | (w3 << 12)) & mask;
+    dst[dstOffset + 7] = (w3 >>> 18) & mask;
+    dst[dstOffset + 8] = ((w3 >>> 48) | (w4 << 16)) & mask;
+    dst[dstOffset + 9] = (w4 >>> 14) & mask;
+    dst[dstOffset + 10] = ((w4 >>> 44) | (w5 << 20)) & mask;
+    dst[dstOffset + 11] = (w5 >>> 10) & mask;
+    dst[dstOffset + 12] = ((w5 >>> 40) | (w6 << 24)) & mask;
+    dst[dstOffset + 13] = (w6 >>> 6) & mask;
+    dst[dstOffset + 14] = ((w6 >>> 36) | (w7 << 28)) & mask;
+    dst[dstOffset + 15] = (w7 >>> 2) & mask;
+    dst[dstOffset + 16] = (w7 >>> 32) & mask;
+    dst[dstOffset + 17] = ((w7 >>> 62) | (w8 << 2)) & mask;
+    dst[dstOffset + 18] = (w8 >>> 28) & mask;
+    dst[dstOffset + 19] = ((w8 >>> 58) | (w9 << 6)) & mask;
+    dst[dstOffset + 20] = (w9 >>> 24) & mask;
+    dst[dstOffset + 21] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 22] = (w10 >>> 20) & mask;
+    dst[dstOffset + 23] = ((w10 >>> 50) | (w11 << 14)) & mask;
+    dst[dstOffset + 24] = (w11 >>> 16) & mask;
+    dst[dstOffset + 25] = ((w11 >>> 46) | (w12 << 18)) & mask;
+    dst[dstOffset + 26] = (w12 >>> 12) & mask;
+    dst[dstOffset + 27] = ((w12 >>> 42) | (w13 << 22)) & mask;
+    dst[dstOffset + 28] = (w13 >>> 8) & mask;
+    dst[dstOffset + 29] = ((w13 >>> 38) | (w14 << 26)) & mask;
+    dst[dstOffset + 30] = (w14 >>> 4) & mask;
+    dst[dstOffset + 31] = w14 >>> 34;
+    dst[dstOffset + 32] = w15 & mask;
+    dst[dstOffset + 33] = (w15 >>> 30) & mask;
+    dst[dstOffset + 34] = ((w15 >>> 60) | (w16 << 4)) & mask;
+    dst[dstOffset + 35] = (w16 >>> 26) & mask;
+    dst[dstOffset + 36] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 37] = (w17 >>> 22) & mask;
+    dst[dstOffset + 38] = ((w17 >>> 52) | (w18 << 12)) & mask;
+    dst[dstOffset + 39] = (w18 >>> 18) & mask;
+    dst[dstOffset + 40] = ((w18 >>> 48) | (w19 << 16)) & mask;
+    dst[dstOffset + 41] = (w19 >>> 14) & mask;
+    dst[dstOffset + 42] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 43] = (w20 >>> 10) & mask;
+    dst[dstOffset + 44] = ((w20 >>> 40) | (w21 << 24)) & mask;
+    dst[dstOffset + 45] = (w21 >>> 6) & mask;
+    dst[dstOffset + 46] = ((w21 >>> 36) | (w22 << 28)) & mask;
+    dst[dstOffset + 47] = (w22 >>> 2) & mask;
+    dst[dstOffset + 48] = (w22 >>> 32) & mask;
+    dst[dstOffset + 49] = ((w22 >>> 62) | (w23 << 2)) & mask;
+    dst[dstOffset + 50] = (w23 >>> 28) & mask;
+    dst[dstOffset + 51] = ((w23 >>> 58) | (w24 << 6)) & mask;
+    dst[dstOffset + 52] = (w24 >>> 24) & mask;
+    dst[dstOffset + 53] = ((w24 >>> 54) | (w25 << 10)) & mask;
+    dst[dstOffset + 54] = (w25 >>> 20) & mask;
+    dst[dstOffset + 55] = ((w25 >>> 50) | (w26 << 14)) & mask;
+    dst[dstOffset + 56] = (w26 >>> 16) & mask;
+    dst[dstOffset + 57] = ((w26 >>> 46) | (w27 << 18)) & mask;
+    dst[dstOffset + 58] = (w27 >>> 12) & mask;
+    dst[dstOffset + 59] = ((w27 >>> 42) | (w28 << 22)) & mask;
+    dst[dstOffset + 60] = (w28 >>> 8) & mask;
+    dst[dstOffset + 61] = ((w28 >>> 38) | (w29 << 26)) & mask;
+    dst[dstOffset + 62] = (w29 >>> 4) & mask;
+    dst[dstOffset + 63] = w29 >>> 34;
+  }
+
+  private static void unpack31(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 31) & mask) + base;
+    dst[dstOffset + 2] = (((w0 >>> 62) | (w1 << 2)) & mask) + base;
+    dst[dstOffset + 3] = ((w1 >>> 29) & mask) + base;
+    dst[dstOffset + 4] = (((w1 >>> 60) | (w2 << 4)) & mask) + base;
+    dst[dstOffset + 5] = ((w2 >>> 27) & mask) + base;
+    dst[dstOffset + 6] = (((w2 >>> 58) | (w3 << 6)) & mask) + base;
+    dst[dstOffset + 7] = ((w3 >>> 25) & mask) + base;
+    dst[dstOffset + 8] = (((w3 >>> 56) | (w4 << 8)) & mask) + base;
+    dst[dstOffset + 9] = ((w4 >>> 23) & mask) + base;
+    dst[dstOffset + 10] = (((w4 >>> 54) | (w5 << 10)) & mask) + base;
+    dst[dstOffset + 11] = ((w5 >>> 21) & mask) + base;
+    dst[dstOffset + 12] = (((w5 >>> 52) | (w6 << 12)) & mask) + base;
+    dst[dstOffset + 13] = ((w6 >>> 19) & mask) + base;
+    dst[dstOffset + 14] = (((w6 >>> 50) | (w7 << 14)) & mask) + base;
+    dst[dstOffset + 15] = ((w7 >>> 17) & mask) + base;
+    dst[dstOffset + 16] = (((w7 >>> 48) | (w8 << 16)) & mask) + base;
+    dst[dstOffset + 17] = ((w8 >>> 15) & mask) + base;
+    dst[dstOffset + 18] = (((w8 >>> 46) | (w9 << 18)) & mask) + base;
+    dst[dstOffset + 19] = ((w9 >>> 13) & mask) + base;
+    dst[dstOffset + 20] = (((w9 >>> 44) | (w10 << 20)) & mask) + base;
+    dst[dstOffset + 21] = ((w10 >>> 11) & mask) + base;
+    dst[dstOffset + 22] = (((w10 >>> 42) | (w11 << 22)) & mask) + base;
+    dst[dstOffset + 23] = ((w11 >>> 9) & mask) + base;
+    dst[dstOffset + 24] = (((w11 >>> 40) | (w12 << 24)) & mask) + base;
+    dst[dstOffset + 25] = ((w12 >>> 7) & mask) + base;
+    dst[dstOffset + 26] = (((w12 >>> 38) | (w13 << 26)) & mask) + base;
+    dst[dstOffset + 27] = ((w13 >>> 5) & mask) + base;
+    dst[dstOffset + 28] = (((w13 >>> 36) | (w14 << 28)) & mask) + base;
+    dst[dstOffset + 29] = ((w14 >>> 3) & mask) + base;
+    dst[dstOffset + 30] = (((w14 >>> 34) | (w15 << 30)) & mask) + base;
+    dst[dstOffset + 31] = ((w15 >>> 1) & mask) + base;
+    dst[dstOffset + 32] = ((w15 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = (((w15 >>> 63) | (w16 << 1)) & mask) + base;
+    dst[dstOffset + 34] = ((w16 >>> 30) & mask) + base;
+    dst[dstOffset + 35] = (((w16 >>> 61) | (w17 << 3)) & mask) + base;
+    dst[dstOffset + 36] = ((w17 >>> 28) & mask) + base;
+    dst[dstOffset + 37] = (((w17 >>> 59) | (w18 << 5)) & mask) + base;
+    dst[dstOffset + 38] = ((w18 >>> 26) & mask) + base;
+    dst[dstOffset + 39] = (((w18 >>> 57) | (w19 << 7)) & mask) + base;
+    dst[dstOffset + 40] = ((w19 >>> 24) & mask) + base;
+    dst[dstOffset + 41] = (((w19 >>> 55) | (w20 << 9)) & mask) + base;
+    dst[dstOffset + 42] = ((w20 >>> 22) & mask) + base;
+    dst[dstOffset + 43] = (((w20 >>> 53) | (w21 << 11)) & mask) + base;
+    dst[dstOffset + 44] = ((w21 >>> 20) & mask) + base;
+    dst[dstOffset + 45] = (((w21 >>> 51) | (w22 << 13)) & mask) + base;
+    dst[dstOffset + 46] = ((w22 >>> 18) & mask) + base;
+    dst[dstOffset + 47] = (((w22 >>> 49) | (w23 << 15)) & mask) + base;
+    dst[dstOffset + 48] = ((w23 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = (((w23 >>> 47) | (w24 << 17)) & mask) + base;
+    dst[dstOffset + 50] = ((w24 >>> 14) & mask) + base;
+    dst[dstOffset + 51] = (((w24 >>> 45) | (w25 << 19)) & mask) + base;
+    dst[dstOffset + 52] = ((w25 >>> 12) & mask) + base;
+    dst[dstOffset + 53] = (((w25 >>> 43) | (w26 << 21)) & mask) + base;
+    dst[dstOffset + 54] = ((w26 >>> 10) & mask) + base;
+    dst[dstOffset + 55] = (((w26 >>> 41) | (w27 << 23)) & mask) + base;
+    dst[dstOffset + 56] = ((w27 >>> 8) & mask) + base;
+    dst[dstOffset + 57] = (((w27 >>> 39) | (w28 << 25)) & mask) + base;
+    dst[dstOffset + 58] = ((w28 >>> 6) & mask) + base;
+    dst[dstOffset + 59] = (((w28 >>> 37) | (w29 << 27)) & mask) + base;
+    dst[dstOffset + 60] = ((w29 >>> 4) & mask) + base;
+    dst[dstOffset + 61] = (((w29 >>> 35) | (w30 << 29)) & mask) + base;
+    dst[dstOffset + 62] = ((w30 >>> 2) & mask) + base;
+    dst[dstOffset + 63] = (w30 >>> 33) + base;
+  }
+
+  private static void unpack31(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 31) & mask;
+    dst[dstOffset + 2] = ((w0 >>> 62) | (w1 << 2)) & mask;
+    dst[dstOffset + 3] = (w1 >>> 29) & mask;
+    dst[dstOffset + 4] = ((w1 >>> 60) | (w2 << 4)) & mask;
+    dst[dstOffset + 5] = (w2 >>> 27) & mask;
+    dst[dstOffset + 6] = ((w2 >>> 58) | (w3 << 6)) & mask;
+    dst[dstOffset + 7] = (w3 >>> 25) & mask;
+    dst[dstOffset + 8] = ((w3 >>> 56) | (w4 << 8)) & mask;
+    dst[dstOffset + 9] = (w4 >>> 23) & mask;
+    dst[dstOffset + 10] = ((w4 >>> 54) | (w5 << 10)) & mask;
+    dst[dstOffset + 11] = (w5 >>> 21) & mask;
+    dst[dstOffset + 12] = ((w5 >>> 52) | (w6 << 12)) & mask;
+    dst[dstOffset + 13] = (w6 >>> 19) & mask;
+    dst[dstOffset + 14] = ((w6 >>> 50) | (w7 << 14)) & mask;
+    dst[dstOffset + 15] = (w7 >>> 17) & mask;
+    dst[dstOffset + 16] = ((w7 >>> 48) | (w8 << 16)) & mask;
+    dst[dstOffset + 17] = (w8 >>> 15) & mask;
+    dst[dstOffset + 18] = ((w8 >>> 46) | (w9 << 18)) & mask;
+    dst[dstOffset + 19] = (w9 >>> 13) & mask;
+    dst[dstOffset + 20] = ((w9 >>> 44) | (w10 << 20)) & mask;
+    dst[dstOffset + 21] = (w10 >>> 11) & mask;
+    dst[dstOffset + 22] = ((w10 >>> 42) | (w11 << 22)) & mask;
+    dst[dstOffset + 23] = (w11 >>> 9) & mask;
+    dst[dstOffset + 24] = ((w11 >>> 40) | (w12 << 24)) & mask;
+    dst[dstOffset + 25] = (w12 >>> 7) & mask;
+    dst[dstOffset + 26] = ((w12 >>> 38) | (w13 << 26)) & mask;
+    dst[dstOffset + 27] = (w13 >>> 5) & mask;
+    dst[dstOffset + 28] = ((w13 >>> 36) | (w14 << 28)) & mask;
+    dst[dstOffset + 29] = (w14 >>> 3) & mask;
+    dst[dstOffset + 30] = ((w14 >>> 34) | (w15 << 30)) & mask;
+    dst[dstOffset + 31] = (w15 >>> 1) & mask;
+    dst[dstOffset + 32] = (w15 >>> 32) & mask;
+    dst[dstOffset + 33] = ((w15 >>> 63) | (w16 << 1)) & mask;
+    dst[dstOffset + 34] = (w16 >>> 30) & mask;
+    dst[dstOffset + 35] = ((w16 >>> 61) | (w17 << 3)) & mask;
+    dst[dstOffset + 36] = (w17 >>> 28) & mask;
+    dst[dstOffset + 37] = ((w17 >>> 59) | (w18 << 5)) & mask;
+    dst[dstOffset + 38] = (w18 >>> 26) & mask;
+    dst[dstOffset + 39] = ((w18 >>> 57) | (w19 << 7)) & mask;
+    dst[dstOffset + 40] = (w19 >>> 24) & mask;
+    dst[dstOffset + 41] = ((w19 >>> 55) | (w20 << 9)) & mask;
+    dst[dstOffset + 42] = (w20 >>> 22) & mask;
+    dst[dstOffset + 43] = ((w20 >>> 53) | (w21 << 11)) & mask;
+    dst[dstOffset + 44] = (w21 >>> 20) & mask;
+    dst[dstOffset + 45] = ((w21 >>> 51) | (w22 << 13)) & mask;
+    dst[dstOffset + 46] = (w22 >>> 18) & mask;
+    dst[dstOffset + 47] = ((w22 >>> 49) | (w23 << 15)) & mask;
+    dst[dstOffset + 48] = (w23 >>> 16) & mask;
+    dst[dstOffset + 49] = ((w23 >>> 47) | (w24 << 17)) & mask;
+    dst[dstOffset + 50] = (w24 >>> 14) & mask;
+    dst[dstOffset + 51] = ((w24 >>> 45) | (w25 << 19)) & mask;
+    dst[dstOffset + 52] = (w25 >>> 12) & mask;
+    dst[dstOffset + 53] = ((w25 >>> 43) | (w26 << 21)) & mask;
+    dst[dstOffset + 54] = (w26 >>> 10) & mask;
+    dst[dstOffset + 55] = ((w26 >>> 41) | (w27 << 23)) & mask;
+    dst[dstOffset + 56] = (w27 >>> 8) & mask;
+    dst[dstOffset + 57] = ((w27 >>> 39) | (w28 << 25)) & mask;
+    dst[dstOffset + 58] = (w28 >>> 6) & mask;
+    dst[dstOffset + 59] = ((w28 >>> 37) | (w29 << 27)) & mask;
+    dst[dstOffset + 60] = (w29 >>> 4) & mask;
+    dst[dstOffset + 61] = ((w29 >>> 35) | (w30 << 29)) & mask;
+    dst[dstOffset + 62] = (w30 >>> 2) & mask;
+    dst[dstOffset + 63] = w30 >>> 33;
+  }
+
+  private static void unpack32(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = w0 >>> 32;
+    dst[dstOffset + 2] = w1 & mask;
+    dst[dstOffset + 3] = w1 >>> 32;
+    dst[dstOffset + 4] = w2 & mask;
+    dst[dstOffset + 5] = w2 >>> 32;
+    dst[dstOffset + 6] = w3 & mask;
+    dst[dstOffset + 7] = w3 >>> 32;
+    dst[dstOffset + 8] = w4 & mask;
+    dst[dstOffset + 9] = w4 >>> 32;
+    dst[dstOffset + 10] = w5 & mask;
+    dst[dstOffset + 11] = w5 >>> 32;
+    dst[dstOffset + 12] = w6 & mask;
+    dst[dstOffset + 13] = w6 >>> 32;
+    dst[dstOffset + 14] = w7 & mask;
+    dst[dstOffset + 15] = w7 >>> 32;
+    dst[dstOffset + 16] = w8 & mask;
+    dst[dstOffset + 17] = w8 >>> 32;
+    dst[dstOffset + 18] = w9 & mask;
+    dst[dstOffset + 19] = w9 >>> 32;
+    dst[dstOffset + 20] = w10 & mask;
+    dst[dstOffset + 21] = w10 >>> 32;
+    dst[dstOffset + 22] = w11 & mask;
+    dst[dstOffset + 23] = w11 >>> 32;
+    dst[dstOffset + 24] = w12 & mask;
+    dst[dstOffset + 25] = w12 >>> 32;
+    dst[dstOffset + 26] = w13 & mask;
+    dst[dstOffset + 27] = w13 >>> 32;
+    dst[dstOffset + 28] = w14 & mask;
+    dst[dstOffset + 29] = w14 >>> 32;
+    dst[dstOffset + 30] = w15 & mask;
+    dst[dstOffset + 31] = w15 >>> 32;
+    dst[dstOffset + 32] = w16 & mask;
+    dst[dstOffset + 33] = w16 >>> 32;
+    dst[dstOffset + 34] = w17 & mask;
+    dst[dstOffset + 35] = w17 >>> 32;
+    dst[dstOffset + 36] = w18 & mask;
+    dst[dstOffset + 37] = w18 >>> 32;
+    dst[dstOffset + 38] = w19 & mask;
+    dst[dstOffset + 39] = w19 >>> 32;
+    dst[dstOffset + 40] = w20 & mask;
+    dst[dstOffset + 41] = w20 >>> 32;
+    dst[dstOffset + 42] = w21 & mask;
+    dst[dstOffset + 43] = w21 >>> 32;
+    dst[dstOffset + 44] = w22 & mask;
+    dst[dstOffset + 45] = w22 >>> 32;
+    dst[dstOffset + 46] = w23 & mask;
+    dst[dstOffset + 47] = w23 >>> 32;
+    dst[dstOffset + 48] = w24 & mask;
+    dst[dstOffset + 49] = w24 >>> 32;
+    dst[dstOffset + 50] = w25 & mask;
+    dst[dstOffset + 51] = w25 >>> 32;
+    dst[dstOffset + 52] = w26 & mask;
+    dst[dstOffset + 53] = w26 >>> 32;
+    dst[dstOffset + 54] = w27 & mask;
+    dst[dstOffset + 55] = w27 >>> 32;
+    dst[dstOffset + 56] = w28 & mask;
+    dst[dstOffset + 57] = w28 >>> 32;
+    dst[dstOffset + 58] = w29 & mask;
+    dst[dstOffset + 59] = w29 >>> 32;
+    dst[dstOffset + 60] = w30 & mask;
+    dst[dstOffset + 61] = w30 >>> 32;
+    dst[dstOffset + 62] = w31 & mask;
+    dst[dstOffset + 63] = w31 >>> 32;
+  }
+}
@@ -0,0 +1,943 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 33 to 36.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack33To36
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack33To36()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 33 -> unpack33(src, index, base, dst, dstOffset);
+      case 34 -> unpack34(src, index, base, dst, dstOffset);
+      case 35 -> unpack35(src, index, base, dst, dstOffset);
+      case 36 -> unpack36(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 33 -> unpack33(src, srcOffset, dst, dstOffset);
+      case 34 -> unpack34(src, srcOffset, dst, dstOffset);
+      case 35 -> unpack35(src, srcOffset, dst, dstOffset);
+      case 36 -> unpack36(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack33(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 33) | (w1 << 31)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 2) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 35) | (w2 << 29)) & mask) + base;
+    dst[dstOffset + 4] = ((w2 >>> 4) & mask) + base;
+    dst[dstOffset + 5] = (((w2 >>> 37) | (w3 << 27)) & mask) + base;
+    dst[dstOffset + 6] = ((w3 >>> 6) & mask) + base;
+    dst[dstOffset + 7] = (((w3 >>> 39) | (w4 << 25)) & mask) + base;
+    dst[dstOffset + 8] = ((w4 >>> 8) & mask) + base;
+    dst[dstOffset + 9] = (((w4 >>> 41) | (w5 << 23)) & mask) + base;
+    dst[dstOffset + 10] = ((w5 >>> 10) & mask) + base;
+    dst[dstOffset + 11] = (((w5 >>> 43) | (w6 << 21)) & mask) + base;
+    dst[dstOffset + 12] = ((w6 >>> 12) & mask) + base;
+    dst[dstOffset + 13] = (((w6 >>> 45) | (w7 << 19)) & mask) + base;
+    dst[dstOffset + 14] = ((w7 >>> 14) & mask) + base;
+    dst[dstOffset + 15] = (((w7 >>> 47) | (w8 << 17)) & mask) + base;
+    dst[dstOffset + 16] = ((w8 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = (((w8 >>> 49) | (w9 << 15)) & mask) + base;
+    dst[dstOffset + 18] = ((w9 >>> 18) & mask) + base;
+    dst[dstOffset + 19] = (((w9 >>> 51) | (w10 << 13)) & mask) + base;
+    dst[dstOffset + 20] = ((w10 >>> 20) & mask) + base;
+    dst[dstOffset + 21] = (((w10 >>> 53) | (w11 << 11)) & mask) + base;
+    dst[dstOffset + 22] = ((w11 >>> 22) & mask) + base;
+    dst[dstOffset + 23] = (((w11 >>> 55) | (w12 << 9)) & mask) + base;
+    dst[dstOffset + 24] = ((w12 >>> 24) & mask) + base;
+    dst[dstOffset + 25] = (((w12 >>> 57) | (w13 << 7)) & mask) + base;
+    dst[dstOffset + 26] = ((w13 >>> 26) & mask) + base;
+    dst[dstOffset + 27] = (((w13 >>> 59) | (w14 << 5)) & mask) + base;
+    dst[dstOffset + 28] = ((w14 >>> 28) & mask) + base;
+    dst[dstOffset + 29] = (((w14 >>> 61) | (w15 << 3)) & mask) + base;
+    dst[dstOffset + 30] = ((w15 >>> 30) & mask) + base;
+    dst[dstOffset + 31] = (((w15 >>> 63) | (w16 << 1)) & mask) + base;
+    dst[dstOffset + 32] = (((w16 >>> 32) | (w17 << 32)) & mask) + base;
+    dst[dstOffset + 33] = ((w17 >>> 1) & mask) + base;
+    dst[dstOffset + 34] = (((w17 >>> 34) | (w18 << 30)) & mask) + base;
+    dst[dstOffset + 35] = ((w18 >>> 3) & mask) + base;
+    dst[dstOffset + 36] = (((w18 >>> 36) | (w19 << 28)) & mask) + base;
+    dst[dstOffset + 37] = ((w19 >>> 5) & mask) + base;
+    dst[dstOffset + 38] = (((w19 >>> 38) | (w20 << 26)) & mask) + base;
+    dst[dstOffset + 39] = ((w20 >>> 7) & mask) + base;
+    dst[dstOffset + 40] = (((w20 >>> 40) | (w21 << 24)) & mask) + base;
+    dst[dstOffset + 41] = ((w21 >>> 9) & mask) + base;
+    dst[dstOffset + 42] = (((w21 >>> 42) | (w22 << 22)) & mask) + base;
+    dst[dstOffset + 43] = ((w22 >>> 11) & mask) + base;
+    dst[dstOffset + 44] = (((w22 >>> 44) | (w23 << 20)) & mask) + base;
+    dst[dstOffset + 45] = ((w23 >>> 13) & mask) + base;
+    dst[dstOffset + 46] = (((w23 >>> 46) | (w24 << 18)) & mask) + base;
+    dst[dstOffset + 47] = ((w24 >>> 15) & mask) + base;
+    dst[dstOffset + 48] = (((w24 >>> 48) | (w25 << 16)) & mask) + base;
+    dst[dstOffset + 49] = ((w25 >>> 17) & mask) + base;
+    dst[dstOffset + 50] = (((w25 >>> 50) | (w26 << 14)) & mask) + base;
+    dst[dstOffset + 51] = ((w26 >>> 19) & mask) + base;
+    dst[dstOffset + 52] = (((w26 >>> 52) | (w27 << 12)) & mask) + base;
+    dst[dstOffset + 53] = ((w27 >>> 21) & mask) + base;
+    dst[dstOffset + 54] = (((w27 >>> 54) | (w28 << 10)) & mask) + base;
+    dst[dstOffset + 55] = ((w28 >>> 23) & mask) + base;
+    dst[dstOffset + 56] = (((w28 >>> 56) | (w29 << 8)) & mask) + base;
+    dst[dstOffset + 57] = ((w29 >>> 25) & mask) + base;
+    dst[dstOffset + 58] = (((w29 >>> 58) | (w30 << 6)) & mask) + base;
+    dst[dstOffset + 59] = ((w30 >>> 27) & mask) + base;
+    dst[dstOffset + 60] = (((w30 >>> 60) | (w31 << 4)) & mask) + base;
+    dst[dstOffset + 61] = ((w31 >>> 29) & mask) + base;
+    dst[dstOffset + 62] = (((w31 >>> 62) | (w32 << 2)) & mask) + base;
+    dst[dstOffset + 63] = (w32 >>> 31) + base;
+  }
+
+  private static void unpack33(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 33) | (w1 << 31)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 2) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 35) | (w2 << 29)) & mask;
+    dst[dstOffset + 4] = (w2 >>> 4) & mask;
+    dst[dstOffset + 5] = ((w2 >>> 37) | (w3 << 27)) & mask;
+    dst[dstOffset + 6] = (w3 >>> 6) & mask;
+    dst[dstOffset + 7] = ((w3 >>> 39) | (w4 << 25)) & mask;
+    dst[dstOffset + 8] = (w4 >>> 8) & mask;
+    dst[dstOffset + 9] = ((w4 >>> 41) | (w5 << 23)) & mask;
+    dst[dstOffset + 10] = (w5 >>> 10) & mask;
+    dst[dstOffset + 11] = ((w5 >>> 43) | (w6 << 21)) & mask;
+    dst[dstOffset + 12] = (w6 >>> 12) & mask;
+    dst[dstOffset + 13] = ((w6 >>> 45) | (w7 << 19)) & mask;
+    dst[dstOffset + 14] = (w7 >>> 14) & mask;
+    dst[dstOffset + 15] = ((w7 >>> 47) | (w8 << 17)) & mask;
+    dst[dstOffset + 16] = (w8 >>> 16) & mask;
+    dst[dstOffset + 17] = ((w8 >>> 49) | (w9 << 15)) & mask;
+    dst[dstOffset + 18] = (w9 >>> 18) & mask;
+    dst[dstOffset + 19] = ((w9 >>> 51) | (w10 << 13)) & mask;
+    dst[dstOffset + 20] = (w10 >>> 20) & mask;
+    dst[dstOffset + 21] = ((w10 >>> 53) | (w11 << 11)) & mask;
+    dst[dstOffset + 22] = (w11 >>> 22) & mask;
+    dst[dstOffset + 23] = ((w11 >>> 55) | (w12 << 9)) & mask;
+    dst[dstOffset + 24] = (w12 >>> 24) & mask;
+    dst[dstOffset + 25] = ((w12 >>> 57) | (w13 << 7)) & mask;
+    dst[dstOffset + 26] = (w13 >>> 26) & mask;
+    dst[dstOffset + 27] = ((w13 >>> 59) | (w14 << 5)) & mask;
+    dst[dstOffset + 28] = (w14 >>> 28) & mask;
+    dst[dstOffset + 29] = ((w14 >>> 61) | (w15 << 3)) & mask;
+    dst[dstOffset + 30] = (w15 >>> 30) & mask;
+    dst[dstOffset + 31] = ((w15 >>> 63) | (w16 << 1)) & mask;
+    dst[dstOffset + 32] = ((w16 >>> 32) | (w17 << 32)) & mask;
+    dst[dstOffset + 33] = (w17 >>> 1) & mask;
+    dst[dstOffset + 34] = ((w17 >>> 34) | (w18 << 30)) & mask;
+    dst[dstOffset + 35] = (w18 >>> 3) & mask;
+    dst[dstOffset + 36] = ((w18 >>> 36) | (w19 << 28)) & mask;
+    dst[dstOffset + 37] = (w19 >>> 5) & mask;
+    dst[dstOffset + 38] = ((w19 >>> 38) | (w20 << 26)) & mask;
+    dst[dstOffset + 39] = (w20 >>> 7) & mask;
+    dst[dstOffset + 40] = ((w20 >>> 40) | (w21 << 24)) & mask;
+    dst[dstOffset + 41] = (w21 >>> 9) & mask;
+    dst[dstOffset + 42] = ((w21 >>> 42) | (w22 << 22)) & mask;
+    dst[dstOffset + 43] = (w22 >>> 11) & mask;
+    dst[dstOffset + 44] = ((w22 >>> 44) | (w23 << 20)) & mask;
+    dst[dstOffset + 45] = (w23 >>> 13) & mask;
+    dst[dstOffset + 46] = ((w23 >>> 46) | (w24 << 18)) & mask;
+    dst[dstOffset + 47] = (w24 >>> 15) & mask;
+    dst[dstOffset + 48] = ((w24 >>> 48) | (w25 << 16)) & mask;
+    dst[dstOffset + 49] = (w25 >>> 17) & mask;
+    dst[dstOffset + 50] = ((w25 >>> 50) | (w26 << 14)) & mask;
+    dst[dstOffset + 51] = (w26 >>> 19) & mask;
+    dst[dstOffset + 52] = ((w26 >>> 52) | (w27 << 12)) & mask;
+    dst[dstOffset + 53] = (w27 >>> 21) & mask;
+    dst[dstOffset + 54] = ((w27 >>> 54) | (w28 << 10)) & mask;
+    dst[dstOffset + 55] = (w28 >>> 23) & mask;
+    dst[dstOffset + 56] = ((w28 >>> 56) | (w29 << 8)) & mask;
+    dst[dstOffset + 57] = (w29 >>> 25) & mask;
+    dst[dstOffset + 58] = ((w29 >>> 58) | (w30 << 6)) & mask;
+    dst[dstOffset + 59] = (w30 >>> 27) & mask;
+    dst[dstOffset + 60] = ((w30 >>> 60) | (w31 << 4)) & mask;
+    dst[dstOffset + 61] = (w31 >>> 29) & mask;
+    dst[dstOffset + 62] = ((w31 >>> 62) | (w32 << 2)) & mask;
+    dst[dstOffset + 63] = w32 >>> 31;
+  }
+
+  private static void unpack34(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 34) | (w1 << 30)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 4) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 38) | (w2 << 26)) & mask) + base;
+    dst[dstOffset + 4] = ((w2 >>> 8) & mask) + base;
+    dst[dstOffset + 5] = (((w2 >>> 42) | (w3 << 22)) & mask) + base;
+    dst[dstOffset + 6] = ((w3 >>> 12) & mask) + base;
+    dst[dstOffset + 7] = (((w3 >>> 46) | (w4 << 18)) & mask) + base;
+    dst[dstOffset + 8] = ((w4 >>> 16) & mask) + base;
+    dst[dstOffset + 9] = (((w4 >>> 50) | (w5 << 14)) & mask) + base;
+    dst[dstOffset + 10] = ((w5 >>> 20) & mask) + base;
+    dst[dstOffset + 11] = (((w5 >>> 54) | (w6 << 10)) & mask) + base;
+    dst[dstOffset + 12] = ((w6 >>> 24) & mask) + base;
+    dst[dstOffset + 13] = (((w6 >>> 58) | (w7 << 6)) & mask) + base;
+    dst[dstOffset + 14] = ((w7 >>> 28) & mask) + base;
+    dst[dstOffset + 15] = (((w7 >>> 62) | (w8 << 2)) & mask) + base;
+    dst[dstOffset + 16] = (((w8 >>> 32) | (w9 << 32)) & mask) + base;
+    dst[dstOffset + 17] = ((w9 >>> 2) & mask) + base;
+    dst[dstOffset + 18] = (((w9 >>> 36) | (w10 << 28)) & mask) + base;
+    dst[dstOffset + 19] = ((w10 >>> 6) & mask) + base;
+    dst[dstOffset + 20] = (((w10 >>> 40) | (w11 << 24)) & mask) + base;
+    dst[dstOffset + 21] = ((w11 >>> 10) & mask) + base;
+    dst[dstOffset + 22] = (((w11 >>> 44) | (w12 << 20)) & mask) + base;
+    dst[dstOffset + 23] = ((w12 >>> 14) & mask) + base;
+    dst[dstOffset + 24] = (((w12 >>> 48) | (w13 << 16)) & mask) + base;
+    dst[dstOffset + 25] = ((w13 >>> 18) & mask) + base;
+    dst[dstOffset + 26] = (((w13 >>> 52) | (w14 << 12)) & mask) + base;
+    dst[dstOffset + 27] = ((w14 >>> 22) & mask) + base;
+    dst[dstOffset + 28] = (((w14 >>> 56) | (w15 << 8)) & mask) + base;
+    dst[dstOffset + 29] = ((w15 >>> 26) & mask) + base;
+    dst[dstOffset + 30] = (((w15 >>> 60) | (w16 << 4)) & mask) + base;
+    dst[dstOffset + 31] = (w16 >>> 30) + base;
+    dst[dstOffset + 32] = (w17 & mask) + base;
+    dst[dstOffset + 33] = (((w17 >>> 34) | (w18 << 30)) & mask) + base;
+    dst[dstOffset + 34] = ((w18 >>> 4) & mask) + base;
+    dst[dstOffset + 35] = (((w18 >>> 38) | (w19 << 26)) & mask) + base;
+    dst[dstOffset + 36] = ((w19 >>> 8) & mask) + base;
+    dst[dstOffset + 37] = (((w19 >>> 42) | (w20 << 22)) & mask) + base;
+    dst[dstOffset + 38] = ((w20 >>> 12) & mask) + base;
+    dst[dstOffset + 39] = (((w20 >>> 46) | (w21 << 18)) & mask) + base;
+    dst[dstOffset + 40] = ((w21 >>> 16) & mask) + base;
+    dst[dstOffset + 41] = (((w21 >>> 50) | (w22 << 14)) & mask) + base;
+    dst[dstOffset + 42] = ((w22 >>> 20) & mask) + base;
+    dst[dstOffset + 43] = (((w22 >>> 54) | (w23 << 10)) & mask) + base;
+    dst[dstOffset + 44] = ((w23 >>> 24) & mask) + base;
+    dst[dstOffset + 45] = (((w23 >>> 58) | (w24 << 6)) & mask) + base;
+    dst[dstOffset + 46] = ((w24 >>> 28) & mask) + base;
+    dst[dstOffset + 47] = (((w24 >>> 62) | (w25 << 2)) & mask) + base;
+    dst[dstOffset + 48] = (((w25 >>> 32) | (w26 << 32)) & mask) + base;
+    dst[dstOffset + 49] = ((w26 >>> 2) & mask) + base;
+    dst[dstOffset + 50] = (((w26 >>> 36) | (w27 << 28)) & mask) + base;
+    dst[dstOffset + 51] = ((w27 >>> 6) & mask) + base;
+    dst[dstOffset + 52] = (((w27 >>> 40) | (w28 << 24)) & mask) + base;
+    dst[dstOffset + 53] = ((w28 >>> 10) & mask) + base;
+    dst[dstOffset + 54] = (((w28 >>> 44) | (w29 << 20)) & mask) + base;
+    dst[dstOffset + 55] = ((w29 >>> 14) & mask) + base;
+    dst[dstOffset + 56] = (((w29 >>> 48) | (w30 << 16)) & mask) + base;
+    dst[dstOffset + 57] = ((w30 >>> 18) & mask) + base;
+    dst[dstOffset + 58] = (((w30 >>> 52) | (w31 << 12)) & mask) + base;
+    dst[dstOffset + 59] = ((w31 >>> 22) & mask) + base;
+    dst[dstOffset + 60] = (((w31 >>> 56) | (w32 << 8)) & mask) + base;
+    dst[dstOffset + 61] = ((w32 >>> 26) & mask) + base;
+    dst[dstOffset + 62] = (((w32 >>> 60) | (w33 << 4)) & mask) + base;
+    dst[dstOffset + 63] = (w33 >>> 30) + base;
+  }
+
+  private static void unpack34(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 34) | (w1 << 30)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 4) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 38) | (w2 << 26)) & mask;
+    dst[dstOffset + 4] = (w2 >>> 8) & mask;
+    dst[dstOffset + 5] = ((w2 >>> 42) | (w3 << 22)) & mask;
+    dst[dstOffset + 6] = (w3 >>> 12) & mask;
+    dst[dstOffset + 7] = ((w3 >>> 46) | (w4 << 18)) & mask;
+    dst[dstOffset + 8] = (w4 >>> 16) & mask;
+    dst[dstOffset + 9] = ((w4 >>> 50) | (w5 << 14)) & mask;
+    dst[dstOffset + 10] = (w5 >>> 20) & mask;
+    dst[dstOffset + 11] = ((w5 >>> 54) | (w6 << 10)) & mask;
+    dst[dstOffset + 12] = (w6 >>> 24) & mask;
+    dst[dstOffset + 13] = ((w6 >>> 58) | (w7 << 6)) & mask;
+    dst[dstOffset + 14] = (w7 >>> 28) & mask;
+    dst[dstOffset + 15] = ((w7 >>> 62) | (w8 << 2)) & mask;
+    dst[dstOffset + 16] = ((w8 >>> 32) | (w9 << 32)) & mask;
+    dst[dstOffset + 17] = (w9 >>> 2) & mask;
+    dst[dstOffset + 18] = ((w9 >>> 36) | (w10 << 28)) & mask;
+    dst[dstOffset + 19] = (w10 >>> 6) & mask;
+    dst[dstOffset + 20] = ((w10 >>> 40) | (w11 << 24)) & mask;
+    dst[dstOffset + 21] = (w11 >>> 10) & mask;
+    dst[dstOffset + 22] = ((w11 >>> 44) | (w12 << 20)) & mask;
+    dst[dstOffset + 23] = (w12 >>> 14) & mask;
+    dst[dstOffset + 24] = ((w12 >>> 48) | (w13 << 16)) & mask;
+    dst[dstOffset + 25] = (w13 >>> 18) & mask;
+    dst[dstOffset + 26] = ((w13 >>> 52) | (w14 << 12)) & mask;
+    dst[dstOffset + 27] = (w14 >>> 22) & mask;
+    dst[dstOffset + 28] = ((w14 >>> 56) | (w15 << 8)) & mask;
+    dst[dstOffset + 29] = (w15 >>> 26) & mask;
+    dst[dstOffset + 30] = ((w15 >>> 60) | (w16 << 4)) & mask;
+    dst[dstOffset + 31] = w16 >>> 30;
+    dst[dstOffset + 32] = w17 & mask;
+    dst[dstOffset + 33] = ((w17 >>> 34) | (w18 << 30)) & mask;
+    dst[dstOffset + 34] = (w18 >>> 4) & mask;
+    dst[dstOffset + 35] = ((w18 >>> 38) | (w19 << 26)) & mask;
+    dst[dstOffset + 36] = (w19 >>> 8) & mask;
+    dst[dstOffset + 37] = ((w19 >>> 42) | (w20 << 22)) & mask;
+    dst[dstOffset + 38] = (w20 >>> 12) & mask;
+    dst[dstOffset + 39] = ((w20 >>> 46) | (w21 << 18)) & mask;
+    dst[dstOffset + 40] = (w21 >>> 16) & mask;
+    dst[dstOffset + 41] = ((w21 >>> 50) | (w22 << 14)) & mask;
+    dst[dstOffset + 42] = (w22 >>> 20) & mask;
+    dst[dstOffset + 43] = ((w22 >>> 54) | (w23 << 10)) & mask;
+    dst[dstOffset + 44] = (w23 >>> 24) & mask;
+    dst[dstOffset + 45] = ((w23 >>> 58) | (w24 << 6)) & mask;
+    dst[dstOffset + 46] = (w24 >>> 28) & mask;
+    dst[dstOffset + 47] = ((w24 >>> 62) | (w25 << 2)) & mask;
+    dst[dstOffset + 48] = ((w25 >>> 32) | (w26 << 32)) & mask;
+    dst[dstOffset + 49] = (w26 >>> 2) & mask;
+    dst[dstOffset + 50] = ((w26 >>> 36) | (w27 << 28)) & mask;
+    dst[dstOffset + 51] = (w27 >>> 6) & mask;
+    dst[dstOffset + 52] = ((w27 >>> 40) | (w28 << 24)) & mask;
+    dst[dstOffset + 53] = (w28 >>> 10) & mask;
+    dst[dstOffset + 54] = ((w28 >>> 44) | (w29 << 20)) & mask;
+    dst[dstOffset + 55] = (w29 >>> 14) & mask;
+    dst[dstOffset + 56] = ((w29 >>> 48) | (w30 << 16)) & mask;
+    dst[dstOffset + 57] = (w30 >>> 18) & mask;
+    dst[dstOffset + 58] = ((w30 >>> 52) | (w31 << 12)) & mask;
+    dst[dstOffset + 59] = (w31 >>> 22) & mask;
+    dst[dstOffset + 60] = ((w31 >>> 56) | (w32 << 8)) & mask;
+    dst[dstOffset + 61] = (w32 >>> 26) & mask;
+    dst[dstOffset + 62] = ((w32 >>> 60) | (w33 << 4)) & mask;
+    dst[dstOffset + 63] = w33 >>> 30;
+  }
+
+  private static void unpack35(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 35) | (w1 << 29)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 6) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 41) | (w2 << 23)) & mask) + base;
+    dst[dstOffset + 4] = ((w2 >>> 12) & mask) + base;
+    dst[dstOffset + 5] = (((w2 >>> 47) | (w3 << 17)) & mask) + base;
+    dst[dstOffset + 6] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 7] = (((w3 >>> 53) | (w4 << 11)) & mask) + base;
+    dst[dstOffset + 8] = ((w4 >>> 24) & mask) + base;
+    dst[dstOffset + 9] = (((w4 >>> 59) | (w5 << 5)) & mask) + base;
+    dst[dstOffset + 10] = (((w5 >>> 30) | (w6 << 34)) & mask) + base;
+    dst[dstOffset + 11] = ((w6 >>> 1) & mask) + base;
+    dst[dstOffset + 12] = (((w6 >>> 36) | (w7 << 28)) & mask) + base;
+    dst[dstOffset + 13] = ((w7 >>> 7) & mask) + base;
+    dst[dstOffset + 14] = (((w7 >>> 42) | (w8 << 22)) & mask) + base;
+    dst[dstOffset + 15] = ((w8 >>> 13) & mask) + base;
+    dst[dstOffset + 16] = (((w8 >>> 48) | (w9 << 16)) & mask) + base;
+    dst[dstOffset + 17] = ((w9 >>> 19) & mask) + base;
+    dst[dstOffset + 18] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 19] = ((w10 >>> 25) & mask) + base;
+    dst[dstOffset + 20] = (((w10 >>> 60) | (w11 << 4)) & mask) + base;
+    dst[dstOffset + 21] = (((w11 >>> 31) | (w12 << 33)) & mask) + base;
+    dst[dstOffset + 22] = ((w12 >>> 2) & mask) + base;
+    dst[dstOffset + 23] = (((w12 >>> 37) | (w13 << 27)) & mask) + base;
+    dst[dstOffset + 24] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 25] = (((w13 >>> 43) | (w14 << 21)) & mask) + base;
+    dst[dstOffset + 26] = ((w14 >>> 14) & mask) + base;
+    dst[dstOffset + 27] = (((w14 >>> 49) | (w15 << 15)) & mask) + base;
+    dst[dstOffset + 28] = ((w15 >>> 20) & mask) + base;
+    dst[dstOffset + 29] = (((w15 >>> 55) | (w16 << 9)) & mask) + base;
+    dst[dstOffset + 30] = ((w16 >>> 26) & mask) + base;
+    dst[dstOffset + 31] = (((w16 >>> 61) | (w17 << 3)) & mask) + base;
+    dst[dstOffset + 32] = (((w17 >>> 32) | (w18 << 32)) & mask) + base;
+    dst[dstOffset + 33] = ((w18 >>> 3) & mask) + base;
+    dst[dstOffset + 34] = (((w18 >>> 38) | (w19 << 26)) & mask) + base;
+    dst[dstOffset + 35] = ((w19 >>> 9) & mask) + base;
+    dst[dstOffset + 36] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 37] = ((w20 >>> 15) & mask) + base;
+    dst[dstOffset + 38] = (((w20 >>> 50) | (w21 << 14)) & mask) + base;
+    dst[dstOffset + 39] = ((w21 >>> 21) & mask) + base;
+    dst[dstOffset + 40] = (((w21 >>> 56) | (w22 << 8)) & mask) + base;
+    dst[dstOffset + 41] = ((w22 >>> 27) & mask) + base;
+    dst[dstOffset + 42] = (((w22 >>> 62) | (w23 << 2)) & mask) + base;
+    dst[dstOffset + 43] = (((w23 >>> 33) | (w24 << 31)) & mask) + base;
+    dst[dstOffset + 44] = ((w24 >>> 4) & mask) + base;
+    dst[dstOffset + 45] = (((w24 >>> 39) | (w25 << 25)) & mask) + base;
+    dst[dstOffset + 46] = ((w25 >>> 10) & mask) + base;
+    dst[dstOffset + 47] = (((w25 >>> 45) | (w26 << 19)) & mask) + base;
+    dst[dstOffset + 48] = ((w26 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = (((w26 >>> 51) | (w27 << 13)) & mask) + base;
+    dst[dstOffset + 50] = ((w27 >>> 22) & mask) + base;
+    dst[dstOffset + 51] = (((w27 >>> 57) | (w28 << 7)) & mask) + base;
+    dst[dstOffset + 52] = ((w28 >>> 28) & mask) + base;
+    dst[dstOffset + 53] = (((w28 >>> 63) | (w29 << 1)) & mask) + base;
+    dst[dstOffset + 54] = (((w29 >>> 34) | (w30 << 30)) & mask) + base;
+    dst[dstOffset + 55] = ((w30 >>> 5) & mask) + base;
+    dst[dstOffset + 56] = (((w30 >>> 40) | (w31 << 24)) & mask) + base;
+    dst[dstOffset + 57] = ((w31 >>> 11) & mask) + base;
+    dst[dstOffset + 58] = (((w31 >>> 46) | (w32 << 18)) & mask) + base;
+    dst[dstOffset + 59] = ((w32 >>> 17) & mask) + base;
+    dst[dstOffset + 60] = (((w32 >>> 52) | (w33 << 12)) & mask) + base;
+    dst[dstOffset + 61] = ((w33 >>> 23) & mask) + base;
+    dst[dstOffset + 62] = (((w33 >>> 58) | (w34 << 6)) & mask) + base;
+    dst[dstOffset + 63] = (w34 >>> 29) + base;
+  }
+
+  private static void unpack35(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 35) | (w1 << 29)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 6) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 41) | (w2 << 23)) & mask;
+    dst[dstOffset + 4] = (w2 >>> 12) & mask;
+    dst[dstOffset + 5] = ((w2 >>> 47) | (w3 << 17)) & mask;
+    dst[dstOffset + 6] = (w3 >>> 18) & mask;
+    dst[dstOffset + 7] = ((w3 >>> 53) | (w4 << 11)) & mask;
+    dst[dstOffset + 8] = (w4 >>> 24) & mask;
+    dst[dstOffset + 9] = ((w4 >>> 59) | (w5 << 5)) & mask;
+    dst[dstOffset + 10] = ((w5 >>> 30) | (w6 << 34)) & mask;
+    dst[dstOffset + 11] = (w6 >>> 1) & mask;
+    dst[dstOffset + 12] = ((w6 >>> 36) | (w7 << 28)) & mask;
+    dst[dstOffset + 13] = (w7 >>> 7) & mask;
+    dst[dstOffset + 14] = ((w7 >>> 42) | (w8 << 22)) & mask;
+    dst[dstOffset + 15] = (w8 >>> 13) & mask;
+    dst[dstOffset + 16] = ((w8 >>> 48) | (w9 << 16)) & mask;
+    dst[dstOffset + 17] = (w9 >>> 19) & mask;
+    dst[dstOffset + 18] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 19] = (w10 >>> 25) & mask;
+    dst[dstOffset + 20] = ((w10 >>> 60) | (w11 << 4)) & mask;
+    dst[dstOffset + 21] = ((w11 >>> 31) | (w12 << 33)) & mask;
+    dst[dstOffset + 22] = (w12 >>> 2) & mask;
+    dst[dstOffset + 23] = ((w12 >>> 37) | (w13 << 27)) & mask;
+    dst[dstOffset + 24] = (w13 >>> 8) & mask;
+    dst[dstOffset + 25] = ((w13 >>> 43) | (w14 << 21)) & mask;
+    dst[dstOffset + 26] = (w14 >>> 14) & mask;
+    dst[dstOffset + 27] = ((w14 >>> 49) | (w15 << 15)) & mask;
+    dst[dstOffset + 28] = (w15 >>> 20) & mask;
+    dst[dstOffset + 29] = ((w15 >>> 55) | (w16 << 9)) & mask;
+    dst[dstOffset + 30] = (w16 >>> 26) & mask;
+    dst[dstOffset + 31] = ((w16 >>> 61) | (w17 << 3)) & mask;
+    dst[dstOffset + 32] = ((w17 >>> 32) | (w18 << 32)) & mask;
+    dst[dstOffset + 33] = (w18 >>> 3) & mask;
+    dst[dstOffset + 34] = ((w18 >>> 38) | (w19 << 26)) & mask;
+    dst[dstOffset + 35] = (w19 >>> 9) & mask;
+    dst[dstOffset + 36] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 37] = (w20 >>> 15) & mask;
+    dst[dstOffset + 38] = ((w20 >>> 50) | (w21 << 14)) & mask;
+    dst[dstOffset + 39] = (w21 >>> 21) & mask;
+    dst[dstOffset + 40] = ((w21 >>> 56) | (w22 << 8)) & mask;
+    dst[dstOffset + 41] = (w22 >>> 27) & mask;
+    dst[dstOffset + 42] = ((w22 >>> 62) | (w23 << 2)) & mask;
+    dst[dstOffset + 43] = ((w23 >>> 33) | (w24 << 31)) & mask;
+    dst[dstOffset + 44] = (w24 >>> 4) & mask;
+    dst[dstOffset + 45] = ((w24 >>> 39) | (w25 << 25)) & mask;
+    dst[dstOffset + 46] = (w25 >>> 10) & mask;
+    dst[dstOffset + 47] = ((w25 >>> 45) | (w26 << 19)) & mask;
+    dst[dstOffset + 48] = (w26 >>> 16) & mask;
+    dst[dstOffset + 49] = ((w26 >>> 51) | (w27 << 13)) & mask;
+    dst[dstOffset + 50] = (w27 >>> 22) & mask;
+    dst[dstOffset + 51] = ((w27 >>> 57) | (w28 << 7)) & mask;
+    dst[dstOffset + 52] = (w28 >>> 28) & mask;
+    dst[dstOffset + 53] = ((w28 >>> 63) | (w29 << 1)) & mask;
+    dst[dstOffset + 54] = ((w29 >>> 34) | (w30 << 30)) & mask;
+    dst[dstOffset + 55] = (w30 >>> 5) & mask;
+    dst[dstOffset + 56] = ((w30 >>> 40) | (w31 << 24)) & mask;
+    dst[dstOffset + 57] = (w31 >>> 11) & mask;
+    dst[dstOffset + 58] = ((w31 >>> 46) | (w32 << 18)) & mask;
+    dst[dstOffset + 59] = (w32 >>> 17) & mask;
+    dst[dstOffset + 60] = ((w32 >>> 52) | (w33 << 12)) & mask;
+    dst[dstOffset + 61] = (w33 >>> 23) & mask;
+    dst[dstOffset + 62] = ((w33 >>> 58) | (w34 << 6)) & mask;
+    dst[dstOffset + 63] = w34 >>> 29;
+  }
+
+  private static void unpack36(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 36) | (w1 << 28)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 44) | (w2 << 20)) & mask) + base;
+    dst[dstOffset + 4] = ((w2 >>> 16) & mask) + base;
+    dst[dstOffset + 5] = (((w2 >>> 52) | (w3 << 12)) & mask) + base;
+    dst[dstOffset + 6] = ((w3 >>> 24) & mask) + base;
+    dst[dstOffset + 7] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 8] = (((w4 >>> 32) | (w5 << 32)) & mask) + base;
+    dst[dstOffset + 9] = ((w5 >>> 4) & mask) + base;
+    dst[dstOffset + 10] = (((w5 >>> 40) | (w6 << 24)) & mask) + base;
+    dst[dstOffset + 11] = ((w6 >>> 12) & mask) + base;
+    dst[dstOffset + 12] = (((w6 >>> 48) | (w7 << 16)) & mask) + base;
+    dst[dstOffset + 13] = ((w7 >>> 20) & mask) + base;
+    dst[dstOffset + 14] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 15] = (w8 >>> 28) + base;
+    dst[dstOffset + 16] = (w9 & mask) + base;
+    dst[dstOffset + 17] = (((w9 >>> 36) | (w10 << 28)) & mask) + base;
+    dst[dstOffset + 18] = ((w10 >>> 8) & mask) + base;
+    dst[dstOffset + 19] = (((w10 >>> 44) | (w11 << 20)) & mask) + base;
+    dst[dstOffset + 20] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 21] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 22] = ((w12 >>> 24) & mask) + base;
+    dst[dstOffset + 23] = (((w12 >>> 60) | (w13 << 4)) & mask) + base;
+    dst[dstOffset + 24] = (((w13 >>> 32) | (w14 << 32)) & mask) + base;
+    dst[dstOffset + 25] = ((w14 >>> 4) & mask) + base;
+    dst[dstOffset + 26] = (((w14 >>> 40) | (w15 << 24)) & mask) + base;
+    dst[dstOffset + 27] = ((w15 >>> 12) & mask) + base;
+    dst[dstOffset + 28] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 29] = ((w16 >>> 20) & mask) + base;
+    dst[dstOffset + 30] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 31] = (w17 >>> 28) + base;
+    dst[dstOffset + 32] = (w18 & mask) + base;
+    dst[dstOffset + 33] = (((w18 >>> 36) | (w19 << 28)) & mask) + base;
+    dst[dstOffset + 34] = ((w19 >>> 8) & mask) + base;
+    dst[dstOffset + 35] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 36] = ((w20 >>> 16) & mask) + base;
+    dst[dstOffset + 37] = (((w20 >>> 52) | (w21 << 12)) & mask) + base;
+    dst[dstOffset + 38] = ((w21 >>> 24) & mask) + base;
+    dst[dstOffset + 39] = (((w21 >>> 60) | (w22 << 4)) & mask) + base;
+    dst[dstOffset + 40] = (((w22 >>> 32) | (w23 << 32)) & mask) + base;
+    dst[dstOffset + 41] = ((w23 >>> 4) & mask) + base;
+    dst[dstOffset + 42] = (((w23 >>> 40) | (w24 << 24)) & mask) + base;
+    dst[dstOffset + 43] = ((w24 >>> 12) & mask) + base;
+    dst[dstOffset + 44] = (((w24 >>> 48) | (w25 << 16)) & mask) + base;
+    dst[dstOffset + 45] = ((w25 >>> 20) & mask) + base;
+    dst[dstOffset + 46] = (((w25 >>> 56) | (w26 << 8)) & mask) + base;
+    dst[dstOffset + 47] = (w26 >>> 28) + base;
+    dst[dstOffset + 48] = (w27 & mask) + base;
+    dst[dstOffset + 49] = (((w27 >>> 36) | (w28 << 28)) & mask) + base;
+    dst[dstOffset + 50] = ((w28 >>> 8) & mask) + base;
+    dst[dstOffset + 51] = (((w28 >>> 44) | (w29 << 20)) & mask) + base;
+    dst[dstOffset + 52] = ((w29 >>> 16) & mask) + base;
+    dst[dstOffset + 53] = (((w29 >>> 52) | (w30 << 12)) & mask) + base;
+    dst[dstOffset + 54] = ((w30 >>> 24) & mask) + base;
+    dst[dstOffset + 55] = (((w30 >>> 60) | (w31 << 4)) & mask) + base;
+    dst[dstOffset + 56] = (((w31 >>> 32) | (w32 << 32)) & mask) + base;
+    dst[dstOffset + 57] = ((w32 >>> 4) & mask) + base;
+    dst[dstOffset + 58] = (((w32 >>> 40) | (w33 << 24)) & mask) + base;
+    dst[dstOffset + 59] = ((w33 >>> 12) & mask) + base;
+    dst[dstOffset + 60] = (((w33 >>> 48) | (w34 << 16)) & mask) + base;
+    dst[dstOffset + 61] = ((w34 >>> 20) & mask) + base;
+    dst[dstOffset + 62] = (((w34 >>> 56) | (w35 << 8)) & mask) + base;
+    dst[dstOffset + 63] = (w35 >>> 28) + base;
+  }
+
+  private static void unpack36(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 36) | (w1 << 28)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 8) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 44) | (w2 << 20)) & mask;
+    dst[dstOffset + 4] = (w2 >>> 16) & mask;
+    dst[dstOffset + 5] = ((w2 >>> 52) | (w3 << 12)) & mask;
+    dst[dstOffset + 6] = (w3 >>> 24) & mask;
+    dst[dstOffset + 7] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 8] = ((w4 >>> 32) | (w5 << 32)) & mask;
+    dst[dstOffset + 9] = (w5 >>> 4) & mask;
+    dst[dstOffset + 10] = ((w5 >>> 40) | (w6 << 24)) & mask;
+    dst[dstOffset + 11] = (w6 >>> 12) & mask;
+    dst[dstOffset + 12] = ((w6 >>> 48) | (w7 << 16)) & mask;
+    dst[dstOffset + 13] = (w7 >>> 20) & mask;
+    dst[dstOffset + 14] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 15] = w8 >>> 28;
+    dst[dstOffset + 16] = w9 & mask;
+    dst[dstOffset + 17] = ((w9 >>> 36) | (w10 << 28)) & mask;
+    dst[dstOffset + 18] = (w10 >>> 8) & mask;
+    dst[dstOffset + 19] = ((w10 >>> 44) | (w11 << 20)) & mask;
+    dst[dstOffset + 20] = (w11 >>> 16) & mask;
+    dst[dstOffset + 21] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 22] = (w12 >>> 24) & mask;
+    dst[dstOffset + 23] = ((w12 >>> 60) | (w13 << 4)) & mask;
+    dst[dstOffset + 24] = ((w13 >>> 32) | (w14 << 32)) & mask;
+    dst[dstOffset + 25] = (w14 >>> 4) & mask;
+    dst[dstOffset + 26] = ((w14 >>> 40) | (w15 << 24)) & mask;
+    dst[dstOffset + 27] = (w15 >>> 12) & mask;
+    dst[dstOffset + 28] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 29] = (w16 >>> 20) & mask;
+    dst[dstOffset + 30] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 31] = w17 >>> 28;
+    dst[dstOffset + 32] = w18 & mask;
+    dst[dstOffset + 33] = ((w18 >>> 36) | (w19 << 28)) & mask;
+    dst[dstOffset + 34] = (w19 >>> 8) & mask;
+    dst[dstOffset + 35] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 36] = (w20 >>> 16) & mask;
+    dst[dstOffset + 37] = ((w20 >>> 52) | (w21 << 12)) & mask;
+    dst[dstOffset + 38] = (w21 >>> 24) & mask;
+    dst[dstOffset + 39] = ((w21 >>> 60) | (w22 << 4)) & mask;
+    dst[dstOffset + 40] = ((w22 >>> 32) | (w23 << 32)) & mask;
+    dst[dstOffset + 41] = (w23 >>> 4) & mask;
+    dst[dstOffset + 42] = ((w23 >>> 40) | (w24 << 24)) & mask;
+    dst[dstOffset + 43] = (w24 >>> 12) & mask;
+    dst[dstOffset + 44] = ((w24 >>> 48) | (w25 << 16)) & mask;
+    dst[dstOffset + 45] = (w25 >>> 20) & mask;
+    dst[dstOffset + 46] = ((w25 >>> 56) | (w26 << 8)) & mask;
+    dst[dstOffset + 47] = w26 >>> 28;
+    dst[dstOffset + 48] = w27 & mask;
+    dst[dstOffset + 49] = ((w27 >>> 36) | (w28 << 28)) & mask;
+    dst[dstOffset + 50] = (w28 >>> 8) & mask;
+    dst[dstOffset + 51] = ((w28 >>> 44) | (w29 << 20)) & mask;
+    dst[dstOffset + 52] = (w29 >>> 16) & mask;
+    dst[dstOffset + 53] = ((w29 >>> 52) | (w30 << 12)) & mask;
+    dst[dstOffset + 54] = (w30 >>> 24) & mask;
+    dst[dstOffset + 55] = ((w30 >>> 60) | (w31 << 4)) & mask;
+    dst[dstOffset + 56] = ((w31 >>> 32) | (w32 << 32)) & mask;
+    dst[dstOffset + 57] = (w32 >>> 4) & mask;
+    dst[dstOffset + 58] = ((w32 >>> 40) | (w33 << 24)) & mask;
+    dst[dstOffset + 59] = (w33 >>> 12) & mask;
+    dst[dstOffset + 60] = ((w33 >>> 48) | (w34 << 16)) & mask;
+    dst[dstOffset + 61] = (w34 >>> 20) & mask;
+    dst[dstOffset + 62] = ((w34 >>> 56) | (w35 << 8)) & mask;
+    dst[dstOffset + 63] = w35 >>> 28;
+  }
+}
@@ -0,0 +1,975 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 37 to 40.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack37To40
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack37To40()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 37 -> unpack37(src, index, base, dst, dstOffset);
+      case 38 -> unpack38(src, index, base, dst, dstOffset);
+      case 39 -> unpack39(src, index, base, dst, dstOffset);
+      case 40 -> unpack40(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 37 -> unpack37(src, srcOffset, dst, dstOffset);
+      case 38 -> unpack38(src, srcOffset, dst, dstOffset);
+      case 39 -> unpack39(src, srcOffset, dst, dstOffset);
+      case 40 -> unpack40(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack37(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 37) | (w1 << 27)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 10) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 47) | (w2 << 17)) & mask) + base;
+    dst[dstOffset + 4] = ((w2 >>> 20) & mask) + base;
+    dst[dstOffset + 5] = (((w2 >>> 57) | (w3 << 7)) & mask) + base;
+    dst[dstOffset + 6] = (((w3 >>> 30) | (w4 << 34)) & mask) + base;
+    dst[dstOffset + 7] = ((w4 >>> 3) & mask) + base;
+    dst[dstOffset + 8] = (((w4 >>> 40) | (w5 << 24)) & mask) + base;
+    dst[dstOffset + 9] = ((w5 >>> 13) & mask) + base;
+    dst[dstOffset + 10] = (((w5 >>> 50) | (w6 << 14)) & mask) + base;
+    dst[dstOffset + 11] = ((w6 >>> 23) & mask) + base;
+    dst[dstOffset + 12] = (((w6 >>> 60) | (w7 << 4)) & mask) + base;
+    dst[dstOffset + 13] = (((w7 >>> 33) | (w8 << 31)) & mask) + base;
+    dst[dstOffset + 14] = ((w8 >>> 6) & mask) + base;
+    dst[dstOffset + 15] = (((w8 >>> 43) | (w9 << 21)) & mask) + base;
+    dst[dstOffset + 16] = ((w9 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = (((w9 >>> 53) | (w10 << 11)) & mask) + base;
+    dst[dstOffset + 18] = ((w10 >>> 26) & mask) + base;
+    dst[dstOffset + 19] = (((w10 >>> 63) | (w11 << 1)) & mask) + base;
+    dst[dstOffset + 20] = (((w11 >>> 36) | (w12 << 28)) & mask) + base;
+    dst[dstOffset + 21] = ((w12 >>> 9) & mask) + base;
+    dst[dstOffset + 22] = (((w12 >>> 46) | (w13 << 18)) & mask) + base;
+    dst[dstOffset + 23] = ((w13 >>> 19) & mask) + base;
+    dst[dstOffset + 24] = (((w13 >>> 56) | (w14 << 8)) & mask) + base;
+    dst[dstOffset + 25] = (((w14 >>> 29) | (w15 << 35)) & mask) + base;
+    dst[dstOffset + 26] = ((w15 >>> 2) & mask) + base;
+    dst[dstOffset + 27] = (((w15 >>> 39) | (w16 << 25)) & mask) + base;
+    dst[dstOffset + 28] = ((w16 >>> 12) & mask) + base;
+    dst[dstOffset + 29] = (((w16 >>> 49) | (w17 << 15)) & mask) + base;
+    dst[dstOffset + 30] = ((w17 >>> 22) & mask) + base;
+    dst[dstOffset + 31] = (((w17 >>> 59) | (w18 << 5)) & mask) + base;
+    dst[dstOffset + 32] = (((w18 >>> 32) | (w19 << 32)) & mask) + base;
+    dst[dstOffset + 33] = ((w19 >>> 5) & mask) + base;
+    dst[dstOffset + 34] = (((w19 >>> 42) | (w20 << 22)) & mask) + base;
+    dst[dstOffset + 35] = ((w20 >>> 15) & mask) + base;
+    dst[dstOffset + 36] = (((w20 >>> 52) | (w21 << 12)) & mask) + base;
+    dst[dstOffset + 37] = ((w21 >>> 25) & mask) + base;
+    dst[dstOffset + 38] = (((w21 >>> 62) | (w22 << 2)) & mask) + base;
+    dst[dstOffset + 39] = (((w22 >>> 35) | (w23 << 29)) & mask) + base;
+    dst[dstOffset + 40] = ((w23 >>> 8) & mask) + base;
+    dst[dstOffset + 41] = (((w23 >>> 45) | (w24 << 19)) & mask) + base;
+    dst[dstOffset + 42] = ((w24 >>> 18) & mask) + base;
+    dst[dstOffset + 43] = (((w24 >>> 55) | (w25 << 9)) & mask) + base;
+    dst[dstOffset + 44] = (((w25 >>> 28) | (w26 << 36)) & mask) + base;
+    dst[dstOffset + 45] = ((w26 >>> 1) & mask) + base;
+    dst[dstOffset + 46] = (((w26 >>> 38) | (w27 << 26)) & mask) + base;
+    dst[dstOffset + 47] = ((w27 >>> 11) & mask) + base;
+    dst[dstOffset + 48] = (((w27 >>> 48) | (w28 << 16)) & mask) + base;
+    dst[dstOffset + 49] = ((w28 >>> 21) & mask) + base;
+    dst[dstOffset + 50] = (((w28 >>> 58) | (w29 << 6)) & mask) + base;
+    dst[dstOffset + 51] = (((w29 >>> 31) | (w30 << 33)) & mask) + base;
+    dst[dstOffset + 52] = ((w30 >>> 4) & mask) + base;
+    dst[dstOffset + 53] = (((w30 >>> 41) | (w31 << 23)) & mask) + base;
+    dst[dstOffset + 54] = ((w31 >>> 14) & mask) + base;
+    dst[dstOffset + 55] = (((w31 >>> 51) | (w32 << 13)) & mask) + base;
+    dst[dstOffset + 56] = ((w32 >>> 24) & mask) + base;
+    dst[dstOffset + 57] = (((w32 >>> 61) | (w33 << 3)) & mask) + base;
+    dst[dstOffset + 58] = (((w33 >>> 34) | (w34 << 30)) & mask) + base;
+    dst[dstOffset + 59] = ((w34 >>> 7) & mask) + base;
+    dst[dstOffset + 60] = (((w34 >>> 44) | (w35 << 20)) & mask) + base;
+    dst[dstOffset + 61] = ((w35 >>> 17) & mask) + base;
+    dst[dstOffset + 62] = (((w35 >>> 54) | (w36 << 10)) & mask) + base;
+    dst[dstOffset + 63] = (w36 >>> 27) + base;
+  }
+
+  private static void unpack37(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 37) | (w1 << 27)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 10) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 47) | (w2 << 17)) & mask;
+    dst[dstOffset + 4] = (w2 >>> 20) & mask;
+    dst[dstOffset + 5] = ((w2 >>> 57) | (w3 << 7)) & mask;
+    dst[dstOffset + 6] = ((w3 >>> 30) | (w4 << 34)) & mask;
+    dst[dstOffset + 7] = (w4 >>> 3) & mask;
+    dst[dstOffset + 8] = ((w4 >>> 40) | (w5 << 24)) & mask;
+    dst[dstOffset + 9] = (w5 >>> 13) & mask;
+    dst[dstOffset + 10] = ((w5 >>> 50) | (w6 << 14)) & mask;
+    dst[dstOffset + 11] = (w6 >>> 23) & mask;
+    dst[dstOffset + 12] = ((w6 >>> 60) | (w7 << 4)) & mask;
+    dst[dstOffset + 13] = ((w7 >>> 33) | (w8 << 31)) & mask;
+    dst[dstOffset + 14] = (w8 >>> 6) & mask;
+    dst[dstOffset + 15] = ((w8 >>> 43) | (w9 << 21)) & mask;
+    dst[dstOffset + 16] = (w9 >>> 16) & mask;
+    dst[dstOffset + 17] = ((w9 >>> 53) | (w10 << 11)) & mask;
+    dst[dstOffset + 18] = (w10 >>> 26) & mask;
+    dst[dstOffset + 19] = ((w10 >>> 63) | (w11 << 1)) & mask;
+    dst[dstOffset + 20] = ((w11 >>> 36) | (w12 << 28)) & mask;
+    dst[dstOffset + 21] = (w12 >>> 9) & mask;
+    dst[dstOffset + 22] = ((w12 >>> 46) | (w13 << 18)) & mask;
+    dst[dstOffset + 23] = (w13 >>> 19) & mask;
+    dst[dstOffset + 24] = ((w13 >>> 56) | (w14 << 8)) & mask;
+    dst[dstOffset + 25] = ((w14 >>> 29) | (w15 << 35)) & mask;
+    dst[dstOffset + 26] = (w15 >>> 2) & mask;
+    dst[dstOffset + 27] = ((w15 >>> 39) | (w16 << 25)) & mask;
+    dst[dstOffset + 28] = (w16 >>> 12) & mask;
+    dst[dstOffset + 29] = ((w16 >>> 49) | (w17 << 15)) & mask;
+    dst[dstOffset + 30] = (w17 >>> 22) & mask;
+    dst[dstOffset + 31] = ((w17 >>> 59) | (w18 << 5)) & mask;
+    dst[dstOffset + 32] = ((w18 >>> 32) | (w19 << 32)) & mask;
+    dst[dstOffset + 33] = (w19 >>> 5) & mask;
+    dst[dstOffset + 34] = ((w19 >>> 42) | (w20 << 22)) & mask;
+    dst[dstOffset + 35] = (w20 >>> 15) & mask;
+    dst[dstOffset + 36] = ((w20 >>> 52) | (w21 << 12)) & mask;
+    dst[dstOffset + 37] = (w21 >>> 25) & mask;
+    dst[dstOffset + 38] = ((w21 >>> 62) | (w22 << 2)) & mask;
+    dst[dstOffset + 39] = ((w22 >>> 35) | (w23 << 29)) & mask;
+    dst[dstOffset + 40] = (w23 >>> 8) & mask;
+    dst[dstOffset + 41] = ((w23 >>> 45) | (w24 << 19)) & mask;
+    dst[dstOffset + 42] = (w24 >>> 18) & mask;
+    dst[dstOffset + 43] = ((w24 >>> 55) | (w25 << 9)) & mask;
+    dst[dstOffset + 44] = ((w25 >>> 28) | (w26 << 36)) & mask;
+    dst[dstOffset + 45] = (w26 >>> 1) & mask;
+    dst[dstOffset + 46] = ((w26 >>> 38) | (w27 << 26)) & mask;
+    dst[dstOffset + 47] = (w27 >>> 11) & mask;
+    dst[dstOffset + 48] = ((w27 >>> 48) | (w28 << 16)) & mask;
+    dst[dstOffset + 49] = (w28 >>> 21) & mask;
+    dst[dstOffset + 50] = ((w28 >>> 58) | (w29 << 6)) & mask;
+    dst[dstOffset + 51] = ((w29 >>> 31) | (w30 << 33)) & mask;
+    dst[dstOffset + 52] = (w30 >>> 4) & mask;
+    dst[dstOffset + 53] = ((w30 >>> 41) | (w31 << 23)) & mask;
+    dst[dstOffset + 54] = (w31 >>> 14) & mask;
+    dst[dstOffset + 55] = ((w31 >>> 51) | (w32 << 13)) & mask;
+    dst[dstOffset + 56] = (w32 >>> 24) & mask;
+    dst[dstOffset + 57] = ((w32 >>> 61) | (w33 << 3)) & mask;
+    dst[dstOffset + 58] = ((w33 >>> 34) | (w34 << 30)) & mask;
+    dst[dstOffset + 59] = (w34 >>> 7) & mask;
+    dst[dstOffset + 60] = ((w34 >>> 44) | (w35 << 20)) & mask;
+    dst[dstOffset + 61] = (w35 >>> 17) & mask;
+    dst[dstOffset + 62] = ((w35 >>> 54) | (w36 << 10)) & mask;
+    dst[dstOffset + 63] = w36 >>> 27;
+  }
+
+  private static void unpack38(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 38) | (w1 << 26)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 12) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 50) | (w2 << 14)) & mask) + base;
+    dst[dstOffset + 4] = ((w2 >>> 24) & mask) + base;
+    dst[dstOffset + 5] = (((w2 >>> 62) | (w3 << 2)) & mask) + base;
+    dst[dstOffset + 6] = (((w3 >>> 36) | (w4 << 28)) & mask) + base;
+    dst[dstOffset + 7] = ((w4 >>> 10) & mask) + base;
+    dst[dstOffset + 8] = (((w4 >>> 48) | (w5 << 16)) & mask) + base;
+    dst[dstOffset + 9] = ((w5 >>> 22) & mask) + base;
+    dst[dstOffset + 10] = (((w5 >>> 60) | (w6 << 4)) & mask) + base;
+    dst[dstOffset + 11] = (((w6 >>> 34) | (w7 << 30)) & mask) + base;
+    dst[dstOffset + 12] = ((w7 >>> 8) & mask) + base;
+    dst[dstOffset + 13] = (((w7 >>> 46) | (w8 << 18)) & mask) + base;
+    dst[dstOffset + 14] = ((w8 >>> 20) & mask) + base;
+    dst[dstOffset + 15] = (((w8 >>> 58) | (w9 << 6)) & mask) + base;
+    dst[dstOffset + 16] = (((w9 >>> 32) | (w10 << 32)) & mask) + base;
+    dst[dstOffset + 17] = ((w10 >>> 6) & mask) + base;
+    dst[dstOffset + 18] = (((w10 >>> 44) | (w11 << 20)) & mask) + base;
+    dst[dstOffset + 19] = ((w11 >>> 18) & mask) + base;
+    dst[dstOffset + 20] = (((w11 >>> 56) | (w12 << 8)) & mask) + base;
+    dst[dstOffset + 21] = (((w12 >>> 30) | (w13 << 34)) & mask) + base;
+    dst[dstOffset + 22] = ((w13 >>> 4) & mask) + base;
+    dst[dstOffset + 23] = (((w13 >>> 42) | (w14 << 22)) & mask) + base;
+    dst[dstOffset + 24] = ((w14 >>> 16) & mask) + base;
+    dst[dstOffset + 25] = (((w14 >>> 54) | (w15 << 10)) & mask) + base;
+    dst[dstOffset + 26] = (((w15 >>> 28) | (w16 << 36)) & mask) + base;
+    dst[dstOffset + 27] = ((w16 >>> 2) & mask) + base;
+    dst[dstOffset + 28] = (((w16 >>> 40) | (w17 << 24)) & mask) + base;
+    dst[dstOffset + 29] = ((w17 >>> 14) & mask) + base;
+    dst[dstOffset + 30] = (((w17 >>> 52) | (w18 << 12)) & mask) + base;
+    dst[dstOffset + 31] = (w18 >>> 26) + base;
+    dst[dstOffset + 32] = (w19 & mask) + base;
+    dst[dstOffset + 33] = (((w19 >>> 38) | (w20 << 26)) & mask) + base;
+    dst[dstOffset + 34] = ((w20 >>> 12) & mask) + base;
+    dst[dstOffset + 35] = (((w20 >>> 50) | (w21 << 14)) & mask) + base;
+    dst[dstOffset + 36] = ((w21 >>> 24) & mask) + base;
+    dst[dstOffset + 37] = (((w21 >>> 62) | (w22 << 2)) & mask) + base;
+    dst[dstOffset + 38] = (((w22 >>> 36) | (w23 << 28)) & mask) + base;
+    dst[dstOffset + 39] = ((w23 >>> 10) & mask) + base;
+    dst[dstOffset + 40] = (((w23 >>> 48) | (w24 << 16)) & mask) + base;
+    dst[dstOffset + 41] = ((w24 >>> 22) & mask) + base;
+    dst[dstOffset + 42] = (((w24 >>> 60) | (w25 << 4)) & mask) + base;
+    dst[dstOffset + 43] = (((w25 >>> 34) | (w26 << 30)) & mask) + base;
+    dst[dstOffset + 44] = ((w26 >>> 8) & mask) + base;
+    dst[dstOffset + 45] = (((w26 >>> 46) | (w27 << 18)) & mask) + base;
+    dst[dstOffset + 46] = ((w27 >>> 20) & mask) + base;
+    dst[dstOffset + 47] = (((w27 >>> 58) | (w28 << 6)) & mask) + base;
+    dst[dstOffset + 48] = (((w28 >>> 32) | (w29 << 32)) & mask) + base;
+    dst[dstOffset + 49] = ((w29 >>> 6) & mask) + base;
+    dst[dstOffset + 50] = (((w29 >>> 44) | (w30 << 20)) & mask) + base;
+    dst[dstOffset + 51] = ((w30 >>> 18) & mask) + base;
+    dst[dstOffset + 52] = (((w30 >>> 56) | (w31 << 8)) & mask) + base;
+    dst[dstOffset + 53] = (((w31 >>> 30) | (w32 << 34)) & mask) + base;
+    dst[dstOffset + 54] = ((w32 >>> 4) & mask) + base;
+    dst[dstOffset + 55] = (((w32 >>> 42) | (w33 << 22)) & mask) + base;
+    dst[dstOffset + 56] = ((w33 >>> 16) & mask) + base;
+    dst[dstOffset + 57] = (((w33 >>> 54) | (w34 << 10)) & mask) + base;
+    dst[dstOffset + 58] = (((w34 >>> 28) | (w35 << 36)) & mask) + base;
+    dst[dstOffset + 59] = ((w35 >>> 2) & mask) + base;
+    dst[dstOffset + 60] = (((w35 >>> 40) | (w36 << 24)) & mask) + base;
+    dst[dstOffset + 61] = ((w36 >>> 14) & mask) + base;
+    dst[dstOffset + 62] = (((w36 >>> 52) | (w37 << 12)) & mask) + base;
+    dst[dstOffset + 63] = (w37 >>> 26) + base;
+  }
+
+  private static void unpack38(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 38) | (w1 << 26)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 12) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 50) | (w2 << 14)) & mask;
+    dst[dstOffset + 4] = (w2 >>> 24) & mask;
+    dst[dstOffset + 5] = ((w2 >>> 62) | (w3 << 2)) & mask;
+    dst[dstOffset + 6] = ((w3 >>> 36) | (w4 << 28)) & mask;
+    dst[dstOffset + 7] = (w4 >>> 10) & mask;
+    dst[dstOffset + 8] = ((w4 >>> 48) | (w5 << 16)) & mask;
+    dst[dstOffset + 9] = (w5 >>> 22) & mask;
+    dst[dstOffset + 10] = ((w5 >>> 60) | (w6 << 4)) & mask;
+    dst[dstOffset + 11] = ((w6 >>> 34) | (w7 << 30)) & mask;
+    dst[dstOffset + 12] = (w7 >>> 8) & mask;
+    dst[dstOffset + 13] = ((w7 >>> 46) | (w8 << 18)) & mask;
+    dst[dstOffset + 14] = (w8 >>> 20) & mask;
+    dst[dstOffset + 15] = ((w8 >>> 58) | (w9 << 6)) & mask;
+    dst[dstOffset + 16] = ((w9 >>> 32) | (w10 << 32)) & mask;
+    dst[dstOffset + 17] = (w10 >>> 6) & mask;
+    dst[dstOffset + 18] = ((w10 >>> 44) | (w11 << 20)) & mask;
+    dst[dstOffset + 19] = (w11 >>> 18) & mask;
+    dst[dstOffset + 20] = ((w11 >>> 56) | (w12 << 8)) & mask;
+    dst[dstOffset + 21] = ((w12 >>> 30) | (w13 << 34)) & mask;
+    dst[dstOffset + 22] = (w13 >>> 4) & mask;
+    dst[dstOffset + 23] = ((w13 >>> 42) | (w14 << 22)) & mask;
+    dst[dstOffset + 24] = (w14 >>> 16) & mask;
+    dst[dstOffset + 25] = ((w14 >>> 54) | (w15 << 10)) & mask;
+    dst[dstOffset + 26] = ((w15 >>> 28) | (w16 << 36)) & mask;
+    dst[dstOffset + 27] = (w16 >>> 2) & mask;
+    dst[dstOffset + 28] = ((w16 >>> 40) | (w17 << 24)) & mask;
+    dst[dstOffset + 29] = (w17 >>> 14) & mask;
+    dst[dstOffset + 30] = ((w17 >>> 52) | (w18 << 12)) & mask;
+    dst[dstOffset + 31] = w18 >>> 26;
+    dst[dstOffset + 32] = w19 & mask;
+    dst[dstOffset + 33] = ((w19 >>> 38) | (w20 << 26)) & mask;
+    dst[dstOffset + 34] = (w20 >>> 12) & mask;
+    dst[dstOffset + 35] = ((w20 >>> 50) | (w21 << 14)) & mask;
+    dst[dstOffset + 36] = (w21 >>> 24) & mask;
+    dst[dstOffset + 37] = ((w21 >>> 62) | (w22 << 2)) & mask;
+    dst[dstOffset + 38] = ((w22 >>> 36) | (w23 << 28)) & mask;
+    dst[dstOffset + 39] = (w23 >>> 10) & mask;
+    dst[dstOffset + 40] = ((w23 >>> 48) | (w24 << 16)) & mask;
+    dst[dstOffset + 41] = (w24 >>> 22) & mask;
+    dst[dstOffset + 42] = ((w24 >>> 60) | (w25 << 4)) & mask;
+    dst[dstOffset + 43] = ((w25 >>> 34) | (w26 << 30)) & mask;
+    dst[dstOffset + 44] = (w26 >>> 8) & mask;
+    dst[dstOffset + 45] = ((w26 >>> 46) | (w27 << 18)) & mask;
+    dst[dstOffset + 46] = (w27 >>> 20) & mask;
+    dst[dstOffset + 47] = ((w27 >>> 58) | (w28 << 6)) & mask;
+    dst[dstOffset + 48] = ((w28 >>> 32) | (w29 << 32)) & mask;
+    dst[dstOffset + 49] = (w29 >>> 6) & mask;
+    dst[dstOffset + 50] = ((w29 >>> 44) | (w30 << 20)) & mask;
+    dst[dstOffset + 51] = (w30 >>> 18) & mask;
+    dst[dstOffset + 52] = ((w30 >>> 56) | (w31 << 8)) & mask;
+    dst[dstOffset + 53] = ((w31 >>> 30) | (w32 << 34)) & mask;
+    dst[dstOffset + 54] = (w32 >>> 4) & mask;
+    dst[dstOffset + 55] = ((w32 >>> 42) | (w33 << 22)) & mask;
+    dst[dstOffset + 56] = (w33 >>> 16) & mask;
+    dst[dstOffset + 57] = ((w33 >>> 54) | (w34 << 10)) & mask;
+    dst[dstOffset + 58] = ((w34 >>> 28) | (w35 << 36)) & mask;
+    dst[dstOffset + 59] = (w35 >>> 2) & mask;
+    dst[dstOffset + 60] = ((w35 >>> 40) | (w36 << 24)) & mask;
+    dst[dstOffset + 61] = (w36 >>> 14) & mask;
+    dst[dstOffset + 62] = ((w36 >>> 52) | (w37 << 12)) & mask;
+    dst[dstOffset + 63] = w37 >>> 26;
+  }
+
+  private static void unpack39(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 39) | (w1 << 25)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 14) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 53) | (w2 << 11)) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 28) | (w3 << 36)) & mask) + base;
+    dst[dstOffset + 5] = ((w3 >>> 3) & mask) + base;
+    dst[dstOffset + 6] = (((w3 >>> 42) | (w4 << 22)) & mask) + base;
+    dst[dstOffset + 7] = ((w4 >>> 17) & mask) + base;
+    dst[dstOffset + 8] = (((w4 >>> 56) | (w5 << 8)) & mask) + base;
+    dst[dstOffset + 9] = (((w5 >>> 31) | (w6 << 33)) & mask) + base;
+    dst[dstOffset + 10] = ((w6 >>> 6) & mask) + base;
+    dst[dstOffset + 11] = (((w6 >>> 45) | (w7 << 19)) & mask) + base;
+    dst[dstOffset + 12] = ((w7 >>> 20) & mask) + base;
+    dst[dstOffset + 13] = (((w7 >>> 59) | (w8 << 5)) & mask) + base;
+    dst[dstOffset + 14] = (((w8 >>> 34) | (w9 << 30)) & mask) + base;
+    dst[dstOffset + 15] = ((w9 >>> 9) & mask) + base;
+    dst[dstOffset + 16] = (((w9 >>> 48) | (w10 << 16)) & mask) + base;
+    dst[dstOffset + 17] = ((w10 >>> 23) & mask) + base;
+    dst[dstOffset + 18] = (((w10 >>> 62) | (w11 << 2)) & mask) + base;
+    dst[dstOffset + 19] = (((w11 >>> 37) | (w12 << 27)) & mask) + base;
+    dst[dstOffset + 20] = ((w12 >>> 12) & mask) + base;
+    dst[dstOffset + 21] = (((w12 >>> 51) | (w13 << 13)) & mask) + base;
+    dst[dstOffset + 22] = (((w13 >>> 26) | (w14 << 38)) & mask) + base;
+    dst[dstOffset + 23] = ((w14 >>> 1) & mask) + base;
+    dst[dstOffset + 24] = (((w14 >>> 40) | (w15 << 24)) & mask) + base;
+    dst[dstOffset + 25] = ((w15 >>> 15) & mask) + base;
+    dst[dstOffset + 26] = (((w15 >>> 54) | (w16 << 10)) & mask) + base;
+    dst[dstOffset + 27] = (((w16 >>> 29) | (w17 << 35)) & mask) + base;
+    dst[dstOffset + 28] = ((w17 >>> 4) & mask) + base;
+    dst[dstOffset + 29] = (((w17 >>> 43) | (w18 << 21)) & mask) + base;
+    dst[dstOffset + 30] = ((w18 >>> 18) & mask) + base;
+    dst[dstOffset + 31] = (((w18 >>> 57) | (w19 << 7)) & mask) + base;
+    dst[dstOffset + 32] = (((w19 >>> 32) | (w20 << 32)) & mask) + base;
+    dst[dstOffset + 33] = ((w20 >>> 7) & mask) + base;
+    dst[dstOffset + 34] = (((w20 >>> 46) | (w21 << 18)) & mask) + base;
+    dst[dstOffset + 35] = ((w21 >>> 21) & mask) + base;
+    dst[dstOffset + 36] = (((w21 >>> 60) | (w22 << 4)) & mask) + base;
+    dst[dstOffset + 37] = (((w22 >>> 35) | (w23 << 29)) & mask) + base;
+    dst[dstOffset + 38] = ((w23 >>> 10) & mask) + base;
+    dst[dstOffset + 39] = (((w23 >>> 49) | (w24 << 15)) & mask) + base;
+    dst[dstOffset + 40] = ((w24 >>> 24) & mask) + base;
+    dst[dstOffset + 41] = (((w24 >>> 63) | (w25 << 1)) & mask) + base;
+    dst[dstOffset + 42] = (((w25 >>> 38) | (w26 << 26)) & mask) + base;
+    dst[dstOffset + 43] = ((w26 >>> 13) & mask) + base;
+    dst[dstOffset + 44] = (((w26 >>> 52) | (w27 << 12)) & mask) + base;
+    dst[dstOffset + 45] = (((w27 >>> 27) | (w28 << 37)) & mask) + base;
+    dst[dstOffset + 46] = ((w28 >>> 2) & mask) + base;
+    dst[dstOffset + 47] = (((w28 >>> 41) | (w29 << 23)) & mask) + base;
+    dst[dstOffset + 48] = ((w29 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = (((w29 >>> 55) | (w30 << 9)) & mask) + base;
+    dst[dstOffset + 50] = (((w30 >>> 30) | (w31 << 34)) & mask) + base;
+    dst[dstOffset + 51] = ((w31 >>> 5) & mask) + base;
+    dst[dstOffset + 52] = (((w31 >>> 44) | (w32 << 20)) & mask) + base;
+    dst[dstOffset + 53] = ((w32 >>> 19) & mask) + base;
+    dst[dstOffset + 54] = (((w32 >>> 58) | (w33 << 6)) & mask) + base;
+    dst[dstOffset + 55] = (((w33 >>> 33) | (w34 << 31)) & mask) + base;
+    dst[dstOffset + 56] = ((w34 >>> 8) & mask) + base;
+    dst[dstOffset + 57] = (((w34 >>> 47) | (w35 << 17)) & mask) + base;
+    dst[dstOffset + 58] = ((w35 >>> 22) & mask) + base;
+    dst[dstOffset + 59] = (((w35 >>> 61) | (w36 << 3)) & mask) + base;
+    dst[dstOffset + 60] = (((w36 >>> 36) | (w37 << 28)) & mask) + base;
+    dst[dstOffset + 61] = ((w37 >>> 11) & mask) + base;
+    dst[dstOffset + 62] = (((w37 >>> 50) | (w38 << 14)) & mask) + base;
+    dst[dstOffset + 63] = (w38 >>> 25) + base;
+  }
+
+  private static void unpack39(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 39) | (w1 << 25)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 14) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 53) | (w2 << 11)) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 28) | (w3 << 36)) & mask;
+    dst[dstOffset + 5] = (w3 >>> 3) & mask;
+    dst[dstOffset + 6] = ((w3 >>> 42) | (w4 << 22)) & mask;
+    dst[dstOffset + 7] = (w4 >>> 17) & mask;
+    dst[dstOffset + 8] = ((w4 >>> 56) | (w5 << 8)) & mask;
+    dst[dstOffset + 9] = ((w5 >>> 31) | (w6 << 33)) & mask;
+    dst[dstOffset + 10] = (w6 >>> 6) & mask;
+    dst[dstOffset + 11] = ((w6 >>> 45) | (w7 << 19)) & mask;
+    dst[dstOffset + 12] = (w7 >>> 20) & mask;
+    dst[dstOffset + 13] = ((w7 >>> 59) | (w8 << 5)) & mask;
+    dst[dstOffset + 14] = ((w8 >>> 34) | (w9 << 30)) & mask;
+    dst[dstOffset + 15] = (w9 >>> 9) & mask;
+    dst[dstOffset + 16] = ((w9 >>> 48) | (w10 << 16)) & mask;
+    dst[dstOffset + 17] = (w10 >>> 23) & mask;
+    dst[dstOffset + 18] = ((w10 >>> 62) | (w11 << 2)) & mask;
+    dst[dstOffset + 19] = ((w11 >>> 37) | (w12 << 27)) & mask;
+    dst[dstOffset + 20] = (w12 >>> 12) & mask;
+    dst[dstOffset + 21] = ((w12 >>> 51) | (w13 << 13)) & mask;
+    dst[dstOffset + 22] = ((w13 >>> 26) | (w14 << 38)) & mask;
+    dst[dstOffset + 23] = (w14 >>> 1) & mask;
+    dst[dstOffset + 24] = ((w14 >>> 40) | (w15 << 24)) & mask;
+    dst[dstOffset + 25] = (w15 >>> 15) & mask;
+    dst[dstOffset + 26] = ((w15 >>> 54) | (w16 << 10)) & mask;
+    dst[dstOffset + 27] = ((w16 >>> 29) | (w17 << 35)) & mask;
+    dst[dstOffset + 28] = (w17 >>> 4) & mask;
+    dst[dstOffset + 29] = ((w17 >>> 43) | (w18 << 21)) & mask;
+    dst[dstOffset + 30] = (w18 >>> 18) & mask;
+    dst[dstOffset + 31] = ((w18 >>> 57) | (w19 << 7)) & mask;
+    dst[dstOffset + 32] = ((w19 >>> 32) | (w20 << 32)) & mask;
+    dst[dstOffset + 33] = (w20 >>> 7) & mask;
+    dst[dstOffset + 34] = ((w20 >>> 46) | (w21 << 18)) & mask;
+    dst[dstOffset + 35] = (w21 >>> 21) & mask;
+    dst[dstOffset + 36] = ((w21 >>> 60) | (w22 << 4)) & mask;
+    dst[dstOffset + 37] = ((w22 >>> 35) | (w23 << 29)) & mask;
+    dst[dstOffset + 38] = (w23 >>> 10) & mask;
+    dst[dstOffset + 39] = ((w23 >>> 49) | (w24 << 15)) & mask;
+    dst[dstOffset + 40] = (w24 >>> 24) & mask;
+    dst[dstOffset + 41] = ((w24 >>> 63) | (w25 << 1)) & mask;
+    dst[dstOffset + 42] = ((w25 >>> 38) | (w26 << 26)) & mask;
+    dst[dstOffset + 43] = (w26 >>> 13) & mask;
+    dst[dstOffset + 44] = ((w26 >>> 52) | (w27 << 12)) & mask;
+    dst[dstOffset + 45] = ((w27 >>> 27) | (w28 << 37)) & mask;
+    dst[dstOffset + 46] = (w28 >>> 2) & mask;
+    dst[dstOffset + 47] = ((w28 >>> 41) | (w29 << 23)) & mask;
+    dst[dstOffset + 48] = (w29 >>> 16) & mask;
+    dst[dstOffset + 49] = ((w29 >>> 55) | (w30 << 9)) & mask;
+    dst[dstOffset + 50] = ((w30 >>> 30) | (w31 << 34)) & mask;
+    dst[dstOffset + 51] = (w31 >>> 5) & mask;
+    dst[dstOffset + 52] = ((w31 >>> 44) | (w32 << 20)) & mask;
+    dst[dstOffset + 53] = (w32 >>> 19) & mask;
+    dst[dstOffset + 54] = ((w32 >>> 58) | (w33 << 6)) & mask;
+    dst[dstOffset + 55] = ((w33 >>> 33) | (w34 << 31)) & mask;
+    dst[dstOffset + 56] = (w34 >>> 8) & mask;
+    dst[dstOffset + 57] = ((w34 >>> 47) | (w35 << 17)) & mask;
+    dst[dstOffset + 58] = (w35 >>> 22) & mask;
+    dst[dstOffset + 59] = ((w35 >>> 61) | (w36 << 3)) & mask;
+    dst[dstOffset + 60] = ((w36 >>> 36) | (w37 << 28)) & mask;
+    dst[dstOffset + 61] = (w37 >>> 11) & mask;
+    dst[dstOffset + 62] = ((w37 >>> 50) | (w38 << 14)) & mask;
+    dst[dstOffset + 63] = w38 >>> 25;
+  }
+
+  private static void unpack40(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 40) | (w1 << 24)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 16) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 56) | (w2 << 8)) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 32) | (w3 << 32)) & mask) + base;
+    dst[dstOffset + 5] = ((w3 >>> 8) & mask) + base;
+    dst[dstOffset + 6] = (((w3 >>> 48) | (w4 << 16)) & mask) + base;
+    dst[dstOffset + 7] = (w4 >>> 24) + base;
+    dst[dstOffset + 8] = (w5 & mask) + base;
+    dst[dstOffset + 9] = (((w5 >>> 40) | (w6 << 24)) & mask) + base;
+    dst[dstOffset + 10] = ((w6 >>> 16) & mask) + base;
+    dst[dstOffset + 11] = (((w6 >>> 56) | (w7 << 8)) & mask) + base;
+    dst[dstOffset + 12] = (((w7 >>> 32) | (w8 << 32)) & mask) + base;
+    dst[dstOffset + 13] = ((w8 >>> 8) & mask) + base;
+    dst[dstOffset + 14] = (((w8 >>> 48) | (w9 << 16)) & mask) + base;
+    dst[dstOffset + 15] = (w9 >>> 24) + base;
+    dst[dstOffset + 16] = (w10 & mask) + base;
+    dst[dstOffset + 17] = (((w10 >>> 40) | (w11 << 24)) & mask) + base;
+    dst[dstOffset + 18] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 19] = (((w11 >>> 56) | (w12 << 8)) & mask) + base;
+    dst[dstOffset + 20] = (((w12 >>> 32) | (w13 << 32)) & mask) + base;
+    dst[dstOffset + 21] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 22] = (((w13 >>> 48) | (w14 << 16)) & mask) + base;
+    dst[dstOffset + 23] = (w14 >>> 24) + base;
+    dst[dstOffset + 24] = (w15 & mask) + base;
+    dst[dstOffset + 25] = (((w15 >>> 40) | (w16 << 24)) & mask) + base;
+    dst[dstOffset + 26] = ((w16 >>> 16) & mask) + base;
+    dst[dstOffset + 27] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 28] = (((w17 >>> 32) | (w18 << 32)) & mask) + base;
+    dst[dstOffset + 29] = ((w18 >>> 8) & mask) + base;
+    dst[dstOffset + 30] = (((w18 >>> 48) | (w19 << 16)) & mask) + base;
+    dst[dstOffset + 31] = (w19 >>> 24) + base;
+    dst[dstOffset + 32] = (w20 & mask) + base;
+    dst[dstOffset + 33] = (((w20 >>> 40) | (w21 << 24)) & mask) + base;
+    dst[dstOffset + 34] = ((w21 >>> 16) & mask) + base;
+    dst[dstOffset + 35] = (((w21 >>> 56) | (w22 << 8)) & mask) + base;
+    dst[dstOffset + 36] = (((w22 >>> 32) | (w23 << 32)) & mask) + base;
+    dst[dstOffset + 37] = ((w23 >>> 8) & mask) + base;
+    dst[dstOffset + 38] = (((w23 >>> 48) | (w24 << 16)) & mask) + base;
+    dst[dstOffset + 39] = (w24 >>> 24) + base;
+    dst[dstOffset + 40] = (w25 & mask) + base;
+    dst[dstOffset + 41] = (((w25 >>> 40) | (w26 << 24)) & mask) + base;
+    dst[dstOffset + 42] = ((w26 >>> 16) & mask) + base;
+    dst[dstOffset + 43] = (((w26 >>> 56) | (w27 << 8)) & mask) + base;
+    dst[dstOffset + 44] = (((w27 >>> 32) | (w28 << 32)) & mask) + base;
+    dst[dstOffset + 45] = ((w28 >>> 8) & mask) + base;
+    dst[dstOffset + 46] = (((w28 >>> 48) | (w29 << 16)) & mask) + base;
+    dst[dstOffset + 47] = (w29 >>> 24) + base;
+    dst[dstOffset + 48] = (w30 & mask) + base;
+    dst[dstOffset + 49] = (((w30 >>> 40) | (w31 << 24)) & mask) + base;
+    dst[dstOffset + 50] = ((w31 >>> 16) & mask) + base;
+    dst[dstOffset + 51] = (((w31 >>> 56) | (w32 << 8)) & mask) + base;
+    dst[dstOffset + 52] = (((w32 >>> 32) | (w33 << 32)) & mask) + base;
+    dst[dstOffset + 53] = ((w33 >>> 8) & mask) + base;
+    dst[dstOffset + 54] = (((w33 >>> 48) | (w34 << 16)) & mask) + base;
+    dst[dstOffset + 55] = (w34 >>> 24) + base;
+    dst[dstOffset + 56] = (w35 & mask) + base;
+    dst[dstOffset + 57] = (((w35 >>> 40) | (w36 << 24)) & mask) + base;
+    dst[dstOffset + 58] = ((w36 >>> 16) & mask) + base;
+    dst[dstOffset + 59] = (((w36 >>> 56) | (w37 << 8)) & mask) + base;
+    dst[dstOffset + 60] = (((w37 >>> 32) | (w38 << 32)) & mask) + base;
+    dst[dstOffset + 61] = ((w38 >>> 8) & mask) + base;
+    dst[dstOffset + 62] = (((w38 >>> 48) | (w39 << 16)) & mask) + base;
+    dst[dstOffset + 63] = (w39 >>> 24) + base;
+  }
+
+  private static void unpack40(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 40) | (w1 << 24)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 16) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 56) | (w2 << 8)) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 32) | (w3 << 32)) & mask;
+    dst[dstOffset + 5] = (w3 >>> 8) & mask;
+    dst[dstOffset + 6] = ((w3 >>> 48) | (w4 << 16)) & mask;
+    dst[dstOffset + 7] = w4 >>> 24;
+    dst[dstOffset + 8] = w5 & mask;
+    dst[dstOffset + 9] = ((w5 >>> 40) | (w6 << 24)) & mask;
+    dst[dstOffset + 10] = (w6 >>> 16) & mask;
+    dst[dstOffset + 11] = ((w6 >>> 56) | (w7 << 8)) & mask;
+    dst[dstOffset + 12] = ((w7 >>> 32) | (w8 << 32)) & mask;
+    dst[dstOffset + 13] = (w8 >>> 8) & mask;
+    dst[dstOffset + 14] = ((w8 >>> 48) | (w9 << 16)) & mask;
+    dst[dstOffset + 15] = w9 >>> 24;
+    dst[dstOffset + 16] = w10 & mask;
+    dst[dstOffset + 17] = ((w10 >>> 40) | (w11 << 24)) & mask;
+    dst[dstOffset + 18] = (w11 >>> 16) & mask;
+    dst[dstOffset + 19] = ((w11 >>> 56) | (w12 << 8)) & mask;
+    dst[dstOffset + 20] = ((w12 >>> 32) | (w13 << 32)) & mask;
+    dst[dstOffset + 21] = (w13 >>> 8) & mask;
+    dst[dstOffset + 22] = ((w13 >>> 48) | (w14 << 16)) & mask;
+    dst[dstOffset + 23] = w14 >>> 24;
+    dst[dstOffset + 24] = w15 & mask;
+    dst[dstOffset + 25] = ((w15 >>> 40) | (w16 << 24)) & mask;
+    dst[dstOffset + 26] = (w16 >>> 16) & mask;
+    dst[dstOffset + 27] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 28] = ((w17 >>> 32) | (w18 << 32)) & mask;
+    dst[dstOffset + 29] = (w18 >>> 8) & mask;
+    dst[dstOffset + 30] = ((w18 >>> 48) | (w19 << 16)) & mask;
+    dst[dstOffset + 31] = w19 >>> 24;
+    dst[dstOffset + 32] = w20 & mask;
+    dst[dstOffset + 33] = ((w20 >>> 40) | (w21 << 24)) & mask;
+    dst[dstOffset + 34] = (w21 >>> 16) & mask;
+    dst[dstOffset + 35] = ((w21 >>> 56) | (w22 << 8)) & mask;
+    dst[dstOffset + 36] = ((w22 >>> 32) | (w23 << 32)) & mask;
+    dst[dstOffset + 37] = (w23 >>> 8) & mask;
+    dst[dstOffset + 38] = ((w23 >>> 48) | (w24 << 16)) & mask;
+    dst[dstOffset + 39] = w24 >>> 24;
+    dst[dstOffset + 40] = w25 & mask;
+    dst[dstOffset + 41] = ((w25 >>> 40) | (w26 << 24)) & mask;
+    dst[dstOffset + 42] = (w26 >>> 16) & mask;
+    dst[dstOffset + 43] = ((w26 >>> 56) | (w27 << 8)) & mask;
+    dst[dstOffset + 44] = ((w27 >>> 32) | (w28 << 32)) & mask;
+    dst[dstOffset + 45] = (w28 >>> 8) & mask;
+    dst[dstOffset + 46] = ((w28 >>> 48) | (w29 << 16)) & mask;
+    dst[dstOffset + 47] = w29 >>> 24;
+    dst[dstOffset + 48] = w30 & mask;
+    dst[dstOffset + 49] = ((w30 >>> 40) | (w31 << 24)) & mask;
+    dst[dstOffset + 50] = (w31 >>> 16) & mask;
+    dst[dstOffset + 51] = ((w31 >>> 56) | (w32 << 8)) & mask;
+    dst[dstOffset + 52] = ((w32 >>> 32) | (w33 << 32)) & mask;
+    dst[dstOffset + 53] = (w33 >>> 8) & mask;
+    dst[dstOffset + 54] = ((w33 >>> 48) | (w34 << 16)) & mask;
+    dst[dstOffset + 55] = w34 >>> 24;
+    dst[dstOffset + 56] = w35 & mask;
+    dst[dstOffset + 57] = ((w35 >>> 40) | (w36 << 24)) & mask;
+    dst[dstOffset + 58] = (w36 >>> 16) & mask;
+    dst[dstOffset + 59] = ((w36 >>> 56) | (w37 << 8)) & mask;
+    dst[dstOffset + 60] = ((w37 >>> 32) | (w38 << 32)) & mask;
+    dst[dstOffset + 61] = (w38 >>> 8) & mask;
+    dst[dstOffset + 62] = ((w38 >>> 48) | (w39 << 16)) & mask;
+    dst[dstOffset + 63] = w39 >>> 24;
+  }
+}
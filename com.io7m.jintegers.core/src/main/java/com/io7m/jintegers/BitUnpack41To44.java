@@ -0,0 +1,1007 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 41 to 44.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack41To44
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack41To44()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 41 -> unpack41(src, index, base, dst, dstOffset);
+      case 42 -> unpack42(src, index, base, dst, dstOffset);
+      case 43 -> unpack43(src, index, base, dst, dstOffset);
+      case 44 -> unpack44(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 41 -> unpack41(src, srcOffset, dst, dstOffset);
+      case 42 -> unpack42(src, srcOffset, dst, dstOffset);
+      case 43 -> unpack43(src, srcOffset, dst, dstOffset);
+      case 44 -> unpack44(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack41(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 41) | (w1 << 23)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 18) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 59) | (w2 << 5)) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 36) | (w3 << 28)) & mask) + base;
+    dst[dstOffset + 5] = ((w3 >>> 13) & mask) + base;
+    dst[dstOffset + 6] = (((w3 >>> 54) | (w4 << 10)) & mask) + base;
+    dst[dstOffset + 7] = (((w4 >>> 31) | (w5 << 33)) & mask) + base;
+    dst[dstOffset + 8] = ((w5 >>> 8) & mask) + base;
+    dst[dstOffset + 9] = (((w5 >>> 49) | (w6 << 15)) & mask) + base;
+    dst[dstOffset + 10] = (((w6 >>> 26) | (w7 << 38)) & mask) + base;
+    dst[dstOffset + 11] = ((w7 >>> 3) & mask) + base;
+    dst[dstOffset + 12] = (((w7 >>> 44) | (w8 << 20)) & mask) + base;
+    dst[dstOffset + 13] = ((w8 >>> 21) & mask) + base;
+    dst[dstOffset + 14] = (((w8 >>> 62) | (w9 << 2)) & mask) + base;
+    dst[dstOffset + 15] = (((w9 >>> 39) | (w10 << 25)) & mask) + base;
+    dst[dstOffset + 16] = ((w10 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = (((w10 >>> 57) | (w11 << 7)) & mask) + base;
+    dst[dstOffset + 18] = (((w11 >>> 34) | (w12 << 30)) & mask) + base;
+    dst[dstOffset + 19] = ((w12 >>> 11) & mask) + base;
+    dst[dstOffset + 20] = (((w12 >>> 52) | (w13 << 12)) & mask) + base;
+    dst[dstOffset + 21] = (((w13 >>> 29) | (w14 << 35)) & mask) + base;
+    dst[dstOffset + 22] = ((w14 >>> 6) & mask) + base;
+    dst[dstOffset + 23] = (((w14 >>> 47) | (w15 << 17)) & mask) + base;
+    dst[dstOffset + 24] = (((w15 >>> 24) | (w16 << 40)) & mask) + base;
+    dst[dstOffset + 25] = ((w16 >>> 1) & mask) + base;
+    dst[dstOffset + 26] = (((w16 >>> 42) | (w17 << 22)) & mask) + base;
+    dst[dstOffset + 27] = ((w17 >>> 19) & mask) + base;
+    dst[dstOffset + 28] = (((w17 >>> 60) | (w18 << 4)) & mask) + base;
+    dst[dstOffset + 29] = (((w18 >>> 37) | (w19 << 27)) & mask) + base;
+    dst[dstOffset + 30] = ((w19 >>> 14) & mask) + base;
+    dst[dstOffset + 31] = (((w19 >>> 55) | (w20 << 9)) & mask) + base;
+    dst[dstOffset + 32] = (((w20 >>> 32) | (w21 << 32)) & mask) + base;
+    dst[dstOffset + 33] = ((w21 >>> 9) & mask) + base;
+    dst[dstOffset + 34] = (((w21 >>> 50) | (w22 << 14)) & mask) + base;
+    dst[dstOffset + 35] = (((w22 >>> 27) | (w23 << 37)) & mask) + base;
+    dst[dstOffset + 36] = ((w23 >>> 4) & mask) + base;
+    dst[dstOffset + 37] = (((w23 >>> 45) | (w24 << 19)) & mask) + base;
+    dst[dstOffset + 38] = ((w24 >>> 22) & mask) + base;
+    dst[dstOffset + 39] = (((w24 >>> 63) | (w25 << 1)) & mask) + base;
+    dst[dstOffset + 40] = (((w25 >>> 40) | (w26 << 24)) & mask) + base;
+    dst[dstOffset + 41] = ((w26 >>> 17) & mask) + base;
+    dst[dstOffset + 42] = (((w26 >>> 58) | (w27 << 6)) & mask) + base;
+    dst[dstOffset + 43] = (((w27 >>> 35) | (w28 << 29)) & mask) + base;
+    dst[dstOffset + 44] = ((w28 >>> 12) & mask) + base;
+    dst[dstOffset + 45] = (((w28 >>> 53) | (w29 << 11)) & mask) + base;
+    dst[dstOffset + 46] = (((w29 >>> 30) | (w30 << 34)) & mask) + base;
+    dst[dstOffset + 47] = ((w30 >>> 7) & mask) + base;
+    dst[dstOffset + 48] = (((w30 >>> 48) | (w31 << 16)) & mask) + base;
+    dst[dstOffset + 49] = (((w31 >>> 25) | (w32 << 39)) & mask) + base;
+    dst[dstOffset + 50] = ((w32 >>> 2) & mask) + base;
+    dst[dstOffset + 51] = (((w32 >>> 43) | (w33 << 21)) & mask) + base;
+    dst[dstOffset + 52] = ((w33 >>> 20) & mask) + base;
+    dst[dstOffset + 53] = (((w33 >>> 61) | (w34 << 3)) & mask) + base;
+    dst[dstOffset + 54] = (((w34 >>> 38) | (w35 << 26)) & mask) + base;
+    dst[dstOffset + 55] = ((w35 >>> 15) & mask) + base;
+    dst[dstOffset + 56] = (((w35 >>> 56) | (w36 << 8)) & mask) + base;
+    dst[dstOffset + 57] = (((w36 >>> 33) | (w37 << 31)) & mask) + base;
+    dst[dstOffset + 58] = ((w37 >>> 10) & mask) + base;
+    dst[dstOffset + 59] = (((w37 >>> 51) | (w38 << 13)) & mask) + base;
+    dst[dstOffset + 60] = (((w38 >>> 28) | (w39 << 36)) & mask) + base;
+    dst[dstOffset + 61] = ((w39 >>> 5) & mask) + base;
+    dst[dstOffset + 62] = (((w39 >>> 46) | (w40 << 18)) & mask) + base;
+    dst[dstOffset + 63] = (w40 >>> 23) + base;
+  }
+
+  private static void unpack41(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 41) | (w1 << 23)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 18) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 59) | (w2 << 5)) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 36) | (w3 << 28)) & mask;
+    dst[dstOffset + 5] = (w3 >>> 13) & mask;
+    dst[dstOffset + 6] = ((w3 >>> 54) | (w4 << 10)) & mask;
+    dst[dstOffset + 7] = ((w4 >>> 31) | (w5 << 33)) & mask;
+    dst[dstOffset + 8] = (w5 >>> 8) & mask;
+    dst[dstOffset + 9] = ((w5 >>> 49) | (w6 << 15)) & mask;
+    dst[dstOffset + 10] = ((w6 >>> 26) | (w7 << 38)) & mask;
+    dst[dstOffset + 11] = (w7 >>> 3) & mask;
+    dst[dstOffset + 12] = ((w7 >>> 44) | (w8 << 20)) & mask;
+    dst[dstOffset + 13] = (w8 >>> 21) & mask;
+    dst[dstOffset + 14] = ((w8 >>> 62) | (w9 << 2)) & mask;
+    dst[dstOffset + 15] = ((w9 >>> 39) | (w10 << 25)) & mask;
+    dst[dstOffset + 16] = (w10 >>> 16) & mask;
+    dst[dstOffset + 17] = ((w10 >>> 57) | (w11 << 7)) & mask;
+    dst[dstOffset + 18] = ((w11 >>> 34) | (w12 << 30)) & mask;
+    dst[dstOffset + 19] = (w12 >>> 11) & mask;
+    dst[dstOffset + 20] = ((w12 >>> 52) | (w13 << 12)) & mask;
+    dst[dstOffset + 21] = ((w13 >>> 29) | (w14 << 35)) & mask;
+    dst[dstOffset + 22] = (w14 >>> 6) & mask;
+    dst[dstOffset + 23] = ((w14 >>> 47) | (w15 << 17)) & mask;
+    dst[dstOffset + 24] = ((w15 >>> 24) | (w16 << 40)) & mask;
+    dst[dstOffset + 25] = (w16 >>> 1) & mask;
+    dst[dstOffset + 26] = ((w16 >>> 42) | (w17 << 22)) & mask;
+    dst[dstOffset + 27] = (w17 >>> 19) & mask;
+    dst[dstOffset + 28] = ((w17 >>> 60) | (w18 << 4)) & mask;
+    dst[dstOffset + 29] = ((w18 >>> 37) | (w19 << 27)) & mask;
+    dst[dstOffset + 30] = (w19 >>> 14) & mask;
+    dst[dstOffset + 31] = ((w19 >>> 55) | (w20 << 9)) & mask;
+    dst[dstOffset + 32] = ((w20 >>> 32) | (w21 << 32)) & mask;
+    dst[dstOffset + 33] = (w21 >>> 9) & mask;
+    dst[dstOffset + 34] = ((w21 >>> 50) | (w22 << 14)) & mask;
+    dst[dstOffset + 35] = ((w22 >>> 27) | (w23 << 37)) & mask;
+    dst[dstOffset + 36] = (w23 >>> 4) & mask;
+    dst[dstOffset + 37] = ((w23 >>> 45) | (w24 << 19)) & mask;
+    dst[dstOffset + 38] = (w24 >>> 22) & mask;
+    dst[dstOffset + 39] = ((w24 >>> 63) | (w25 << 1)) & mask;
+    dst[dstOffset + 40] = ((w25 >>> 40) | (w26 << 24)) & mask;
+    dst[dstOffset + 41] = (w26 >>> 17) & mask;
+    dst[dstOffset + 42] = ((w26 >>> 58) | (w27 << 6)) & mask;
+    dst[dstOffset + 43] = ((w27 >>> 35) | (w28 << 29)) & mask;
+    dst[dstOffset + 44] = (w28 >>> 12) & mask;
+    dst[dstOffset + 45] = ((w28 >>> 53) | (w29 << 11)) & mask;
+    dst[dstOffset + 46] = ((w29 >>> 30) | (w30 << 34)) & mask;
+    dst[dstOffset + 47] = (w30 >>> 7) & mask;
+    dst[dstOffset + 48] = ((w30 >>> 48) | (w31 << 16)) & mask;
+    dst[dstOffset + 49] = ((w31 >>> 25) | (w32 << 39)) & mask;
+    dst[dstOffset + 50] = (w32 >>> 2) & mask;
+    dst[dstOffset + 51] = ((w32 >>> 43) | (w33 << 21)) & mask;
+    dst[dstOffset + 52] = (w33 >>> 20) & mask;
+    dst[dstOffset + 53] = ((w33 >>> 61) | (w34 << 3)) & mask;
+    dst[dstOffset + 54] = ((w34 >>> 38) | (w35 << 26)) & mask;
+    dst[dstOffset + 55] = (w35 >>> 15) & mask;
+    dst[dstOffset + 56] = ((w35 >>> 56) | (w36 << 8)) & mask;
+    dst[dstOffset + 57] = ((w36 >>> 33) | (w37 << 31)) & mask;
+    dst[dstOffset + 58] = (w37 >>> 10) & mask;
+    dst[dstOffset + 59] = ((w37 >>> 51) | (w38 << 13)) & mask;
+    dst[dstOffset + 60] = ((w38 >>> 28) | (w39 << 36)) & mask;
+    dst[dstOffset + 61] = (w39 >>> 5) & mask;
+    dst[dstOffset + 62] = ((w39 >>> 46) | (w40 << 18)) & mask;
+    dst[dstOffset + 63] = w40 >>> 23;
+  }
+
+  private static void unpack42(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 42) | (w1 << 22)) & mask) + base;
+    dst[dstOffset + 2] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 3] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 40) | (w3 << 24)) & mask) + base;
+    dst[dstOffset + 5] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 6] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 7] = (((w4 >>> 38) | (w5 << 26)) & mask) + base;
+    dst[dstOffset + 8] = ((w5 >>> 16) & mask) + base;
+    dst[dstOffset + 9] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 10] = (((w6 >>> 36) | (w7 << 28)) & mask) + base;
+    dst[dstOffset + 11] = ((w7 >>> 14) & mask) + base;
+    dst[dstOffset + 12] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 13] = (((w8 >>> 34) | (w9 << 30)) & mask) + base;
+    dst[dstOffset + 14] = ((w9 >>> 12) & mask) + base;
+    dst[dstOffset + 15] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 16] = (((w10 >>> 32) | (w11 << 32)) & mask) + base;
+    dst[dstOffset + 17] = ((w11 >>> 10) & mask) + base;
+    dst[dstOffset + 18] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 19] = (((w12 >>> 30) | (w13 << 34)) & mask) + base;
+    dst[dstOffset + 20] = ((w13 >>> 8) & mask) + base;
+    dst[dstOffset + 21] = (((w13 >>> 50) | (w14 << 14)) & mask) + base;
+    dst[dstOffset + 22] = (((w14 >>> 28) | (w15 << 36)) & mask) + base;
+    dst[dstOffset + 23] = ((w15 >>> 6) & mask) + base;
+    dst[dstOffset + 24] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 25] = (((w16 >>> 26) | (w17 << 38)) & mask) + base;
+    dst[dstOffset + 26] = ((w17 >>> 4) & mask) + base;
+    dst[dstOffset + 27] = (((w17 >>> 46) | (w18 << 18)) & mask) + base;
+    dst[dstOffset + 28] = (((w18 >>> 24) | (w19 << 40)) & mask) + base;
+    dst[dstOffset + 29] = ((w19 >>> 2) & mask) + base;
+    dst[dstOffset + 30] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 31] = (w20 >>> 22) + base;
+    dst[dstOffset + 32] = (w21 & mask) + base;
+    dst[dstOffset + 33] = (((w21 >>> 42) | (w22 << 22)) & mask) + base;
+    dst[dstOffset + 34] = ((w22 >>> 20) & mask) + base;
+    dst[dstOffset + 35] = (((w22 >>> 62) | (w23 << 2)) & mask) + base;
+    dst[dstOffset + 36] = (((w23 >>> 40) | (w24 << 24)) & mask) + base;
+    dst[dstOffset + 37] = ((w24 >>> 18) & mask) + base;
+    dst[dstOffset + 38] = (((w24 >>> 60) | (w25 << 4)) & mask) + base;
+    dst[dstOffset + 39] = (((w25 >>> 38) | (w26 << 26)) & mask) + base;
+    dst[dstOffset + 40] = ((w26 >>> 16) & mask) + base;
+    dst[dstOffset + 41] = (((w26 >>> 58) | (w27 << 6)) & mask) + base;
+    dst[dstOffset + 42] = (((w27 >>> 36) | (w28 << 28)) & mask) + base;
+    dst[dstOffset + 43] = ((w28 >>> 14) & mask) + base;
+    dst[dstOffset + 44] = (((w28 >>> 56) | (w29 << 8)) & mask) + base;
+    dst[dstOffset + 45] = (((w29 >>> 34) | (w30 << 30)) & mask) + base;
+    dst[dstOffset + 46] = ((w30 >>> 12) & mask) + base;
+    dst[dstOffset + 47] = (((w30 >>> 54) | (w31 << 10)) & mask) + base;
+    dst[dstOffset + 48] = (((w31 >>> 32) | (w32 << 32)) & mask) + base;
+    dst[dstOffset + 49] = ((w32 >>> 10) & mask) + base;
+    dst[dstOffset + 50] = (((w32 >>> 52) | (w33 << 12)) & mask) + base;
+    dst[dstOffset + 51] = (((w33 >>> 30) | (w34 << 34)) & mask) + base;
+    dst[dstOffset + 52] = ((w34 >>> 8) & mask) + base;
+    dst[dstOffset + 53] = (((w34 >>> 50) | (w35 << 14)) & mask) + base;
+    dst[dstOffset + 54] = (((w35 >>> 28) | (w36 << 36)) & mask) + base;
+    dst[dstOffset + 55] = ((w36 >>> 6) & mask) + base;
+    dst[dstOffset + 56] = (((w36 >>> 48) | (w37 << 16)) & mask) + base;
+    dst[dstOffset + 57] = (((w37 >>> 26) | (w38 << 38)) & mask) + base;
+    dst[dstOffset + 58] = ((w38 >>> 4) & mask) + base;
+    dst[dstOffset + 59] = (((w38 >>> 46) | (w39 << 18)) & mask) + base;
+    dst[dstOffset + 60] = (((w39 >>> 24) | (w40 << 40)) & mask) + base;
+    dst[dstOffset + 61] = ((w40 >>> 2) & mask) + base;
+    dst[dstOffset + 62] = (((w40 >>> 44) | (w41 << 20)) & mask) + base;
+    dst[dstOffset + 63] = (w41 >>> 22) + base;
+  }
+
+  private static void unpack42(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 42) | (w1 << 22)) & mask;
+    dst[dstOffset + 2] = (w1 >>> 20) & mask;
+    dst[dstOffset + 3] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 40) | (w3 << 24)) & mask;
+    dst[dstOffset + 5] = (w3 >>> 18) & mask;
+    dst[dstOffset + 6] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 7] = ((w4 >>> 38) | (w5 << 26)) & mask;
+    dst[dstOffset + 8] = (w5 >>> 16) & mask;
+    dst[dstOffset + 9] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 10] = ((w6 >>> 36) | (w7 << 28)) & mask;
+    dst[dstOffset + 11] = (w7 >>> 14) & mask;
+    dst[dstOffset + 12] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 13] = ((w8 >>> 34) | (w9 << 30)) & mask;
+    dst[dstOffset + 14] = (w9 >>> 12) & mask;
+    dst[dstOffset + 15] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 16] = ((w10 >>> 32) | (w11 << 32)) & mask;
+    dst[dstOffset + 17] = (w11 >>> 10) & mask;
+    dst[dstOffset + 18] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 19] = ((w12 >>> 30) | (w13 << 34)) & mask;
+    dst[dstOffset + 20] = (w13 >>> 8) & mask;
+    dst[dstOffset + 21] = ((w13 >>> 50) | (w14 << 14)) & mask;
+    dst[dstOffset + 22] = ((w14 >>> 28) | (w15 << 36)) & mask;
+    dst[dstOffset + 23] = (w15 >>> 6) & mask;
+    dst[dstOffset + 24] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 25] = ((w16 >>> 26) | (w17 << 38)) & mask;
+    dst[dstOffset + 26] = (w17 >>> 4) & mask;
+    dst[dstOffset + 27] = ((w17 >>> 46) | (w18 << 18)) & mask;
+    dst[dstOffset + 28] = ((w18 >>> 24) | (w19 << 40)) & mask;
+    dst[dstOffset + 29] = (w19 >>> 2) & mask;
+    dst[dstOffset + 30] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 31] = w20 >>> 22;
+    dst[dstOffset + 32] = w21 & mask;
+    dst[dstOffset + 33] = ((w21 >>> 42) | (w22 << 22)) & mask;
+    dst[dstOffset + 34] = (w22 >>> 20) & mask;
+    dst[dstOffset + 35] = ((w22 >>> 62) | (w23 << 2)) & mask;
+    dst[dstOffset + 36] = ((w23 >>> 40) | (w24 << 24)) & mask;
+    dst[dstOffset + 37] = (w24 >>> 18) & mask;
+    dst[dstOffset + 38] = ((w24 >>> 60) | (w25 << 4)) & mask;
+    dst[dstOffset + 39] = ((w25 >>> 38) | (w26 << 26)) & mask;
+    dst[dstOffset + 40] = (w26 >>> 16) & mask;
+    dst[dstOffset + 41] = ((w26 >>> 58) | (w27 << 6)) & mask;
+    dst[dstOffset + 42] = ((w27 >>> 36) | (w28 << 28)) & mask;
+    dst[dstOffset + 43] = (w28 >>> 14) & mask;
+    dst[dstOffset + 44] = ((w28 >>> 56) | (w29 << 8)) & mask;
+    dst[dstOffset + 45] = ((w29 >>> 34) | (w30 << 30)) & mask;
+    dst[dstOffset + 46] = (w30 >>> 12) & mask;
+    dst[dstOffset + 47] = ((w30 >>> 54) | (w31 << 10)) & mask;
+    dst[dstOffset + 48] = ((w31 >>> 32) | (w32 << 32)) & mask;
+    dst[dstOffset + 49] = (w32 >>> 10) & mask;
+    dst[dstOffset + 50] = ((w32 >>> 52) | (w33 << 12)) & mask;
+    dst[dstOffset + 51] = ((w33 >>> 30) | (w34 << 34)) & mask;
+    dst[dstOffset + 52] = (w34 >>> 8) & mask;
+    dst[dstOffset + 53] = ((w34 >>> 50) | (w35 << 14)) & mask;
+    dst[dstOffset + 54] = ((w35 >>> 28) | (w36 << 36)) & mask;
+    dst[dstOffset + 55] = (w36 >>> 6) & mask;
+    dst[dstOffset + 56] = ((w36 >>> 48) | (w37 << 16)) & mask;
+    dst[dstOffset + 57] = ((w37 >>> 26) | (w38 << 38)) & mask;
+    dst[dstOffset + 58] = (w38 >>> 4) & mask;
+    dst[dstOffset + 59] = ((w38 >>> 46) | (w39 << 18)) & mask;
+    dst[dstOffset + 60] = ((w39 >>> 24) | (w40 << 40)) & mask;
+    dst[dstOffset + 61] = (w40 >>> 2) & mask;
+    dst[dstOffset + 62] = ((w40 >>> 44) | (w41 << 20)) & mask;
+    dst[dstOffset + 63] = w41 >>> 22;
+  }
+
+  private static void unpack43(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 43) | (w1 << 21)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 22) | (w2 << 42)) & mask) + base;
+    dst[dstOffset + 3] = ((w2 >>> 1) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 44) | (w3 << 20)) & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 23) | (w4 << 41)) & mask) + base;
+    dst[dstOffset + 6] = ((w4 >>> 2) & mask) + base;
+    dst[dstOffset + 7] = (((w4 >>> 45) | (w5 << 19)) & mask) + base;
+    dst[dstOffset + 8] = (((w5 >>> 24) | (w6 << 40)) & mask) + base;
+    dst[dstOffset + 9] = ((w6 >>> 3) & mask) + base;
+    dst[dstOffset + 10] = (((w6 >>> 46) | (w7 << 18)) & mask) + base;
+    dst[dstOffset + 11] = (((w7 >>> 25) | (w8 << 39)) & mask) + base;
+    dst[dstOffset + 12] = ((w8 >>> 4) & mask) + base;
+    dst[dstOffset + 13] = (((w8 >>> 47) | (w9 << 17)) & mask) + base;
+    dst[dstOffset + 14] = (((w9 >>> 26) | (w10 << 38)) & mask) + base;
+    dst[dstOffset + 15] = ((w10 >>> 5) & mask) + base;
+    dst[dstOffset + 16] = (((w10 >>> 48) | (w11 << 16)) & mask) + base;
+    dst[dstOffset + 17] = (((w11 >>> 27) | (w12 << 37)) & mask) + base;
+    dst[dstOffset + 18] = ((w12 >>> 6) & mask) + base;
+    dst[dstOffset + 19] = (((w12 >>> 49) | (w13 << 15)) & mask) + base;
+    dst[dstOffset + 20] = (((w13 >>> 28) | (w14 << 36)) & mask) + base;
+    dst[dstOffset + 21] = ((w14 >>> 7) & mask) + base;
+    dst[dstOffset + 22] = (((w14 >>> 50) | (w15 << 14)) & mask) + base;
+    dst[dstOffset + 23] = (((w15 >>> 29) | (w16 << 35)) & mask) + base;
+    dst[dstOffset + 24] = ((w16 >>> 8) & mask) + base;
+    dst[dstOffset + 25] = (((w16 >>> 51) | (w17 << 13)) & mask) + base;
+    dst[dstOffset + 26] = (((w17 >>> 30) | (w18 << 34)) & mask) + base;
+    dst[dstOffset + 27] = ((w18 >>> 9) & mask) + base;
+    dst[dstOffset + 28] = (((w18 >>> 52) | (w19 << 12)) & mask) + base;
+    dst[dstOffset + 29] = (((w19 >>> 31) | (w20 << 33)) & mask) + base;
+    dst[dstOffset + 30] = ((w20 >>> 10) & mask) + base;
+    dst[dstOffset + 31] = (((w20 >>> 53) | (w21 << 11)) & mask) + base;
+    dst[dstOffset + 32] = (((w21 >>> 32) | (w22 << 32)) & mask) + base;
+    dst[dstOffset + 33] = ((w22 >>> 11) & mask) + base;
+    dst[dstOffset + 34] = (((w22 >>> 54) | (w23 << 10)) & mask) + base;
+    dst[dstOffset + 35] = (((w23 >>> 33) | (w24 << 31)) & mask) + base;
+    dst[dstOffset + 36] = ((w24 >>> 12) & mask) + base;
+    dst[dstOffset + 37] = (((w24 >>> 55) | (w25 << 9)) & mask) + base;
+    dst[dstOffset + 38] = (((w25 >>> 34) | (w26 << 30)) & mask) + base;
+    dst[dstOffset + 39] = ((w26 >>> 13) & mask) + base;
+    dst[dstOffset + 40] = (((w26 >>> 56) | (w27 << 8)) & mask) + base;
+    dst[dstOffset + 41] = (((w27 >>> 35) | (w28 << 29)) & mask) + base;
+    dst[dstOffset + 42] = ((w28 >>> 14) & mask) + base;
+    dst[dstOffset + 43] = (((w28 >>> 57) | (w29 << 7)) & mask) + base;
+    dst[dstOffset + 44] = (((w29 >>> 36) | (w30 << 28)) & mask) + base;
+    dst[dstOffset + 45] = ((w30 >>> 15) & mask) + base;
+    dst[dstOffset + 46] = (((w30 >>> 58) | (w31 << 6)) & mask) + base;
+    dst[dstOffset + 47] = (((w31 >>> 37) | (w32 << 27)) & mask) + base;
+    dst[dstOffset + 48] = ((w32 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = (((w32 >>> 59) | (w33 << 5)) & mask) + base;
+    dst[dstOffset + 50] = (((w33 >>> 38) | (w34 << 26)) & mask) + base;
+    dst[dstOffset + 51] = ((w34 >>> 17) & mask) + base;
+    dst[dstOffset + 52] = (((w34 >>> 60) | (w35 << 4)) & mask) + base;
+    dst[dstOffset + 53] = (((w35 >>> 39) | (w36 << 25)) & mask) + base;
+    dst[dstOffset + 54] = ((w36 >>> 18) & mask) + base;
+    dst[dstOffset + 55] = (((w36 >>> 61) | (w37 << 3)) & mask) + base;
+    dst[dstOffset + 56] = (((w37 >>> 40) | (w38 << 24)) & mask) + base;
+    dst[dstOffset + 57] = ((w38 >>> 19) & mask) + base;
+    dst[dstOffset + 58] = (((w38 >>> 62) | (w39 << 2)) & mask) + base;
+    dst[dstOffset + 59] = (((w39 >>> 41) | (w40 << 23)) & mask) + base;
+    dst[dstOffset + 60] = ((w40 >>> 20) & mask) + base;
+    dst[dstOffset + 61] = (((w40 >>> 63) | (w41 << 1)) & mask) + base;
+    dst[dstOffset + 62] = (((w41 >>> 42) | (w42 << 22)) & mask) + base;
+    dst[dstOffset + 63] = (w42 >>> 21) + base;
+  }
+
+  private static void unpack43(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 43) | (w1 << 21)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 22) | (w2 << 42)) & mask;
+    dst[dstOffset + 3] = (w2 >>> 1) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 44) | (w3 << 20)) & mask;
+    dst[dstOffset + 5] = ((w3 >>> 23) | (w4 << 41)) & mask;
+    dst[dstOffset + 6] = (w4 >>> 2) & mask;
+    dst[dstOffset + 7] = ((w4 >>> 45) | (w5 << 19)) & mask;
+    dst[dstOffset + 8] = ((w5 >>> 24) | (w6 << 40)) & mask;
+    dst[dstOffset + 9] = (w6 >>> 3) & mask;
+    dst[dstOffset + 10] = ((w6 >>> 46) | (w7 << 18)) & mask;
+    dst[dstOffset + 11] = ((w7 >>> 25) | (w8 << 39)) & mask;
+    dst[dstOffset + 12] = (w8 >>> 4) & mask;
+    dst[dstOffset + 13] = ((w8 >>> 47) | (w9 << 17)) & mask;
+    dst[dstOffset + 14] = ((w9 >>> 26) | (w10 << 38)) & mask;
+    dst[dstOffset + 15] = (w10 >>> 5) & mask;
+    dst[dstOffset + 16] = ((w10 >>> 48) | (w11 << 16)) & mask;
+    dst[dstOffset + 17] = ((w11 >>> 27) | (w12 << 37)) & mask;
+    dst[dstOffset + 18] = (w12 >>> 6) & mask;
+    dst[dstOffset + 19] = ((w12 >>> 49) | (w13 << 15)) & mask;
+    dst[dstOffset + 20] = ((w13 >>> 28) | (w14 << 36)) & mask;
+    dst[dstOffset + 21] = (w14 >>> 7) & mask;
+    dst[dstOffset + 22] = ((w14 >>> 50) | (w15 << 14)) & mask;
+    dst[dstOffset + 23] = ((w15 >>> 29) | (w16 << 35)) & mask;
+    dst[dstOffset + 24] = (w16 >>> 8) & mask;
+    dst[dstOffset + 25] = ((w16 >>> 51) | (w17 << 13)) & mask;
+    dst[dstOffset + 26] = ((w17 >>> 30) | (w18 << 34)) & mask;
+    dst[dstOffset + 27] = (w18 >>> 9) & mask;
+    dst[dstOffset + 28] = ((w18 >>> 52) | (w19 << 12)) & mask;
+    dst[dstOffset + 29] = ((w19 >>> 31) | (w20 << 33)) & mask;
+    dst[dstOffset + 30] = (w20 >>> 10) & mask;
+    dst[dstOffset + 31] = ((w20 >>> 53) | (w21 << 11)) & mask;
+    dst[dstOffset + 32] = ((w21 >>> 32) | (w22 << 32)) & mask;
+    dst[dstOffset + 33] = (w22 >>> 11) & mask;
+    dst[dstOffset + 34] = ((w22 >>> 54) | (w23 << 10)) & mask;
+    dst[dstOffset + 35] = ((w23 >>> 33) | (w24 << 31)) & mask;
+    dst[dstOffset + 36] = (w24 >>> 12) & mask;
+    dst[dstOffset + 37] = ((w24 >>> 55) | (w25 << 9)) & mask;
+    dst[dstOffset + 38] = ((w25 >>> 34) | (w26 << 30)) & mask;
+    dst[dstOffset + 39] = (w26 >>> 13) & mask;
+    dst[dstOffset + 40] = ((w26 >>> 56) | (w27 << 8)) & mask;
+    dst[dstOffset + 41] = ((w27 >>> 35) | (w28 << 29)) & mask;
+    dst[dstOffset + 42] = (w28 >>> 14) & mask;
+    dst[dstOffset + 43] = ((w28 >>> 57) | (w29 << 7)) & mask;
+    dst[dstOffset + 44] = ((w29 >>> 36) | (w30 << 28)) & mask;
+    dst[dstOffset + 45] = (w30 >>> 15) & mask;
+    dst[dstOffset + 46] = ((w30 >>> 58) | (w31 << 6)) & mask;
+    dst[dstOffset + 47] = ((w31 >>> 37) | (w32 << 27)) & mask;
+    dst[dstOffset + 48] = (w32 >>> 16) & mask;
+    dst[dstOffset + 49] = ((w32 >>> 59) | (w33 << 5)) & mask;
+    dst[dstOffset + 50] = ((w33 >>> 38) | (w34 << 26)) & mask;
+    dst[dstOffset + 51] = (w34 >>> 17) & mask;
+    dst[dstOffset + 52] = ((w34 >>> 60) | (w35 << 4)) & mask;
+    dst[dstOffset + 53] = ((w35 >>> 39) | (w36 << 25)) & mask;
+    dst[dstOffset + 54] = (w36 >>> 18) & mask;
+    dst[dstOffset + 55] = ((w36 >>> 61) | (w37 << 3)) & mask;
+    dst[dstOffset + 56] = ((w37 >>> 40) | (w38 << 24)) & mask;
+    dst[dstOffset + 57] = (w38 >>> 19) & mask;
+    dst[dstOffset + 58] = ((w38 >>> 62) | (w39 << 2)) & mask;
+    dst[dstOffset + 59] = ((w39 >>> 41) | (w40 << 23)) & mask;
+    dst[dstOffset + 60] = (w40 >>> 20) & mask;
+    dst[dstOffset + 61] = ((w40 >>> 63) | (w41 << 1)) & mask;
+    dst[dstOffset + 62] = ((w41 >>> 42) | (w42 << 22)) & mask;
+    dst[dstOffset + 63] = w42 >>> 21;
+  }
+
+  private static void unpack44(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 44) | (w1 << 20)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 24) | (w2 << 40)) & mask) + base;
+    dst[dstOffset + 3] = ((w2 >>> 4) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 48) | (w3 << 16)) & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 28) | (w4 << 36)) & mask) + base;
+    dst[dstOffset + 6] = ((w4 >>> 8) & mask) + base;
+    dst[dstOffset + 7] = (((w4 >>> 52) | (w5 << 12)) & mask) + base;
+    dst[dstOffset + 8] = (((w5 >>> 32) | (w6 << 32)) & mask) + base;
+    dst[dstOffset + 9] = ((w6 >>> 12) & mask) + base;
+    dst[dstOffset + 10] = (((w6 >>> 56) | (w7 << 8)) & mask) + base;
+    dst[dstOffset + 11] = (((w7 >>> 36) | (w8 << 28)) & mask) + base;
+    dst[dstOffset + 12] = ((w8 >>> 16) & mask) + base;
+    dst[dstOffset + 13] = (((w8 >>> 60) | (w9 << 4)) & mask) + base;
+    dst[dstOffset + 14] = (((w9 >>> 40) | (w10 << 24)) & mask) + base;
+    dst[dstOffset + 15] = (w10 >>> 20) + base;
+    dst[dstOffset + 16] = (w11 & mask) + base;
+    dst[dstOffset + 17] = (((w11 >>> 44) | (w12 << 20)) & mask) + base;
+    dst[dstOffset + 18] = (((w12 >>> 24) | (w13 << 40)) & mask) + base;
+    dst[dstOffset + 19] = ((w13 >>> 4) & mask) + base;
+    dst[dstOffset + 20] = (((w13 >>> 48) | (w14 << 16)) & mask) + base;
+    dst[dstOffset + 21] = (((w14 >>> 28) | (w15 << 36)) & mask) + base;
+    dst[dstOffset + 22] = ((w15 >>> 8) & mask) + base;
+    dst[dstOffset + 23] = (((w15 >>> 52) | (w16 << 12)) & mask) + base;
+    dst[dstOffset + 24] = (((w16 >>> 32) | (w17 << 32)) & mask) + base;
+    dst[dstOffset + 25] = ((w17 >>> 12) & mask) + base;
+    dst[dstOffset + 26] = (((w17 >>> 56) | (w18 << 8)) & mask) + base;
+    dst[dstOffset + 27] = (((w18 >>> 36) | (w19 << 28)) & mask) + base;
+    dst[dstOffset + 28] = ((w19 >>> 16) & mask) + base;
+    dst[dstOffset + 29] = (((w19 >>> 60) | (w20 << 4)) & mask) + base;
+    dst[dstOffset + 30] = (((w20 >>> 40) | (w21 << 24)) & mask) + base;
+    dst[dstOffset + 31] = (w21 >>> 20) + base;
+    dst[dstOffset + 32] = (w22 & mask) + base;
+    dst[dstOffset + 33] = (((w22 >>> 44) | (w23 << 20)) & mask) + base;
+    dst[dstOffset + 34] = (((w23 >>> 24) | (w24 << 40)) & mask) + base;
+    dst[dstOffset + 35] = ((w24 >>> 4) & mask) + base;
+    dst[dstOffset + 36] = (((w24 >>> 48) | (w25 << 16)) & mask) + base;
+    dst[dstOffset + 37] = (((w25 >>> 28) | (w26 << 36)) & mask) + base;
+    dst[dstOffset + 38] = ((w26 >>> 8) & mask) + base;
+    dst[dstOffset + 39] = (((w26 >>> 52) | (w27 << 12)) & mask) + base;
+    dst[dstOffset + 40] = (((w27 >>> 32) | (w28 << 32)) & mask) + base;
+    dst[dstOffset + 41] = ((w28 >>> 12) & mask) + base;
+    dst[dstOffset + 42] = (((w28 >>> 56) | (w29 << 8)) & mask) + base;
+    dst[dstOffset + 43] = (((w29 >>> 36) | (w30 << 28)) & mask) + base;
+    dst[dstOffset + 44] = ((w30 >>> 16) & mask) + base;
+    dst[dstOffset + 45] = (((w30 >>> 60) | (w31 << 4)) & mask) + base;
+    dst[dstOffset + 46] = (((w31 >>> 40) | (w32 << 24)) & mask) + base;
+    dst[dstOffset + 47] = (w32 >>> 20) + base;
+    dst[dstOffset + 48] = (w33 & mask) + base;
+    dst[dstOffset + 49] = (((w33 >>> 44) | (w34 << 20)) & mask) + base;
+    dst[dstOffset + 50] = (((w34 >>> 24) | (w35 << 40)) & mask) + base;
+    dst[dstOffset + 51] = ((w35 >>> 4) & mask) + base;
+    dst[dstOffset + 52] = (((w35 >>> 48) | (w36 << 16)) & mask) + base;
+    dst[dstOffset + 53] = (((w36 >>> 28) | (w37 << 36)) & mask) + base;
+    dst[dstOffset + 54] = ((w37 >>> 8) & mask) + base;
+    dst[dstOffset + 55] = (((w37 >>> 52) | (w38 << 12)) & mask) + base;
+    dst[dstOffset + 56] = (((w38 >>> 32) | (w39 << 32)) & mask) + base;
+    dst[dstOffset + 57] = ((w39 >>> 12) & mask) + base;
+    dst[dstOffset + 58] = (((w39 >>> 56) | (w40 << 8)) & mask) + base;
+    dst[dstOffset + 59] = (((w40 >>> 36) | (w41 << 28)) & mask) + base;
+    dst[dstOffset + 60] = ((w41 >>> 16) & mask) + base;
+    dst[dstOffset + 61] = (((w41 >>> 60) | (w42 << 4)) & mask) + base;
+    dst[dstOffset + 62] = (((w42 >>> 40) | (w43 << 24)) & mask) + base;
+    dst[dstOffset + 63] = (w43 >>> 20) + base;
+  }
+
+  private static void unpack44(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 44) | (w1 << 20)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 24) | (w2 << 40)) & mask;
+    dst[dstOffset + 3] = (w2 >>> 4) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 48) | (w3 << 16)) & mask;
+    dst[dstOffset + 5] = ((w3 >>> 28) | (w4 << 36)) & mask;
+    dst[dstOffset + 6] = (w4 >>> 8) & mask;
+    dst[dstOffset + 7] = ((w4 >>> 52) | (w5 << 12)) & mask;
+    dst[dstOffset + 8] = ((w5 >>> 32) | (w6 << 32)) & mask;
+    dst[dstOffset + 9] = (w6 >>> 12) & mask;
+    dst[dstOffset + 10] = ((w6 >>> 56) | (w7 << 8)) & mask;
+    dst[dstOffset + 11] = ((w7 >>> 36) | (w8 << 28)) & mask;
+    dst[dstOffset + 12] = (w8 >>> 16) & mask;
+    dst[dstOffset + 13] = ((w8 >>> 60) | (w9 << 4)) & mask;
+    dst[dstOffset + 14] = ((w9 >>> 40) | (w10 << 24)) & mask;
+    dst[dstOffset + 15] = w10 >>> 20;
+    dst[dstOffset + 16] = w11 & mask;
+    dst[dstOffset + 17] = ((w11 >>> 44) | (w12 << 20)) & mask;
+    dst[dstOffset + 18] = ((w12 >>> 24) | (w13 << 40)) & mask;
+    dst[dstOffset + 19] = (w13 >>> 4) & mask;
+    dst[dstOffset + 20] = ((w13 >>> 48) | (w14 << 16)) & mask;
+    dst[dstOffset + 21] = ((w14 >>> 28) | (w15 << 36)) & mask;
+    dst[dstOffset + 22] = (w15 >>> 8) & mask;
+    dst[dstOffset + 23] = ((w15 >>> 52) | (w16 << 12)) & mask;
+    dst[dstOffset + 24] = ((w16 >>> 32) | (w17 << 32)) & mask;
+    dst[dstOffset + 25] = (w17 >>> 12) & mask;
+    dst[dstOffset + 26] = ((w17 >>> 56) | (w18 << 8)) & mask;
+    dst[dstOffset + 27] = ((w18 >>> 36) | (w19 << 28)) & mask;
+    dst[dstOffset + 28] = (w19 >>> 16) & mask;
+    dst[dstOffset + 29] = ((w19 >>> 60) | (w20 << 4)) & mask;
+    dst[dstOffset + 30] = ((w20 >>> 40) | (w21 << 24)) & mask;
+    dst[dstOffset + 31] = w21 >>> 20;
+    dst[dstOffset + 32] = w22 & mask;
+    dst[dstOffset + 33] = ((w22 >>> 44) | (w23 << 20)) & mask;
+    dst[dstOffset + 34] = ((w23 >>> 24) | (w24 << 40)) & mask;
+    dst[dstOffset + 35] = (w24 >>> 4) & mask;
+    dst[dstOffset + 36] = ((w24 >>> 48) | (w25 << 16)) & mask;
+    dst[dstOffset + 37] = ((w25 >>> 28) | (w26 << 36)) & mask;
+    dst[dstOffset + 38] = (w26 >>> 8) & mask;
+    dst[dstOffset + 39] = ((w26 >>> 52) | (w27 << 12)) & mask;
+    dst[dstOffset + 40] = ((w27 >>> 32) | (w28 << 32)) & mask;
+    dst[dstOffset + 41] = (w28 >>> 12) & mask;
+    dst[dstOffset + 42] = ((w28 >>> 56) | (w29 << 8)) & mask;
+    dst[dstOffset + 43] = ((w29 >>> 36) | (w30 << 28)) & mask;
+    dst[dstOffset + 44] = (w30 >>> 16) & mask;
+    dst[dstOffset + 45] = ((w30 >>> 60) | (w31 << 4)) & mask;
+    dst[dstOffset + 46] = ((w31 >>> 40) | (w32 << 24)) & mask;
+    dst[dstOffset + 47] = w32 >>> 20;
+    dst[dstOffset + 48] = w33 & mask;
+    dst[dstOffset + 49] = ((w33 >>> 44) | (w34 << 20)) & mask;
+    dst[dstOffset + 50] = ((w34 >>> 24) | (w35 << 40)) & mask;
+    dst[dstOffset + 51] = (w35 >>> 4) & mask;
+    dst[dstOffset + 52] = ((w35 >>> 48) | (w36 << 16)) & mask;
+    dst[dstOffset + 53] = ((w36 >>> 28) | (w37 << 36)) & mask;
+    dst[dstOffset + 54] = (w37 >>> 8) & mask;
+    dst[dstOffset + 55] = ((w37 >>> 52) | (w38 << 12)) & mask;
+    dst[dstOffset + 56] = ((w38 >>> 32) | (w39 << 32)) & mask;
+    dst[dstOffset + 57] = (w39 >>> 12) & mask;
+    dst[dstOffset + 58] = ((w39 >>> 56) | (w40 << 8)) & mask;
+    dst[dstOffset + 59] = ((w40 >>> 36) | (w41 << 28)) & mask;
+    dst[dstOffset + 60] = (w41 >>> 16) & mask;
+    dst[dstOffset + 61] = ((w41 >>> 60) | (w42 << 4)) & mask;
+    dst[dstOffset + 62] = ((w42 >>> 40) | (w43 << 24)) & mask;
+    dst[dstOffset + 63] = w43 >>> 20;
+  }
+}
@@ -0,0 +1,1039 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 45 to 48.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack45To48
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack45To48()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 45 -> unpack45(src, index, base, dst, dstOffset);
+      case 46 -> unpack46(src, index, base, dst, dstOffset);
+      case 47 -> unpack47(src, index, base, dst, dstOffset);
+      case 48 -> unpack48(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 45 -> unpack45(src, srcOffset, dst, dstOffset);
+      case 46 -> unpack46(src, srcOffset, dst, dstOffset);
+      case 47 -> unpack47(src, srcOffset, dst, dstOffset);
+      case 48 -> unpack48(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack45(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 45) | (w1 << 19)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 26) | (w2 << 38)) & mask) + base;
+    dst[dstOffset + 3] = ((w2 >>> 7) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 52) | (w3 << 12)) & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 33) | (w4 << 31)) & mask) + base;
+    dst[dstOffset + 6] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 7] = (((w4 >>> 59) | (w5 << 5)) & mask) + base;
+    dst[dstOffset + 8] = (((w5 >>> 40) | (w6 << 24)) & mask) + base;
+    dst[dstOffset + 9] = (((w6 >>> 21) | (w7 << 43)) & mask) + base;
+    dst[dstOffset + 10] = ((w7 >>> 2) & mask) + base;
+    dst[dstOffset + 11] = (((w7 >>> 47) | (w8 << 17)) & mask) + base;
+    dst[dstOffset + 12] = (((w8 >>> 28) | (w9 << 36)) & mask) + base;
+    dst[dstOffset + 13] = ((w9 >>> 9) & mask) + base;
+    dst[dstOffset + 14] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 15] = (((w10 >>> 35) | (w11 << 29)) & mask) + base;
+    dst[dstOffset + 16] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = (((w11 >>> 61) | (w12 << 3)) & mask) + base;
+    dst[dstOffset + 18] = (((w12 >>> 42) | (w13 << 22)) & mask) + base;
+    dst[dstOffset + 19] = (((w13 >>> 23) | (w14 << 41)) & mask) + base;
+    dst[dstOffset + 20] = ((w14 >>> 4) & mask) + base;
+    dst[dstOffset + 21] = (((w14 >>> 49) | (w15 << 15)) & mask) + base;
+    dst[dstOffset + 22] = (((w15 >>> 30) | (w16 << 34)) & mask) + base;
+    dst[dstOffset + 23] = ((w16 >>> 11) & mask) + base;
+    dst[dstOffset + 24] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 25] = (((w17 >>> 37) | (w18 << 27)) & mask) + base;
+    dst[dstOffset + 26] = ((w18 >>> 18) & mask) + base;
+    dst[dstOffset + 27] = (((w18 >>> 63) | (w19 << 1)) & mask) + base;
+    dst[dstOffset + 28] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 29] = (((w20 >>> 25) | (w21 << 39)) & mask) + base;
+    dst[dstOffset + 30] = ((w21 >>> 6) & mask) + base;
+    dst[dstOffset + 31] = (((w21 >>> 51) | (w22 << 13)) & mask) + base;
+    dst[dstOffset + 32] = (((w22 >>> 32) | (w23 << 32)) & mask) + base;
+    dst[dstOffset + 33] = ((w23 >>> 13) & mask) + base;
+    dst[dstOffset + 34] = (((w23 >>> 58) | (w24 << 6)) & mask) + base;
+    dst[dstOffset + 35] = (((w24 >>> 39) | (w25 << 25)) & mask) + base;
+    dst[dstOffset + 36] = (((w25 >>> 20) | (w26 << 44)) & mask) + base;
+    dst[dstOffset + 37] = ((w26 >>> 1) & mask) + base;
+    dst[dstOffset + 38] = (((w26 >>> 46) | (w27 << 18)) & mask) + base;
+    dst[dstOffset + 39] = (((w27 >>> 27) | (w28 << 37)) & mask) + base;
+    dst[dstOffset + 40] = ((w28 >>> 8) & mask) + base;
+    dst[dstOffset + 41] = (((w28 >>> 53) | (w29 << 11)) & mask) + base;
+    dst[dstOffset + 42] = (((w29 >>> 34) | (w30 << 30)) & mask) + base;
+    dst[dstOffset + 43] = ((w30 >>> 15) & mask) + base;
+    dst[dstOffset + 44] = (((w30 >>> 60) | (w31 << 4)) & mask) + base;
+    dst[dstOffset + 45] = (((w31 >>> 41) | (w32 << 23)) & mask) + base;
+    dst[dstOffset + 46] = (((w32 >>> 22) | (w33 << 42)) & mask) + base;
+    dst[dstOffset + 47] = ((w33 >>> 3) & mask) + base;
+    dst[dstOffset + 48] = (((w33 >>> 48) | (w34 << 16)) & mask) + base;
+    dst[dstOffset + 49] = (((w34 >>> 29) | (w35 << 35)) & mask) + base;
+    dst[dstOffset + 50] = ((w35 >>> 10) & mask) + base;
+    dst[dstOffset + 51] = (((w35 >>> 55) | (w36 << 9)) & mask) + base;
+    dst[dstOffset + 52] = (((w36 >>> 36) | (w37 << 28)) & mask) + base;
+    dst[dstOffset + 53] = ((w37 >>> 17) & mask) + base;
+    dst[dstOffset + 54] = (((w37 >>> 62) | (w38 << 2)) & mask) + base;
+    dst[dstOffset + 55] = (((w38 >>> 43) | (w39 << 21)) & mask) + base;
+    dst[dstOffset + 56] = (((w39 >>> 24) | (w40 << 40)) & mask) + base;
+    dst[dstOffset + 57] = ((w40 >>> 5) & mask) + base;
+    dst[dstOffset + 58] = (((w40 >>> 50) | (w41 << 14)) & mask) + base;
+    dst[dstOffset + 59] = (((w41 >>> 31) | (w42 << 33)) & mask) + base;
+    dst[dstOffset + 60] = ((w42 >>> 12) & mask) + base;
+    dst[dstOffset + 61] = (((w42 >>> 57) | (w43 << 7)) & mask) + base;
+    dst[dstOffset + 62] = (((w43 >>> 38) | (w44 << 26)) & mask) + base;
+    dst[dstOffset + 63] = (w44 >>> 19) + base;
+  }
+
+  private static void unpack45(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 45) | (w1 << 19)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 26) | (w2 << 38)) & mask;
+    dst[dstOffset + 3] = (w2 >>> 7) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 52) | (w3 << 12)) & mask;
+    dst[dstOffset + 5] = ((w3 >>> 33) | (w4 << 31)) & mask;
+    dst[dstOffset + 6] = (w4 >>> 14) & mask;
+    dst[dstOffset + 7] = ((w4 >>> 59) | (w5 << 5)) & mask;
+    dst[dstOffset + 8] = ((w5 >>> 40) | (w6 << 24)) & mask;
+    dst[dstOffset + 9] = ((w6 >>> 21) | (w7 << 43)) & mask;
+    dst[dstOffset + 10] = (w7 >>> 2) & mask;
+    dst[dstOffset + 11] = ((w7 >>> 47) | (w8 << 17)) & mask;
+    dst[dstOffset + 12] = ((w8 >>> 28) | (w9 << 36)) & mask;
+    dst[dstOffset + 13] = (w9 >>> 9) & mask;
+    dst[dstOffset + 14] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 15] = ((w10 >>> 35) | (w11 << 29)) & mask;
+    dst[dstOffset + 16] = (w11 >>> 16) & mask;
+    dst[dstOffset + 17] = ((w11 >>> 61) | (w12 << 3)) & mask;
+    dst[dstOffset + 18] = ((w12 >>> 42) | (w13 << 22)) & mask;
+    dst[dstOffset + 19] = ((w13 >>> 23) | (w14 << 41)) & mask;
+    dst[dstOffset + 20] = (w14 >>> 4) & mask;
+    dst[dstOffset + 21] = ((w14 >>> 49) | (w15 << 15)) & mask;
+    dst[dstOffset + 22] = ((w15 >>> 30) | (w16 << 34)) & mask;
+    dst[dstOffset + 23] = (w16 >>> 11) & mask;
+    dst[dstOffset + 24] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 25] = ((w17 >>> 37) | (w18 << 27)) & mask;
+    dst[dstOffset + 26] = (w18 >>> 18) & mask;
+    dst[dstOffset + 27] = ((w18 >>> 63) | (w19 << 1)) & mask;
+    dst[dstOffset + 28] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 29] = ((w20 >>> 25) | (w21 << 39)) & mask;
+    dst[dstOffset + 30] = (w21 >>> 6) & mask;
+    dst[dstOffset + 31] = ((w21 >>> 51) | (w22 << 13)) & mask;
+    dst[dstOffset + 32] = ((w22 >>> 32) | (w23 << 32)) & mask;
+    dst[dstOffset + 33] = (w23 >>> 13) & mask;
+    dst[dstOffset + 34] = ((w23 >>> 58) | (w24 << 6)) & mask;
+    dst[dstOffset + 35] = ((w24 >>> 39) | (w25 << 25)) & mask;
+    dst[dstOffset + 36] = ((w25 >>> 20) | (w26 << 44)) & mask;
+    dst[dstOffset + 37] = (w26 >>> 1) & mask;
+    dst[dstOffset + 38] = ((w26 >>> 46) | (w27 << 18)) & mask;
+    dst[dstOffset + 39] = ((w27 >>> 27) | (w28 << 37)) & mask;
+    dst[dstOffset + 40] = (w28 >>> 8) & mask;
+    dst[dstOffset + 41] = ((w28 >>> 53) | (w29 << 11)) & mask;
+    dst[dstOffset + 42] = ((w29 >>> 34) | (w30 << 30)) & mask;
+    dst[dstOffset + 43] = (w30 >>> 15) & mask;
+    dst[dstOffset + 44] = ((w30 >>> 60) | (w31 << 4)) & mask;
+    dst[dstOffset + 45] = ((w31 >>> 41) | (w32 << 23)) & mask;
+    dst[dstOffset + 46] = ((w32 >>> 22) | (w33 << 42)) & mask;
+    dst[dstOffset + 47] = (w33 >>> 3) & mask;
+    dst[dstOffset + 48] = ((w33 >>> 48) | (w34 << 16)) & mask;
+    dst[dstOffset + 49] = ((w34 >>> 29) | (w35 << 35)) & mask;
+    dst[dstOffset + 50] = (w35 >>> 10) & mask;
+    dst[dstOffset + 51] = ((w35 >>> 55) | (w36 << 9)) & mask;
+    dst[dstOffset + 52] = ((w36 >>> 36) | (w37 << 28)) & mask;
+    dst[dstOffset + 53] = (w37 >>> 17) & mask;
+    dst[dstOffset + 54] = ((w37 >>> 62) | (w38 << 2)) & mask;
+    dst[dstOffset + 55] = ((w38 >>> 43) | (w39 << 21)) & mask;
+    dst[dstOffset + 56] = ((w39 >>> 24) | (w40 << 40)) & mask;
+    dst[dstOffset + 57] = (w40 >>> 5) & mask;
+    dst[dstOffset + 58] = ((w40 >>> 50) | (w41 << 14)) & mask;
+    dst[dstOffset + 59] = ((w41 >>> 31) | (w42 << 33)) & mask;
+    dst[dstOffset + 60] = (w42 >>> 12) & mask;
+    dst[dstOffset + 61] = ((w42 >>> 57) | (w43 << 7)) & mask;
+    dst[dstOffset + 62] = ((w43 >>> 38) | (w44 << 26)) & mask;
+    dst[dstOffset + 63] = w44 >>> 19;
+  }
+
+  private static void unpack46(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 46) | (w1 << 18)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 28) | (w2 << 36)) & mask) + base;
+    dst[dstOffset + 3] = ((w2 >>> 10) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 56) | (w3 << 8)) & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 38) | (w4 << 26)) & mask) + base;
+    dst[dstOffset + 6] = (((w4 >>> 20) | (w5 << 44)) & mask) + base;
+    dst[dstOffset + 7] = ((w5 >>> 2) & mask) + base;
+    dst[dstOffset + 8] = (((w5 >>> 48) | (w6 << 16)) & mask) + base;
+    dst[dstOffset + 9] = (((w6 >>> 30) | (w7 << 34)) & mask) + base;
+    dst[dstOffset + 10] = ((w7 >>> 12) & mask) + base;
+    dst[dstOffset + 11] = (((w7 >>> 58) | (w8 << 6)) & mask) + base;
+    dst[dstOffset + 12] = (((w8 >>> 40) | (w9 << 24)) & mask) + base;
+    dst[dstOffset + 13] = (((w9 >>> 22) | (w10 << 42)) & mask) + base;
+    dst[dstOffset + 14] = ((w10 >>> 4) & mask) + base;
+    dst[dstOffset + 15] = (((w10 >>> 50) | (w11 << 14)) & mask) + base;
+    dst[dstOffset + 16] = (((w11 >>> 32) | (w12 << 32)) & mask) + base;
+    dst[dstOffset + 17] = ((w12 >>> 14) & mask) + base;
+    dst[dstOffset + 18] = (((w12 >>> 60) | (w13 << 4)) & mask) + base;
+    dst[dstOffset + 19] = (((w13 >>> 42) | (w14 << 22)) & mask) + base;
+    dst[dstOffset + 20] = (((w14 >>> 24) | (w15 << 40)) & mask) + base;
+    dst[dstOffset + 21] = ((w15 >>> 6) & mask) + base;
+    dst[dstOffset + 22] = (((w15 >>> 52) | (w16 << 12)) & mask) + base;
+    dst[dstOffset + 23] = (((w16 >>> 34) | (w17 << 30)) & mask) + base;
+    dst[dstOffset + 24] = ((w17 >>> 16) & mask) + base;
+    dst[dstOffset + 25] = (((w17 >>> 62) | (w18 << 2)) & mask) + base;
+    dst[dstOffset + 26] = (((w18 >>> 44) | (w19 << 20)) & mask) + base;
+    dst[dstOffset + 27] = (((w19 >>> 26) | (w20 << 38)) & mask) + base;
+    dst[dstOffset + 28] = ((w20 >>> 8) & mask) + base;
+    dst[dstOffset + 29] = (((w20 >>> 54) | (w21 << 10)) & mask) + base;
+    dst[dstOffset + 30] = (((w21 >>> 36) | (w22 << 28)) & mask) + base;
+    dst[dstOffset + 31] = (w22 >>> 18) + base;
+    dst[dstOffset + 32] = (w23 & mask) + base;
+    dst[dstOffset + 33] = (((w23 >>> 46) | (w24 << 18)) & mask) + base;
+    dst[dstOffset + 34] = (((w24 >>> 28) | (w25 << 36)) & mask) + base;
+    dst[dstOffset + 35] = ((w25 >>> 10) & mask) + base;
+    dst[dstOffset + 36] = (((w25 >>> 56) | (w26 << 8)) & mask) + base;
+    dst[dstOffset + 37] = (((w26 >>> 38) | (w27 << 26)) & mask) + base;
+    dst[dstOffset + 38] = (((w27 >>> 20) | (w28 << 44)) & mask) + base;
+    dst[dstOffset + 39] = ((w28 >>> 2) & mask) + base;
+    dst[dstOffset + 40] = (((w28 >>> 48) | (w29 << 16)) & mask) + base;
+    dst[dstOffset + 41] = (((w29 >>> 30) | (w30 << 34)) & mask) + base;
+    dst[dstOffset + 42] = ((w30 >>> 12) & mask) + base;
+    dst[dstOffset + 43] = (((w30 >>> 58) | (w31 << 6)) & mask) + base;
+    dst[dstOffset + 44] = (((w31 >>> 40) | (w32 << 24)) & mask) + base;
+    dst[dstOffset + 45] = (((w32 >>> 22) | (w33 << 42)) & mask) + base;
+    dst[dstOffset + 46] = ((w33 >>> 4) & mask) + base;
+    dst[dstOffset + 47] = (((w33 >>> 50) | (w34 << 14)) & mask) + base;
+    dst[dstOffset + 48] = (((w34 >>> 32) | (w35 << 32)) & mask) + base;
+    dst[dstOffset + 49] = ((w35 >>> 14) & mask) + base;
+    dst[dstOffset + 50] = (((w35 >>> 60) | (w36 << 4)) & mask) + base;
+    dst[dstOffset + 51] = (((w36 >>> 42) | (w37 << 22)) & mask) + base;
+    dst[dstOffset + 52] = (((w37 >>> 24) | (w38 << 40)) & mask) + base;
+    dst[dstOffset + 53] = ((w38 >>> 6) & mask) + base;
+    dst[dstOffset + 54] = (((w38 >>> 52) | (w39 << 12)) & mask) + base;
+    dst[dstOffset + 55] = (((w39 >>> 34) | (w40 << 30)) & mask) + base;
+    dst[dstOffset + 56] = ((w40 >>> 16) & mask) + base;
+    dst[dstOffset + 57] = (((w40 >>> 62) | (w41 << 2)) & mask) + base;
+    dst[dstOffset + 58] = (((w41 >>> 44) | (w42 << 20)) & mask) + base;
+    dst[dstOffset + 59] = (((w42 >>> 26) | (w43 << 38)) & mask) + base;
+    dst[dstOffset + 60] = ((w43 >>> 8) & mask) + base;
+    dst[dstOffset + 61] = (((w43 >>> 54) | (w44 << 10)) & mask) + base;
+    dst[dstOffset + 62] = (((w44 >>> 36) | (w45 << 28)) & mask) + base;
+    dst[dstOffset + 63] = (w45 >>> 18) + base;
+  }
+
+  private static void unpack46(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 46) | (w1 << 18)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 28) | (w2 << 36)) & mask;
+    dst[dstOffset + 3] = (w2 >>> 10) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 56) | (w3 << 8)) & mask;
+    dst[dstOffset + 5] = ((w3 >>> 38) | (w4 << 26)) & mask;
+    dst[dstOffset + 6] = ((w4 >>> 20) | (w5 << 44)) & mask;
+    dst[dstOffset + 7] = (w5 >>> 2) & mask;
+    dst[dstOffset + 8] = ((w5 >>> 48) | (w6 << 16)) & mask;
+    dst[dstOffset + 9] = ((w6 >>> 30) | (w7 << 34)) & mask;
+    dst[dstOffset + 10] = (w7 >>> 12) & mask;
+    dst[dstOffset + 11] = ((w7 >>> 58) | (w8 << 6)) & mask;
+    dst[dstOffset + 12] = ((w8 >>> 40) | (w9 << 24)) & mask;
+    dst[dstOffset + 13] = ((w9 >>> 22) | (w10 << 42)) & mask;
+    dst[dstOffset + 14] = (w10 >>> 4) & mask;
+    dst[dstOffset + 15] = ((w10 >>> 50) | (w11 << 14)) & mask;
+    dst[dstOffset + 16] = ((w11 >>> 32) | (w12 << 32)) & mask;
+    dst[dstOffset + 17] = (w12 >>> 14) & mask;
+    dst[dstOffset + 18] = ((w12 >>> 60) | (w13 << 4)) & mask;
+    dst[dstOffset + 19] = ((w13 >>> 42) | (w14 << 22)) & mask;
+    dst[dstOffset + 20] = ((w14 >>> 24) | (w15 << 40)) & mask;
+    dst[dstOffset + 21] = (w15 >>> 6) & mask;
+    dst[dstOffset + 22] = ((w15 >>> 52) | (w16 << 12)) & mask;
+    dst[dstOffset + 23] = ((w16 >>> 34) | (w17 << 30)) & mask;
+    dst[dstOffset + 24] = (w17 >>> 16) & mask;
+    dst[dstOffset + 25] = ((w17 >>> 62) | (w18 << 2)) & mask;
+    dst[dstOffset + 26] = ((w18 >>> 44) | (w19 << 20)) & mask;
+    dst[dstOffset + 27] = ((w19 >>> 26) | (w20 << 38)) & mask;
+    dst[dstOffset + 28] = (w20 >>> 8) & mask;
+    dst[dstOffset + 29] = ((w20 >>> 54) | (w21 << 10)) & mask;
+    dst[dstOffset + 30] = ((w21 >>> 36) | (w22 << 28)) & mask;
+    dst[dstOffset + 31] = w22 >>> 18;
+    dst[dstOffset + 32] = w23 & mask;
+    dst[dstOffset + 33] = ((w23 >>> 46) | (w24 << 18)) & mask;
+    dst[dstOffset + 34] = ((w24 >>> 28) | (w25 << 36)) & mask;
+    dst[dstOffset + 35] = (w25 >>> 10) & mask;
+    dst[dstOffset + 36] = ((w25 >>> 56) | (w26 << 8)) & mask;
+    dst[dstOffset + 37] = ((w26 >>> 38) | (w27 << 26)) & mask;
+    dst[dstOffset + 38] = ((w27 >>> 20) | (w28 << 44)) & mask;
+    dst[dstOffset + 39] = (w28 >>> 2) & mask;
+    dst[dstOffset + 40] = ((w28 >>> 48) | (w29 << 16)) & mask;
+    dst[dstOffset + 41] = ((w29 >>> 30) | (w30 << 34)) & mask;
+    dst[dstOffset + 42] = (w30 >>> 12) & mask;
+    dst[dstOffset + 43] = ((w30 >>> 58) | (w31 << 6)) & mask;
+    dst[dstOffset + 44] = ((w31 >>> 40) | (w32 << 24)) & mask;
+    dst[dstOffset + 45] = ((w32 >>> 22) | (w33 << 42)) & mask;
+    dst[dstOffset + 46] = (w33 >>> 4) & mask;
+    dst[dstOffset + 47] = ((w33 >>> 50) | (w34 << 14)) & mask;
+    dst[dstOffset + 48] = ((w34 >>> 32) | (w35 << 32)) & mask;
+    dst[dstOffset + 49] = (w35 >>> 14) & mask;
+    dst[dstOffset + 50] = ((w35 >>> 60) | (w36 << 4)) & mask;
+    dst[dstOffset + 51] = ((w36 >>> 42) | (w37 << 22)) & mask;
+    dst[dstOffset + 52] = ((w37 >>> 24) | (w38 << 40)) & mask;
+    dst[dstOffset + 53] = (w38 >>> 6) & mask;
+    dst[dstOffset + 54] = ((w38 >>> 52) | (w39 << 12)) & mask;
+    dst[dstOffset + 55] = ((w39 >>> 34) | (w40 << 30)) & mask;
+    dst[dstOffset + 56] = (w40 >>> 16) & mask;
+    dst[dstOffset + 57] = ((w40 >>> 62) | (w41 << 2)) & mask;
+    dst[dstOffset + 58] = ((w41 >>> 44) | (w42 << 20)) & mask;
+    dst[dstOffset + 59] = ((w42 >>> 26) | (w43 << 38)) & mask;
+    dst[dstOffset + 60] = (w43 >>> 8) & mask;
+    dst[dstOffset + 61] = ((w43 >>> 54) | (w44 << 10)) & mask;
+    dst[dstOffset + 62] = ((w44 >>> 36) | (w45 << 28)) & mask;
+    dst[dstOffset + 63] = w45 >>> 18;
+  }
+
+  private static void unpack47(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 47) | (w1 << 17)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 30) | (w2 << 34)) & mask) + base;
+    dst[dstOffset + 3] = ((w2 >>> 13) & mask) + base;
+    dst[dstOffset + 4] = (((w2 >>> 60) | (w3 << 4)) & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 43) | (w4 << 21)) & mask) + base;
+    dst[dstOffset + 6] = (((w4 >>> 26) | (w5 << 38)) & mask) + base;
+    dst[dstOffset + 7] = ((w5 >>> 9) & mask) + base;
+    dst[dstOffset + 8] = (((w5 >>> 56) | (w6 << 8)) & mask) + base;
+    dst[dstOffset + 9] = (((w6 >>> 39) | (w7 << 25)) & mask) + base;
+    dst[dstOffset + 10] = (((w7 >>> 22) | (w8 << 42)) & mask) + base;
+    dst[dstOffset + 11] = ((w8 >>> 5) & mask) + base;
+    dst[dstOffset + 12] = (((w8 >>> 52) | (w9 << 12)) & mask) + base;
+    dst[dstOffset + 13] = (((w9 >>> 35) | (w10 << 29)) & mask) + base;
+    dst[dstOffset + 14] = (((w10 >>> 18) | (w11 << 46)) & mask) + base;
+    dst[dstOffset + 15] = ((w11 >>> 1) & mask) + base;
+    dst[dstOffset + 16] = (((w11 >>> 48) | (w12 << 16)) & mask) + base;
+    dst[dstOffset + 17] = (((w12 >>> 31) | (w13 << 33)) & mask) + base;
+    dst[dstOffset + 18] = ((w13 >>> 14) & mask) + base;
+    dst[dstOffset + 19] = (((w13 >>> 61) | (w14 << 3)) & mask) + base;
+    dst[dstOffset + 20] = (((w14 >>> 44) | (w15 << 20)) & mask) + base;
+    dst[dstOffset + 21] = (((w15 >>> 27) | (w16 << 37)) & mask) + base;
+    dst[dstOffset + 22] = ((w16 >>> 10) & mask) + base;
+    dst[dstOffset + 23] = (((w16 >>> 57) | (w17 << 7)) & mask) + base;
+    dst[dstOffset + 24] = (((w17 >>> 40) | (w18 << 24)) & mask) + base;
+    dst[dstOffset + 25] = (((w18 >>> 23) | (w19 << 41)) & mask) + base;
+    dst[dstOffset + 26] = ((w19 >>> 6) & mask) + base;
+    dst[dstOffset + 27] = (((w19 >>> 53) | (w20 << 11)) & mask) + base;
+    dst[dstOffset + 28] = (((w20 >>> 36) | (w21 << 28)) & mask) + base;
+    dst[dstOffset + 29] = (((w21 >>> 19) | (w22 << 45)) & mask) + base;
+    dst[dstOffset + 30] = ((w22 >>> 2) & mask) + base;
+    dst[dstOffset + 31] = (((w22 >>> 49) | (w23 << 15)) & mask) + base;
+    dst[dstOffset + 32] = (((w23 >>> 32) | (w24 << 32)) & mask) + base;
+    dst[dstOffset + 33] = ((w24 >>> 15) & mask) + base;
+    dst[dstOffset + 34] = (((w24 >>> 62) | (w25 << 2)) & mask) + base;
+    dst[dstOffset + 35] = (((w25 >>> 45) | (w26 << 19)) & mask) + base;
+    dst[dstOffset + 36] = (((w26 >>> 28) | (w27 << 36)) & mask) + base;
+    dst[dstOffset + 37] = ((w27 >>> 11) & mask) + base;
+    dst[dstOffset + 38] = (((w27 >>> 58) | (w28 << 6)) & mask) + base;
+    dst[dstOffset + 39] = (((w28 >>> 41) | (w29 << 23)) & mask) + base;
+    dst[dstOffset + 40] = (((w29 >>> 24) | (w30 << 40)) & mask) + base;
+    dst[dstOffset + 41] = ((w30 >>> 7) & mask) + base;
+    dst[dstOffset + 42] = (((w30 >>> 54) | (w31 << 10)) & mask) + base;
+    dst[dstOffset + 43] = (((w31 >>> 37) | (w32 << 27)) & mask) + base;
+    dst[dstOffset + 44] = (((w32 >>> 20) | (w33 << 44)) & mask) + base;
+    dst[dstOffset + 45] = ((w33 >>> 3) & mask) + base;
+    dst[dstOffset + 46] = (((w33 >>> 50) | (w34 << 14)) & mask) + base;
+    dst[dstOffset + 47] = (((w34 >>> 33) | (w35 << 31)) & mask) + base;
+    dst[dstOffset + 48] = ((w35 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = (((w35 >>> 63) | (w36 << 1)) & mask) + base;
+    dst[dstOffset + 50] = (((w36 >>> 46) | (w37 << 18)) & mask) + base;
+    dst[dstOffset + 51] = (((w37 >>> 29) | (w38 << 35)) & mask) + base;
+    dst[dstOffset + 52] = ((w38 >>> 12) & mask) + base;
+    dst[dstOffset + 53] = (((w38 >>> 59) | (w39 << 5)) & mask) + base;
+    dst[dstOffset + 54] = (((w39 >>> 42) | (w40 << 22)) & mask) + base;
+    dst[dstOffset + 55] = (((w40 >>> 25) | (w41 << 39)) & mask) + base;
+    dst[dstOffset + 56] = ((w41 >>> 8) & mask) + base;
+    dst[dstOffset + 57] = (((w41 >>> 55) | (w42 << 9)) & mask) + base;
+    dst[dstOffset + 58] = (((w42 >>> 38) | (w43 << 26)) & mask) + base;
+    dst[dstOffset + 59] = (((w43 >>> 21) | (w44 << 43)) & mask) + base;
+    dst[dstOffset + 60] = ((w44 >>> 4) & mask) + base;
+    dst[dstOffset + 61] = (((w44 >>> 51) | (w45 << 13)) & mask) + base;
+    dst[dstOffset + 62] = (((w45 >>> 34) | (w46 << 30)) & mask) + base;
+    dst[dstOffset + 63] = (w46 >>> 17) + base;
+  }
+
+  private static void unpack47(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 47) | (w1 << 17)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 30) | (w2 << 34)) & mask;
+    dst[dstOffset + 3] = (w2 >>> 13) & mask;
+    dst[dstOffset + 4] = ((w2 >>> 60) | (w3 << 4)) & mask;
+    dst[dstOffset + 5] = ((w3 >>> 43) | (w4 << 21)) & mask;
+    dst[dstOffset + 6] = ((w4 >>> 26) | (w5 << 38)) & mask;
+    dst[dstOffset + 7] = (w5 >>> 9) & mask;
+    dst[dstOffset + 8] = ((w5 >>> 56) | (w6 << 8)) & mask;
+    dst[dstOffset + 9] = ((w6 >>> 39) | (w7 << 25)) & mask;
+    dst[dstOffset + 10] = ((w7 >>> 22) | (w8 << 42)) & mask;
+    dst[dstOffset + 11] = (w8 >>> 5) & mask;
+    dst[dstOffset + 12] = ((w8 >>> 52) | (w9 << 12)) & mask;
+    dst[dstOffset + 13] = ((w9 >>> 35) | (w10 << 29)) & mask;
+    dst[dstOffset + 14] = ((w10 >>> 18) | (w11 << 46)) & mask;
+    dst[dstOffset + 15] = (w11 >>> 1) & mask;
+    dst[dstOffset + 16] = ((w11 >>> 48) | (w12 << 16)) & mask;
+    dst[dstOffset + 17] = ((w12 >>> 31) | (w13 << 33)) & mask;
+    dst[dstOffset + 18] = (w13 >>> 14) & mask;
+    dst[dstOffset + 19] = ((w13 >>> 61) | (w14 << 3)) & mask;
+    dst[dstOffset + 20] = ((w14 >>> 44) | (w15 << 20)) & mask;
+    dst[dstOffset + 21] = ((w15 >>> 27) | (w16 << 37)) & mask;
+    dst[dstOffset + 22] = (w16 >>> 10) & mask;
+    dst[dstOffset + 23] = ((w16 >>> 57) | (w17 << 7)) & mask;
+    dst[dstOffset + 24] = ((w17 >>> 40) | (w18 << 24)) & mask;
+    dst[dstOffset + 25] = ((w18 >>> 23) | (w19 << 41)) & mask;
+    dst[dstOffset + 26] = (w19 >>> 6) & mask;
+    dst[dstOffset + 27] = ((w19 >>> 53) | (w20 << 11)) & mask;
+    dst[dstOffset + 28] = ((w20 >>> 36) | (w21 << 28)) & mask;
+    dst[dstOffset + 29] = ((w21 >>> 19) | (w22 << 45)) & mask;
+    dst[dstOffset + 30] = (w22 >>> 2) & mask;
+    dst[dstOffset + 31] = ((w22 >>> 49) | (w23 << 15)) & mask;
+    dst[dstOffset + 32] = ((w23 >>> 32) | (w24 << 32)) & mask;
+    dst[dstOffset + 33] = (w24 >>> 15) & mask;
+    dst[dstOffset + 34] = ((w24 >>> 62) | (w25 << 2)) & mask;
+    dst[dstOffset + 35] = ((w25 >>> 45) | (w26 << 19)) & mask;
+    dst[dstOffset + 36] = ((w26 >>> 28) | (w27 << 36)) & mask;
+    dst[dstOffset + 37] = (w27 >>> 11) & mask;
+    dst[dstOffset + 38] = ((w27 >>> 58) | (w28 << 6)) & mask;
+    dst[dstOffset + 39] = ((w28 >>> 41) | (w29 << 23)) & mask;
+    dst[dstOffset + 40] = ((w29 >>> 24) | (w30 << 40)) & mask;
+    dst[dstOffset + 41] = (w30 >>> 7) & mask;
+    dst[dstOffset + 42] = ((w30 >>> 54) | (w31 << 10)) & mask;
+    dst[dstOffset + 43] = ((w31 >>> 37) | (w32 << 27)) & mask;
+    dst[dstOffset + 44] = ((w32 >>> 20) | (w33 << 44)) & mask;
+    dst[dstOffset + 45] = (w33 >>> 3) & mask;
+    dst[dstOffset + 46] = ((w33 >>> 50) | (w34 << 14)) & mask;
+    dst[dstOffset + 47] = ((w34 >>> 33) | (w35 << 31)) & mask;
+    dst[dstOffset + 48] = (w35 >>> 16) & mask;
+    dst[dstOffset + 49] = ((w35 >>> 63) | (w36 << 1)) & mask;
+    dst[dstOffset + 50] = ((w36 >>> 46) | (w37 << 18)) & mask;
+    dst[dstOffset + 51] = ((w37 >>> 29) | (w38 << 35)) & mask;
+    dst[dstOffset + 52] = (w38 >>> 12) & mask;
+    dst[dstOffset + 53] = ((w38 >>> 59) | (w39 << 5)) & mask;
+    dst[dstOffset + 54] = ((w39 >>> 42) | (w40 << 22)) & mask;
+    dst[dstOffset + 55] = ((w40 >>> 25) | (w41 << 39)) & mask;
+    dst[dstOffset + 56] = (w41 >>> 8) & mask;
+    dst[dstOffset + 57] = ((w41 >>> 55) | (w42 << 9)) & mask;
+    dst[dstOffset + 58] = ((w42 >>> 38) | (w43 << 26)) & mask;
+    dst[dstOffset + 59] = ((w43 >>> 21) | (w44 << 43)) & mask;
+    dst[dstOffset + 60] = (w44 >>> 4) & mask;
+    dst[dstOffset + 61] = ((w44 >>> 51) | (w45 << 13)) & mask;
+    dst[dstOffset + 62] = ((w45 >>> 34) | (w46 << 30)) & mask;
+    dst[dstOffset + 63] = w46 >>> 17;
+  }
+
+  private static void unpack48(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 48) | (w1 << 16)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 32) | (w2 << 32)) & mask) + base;
+    dst[dstOffset + 3] = (w2 >>> 16) + base;
+    dst[dstOffset + 4] = (w3 & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 48) | (w4 << 16)) & mask) + base;
+    dst[dstOffset + 6] = (((w4 >>> 32) | (w5 << 32)) & mask) + base;
+    dst[dstOffset + 7] = (w5 >>> 16) + base;
+    dst[dstOffset + 8] = (w6 & mask) + base;
+    dst[dstOffset + 9] = (((w6 >>> 48) | (w7 << 16)) & mask) + base;
+    dst[dstOffset + 10] = (((w7 >>> 32) | (w8 << 32)) & mask) + base;
+    dst[dstOffset + 11] = (w8 >>> 16) + base;
+    dst[dstOffset + 12] = (w9 & mask) + base;
+    dst[dstOffset + 13] = (((w9 >>> 48) | (w10 << 16)) & mask) + base;
+    dst[dstOffset + 14] = (((w10 >>> 32) | (w11 << 32)) & mask) + base;
+    dst[dstOffset + 15] = (w11 >>> 16) + base;
+    dst[dstOffset + 16] = (w12 & mask) + base;
+    dst[dstOffset + 17] = (((w12 >>> 48) | (w13 << 16)) & mask) + base;
+    dst[dstOffset + 18] = (((w13 >>> 32) | (w14 << 32)) & mask) + base;
+    dst[dstOffset + 19] = (w14 >>> 16) + base;
+    dst[dstOffset + 20] = (w15 & mask) + base;
+    dst[dstOffset + 21] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 22] = (((w16 >>> 32) | (w17 << 32)) & mask) + base;
+    dst[dstOffset + 23] = (w17 >>> 16) + base;
+    dst[dstOffset + 24] = (w18 & mask) + base;
+    dst[dstOffset + 25] = (((w18 >>> 48) | (w19 << 16)) & mask) + base;
+    dst[dstOffset + 26] = (((w19 >>> 32) | (w20 << 32)) & mask) + base;
+    dst[dstOffset + 27] = (w20 >>> 16) + base;
+    dst[dstOffset + 28] = (w21 & mask) + base;
+    dst[dstOffset + 29] = (((w21 >>> 48) | (w22 << 16)) & mask) + base;
+    dst[dstOffset + 30] = (((w22 >>> 32) | (w23 << 32)) & mask) + base;
+    dst[dstOffset + 31] = (w23 >>> 16) + base;
+    dst[dstOffset + 32] = (w24 & mask) + base;
+    dst[dstOffset + 33] = (((w24 >>> 48) | (w25 << 16)) & mask) + base;
+    dst[dstOffset + 34] = (((w25 >>> 32) | (w26 << 32)) & mask) + base;
+    dst[dstOffset + 35] = (w26 >>> 16) + base;
+    dst[dstOffset + 36] = (w27 & mask) + base;
+    dst[dstOffset + 37] = (((w27 >>> 48) | (w28 << 16)) & mask) + base;
+    dst[dstOffset + 38] = (((w28 >>> 32) | (w29 << 32)) & mask) + base;
+    dst[dstOffset + 39] = (w29 >>> 16) + base;
+    dst[dstOffset + 40] = (w30 & mask) + base;
+    dst[dstOffset + 41] = (((w30 >>> 48) | (w31 << 16)) & mask) + base;
+    dst[dstOffset + 42] = (((w31 >>> 32) | (w32 << 32)) & mask) + base;
+    dst[dstOffset + 43] = (w32 >>> 16) + base;
+    dst[dstOffset + 44] = (w33 & mask) + base;
+    dst[dstOffset + 45] = (((w33 >>> 48) | (w34 << 16)) & mask) + base;
+    dst[dstOffset + 46] = (((w34 >>> 32) | (w35 << 32)) & mask) + base;
+    dst[dstOffset + 47] = (w35 >>> 16) + base;
+    dst[dstOffset + 48] = (w36 & mask) + base;
+    dst[dstOffset + 49] = (((w36 >>> 48) | (w37 << 16)) & mask) + base;
+    dst[dstOffset + 50] = (((w37 >>> 32) | (w38 << 32)) & mask) + base;
+    dst[dstOffset + 51] = (w38 >>> 16) + base;
+    dst[dstOffset + 52] = (w39 & mask) + base;
+    dst[dstOffset + 53] = (((w39 >>> 48) | (w40 << 16)) & mask) + base;
+    dst[dstOffset + 54] = (((w40 >>> 32) | (w41 << 32)) & mask) + base;
+    dst[dstOffset + 55] = (w41 >>> 16) + base;
+    dst[dstOffset + 56] = (w42 & mask) + base;
+    dst[dstOffset + 57] = (((w42 >>> 48) | (w43 << 16)) & mask) + base;
+    dst[dstOffset + 58] = (((w43 >>> 32) | (w44 << 32)) & mask) + base;
+    dst[dstOffset + 59] = (w44 >>> 16) + base;
+    dst[dstOffset + 60] = (w45 & mask) + base;
+    dst[dstOffset + 61] = (((w45 >>> 48) | (w46 << 16)) & mask) + base;
+    dst[dstOffset + 62] = (((w46 >>> 32) | (w47 << 32)) & mask) + base;
+    dst[dstOffset + 63] = (w47 >>> 16) + base;
+  }
+
+  private static void unpack48(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 48) | (w1 << 16)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 32) | (w2 << 32)) & mask;
+    dst[dstOffset + 3] = w2 >>> 16;
+    dst[dstOffset + 4] = w3 & mask;
+    dst[dstOffset + 5] = ((w3 >>> 48) | (w4 << 16)) & mask;
+    dst[dstOffset + 6] = ((w4 >>> 32) | (w5 << 32)) & mask;
+    dst[dstOffset + 7] = w5 >>> 16;
+    dst[dstOffset + 8] = w6 & mask;
+    dst[dstOffset + 9] = ((w6 >>> 48) | (w7 << 16)) & mask;
+    dst[dstOffset + 10] = ((w7 >>> 32) | (w8 << 32)) & mask;
+    dst[dstOffset + 11] = w8 >>> 16;
+    dst[dstOffset + 12] = w9 & mask;
+    dst[dstOffset + 13] = ((w9 >>> 48) | (w10 << 16)) & mask;
+    dst[dstOffset + 14] = ((w10 >>> 32) | (w11 << 32)) & mask;
+    dst[dstOffset + 15] = w11 >>> 16;
+    dst[dstOffset + 16] = w12 & mask;
+    dst[dstOffset + 17] = ((w12 >>> 48) | (w13 << 16)) & mask;
+    dst[dstOffset + 18] = ((w13 >>> 32) | (w14 << 32)) & mask;
+    dst[dstOffset + 19] = w14 >>> 16;
+    dst[dstOffset + 20] = w15 & mask;
+    dst[dstOffset + 21] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 22] = ((w16 >>> 32) | (w17 << 32)) & mask;
+    dst[dstOffset + 23] = w17 >>> 16;
+    dst[dstOffset + 24] = w18 & mask;
+    dst[dstOffset + 25] = ((w18 >>> 48) | (w19 << 16)) & mask;
+    dst[dstOffset + 26] = ((w19 >>> 32) | (w20 << 32)) & mask;
+    dst[dstOffset + 27] = w20 >>> 16;
+    dst[dstOffset + 28] = w21 & mask;
+    dst[dstOffset + 29] = ((w21 >>> 48) | (w22 << 16)) & mask;
+    dst[dstOffset + 30] = ((w22 >>> 32) | (w23 << 32)) & mask;
+    dst[dstOffset + 31] = w23 >>> 16;
+    dst[dstOffset + 32] = w24 & mask;
+    dst[dstOffset + 33] = ((w24 >>> 48) | (w25 << 16)) & mask;
+    dst[dstOffset + 34] = ((w25 >>> 32) | (w26 << 32)) & mask;
+    dst[dstOffset + 35] = w26 >>> 16;
+    dst[dstOffset + 36] = w27 & mask;
+    dst[dstOffset + 37] = ((w27 >>> 48) | (w28 << 16)) & mask;
+    dst[dstOffset + 38] = ((w28 >>> 32) | (w29 << 32)) & mask;
+    dst[dstOffset + 39] = w29 >>> 16;
+    dst[dstOffset + 40] = w30 & mask;
+    dst[dstOffset + 41] = ((w30 >>> 48) | (w31 << 16)) & mask;
+    dst[dstOffset + 42] = ((w31 >>> 32) | (w32 << 32)) & mask;
+    dst[dstOffset + 43] = w32 >>> 16;
+    dst[dstOffset + 44] = w33 & mask;
+    dst[dstOffset + 45] = ((w33 >>> 48) | (w34 << 16)) & mask;
+    dst[dstOffset + 46] = ((w34 >>> 32) | (w35 << 32)) & mask;
+    dst[dstOffset + 47] = w35 >>> 16;
+    dst[dstOffset + 48] = w36 & mask;
+    dst[dstOffset + 49] = ((w36 >>> 48) | (w37 << 16)) & mask;
+    dst[dstOffset + 50] = ((w37 >>> 32) | (w38 << 32)) & mask;
+    dst[dstOffset + 51] = w38 >>> 16;
+    dst[dstOffset + 52] = w39 & mask;
+    dst[dstOffset + 53] = ((w39 >>> 48) | (w40 << 16)) & mask;
+    dst[dstOffset + 54] = ((w40 >>> 32) | (w41 << 32)) & mask;
+    dst[dstOffset + 55] = w41 >>> 16;
+    dst[dstOffset + 56] = w42 & mask;
+    dst[dstOffset + 57] = ((w42 >>> 48) | (w43 << 16)) & mask;
+    dst[dstOffset + 58] = ((w43 >>> 32) | (w44 << 32)) & mask;
+    dst[dstOffset + 59] = w44 >>> 16;
+    dst[dstOffset + 60] = w45 & mask;
+    dst[dstOffset + 61] = ((w45 >>> 48) | (w46 << 16)) & mask;
+    dst[dstOffset + 62] = ((w46 >>> 32) | (w47 << 32)) & mask;
+    dst[dstOffset + 63] = w47 >>> 16;
+  }
+}
@@ -0,0 +1,1071 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 49 to 52.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack49To52
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack49To52()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 49 -> unpack49(src, index, base, dst, dstOffset);
+      case 50 -> unpack50(src, index, base, dst, dstOffset);
+      case 51 -> unpack51(src, index, base, dst, dstOffset);
+      case 52 -> unpack52(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 49 -> unpack49(src, srcOffset, dst, dstOffset);
+      case 50 -> unpack50(src, srcOffset, dst, dstOffset);
+      case 51 -> unpack51(src, srcOffset, dst, dstOffset);
+      case 52 -> unpack52(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack49(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 49) | (w1 << 15)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 34) | (w2 << 30)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 19) | (w3 << 45)) & mask) + base;
+    dst[dstOffset + 4] = ((w3 >>> 4) & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 53) | (w4 << 11)) & mask) + base;
+    dst[dstOffset + 6] = (((w4 >>> 38) | (w5 << 26)) & mask) + base;
+    dst[dstOffset + 7] = (((w5 >>> 23) | (w6 << 41)) & mask) + base;
+    dst[dstOffset + 8] = ((w6 >>> 8) & mask) + base;
+    dst[dstOffset + 9] = (((w6 >>> 57) | (w7 << 7)) & mask) + base;
+    dst[dstOffset + 10] = (((w7 >>> 42) | (w8 << 22)) & mask) + base;
+    dst[dstOffset + 11] = (((w8 >>> 27) | (w9 << 37)) & mask) + base;
+    dst[dstOffset + 12] = ((w9 >>> 12) & mask) + base;
+    dst[dstOffset + 13] = (((w9 >>> 61) | (w10 << 3)) & mask) + base;
+    dst[dstOffset + 14] = (((w10 >>> 46) | (w11 << 18)) & mask) + base;
+    dst[dstOffset + 15] = (((w11 >>> 31) | (w12 << 33)) & mask) + base;
+    dst[dstOffset + 16] = (((w12 >>> 16) | (w13 << 48)) & mask) + base;
+    dst[dstOffset + 17] = ((w13 >>> 1) & mask) + base;
+    dst[dstOffset + 18] = (((w13 >>> 50) | (w14 << 14)) & mask) + base;
+    dst[dstOffset + 19] = (((w14 >>> 35) | (w15 << 29)) & mask) + base;
+    dst[dstOffset + 20] = (((w15 >>> 20) | (w16 << 44)) & mask) + base;
+    dst[dstOffset + 21] = ((w16 >>> 5) & mask) + base;
+    dst[dstOffset + 22] = (((w16 >>> 54) | (w17 << 10)) & mask) + base;
+    dst[dstOffset + 23] = (((w17 >>> 39) | (w18 << 25)) & mask) + base;
+    dst[dstOffset + 24] = (((w18 >>> 24) | (w19 << 40)) & mask) + base;
+    dst[dstOffset + 25] = ((w19 >>> 9) & mask) + base;
+    dst[dstOffset + 26] = (((w19 >>> 58) | (w20 << 6)) & mask) + base;
+    dst[dstOffset + 27] = (((w20 >>> 43) | (w21 << 21)) & mask) + base;
+    dst[dstOffset + 28] = (((w21 >>> 28) | (w22 << 36)) & mask) + base;
+    dst[dstOffset + 29] = ((w22 >>> 13) & mask) + base;
+    dst[dstOffset + 30] = (((w22 >>> 62) | (w23 << 2)) & mask) + base;
+    dst[dstOffset + 31] = (((w23 >>> 47) | (w24 << 17)) & mask) + base;
+    dst[dstOffset + 32] = (((w24 >>> 32) | (w25 << 32)) & mask) + base;
+    dst[dstOffset + 33] = (((w25 >>> 17) | (w26 << 47)) & mask) + base;
+    dst[dstOffset + 34] = ((w26 >>> 2) & mask) + base;
+    dst[dstOffset + 35] = (((w26 >>> 51) | (w27 << 13)) & mask) + base;
+    dst[dstOffset + 36] = (((w27 >>> 36) | (w28 << 28)) & mask) + base;
+    dst[dstOffset + 37] = (((w28 >>> 21) | (w29 << 43)) & mask) + base;
+    dst[dstOffset + 38] = ((w29 >>> 6) & mask) + base;
+    dst[dstOffset + 39] = (((w29 >>> 55) | (w30 << 9)) & mask) + base;
+    dst[dstOffset + 40] = (((w30 >>> 40) | (w31 << 24)) & mask) + base;
+    dst[dstOffset + 41] = (((w31 >>> 25) | (w32 << 39)) & mask) + base;
+    dst[dstOffset + 42] = ((w32 >>> 10) & mask) + base;
+    dst[dstOffset + 43] = (((w32 >>> 59) | (w33 << 5)) & mask) + base;
+    dst[dstOffset + 44] = (((w33 >>> 44) | (w34 << 20)) & mask) + base;
+    dst[dstOffset + 45] = (((w34 >>> 29) | (w35 << 35)) & mask) + base;
+    dst[dstOffset + 46] = ((w35 >>> 14) & mask) + base;
+    dst[dstOffset + 47] = (((w35 >>> 63) | (w36 << 1)) & mask) + base;
+    dst[dstOffset + 48] = (((w36 >>> 48) | (w37 << 16)) & mask) + base;
+    dst[dstOffset + 49] = (((w37 >>> 33) | (w38 << 31)) & mask) + base;
+    dst[dstOffset + 50] = (((w38 >>> 18) | (w39 << 46)) & mask) + base;
+    dst[dstOffset + 51] = ((w39 >>> 3) & mask) + base;
+    dst[dstOffset + 52] = (((w39 >>> 52) | (w40 << 12)) & mask) + base;
+    dst[dstOffset + 53] = (((w40 >>> 37) | (w41 << 27)) & mask) + base;
+    dst[dstOffset + 54] = (((w41 >>> 22) | (w42 << 42)) & mask) + base;
+    dst[dstOffset + 55] = ((w42 >>> 7) & mask) + base;
+    dst[dstOffset + 56] = (((w42 >>> 56) | (w43 << 8)) & mask) + base;
+    dst[dstOffset + 57] = (((w43 >>> 41) | (w44 << 23)) & mask) + base;
+    dst[dstOffset + 58] = (((w44 >>> 26) | (w45 << 38)) & mask) + base;
+    dst[dstOffset + 59] = ((w45 >>> 11) & mask) + base;
+    dst[dstOffset + 60] = (((w45 >>> 60) | (w46 << 4)) & mask) + base;
+    dst[dstOffset + 61] = (((w46 >>> 45) | (w47 << 19)) & mask) + base;
+    dst[dstOffset + 62] = (((w47 >>> 30) | (w48 << 34)) & mask) + base;
+    dst[dstOffset + 63] = (w48 >>> 15) + base;
+  }
+
+  private static void unpack49(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 49) | (w1 << 15)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 34) | (w2 << 30)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 19) | (w3 << 45)) & mask;
+    dst[dstOffset + 4] = (w3 >>> 4) & mask;
+    dst[dstOffset + 5] = ((w3 >>> 53) | (w4 << 11)) & mask;
+    dst[dstOffset + 6] = ((w4 >>> 38) | (w5 << 26)) & mask;
+    dst[dstOffset + 7] = ((w5 >>> 23) | (w6 << 41)) & mask;
+    dst[dstOffset + 8] = (w6 >>> 8) & mask;
+    dst[dstOffset + 9] = ((w6 >>> 57) | (w7 << 7)) & mask;
+    dst[dstOffset + 10] = ((w7 >>> 42) | (w8 << 22)) & mask;
+    dst[dstOffset + 11] = ((w8 >>> 27) | (w9 << 37)) & mask;
+    dst[dstOffset + 12] = (w9 >>> 12) & mask;
+    dst[dstOffset + 13] = ((w9 >>> 61) | (w10 << 3)) & mask;
+    dst[dstOffset + 14] = ((w10 >>> 46) | (w11 << 18)) & mask;
+    dst[dstOffset + 15] = ((w11 >>> 31) | (w12 << 33)) & mask;
+    dst[dstOffset + 16] = ((w12 >>> 16) | (w13 << 48)) & mask;
+    dst[dstOffset + 17] = (w13 >>> 1) & mask;
+    dst[dstOffset + 18] = ((w13 >>> 50) | (w14 << 14)) & mask;
+    dst[dstOffset + 19] = ((w14 >>> 35) | (w15 << 29)) & mask;
+    dst[dstOffset + 20] = ((w15 >>> 20) | (w16 << 44)) & mask;
+    dst[dstOffset + 21] = (w16 >>> 5) & mask;
+    dst[dstOffset + 22] = ((w16 >>> 54) | (w17 << 10)) & mask;
+    dst[dstOffset + 23] = ((w17 >>> 39) | (w18 << 25)) & mask;
+    dst[dstOffset + 24] = ((w18 >>> 24) | (w19 << 40)) & mask;
+    dst[dstOffset + 25] = (w19 >>> 9) & mask;
+    dst[dstOffset + 26] = ((w19 >>> 58) | (w20 << 6)) & mask;
+    dst[dstOffset + 27] = ((w20 >>> 43) | (w21 << 21)) & mask;
+    dst[dstOffset + 28] = ((w21 >>> 28) | (w22 << 36)) & mask;
+    dst[dstOffset + 29] = (w22 >>> 13) & mask;
+    dst[dstOffset + 30] = ((w22 >>> 62) | (w23 << 2)) & mask;
+    dst[dstOffset + 31] = ((w23 >>> 47) | (w24 << 17)) & mask;
+    dst[dstOffset + 32] = ((w24 >>> 32) | (w25 << 32)) & mask;
+    dst[dstOffset + 33] = ((w25 >>> 17) | (w26 << 47)) & mask;
+    dst[dstOffset + 34] = (w26 >>> 2) & mask;
+    dst[dstOffset + 35] = ((w26 >>> 51) | (w27 << 13)) & mask;
+    dst[dstOffset + 36] = ((w27 >>> 36) | (w28 << 28)) & mask;
+    dst[dstOffset + 37] = ((w28 >>> 21) | (w29 << 43)) & mask;
+    dst[dstOffset + 38] = (w29 >>> 6) & mask;
+    dst[dstOffset + 39] = ((w29 >>> 55) | (w30 << 9)) & mask;
+    dst[dstOffset + 40] = ((w30 >>> 40) | (w31 << 24)) & mask;
+    dst[dstOffset + 41] = ((w31 >>> 25) | (w32 << 39)) & mask;
+    dst[dstOffset + 42] = (w32 >>> 10) & mask;
+    dst[dstOffset + 43] = ((w32 >>> 59) | (w33 << 5)) & mask;
+    dst[dstOffset + 44] = ((w33 >>> 44) | (w34 << 20)) & mask;
+    dst[dstOffset + 45] = ((w34 >>> 29) | (w35 << 35)) & mask;
+    dst[dstOffset + 46] = (w35 >>> 14) & mask;
+    dst[dstOffset + 47] = ((w35 >>> 63) | (w36 << 1)) & mask;
+    dst[dstOffset + 48] = ((w36 >>> 48) | (w37 << 16)) & mask;
+    dst[dstOffset + 49] = ((w37 >>> 33) | (w38 << 31)) & mask;
+    dst[dstOffset + 50] = ((w38 >>> 18) | (w39 << 46)) & mask;
+    dst[dstOffset + 51] = (w39 >>> 3) & mask;
+    dst[dstOffset + 52] = ((w39 >>> 52) | (w40 << 12)) & mask;
+    dst[dstOffset + 53] = ((w40 >>> 37) | (w41 << 27)) & mask;
+    dst[dstOffset + 54] = ((w41 >>> 22) | (w42 << 42)) & mask;
+    dst[dstOffset + 55] = (w42 >>> 7) & mask;
+    dst[dstOffset + 56] = ((w42 >>> 56) | (w43 << 8)) & mask;
+    dst[dstOffset + 57] = ((w43 >>> 41) | (w44 << 23)) & mask;
+    dst[dstOffset + 58] = ((w44 >>> 26) | (w45 << 38)) & mask;
+    dst[dstOffset + 59] = (w45 >>> 11) & mask;
+    dst[dstOffset + 60] = ((w45 >>> 60) | (w46 << 4)) & mask;
+    dst[dstOffset + 61] = ((w46 >>> 45) | (w47 << 19)) & mask;
+    dst[dstOffset + 62] = ((w47 >>> 30) | (w48 << 34)) & mask;
+    dst[dstOffset + 63] = w48 >>> 15;
+  }
+
+  private static void unpack50(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 50) | (w1 << 14)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 36) | (w2 << 28)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 22) | (w3 << 42)) & mask) + base;
+    dst[dstOffset + 4] = ((w3 >>> 8) & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 58) | (w4 << 6)) & mask) + base;
+    dst[dstOffset + 6] = (((w4 >>> 44) | (w5 << 20)) & mask) + base;
+    dst[dstOffset + 7] = (((w5 >>> 30) | (w6 << 34)) & mask) + base;
+    dst[dstOffset + 8] = (((w6 >>> 16) | (w7 << 48)) & mask) + base;
+    dst[dstOffset + 9] = ((w7 >>> 2) & mask) + base;
+    dst[dstOffset + 10] = (((w7 >>> 52) | (w8 << 12)) & mask) + base;
+    dst[dstOffset + 11] = (((w8 >>> 38) | (w9 << 26)) & mask) + base;
+    dst[dstOffset + 12] = (((w9 >>> 24) | (w10 << 40)) & mask) + base;
+    dst[dstOffset + 13] = ((w10 >>> 10) & mask) + base;
+    dst[dstOffset + 14] = (((w10 >>> 60) | (w11 << 4)) & mask) + base;
+    dst[dstOffset + 15] = (((w11 >>> 46) | (w12 << 18)) & mask) + base;
+    dst[dstOffset + 16] = (((w12 >>> 32) | (w13 << 32)) & mask) + base;
+    dst[dstOffset + 17] = (((w13 >>> 18) | (w14 << 46)) & mask) + base;
+    dst[dstOffset + 18] = ((w14 >>> 4) & mask) + base;
+    dst[dstOffset + 19] = (((w14 >>> 54) | (w15 << 10)) & mask) + base;
+    dst[dstOffset + 20] = (((w15 >>> 40) | (w16 << 24)) & mask) + base;
+    dst[dstOffset + 21] = (((w16 >>> 26) | (w17 << 38)) & mask) + base;
+    dst[dstOffset + 22] = ((w17 >>> 12) & mask) + base;
+    dst[dstOffset + 23] = (((w17 >>> 62) | (w18 << 2)) & mask) + base;
+    dst[dstOffset + 24] = (((w18 >>> 48) | (w19 << 16)) & mask) + base;
+    dst[dstOffset + 25] = (((w19 >>> 34) | (w20 << 30)) & mask) + base;
+    dst[dstOffset + 26] = (((w20 >>> 20) | (w21 << 44)) & mask) + base;
+    dst[dstOffset + 27] = ((w21 >>> 6) & mask) + base;
+    dst[dstOffset + 28] = (((w21 >>> 56) | (w22 << 8)) & mask) + base;
+    dst[dstOffset + 29] = (((w22 >>> 42) | (w23 << 22)) & mask) + base;
+    dst[dstOffset + 30] = (((w23 >>> 28) | (w24 << 36)) & mask) + base;
+    dst[dstOffset + 31] = (w24 >>> 14) + base;
+    dst[dstOffset + 32] = (w25 & mask) + base;
+    dst[dstOffset + 33] = (((w25 >>> 50) | (w26 << 14)) & mask) + base;
+    dst[dstOffset + 34] = (((w26 >>> 36) | (w27 << 28)) & mask) + base;
+    dst[dstOffset + 35] = (((w27 >>> 22) | (w28 << 42)) & mask) + base;
+    dst[dstOffset + 36] = ((w28 >>> 8) & mask) + base;
+    dst[dstOffset + 37] = (((w28 >>> 58) | (w29 << 6)) & mask) + base;
+    dst[dstOffset + 38] = (((w29 >>> 44) | (w30 << 20)) & mask) + base;
+    dst[dstOffset + 39] = (((w30 >>> 30) | (w31 << 34)) & mask) + base;
+    dst[dstOffset + 40] = (((w31 >>> 16) | (w32 << 48)) & mask) + base;
+    dst[dstOffset + 41] = ((w32 >>> 2) & mask) + base;
+    dst[dstOffset + 42] = (((w32 >>> 52) | (w33 << 12)) & mask) + base;
+    dst[dstOffset + 43] = (((w33 >>> 38) | (w34 << 26)) & mask) + base;
+    dst[dstOffset + 44] = (((w34 >>> 24) | (w35 << 40)) & mask) + base;
+    dst[dstOffset + 45] = ((w35 >>> 10) & mask) + base;
+    dst[dstOffset + 46] = (((w35 >>> 60) | (w36 << 4)) & mask) + base;
+    dst[dstOffset + 47] = (((w36 >>> 46) | (w37 << 18)) & mask) + base;
+    dst[dstOffset + 48] = (((w37 >>> 32) | (w38 << 32)) & mask) + base;
+    dst[dstOffset + 49] = (((w38 >>> 18) | (w39 << 46)) & mask) + base;
+    dst[dstOffset + 50] = ((w39 >>> 4) & mask) + base;
+    dst[dstOffset + 51] = (((w39 >>> 54) | (w40 << 10)) & mask) + base;
+    dst[dstOffset + 52] = (((w40 >>> 40) | (w41 << 24)) & mask) + base;
+    dst[dstOffset + 53] = (((w41 >>> 26) | (w42 << 38)) & mask) + base;
+    dst[dstOffset + 54] = ((w42 >>> 12) & mask) + base;
+    dst[dstOffset + 55] = (((w42 >>> 62) | (w43 << 2)) & mask) + base;
+    dst[dstOffset + 56] = (((w43 >>> 48) | (w44 << 16)) & mask) + base;
+    dst[dstOffset + 57] = (((w44 >>> 34) | (w45 << 30)) & mask) + base;
+    dst[dstOffset + 58] = (((w45 >>> 20) | (w46 << 44)) & mask) + base;
+    dst[dstOffset + 59] = ((w46 >>> 6) & mask) + base;
+    dst[dstOffset + 60] = (((w46 >>> 56) | (w47 << 8)) & mask) + base;
+    dst[dstOffset + 61] = (((w47 >>> 42) | (w48 << 22)) & mask) + base;
+    dst[dstOffset + 62] = (((w48 >>> 28) | (w49 << 36)) & mask) + base;
+    dst[dstOffset + 63] = (w49 >>> 14) + base;
+  }
+
+  private static void unpack50(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 50) | (w1 << 14)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 36) | (w2 << 28)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 22) | (w3 << 42)) & mask;
+    dst[dstOffset + 4] = (w3 >>> 8) & mask;
+    dst[dstOffset + 5] = ((w3 >>> 58) | (w4 << 6)) & mask;
+    dst[dstOffset + 6] = ((w4 >>> 44) | (w5 << 20)) & mask;
+    dst[dstOffset + 7] = ((w5 >>> 30) | (w6 << 34)) & mask;
+    dst[dstOffset + 8] = ((w6 >>> 16) | (w7 << 48)) & mask;
+    dst[dstOffset + 9] = (w7 >>> 2) & mask;
+    dst[dstOffset + 10] = ((w7 >>> 52) | (w8 << 12)) & mask;
+    dst[dstOffset + 11] = ((w8 >>> 38) | (w9 << 26)) & mask;
+    dst[dstOffset + 12] = ((w9 >>> 24) | (w10 << 40)) & mask;
+    dst[dstOffset + 13] = (w10 >>> 10) & mask;
+    dst[dstOffset + 14] = ((w10 >>> 60) | (w11 << 4)) & mask;
+    dst[dstOffset + 15] = ((w11 >>> 46) | (w12 << 18)) & mask;
+    dst[dstOffset + 16] = ((w12 >>> 32) | (w13 << 32)) & mask;
+    dst[dstOffset + 17] = ((w13 >>> 18) | (w14 << 46)) & mask;
+    dst[dstOffset + 18] = (w14 >>> 4) & mask;
+    dst[dstOffset + 19] = ((w14 >>> 54) | (w15 << 10)) & mask;
+    dst[dstOffset + 20] = ((w15 >>> 40) | (w16 << 24)) & mask;
+    dst[dstOffset + 21] = ((w16 >>> 26) | (w17 << 38)) & mask;
+    dst[dstOffset + 22] = (w17 >>> 12) & mask;
+    dst[dstOffset + 23] = ((w17 >>> 62) | (w18 << 2)) & mask;
+    dst[dstOffset + 24] = ((w18 >>> 48) | (w19 << 16)) & mask;
+    dst[dstOffset + 25] = ((w19 >>> 34) | (w20 << 30)) & mask;
+    dst[dstOffset + 26] = ((w20 >>> 20) | (w21 << 44)) & mask;
+    dst[dstOffset + 27] = (w21 >>> 6) & mask;
+    dst[dstOffset + 28] = ((w21 >>> 56) | (w22 << 8)) & mask;
+    dst[dstOffset + 29] = ((w22 >>> 42) | (w23 << 22)) & mask;
+    dst[dstOffset + 30] = ((w23 >>> 28) | (w24 << 36)) & mask;
+    dst[dstOffset + 31] = w24 >>> 14;
+    dst[dstOffset + 32] = w25 & mask;
+    dst[dstOffset + 33] = ((w25 >>> 50) | (w26 << 14)) & mask;
+    dst[dstOffset + 34] = ((w26 >>> 36) | (w27 << 28)) & mask;
+    dst[dstOffset + 35] = ((w27 >>> 22) | (w28 << 42)) & mask;
+    dst[dstOffset + 36] = (w28 >>> 8) & mask;
+    dst[dstOffset + 37] = ((w28 >>> 58) | (w29 << 6)) & mask;
+    dst[dstOffset + 38] = ((w29 >>> 44) | (w30 << 20)) & mask;
+    dst[dstOffset + 39] = ((w30 >>> 30) | (w31 << 34)) & mask;
+    dst[dstOffset + 40] = ((w31 >>> 16) | (w32 << 48)) & mask;
+    dst[dstOffset + 41] = (w32 >>> 2) & mask;
+    dst[dstOffset + 42] = ((w32 >>> 52) | (w33 << 12)) & mask;
+    dst[dstOffset + 43] = ((w33 >>> 38) | (w34 << 26)) & mask;
+    dst[dstOffset + 44] = ((w34 >>> 24) | (w35 << 40)) & mask;
+    dst[dstOffset + 45] = (w35 >>> 10) & mask;
+    dst[dstOffset + 46] = ((w35 >>> 60) | (w36 << 4)) & mask;
+    dst[dstOffset + 47] = ((w36 >>> 46) | (w37 << 18)) & mask;
+    dst[dstOffset + 48] = ((w37 >>> 32) | (w38 << 32)) & mask;
+    dst[dstOffset + 49] = ((w38 >>> 18) | (w39 << 46)) & mask;
+    dst[dstOffset + 50] = (w39 >>> 4) & mask;
+    dst[dstOffset + 51] = ((w39 >>> 54) | (w40 << 10)) & mask;
+    dst[dstOffset + 52] = ((w40 >>> 40) | (w41 << 24)) & mask;
+    dst[dstOffset + 53] = ((w41 >>> 26) | (w42 << 38)) & mask;
+    dst[dstOffset + 54] = (w42 >>> 12) & mask;
+    dst[dstOffset + 55] = ((w42 >>> 62) | (w43 << 2)) & mask;
+    dst[dstOffset + 56] = ((w43 >>> 48) | (w44 << 16)) & mask;
+    dst[dstOffset + 57] = ((w44 >>> 34) | (w45 << 30)) & mask;
+    dst[dstOffset + 58] = ((w45 >>> 20) | (w46 << 44)) & mask;
+    dst[dstOffset + 59] = (w46 >>> 6) & mask;
+    dst[dstOffset + 60] = ((w46 >>> 56) | (w47 << 8)) & mask;
+    dst[dstOffset + 61] = ((w47 >>> 42) | (w48 << 22)) & mask;
+    dst[dstOffset + 62] = ((w48 >>> 28) | (w49 << 36)) & mask;
+    dst[dstOffset + 63] = w49 >>> 14;
+  }
+
+  private static void unpack51(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 51) | (w1 << 13)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 38) | (w2 << 26)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 25) | (w3 << 39)) & mask) + base;
+    dst[dstOffset + 4] = ((w3 >>> 12) & mask) + base;
+    dst[dstOffset + 5] = (((w3 >>> 63) | (w4 << 1)) & mask) + base;
+    dst[dstOffset + 6] = (((w4 >>> 50) | (w5 << 14)) & mask) + base;
+    dst[dstOffset + 7] = (((w5 >>> 37) | (w6 << 27)) & mask) + base;
+    dst[dstOffset + 8] = (((w6 >>> 24) | (w7 << 40)) & mask) + base;
+    dst[dstOffset + 9] = ((w7 >>> 11) & mask) + base;
+    dst[dstOffset + 10] = (((w7 >>> 62) | (w8 << 2)) & mask) + base;
+    dst[dstOffset + 11] = (((w8 >>> 49) | (w9 << 15)) & mask) + base;
+    dst[dstOffset + 12] = (((w9 >>> 36) | (w10 << 28)) & mask) + base;
+    dst[dstOffset + 13] = (((w10 >>> 23) | (w11 << 41)) & mask) + base;
+    dst[dstOffset + 14] = ((w11 >>> 10) & mask) + base;
+    dst[dstOffset + 15] = (((w11 >>> 61) | (w12 << 3)) & mask) + base;
+    dst[dstOffset + 16] = (((w12 >>> 48) | (w13 << 16)) & mask) + base;
+    dst[dstOffset + 17] = (((w13 >>> 35) | (w14 << 29)) & mask) + base;
+    dst[dstOffset + 18] = (((w14 >>> 22) | (w15 << 42)) & mask) + base;
+    dst[dstOffset + 19] = ((w15 >>> 9) & mask) + base;
+    dst[dstOffset + 20] = (((w15 >>> 60) | (w16 << 4)) & mask) + base;
+    dst[dstOffset + 21] = (((w16 >>> 47) | (w17 << 17)) & mask) + base;
+    dst[dstOffset + 22] = (((w17 >>> 34) | (w18 << 30)) & mask) + base;
+    dst[dstOffset + 23] = (((w18 >>> 21) | (w19 << 43)) & mask) + base;
+    dst[dstOffset + 24] = ((w19 >>> 8) & mask) + base;
+    dst[dstOffset + 25] = (((w19 >>> 59) | (w20 << 5)) & mask) + base;
+    dst[dstOffset + 26] = (((w20 >>> 46) | (w21 << 18)) & mask) + base;
+    dst[dstOffset + 27] = (((w21 >>> 33) | (w22 << 31)) & mask) + base;
+    dst[dstOffset + 28] = (((w22 >>> 20) | (w23 << 44)) & mask) + base;
+    dst[dstOffset + 29] = ((w23 >>> 7) & mask) + base;
+    dst[dstOffset + 30] = (((w23 >>> 58) | (w24 << 6)) & mask) + base;
+    dst[dstOffset + 31] = (((w24 >>> 45) | (w25 << 19)) & mask) + base;
+    dst[dstOffset + 32] = (((w25 >>> 32) | (w26 << 32)) & mask) + base;
+    dst[dstOffset + 33] = (((w26 >>> 19) | (w27 << 45)) & mask) + base;
+    dst[dstOffset + 34] = ((w27 >>> 6) & mask) + base;
+    dst[dstOffset + 35] = (((w27 >>> 57) | (w28 << 7)) & mask) + base;
+    dst[dstOffset + 36] = (((w28 >>> 44) | (w29 << 20)) & mask) + base;
+    dst[dstOffset + 37] = (((w29 >>> 31) | (w30 << 33)) & mask) + base;
+    dst[dstOffset + 38] = (((w30 >>> 18) | (w31 << 46)) & mask) + base;
+    dst[dstOffset + 39] = ((w31 >>> 5) & mask) + base;
+    dst[dstOffset + 40] = (((w31 >>> 56) | (w32 << 8)) & mask) + base;
+    dst[dstOffset + 41] = (((w32 >>> 43) | (w33 << 21)) & mask) + base;
+    dst[dstOffset + 42] = (((w33 >>> 30) | (w34 << 34)) & mask) + base;
+    dst[dstOffset + 43] = (((w34 >>> 17) | (w35 << 47)) & mask) + base;
+    dst[dstOffset + 44] = ((w35 >>> 4) & mask) + base;
+    dst[dstOffset + 45] = (((w35 >>> 55) | (w36 << 9)) & mask) + base;
+    dst[dstOffset + 46] = (((w36 >>> 42) | (w37 << 22)) & mask) + base;
+    dst[dstOffset + 47] = (((w37 >>> 29) | (w38 << 35)) & mask) + base;
+    dst[dstOffset + 48] = (((w38 >>> 16) | (w39 << 48)) & mask) + base;
+    dst[dstOffset + 49] = ((w39 >>> 3) & mask) + base;
+    dst[dstOffset + 50] = (((w39 >>> 54) | (w40 << 10)) & mask) + base;
+    dst[dstOffset + 51] = (((w40 >>> 41) | (w41 << 23)) & mask) + base;
+    dst[dstOffset + 52] = (((w41 >>> 28) | (w42 << 36)) & mask) + base;
+    dst[dstOffset + 53] = (((w42 >>> 15) | (w43 << 49)) & mask) + base;
+    dst[dstOffset + 54] = ((w43 >>> 2) & mask) + base;
+    dst[dstOffset + 55] = (((w43 >>> 53) | (w44 << 11)) & mask) + base;
+    dst[dstOffset + 56] = (((w44 >>> 40) | (w45 << 24)) & mask) + base;
+    dst[dstOffset + 57] = (((w45 >>> 27) | (w46 << 37)) & mask) + base;
+    dst[dstOffset + 58] = (((w46 >>> 14) | (w47 << 50)) & mask) + base;
+    dst[dstOffset + 59] = ((w47 >>> 1) & mask) + base;
+    dst[dstOffset + 60] = (((w47 >>> 52) | (w48 << 12)) & mask) + base;
+    dst[dstOffset + 61] = (((w48 >>> 39) | (w49 << 25)) & mask) + base;
+    dst[dstOffset + 62] = (((w49 >>> 26) | (w50 << 38)) & mask) + base;
+    dst[dstOffset + 63] = (w50 >>> 13) + base;
+  }
+
+  private static void unpack51(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 51) | (w1 << 13)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 38) | (w2 << 26)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 25) | (w3 << 39)) & mask;
+    dst[dstOffset + 4] = (w3 >>> 12) & mask;
+    dst[dstOffset + 5] = ((w3 >>> 63) | (w4 << 1)) & mask;
+    dst[dstOffset + 6] = ((w4 >>> 50) | (w5 << 14)) & mask;
+    dst[dstOffset + 7] = ((w5 >>> 37) | (w6 << 27)) & mask;
+    dst[dstOffset + 8] = ((w6 >>> 24) | (w7 << 40)) & mask;
+    dst[dstOffset + 9] = (w7 >>> 11) & mask;
+    dst[dstOffset + 10] = ((w7 >>> 62) | (w8 << 2)) & mask;
+    dst[dstOffset + 11] = ((w8 >>> 49) | (w9 << 15)) & mask;
+    dst[dstOffset + 12] = ((w9 >>> 36) | (w10 << 28)) & mask;
+    dst[dstOffset + 13] = ((w10 >>> 23) | (w11 << 41)) & mask;
+    dst[dstOffset + 14] = (w11 >>> 10) & mask;
+    dst[dstOffset + 15] = ((w11 >>> 61) | (w12 << 3)) & mask;
+    dst[dstOffset + 16] = ((w12 >>> 48) | (w13 << 16)) & mask;
+    dst[dstOffset + 17] = ((w13 >>> 35) | (w14 << 29)) & mask;
+    dst[dstOffset + 18] = ((w14 >>> 22) | (w15 << 42)) & mask;
+    dst[dstOffset + 19] = (w15 >>> 9) & mask;
+    dst[dstOffset + 20] = ((w15 >>> 60) | (w16 << 4)) & mask;
+    dst[dstOffset + 21] = ((w16 >>> 47) | (w17 << 17)) & mask;
+    dst[dstOffset + 22] = ((w17 >>> 34) | (w18 << 30)) & mask;
+    dst[dstOffset + 23] = ((w18 >>> 21) | (w19 << 43)) & mask;
+    dst[dstOffset + 24] = (w19 >>> 8) & mask;
+    dst[dstOffset + 25] = ((w19 >>> 59) | (w20 << 5)) & mask;
+    dst[dstOffset + 26] = ((w20 >>> 46) | (w21 << 18)) & mask;
+    dst[dstOffset + 27] = ((w21 >>> 33) | (w22 << 31)) & mask;
+    dst[dstOffset + 28] = ((w22 >>> 20) | (w23 << 44)) & mask;
+    dst[dstOffset + 29] = (w23 >>> 7) & mask;
+    dst[dstOffset + 30] = ((w23 >>> 58) | (w24 << 6)) & mask;
+    dst[dstOffset + 31] = ((w24 >>> 45) | (w25 << 19)) & mask;
+    dst[dstOffset + 32] = ((w25 >>> 32) | (w26 << 32)) & mask;
+    dst[dstOffset + 33] = ((w26 >>> 19) | (w27 << 45)) & mask;
+    dst[dstOffset + 34] = (w27 >>> 6) & mask;
+    dst[dstOffset + 35] = ((w27 >>> 57) | (w28 << 7)) & mask;
+    dst[dstOffset + 36] = ((w28 >>> 44) | (w29 << 20)) & mask;
+    dst[dstOffset + 37] = ((w29 >>> 31) | (w30 << 33)) & mask;
+    dst[dstOffset + 38] = ((w30 >>> 18) | (w31 << 46)) & mask;
+    dst[dstOffset + 39] = (w31 >>> 5) & mask;
+    dst[dstOffset + 40] = ((w31 >>> 56) | (w32 << 8)) & mask;
+    dst[dstOffset + 41] = ((w32 >>> 43) | (w33 << 21)) & mask;
+    dst[dstOffset + 42] = ((w33 >>> 30) | (w34 << 34)) & mask;
+    dst[dstOffset + 43] = ((w34 >>> 17) | (w35 << 47)) & mask;
+    dst[dstOffset + 44] = (w35 >>> 4) & mask;
+    dst[dstOffset + 45] = ((w35 >>> 55) | (w36 << 9)) & mask;
+    dst[dstOffset + 46] = ((w36 >>> 42) | (w37 << 22)) & mask;
+    dst[dstOffset + 47] = ((w37 >>> 29) | (w38 << 35)) & mask;
+    dst[dstOffset + 48] = ((w38 >>> 16) | (w39 << 48)) & mask;
+    dst[dstOffset + 49] = (w39 >>> 3) & mask;
+    dst[dstOffset + 50] = ((w39 >>> 54) | (w40 << 10)) & mask;
+    dst[dstOffset + 51] = ((w40 >>> 41) | (w41 << 23)) & mask;
+    dst[dstOffset + 52] = ((w41 >>> 28) | (w42 << 36)) & mask;
+    dst[dstOffset + 53] = ((w42 >>> 15) | (w43 << 49)) & mask;
+    dst[dstOffset + 54] = (w43 >>> 2) & mask;
+    dst[dstOffset + 55] = ((w43 >>> 53) | (w44 << 11)) & mask;
+    dst[dstOffset + 56] = ((w44 >>> 40) | (w45 << 24)) & mask;
+    dst[dstOffset + 57] = ((w45 >>> 27) | (w46 << 37)) & mask;
+    dst[dstOffset + 58] = ((w46 >>> 14) | (w47 << 50)) & mask;
+    dst[dstOffset + 59] = (w47 >>> 1) & mask;
+    dst[dstOffset + 60] = ((w47 >>> 52) | (w48 << 12)) & mask;
+    dst[dstOffset + 61] = ((w48 >>> 39) | (w49 << 25)) & mask;
+    dst[dstOffset + 62] = ((w49 >>> 26) | (w50 << 38)) & mask;
+    dst[dstOffset + 63] = w50 >>> 13;
+  }
+
+  private static void unpack52(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 52) | (w1 << 12)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 40) | (w2 << 24)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 28) | (w3 << 36)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 16) | (w4 << 48)) & mask) + base;
+    dst[dstOffset + 5] = ((w4 >>> 4) & mask) + base;
+    dst[dstOffset + 6] = (((w4 >>> 56) | (w5 << 8)) & mask) + base;
+    dst[dstOffset + 7] = (((w5 >>> 44) | (w6 << 20)) & mask) + base;
+    dst[dstOffset + 8] = (((w6 >>> 32) | (w7 << 32)) & mask) + base;
+    dst[dstOffset + 9] = (((w7 >>> 20) | (w8 << 44)) & mask) + base;
+    dst[dstOffset + 10] = ((w8 >>> 8) & mask) + base;
+    dst[dstOffset + 11] = (((w8 >>> 60) | (w9 << 4)) & mask) + base;
+    dst[dstOffset + 12] = (((w9 >>> 48) | (w10 << 16)) & mask) + base;
+    dst[dstOffset + 13] = (((w10 >>> 36) | (w11 << 28)) & mask) + base;
+    dst[dstOffset + 14] = (((w11 >>> 24) | (w12 << 40)) & mask) + base;
+    dst[dstOffset + 15] = (w12 >>> 12) + base;
+    dst[dstOffset + 16] = (w13 & mask) + base;
+    dst[dstOffset + 17] = (((w13 >>> 52) | (w14 << 12)) & mask) + base;
+    dst[dstOffset + 18] = (((w14 >>> 40) | (w15 << 24)) & mask) + base;
+    dst[dstOffset + 19] = (((w15 >>> 28) | (w16 << 36)) & mask) + base;
+    dst[dstOffset + 20] = (((w16 >>> 16) | (w17 << 48)) & mask) + base;
+    dst[dstOffset + 21] = ((w17 >>> 4) & mask) + base;
+    dst[dstOffset + 22] = (((w17 >>> 56) | (w18 << 8)) & mask) + base;
+    dst[dstOffset + 23] = (((w18 >>> 44) | (w19 << 20)) & mask) + base;
+    dst[dstOffset + 24] = (((w19 >>> 32) | (w20 << 32)) & mask) + base;
+    dst[dstOffset + 25] = (((w20 >>> 20) | (w21 << 44)) & mask) + base;
+    dst[dstOffset + 26] = ((w21 >>> 8) & mask) + base;
+    dst[dstOffset + 27] = (((w21 >>> 60) | (w22 << 4)) & mask) + base;
+    dst[dstOffset + 28] = (((w22 >>> 48) | (w23 << 16)) & mask) + base;
+    dst[dstOffset + 29] = (((w23 >>> 36) | (w24 << 28)) & mask) + base;
+    dst[dstOffset + 30] = (((w24 >>> 24) | (w25 << 40)) & mask) + base;
+    dst[dstOffset + 31] = (w25 >>> 12) + base;
+    dst[dstOffset + 32] = (w26 & mask) + base;
+    dst[dstOffset + 33] = (((w26 >>> 52) | (w27 << 12)) & mask) + base;
+    dst[dstOffset + 34] = (((w27 >>> 40) | (w28 << 24)) & mask) + base;
+    dst[dstOffset + 35] = (((w28 >>> 28) | (w29 << 36)) & mask) + base;
+    dst[dstOffset + 36] = (((w29 >>> 16) | (w30 << 48)) & mask) + base;
+    dst[dstOffset + 37] = ((w30 >>> 4) & mask) + base;
+    dst[dstOffset + 38] = (((w30 >>> 56) | (w31 << 8)) & mask) + base;
+    dst[dstOffset + 39] = (((w31 >>> 44) | (w32 << 20)) & mask) + base;
+    dst[dstOffset + 40] = (((w32 >>> 32) | (w33 << 32)) & mask) + base;
+    dst[dstOffset + 41] = (((w33 >>> 20) | (w34 << 44)) & mask) + base;
+    dst[dstOffset + 42] = ((w34 >>> 8) & mask) + base;
+    dst[dstOffset + 43] = (((w34 >>> 60) | (w35 << 4)) & mask) + base;
+    dst[dstOffset + 44] = (((w35 >>> 48) | (w36 << 16)) & mask) + base;
+    dst[dstOffset + 45] = (((w36 >>> 36) | (w37 << 28)) & mask) + base;
+    dst[dstOffset + 46] = (((w37 >>> 24) | (w38 << 40)) & mask) + base;
+    dst[dstOffset + 47] = (w38 >>> 12) + base;
+    dst[dstOffset + 48] = (w39 & mask) + base;
+    dst[dstOffset + 49] = (((w39 >>> 52) | (w40 << 12)) & mask) + base;
+    dst[dstOffset + 50] = (((w40 >>> 40) | (w41 << 24)) & mask) + base;
+    dst[dstOffset + 51] = (((w41 >>> 28) | (w42 << 36)) & mask) + base;
+    dst[dstOffset + 52] = (((w42 >>> 16) | (w43 << 48)) & mask) + base;
+    dst[dstOffset + 53] = ((w43 >>> 4) & mask) + base;
+    dst[dstOffset + 54] = (((w43 >>> 56) | (w44 << 8)) & mask) + base;
+    dst[dstOffset + 55] = (((w44 >>> 44) | (w45 << 20)) & mask) + base;
+    dst[dstOffset + 56] = (((w45 >>> 32) | (w46 << 32)) & mask) + base;
+    dst[dstOffset + 57] = (((w46 >>> 20) | (w47 << 44)) & mask) + base;
+    dst[dstOffset + 58] = ((w47 >>> 8) & mask) + base;
+    dst[dstOffset + 59] = (((w47 >>> 60) | (w48 << 4)) & mask) + base;
+    dst[dstOffset + 60] = (((w48 >>> 48) | (w49 << 16)) & mask) + base;
+    dst[dstOffset + 61] = (((w49 >>> 36) | (w50 << 28)) & mask) + base;
+    dst[dstOffset + 62] = (((w50 >>> 24) | (w51 << 40)) & mask) + base;
+    dst[dstOffset + 63] = (w51 >>> 12) + base;
+  }
+
+  private static void unpack52(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 52) | (w1 << 12)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 40) | (w2 << 24)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 28) | (w3 << 36)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 16) | (w4 << 48)) & mask;
+    dst[dstOffset + 5] = (w4 >>> 4) & mask;
+    dst[dstOffset + 6] = ((w4 >>> 56) | (w5 << 8)) & mask;
+    dst[dstOffset + 7] = ((w5 >>> 44) | (w6 << 20)) & mask;
+    dst[dstOffset + 8] = ((w6 >>> 32) | (w7 << 32)) & mask;
+    dst[dstOffset + 9] = ((w7 >>> 20) | (w8 << 44)) & mask;
+    dst[dstOffset + 10] = (w8 >>> 8) & mask;
+    dst[dstOffset + 11] = ((w8 >>> 60) | (w9 << 4)) & mask;
+    dst[dstOffset + 12] = ((w9 >>> 48) | (w10 << 16)) & mask;
+    dst[dstOffset + 13] = ((w10 >>> 36) | (w11 << 28)) & mask;
+    dst[dstOffset + 14] = ((w11 >>> 24) | (w12 << 40)) & mask;
+    dst[dstOffset + 15] = w12 >>> 12;
+    dst[dstOffset + 16] = w13 & mask;
+    dst[dstOffset + 17] = ((w13 >>> 52) | (w14 << 12)) & mask;
+    dst[dstOffset + 18] = ((w14 >>> 40) | (w15 << 24)) & mask;
+    dst[dstOffset + 19] = ((w15 >>> 28) | (w16 << 36)) & mask;
+    dst[dstOffset + 20] = ((w16 >>> 16) | (w17 << 48)) & mask;
+    dst[dstOffset + 21] = (w17 >>> 4) & mask;
+    dst[dstOffset + 22] = ((w17 >>> 56) | (w18 << 8)) & mask;
+    dst[dstOffset + 23] = ((w18 >>> 44) | (w19 << 20)) & mask;
+    dst[dstOffset + 24] = ((w19 >>> 32) | (w20 << 32)) & mask;
+    dst[dstOffset + 25] = ((w20 >>> 20) | (w21 << 44)) & mask;
+    dst[dstOffset + 26] = (w21 >>> 8) & mask;
+    dst[dstOffset + 27] = ((w21 >>> 60) | (w22 << 4)) & mask;
+    dst[dstOffset + 28] = ((w22 >>> 48) | (w23 << 16)) & mask;
+    dst[dstOffset + 29] = ((w23 >>> 36) | (w24 << 28)) & mask;
+    dst[dstOffset + 30] = ((w24 >>> 24) | (w25 << 40)) & mask;
+    dst[dstOffset + 31] = w25 >>> 12;
+    dst[dstOffset + 32] = w26 & mask;
+    dst[dstOffset + 33] = ((w26 >>> 52) | (w27 << 12)) & mask;
+    dst[dstOffset + 34] = ((w27 >>> 40) | (w28 << 24)) & mask;
+    dst[dstOffset + 35] = ((w28 >>> 28) | (w29 << 36)) & mask;
+    dst[dstOffset + 36] = ((w29 >>> 16) | (w30 << 48)) & mask;
+    dst[dstOffset + 37] = (w30 >>> 4) & mask;
+    dst[dstOffset + 38] = ((w30 >>> 56) | (w31 << 8)) & mask;
+    dst[dstOffset + 39] = ((w31 >>> 44) | (w32 << 20)) & mask;
+    dst[dstOffset + 40] = ((w32 >>> 32) | (w33 << 32)) & mask;
+    dst[dstOffset + 41] = ((w33 >>> 20) | (w34 << 44)) & mask;
+    dst[dstOffset + 42] = (w34 >>> 8) & mask;
+    dst[dstOffset + 43] = ((w34 >>> 60) | (w35 << 4)) & mask;
+    dst[dstOffset + 44] = ((w35 >>> 48) | (w36 << 16)) & mask;
+    dst[dstOffset + 45] = ((w36 >>> 36) | (w37 << 28)) & mask;
+    dst[dstOffset + 46] = ((w37 >>> 24) | (w38 << 40)) & mask;
+    dst[dstOffset + 47] = w38 >>> 12;
+    dst[dstOffset + 48] = w39 & mask;
+    dst[dstOffset + 49] = ((w39 >>> 52) | (w40 << 12)) & mask;
+    dst[dstOffset + 50] = ((w40 >>> 40) | (w41 << 24)) & mask;
+    dst[dstOffset + 51] = ((w41 >>> 28) | (w42 << 36)) & mask;
+    dst[dstOffset + 52] = ((w42 >>> 16) | (w43 << 48)) & mask;
+    dst[dstOffset + 53] = (w43 >>> 4) & mask;
+    dst[dstOffset + 54] = ((w43 >>> 56) | (w44 << 8)) & mask;
+    dst[dstOffset + 55] = ((w44 >>> 44) | (w45 << 20)) & mask;
+    dst[dstOffset + 56] = ((w45 >>> 32) | (w46 << 32)) & mask;
+    dst[dstOffset + 57] = ((w46 >>> 20) | (w47 << 44)) & mask;
+    dst[dstOffset + 58] = (w47 >>> 8) & mask;
+    dst[dstOffset + 59] = ((w47 >>> 60) | (w48 << 4)) & mask;
+    dst[dstOffset + 60] = ((w48 >>> 48) | (w49 << 16)) & mask;
+    dst[dstOffset + 61] = ((w49 >>> 36) | (w50 << 28)) & mask;
+    dst[dstOffset + 62] = ((w50 >>> 24) | (w51 << 40)) & mask;
+    dst[dstOffset + 63] = w51 >>> 12;
+  }
+}
@@ -0,0 +1,1103 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 53 to 56.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack53To56
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack53To56()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 53 -> unpack53(src, index, base, dst, dstOffset);
+      case 54 -> unpack54(src, index, base, dst, dstOffset);
+      case 55 -> unpack55(src, index, base, dst, dstOffset);
+      case 56 -> unpack56(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 53 -> unpack53(src, srcOffset, dst, dstOffset);
+      case 54 -> unpack54(src, srcOffset, dst, dstOffset);
+      case 55 -> unpack55(src, srcOffset, dst, dstOffset);
+      case 56 -> unpack56(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack53(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 53) | (w1 << 11)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 42) | (w2 << 22)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 31) | (w3 << 33)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 20) | (w4 << 44)) & mask) + base;
+    dst[dstOffset + 5] = ((w4 >>> 9) & mask) + base;
+    dst[dstOffset + 6] = (((w4 >>> 62) | (w5 << 2)) & mask) + base;
+    dst[dstOffset + 7] = (((w5 >>> 51) | (w6 << 13)) & mask) + base;
+    dst[dstOffset + 8] = (((w6 >>> 40) | (w7 << 24)) & mask) + base;
+    dst[dstOffset + 9] = (((w7 >>> 29) | (w8 << 35)) & mask) + base;
+    dst[dstOffset + 10] = (((w8 >>> 18) | (w9 << 46)) & mask) + base;
+    dst[dstOffset + 11] = ((w9 >>> 7) & mask) + base;
+    dst[dstOffset + 12] = (((w9 >>> 60) | (w10 << 4)) & mask) + base;
+    dst[dstOffset + 13] = (((w10 >>> 49) | (w11 << 15)) & mask) + base;
+    dst[dstOffset + 14] = (((w11 >>> 38) | (w12 << 26)) & mask) + base;
+    dst[dstOffset + 15] = (((w12 >>> 27) | (w13 << 37)) & mask) + base;
+    dst[dstOffset + 16] = (((w13 >>> 16) | (w14 << 48)) & mask) + base;
+    dst[dstOffset + 17] = ((w14 >>> 5) & mask) + base;
+    dst[dstOffset + 18] = (((w14 >>> 58) | (w15 << 6)) & mask) + base;
+    dst[dstOffset + 19] = (((w15 >>> 47) | (w16 << 17)) & mask) + base;
+    dst[dstOffset + 20] = (((w16 >>> 36) | (w17 << 28)) & mask) + base;
+    dst[dstOffset + 21] = (((w17 >>> 25) | (w18 << 39)) & mask) + base;
+    dst[dstOffset + 22] = (((w18 >>> 14) | (w19 << 50)) & mask) + base;
+    dst[dstOffset + 23] = ((w19 >>> 3) & mask) + base;
+    dst[dstOffset + 24] = (((w19 >>> 56) | (w20 << 8)) & mask) + base;
+    dst[dstOffset + 25] = (((w20 >>> 45) | (w21 << 19)) & mask) + base;
+    dst[dstOffset + 26] = (((w21 >>> 34) | (w22 << 30)) & mask) + base;
+    dst[dstOffset + 27] = (((w22 >>> 23) | (w23 << 41)) & mask) + base;
+    dst[dstOffset + 28] = (((w23 >>> 12) | (w24 << 52)) & mask) + base;
+    dst[dstOffset + 29] = ((w24 >>> 1) & mask) + base;
+    dst[dstOffset + 30] = (((w24 >>> 54) | (w25 << 10)) & mask) + base;
+    dst[dstOffset + 31] = (((w25 >>> 43) | (w26 << 21)) & mask) + base;
+    dst[dstOffset + 32] = (((w26 >>> 32) | (w27 << 32)) & mask) + base;
+    dst[dstOffset + 33] = (((w27 >>> 21) | (w28 << 43)) & mask) + base;
+    dst[dstOffset + 34] = ((w28 >>> 10) & mask) + base;
+    dst[dstOffset + 35] = (((w28 >>> 63) | (w29 << 1)) & mask) + base;
+    dst[dstOffset + 36] = (((w29 >>> 52) | (w30 << 12)) & mask) + base;
+    dst[dstOffset + 37] = (((w30 >>> 41) | (w31 << 23)) & mask) + base;
+    dst[dstOffset + 38] = (((w31 >>> 30) | (w32 << 34)) & mask) + base;
+    dst[dstOffset + 39] = (((w32 >>> 19) | (w33 << 45)) & mask) + base;
+    dst[dstOffset + 40] = ((w33 >>> 8) & mask) + base;
+    dst[dstOffset + 41] = (((w33 >>> 61) | (w34 << 3)) & mask) + base;
+    dst[dstOffset + 42] = (((w34 >>> 50) | (w35 << 14)) & mask) + base;
+    dst[dstOffset + 43] = (((w35 >>> 39) | (w36 << 25)) & mask) + base;
+    dst[dstOffset + 44] = (((w36 >>> 28) | (w37 << 36)) & mask) + base;
+    dst[dstOffset + 45] = (((w37 >>> 17) | (w38 << 47)) & mask) + base;
+    dst[dstOffset + 46] = ((w38 >>> 6) & mask) + base;
+    dst[dstOffset + 47] = (((w38 >>> 59) | (w39 << 5)) & mask) + base;
+    dst[dstOffset + 48] = (((w39 >>> 48) | (w40 << 16)) & mask) + base;
+    dst[dstOffset + 49] = (((w40 >>> 37) | (w41 << 27)) & mask) + base;
+    dst[dstOffset + 50] = (((w41 >>> 26) | (w42 << 38)) & mask) + base;
+    dst[dstOffset + 51] = (((w42 >>> 15) | (w43 << 49)) & mask) + base;
+    dst[dstOffset + 52] = ((w43 >>> 4) & mask) + base;
+    dst[dstOffset + 53] = (((w43 >>> 57) | (w44 << 7)) & mask) + base;
+    dst[dstOffset + 54] = (((w44 >>> 46) | (w45 << 18)) & mask) + base;
+    dst[dstOffset + 55] = (((w45 >>> 35) | (w46 << 29)) & mask) + base;
+    dst[dstOffset + 56] = (((w46 >>> 24) | (w47 << 40)) & mask) + base;
+    dst[dstOffset + 57] = (((w47 >>> 13) | (w48 << 51)) & mask) + base;
+    dst[dstOffset + 58] = ((w48 >>> 2) & mask) + base;
+    dst[dstOffset + 59] = (((w48 >>> 55) | (w49 << 9)) & mask) + base;
+    dst[dstOffset + 60] = (((w49 >>> 44) | (w50 << 20)) & mask) + base;
+    dst[dstOffset + 61] = (((w50 >>> 33) | (w51 << 31)) & mask) + base;
+    dst[dstOffset + 62] = (((w51 >>> 22) | (w52 << 42)) & mask) + base;
+    dst[dstOffset + 63] = (w52 >>> 11) + base;
+  }
+
+  private static void unpack53(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 53) | (w1 << 11)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 42) | (w2 << 22)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 31) | (w3 << 33)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 20) | (w4 << 44)) & mask;
+    dst[dstOffset + 5] = (w4 >>> 9) & mask;
+    dst[dstOffset + 6] = ((w4 >>> 62) | (w5 << 2)) & mask;
+    dst[dstOffset + 7] = ((w5 >>> 51) | (w6 << 13)) & mask;
+    dst[dstOffset + 8] = ((w6 >>> 40) | (w7 << 24)) & mask;
+    dst[dstOffset + 9] = ((w7 >>> 29) | (w8 << 35)) & mask;
+    dst[dstOffset + 10] = ((w8 >>> 18) | (w9 << 46)) & mask;
+    dst[dstOffset + 11] = (w9 >>> 7) & mask;
+    dst[dstOffset + 12] = ((w9 >>> 60) | (w10 << 4)) & mask;
+    dst[dstOffset + 13] = ((w10 >>> 49) | (w11 << 15)) & mask;
+    dst[dstOffset + 14] = ((w11 >>> 38) | (w12 << 26)) & mask;
+    dst[dstOffset + 15] = ((w12 >>> 27) | (w13 << 37)) & mask;
+    dst[dstOffset + 16] = ((w13 >>> 16) | (w14 << 48)) & mask;
+    dst[dstOffset + 17] = (w14 >>> 5) & mask;
+    dst[dstOffset + 18] = ((w14 >>> 58) | (w15 << 6)) & mask;
+    dst[dstOffset + 19] = ((w15 >>> 47) | (w16 << 17)) & mask;
+    dst[dstOffset + 20] = ((w16 >>> 36) | (w17 << 28)) & mask;
+    dst[dstOffset + 21] = ((w17 >>> 25) | (w18 << 39)) & mask;
+    dst[dstOffset + 22] = ((w18 >>> 14) | (w19 << 50)) & mask;
+    dst[dstOffset + 23] = (w19 >>> 3) & mask;
+    dst[dstOffset + 24] = ((w19 >>> 56) | (w20 << 8)) & mask;
+    dst[dstOffset + 25] = ((w20 >>> 45) | (w21 << 19)) & mask;
+    dst[dstOffset + 26] = ((w21 >>> 34) | (w22 << 30)) & mask;
+    dst[dstOffset + 27] = ((w22 >>> 23) | (w23 << 41)) & mask;
+    dst[dstOffset + 28] = ((w23 >>> 12) | (w24 << 52)) & mask;
+    dst[dstOffset + 29] = (w24 >>> 1) & mask;
+    dst[dstOffset + 30] = ((w24 >>> 54) | (w25 << 10)) & mask;
+    dst[dstOffset + 31] = ((w25 >>> 43) | (w26 << 21)) & mask;
+    dst[dstOffset + 32] = ((w26 >>> 32) | (w27 << 32)) & mask;
+    dst[dstOffset + 33] = ((w27 >>> 21) | (w28 << 43)) & mask;
+    dst[dstOffset + 34] = (w28 >>> 10) & mask;
+    dst[dstOffset + 35] = ((w28 >>> 63) | (w29 << 1)) & mask;
+    dst[dstOffset + 36] = ((w29 >>> 52) | (w30 << 12)) & mask;
+    dst[dstOffset + 37] = ((w30 >>> 41) | (w31 << 23)) & mask;
+    dst[dstOffset + 38] = ((w31 >>> 30) | (w32 << 34)) & mask;
+    dst[dstOffset + 39] = ((w32 >>> 19) | (w33 << 45)) & mask;
+    dst[dstOffset + 40] = (w33 >>> 8) & mask;
+    dst[dstOffset + 41] = ((w33 >>> 61) | (w34 << 3)) & mask;
+    dst[dstOffset + 42] = ((w34 >>> 50) | (w35 << 14)) & mask;
+    dst[dstOffset + 43] = ((w35 >>> 39) | (w36 << 25)) & mask;
+    dst[dstOffset + 44] = ((w36 >>> 28) | (w37 << 36)) & mask;
+    dst[dstOffset + 45] = ((w37 >>> 17) | (w38 << 47)) & mask;
+    dst[dstOffset + 46] = (w38 >>> 6) & mask;
+    dst[dstOffset + 47] = ((w38 >>> 59) | (w39 << 5)) & mask;
+    dst[dstOffset + 48] = ((w39 >>> 48) | (w40 << 16)) & mask;
+    dst[dstOffset + 49] = ((w40 >>> 37) | (w41 << 27)) & mask;
+    dst[dstOffset + 50] = ((w41 >>> 26) | (w42 << 38)) & mask;
+    dst[dstOffset + 51] = ((w42 >>> 15) | (w43 << 49)) & mask;
+    dst[dstOffset + 52] = (w43 >>> 4) & mask;
+    dst[dstOffset + 53] = ((w43 >>> 57) | (w44 << 7)) & mask;
+    dst[dstOffset + 54] = ((w44 >>> 46) | (w45 << 18)) & mask;
+    dst[dstOffset + 55] = ((w45 >>> 35) | (w46 << 29)) & mask;
+    dst[dstOffset + 56] = ((w46 >>> 24) | (w47 << 40)) & mask;
+    dst[dstOffset + 57] = ((w47 >>> 13) | (w48 << 51)) & mask;
+    dst[dstOffset + 58] = (w48 >>> 2) & mask;
+    dst[dstOffset + 59] = ((w48 >>> 55) | (w49 << 9)) & mask;
+    dst[dstOffset + 60] = ((w49 >>> 44) | (w50 << 20)) & mask;
+    dst[dstOffset + 61] = ((w50 >>> 33) | (w51 << 31)) & mask;
+    dst[dstOffset + 62] = ((w51 >>> 22) | (w52 << 42)) & mask;
+    dst[dstOffset + 63] = w52 >>> 11;
+  }
+
+  private static void unpack54(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 54) | (w1 << 10)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 44) | (w2 << 20)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 34) | (w3 << 30)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 24) | (w4 << 40)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 14) | (w5 << 50)) & mask) + base;
+    dst[dstOffset + 6] = ((w5 >>> 4) & mask) + base;
+    dst[dstOffset + 7] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 8] = (((w6 >>> 48) | (w7 << 16)) & mask) + base;
+    dst[dstOffset + 9] = (((w7 >>> 38) | (w8 << 26)) & mask) + base;
+    dst[dstOffset + 10] = (((w8 >>> 28) | (w9 << 36)) & mask) + base;
+    dst[dstOffset + 11] = (((w9 >>> 18) | (w10 << 46)) & mask) + base;
+    dst[dstOffset + 12] = ((w10 >>> 8) & mask) + base;
+    dst[dstOffset + 13] = (((w10 >>> 62) | (w11 << 2)) & mask) + base;
+    dst[dstOffset + 14] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 15] = (((w12 >>> 42) | (w13 << 22)) & mask) + base;
+    dst[dstOffset + 16] = (((w13 >>> 32) | (w14 << 32)) & mask) + base;
+    dst[dstOffset + 17] = (((w14 >>> 22) | (w15 << 42)) & mask) + base;
+    dst[dstOffset + 18] = (((w15 >>> 12) | (w16 << 52)) & mask) + base;
+    dst[dstOffset + 19] = ((w16 >>> 2) & mask) + base;
+    dst[dstOffset + 20] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 21] = (((w17 >>> 46) | (w18 << 18)) & mask) + base;
+    dst[dstOffset + 22] = (((w18 >>> 36) | (w19 << 28)) & mask) + base;
+    dst[dstOffset + 23] = (((w19 >>> 26) | (w20 << 38)) & mask) + base;
+    dst[dstOffset + 24] = (((w20 >>> 16) | (w21 << 48)) & mask) + base;
+    dst[dstOffset + 25] = ((w21 >>> 6) & mask) + base;
+    dst[dstOffset + 26] = (((w21 >>> 60) | (w22 << 4)) & mask) + base;
+    dst[dstOffset + 27] = (((w22 >>> 50) | (w23 << 14)) & mask) + base;
+    dst[dstOffset + 28] = (((w23 >>> 40) | (w24 << 24)) & mask) + base;
+    dst[dstOffset + 29] = (((w24 >>> 30) | (w25 << 34)) & mask) + base;
+    dst[dstOffset + 30] = (((w25 >>> 20) | (w26 << 44)) & mask) + base;
+    dst[dstOffset + 31] = (w26 >>> 10) + base;
+    dst[dstOffset + 32] = (w27 & mask) + base;
+    dst[dstOffset + 33] = (((w27 >>> 54) | (w28 << 10)) & mask) + base;
+    dst[dstOffset + 34] = (((w28 >>> 44) | (w29 << 20)) & mask) + base;
+    dst[dstOffset + 35] = (((w29 >>> 34) | (w30 << 30)) & mask) + base;
+    dst[dstOffset + 36] = (((w30 >>> 24) | (w31 << 40)) & mask) + base;
+    dst[dstOffset + 37] = (((w31 >>> 14) | (w32 << 50)) & mask) + base;
+    dst[dstOffset + 38] = ((w32 >>> 4) & mask) + base;
+    dst[dstOffset + 39] = (((w32 >>> 58) | (w33 << 6)) & mask) + base;
+    dst[dstOffset + 40] = (((w33 >>> 48) | (w34 << 16)) & mask) + base;
+    dst[dstOffset + 41] = (((w34 >>> 38) | (w35 << 26)) & mask) + base;
+    dst[dstOffset + 42] = (((w35 >>> 28) | (w36 << 36)) & mask) + base;
+    dst[dstOffset + 43] = (((w36 >>> 18) | (w37 << 46)) & mask) + base;
+    dst[dstOffset + 44] = ((w37 >>> 8) & mask) + base;
+    dst[dstOffset + 45] = (((w37 >>> 62) | (w38 << 2)) & mask) + base;
+    dst[dstOffset + 46] = (((w38 >>> 52) | (w39 << 12)) & mask) + base;
+    dst[dstOffset + 47] = (((w39 >>> 42) | (w40 << 22)) & mask) + base;
+    dst[dstOffset + 48] = (((w40 >>> 32) | (w41 << 32)) & mask) + base;
+    dst[dstOffset + 49] = (((w41 >>> 22) | (w42 << 42)) & mask) + base;
+    dst[dstOffset + 50] = (((w42 >>> 12) | (w43 << 52)) & mask) + base;
+    dst[dstOffset + 51] = ((w43 >>> 2) & mask) + base;
+    dst[dstOffset + 52] = (((w43 >>> 56) | (w44 << 8)) & mask) + base;
+    dst[dstOffset + 53] = (((w44 >>> 46) | (w45 << 18)) & mask) + base;
+    dst[dstOffset + 54] = (((w45 >>> 36) | (w46 << 28)) & mask) + base;
+    dst[dstOffset + 55] = (((w46 >>> 26) | (w47 << 38)) & mask) + base;
+    dst[dstOffset + 56] = (((w47 >>> 16) | (w48 << 48)) & mask) + base;
+    dst[dstOffset + 57] = ((w48 >>> 6) & mask) + base;
+    dst[dstOffset + 58] = (((w48 >>> 60) | (w49 << 4)) & mask) + base;
+    dst[dstOffset + 59] = (((w49 >>> 50) | (w50 << 14)) & mask) + base;
+    dst[dstOffset + 60] = (((w50 >>> 40) | (w51 << 24)) & mask) + base;
+    dst[dstOffset + 61] = (((w51 >>> 30) | (w52 << 34)) & mask) + base;
+    dst[dstOffset + 62] = (((w52 >>> 20) | (w53 << 44)) & mask) + base;
+    dst[dstOffset + 63] = (w53 >>> 10) + base;
+  }
+
+  private static void unpack54(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 54) | (w1 << 10)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 44) | (w2 << 20)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 34) | (w3 << 30)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 24) | (w4 << 40)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 14) | (w5 << 50)) & mask;
+    dst[dstOffset + 6] = (w5 >>> 4) & mask;
+    dst[dstOffset + 7] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 8] = ((w6 >>> 48) | (w7 << 16)) & mask;
+    dst[dstOffset + 9] = ((w7 >>> 38) | (w8 << 26)) & mask;
+    dst[dstOffset + 10] = ((w8 >>> 28) | (w9 << 36)) & mask;
+    dst[dstOffset + 11] = ((w9 >>> 18) | (w10 << 46)) & mask;
+    dst[dstOffset + 12] = (w10 >>> 8) & mask;
+    dst[dstOffset + 13] = ((w10 >>> 62) | (w11 << 2)) & mask;
+    dst[dstOffset + 14] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 15] = ((w12 >>> 42) | (w13 << 22)) & mask;
+    dst[dstOffset + 16] = ((w13 >>> 32) | (w14 << 32)) & mask;
+    dst[dstOffset + 17] = ((w14 >>> 22) | (w15 << 42)) & mask;
+    dst[dstOffset + 18] = ((w15 >>> 12) | (w16 << 52)) & mask;
+    dst[dstOffset + 19] = (w16 >>> 2) & mask;
+    dst[dstOffset + 20] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 21] = ((w17 >>> 46) | (w18 << 18)) & mask;
+    dst[dstOffset + 22] = ((w18 >>> 36) | (w19 << 28)) & mask;
+    dst[dstOffset + 23] = ((w19 >>> 26) | (w20 << 38)) & mask;
+    dst[dstOffset + 24] = ((w20 >>> 16) | (w21 << 48)) & mask;
+    dst[dstOffset + 25] = (w21 >>> 6) & mask;
+    dst[dstOffset + 26] = ((w21 >>> 60) | (w22 << 4)) & mask;
+    dst[dstOffset + 27] = ((w22 >>> 50) | (w23 << 14)) & mask;
+    dst[dstOffset + 28] = ((w23 >>> 40) | (w24 << 24)) & mask;
+    dst[dstOffset + 29] = ((w24 >>> 30) | (w25 << 34)) & mask;
+    dst[dstOffset + 30] = ((w25 >>> 20) | (w26 << 44)) & mask;
+    dst[dstOffset + 31] = w26 >>> 10;
+    dst[dstOffset + 32] = w27 & mask;
+    dst[dstOffset + 33] = ((w27 >>> 54) | (w28 << 10)) & mask;
+    dst[dstOffset + 34] = ((w28 >>> 44) | (w29 << 20)) & mask;
+    dst[dstOffset + 35] = ((w29 >>> 34) | (w30 << 30)) & mask;
+    dst[dstOffset + 36] = ((w30 >>> 24) | (w31 << 40)) & mask;
+    dst[dstOffset + 37] = ((w31 >>> 14) | (w32 << 50)) & mask;
+    dst[dstOffset + 38] = (w32 >>> 4) & mask;
+    dst[dstOffset + 39] = ((w32 >>> 58) | (w33 << 6)) & mask;
+    dst[dstOffset + 40] = ((w33 >>> 48) | (w34 << 16)) & mask;
+    dst[dstOffset + 41] = ((w34 >>> 38) | (w35 << 26)) & mask;
+    dst[dstOffset + 42] = ((w35 >>> 28) | (w36 << 36)) & mask;
+    dst[dstOffset + 43] = ((w36 >>> 18) | (w37 << 46)) & mask;
+    dst[dstOffset + 44] = (w37 >>> 8) & mask;
+    dst[dstOffset + 45] = ((w37 >>> 62) | (w38 << 2)) & mask;
+    dst[dstOffset + 46] = ((w38 >>> 52) | (w39 << 12)) & mask;
+    dst[dstOffset + 47] = ((w39 >>> 42) | (w40 << 22)) & mask;
+    dst[dstOffset + 48] = ((w40 >>> 32) | (w41 << 32)) & mask;
+    dst[dstOffset + 49] = ((w41 >>> 22) | (w42 << 42)) & mask;
+    dst[dstOffset + 50] = ((w42 >>> 12) | (w43 << 52)) & mask;
+    dst[dstOffset + 51] = (w43 >>> 2) & mask;
+    dst[dstOffset + 52] = ((w43 >>> 56) | (w44 << 8)) & mask;
+    dst[dstOffset + 53] = ((w44 >>> 46) | (w45 << 18)) & mask;
+    dst[dstOffset + 54] = ((w45 >>> 36) | (w46 << 28)) & mask;
+    dst[dstOffset + 55] = ((w46 >>> 26) | (w47 << 38)) & mask;
+    dst[dstOffset + 56] = ((w47 >>> 16) | (w48 << 48)) & mask;
+    dst[dstOffset + 57] = (w48 >>> 6) & mask;
+    dst[dstOffset + 58] = ((w48 >>> 60) | (w49 << 4)) & mask;
+    dst[dstOffset + 59] = ((w49 >>> 50) | (w50 << 14)) & mask;
+    dst[dstOffset + 60] = ((w50 >>> 40) | (w51 << 24)) & mask;
+    dst[dstOffset + 61] = ((w51 >>> 30) | (w52 << 34)) & mask;
+    dst[dstOffset + 62] = ((w52 >>> 20) | (w53 << 44)) & mask;
+    dst[dstOffset + 63] = w53 >>> 10;
+  }
+
+  private static void unpack55(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 55) | (w1 << 9)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 46) | (w2 << 18)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 37) | (w3 << 27)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 28) | (w4 << 36)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 19) | (w5 << 45)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 10) | (w6 << 54)) & mask) + base;
+    dst[dstOffset + 7] = ((w6 >>> 1) & mask) + base;
+    dst[dstOffset + 8] = (((w6 >>> 56) | (w7 << 8)) & mask) + base;
+    dst[dstOffset + 9] = (((w7 >>> 47) | (w8 << 17)) & mask) + base;
+    dst[dstOffset + 10] = (((w8 >>> 38) | (w9 << 26)) & mask) + base;
+    dst[dstOffset + 11] = (((w9 >>> 29) | (w10 << 35)) & mask) + base;
+    dst[dstOffset + 12] = (((w10 >>> 20) | (w11 << 44)) & mask) + base;
+    dst[dstOffset + 13] = (((w11 >>> 11) | (w12 << 53)) & mask) + base;
+    dst[dstOffset + 14] = ((w12 >>> 2) & mask) + base;
+    dst[dstOffset + 15] = (((w12 >>> 57) | (w13 << 7)) & mask) + base;
+    dst[dstOffset + 16] = (((w13 >>> 48) | (w14 << 16)) & mask) + base;
+    dst[dstOffset + 17] = (((w14 >>> 39) | (w15 << 25)) & mask) + base;
+    dst[dstOffset + 18] = (((w15 >>> 30) | (w16 << 34)) & mask) + base;
+    dst[dstOffset + 19] = (((w16 >>> 21) | (w17 << 43)) & mask) + base;
+    dst[dstOffset + 20] = (((w17 >>> 12) | (w18 << 52)) & mask) + base;
+    dst[dstOffset + 21] = ((w18 >>> 3) & mask) + base;
+    dst[dstOffset + 22] = (((w18 >>> 58) | (w19 << 6)) & mask) + base;
+    dst[dstOffset + 23] = (((w19 >>> 49) | (w20 << 15)) & mask) + base;
+    dst[dstOffset + 24] = (((w20 >>> 40) | (w21 << 24)) & mask) + base;
+    dst[dstOffset + 25] = (((w21 >>> 31) | (w22 << 33)) & mask) + base;
+    dst[dstOffset + 26] = (((w22 >>> 22) | (w23 << 42)) & mask) + base;
+    dst[dstOffset + 27] = (((w23 >>> 13) | (w24 << 51)) & mask) + base;
+    dst[dstOffset + 28] = ((w24 >>> 4) & mask) + base;
+    dst[dstOffset + 29] = (((w24 >>> 59) | (w25 << 5)) & mask) + base;
+    dst[dstOffset + 30] = (((w25 >>> 50) | (w26 << 14)) & mask) + base;
+    dst[dstOffset + 31] = (((w26 >>> 41) | (w27 << 23)) & mask) + base;
+    dst[dstOffset + 32] = (((w27 >>> 32) | (w28 << 32)) & mask) + base;
+    dst[dstOffset + 33] = (((w28 >>> 23) | (w29 << 41)) & mask) + base;
+    dst[dstOffset + 34] = (((w29 >>> 14) | (w30 << 50)) & mask) + base;
+    dst[dstOffset + 35] = ((w30 >>> 5) & mask) + base;
+    dst[dstOffset + 36] = (((w30 >>> 60) | (w31 << 4)) & mask) + base;
+    dst[dstOffset + 37] = (((w31 >>> 51) | (w32 << 13)) & mask) + base;
+    dst[dstOffset + 38] = (((w32 >>> 42) | (w33 << 22)) & mask) + base;
+    dst[dstOffset + 39] = (((w33 >>> 33) | (w34 << 31)) & mask) + base;
+    dst[dstOffset + 40] = (((w34 >>> 24) | (w35 << 40)) & mask) + base;
+    dst[dstOffset + 41] = (((w35 >>> 15) | (w36 << 49)) & mask) + base;
+    dst[dstOffset + 42] = ((w36 >>> 6) & mask) + base;
+    dst[dstOffset + 43] = (((w36 >>> 61) | (w37 << 3)) & mask) + base;
+    dst[dstOffset + 44] = (((w37 >>> 52) | (w38 << 12)) & mask) + base;
+    dst[dstOffset + 45] = (((w38 >>> 43) | (w39 << 21)) & mask) + base;
+    dst[dstOffset + 46] = (((w39 >>> 34) | (w40 << 30)) & mask) + base;
+    dst[dstOffset + 47] = (((w40 >>> 25) | (w41 << 39)) & mask) + base;
+    dst[dstOffset + 48] = (((w41 >>> 16) | (w42 << 48)) & mask) + base;
+    dst[dstOffset + 49] = ((w42 >>> 7) & mask) + base;
+    dst[dstOffset + 50] = (((w42 >>> 62) | (w43 << 2)) & mask) + base;
+    dst[dstOffset + 51] = (((w43 >>> 53) | (w44 << 11)) & mask) + base;
+    dst[dstOffset + 52] = (((w44 >>> 44) | (w45 << 20)) & mask) + base;
+    dst[dstOffset + 53] = (((w45 >>> 35) | (w46 << 29)) & mask) + base;
+    dst[dstOffset + 54] = (((w46 >>> 26) | (w47 << 38)) & mask) + base;
+    dst[dstOffset + 55] = (((w47 >>> 17) | (w48 << 47)) & mask) + base;
+    dst[dstOffset + 56] = ((w48 >>> 8) & mask) + base;
+    dst[dstOffset + 57] = (((w48 >>> 63) | (w49 << 1)) & mask) + base;
+    dst[dstOffset + 58] = (((w49 >>> 54) | (w50 << 10)) & mask) + base;
+    dst[dstOffset + 59] = (((w50 >>> 45) | (w51 << 19)) & mask) + base;
+    dst[dstOffset + 60] = (((w51 >>> 36) | (w52 << 28)) & mask) + base;
+    dst[dstOffset + 61] = (((w52 >>> 27) | (w53 << 37)) & mask) + base;
+    dst[dstOffset + 62] = (((w53 >>> 18) | (w54 << 46)) & mask) + base;
+    dst[dstOffset + 63] = (w54 >>> 9) + base;
+  }
+
+  private static void unpack55(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 55) | (w1 << 9)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 46) | (w2 << 18)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 37) | (w3 << 27)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 28) | (w4 << 36)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 19) | (w5 << 45)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 10) | (w6 << 54)) & mask;
+    dst[dstOffset + 7] = (w6 >>> 1) & mask;
+    dst[dstOffset + 8] = ((w6 >>> 56) | (w7 << 8)) & mask;
+    dst[dstOffset + 9] = ((w7 >>> 47) | (w8 << 17)) & mask;
+    dst[dstOffset + 10] = ((w8 >>> 38) | (w9 << 26)) & mask;
+    dst[dstOffset + 11] = ((w9 >>> 29) | (w10 << 35)) & mask;
+    dst[dstOffset + 12] = ((w10 >>> 20) | (w11 << 44)) & mask;
+    dst[dstOffset + 13] = ((w11 >>> 11) | (w12 << 53)) & mask;
+    dst[dstOffset + 14] = (w12 >>> 2) & mask;
+    dst[dstOffset + 15] = ((w12 >>> 57) | (w13 << 7)) & mask;
+    dst[dstOffset + 16] = ((w13 >>> 48) | (w14 << 16)) & mask;
+    dst[dstOffset + 17] = ((w14 >>> 39) | (w15 << 25)) & mask;
+    dst[dstOffset + 18] = ((w15 >>> 30) | (w16 << 34)) & mask;
+    dst[dstOffset + 19] = ((w16 >>> 21) | (w17 << 43)) & mask;
+    dst[dstOffset + 20] = ((w17 >>> 12) | (w18 << 52)) & mask;
+    dst[dstOffset + 21] = (w18 >>> 3) & mask;
+    dst[dstOffset + 22] = ((w18 >>> 58) | (w19 << 6)) & mask;
+    dst[dstOffset + 23] = ((w19 >>> 49) | (w20 << 15)) & mask;
+    dst[dstOffset + 24] = ((w20 >>> 40) | (w21 << 24)) & mask;
+    dst[dstOffset + 25] = ((w21 >>> 31) | (w22 << 33)) & mask;
+    dst[dstOffset + 26] = ((w22 >>> 22) | (w23 << 42)) & mask;
+    dst[dstOffset + 27] = ((w23 >>> 13) | (w24 << 51)) & mask;
+    dst[dstOffset + 28] = (w24 >>> 4) & mask;
+    dst[dstOffset + 29] = ((w24 >>> 59) | (w25 << 5)) & mask;
+    dst[dstOffset + 30] = ((w25 >>> 50) | (w26 << 14)) & mask;
+    dst[dstOffset + 31] = ((w26 >>> 41) | (w27 << 23)) & mask;
+    dst[dstOffset + 32] = ((w27 >>> 32) | (w28 << 32)) & mask;
+    dst[dstOffset + 33] = ((w28 >>> 23) | (w29 << 41)) & mask;
+    dst[dstOffset + 34] = ((w29 >>> 14) | (w30 << 50)) & mask;
+    dst[dstOffset + 35] = (w30 >>> 5) & mask;
+    dst[dstOffset + 36] = ((w30 >>> 60) | (w31 << 4)) & mask;
+    dst[dstOffset + 37] = ((w31 >>> 51) | (w32 << 13)) & mask;
+    dst[dstOffset + 38] = ((w32 >>> 42) | (w33 << 22)) & mask;
+    dst[dstOffset + 39] = ((w33 >>> 33) | (w34 << 31)) & mask;
+    dst[dstOffset + 40] = ((w34 >>> 24) | (w35 << 40)) & mask;
+    dst[dstOffset + 41] = ((w35 >>> 15) | (w36 << 49)) & mask;
+    dst[dstOffset + 42] = (w36 >>> 6) & mask;
+    dst[dstOffset + 43] = ((w36 >>> 61) | (w37 << 3)) & mask;
+    dst[dstOffset + 44] = ((w37 >>> 52) | (w38 << 12)) & mask;
+    dst[dstOffset + 45] = ((w38 >>> 43) | (w39 << 21)) & mask;
+    dst[dstOffset + 46] = ((w39 >>> 34) | (w40 << 30)) & mask;
+    dst[dstOffset + 47] = ((w40 >>> 25) | (w41 << 39)) & mask;
+    dst[dstOffset + 48] = ((w41 >>> 16) | (w42 << 48)) & mask;
+    dst[dstOffset + 49] = (w42 >>> 7) & mask;
+    dst[dstOffset + 50] = ((w42 >>> 62) | (w43 << 2)) & mask;
+    dst[dstOffset + 51] = ((w43 >>> 53) | (w44 << 11)) & mask;
+    dst[dstOffset + 52] = ((w44 >>> 44) | (w45 << 20)) & mask;
+    dst[dstOffset + 53] = ((w45 >>> 35) | (w46 << 29)) & mask;
+    dst[dstOffset + 54] = ((w46 >>> 26) | (w47 << 38)) & mask;
+    dst[dstOffset + 55] = ((w47 >>> 17) | (w48 << 47)) & mask;
+    dst[dstOffset + 56] = (w48 >>> 8) & mask;
+    dst[dstOffset + 57] = ((w48 >>> 63) | (w49 << 1)) & mask;
+    dst[dstOffset + 58] = ((w49 >>> 54) | (w50 << 10)) & mask;
+    dst[dstOffset + 59] = ((w50 >>> 45) | (w51 << 19)) & mask;
+    dst[dstOffset + 60] = ((w51 >>> 36) | (w52 << 28)) & mask;
+    dst[dstOffset + 61] = ((w52 >>> 27) | (w53 << 37)) & mask;
+    dst[dstOffset + 62] = ((w53 >>> 18) | (w54 << 46)) & mask;
+    dst[dstOffset + 63] = w54 >>> 9;
+  }
+
+  private static void unpack56(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    final long w55 = (long) WORDS.get(src, index + 440);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 56) | (w1 << 8)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 48) | (w2 << 16)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 40) | (w3 << 24)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 32) | (w4 << 32)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 24) | (w5 << 40)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 16) | (w6 << 48)) & mask) + base;
+    dst[dstOffset + 7] = (w6 >>> 8) + base;
+    dst[dstOffset + 8] = (w7 & mask) + base;
+    dst[dstOffset + 9] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 10] = (((w8 >>> 48) | (w9 << 16)) & mask) + base;
+    dst[dstOffset + 11] = (((w9 >>> 40) | (w10 << 24)) & mask) + base;
+    dst[dstOffset + 12] = (((w10 >>> 32) | (w11 << 32)) & mask) + base;
+    dst[dstOffset + 13] = (((w11 >>> 24) | (w12 << 40)) & mask) + base;
+    dst[dstOffset + 14] = (((w12 >>> 16) | (w13 << 48)) & mask) + base;
+    dst[dstOffset + 15] = (w13 >>> 8) + base;
+    dst[dstOffset + 16] = (w14 & mask) + base;
+    dst[dstOffset + 17] = (((w14 >>> 56) | (w15 << 8)) & mask) + base;
+    dst[dstOffset + 18] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 19] = (((w16 >>> 40) | (w17 << 24)) & mask) + base;
+    dst[dstOffset + 20] = (((w17 >>> 32) | (w18 << 32)) & mask) + base;
+    dst[dstOffset + 21] = (((w18 >>> 24) | (w19 << 40)) & mask) + base;
+    dst[dstOffset + 22] = (((w19 >>> 16) | (w20 << 48)) & mask) + base;
+    dst[dstOffset + 23] = (w20 >>> 8) + base;
+    dst[dstOffset + 24] = (w21 & mask) + base;
+    dst[dstOffset + 25] = (((w21 >>> 56) | (w22 << 8)) & mask) + base;
+    dst[dstOffset + 26] = (((w22 >>> 48) | (w23 << 16)) & mask) + base;
+    dst[dstOffset + 27] = (((w23 >>> 40) | (w24 << 24)) & mask) + base;
+    dst[dstOffset + 28] = (((w24 >>> 32) | (w25 << 32)) & mask) + base;
+    dst[dstOffset + 29] = (((w25 >>> 24) | (w26 << 40)) & mask) + base;
+    dst[dstOffset + 30] = (((w26 >>> 16) | (w27 << 48)) & mask) + base;
+    dst[dstOffset + 31] = (w27 >>> 8) + base;
+    dst[dstOffset + 32] = (w28 & mask) + base;
+    dst[dstOffset + 33] = (((w28 >>> 56) | (w29 << 8)) & mask) + base;
+    dst[dstOffset + 34] = (((w29 >>> 48) | (w30 << 16)) & mask) + base;
+    dst[dstOffset + 35] = (((w30 >>> 40) | (w31 << 24)) & mask) + base;
+    dst[dstOffset + 36] = (((w31 >>> 32) | (w32 << 32)) & mask) + base;
+    dst[dstOffset + 37] = (((w32 >>> 24) | (w33 << 40)) & mask) + base;
+    dst[dstOffset + 38] = (((w33 >>> 16) | (w34 << 48)) & mask) + base;
+    dst[dstOffset + 39] = (w34 >>> 8) + base;
+    dst[dstOffset + 40] = (w35 & mask) + base;
+    dst[dstOffset + 41] = (((w35 >>> 56) | (w36 << 8)) & mask) + base;
+    dst[dstOffset + 42] = (((w36 >>> 48) | (w37 << 16)) & mask) + base;
+    dst[dstOffset + 43] = (((w37 >>> 40) | (w38 << 24)) & mask) + base;
+    dst[dstOffset + 44] = (((w38 >>> 32) | (w39 << 32)) & mask) + base;
+    dst[dstOffset + 45] = (((w39 >>> 24) | (w40 << 40)) & mask) + base;
+    dst[dstOffset + 46] = (((w40 >>> 16) | (w41 << 48)) & mask) + base;
+    dst[dstOffset + 47] = (w41 >>> 8) + base;
+    dst[dstOffset + 48] = (w42 & mask) + base;
+    dst[dstOffset + 49] = (((w42 >>> 56) | (w43 << 8)) & mask) + base;
+    dst[dstOffset + 50] = (((w43 >>> 48) | (w44 << 16)) & mask) + base;
+    dst[dstOffset + 51] = (((w44 >>> 40) | (w45 << 24)) & mask) + base;
+    dst[dstOffset + 52] = (((w45 >>> 32) | (w46 << 32)) & mask) + base;
+    dst[dstOffset + 53] = (((w46 >>> 24) | (w47 << 40)) & mask) + base;
+    dst[dstOffset + 54] = (((w47 >>> 16) | (w48 << 48)) & mask) + base;
+    dst[dstOffset + 55] = (w48 >>> 8) + base;
+    dst[dstOffset + 56] = (w49 & mask) + base;
+    dst[dstOffset + 57] = (((w49 >>> 56) | (w50 << 8)) & mask) + base;
+    dst[dstOffset + 58] = (((w50 >>> 48) | (w51 << 16)) & mask) + base;
+    dst[dstOffset + 59] = (((w51 >>> 40) | (w52 << 24)) & mask) + base;
+    dst[dstOffset + 60] = (((w52 >>> 32) | (w53 << 32)) & mask) + base;
+    dst[dstOffset + 61] = (((w53 >>> 24) | (w54 << 40)) & mask) + base;
+    dst[dstOffset + 62] = (((w54 >>> 16) | (w55 << 48)) & mask) + base;
+    dst[dstOffset + 63] = (w55 >>> 8) + base;
+  }
+
+  private static void unpack56(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    final long w55 = src[srcOffset + 55];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 56) | (w1 << 8)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 48) | (w2 << 16)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 40) | (w3 << 24)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 32) | (w4 << 32)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 24) | (w5 << 40)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 16) | (w6 << 48)) & mask;
+    dst[dstOffset + 7] = w6 >>> 8;
+    dst[dstOffset + 8] = w7 & mask;
+    dst[dstOffset + 9] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 10] = ((w8 >>> 48) | (w9 << 16)) & mask;
+    dst[dstOffset + 11] = ((w9 >>> 40) | (w10 << 24)) & mask;
+    dst[dstOffset + 12] = ((w10 >>> 32) | (w11 << 32)) & mask;
+    dst[dstOffset + 13] = ((w11 >>> 24) | (w12 << 40)) & mask;
+    dst[dstOffset + 14] = ((w12 >>> 16) | (w13 << 48)) & mask;
+    dst[dstOffset + 15] = w13 >>> 8;
+    dst[dstOffset + 16] = w14 & mask;
+    dst[dstOffset + 17] = ((w14 >>> 56) | (w15 << 8)) & mask;
+    dst[dstOffset + 18] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 19] = ((w16 >>> 40) | (w17 << 24)) & mask;
+    dst[dstOffset + 20] = ((w17 >>> 32) | (w18 << 32)) & mask;
+    dst[dstOffset + 21] = ((w18 >>> 24) | (w19 << 40)) & mask;
+    dst[dstOffset + 22] = ((w19 >>> 16) | (w20 << 48)) & mask;
+    dst[dstOffset + 23] = w20 >>> 8;
+    dst[dstOffset + 24] = w21 & mask;
+    dst[dstOffset + 25] = ((w21 >>> 56) | (w22 << 8)) & mask;
+    dst[dstOffset + 26] = ((w22 >>> 48) | (w23 << 16)) & mask;
+    dst[dstOffset + 27] = ((w23 >>> 40) | (w24 << 24)) & mask;
+    dst[dstOffset + 28] = ((w24 >>> 32) | (w25 << 32)) & mask;
+    dst[dstOffset + 29] = ((w25 >>> 24) | (w26 << 40)) & mask;
+    dst[dstOffset + 30] = ((w26 >>> 16) | (w27 << 48)) & mask;
+    dst[dstOffset + 31] = w27 >>> 8;
+    dst[dstOffset + 32] = w28 & mask;
+    dst[dstOffset + 33] = ((w28 >>> 56) | (w29 << 8)) & mask;
+    dst[dstOffset + 34] = ((w29 >>> 48) | (w30 << 16)) & mask;
+    dst[dstOffset + 35] = ((w30 >>> 40) | (w31 << 24)) & mask;
+    dst[dstOffset + 36] = ((w31 >>> 32) | (w32 << 32)) & mask;
+    dst[dstOffset + 37] = ((w32 >>> 24) | (w33 << 40)) & mask;
+    dst[dstOffset + 38] = ((w33 >>> 16) | (w34 << 48)) & mask;
+    dst[dstOffset + 39] = w34 >>> 8;
+    dst[dstOffset + 40] = w35 & mask;
+    dst[dstOffset + 41] = ((w35 >>> 56) | (w36 << 8)) & mask;
+    dst[dstOffset + 42] = ((w36 >>> 48) | (w37 << 16)) & mask;
+    dst[dstOffset + 43] = ((w37 >>> 40) | (w38 << 24)) & mask;
+    dst[dstOffset + 44] = ((w38 >>> 32) | (w39 << 32)) & mask;
+    dst[dstOffset + 45] = ((w39 >>> 24) | (w40 << 40)) & mask;
+    dst[dstOffset + 46] = ((w40 >>> 16) | (w41 << 48)) & mask;
+    dst[dstOffset + 47] = w41 >>> 8;
+    dst[dstOffset + 48] = w42 & mask;
+    dst[dstOffset + 49] = ((w42 >>> 56) | (w43 << 8)) & mask;
+    dst[dstOffset + 50] = ((w43 >>> 48) | (w44 << 16)) & mask;
+    dst[dstOffset + 51] = ((w44 >>> 40) | (w45 << 24)) & mask;
+    dst[dstOffset + 52] = ((w45 >>> 32) | (w46 << 32)) & mask;
+    dst[dstOffset + 53] = ((w46 >>> 24) | (w47 << 40)) & mask;
+    dst[dstOffset + 54] = ((w47 >>> 16) | (w48 << 48)) & mask;
+    dst[dstOffset + 55] = w48 >>> 8;
+    dst[dstOffset + 56] = w49 & mask;
+    dst[dstOffset + 57] = ((w49 >>> 56) | (w50 << 8)) & mask;
+    dst[dstOffset + 58] = ((w50 >>> 48) | (w51 << 16)) & mask;
+    dst[dstOffset + 59] = ((w51 >>> 40) | (w52 << 24)) & mask;
+    dst[dstOffset + 60] = ((w52 >>> 32) | (w53 << 32)) & mask;
+    dst[dstOffset + 61] = ((w53 >>> 24) | (w54 << 40)) & mask;
+    dst[dstOffset + 62] = ((w54 >>> 16) | (w55 << 48)) & mask;
+    dst[dstOffset + 63] = w55 >>> 8;
+  }
+}
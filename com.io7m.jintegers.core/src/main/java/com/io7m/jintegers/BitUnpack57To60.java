@@ -0,0 +1,1135 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 57 to 60.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack57To60
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack57To60()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 57 -> unpack57(src, index, base, dst, dstOffset);
+      case 58 -> unpack58(src, index, base, dst, dstOffset);
+      case 59 -> unpack59(src, index, base, dst, dstOffset);
+      case 60 -> unpack60(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 57 -> unpack57(src, srcOffset, dst, dstOffset);
+      case 58 -> unpack58(src, srcOffset, dst, dstOffset);
+      case 59 -> unpack59(src, srcOffset, dst, dstOffset);
+      case 60 -> unpack60(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack57(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    final long w55 = (long) WORDS.get(src, index + 440);
+    final long w56 = (long) WORDS.get(src, index + 448);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 57) | (w1 << 7)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 50) | (w2 << 14)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 43) | (w3 << 21)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 36) | (w4 << 28)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 29) | (w5 << 35)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 22) | (w6 << 42)) & mask) + base;
+    dst[dstOffset + 7] = (((w6 >>> 15) | (w7 << 49)) & mask) + base;
+    dst[dstOffset + 8] = (((w7 >>> 8) | (w8 << 56)) & mask) + base;
+    dst[dstOffset + 9] = ((w8 >>> 1) & mask) + base;
+    dst[dstOffset + 10] = (((w8 >>> 58) | (w9 << 6)) & mask) + base;
+    dst[dstOffset + 11] = (((w9 >>> 51) | (w10 << 13)) & mask) + base;
+    dst[dstOffset + 12] = (((w10 >>> 44) | (w11 << 20)) & mask) + base;
+    dst[dstOffset + 13] = (((w11 >>> 37) | (w12 << 27)) & mask) + base;
+    dst[dstOffset + 14] = (((w12 >>> 30) | (w13 << 34)) & mask) + base;
+    dst[dstOffset + 15] = (((w13 >>> 23) | (w14 << 41)) & mask) + base;
+    dst[dstOffset + 16] = (((w14 >>> 16) | (w15 << 48)) & mask) + base;
+    dst[dstOffset + 17] = (((w15 >>> 9) | (w16 << 55)) & mask) + base;
+    dst[dstOffset + 18] = ((w16 >>> 2) & mask) + base;
+    dst[dstOffset + 19] = (((w16 >>> 59) | (w17 << 5)) & mask) + base;
+    dst[dstOffset + 20] = (((w17 >>> 52) | (w18 << 12)) & mask) + base;
+    dst[dstOffset + 21] = (((w18 >>> 45) | (w19 << 19)) & mask) + base;
+    dst[dstOffset + 22] = (((w19 >>> 38) | (w20 << 26)) & mask) + base;
+    dst[dstOffset + 23] = (((w20 >>> 31) | (w21 << 33)) & mask) + base;
+    dst[dstOffset + 24] = (((w21 >>> 24) | (w22 << 40)) & mask) + base;
+    dst[dstOffset + 25] = (((w22 >>> 17) | (w23 << 47)) & mask) + base;
+    dst[dstOffset + 26] = (((w23 >>> 10) | (w24 << 54)) & mask) + base;
+    dst[dstOffset + 27] = ((w24 >>> 3) & mask) + base;
+    dst[dstOffset + 28] = (((w24 >>> 60) | (w25 << 4)) & mask) + base;
+    dst[dstOffset + 29] = (((w25 >>> 53) | (w26 << 11)) & mask) + base;
+    dst[dstOffset + 30] = (((w26 >>> 46) | (w27 << 18)) & mask) + base;
+    dst[dstOffset + 31] = (((w27 >>> 39) | (w28 << 25)) & mask) + base;
+    dst[dstOffset + 32] = (((w28 >>> 32) | (w29 << 32)) & mask) + base;
+    dst[dstOffset + 33] = (((w29 >>> 25) | (w30 << 39)) & mask) + base;
+    dst[dstOffset + 34] = (((w30 >>> 18) | (w31 << 46)) & mask) + base;
+    dst[dstOffset + 35] = (((w31 >>> 11) | (w32 << 53)) & mask) + base;
+    dst[dstOffset + 36] = ((w32 >>> 4) & mask) + base;
+    dst[dstOffset + 37] = (((w32 >>> 61) | (w33 << 3)) & mask) + base;
+    dst[dstOffset + 38] = (((w33 >>> 54) | (w34 << 10)) & mask) + base;
+    dst[dstOffset + 39] = (((w34 >>> 47) | (w35 << 17)) & mask) + base;
+    dst[dstOffset + 40] = (((w35 >>> 40) | (w36 << 24)) & mask) + base;
+    dst[dstOffset + 41] = (((w36 >>> 33) | (w37 << 31)) & mask) + base;
+    dst[dstOffset + 42] = (((w37 >>> 26) | (w38 << 38)) & mask) + base;
+    dst[dstOffset + 43] = (((w38 >>> 19) | (w39 << 45)) & mask) + base;
+    dst[dstOffset + 44] = (((w39 >>> 12) | (w40 << 52)) & mask) + base;
+    dst[dstOffset + 45] = ((w40 >>> 5) & mask) + base;
+    dst[dstOffset + 46] = (((w40 >>> 62) | (w41 << 2)) & mask) + base;
+    dst[dstOffset + 47] = (((w41 >>> 55) | (w42 << 9)) & mask) + base;
+    dst[dstOffset + 48] = (((w42 >>> 48) | (w43 << 16)) & mask) + base;
+    dst[dstOffset + 49] = (((w43 >>> 41) | (w44 << 23)) & mask) + base;
+    dst[dstOffset + 50] = (((w44 >>> 34) | (w45 << 30)) & mask) + base;
+    dst[dstOffset + 51] = (((w45 >>> 27) | (w46 << 37)) & mask) + base;
+    dst[dstOffset + 52] = (((w46 >>> 20) | (w47 << 44)) & mask) + base;
+    dst[dstOffset + 53] = (((w47 >>> 13) | (w48 << 51)) & mask) + base;
+    dst[dstOffset + 54] = ((w48 >>> 6) & mask) + base;
+    dst[dstOffset + 55] = (((w48 >>> 63) | (w49 << 1)) & mask) + base;
+    dst[dstOffset + 56] = (((w49 >>> 56) | (w50 << 8)) & mask) + base;
+    dst[dstOffset + 57] = (((w50 >>> 49) | (w51 << 15)) & mask) + base;
+    dst[dstOffset + 58] = (((w51 >>> 42) | (w52 << 22)) & mask) + base;
+    dst[dstOffset + 59] = (((w52 >>> 35) | (w53 << 29)) & mask) + base;
+    dst[dstOffset + 60] = (((w53 >>> 28) | (w54 << 36)) & mask) + base;
+    dst[dstOffset + 61] = (((w54 >>> 21) | (w55 << 43)) & mask) + base;
+    dst[dstOffset + 62] = (((w55 >>> 14) | (w56 << 50)) & mask) + base;
+    dst[dstOffset + 63] = (w56 >>> 7) + base;
+  }
+
+  private static void unpack57(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    final long w55 = src[srcOffset + 55];
+    final long w56 = src[srcOffset + 56];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 57) | (w1 << 7)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 50) | (w2 << 14)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 43) | (w3 << 21)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 36) | (w4 << 28)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 29) | (w5 << 35)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 22) | (w6 << 42)) & mask;
+    dst[dstOffset + 7] = ((w6 >>> 15) | (w7 << 49)) & mask;
+    dst[dstOffset + 8] = ((w7 >>> 8) | (w8 << 56)) & mask;
+    dst[dstOffset + 9] = (w8 >>> 1) & mask;
+    dst[dstOffset + 10] = ((w8 >>> 58) | (w9 << 6)) & mask;
+    dst[dstOffset + 11] = ((w9 >>> 51) | (w10 << 13)) & mask;
+    dst[dstOffset + 12] = ((w10 >>> 44) | (w11 << 20)) & mask;
+    dst[dstOffset + 13] = ((w11 >>> 37) | (w12 << 27)) & mask;
+    dst[dstOffset + 14] = ((w12 >>> 30) | (w13 << 34)) & mask;
+    dst[dstOffset + 15] = ((w13 >>> 23) | (w14 << 41)) & mask;
+    dst[dstOffset + 16] = ((w14 >>> 16) | (w15 << 48)) & mask;
+    dst[dstOffset + 17] = ((w15 >>> 9) | (w16 << 55)) & mask;
+    dst[dstOffset + 18] = (w16 >>> 2) & mask;
+    dst[dstOffset + 19] = ((w16 >>> 59) | (w17 << 5)) & mask;
+    dst[dstOffset + 20] = ((w17 >>> 52) | (w18 << 12)) & mask;
+    dst[dstOffset + 21] = ((w18 >>> 45) | (w19 << 19)) & mask;
+    dst[dstOffset + 22] = ((w19 >>> 38) | (w20 << 26)) & mask;
+    dst[dstOffset + 23] = ((w20 >>> 31) | (w21 << 33)) & mask;
+    dst[dstOffset + 24] = ((w21 >>> 24) | (w22 << 40)) & mask;
+    dst[dstOffset + 25] = ((w22 >>> 17) | (w23 << 47)) & mask;
+    dst[dstOffset + 26] = ((w23 >>> 10) | (w24 << 54)) & mask;
+    dst[dstOffset + 27] = (w24 >>> 3) & mask;
+    dst[dstOffset + 28] = ((w24 >>> 60) | (w25 << 4)) & mask;
+    dst[dstOffset + 29] = ((w25 >>> 53) | (w26 << 11)) & mask;
+    dst[dstOffset + 30] = ((w26 >>> 46) | (w27 << 18)) & mask;
+    dst[dstOffset + 31] = ((w27 >>> 39) | (w28 << 25)) & mask;
+    dst[dstOffset + 32] = ((w28 >>> 32) | (w29 << 32)) & mask;
+    dst[dstOffset + 33] = ((w29 >>> 25) | (w30 << 39)) & mask;
+    dst[dstOffset + 34] = ((w30 >>> 18) | (w31 << 46)) & mask;
+    dst[dstOffset + 35] = ((w31 >>> 11) | (w32 << 53)) & mask;
+    dst[dstOffset + 36] = (w32 >>> 4) & mask;
+    dst[dstOffset + 37] = ((w32 >>> 61) | (w33 << 3)) & mask;
+    dst[dstOffset + 38] = ((w33 >>> 54) | (w34 << 10)) & mask;
+    dst[dstOffset + 39] = ((w34 >>> 47) | (w35 << 17)) & mask;
+    dst[dstOffset + 40] = ((w35 >>> 40) | (w36 << 24)) & mask;
+    dst[dstOffset + 41] = ((w36 >>> 33) | (w37 << 31)) & mask;
+    dst[dstOffset + 42] = ((w37 >>> 26) | (w38 << 38)) & mask;
+    dst[dstOffset + 43] = ((w38 >>> 19) | (w39 << 45)) & mask;
+    dst[dstOffset + 44] = ((w39 >>> 12) | (w40 << 52)) & mask;
+    dst[dstOffset + 45] = (w40 >>> 5) & mask;
+    dst[dstOffset + 46] = ((w40 >>> 62) | (w41 << 2)) & mask;
+    dst[dstOffset + 47] = ((w41 >>> 55) | (w42 << 9)) & mask;
+    dst[dstOffset + 48] = ((w42 >>> 48) | (w43 << 16)) & mask;
+    dst[dstOffset + 49] = ((w43 >>> 41) | (w44 << 23)) & mask;
+    dst[dstOffset + 50] = ((w44 >>> 34) | (w45 << 30)) & mask;
+    dst[dstOffset + 51] = ((w45 >>> 27) | (w46 << 37)) & mask;
+    dst[dstOffset + 52] = ((w46 >>> 20) | (w47 << 44)) & mask;
+    dst[dstOffset + 53] = ((w47 >>> 13) | (w48 << 51)) & mask;
+    dst[dstOffset + 54] = (w48 >>> 6) & mask;
+    dst[dstOffset + 55] = ((w48 >>> 63) | (w49 << 1)) & mask;
+    dst[dstOffset + 56] = ((w49 >>> 56) | (w50 << 8)) & mask;
+    dst[dstOffset + 57] = ((w50 >>> 49) | (w51 << 15)) & mask;
+    dst[dstOffset + 58] = ((w51 >>> 42) | (w52 << 22)) & mask;
+    dst[dstOffset + 59] = ((w52 >>> 35) | (w53 << 29)) & mask;
+    dst[dstOffset + 60] = ((w53 >>> 28) | (w54 << 36)) & mask;
+    dst[dstOffset + 61] = ((w54 >>> 21) | (w55 << 43)) & mask;
+    dst[dstOffset + 62] = ((w55 >>> 14) | (w56 << 50)) & mask;
+    dst[dstOffset + 63] = w56 >>> 7;
+  }
+
+  private static void unpack58(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    final long w55 = (long) WORDS.get(src, index + 440);
+    final long w56 = (long) WORDS.get(src, index + 448);
+    final long w57 = (long) WORDS.get(src, index + 456);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 58) | (w1 << 6)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 52) | (w2 << 12)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 46) | (w3 << 18)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 40) | (w4 << 24)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 34) | (w5 << 30)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 28) | (w6 << 36)) & mask) + base;
+    dst[dstOffset + 7] = (((w6 >>> 22) | (w7 << 42)) & mask) + base;
+    dst[dstOffset + 8] = (((w7 >>> 16) | (w8 << 48)) & mask) + base;
+    dst[dstOffset + 9] = (((w8 >>> 10) | (w9 << 54)) & mask) + base;
+    dst[dstOffset + 10] = ((w9 >>> 4) & mask) + base;
+    dst[dstOffset + 11] = (((w9 >>> 62) | (w10 << 2)) & mask) + base;
+    dst[dstOffset + 12] = (((w10 >>> 56) | (w11 << 8)) & mask) + base;
+    dst[dstOffset + 13] = (((w11 >>> 50) | (w12 << 14)) & mask) + base;
+    dst[dstOffset + 14] = (((w12 >>> 44) | (w13 << 20)) & mask) + base;
+    dst[dstOffset + 15] = (((w13 >>> 38) | (w14 << 26)) & mask) + base;
+    dst[dstOffset + 16] = (((w14 >>> 32) | (w15 << 32)) & mask) + base;
+    dst[dstOffset + 17] = (((w15 >>> 26) | (w16 << 38)) & mask) + base;
+    dst[dstOffset + 18] = (((w16 >>> 20) | (w17 << 44)) & mask) + base;
+    dst[dstOffset + 19] = (((w17 >>> 14) | (w18 << 50)) & mask) + base;
+    dst[dstOffset + 20] = (((w18 >>> 8) | (w19 << 56)) & mask) + base;
+    dst[dstOffset + 21] = ((w19 >>> 2) & mask) + base;
+    dst[dstOffset + 22] = (((w19 >>> 60) | (w20 << 4)) & mask) + base;
+    dst[dstOffset + 23] = (((w20 >>> 54) | (w21 << 10)) & mask) + base;
+    dst[dstOffset + 24] = (((w21 >>> 48) | (w22 << 16)) & mask) + base;
+    dst[dstOffset + 25] = (((w22 >>> 42) | (w23 << 22)) & mask) + base;
+    dst[dstOffset + 26] = (((w23 >>> 36) | (w24 << 28)) & mask) + base;
+    dst[dstOffset + 27] = (((w24 >>> 30) | (w25 << 34)) & mask) + base;
+    dst[dstOffset + 28] = (((w25 >>> 24) | (w26 << 40)) & mask) + base;
+    dst[dstOffset + 29] = (((w26 >>> 18) | (w27 << 46)) & mask) + base;
+    dst[dstOffset + 30] = (((w27 >>> 12) | (w28 << 52)) & mask) + base;
+    dst[dstOffset + 31] = (w28 >>> 6) + base;
+    dst[dstOffset + 32] = (w29 & mask) + base;
+    dst[dstOffset + 33] = (((w29 >>> 58) | (w30 << 6)) & mask) + base;
+    dst[dstOffset + 34] = (((w30 >>> 52) | (w31 << 12)) & mask) + base;
+    dst[dstOffset + 35] = (((w31 >>> 46) | (w32 << 18)) & mask) + base;
+    dst[dstOffset + 36] = (((w32 >>> 40) | (w33 << 24)) & mask) + base;
+    dst[dstOffset + 37] = (((w33 >>> 34) | (w34 << 30)) & mask) + base;
+    dst[dstOffset + 38] = (((w34 >>> 28) | (w35 << 36)) & mask) + base;
+    dst[dstOffset + 39] = (((w35 >>> 22) | (w36 << 42)) & mask) + base;
+    dst[dstOffset + 40] = (((w36 >>> 16) | (w37 << 48)) & mask) + base;
+    dst[dstOffset + 41] = (((w37 >>> 10) | (w38 << 54)) & mask) + base;
+    dst[dstOffset + 42] = ((w38 >>> 4) & mask) + base;
+    dst[dstOffset + 43] = (((w38 >>> 62) | (w39 << 2)) & mask) + base;
+    dst[dstOffset + 44] = (((w39 >>> 56) | (w40 << 8)) & mask) + base;
+    dst[dstOffset + 45] = (((w40 >>> 50) | (w41 << 14)) & mask) + base;
+    dst[dstOffset + 46] = (((w41 >>> 44) | (w42 << 20)) & mask) + base;
+    dst[dstOffset + 47] = (((w42 >>> 38) | (w43 << 26)) & mask) + base;
+    dst[dstOffset + 48] = (((w43 >>> 32) | (w44 << 32)) & mask) + base;
+    dst[dstOffset + 49] = (((w44 >>> 26) | (w45 << 38)) & mask) + base;
+    dst[dstOffset + 50] = (((w45 >>> 20) | (w46 << 44)) & mask) + base;
+    dst[dstOffset + 51] = (((w46 >>> 14) | (w47 << 50)) & mask) + base;
+    dst[dstOffset + 52] = (((w47 >>> 8) | (w48 << 56)) & mask) + base;
+    dst[dstOffset + 53] = ((w48 >>> 2) & mask) + base;
+    dst[dstOffset + 54] = (((w48 >>> 60) | (w49 << 4)) & mask) + base;
+    dst[dstOffset + 55] = (((w49 >>> 54) | (w50 << 10)) & mask) + base;
+    dst[dstOffset + 56] = (((w50 >>> 48) | (w51 << 16)) & mask) + base;
+    dst[dstOffset + 57] = (((w51 >>> 42) | (w52 << 22)) & mask) + base;
+    dst[dstOffset + 58] = (((w52 >>> 36) | (w53 << 28)) & mask) + base;
+    dst[dstOffset + 59] = (((w53 >>> 30) | (w54 << 34)) & mask) + base;
+    dst[dstOffset + 60] = (((w54 >>> 24) | (w55 << 40)) & mask) + base;
+    dst[dstOffset + 61] = (((w55 >>> 18) | (w56 << 46)) & mask) + base;
+    dst[dstOffset + 62] = (((w56 >>> 12) | (w57 << 52)) & mask) + base;
+    dst[dstOffset + 63] = (w57 >>> 6) + base;
+  }
+
+  private static void unpack58(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    final long w55 = src[srcOffset + 55];
+    final long w56 = src[srcOffset + 56];
+    final long w57 = src[srcOffset + 57];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 58) | (w1 << 6)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 52) | (w2 << 12)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 46) | (w3 << 18)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 40) | (w4 << 24)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 34) | (w5 << 30)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 28) | (w6 << 36)) & mask;
+    dst[dstOffset + 7] = ((w6 >>> 22) | (w7 << 42)) & mask;
+    dst[dstOffset + 8] = ((w7 >>> 16) | (w8 << 48)) & mask;
+    dst[dstOffset + 9] = ((w8 >>> 10) | (w9 << 54)) & mask;
+    dst[dstOffset + 10] = (w9 >>> 4) & mask;
+    dst[dstOffset + 11] = ((w9 >>> 62) | (w10 << 2)) & mask;
+    dst[dstOffset + 12] = ((w10 >>> 56) | (w11 << 8)) & mask;
+    dst[dstOffset + 13] = ((w11 >>> 50) | (w12 << 14)) & mask;
+    dst[dstOffset + 14] = ((w12 >>> 44) | (w13 << 20)) & mask;
+    dst[dstOffset + 15] = ((w13 >>> 38) | (w14 << 26)) & mask;
+    dst[dstOffset + 16] = ((w14 >>> 32) | (w15 << 32)) & mask;
+    dst[dstOffset + 17] = ((w15 >>> 26) | (w16 << 38)) & mask;
+    dst[dstOffset + 18] = ((w16 >>> 20) | (w17 << 44)) & mask;
+    dst[dstOffset + 19] = ((w17 >>> 14) | (w18 << 50)) & mask;
+    dst[dstOffset + 20] = ((w18 >>> 8) | (w19 << 56)) & mask;
+    dst[dstOffset + 21] = (w19 >>> 2) & mask;
+    dst[dstOffset + 22] = ((w19 >>> 60) | (w20 << 4)) & mask;
+    dst[dstOffset + 23] = ((w20 >>> 54) | (w21 << 10)) & mask;
+    dst[dstOffset + 24] = ((w21 >>> 48) | (w22 << 16)) & mask;
+    dst[dstOffset + 25] = ((w22 >>> 42) | (w23 << 22)) & mask;
+    dst[dstOffset + 26] = ((w23 >>> 36) | (w24 << 28)) & mask;
+    dst[dstOffset + 27] = ((w24 >>> 30) | (w25 << 34)) & mask;
+    dst[dstOffset + 28] = ((w25 >>> 24) | (w26 << 40)) & mask;
+    dst[dstOffset + 29] = ((w26 >>> 18) | (w27 << 46)) & mask;
+    dst[dstOffset + 30] = ((w27 >>> 12) | (w28 << 52)) & mask;
+    dst[dstOffset + 31] = w28 >>> 6;
+    dst[dstOffset + 32] = w29 & mask;
+    dst[dstOffset + 33] = ((w29 >>> 58) | (w30 << 6)) & mask;
+    dst[dstOffset + 34] = ((w30 >>> 52) | (w31 << 12)) & mask;
+    dst[dstOffset + 35] = ((w31 >>> 46) | (w32 << 18)) & mask;
+    dst[dstOffset + 36] = ((w32 >>> 40) | (w33 << 24)) & mask;
+    dst[dstOffset + 37] = ((w33 >>> 34) | (w34 << 30)) & mask;
+    dst[dstOffset + 38] = ((w34 >>> 28) | (w35 << 36)) & mask;
+    dst[dstOffset + 39] = ((w35 >>> 22) | (w36 << 42)) & mask;
+    dst[dstOffset + 40] = ((w36 >>> 16) | (w37 << 48)) & mask;
+    dst[dstOffset + 41] = ((w37 >>> 10) | (w38 << 54)) & mask;
+    dst[dstOffset + 42] = (w38 >>> 4) & mask;
+    dst[dstOffset + 43] = ((w38 >>> 62) | (w39 << 2)) & mask;
+    dst[dstOffset + 44] = ((w39 >>> 56) | (w40 << 8)) & mask;
+    dst[dstOffset + 45] = ((w40 >>> 50) | (w41 << 14)) & mask;
+    dst[dstOffset + 46] = ((w41 >>> 44) | (w42 << 20)) & mask;
+    dst[dstOffset + 47] = ((w42 >>> 38) | (w43 << 26)) & mask;
+    dst[dstOffset + 48] = ((w43 >>> 32) | (w44 << 32)) & mask;
+    dst[dstOffset + 49] = ((w44 >>> 26) | (w45 << 38)) & mask;
+    dst[dstOffset + 50] = ((w45 >>> 20) | (w46 << 44)) & mask;
+    dst[dstOffset + 51] = ((w46 >>> 14) | (w47 << 50)) & mask;
+    dst[dstOffset + 52] = ((w47 >>> 8) | (w48 << 56)) & mask;
+    dst[dstOffset + 53] = (w48 >>> 2) & mask;
+    dst[dstOffset + 54] = ((w48 >>> 60) | (w49 << 4)) & mask;
+    dst[dstOffset + 55] = ((w49 >>> 54) | (w50 << 10)) & mask;
+    dst[dstOffset + 56] = ((w50 >>> 48) | (w51 << 16)) & mask;
+    dst[dstOffset + 57] = ((w51 >>> 42) | (w52 << 22)) & mask;
+    dst[dstOffset + 58] = ((w52 >>> 36) | (w53 << 28)) & mask;
+    dst[dstOffset + 59] = ((w53 >>> 30) | (w54 << 34)) & mask;
+    dst[dstOffset + 60] = ((w54 >>> 24) | (w55 << 40)) & mask;
+    dst[dstOffset + 61] = ((w55 >>> 18) | (w56 << 46)) & mask;
+    dst[dstOffset + 62] = ((w56 >>> 12) | (w57 << 52)) & mask;
+    dst[dstOffset + 63] = w57 >>> 6;
+  }
+
+  private static void unpack59(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    final long w55 = (long) WORDS.get(src, index + 440);
+    final long w56 = (long) WORDS.get(src, index + 448);
+    final long w57 = (long) WORDS.get(src, index + 456);
+    final long w58 = (long) WORDS.get(src, index + 464);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 59) | (w1 << 5)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 54) | (w2 << 10)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 49) | (w3 << 15)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 44) | (w4 << 20)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 39) | (w5 << 25)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 34) | (w6 << 30)) & mask) + base;
+    dst[dstOffset + 7] = (((w6 >>> 29) | (w7 << 35)) & mask) + base;
+    dst[dstOffset + 8] = (((w7 >>> 24) | (w8 << 40)) & mask) + base;
+    dst[dstOffset + 9] = (((w8 >>> 19) | (w9 << 45)) & mask) + base;
+    dst[dstOffset + 10] = (((w9 >>> 14) | (w10 << 50)) & mask) + base;
+    dst[dstOffset + 11] = (((w10 >>> 9) | (w11 << 55)) & mask) + base;
+    dst[dstOffset + 12] = ((w11 >>> 4) & mask) + base;
+    dst[dstOffset + 13] = (((w11 >>> 63) | (w12 << 1)) & mask) + base;
+    dst[dstOffset + 14] = (((w12 >>> 58) | (w13 << 6)) & mask) + base;
+    dst[dstOffset + 15] = (((w13 >>> 53) | (w14 << 11)) & mask) + base;
+    dst[dstOffset + 16] = (((w14 >>> 48) | (w15 << 16)) & mask) + base;
+    dst[dstOffset + 17] = (((w15 >>> 43) | (w16 << 21)) & mask) + base;
+    dst[dstOffset + 18] = (((w16 >>> 38) | (w17 << 26)) & mask) + base;
+    dst[dstOffset + 19] = (((w17 >>> 33) | (w18 << 31)) & mask) + base;
+    dst[dstOffset + 20] = (((w18 >>> 28) | (w19 << 36)) & mask) + base;
+    dst[dstOffset + 21] = (((w19 >>> 23) | (w20 << 41)) & mask) + base;
+    dst[dstOffset + 22] = (((w20 >>> 18) | (w21 << 46)) & mask) + base;
+    dst[dstOffset + 23] = (((w21 >>> 13) | (w22 << 51)) & mask) + base;
+    dst[dstOffset + 24] = (((w22 >>> 8) | (w23 << 56)) & mask) + base;
+    dst[dstOffset + 25] = ((w23 >>> 3) & mask) + base;
+    dst[dstOffset + 26] = (((w23 >>> 62) | (w24 << 2)) & mask) + base;
+    dst[dstOffset + 27] = (((w24 >>> 57) | (w25 << 7)) & mask) + base;
+    dst[dstOffset + 28] = (((w25 >>> 52) | (w26 << 12)) & mask) + base;
+    dst[dstOffset + 29] = (((w26 >>> 47) | (w27 << 17)) & mask) + base;
+    dst[dstOffset + 30] = (((w27 >>> 42) | (w28 << 22)) & mask) + base;
+    dst[dstOffset + 31] = (((w28 >>> 37) | (w29 << 27)) & mask) + base;
+    dst[dstOffset + 32] = (((w29 >>> 32) | (w30 << 32)) & mask) + base;
+    dst[dstOffset + 33] = (((w30 >>> 27) | (w31 << 37)) & mask) + base;
+    dst[dstOffset + 34] = (((w31 >>> 22) | (w32 << 42)) & mask) + base;
+    dst[dstOffset + 35] = (((w32 >>> 17) | (w33 << 47)) & mask) + base;
+    dst[dstOffset + 36] = (((w33 >>> 12) | (w34 << 52)) & mask) + base;
+    dst[dstOffset + 37] = (((w34 >>> 7) | (w35 << 57)) & mask) + base;
+    dst[dstOffset + 38] = ((w35 >>> 2) & mask) + base;
+    dst[dstOffset + 39] = (((w35 >>> 61) | (w36 << 3)) & mask) + base;
+    dst[dstOffset + 40] = (((w36 >>> 56) | (w37 << 8)) & mask) + base;
+    dst[dstOffset + 41] = (((w37 >>> 51) | (w38 << 13)) & mask) + base;
+    dst[dstOffset + 42] = (((w38 >>> 46) | (w39 << 18)) & mask) + base;
+    dst[dstOffset + 43] = (((w39 >>> 41) | (w40 << 23)) & mask) + base;
+    dst[dstOffset + 44] = (((w40 >>> 36) | (w41 << 28)) & mask) + base;
+    dst[dstOffset + 45] = (((w41 >>> 31) | (w42 << 33)) & mask) + base;
+    dst[dstOffset + 46] = (((w42 >>> 26) | (w43 << 38)) & mask) + base;
+    dst[dstOffset + 47] = (((w43 >>> 21) | (w44 << 43)) & mask) + base;
+    dst[dstOffset + 48] = (((w44 >>> 16) | (w45 << 48)) & mask) + base;
+    dst[dstOffset + 49] = (((w45 >>> 11) | (w46 << 53)) & mask) + base;
+    dst[dstOffset + 50] = (((w46 >>> 6) | (w47 << 58)) & mask) + base;
+    dst[dstOffset + 51] = ((w47 >>> 1) & mask) + base;
+    dst[dstOffset + 52] = (((w47 >>> 60) | (w48 << 4)) & mask) + base;
+    dst[dstOffset + 53] = (((w48 >>> 55) | (w49 << 9)) & mask) + base;
+    dst[dstOffset + 54] = (((w49 >>> 50) | (w50 << 14)) & mask) + base;
+    dst[dstOffset + 55] = (((w50 >>> 45) | (w51 << 19)) & mask) + base;
+    dst[dstOffset + 56] = (((w51 >>> 40) | (w52 << 24)) & mask) + base;
+    dst[dstOffset + 57] = (((w52 >>> 35) | (w53 << 29)) & mask) + base;
+    dst[dstOffset + 58] = (((w53 >>> 30) | (w54 << 34)) & mask) + base;
+    dst[dstOffset + 59] = (((w54 >>> 25) | (w55 << 39)) & mask) + base;
+    dst[dstOffset + 60] = (((w55 >>> 20) | (w56 << 44)) & mask) + base;
+    dst[dstOffset + 61] = (((w56 >>> 15) | (w57 << 49)) & mask) + base;
+    dst[dstOffset + 62] = (((w57 >>> 10) | (w58 << 54)) & mask) + base;
+    dst[dstOffset + 63] = (w58 >>> 5) + base;
+  }
+
+  private static void unpack59(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    final long w55 = src[srcOffset + 55];
+    final long w56 = src[srcOffset + 56];
+    final long w57 = src[srcOffset + 57];
+    final long w58 = src[srcOffset + 58];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 59) | (w1 << 5)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 54) | (w2 << 10)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 49) | (w3 << 15)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 44) | (w4 << 20)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 39) | (w5 << 25)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 34) | (w6 << 30)) & mask;
+    dst[dstOffset + 7] = ((w6 >>> 29) | (w7 << 35)) & mask;
+    dst[dstOffset + 8] = ((w7 >>> 24) | (w8 << 40)) & mask;
+    dst[dstOffset + 9] = ((w8 >>> 19) | (w9 << 45)) & mask;
+    dst[dstOffset + 10] = ((w9 >>> 14) | (w10 << 50)) & mask;
+    dst[dstOffset + 11] = ((w10 >>> 9) | (w11 << 55)) & mask;
+    dst[dstOffset + 12] = (w11 >>> 4) & mask;
+    dst[dstOffset + 13] = ((w11 >>> 63) | (w12 << 1)) & mask;
+    dst[dstOffset + 14] = ((w12 >>> 58) | (w13 << 6)) & mask;
+    dst[dstOffset + 15] = ((w13 >>> 53) | (w14 << 11)) & mask;
+    dst[dstOffset + 16] = ((w14 >>> 48) | (w15 << 16)) & mask;
+    dst[dstOffset + 17] = ((w15 >>> 43) | (w16 << 21)) & mask;
+    dst[dstOffset + 18] = ((w16 >>> 38) | (w17 << 26)) & mask;
+    dst[dstOffset + 19] = ((w17 >>> 33) | (w18 << 31)) & mask;
+    dst[dstOffset + 20] = ((w18 >>> 28) | (w19 << 36)) & mask;
+    dst[dstOffset + 21] = ((w19 >>> 23) | (w20 << 41)) & mask;
+    dst[dstOffset + 22] = ((w20 >>> 18) | (w21 << 46)) & mask;
+    dst[dstOffset + 23] = ((w21 >>> 13) | (w22 << 51)) & mask;
+    dst[dstOffset + 24] = ((w22 >>> 8) | (w23 << 56)) & mask;
+    dst[dstOffset + 25] = (w23 >>> 3) & mask;
+    dst[dstOffset + 26] = ((w23 >>> 62) | (w24 << 2)) & mask;
+    dst[dstOffset + 27] = ((w24 >>> 57) | (w25 << 7)) & mask;
+    dst[dstOffset + 28] = ((w25 >>> 52) | (w26 << 12)) & mask;
+    dst[dstOffset + 29] = ((w26 >>> 47) | (w27 << 17)) & mask;
+    dst[dstOffset + 30] = ((w27 >>> 42) | (w28 << 22)) & mask;
+    dst[dstOffset + 31] = ((w28 >>> 37) | (w29 << 27)) & mask;
+    dst[dstOffset + 32] = ((w29 >>> 32) | (w30 << 32)) & mask;
+    dst[dstOffset + 33] = ((w30 >>> 27) | (w31 << 37)) & mask;
+    dst[dstOffset + 34] = ((w31 >>> 22) | (w32 << 42)) & mask;
+    dst[dstOffset + 35] = ((w32 >>> 17) | (w33 << 47)) & mask;
+    dst[dstOffset + 36] = ((w33 >>> 12) | (w34 << 52)) & mask;
+    dst[dstOffset + 37] = ((w34 >>> 7) | (w35 << 57)) & mask;
+    dst[dstOffset + 38] = (w35 >>> 2) & mask;
+    dst[dstOffset + 39] = ((w35 >>> 61) | (w36 << 3)) & mask;
+    dst[dstOffset + 40] = ((w36 >>> 56) | (w37 << 8)) & mask;
+    dst[dstOffset + 41] = ((w37 >>> 51) | (w38 << 13)) & mask;
+    dst[dstOffset + 42] = ((w38 >>> 46) | (w39 << 18)) & mask;
+    dst[dstOffset + 43] = ((w39 >>> 41) | (w40 << 23)) & mask;
+    dst[dstOffset + 44] = ((w40 >>> 36) | (w41 << 28)) & mask;
+    dst[dstOffset + 45] = ((w41 >>> 31) | (w42 << 33)) & mask;
+    dst[dstOffset + 46] = ((w42 >>> 26) | (w43 << 38)) & mask;
+    dst[dstOffset + 47] = ((w43 >>> 21) | (w44 << 43)) & mask;
+    dst[dstOffset + 48] = ((w44 >>> 16) | (w45 << 48)) & mask;
+    dst[dstOffset + 49] = ((w45 >>> 11) | (w46 << 53)) & mask;
+    dst[dstOffset + 50] = ((w46 >>> 6) | (w47 << 58)) & mask;
+    dst[dstOffset + 51] = (w47 >>> 1) & mask;
+    dst[dstOffset + 52] = ((w47 >>> 60) | (w48 << 4)) & mask;
+    dst[dstOffset + 53] = ((w48 >>> 55) | (w49 << 9)) & mask;
+    dst[dstOffset + 54] = ((w49 >>> 50) | (w50 << 14)) & mask;
+    dst[dstOffset + 55] = ((w50 >>> 45) | (w51 << 19)) & mask;
+    dst[dstOffset + 56] = ((w51 >>> 40) | (w52 << 24)) & mask;
+    dst[dstOffset + 57] = ((w52 >>> 35) | (w53 << 29)) & mask;
+    dst[dstOffset + 58] = ((w53 >>> 30) | (w54 << 34)) & mask;
+    dst[dstOffset + 59] = ((w54 >>> 25) | (w55 << 39)) & mask;
+    dst[dstOffset + 60] = ((w55 >>> 20) | (w56 << 44)) & mask;
+    dst[dstOffset + 61] = ((w56 >>> 15) | (w57 << 49)) & mask;
+    dst[dstOffset + 62] = ((w57 >>> 10) | (w58 << 54)) & mask;
+    dst[dstOffset + 63] = w58 >>> 5;
+  }
+
+  private static void unpack60(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    final long w55 = (long) WORDS.get(src, index + 440);
+    final long w56 = (long) WORDS.get(src, index + 448);
+    final long w57 = (long) WORDS.get(src, index + 456);
+    final long w58 = (long) WORDS.get(src, index + 464);
+    final long w59 = (long) WORDS.get(src, index + 472);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 60) | (w1 << 4)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 56) | (w2 << 8)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 52) | (w3 << 12)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 48) | (w4 << 16)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 44) | (w5 << 20)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 40) | (w6 << 24)) & mask) + base;
+    dst[dstOffset + 7] = (((w6 >>> 36) | (w7 << 28)) & mask) + base;
+    dst[dstOffset + 8] = (((w7 >>> 32) | (w8 << 32)) & mask) + base;
+    dst[dstOffset + 9] = (((w8 >>> 28) | (w9 << 36)) & mask) + base;
+    dst[dstOffset + 10] = (((w9 >>> 24) | (w10 << 40)) & mask) + base;
+    dst[dstOffset + 11] = (((w10 >>> 20) | (w11 << 44)) & mask) + base;
+    dst[dstOffset + 12] = (((w11 >>> 16) | (w12 << 48)) & mask) + base;
+    dst[dstOffset + 13] = (((w12 >>> 12) | (w13 << 52)) & mask) + base;
+    dst[dstOffset + 14] = (((w13 >>> 8) | (w14 << 56)) & mask) + base;
+    dst[dstOffset + 15] = (w14 >>> 4) + base;
+    dst[dstOffset + 16] = (w15 & mask) + base;
+    dst[dstOffset + 17] = (((w15 >>> 60) | (w16 << 4)) & mask) + base;
+    dst[dstOffset + 18] = (((w16 >>> 56) | (w17 << 8)) & mask) + base;
+    dst[dstOffset + 19] = (((w17 >>> 52) | (w18 << 12)) & mask) + base;
+    dst[dstOffset + 20] = (((w18 >>> 48) | (w19 << 16)) & mask) + base;
+    dst[dstOffset + 21] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 22] = (((w20 >>> 40) | (w21 << 24)) & mask) + base;
+    dst[dstOffset + 23] = (((w21 >>> 36) | (w22 << 28)) & mask) + base;
+    dst[dstOffset + 24] = (((w22 >>> 32) | (w23 << 32)) & mask) + base;
+    dst[dstOffset + 25] = (((w23 >>> 28) | (w24 << 36)) & mask) + base;
+    dst[dstOffset + 26] = (((w24 >>> 24) | (w25 << 40)) & mask) + base;
+    dst[dstOffset + 27] = (((w25 >>> 20) | (w26 << 44)) & mask) + base;
+    dst[dstOffset + 28] = (((w26 >>> 16) | (w27 << 48)) & mask) + base;
+    dst[dstOffset + 29] = (((w27 >>> 12) | (w28 << 52)) & mask) + base;
+    dst[dstOffset + 30] = (((w28 >>> 8) | (w29 << 56)) & mask) + base;
+    dst[dstOffset + 31] = (w29 >>> 4) + base;
+    dst[dstOffset + 32] = (w30 & mask) + base;
+    dst[dstOffset + 33] = (((w30 >>> 60) | (w31 << 4)) & mask) + base;
+    dst[dstOffset + 34] = (((w31 >>> 56) | (w32 << 8)) & mask) + base;
+    dst[dstOffset + 35] = (((w32 >>> 52) | (w33 << 12)) & mask) + base;
+    dst[dstOffset + 36] = (((w33 >>> 48) | (w34 << 16)) & mask) + base;
+    dst[dstOffset + 37] = (((w34 >>> 44) | (w35 << 20)) & mask) + base;
+    dst[dstOffset + 38] = (((w35 >>> 40) | (w36 << 24)) & mask) + base;
+    dst[dstOffset + 39] = (((w36 >>> 36) | (w37 << 28)) & mask) + base;
+    dst[dstOffset + 40] = (((w37 >>> 32) | (w38 << 32)) & mask) + base;
+    dst[dstOffset + 41] = (((w38 >>> 28) | (w39 << 36)) & mask) + base;
+    dst[dstOffset + 42] = (((w39 >>> 24) | (w40 << 40)) & mask) + base;
+    dst[dstOffset + 43] = (((w40 >>> 20) | (w41 << 44)) & mask) + base;
+    dst[dstOffset + 44] = (((w41 >>> 16) | (w42 << 48)) & mask) + base;
+    dst[dstOffset + 45] = (((w42 >>> 12) | (w43 << 52)) & mask) + base;
+    dst[dstOffset + 46] = (((w43 >>> 8) | (w44 << 56)) & mask) + base;
+    dst[dstOffset + 47] = (w44 >>> 4) + base;
+    dst[dstOffset + 48] = (w45 & mask) + base;
+    dst[dstOffset + 49] = (((w45 >>> 60) | (w46 << 4)) & mask) + base;
+    dst[dstOffset + 50] = (((w46 >>> 56) | (w47 << 8)) & mask) + base;
+    dst[dstOffset + 51] = (((w47 >>> 52) | (w48 << 12)) & mask) + base;
+    dst[dstOffset + 52] = (((w48 >>> 48) | (w49 << 16)) & mask) + base;
+    dst[dstOffset + 53] = (((w49 >>> 44) | (w50 << 20)) & mask) + base;
+    dst[dstOffset + 54] = (((w50 >>> 40) | (w51 << 24)) & mask) + base;
+    dst[dstOffset + 55] = (((w51 >>> 36) | (w52 << 28)) & mask) + base;
+    dst[dstOffset + 56] = (((w52 >>> 32) | (w53 << 32)) & mask) + base;
+    dst[dstOffset + 57] = (((w53 >>> 28) | (w54 << 36)) & mask) + base;
+    dst[dstOffset + 58] = (((w54 >>> 24) | (w55 << 40)) & mask) + base;
+    dst[dstOffset + 59] = (((w55 >>> 20) | (w56 << 44)) & mask) + base;
+    dst[dstOffset + 60] = (((w56 >>> 16) | (w57 << 48)) & mask) + base;
+    dst[dstOffset + 61] = (((w57 >>> 12) | (w58 << 52)) & mask) + base;
+    dst[dstOffset + 62] = (((w58 >>> 8) | (w59 << 56)) & mask) + base;
+    dst[dstOffset + 63] = (w59 >>> 4) + base;
+  }
+
+  private static void unpack60(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    final long w55 = src[srcOffset + 55];
+    final long w56 = src[srcOffset + 56];
+    final long w57 = src[srcOffset + 57];
+    final long w58 = src[srcOffset + 58];
+    final long w59 = src[srcOffset + 59];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 60) | (w1 << 4)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 56) | (w2 << 8)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 52) | (w3 << 12)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 48) | (w4 << 16)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 44) | (w5 << 20)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 40) | (w6 << 24)) & mask;
+    dst[dstOffset + 7] = ((w6 >>> 36) | (w7 << 28)) & mask;
+    dst[dstOffset + 8] = ((w7 >>> 32) | (w8 << 32)) & mask;
+    dst[dstOffset + 9] = ((w8 >>> 28) | (w9 << 36)) & mask;
+    dst[dstOffset + 10] = ((w9 >>> 24) | (w10 << 40)) & mask;
+    dst[dstOffset + 11] = ((w10 >>> 20) | (w11 << 44)) & mask;
+    dst[dstOffset + 12] = ((w11 >>> 16) | (w12 << 48)) & mask;
+    dst[dstOffset + 13] = ((w12 >>> 12) | (w13 << 52)) & mask;
+    dst[dstOffset + 14] = ((w13 >>> 8) | (w14 << 56)) & mask;
+    dst[dstOffset + 15] = w14 >>> 4;
+    dst[dstOffset + 16] = w15 & mask;
+    dst[dstOffset + 17] = ((w15 >>> 60) | (w16 << 4)) & mask;
+    dst[dstOffset + 18] = ((w16 >>> 56) | (w17 << 8)) & mask;
+    dst[dstOffset + 19] = ((w17 >>> 52) | (w18 << 12)) & mask;
+    dst[dstOffset + 20] = ((w18 >>> 48) | (w19 << 16)) & mask;
+    dst[dstOffset + 21] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 22] = ((w20 >>> 40) | (w21 << 24)) & mask;
+    dst[dstOffset + 23] = ((w21 >>> 36) | (w22 << 28)) & mask;
+    dst[dstOffset + 24] = ((w22 >>> 32) | (w23 << 32)) & mask;
+    dst[dstOffset + 25] = ((w23 >>> 28) | (w24 << 36)) & mask;
+    dst[dstOffset + 26] = ((w24 >>> 24) | (w25 << 40)) & mask;
+    dst[dstOffset + 27] = ((w25 >>> 20) | (w26 << 44)) & mask;
+    dst[dstOffset + 28] = ((w26 >>> 16) | (w27 << 48)) & mask;
+    dst[dstOffset + 29] = ((w27 >>> 12) | (w28 << 52)) & mask;
+    dst[dstOffset + 30] = ((w28 >>> 8) | (w29 << 56)) & mask;
+    dst[dstOffset + 31] = w29 >>> 4;
+    dst[dstOffset + 32] = w30 & mask;
+    dst[dstOffset + 33] = ((w30 >>> 60) | (w31 << 4)) & mask;
+    dst[dstOffset + 34] = ((w31 >>> 56) | (w32 << 8)) & mask;
+    dst[dstOffset + 35] = ((w32 >>> 52) | (w33 << 12)) & mask;
+    dst[dstOffset + 36] = ((w33 >>> 48) | (w34 << 16)) & mask;
+    dst[dstOffset + 37] = ((w34 >>> 44) | (w35 << 20)) & mask;
+    dst[dstOffset + 38] = ((w35 >>> 40) | (w36 << 24)) & mask;
+    dst[dstOffset + 39] = ((w36 >>> 36) | (w37 << 28)) & mask;
+    dst[dstOffset + 40] = ((w37 >>> 32) | (w38 << 32)) & mask;
+    dst[dstOffset + 41] = ((w38 >>> 28) | (w39 << 36)) & mask;
+    dst[dstOffset + 42] = ((w39 >>> 24) | (w40 << 40)) & mask;
+    dst[dstOffset + 43] = ((w40 >>> 20) | (w41 << 44)) & mask;
+    dst[dstOffset + 44] = ((w41 >>> 16) | (w42 << 48)) & mask;
+    dst[dstOffset + 45] = ((w42 >>> 12) | (w43 << 52)) & mask;
+    dst[dstOffset + 46] = ((w43 >>> 8) | (w44 << 56)) & mask;
+    dst[dstOffset + 47] = w44 >>> 4;
+    dst[dstOffset + 48] = w45 & mask;
+    dst[dstOffset + 49] = ((w45 >>> 60) | (w46 << 4)) & mask;
+    dst[dstOffset + 50] = ((w46 >>> 56) | (w47 << 8)) & mask;
+    dst[dstOffset + 51] = ((w47 >>> 52) | (w48 << 12)) & mask;
+    dst[dstOffset + 52] = ((w48 >>> 48) | (w49 << 16)) & mask;
+    dst[dstOffset + 53] = ((w49 >>> 44) | (w50 << 20)) & mask;
+    dst[dstOffset + 54] = ((w50 >>> 40) | (w51 << 24)) & mask;
+    dst[dstOffset + 55] = ((w51 >>> 36) | (w52 << 28)) & mask;
+    dst[dstOffset + 56] = ((w52 >>> 32) | (w53 << 32)) & mask;
+    dst[dstOffset + 57] = ((w53 >>> 28) | (w54 << 36)) & mask;
+    dst[dstOffset + 58] = ((w54 >>> 24) | (w55 << 40)) & mask;
+    dst[dstOffset + 59] = ((w55 >>> 20) | (w56 << 44)) & mask;
+    dst[dstOffset + 60] = ((w56 >>> 16) | (w57 << 48)) & mask;
+    dst[dstOffset + 61] = ((w57 >>> 12) | (w58 << 52)) & mask;
+    dst[dstOffset + 62] = ((w58 >>> 8) | (w59 << 56)) & mask;
+    dst[dstOffset + 63] = w59 >>> 4;
+  }
+}
@@ -0,0 +1,636 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 5 to 8.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack5To8
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack5To8()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 5 -> unpack5(src, index, base, dst, dstOffset);
+      case 6 -> unpack6(src, index, base, dst, dstOffset);
+      case 7 -> unpack7(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 5 -> unpack5(src, srcOffset, dst, dstOffset);
+      case 6 -> unpack6(src, srcOffset, dst, dstOffset);
+      case 7 -> unpack7(src, srcOffset, dst, dstOffset);
+      case 8 -> unpack8(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack5(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 5) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 10) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 15) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 20) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 25) & mask) + base;
+    dst[dstOffset + 6] = ((w0 >>> 30) & mask) + base;
+    dst[dstOffset + 7] = ((w0 >>> 35) & mask) + base;
+    dst[dstOffset + 8] = ((w0 >>> 40) & mask) + base;
+    dst[dstOffset + 9] = ((w0 >>> 45) & mask) + base;
+    dst[dstOffset + 10] = ((w0 >>> 50) & mask) + base;
+    dst[dstOffset + 11] = ((w0 >>> 55) & mask) + base;
+    dst[dstOffset + 12] = (((w0 >>> 60) | (w1 << 4)) & mask) + base;
+    dst[dstOffset + 13] = ((w1 >>> 1) & mask) + base;
+    dst[dstOffset + 14] = ((w1 >>> 6) & mask) + base;
+    dst[dstOffset + 15] = ((w1 >>> 11) & mask) + base;
+    dst[dstOffset + 16] = ((w1 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = ((w1 >>> 21) & mask) + base;
+    dst[dstOffset + 18] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 19] = ((w1 >>> 31) & mask) + base;
+    dst[dstOffset + 20] = ((w1 >>> 36) & mask) + base;
+    dst[dstOffset + 21] = ((w1 >>> 41) & mask) + base;
+    dst[dstOffset + 22] = ((w1 >>> 46) & mask) + base;
+    dst[dstOffset + 23] = ((w1 >>> 51) & mask) + base;
+    dst[dstOffset + 24] = ((w1 >>> 56) & mask) + base;
+    dst[dstOffset + 25] = (((w1 >>> 61) | (w2 << 3)) & mask) + base;
+    dst[dstOffset + 26] = ((w2 >>> 2) & mask) + base;
+    dst[dstOffset + 27] = ((w2 >>> 7) & mask) + base;
+    dst[dstOffset + 28] = ((w2 >>> 12) & mask) + base;
+    dst[dstOffset + 29] = ((w2 >>> 17) & mask) + base;
+    dst[dstOffset + 30] = ((w2 >>> 22) & mask) + base;
+    dst[dstOffset + 31] = ((w2 >>> 27) & mask) + base;
+    dst[dstOffset + 32] = ((w2 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = ((w2 >>> 37) & mask) + base;
+    dst[dstOffset + 34] = ((w2 >>> 42) & mask) + base;
+    dst[dstOffset + 35] = ((w2 >>> 47) & mask) + base;
+    dst[dstOffset + 36] = ((w2 >>> 52) & mask) + base;
+    dst[dstOffset + 37] = ((w2 >>> 57) & mask) + base;
+    dst[dstOffset + 38] = (((w2 >>> 62) | (w3 << 2)) & mask) + base;
+    dst[dstOffset + 39] = ((w3 >>> 3) & mask) + base;
+    dst[dstOffset + 40] = ((w3 >>> 8) & mask) + base;
+    dst[dstOffset + 41] = ((w3 >>> 13) & mask) + base;
+    dst[dstOffset + 42] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 43] = ((w3 >>> 23) & mask) + base;
+    dst[dstOffset + 44] = ((w3 >>> 28) & mask) + base;
+    dst[dstOffset + 45] = ((w3 >>> 33) & mask) + base;
+    dst[dstOffset + 46] = ((w3 >>> 38) & mask) + base;
+    dst[dstOffset + 47] = ((w3 >>> 43) & mask) + base;
+    dst[dstOffset + 48] = ((w3 >>> 48) & mask) + base;
+    dst[dstOffset + 49] = ((w3 >>> 53) & mask) + base;
+    dst[dstOffset + 50] = ((w3 >>> 58) & mask) + base;
+    dst[dstOffset + 51] = (((w3 >>> 63) | (w4 << 1)) & mask) + base;
+    dst[dstOffset + 52] = ((w4 >>> 4) & mask) + base;
+    dst[dstOffset + 53] = ((w4 >>> 9) & mask) + base;
+    dst[dstOffset + 54] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 55] = ((w4 >>> 19) & mask) + base;
+    dst[dstOffset + 56] = ((w4 >>> 24) & mask) + base;
+    dst[dstOffset + 57] = ((w4 >>> 29) & mask) + base;
+    dst[dstOffset + 58] = ((w4 >>> 34) & mask) + base;
+    dst[dstOffset + 59] = ((w4 >>> 39) & mask) + base;
+    dst[dstOffset + 60] = ((w4 >>> 44) & mask) + base;
+    dst[dstOffset + 61] = ((w4 >>> 49) & mask) + base;
+    dst[dstOffset + 62] = ((w4 >>> 54) & mask) + base;
+    dst[dstOffset + 63] = (w4 >>> 59) + base;
+  }
+
+  private static void unpack5(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 5) & mask;
+    dst[dstOffset + 2] = (w0 >>> 10) & mask;
+    dst[dstOffset + 3] = (w0 >>> 15) & mask;
+    dst[dstOffset + 4] = (w0 >>> 20) & mask;
+    dst[dstOffset + 5] = (w0 >>> 25) & mask;
+    dst[dstOffset + 6] = (w0 >>> 30) & mask;
+    dst[dstOffset + 7] = (w0 >>> 35) & mask;
+    dst[dstOffset + 8] = (w0 >>> 40) & mask;
+    dst[dstOffset + 9] = (w0 >>> 45) & mask;
+    dst[dstOffset + 10] = (w0 >>> 50) & mask;
+    dst[dstOffset + 11] = (w0 >>> 55) & mask;
+    dst[dstOffset + 12] = ((w0 >>> 60) | (w1 << 4)) & mask;
+    dst[dstOffset + 13] = (w1 >>> 1) & mask;
+    dst[dstOffset + 14] = (w1 >>> 6) & mask;
+    dst[dstOffset + 15] = (w1 >>> 11) & mask;
+    dst[dstOffset + 16] = (w1 >>> 16) & mask;
+    dst[dstOffset + 17] = (w1 >>> 21) & mask;
+    dst[dstOffset + 18] = (w1 >>> 26) & mask;
+    dst[dstOffset + 19] = (w1 >>> 31) & mask;
+    dst[dstOffset + 20] = (w1 >>> 36) & mask;
+    dst[dstOffset + 21] = (w1 >>> 41) & mask;
+    dst[dstOffset + 22] = (w1 >>> 46) & mask;
+    dst[dstOffset + 23] = (w1 >>> 51) & mask;
+    dst[dstOffset + 24] = (w1 >>> 56) & mask;
+    dst[dstOffset + 25] = ((w1 >>> 61) | (w2 << 3)) & mask;
+    dst[dstOffset + 26] = (w2 >>> 2) & mask;
+    dst[dstOffset + 27] = (w2 >>> 7) & mask;
+    dst[dstOffset + 28] = (w2 >>> 12) & mask;
+    dst[dstOffset + 29] = (w2 >>> 17) & mask;
+    dst[dstOffset + 30] = (w2 >>> 22) & mask;
+    dst[dstOffset + 31] = (w2 >>> 27) & mask;
+    dst[dstOffset + 32] = (w2 >>> 32) & mask;
+    dst[dstOffset + 33] = (w2 >>> 37) & mask;
+    dst[dstOffset + 34] = (w2 >>> 42) & mask;
+    dst[dstOffset + 35] = (w2 >>> 47) & mask;
+    dst[dstOffset + 36] = (w2 >>> 52) & mask;
+    dst[dstOffset + 37] = (w2 >>> 57) & mask;
+    dst[dstOffset + 38] = ((w2 >>> 62) | (w3 << 2)) & mask;
+    dst[dstOffset + 39] = (w3 >>> 3) & mask;
+    dst[dstOffset + 40] = (w3 >>> 8) & mask;
+    dst[dstOffset + 41] = (w3 >>> 13) & mask;
+    dst[dstOffset + 42] = (w3 >>> 18) & mask;
+    dst[dstOffset + 43] = (w3 >>> 23) & mask;
+    dst[dstOffset + 44] = (w3 >>> 28) & mask;
+    dst[dstOffset + 45] = (w3 >>> 33) & mask;
+    dst[dstOffset + 46] = (w3 >>> 38) & mask;
+    dst[dstOffset + 47] = (w3 >>> 43) & mask;
+    dst[dstOffset + 48] = (w3 >>> 48) & mask;
+    dst[dstOffset + 49] = (w3 >>> 53) & mask;
+    dst[dstOffset + 50] = (w3 >>> 58) & mask;
+    dst[dstOffset + 51] = ((w3 >>> 63) | (w4 << 1)) & mask;
+    dst[dstOffset + 52] = (w4 >>> 4) & mask;
+    dst[dstOffset + 53] = (w4 >>> 9) & mask;
+    dst[dstOffset + 54] = (w4 >>> 14) & mask;
+    dst[dstOffset + 55] = (w4 >>> 19) & mask;
+    dst[dstOffset + 56] = (w4 >>> 24) & mask;
+    dst[dstOffset + 57] = (w4 >>> 29) & mask;
+    dst[dstOffset + 58] = (w4 >>> 34) & mask;
+    dst[dstOffset + 59] = (w4 >>> 39) & mask;
+    dst[dstOffset + 60] = (w4 >>> 44) & mask;
+    dst[dstOffset + 61] = (w4 >>> 49) & mask;
+    dst[dstOffset + 62] = (w4 >>> 54) & mask;
+    dst[dstOffset + 63] = w4 >>> 59;
+  }
+
+  private static void unpack6(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 6) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 12) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 18) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 24) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 30) & mask) + base;
+    dst[dstOffset + 6] = ((w0 >>> 36) & mask) + base;
+    dst[dstOffset + 7] = ((w0 >>> 42) & mask) + base;
+    dst[dstOffset + 8] = ((w0 >>> 48) & mask) + base;
+    dst[dstOffset + 9] = ((w0 >>> 54) & mask) + base;
+    dst[dstOffset + 10] = (((w0 >>> 60) | (w1 << 4)) & mask) + base;
+    dst[dstOffset + 11] = ((w1 >>> 2) & mask) + base;
+    dst[dstOffset + 12] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 13] = ((w1 >>> 14) & mask) + base;
+    dst[dstOffset + 14] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 15] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 16] = ((w1 >>> 32) & mask) + base;
+    dst[dstOffset + 17] = ((w1 >>> 38) & mask) + base;
+    dst[dstOffset + 18] = ((w1 >>> 44) & mask) + base;
+    dst[dstOffset + 19] = ((w1 >>> 50) & mask) + base;
+    dst[dstOffset + 20] = ((w1 >>> 56) & mask) + base;
+    dst[dstOffset + 21] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 22] = ((w2 >>> 4) & mask) + base;
+    dst[dstOffset + 23] = ((w2 >>> 10) & mask) + base;
+    dst[dstOffset + 24] = ((w2 >>> 16) & mask) + base;
+    dst[dstOffset + 25] = ((w2 >>> 22) & mask) + base;
+    dst[dstOffset + 26] = ((w2 >>> 28) & mask) + base;
+    dst[dstOffset + 27] = ((w2 >>> 34) & mask) + base;
+    dst[dstOffset + 28] = ((w2 >>> 40) & mask) + base;
+    dst[dstOffset + 29] = ((w2 >>> 46) & mask) + base;
+    dst[dstOffset + 30] = ((w2 >>> 52) & mask) + base;
+    dst[dstOffset + 31] = (w2 >>> 58) + base;
+    dst[dstOffset + 32] = (w3 & mask) + base;
+    dst[dstOffset + 33] = ((w3 >>> 6) & mask) + base;
+    dst[dstOffset + 34] = ((w3 >>> 12) & mask) + base;
+    dst[dstOffset + 35] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 36] = ((w3 >>> 24) & mask) + base;
+    dst[dstOffset + 37] = ((w3 >>> 30) & mask) + base;
+    dst[dstOffset + 38] = ((w3 >>> 36) & mask) + base;
+    dst[dstOffset + 39] = ((w3 >>> 42) & mask) + base;
+    dst[dstOffset + 40] = ((w3 >>> 48) & mask) + base;
+    dst[dstOffset + 41] = ((w3 >>> 54) & mask) + base;
+    dst[dstOffset + 42] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 43] = ((w4 >>> 2) & mask) + base;
+    dst[dstOffset + 44] = ((w4 >>> 8) & mask) + base;
+    dst[dstOffset + 45] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 46] = ((w4 >>> 20) & mask) + base;
+    dst[dstOffset + 47] = ((w4 >>> 26) & mask) + base;
+    dst[dstOffset + 48] = ((w4 >>> 32) & mask) + base;
+    dst[dstOffset + 49] = ((w4 >>> 38) & mask) + base;
+    dst[dstOffset + 50] = ((w4 >>> 44) & mask) + base;
+    dst[dstOffset + 51] = ((w4 >>> 50) & mask) + base;
+    dst[dstOffset + 52] = ((w4 >>> 56) & mask) + base;
+    dst[dstOffset + 53] = (((w4 >>> 62) | (w5 << 2)) & mask) + base;
+    dst[dstOffset + 54] = ((w5 >>> 4) & mask) + base;
+    dst[dstOffset + 55] = ((w5 >>> 10) & mask) + base;
+    dst[dstOffset + 56] = ((w5 >>> 16) & mask) + base;
+    dst[dstOffset + 57] = ((w5 >>> 22) & mask) + base;
+    dst[dstOffset + 58] = ((w5 >>> 28) & mask) + base;
+    dst[dstOffset + 59] = ((w5 >>> 34) & mask) + base;
+    dst[dstOffset + 60] = ((w5 >>> 40) & mask) + base;
+    dst[dstOffset + 61] = ((w5 >>> 46) & mask) + base;
+    dst[dstOffset + 62] = ((w5 >>> 52) & mask) + base;
+    dst[dstOffset + 63] = (w5 >>> 58) + base;
+  }
+
+  private static void unpack6(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 6) & mask;
+    dst[dstOffset + 2] = (w0 >>> 12) & mask;
+    dst[dstOffset + 3] = (w0 >>> 18) & mask;
+    dst[dstOffset + 4] = (w0 >>> 24) & mask;
+    dst[dstOffset + 5] = (w0 >>> 30) & mask;
+    dst[dstOffset + 6] = (w0 >>> 36) & mask;
+    dst[dstOffset + 7] = (w0 >>> 42) & mask;
+    dst[dstOffset + 8] = (w0 >>> 48) & mask;
+    dst[dstOffset + 9] = (w0 >>> 54) & mask;
+    dst[dstOffset + 10] = ((w0 >>> 60) | (w1 << 4)) & mask;
+    dst[dstOffset + 11] = (w1 >>> 2) & mask;
+    dst[dstOffset + 12] = (w1 >>> 8) & mask;
+    dst[dstOffset + 13] = (w1 >>> 14) & mask;
+    dst[dstOffset + 14] = (w1 >>> 20) & mask;
+    dst[dstOffset + 15] = (w1 >>> 26) & mask;
+    dst[dstOffset + 16] = (w1 >>> 32) & mask;
+    dst[dstOffset + 17] = (w1 >>> 38) & mask;
+    dst[dstOffset + 18] = (w1 >>> 44) & mask;
+    dst[dstOffset + 19] = (w1 >>> 50) & mask;
+    dst[dstOffset + 20] = (w1 >>> 56) & mask;
+    dst[dstOffset + 21] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 22] = (w2 >>> 4) & mask;
+    dst[dstOffset + 23] = (w2 >>> 10) & mask;
+    dst[dstOffset + 24] = (w2 >>> 16) & mask;
+    dst[dstOffset + 25] = (w2 >>> 22) & mask;
+    dst[dstOffset + 26] = (w2 >>> 28) & mask;
+    dst[dstOffset + 27] = (w2 >>> 34) & mask;
+    dst[dstOffset + 28] = (w2 >>> 40) & mask;
+    dst[dstOffset + 29] = (w2 >>> 46) & mask;
+    dst[dstOffset + 30] = (w2 >>> 52) & mask;
+    dst[dstOffset + 31] = w2 >>> 58;
+    dst[dstOffset + 32] = w3 & mask;
+    dst[dstOffset + 33] = (w3 >>> 6) & mask;
+    dst[dstOffset + 34] = (w3 >>> 12) & mask;
+    dst[dstOffset + 35] = (w3 >>> 18) & mask;
+    dst[dstOffset + 36] = (w3 >>> 24) & mask;
+    dst[dstOffset + 37] = (w3 >>> 30) & mask;
+    dst[dstOffset + 38] = (w3 >>> 36) & mask;
+    dst[dstOffset + 39] = (w3 >>> 42) & mask;
+    dst[dstOffset + 40] = (w3 >>> 48) & mask;
+    dst[dstOffset + 41] = (w3 >>> 54) & mask;
+    dst[dstOffset + 42] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 43] = (w4 >>> 2) & mask;
+    dst[dstOffset + 44] = (w4 >>> 8) & mask;
+    dst[dstOffset + 45] = (w4 >>> 14) & mask;
+    dst[dstOffset + 46] = (w4 >>> 20) & mask;
+    dst[dstOffset + 47] = (w4 >>> 26) & mask;
+    dst[dstOffset + 48] = (w4 >>> 32) & mask;
+    dst[dstOffset + 49] = (w4 >>> 38) & mask;
+    dst[dstOffset + 50] = (w4 >>> 44) & mask;
+    dst[dstOffset + 51] = (w4 >>> 50) & mask;
+    dst[dstOffset + 52] = (w4 >>> 56) & mask;
+    dst[dstOffset + 53] = ((w4 >>> 62) | (w5 << 2)) & mask;
+    dst[dstOffset + 54] = (w5 >>> 4) & mask;
+    dst[dstOffset + 55] = (w5 >>> 10) & mask;
+    dst[dstOffset + 56] = (w5 >>> 16) & mask;
+    dst[dstOffset + 57] = (w5 >>> 22) & mask;
+    dst[dstOffset + 58] = (w5 >>> 28) & mask;
+    dst[dstOffset + 59] = (w5 >>> 34) & mask;
+    dst[dstOffset + 60] = (w5 >>> 40) & mask;
+    dst[dstOffset + 61] = (w5 >>> 46) & mask;
+    dst[dstOffset + 62] = (w5 >>> 52) & mask;
+    dst[dstOffset + 63] = w5 >>> 58;
+  }
+
+  private static void unpack7(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 7) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 14) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 21) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 28) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 35) & mask) + base;
+    dst[dstOffset + 6] = ((w0 >>> 42) & mask) + base;
+    dst[dstOffset + 7] = ((w0 >>> 49) & mask) + base;
+    dst[dstOffset + 8] = ((w0 >>> 56) & mask) + base;
+    dst[dstOffset + 9] = (((w0 >>> 63) | (w1 << 1)) & mask) + base;
+    dst[dstOffset + 10] = ((w1 >>> 6) & mask) + base;
+    dst[dstOffset + 11] = ((w1 >>> 13) & mask) + base;
+    dst[dstOffset + 12] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 13] = ((w1 >>> 27) & mask) + base;
+    dst[dstOffset + 14] = ((w1 >>> 34) & mask) + base;
+    dst[dstOffset + 15] = ((w1 >>> 41) & mask) + base;
+    dst[dstOffset + 16] = ((w1 >>> 48) & mask) + base;
+    dst[dstOffset + 17] = ((w1 >>> 55) & mask) + base;
+    dst[dstOffset + 18] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 19] = ((w2 >>> 5) & mask) + base;
+    dst[dstOffset + 20] = ((w2 >>> 12) & mask) + base;
+    dst[dstOffset + 21] = ((w2 >>> 19) & mask) + base;
+    dst[dstOffset + 22] = ((w2 >>> 26) & mask) + base;
+    dst[dstOffset + 23] = ((w2 >>> 33) & mask) + base;
+    dst[dstOffset + 24] = ((w2 >>> 40) & mask) + base;
+    dst[dstOffset + 25] = ((w2 >>> 47) & mask) + base;
+    dst[dstOffset + 26] = ((w2 >>> 54) & mask) + base;
+    dst[dstOffset + 27] = (((w2 >>> 61) | (w3 << 3)) & mask) + base;
+    dst[dstOffset + 28] = ((w3 >>> 4) & mask) + base;
+    dst[dstOffset + 29] = ((w3 >>> 11) & mask) + base;
+    dst[dstOffset + 30] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 31] = ((w3 >>> 25) & mask) + base;
+    dst[dstOffset + 32] = ((w3 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = ((w3 >>> 39) & mask) + base;
+    dst[dstOffset + 34] = ((w3 >>> 46) & mask) + base;
+    dst[dstOffset + 35] = ((w3 >>> 53) & mask) + base;
+    dst[dstOffset + 36] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 37] = ((w4 >>> 3) & mask) + base;
+    dst[dstOffset + 38] = ((w4 >>> 10) & mask) + base;
+    dst[dstOffset + 39] = ((w4 >>> 17) & mask) + base;
+    dst[dstOffset + 40] = ((w4 >>> 24) & mask) + base;
+    dst[dstOffset + 41] = ((w4 >>> 31) & mask) + base;
+    dst[dstOffset + 42] = ((w4 >>> 38) & mask) + base;
+    dst[dstOffset + 43] = ((w4 >>> 45) & mask) + base;
+    dst[dstOffset + 44] = ((w4 >>> 52) & mask) + base;
+    dst[dstOffset + 45] = (((w4 >>> 59) | (w5 << 5)) & mask) + base;
+    dst[dstOffset + 46] = ((w5 >>> 2) & mask) + base;
+    dst[dstOffset + 47] = ((w5 >>> 9) & mask) + base;
+    dst[dstOffset + 48] = ((w5 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = ((w5 >>> 23) & mask) + base;
+    dst[dstOffset + 50] = ((w5 >>> 30) & mask) + base;
+    dst[dstOffset + 51] = ((w5 >>> 37) & mask) + base;
+    dst[dstOffset + 52] = ((w5 >>> 44) & mask) + base;
+    dst[dstOffset + 53] = ((w5 >>> 51) & mask) + base;
+    dst[dstOffset + 54] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 55] = ((w6 >>> 1) & mask) + base;
+    dst[dstOffset + 56] = ((w6 >>> 8) & mask) + base;
+    dst[dstOffset + 57] = ((w6 >>> 15) & mask) + base;
+    dst[dstOffset + 58] = ((w6 >>> 22) & mask) + base;
+    dst[dstOffset + 59] = ((w6 >>> 29) & mask) + base;
+    dst[dstOffset + 60] = ((w6 >>> 36) & mask) + base;
+    dst[dstOffset + 61] = ((w6 >>> 43) & mask) + base;
+    dst[dstOffset + 62] = ((w6 >>> 50) & mask) + base;
+    dst[dstOffset + 63] = (w6 >>> 57) + base;
+  }
+
+  private static void unpack7(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 7) & mask;
+    dst[dstOffset + 2] = (w0 >>> 14) & mask;
+    dst[dstOffset + 3] = (w0 >>> 21) & mask;
+    dst[dstOffset + 4] = (w0 >>> 28) & mask;
+    dst[dstOffset + 5] = (w0 >>> 35) & mask;
+    dst[dstOffset + 6] = (w0 >>> 42) & mask;
+    dst[dstOffset + 7] = (w0 >>> 49) & mask;
+    dst[dstOffset + 8] = (w0 >>> 56) & mask;
+    dst[dstOffset + 9] = ((w0 >>> 63) | (w1 << 1)) & mask;
+    dst[dstOffset + 10] = (w1 >>> 6) & mask;
+    dst[dstOffset + 11] = (w1 >>> 13) & mask;
+    dst[dstOffset + 12] = (w1 >>> 20) & mask;
+    dst[dstOffset + 13] = (w1 >>> 27) & mask;
+    dst[dstOffset + 14] = (w1 >>> 34) & mask;
+    dst[dstOffset + 15] = (w1 >>> 41) & mask;
+    dst[dstOffset + 16] = (w1 >>> 48) & mask;
+    dst[dstOffset + 17] = (w1 >>> 55) & mask;
+    dst[dstOffset + 18] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 19] = (w2 >>> 5) & mask;
+    dst[dstOffset + 20] = (w2 >>> 12) & mask;
+    dst[dstOffset + 21] = (w2 >>> 19) & mask;
+    dst[dstOffset + 22] = (w2 >>> 26) & mask;
+    dst[dstOffset + 23] = (w2 >>> 33) & mask;
+    dst[dstOffset + 24] = (w2 >>> 40) & mask;
+    dst[dstOffset + 25] = (w2 >>> 47) & mask;
+    dst[dstOffset + 26] = (w2 >>> 54) & mask;
+    dst[dstOffset + 27] = ((w2 >>> 61) | (w3 << 3)) & mask;
+    dst[dstOffset + 28] = (w3 >>> 4) & mask;
+    dst[dstOffset + 29] = (w3 >>> 11) & mask;
+    dst[dstOffset + 30] = (w3 >>> 18) & mask;
+    dst[dstOffset + 31] = (w3 >>> 25) & mask;
+    dst[dstOffset + 32] = (w3 >>> 32) & mask;
+    dst[dstOffset + 33] = (w3 >>> 39) & mask;
+    dst[dstOffset + 34] = (w3 >>> 46) & mask;
+    dst[dstOffset + 35] = (w3 >>> 53) & mask;
+    dst[dstOffset + 36] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 37] = (w4 >>> 3) & mask;
+    dst[dstOffset + 38] = (w4 >>> 10) & mask;
+    dst[dstOffset + 39] = (w4 >>> 17) & mask;
+    dst[dstOffset + 40] = (w4 >>> 24) & mask;
+    dst[dstOffset + 41] = (w4 >>> 31) & mask;
+    dst[dstOffset + 42] = (w4 >>> 38) & mask;
+    dst[dstOffset + 43] = (w4 >>> 45) & mask;
+    dst[dstOffset + 44] = (w4 >>> 52) & mask;
+    dst[dstOffset + 45] = ((w4 >>> 59) | (w5 << 5)) & mask;
+    dst[dstOffset + 46] = (w5 >>> 2) & mask;
+    dst[dstOffset + 47] = (w5 >>> 9) & mask;
+    dst[dstOffset + 48] = (w5 >>> 16) & mask;
+    dst[dstOffset + 49] = (w5 >>> 23) & mask;
+    dst[dstOffset + 50] = (w5 >>> 30) & mask;
+    dst[dstOffset + 51] = (w5 >>> 37) & mask;
+    dst[dstOffset + 52] = (w5 >>> 44) & mask;
+    dst[dstOffset + 53] = (w5 >>> 51) & mask;
+    dst[dstOffset + 54] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 55] = (w6 >>> 1) & mask;
+    dst[dstOffset + 56] = (w6 >>> 8) & mask;
+    dst[dstOffset + 57] = (w6 >>> 15) & mask;
+    dst[dstOffset + 58] = (w6 >>> 22) & mask;
+    dst[dstOffset + 59] = (w6 >>> 29) & mask;
+    dst[dstOffset + 60] = (w6 >>> 36) & mask;
+    dst[dstOffset + 61] = (w6 >>> 43) & mask;
+    dst[dstOffset + 62] = (w6 >>> 50) & mask;
+    dst[dstOffset + 63] = w6 >>> 57;
+  }
+
+  private static void unpack8(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 8) & mask;
+    dst[dstOffset + 2] = (w0 >>> 16) & mask;
+    dst[dstOffset + 3] = (w0 >>> 24) & mask;
+    dst[dstOffset + 4] = (w0 >>> 32) & mask;
+    dst[dstOffset + 5] = (w0 >>> 40) & mask;
+    dst[dstOffset + 6] = (w0 >>> 48) & mask;
+    dst[dstOffset + 7] = w0 >>> 56;
+    dst[dstOffset + 8] = w1 & mask;
+    dst[dstOffset + 9] = (w1 >>> 8) & mask;
+    dst[dstOffset + 10] = (w1 >>> 16) & mask;
+    dst[dstOffset + 11] = (w1 >>> 24) & mask;
+    dst[dstOffset + 12] = (w1 >>> 32) & mask;
+    dst[dstOffset + 13] = (w1 >>> 40) & mask;
+    dst[dstOffset + 14] = (w1 >>> 48) & mask;
+    dst[dstOffset + 15] = w1 >>> 56;
+    dst[dstOffset + 16] = w2 & mask;
+    dst[dstOffset + 17] = (w2 >>> 8) & mask;
+    dst[dstOffset + 18] = (w2 >>> 16) & mask;
+    dst[dstOffset + 19] = (w2 >>> 24) & mask;
+    dst[dstOffset + 20] = (w2 >>> 32) & mask;
+    dst[dstOffset + 21] = (w2 >>> 40) & mask;
+    dst[dstOffset + 22] = (w2 >>> 48) & mask;
+    dst[dstOffset + 23] = w2 >>> 56;
+    dst[dstOffset + 24] = w3 & mask;
+    dst[dstOffset + 25] = (w3 >>> 8) & mask;
+    dst[dstOffset + 26] = (w3 >>> 16) & mask;
+    dst[dstOffset + 27] = (w3 >>> 24) & mask;
+    dst[dstOffset + 28] = (w3 >>> 32) & mask;
+    dst[dstOffset + 29] = (w3 >>> 40) & mask;
+    dst[dstOffset + 30] = (w3 >>> 48) & mask;
+    dst[dstOffset + 31] = w3 >>> 56;
+    dst[dstOffset + 32] = w4 & mask;
+    dst[dstOffset + 33] = (w4 >>> 8) & mask;
+    dst[dstOffset + 34] = (w4 >>> 16) & mask;
+    dst[dstOffset + 35] = (w4 >>> 24) & mask;
+    dst[dstOffset + 36] = (w4 >>> 32) & mask;
+    dst[dstOffset + 37] = (w4 >>> 40) & mask;
+    dst[dstOffset + 38] = (w4 >>> 48) & mask;
+    dst[dstOffset + 39] = w4 >>> 56;
+    dst[dstOffset + 40] = w5 & mask;
+    dst[dstOffset + 41] = (w5 >>> 8) & mask;
+    dst[dstOffset + 42] = (w5 >>> 16) & mask;
+    dst[dstOffset + 43] = (w5 >>> 24) & mask;
+    dst[dstOffset + 44] = (w5 >>> 32) & mask;
+    dst[dstOffset + 45] = (w5 >>> 40) & mask;
+    dst[dstOffset + 46] = (w5 >>> 48) & mask;
+    dst[dstOffset + 47] = w5 >>> 56;
+    dst[dstOffset + 48] = w6 & mask;
+    dst[dstOffset + 49] = (w6 >>> 8) & mask;
+    dst[dstOffset + 50] = (w6 >>> 16) & mask;
+    dst[dstOffset + 51] = (w6 >>> 24) & mask;
+    dst[dstOffset + 52] = (w6 >>> 32) & mask;
+    dst[dstOffset + 53] = (w6 >>> 40) & mask;
+    dst[dstOffset + 54] = (w6 >>> 48) & mask;
+    dst[dstOffset + 55] = w6 >>> 56;
+    dst[dstOffset + 56] = w7 & mask;
+    dst[dstOffset + 57] = (w7 >>> 8) & mask;
+    dst[dstOffset + 58] = (w7 >>> 16) & mask;
+    dst[dstOffset + 59] = (w7 >>> 24) & mask;
+    dst[dstOffset + 60] = (w7 >>> 32) & mask;
+    dst[dstOffset + 61] = (w7 >>> 40) & mask;
+    dst[dstOffset + 62] = (w7 >>> 48) & mask;
+    dst[dstOffset + 63] = w7 >>> 56;
+  }
+}
@@ -0,0 +1,890 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 61 to 63.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack61To63
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack61To63()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 61 -> unpack61(src, index, base, dst, dstOffset);
+      case 62 -> unpack62(src, index, base, dst, dstOffset);
+      case 63 -> unpack63(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 61 -> unpack61(src, srcOffset, dst, dstOffset);
+      case 62 -> unpack62(src, srcOffset, dst, dstOffset);
+      case 63 -> unpack63(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack61(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    final long w55 = (long) WORDS.get(src, index + 440);
+    final long w56 = (long) WORDS.get(src, index + 448);
+    final long w57 = (long) WORDS.get(src, index + 456);
+    final long w58 = (long) WORDS.get(src, index + 464);
+    final long w59 = (long) WORDS.get(src, index + 472);
+    final long w60 = (long) WORDS.get(src, index + 480);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 61) | (w1 << 3)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 58) | (w2 << 6)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 55) | (w3 << 9)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 52) | (w4 << 12)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 49) | (w5 << 15)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 46) | (w6 << 18)) & mask) + base;
+    dst[dstOffset + 7] = (((w6 >>> 43) | (w7 << 21)) & mask) + base;
+    dst[dstOffset + 8] = (((w7 >>> 40) | (w8 << 24)) & mask) + base;
+    dst[dstOffset + 9] = (((w8 >>> 37) | (w9 << 27)) & mask) + base;
+    dst[dstOffset + 10] = (((w9 >>> 34) | (w10 << 30)) & mask) + base;
+    dst[dstOffset + 11] = (((w10 >>> 31) | (w11 << 33)) & mask) + base;
+    dst[dstOffset + 12] = (((w11 >>> 28) | (w12 << 36)) & mask) + base;
+    dst[dstOffset + 13] = (((w12 >>> 25) | (w13 << 39)) & mask) + base;
+    dst[dstOffset + 14] = (((w13 >>> 22) | (w14 << 42)) & mask) + base;
+    dst[dstOffset + 15] = (((w14 >>> 19) | (w15 << 45)) & mask) + base;
+    dst[dstOffset + 16] = (((w15 >>> 16) | (w16 << 48)) & mask) + base;
+    dst[dstOffset + 17] = (((w16 >>> 13) | (w17 << 51)) & mask) + base;
+    dst[dstOffset + 18] = (((w17 >>> 10) | (w18 << 54)) & mask) + base;
+    dst[dstOffset + 19] = (((w18 >>> 7) | (w19 << 57)) & mask) + base;
+    dst[dstOffset + 20] = (((w19 >>> 4) | (w20 << 60)) & mask) + base;
+    dst[dstOffset + 21] = ((w20 >>> 1) & mask) + base;
+    dst[dstOffset + 22] = (((w20 >>> 62) | (w21 << 2)) & mask) + base;
+    dst[dstOffset + 23] = (((w21 >>> 59) | (w22 << 5)) & mask) + base;
+    dst[dstOffset + 24] = (((w22 >>> 56) | (w23 << 8)) & mask) + base;
+    dst[dstOffset + 25] = (((w23 >>> 53) | (w24 << 11)) & mask) + base;
+    dst[dstOffset + 26] = (((w24 >>> 50) | (w25 << 14)) & mask) + base;
+    dst[dstOffset + 27] = (((w25 >>> 47) | (w26 << 17)) & mask) + base;
+    dst[dstOffset + 28] = (((w26 >>> 44) | (w27 << 20)) & mask) + base;
+    dst[dstOffset + 29] = (((w27 >>> 41) | (w28 << 23)) & mask) + base;
+    dst[dstOffset + 30] = (((w28 >>> 38) | (w29 << 26)) & mask) + base;
+    dst[dstOffset + 31] = (((w29 >>> 35) | (w30 << 29)) & mask) + base;
+    dst[dstOffset + 32] = (((w30 >>> 32) | (w31 << 32)) & mask) + base;
+    dst[dstOffset + 33] = (((w31 >>> 29) | (w32 << 35)) & mask) + base;
+    dst[dstOffset + 34] = (((w32 >>> 26) | (w33 << 38)) & mask) + base;
+    dst[dstOffset + 35] = (((w33 >>> 23) | (w34 << 41)) & mask) + base;
+    dst[dstOffset + 36] = (((w34 >>> 20) | (w35 << 44)) & mask) + base;
+    dst[dstOffset + 37] = (((w35 >>> 17) | (w36 << 47)) & mask) + base;
+    dst[dstOffset + 38] = (((w36 >>> 14) | (w37 << 50)) & mask) + base;
+    dst[dstOffset + 39] = (((w37 >>> 11) | (w38 << 53)) & mask) + base;
+    dst[dstOffset + 40] = (((w38 >>> 8) | (w39 << 56)) & mask) + base;
+    dst[dstOffset + 41] = (((w39 >>> 5) | (w40 << 59)) & mask) + base;
+    dst[dstOffset + 42] = ((w40 >>> 2) & mask) + base;
+    dst[dstOffset + 43] = (((w40 >>> 63) | (w41 << 1)) & mask) + base;
+    dst[dstOffset + 44] = (((w41 >>> 60) | (w42 << 4)) & mask) + base;
+    dst[dstOffset + 45] = (((w42 >>> 57) | (w43 << 7)) & mask) + base;
+    dst[dstOffset + 46] = (((w43 >>> 54) | (w44 << 10)) & mask) + base;
+    dst[dstOffset + 47] = (((w44 >>> 51) | (w45 << 13)) & mask) + base;
+    dst[dstOffset + 48] = (((w45 >>> 48) | (w46 << 16)) & mask) + base;
+    dst[dstOffset + 49] = (((w46 >>> 45) | (w47 << 19)) & mask) + base;
+    dst[dstOffset + 50] = (((w47 >>> 42) | (w48 << 22)) & mask) + base;
+    dst[dstOffset + 51] = (((w48 >>> 39) | (w49 << 25)) & mask) + base;
+    dst[dstOffset + 52] = (((w49 >>> 36) | (w50 << 28)) & mask) + base;
+    dst[dstOffset + 53] = (((w50 >>> 33) | (w51 << 31)) & mask) + base;
+    dst[dstOffset + 54] = (((w51 >>> 30) | (w52 << 34)) & mask) + base;
+    dst[dstOffset + 55] = (((w52 >>> 27) | (w53 << 37)) & mask) + base;
+    dst[dstOffset + 56] = (((w53 >>> 24) | (w54 << 40)) & mask) + base;
+    dst[dstOffset + 57] = (((w54 >>> 21) | (w55 << 43)) & mask) + base;
+    dst[dstOffset + 58] = (((w55 >>> 18) | (w56 << 46)) & mask) + base;
+    dst[dstOffset + 59] = (((w56 >>> 15) | (w57 << 49)) & mask) + base;
+    dst[dstOffset + 60] = (((w57 >>> 12) | (w58 << 52)) & mask) + base;
+    dst[dstOffset + 61] = (((w58 >>> 9) | (w59 << 55)) & mask) + base;
+    dst[dstOffset + 62] = (((w59 >>> 6) | (w60 << 58)) & mask) + base;
+    dst[dstOffset + 63] = (w60 >>> 3) + base;
+  }
+
+  private static void unpack61(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1fffffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    final long w55 = src[srcOffset + 55];
+    final long w56 = src[srcOffset + 56];
+    final long w57 = src[srcOffset + 57];
+    final long w58 = src[srcOffset + 58];
+    final long w59 = src[srcOffset + 59];
+    final long w60 = src[srcOffset + 60];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 61) | (w1 << 3)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 58) | (w2 << 6)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 55) | (w3 << 9)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 52) | (w4 << 12)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 49) | (w5 << 15)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 46) | (w6 << 18)) & mask;
+    dst[dstOffset + 7] = ((w6 >>> 43) | (w7 << 21)) & mask;
+    dst[dstOffset + 8] = ((w7 >>> 40) | (w8 << 24)) & mask;
+    dst[dstOffset + 9] = ((w8 >>> 37) | (w9 << 27)) & mask;
+    dst[dstOffset + 10] = ((w9 >>> 34) | (w10 << 30)) & mask;
+    dst[dstOffset + 11] = ((w10 >>> 31) | (w11 << 33)) & mask;
+    dst[dstOffset + 12] = ((w11 >>> 28) | (w12 << 36)) & mask;
+    dst[dstOffset + 13] = ((w12 >>> 25) | (w13 << 39)) & mask;
+    dst[dstOffset + 14] = ((w13 >>> 22) | (w14 << 42)) & mask;
+    dst[dstOffset + 15] = ((w14 >>> 19) | (w15 << 45)) & mask;
+    dst[dstOffset + 16] = ((w15 >>> 16) | (w16 << 48)) & mask;
+    dst[dstOffset + 17] = ((w16 >>> 13) | (w17 << 51)) & mask;
+    dst[dstOffset + 18] = ((w17 >>> 10) | (w18 << 54)) & mask;
+    dst[dstOffset + 19] = ((w18 >>> 7) | (w19 << 57)) & mask;
+    dst[dstOffset + 20] = ((w19 >>> 4) | (w20 << 60)) & mask;
+    dst[dstOffset + 21] = (w20 >>> 1) & mask;
+    dst[dstOffset + 22] = ((w20 >>> 62) | (w21 << 2)) & mask;
+    dst[dstOffset + 23] = ((w21 >>> 59) | (w22 << 5)) & mask;
+    dst[dstOffset + 24] = ((w22 >>> 56) | (w23 << 8)) & mask;
+    dst[dstOffset + 25] = ((w23 >>> 53) | (w24 << 11)) & mask;
+    dst[dstOffset + 26] = ((w24 >>> 50) | (w25 << 14)) & mask;
+    dst[dstOffset + 27] = ((w25 >>> 47) | (w26 << 17)) & mask;
+    dst[dstOffset + 28] = ((w26 >>> 44) | (w27 << 20)) & mask;
+    dst[dstOffset + 29] = ((w27 >>> 41) | (w28 << 23)) & mask;
+    dst[dstOffset + 30] = ((w28 >>> 38) | (w29 << 26)) & mask;
+    dst[dstOffset + 31] = ((w29 >>> 35) | (w30 << 29)) & mask;
+    dst[dstOffset + 32] = ((w30 >>> 32) | (w31 << 32)) & mask;
+    dst[dstOffset + 33] = ((w31 >>> 29) | (w32 << 35)) & mask;
+    dst[dstOffset + 34] = ((w32 >>> 26) | (w33 << 38)) & mask;
+    dst[dstOffset + 35] = ((w33 >>> 23) | (w34 << 41)) & mask;
+    dst[dstOffset + 36] = ((w34 >>> 20) | (w35 << 44)) & mask;
+    dst[dstOffset + 37] = ((w35 >>> 17) | (w36 << 47)) & mask;
+    dst[dstOffset + 38] = ((w36 >>> 14) | (w37 << 50)) & mask;
+    dst[dstOffset + 39] = ((w37 >>> 11) | (w38 << 53)) & mask;
+    dst[dstOffset + 40] = ((w38 >>> 8) | (w39 << 56)) & mask;
+    dst[dstOffset + 41] = ((w39 >>> 5) | (w40 << 59)) & mask;
+    dst[dstOffset + 42] = (w40 >>> 2) & mask;
+    dst[dstOffset + 43] = ((w40 >>> 63) | (w41 << 1)) & mask;
+    dst[dstOffset + 44] = ((w41 >>> 60) | (w42 << 4)) & mask;
+    dst[dstOffset + 45] = ((w42 >>> 57) | (w43 << 7)) & mask;
+    dst[dstOffset + 46] = ((w43 >>> 54) | (w44 << 10)) & mask;
+    dst[dstOffset + 47] = ((w44 >>> 51) | (w45 << 13)) & mask;
+    dst[dstOffset + 48] = ((w45 >>> 48) | (w46 << 16)) & mask;
+    dst[dstOffset + 49] = ((w46 >>> 45) | (w47 << 19)) & mask;
+    dst[dstOffset + 50] = ((w47 >>> 42) | (w48 << 22)) & mask;
+    dst[dstOffset + 51] = ((w48 >>> 39) | (w49 << 25)) & mask;
+    dst[dstOffset + 52] = ((w49 >>> 36) | (w50 << 28)) & mask;
+    dst[dstOffset + 53] = ((w50 >>> 33) | (w51 << 31)) & mask;
+    dst[dstOffset + 54] = ((w51 >>> 30) | (w52 << 34)) & mask;
+    dst[dstOffset + 55] = ((w52 >>> 27) | (w53 << 37)) & mask;
+    dst[dstOffset + 56] = ((w53 >>> 24) | (w54 << 40)) & mask;
+    dst[dstOffset + 57] = ((w54 >>> 21) | (w55 << 43)) & mask;
+    dst[dstOffset + 58] = ((w55 >>> 18) | (w56 << 46)) & mask;
+    dst[dstOffset + 59] = ((w56 >>> 15) | (w57 << 49)) & mask;
+    dst[dstOffset + 60] = ((w57 >>> 12) | (w58 << 52)) & mask;
+    dst[dstOffset + 61] = ((w58 >>> 9) | (w59 << 55)) & mask;
+    dst[dstOffset + 62] = ((w59 >>> 6) | (w60 << 58)) & mask;
+    dst[dstOffset + 63] = w60 >>> 3;
+  }
+
+  private static void unpack62(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    final long w55 = (long) WORDS.get(src, index + 440);
+    final long w56 = (long) WORDS.get(src, index + 448);
+    final long w57 = (long) WORDS.get(src, index + 456);
+    final long w58 = (long) WORDS.get(src, index + 464);
+    final long w59 = (long) WORDS.get(src, index + 472);
+    final long w60 = (long) WORDS.get(src, index + 480);
+    final long w61 = (long) WORDS.get(src, index + 488);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 62) | (w1 << 2)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 60) | (w2 << 4)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 58) | (w3 << 6)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 56) | (w4 << 8)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 54) | (w5 << 10)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 52) | (w6 << 12)) & mask) + base;
+    dst[dstOffset + 7] = (((w6 >>> 50) | (w7 << 14)) & mask) + base;
+    dst[dstOffset + 8] = (((w7 >>> 48) | (w8 << 16)) & mask) + base;
+    dst[dstOffset + 9] = (((w8 >>> 46) | (w9 << 18)) & mask) + base;
+    dst[dstOffset + 10] = (((w9 >>> 44) | (w10 << 20)) & mask) + base;
+    dst[dstOffset + 11] = (((w10 >>> 42) | (w11 << 22)) & mask) + base;
+    dst[dstOffset + 12] = (((w11 >>> 40) | (w12 << 24)) & mask) + base;
+    dst[dstOffset + 13] = (((w12 >>> 38) | (w13 << 26)) & mask) + base;
+    dst[dstOffset + 14] = (((w13 >>> 36) | (w14 << 28)) & mask) + base;
+    dst[dstOffset + 15] = (((w14 >>> 34) | (w15 << 30)) & mask) + base;
+    dst[dstOffset + 16] = (((w15 >>> 32) | (w16 << 32)) & mask) + base;
+    dst[dstOffset + 17] = (((w16 >>> 30) | (w17 << 34)) & mask) + base;
+    dst[dstOffset + 18] = (((w17 >>> 28) | (w18 << 36)) & mask) + base;
+    dst[dstOffset + 19] = (((w18 >>> 26) | (w19 << 38)) & mask) + base;
+    dst[dstOffset + 20] = (((w19 >>> 24) | (w20 << 40)) & mask) + base;
+    dst[dstOffset + 21] = (((w20 >>> 22) | (w21 << 42)) & mask) + base;
+    dst[dstOffset + 22] = (((w21 >>> 20) | (w22 << 44)) & mask) + base;
+    dst[dstOffset + 23] = (((w22 >>> 18) | (w23 << 46)) & mask) + base;
+    dst[dstOffset + 24] = (((w23 >>> 16) | (w24 << 48)) & mask) + base;
+    dst[dstOffset + 25] = (((w24 >>> 14) | (w25 << 50)) & mask) + base;
+    dst[dstOffset + 26] = (((w25 >>> 12) | (w26 << 52)) & mask) + base;
+    dst[dstOffset + 27] = (((w26 >>> 10) | (w27 << 54)) & mask) + base;
+    dst[dstOffset + 28] = (((w27 >>> 8) | (w28 << 56)) & mask) + base;
+    dst[dstOffset + 29] = (((w28 >>> 6) | (w29 << 58)) & mask) + base;
+    dst[dstOffset + 30] = (((w29 >>> 4) | (w30 << 60)) & mask) + base;
+    dst[dstOffset + 31] = (w30 >>> 2) + base;
+    dst[dstOffset + 32] = (w31 & mask) + base;
+    dst[dstOffset + 33] = (((w31 >>> 62) | (w32 << 2)) & mask) + base;
+    dst[dstOffset + 34] = (((w32 >>> 60) | (w33 << 4)) & mask) + base;
+    dst[dstOffset + 35] = (((w33 >>> 58) | (w34 << 6)) & mask) + base;
+    dst[dstOffset + 36] = (((w34 >>> 56) | (w35 << 8)) & mask) + base;
+    dst[dstOffset + 37] = (((w35 >>> 54) | (w36 << 10)) & mask) + base;
+    dst[dstOffset + 38] = (((w36 >>> 52) | (w37 << 12)) & mask) + base;
+    dst[dstOffset + 39] = (((w37 >>> 50) | (w38 << 14)) & mask) + base;
+    dst[dstOffset + 40] = (((w38 >>> 48) | (w39 << 16)) & mask) + base;
+    dst[dstOffset + 41] = (((w39 >>> 46) | (w40 << 18)) & mask) + base;
+    dst[dstOffset + 42] = (((w40 >>> 44) | (w41 << 20)) & mask) + base;
+    dst[dstOffset + 43] = (((w41 >>> 42) | (w42 << 22)) & mask) + base;
+    dst[dstOffset + 44] = (((w42 >>> 40) | (w43 << 24)) & mask) + base;
+    dst[dstOffset + 45] = (((w43 >>> 38) | (w44 << 26)) & mask) + base;
+    dst[dstOffset + 46] = (((w44 >>> 36) | (w45 << 28)) & mask) + base;
+    dst[dstOffset + 47] = (((w45 >>> 34) | (w46 << 30)) & mask) + base;
+    dst[dstOffset + 48] = (((w46 >>> 32) | (w47 << 32)) & mask) + base;
+    dst[dstOffset + 49] = (((w47 >>> 30) | (w48 << 34)) & mask) + base;
+    dst[dstOffset + 50] = (((w48 >>> 28) | (w49 << 36)) & mask) + base;
+    dst[dstOffset + 51] = (((w49 >>> 26) | (w50 << 38)) & mask) + base;
+    dst[dstOffset + 52] = (((w50 >>> 24) | (w51 << 40)) & mask) + base;
+    dst[dstOffset + 53] = (((w51 >>> 22) | (w52 << 42)) & mask) + base;
+    dst[dstOffset + 54] = (((w52 >>> 20) | (w53 << 44)) & mask) + base;
+    dst[dstOffset + 55] = (((w53 >>> 18) | (w54 << 46)) & mask) + base;
+    dst[dstOffset + 56] = (((w54 >>> 16) | (w55 << 48)) & mask) + base;
+    dst[dstOffset + 57] = (((w55 >>> 14) | (w56 << 50)) & mask) + base;
+    dst[dstOffset + 58] = (((w56 >>> 12) | (w57 << 52)) & mask) + base;
+    dst[dstOffset + 59] = (((w57 >>> 10) | (w58 << 54)) & mask) + base;
+    dst[dstOffset + 60] = (((w58 >>> 8) | (w59 << 56)) & mask) + base;
+    dst[dstOffset + 61] = (((w59 >>> 6) | (w60 << 58)) & mask) + base;
+    dst[dstOffset + 62] = (((w60 >>> 4) | (w61 << 60)) & mask) + base;
+    dst[dstOffset + 63] = (w61 >>> 2) + base;
+  }
+
+  private static void unpack62(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3fffffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    final long w55 = src[srcOffset + 55];
+    final long w56 = src[srcOffset + 56];
+    final long w57 = src[srcOffset + 57];
+    final long w58 = src[srcOffset + 58];
+    final long w59 = src[srcOffset + 59];
+    final long w60 = src[srcOffset + 60];
+    final long w61 = src[srcOffset + 61];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 62) | (w1 << 2)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 60) | (w2 << 4)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 58) | (w3 << 6)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 56) | (w4 << 8)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 54) | (w5 << 10)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 52) | (w6 << 12)) & mask;
+    dst[dstOffset + 7] = ((w6 >>> 50) | (w7 << 14)) & mask;
+    dst[dstOffset + 8] = ((w7 >>> 48) | (w8 << 16)) & mask;
+    dst[dstOffset + 9] = ((w8 >>> 46) | (w9 << 18)) & mask;
+    dst[dstOffset + 10] = ((w9 >>> 44) | (w10 << 20)) & mask;
+    dst[dstOffset + 11] = ((w10 >>> 42) | (w11 << 22)) & mask;
+    dst[dstOffset + 12] = ((w11 >>> 40) | (w12 << 24)) & mask;
+    dst[dstOffset + 13] = ((w12 >>> 38) | (w13 << 26)) & mask;
+    dst[dstOffset + 14] = ((w13 >>> 36) | (w14 << 28)) & mask;
+    dst[dstOffset + 15] = ((w14 >>> 34) | (w15 << 30)) & mask;
+    dst[dstOffset + 16] = ((w15 >>> 32) | (w16 << 32)) & mask;
+    dst[dstOffset + 17] = ((w16 >>> 30) | (w17 << 34)) & mask;
+    dst[dstOffset + 18] = ((w17 >>> 28) | (w18 << 36)) & mask;
+    dst[dstOffset + 19] = ((w18 >>> 26) | (w19 << 38)) & mask;
+    dst[dstOffset + 20] = ((w19 >>> 24) | (w20 << 40)) & mask;
+    dst[dstOffset + 21] = ((w20 >>> 22) | (w21 << 42)) & mask;
+    dst[dstOffset + 22] = ((w21 >>> 20) | (w22 << 44)) & mask;
+    dst[dstOffset + 23] = ((w22 >>> 18) | (w23 << 46)) & mask;
+    dst[dstOffset + 24] = ((w23 >>> 16) | (w24 << 48)) & mask;
+    dst[dstOffset + 25] = ((w24 >>> 14) | (w25 << 50)) & mask;
+    dst[dstOffset + 26] = ((w25 >>> 12) | (w26 << 52)) & mask;
+    dst[dstOffset + 27] = ((w26 >>> 10) | (w27 << 54)) & mask;
+    dst[dstOffset + 28] = ((w27 >>> 8) | (w28 << 56)) & mask;
+    dst[dstOffset + 29] = ((w28 >>> 6) | (w29 << 58)) & mask;
+    dst[dstOffset + 30] = ((w29 >>> 4) | (w30 << 60)) & mask;
+    dst[dstOffset + 31] = w30 >>> 2;
+    dst[dstOffset + 32] = w31 & mask;
+    dst[dstOffset + 33] = ((w31 >>> 62) | (w32 << 2)) & mask;
+    dst[dstOffset + 34] = ((w32 >>> 60) | (w33 << 4)) & mask;
+    dst[dstOffset + 35] = ((w33 >>> 58) | (w34 << 6)) & mask;
+    dst[dstOffset + 36] = ((w34 >>> 56) | (w35 << 8)) & mask;
+    dst[dstOffset + 37] = ((w35 >>> 54) | (w36 << 10)) & mask;
+    dst[dstOffset + 38] = ((w36 >>> 52) | (w37 << 12)) & mask;
+    dst[dstOffset + 39] = ((w37 >>> 50) | (w38 << 14)) & mask;
+    dst[dstOffset + 40] = ((w38 >>> 48) | (w39 << 16)) & mask;
+    dst[dstOffset + 41] = ((w39 >>> 46) | (w40 << 18)) & mask;
+    dst[dstOffset + 42] = ((w40 >>> 44) | (w41 << 20)) & mask;
+    dst[dstOffset + 43] = ((w41 >>> 42) | (w42 << 22)) & mask;
+    dst[dstOffset + 44] = ((w42 >>> 40) | (w43 << 24)) & mask;
+    dst[dstOffset + 45] = ((w43 >>> 38) | (w44 << 26)) & mask;
+    dst[dstOffset + 46] = ((w44 >>> 36) | (w45 << 28)) & mask;
+    dst[dstOffset + 47] = ((w45 >>> 34) | (w46 << 30)) & mask;
+    dst[dstOffset + 48] = ((w46 >>> 32) | (w47 << 32)) & mask;
+    dst[dstOffset + 49] = ((w47 >>> 30) | (w48 << 34)) & mask;
+    dst[dstOffset + 50] = ((w48 >>> 28) | (w49 << 36)) & mask;
+    dst[dstOffset + 51] = ((w49 >>> 26) | (w50 << 38)) & mask;
+    dst[dstOffset + 52] = ((w50 >>> 24) | (w51 << 40)) & mask;
+    dst[dstOffset + 53] = ((w51 >>> 22) | (w52 << 42)) & mask;
+    dst[dstOffset + 54] = ((w52 >>> 20) | (w53 << 44)) & mask;
+    dst[dstOffset + 55] = ((w53 >>> 18) | (w54 << 46)) & mask;
+    dst[dstOffset + 56] = ((w54 >>> 16) | (w55 << 48)) & mask;
+    dst[dstOffset + 57] = ((w55 >>> 14) | (w56 << 50)) & mask;
+    dst[dstOffset + 58] = ((w56 >>> 12) | (w57 << 52)) & mask;
+    dst[dstOffset + 59] = ((w57 >>> 10) | (w58 << 54)) & mask;
+    dst[dstOffset + 60] = ((w58 >>> 8) | (w59 << 56)) & mask;
+    dst[dstOffset + 61] = ((w59 >>> 6) | (w60 << 58)) & mask;
+    dst[dstOffset + 62] = ((w60 >>> 4) | (w61 << 60)) & mask;
+    dst[dstOffset + 63] = w61 >>> 2;
+  }
+
+  private static void unpack63(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffffffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    final long w12 = (long) WORDS.get(src, index + 96);
+    final long w13 = (long) WORDS.get(src, index + 104);
+    final long w14 = (long) WORDS.get(src, index + 112);
+    final long w15 = (long) WORDS.get(src, index + 120);
+    final long w16 = (long) WORDS.get(src, index + 128);
+    final long w17 = (long) WORDS.get(src, index + 136);
+    final long w18 = (long) WORDS.get(src, index + 144);
+    final long w19 = (long) WORDS.get(src, index + 152);
+    final long w20 = (long) WORDS.get(src, index + 160);
+    final long w21 = (long) WORDS.get(src, index + 168);
+    final long w22 = (long) WORDS.get(src, index + 176);
+    final long w23 = (long) WORDS.get(src, index + 184);
+    final long w24 = (long) WORDS.get(src, index + 192);
+    final long w25 = (long) WORDS.get(src, index + 200);
+    final long w26 = (long) WORDS.get(src, index + 208);
+    final long w27 = (long) WORDS.get(src, index + 216);
+    final long w28 = (long) WORDS.get(src, index + 224);
+    final long w29 = (long) WORDS.get(src, index + 232);
+    final long w30 = (long) WORDS.get(src, index + 240);
+    final long w31 = (long) WORDS.get(src, index + 248);
+    final long w32 = (long) WORDS.get(src, index + 256);
+    final long w33 = (long) WORDS.get(src, index + 264);
+    final long w34 = (long) WORDS.get(src, index + 272);
+    final long w35 = (long) WORDS.get(src, index + 280);
+    final long w36 = (long) WORDS.get(src, index + 288);
+    final long w37 = (long) WORDS.get(src, index + 296);
+    final long w38 = (long) WORDS.get(src, index + 304);
+    final long w39 = (long) WORDS.get(src, index + 312);
+    final long w40 = (long) WORDS.get(src, index + 320);
+    final long w41 = (long) WORDS.get(src, index + 328);
+    final long w42 = (long) WORDS.get(src, index + 336);
+    final long w43 = (long) WORDS.get(src, index + 344);
+    final long w44 = (long) WORDS.get(src, index + 352);
+    final long w45 = (long) WORDS.get(src, index + 360);
+    final long w46 = (long) WORDS.get(src, index + 368);
+    final long w47 = (long) WORDS.get(src, index + 376);
+    final long w48 = (long) WORDS.get(src, index + 384);
+    final long w49 = (long) WORDS.get(src, index + 392);
+    final long w50 = (long) WORDS.get(src, index + 400);
+    final long w51 = (long) WORDS.get(src, index + 408);
+    final long w52 = (long) WORDS.get(src, index + 416);
+    final long w53 = (long) WORDS.get(src, index + 424);
+    final long w54 = (long) WORDS.get(src, index + 432);
+    final long w55 = (long) WORDS.get(src, index + 440);
+    final long w56 = (long) WORDS.get(src, index + 448);
+    final long w57 = (long) WORDS.get(src, index + 456);
+    final long w58 = (long) WORDS.get(src, index + 464);
+    final long w59 = (long) WORDS.get(src, index + 472);
+    final long w60 = (long) WORDS.get(src, index + 480);
+    final long w61 = (long) WORDS.get(src, index + 488);
+    final long w62 = (long) WORDS.get(src, index + 496);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = (((w0 >>> 63) | (w1 << 1)) & mask) + base;
+    dst[dstOffset + 2] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 3] = (((w2 >>> 61) | (w3 << 3)) & mask) + base;
+    dst[dstOffset + 4] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 5] = (((w4 >>> 59) | (w5 << 5)) & mask) + base;
+    dst[dstOffset + 6] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 7] = (((w6 >>> 57) | (w7 << 7)) & mask) + base;
+    dst[dstOffset + 8] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 9] = (((w8 >>> 55) | (w9 << 9)) & mask) + base;
+    dst[dstOffset + 10] = (((w9 >>> 54) | (w10 << 10)) & mask) + base;
+    dst[dstOffset + 11] = (((w10 >>> 53) | (w11 << 11)) & mask) + base;
+    dst[dstOffset + 12] = (((w11 >>> 52) | (w12 << 12)) & mask) + base;
+    dst[dstOffset + 13] = (((w12 >>> 51) | (w13 << 13)) & mask) + base;
+    dst[dstOffset + 14] = (((w13 >>> 50) | (w14 << 14)) & mask) + base;
+    dst[dstOffset + 15] = (((w14 >>> 49) | (w15 << 15)) & mask) + base;
+    dst[dstOffset + 16] = (((w15 >>> 48) | (w16 << 16)) & mask) + base;
+    dst[dstOffset + 17] = (((w16 >>> 47) | (w17 << 17)) & mask) + base;
+    dst[dstOffset + 18] = (((w17 >>> 46) | (w18 << 18)) & mask) + base;
+    dst[dstOffset + 19] = (((w18 >>> 45) | (w19 << 19)) & mask) + base;
+    dst[dstOffset + 20] = (((w19 >>> 44) | (w20 << 20)) & mask) + base;
+    dst[dstOffset + 21] = (((w20 >>> 43) | (w21 << 21)) & mask) + base;
+    dst[dstOffset + 22] = (((w21 >>> 42) | (w22 << 22)) & mask) + base;
+    dst[dstOffset + 23] = (((w22 >>> 41) | (w23 << 23)) & mask) + base;
+    dst[dstOffset + 24] = (((w23 >>> 40) | (w24 << 24)) & mask) + base;
+    dst[dstOffset + 25] = (((w24 >>> 39) | (w25 << 25)) & mask) + base;
+    dst[dstOffset + 26] = (((w25 >>> 38) | (w26 << 26)) & mask) + base;
+    dst[dstOffset + 27] = (((w26 >>> 37) | (w27 << 27)) & mask) + base;
+    dst[dstOffset + 28] = (((w27 >>> 36) | (w28 << 28)) & mask) + base;
+    dst[dstOffset + 29] = (((w28 >>> 35) | (w29 << 29)) & mask) + base;
+    dst[dstOffset + 30] = (((w29 >>> 34) | (w30 << 30)) & mask) + base;
+    dst[dstOffset + 31] = (((w30 >>> 33) | (w31 << 31)) & mask) + base;
+    dst[dstOffset + 32] = (((w31 >>> 32) | (w32 << 32)) & mask) + base;
+    dst[dstOffset + 33] = (((w32 >>> 31) | (w33 << 33)) & mask) + base;
+    dst[dstOffset + 34] = (((w33 >>> 30) | (w34 << 34)) & mask) + base;
+    dst[dstOffset + 35] = (((w34 >>> 29) | (w35 << 35)) & mask) + base;
+    dst[dstOffset + 36] = (((w35 >>> 28) | (w36 << 36)) & mask) + base;
+    dst[dstOffset + 37] = (((w36 >>> 27) | (w37 << 37)) & mask) + base;
+    dst[dstOffset + 38] = (((w37 >>> 26) | (w38 << 38)) & mask) + base;
+    dst[dstOffset + 39] = (((w38 >>> 25) | (w39 << 39)) & mask) + base;
+    dst[dstOffset + 40] = (((w39 >>> 24) | (w40 << 40)) & mask) + base;
+    dst[dstOffset + 41] = (((w40 >>> 23) | (w41 << 41)) & mask) + base;
+    dst[dstOffset + 42] = (((w41 >>> 22) | (w42 << 42)) & mask) + base;
+    dst[dstOffset + 43] = (((w42 >>> 21) | (w43 << 43)) & mask) + base;
+    dst[dstOffset + 44] = (((w43 >>> 20) | (w44 << 44)) & mask) + base;
+    dst[dstOffset + 45] = (((w44 >>> 19) | (w45 << 45)) & mask) + base;
+    dst[dstOffset + 46] = (((w45 >>> 18) | (w46 << 46)) & mask) + base;
+    dst[dstOffset + 47] = (((w46 >>> 17) | (w47 << 47)) & mask) + base;
+    dst[dstOffset + 48] = (((w47 >>> 16) | (w48 << 48)) & mask) + base;
+    dst[dstOffset + 49] = (((w48 >>> 15) | (w49 << 49)) & mask) + base;
+    dst[dstOffset + 50] = (((w49 >>> 14) | (w50 << 50)) & mask) + base;
+    dst[dstOffset + 51] = (((w50 >>> 13) | (w51 << 51)) & mask) + base;
+    dst[dstOffset + 52] = (((w51 >>> 12) | (w52 << 52)) & mask) + base;
+    dst[dstOffset + 53] = (((w52 >>> 11) | (w53 << 53)) & mask) + base;
+    dst[dstOffset + 54] = (((w53 >>> 10) | (w54 << 54)) & mask) + base;
+    dst[dstOffset + 55] = (((w54 >>> 9) | (w55 << 55)) & mask) + base;
+    dst[dstOffset + 56] = (((w55 >>> 8) | (w56 << 56)) & mask) + base;
+    dst[dstOffset + 57] = (((w56 >>> 7) | (w57 << 57)) & mask) + base;
+    dst[dstOffset + 58] = (((w57 >>> 6) | (w58 << 58)) & mask) + base;
+    dst[dstOffset + 59] = (((w58 >>> 5) | (w59 << 59)) & mask) + base;
+    dst[dstOffset + 60] = (((w59 >>> 4) | (w60 << 60)) & mask) + base;
+    dst[dstOffset + 61] = (((w60 >>> 3) | (w61 << 61)) & mask) + base;
+    dst[dstOffset + 62] = (((w61 >>> 2) | (w62 << 62)) & mask) + base;
+    dst[dstOffset + 63] = (w62 >>> 1) + base;
+  }
+
+  private static void unpack63(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7fffffffffffffffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    final long w12 = src[srcOffset + 12];
+    final long w13 = src[srcOffset + 13];
+    final long w14 = src[srcOffset + 14];
+    final long w15 = src[srcOffset + 15];
+    final long w16 = src[srcOffset + 16];
+    final long w17 = src[srcOffset + 17];
+    final long w18 = src[srcOffset + 18];
+    final long w19 = src[srcOffset + 19];
+    final long w20 = src[srcOffset + 20];
+    final long w21 = src[srcOffset + 21];
+    final long w22 = src[srcOffset + 22];
+    final long w23 = src[srcOffset + 23];
+    final long w24 = src[srcOffset + 24];
+    final long w25 = src[srcOffset + 25];
+    final long w26 = src[srcOffset + 26];
+    final long w27 = src[srcOffset + 27];
+    final long w28 = src[srcOffset + 28];
+    final long w29 = src[srcOffset + 29];
+    final long w30 = src[srcOffset + 30];
+    final long w31 = src[srcOffset + 31];
+    final long w32 = src[srcOffset + 32];
+    final long w33 = src[srcOffset + 33];
+    final long w34 = src[srcOffset + 34];
+    final long w35 = src[srcOffset + 35];
+    final long w36 = src[srcOffset + 36];
+    final long w37 = src[srcOffset + 37];
+    final long w38 = src[srcOffset + 38];
+    final long w39 = src[srcOffset + 39];
+    final long w40 = src[srcOffset + 40];
+    final long w41 = src[srcOffset + 41];
+    final long w42 = src[srcOffset + 42];
+    final long w43 = src[srcOffset + 43];
+    final long w44 = src[srcOffset + 44];
+    final long w45 = src[srcOffset + 45];
+    final long w46 = src[srcOffset + 46];
+    final long w47 = src[srcOffset + 47];
+    final long w48 = src[srcOffset + 48];
+    final long w49 = src[srcOffset + 49];
+    final long w50 = src[srcOffset + 50];
+    final long w51 = src[srcOffset + 51];
+    final long w52 = src[srcOffset + 52];
+    final long w53 = src[srcOffset + 53];
+    final long w54 = src[srcOffset + 54];
+    final long w55 = src[srcOffset + 55];
+    final long w56 = src[srcOffset + 56];
+    final long w57 = src[srcOffset + 57];
+    final long w58 = src[srcOffset + 58];
+    final long w59 = src[srcOffset + 59];
+    final long w60 = src[srcOffset + 60];
+    final long w61 = src[srcOffset + 61];
+    final long w62 = src[srcOffset + 62];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = ((w0 >>> 63) | (w1 << 1)) & mask;
+    dst[dstOffset + 2] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 3] = ((w2 >>> 61) | (w3 << 3)) & mask;
+    dst[dstOffset + 4] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 5] = ((w4 >>> 59) | (w5 << 5)) & mask;
+    dst[dstOffset + 6] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 7] = ((w6 >>> 57) | (w7 << 7)) & mask;
+    dst[dstOffset + 8] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 9] = ((w8 >>> 55) | (w9 << 9)) & mask;
+    dst[dstOffset + 10] = ((w9 >>> 54) | (w10 << 10)) & mask;
+    dst[dstOffset + 11] = ((w10 >>> 53) | (w11 << 11)) & mask;
+    dst[dstOffset + 12] = ((w11 >>> 52) | (w12 << 12)) & mask;
+    dst[dstOffset + 13] = ((w12 >>> 51) | (w13 << 13)) & mask;
+    dst[dstOffset + 14] = ((w13 >>> 50) | (w14 << 14)) & mask;
+    dst[dstOffset + 15] = ((w14 >>> 49) | (w15 << 15)) & mask;
+    dst[dstOffset + 16] = ((w15 >>> 48) | (w16 << 16)) & mask;
+    dst[dstOffset + 17] = ((w16 >>> 47) | (w17 << 17)) & mask;
+    dst[dstOffset + 18] = ((w17 >>> 46) | (w18 << 18)) & mask;
+    dst[dstOffset + 19] = ((w18 >>> 45) | (w19 << 19)) & mask;
+    dst[dstOffset + 20] = ((w19 >>> 44) | (w20 << 20)) & mask;
+    dst[dstOffset + 21] = ((w20 >>> 43) | (w21 << 21)) & mask;
+    dst[dstOffset + 22] = ((w21 >>> 42) | (w22 << 22)) & mask;
+    dst[dstOffset + 23] = ((w22 >>> 41) | (w23 << 23)) & mask;
+    dst[dstOffset + 24] = ((w23 >>> 40) | (w24 << 24)) & mask;
+    dst[dstOffset + 25] = ((w24 >>> 39) | (w25 << 25)) & mask;
+    dst[dstOffset + 26] = ((w25 >>> 38) | (w26 << 26)) & mask;
+    dst[dstOffset + 27] = ((w26 >>> 37) | (w27 << 27)) & mask;
+    dst[dstOffset + 28] = ((w27 >>> 36) | (w28 << 28)) & mask;
+    dst[dstOffset + 29] = ((w28 >>> 35) | (w29 << 29)) & mask;
+    dst[dstOffset + 30] = ((w29 >>> 34) | (w30 << 30)) & mask;
+    dst[dstOffset + 31] = ((w30 >>> 33) | (w31 << 31)) & mask;
+    dst[dstOffset + 32] = ((w31 >>> 32) | (w32 << 32)) & mask;
+    dst[dstOffset + 33] = ((w32 >>> 31) | (w33 << 33)) & mask;
+    dst[dstOffset + 34] = ((w33 >>> 30) | (w34 << 34)) & mask;
+    dst[dstOffset + 35] = ((w34 >>> 29) | (w35 << 35)) & mask;
+    dst[dstOffset + 36] = ((w35 >>> 28) | (w36 << 36)) & mask;
+    dst[dstOffset + 37] = ((w36 >>> 27) | (w37 << 37)) & mask;
+    dst[dstOffset + 38] = ((w37 >>> 26) | (w38 << 38)) & mask;
+    dst[dstOffset + 39] = ((w38 >>> 25) | (w39 << 39)) & mask;
+    dst[dstOffset + 40] = ((w39 >>> 24) | (w40 << 40)) & mask;
+    dst[dstOffset + 41] = ((w40 >>> 23) | (w41 << 41)) & mask;
+    dst[dstOffset + 42] = ((w41 >>> 22) | (w42 << 42)) & mask;
+    dst[dstOffset + 43] = ((w42 >>> 21) | (w43 << 43)) & mask;
+    dst[dstOffset + 44] = ((w43 >>> 20) | (w44 << 44)) & mask;
+    dst[dstOffset + 45] = ((w44 >>> 19) | (w45 << 45)) & mask;
+    dst[dstOffset + 46] = ((w45 >>> 18) | (w46 << 46)) & mask;
+    dst[dstOffset + 47] = ((w46 >>> 17) | (w47 << 47)) & mask;
+    dst[dstOffset + 48] = ((w47 >>> 16) | (w48 << 48)) & mask;
+    dst[dstOffset + 49] = ((w48 >>> 15) | (w49 << 49)) & mask;
+    dst[dstOffset + 50] = ((w49 >>> 14) | (w50 << 50)) & mask;
+    dst[dstOffset + 51] = ((w50 >>> 13) | (w51 << 51)) & mask;
+    dst[dstOffset + 52] = ((w51 >>> 12) | (w52 << 52)) & mask;
+    dst[dstOffset + 53] = ((w52 >>> 11) | (w53 << 53)) & mask;
+    dst[dstOffset + 54] = ((w53 >>> 10) | (w54 << 54)) & mask;
+    dst[dstOffset + 55] = ((w54 >>> 9) | (w55 << 55)) & mask;
+    dst[dstOffset + 56] = ((w55 >>> 8) | (w56 << 56)) & mask;
+    dst[dstOffset + 57] = ((w56 >>> 7) | (w57 << 57)) & mask;
+    dst[dstOffset + 58] = ((w57 >>> 6) | (w58 << 58)) & mask;
+    dst[dstOffset + 59] = ((w58 >>> 5) | (w59 << 59)) & mask;
+    dst[dstOffset + 60] = ((w59 >>> 4) | (w60 << 60)) & mask;
+    dst[dstOffset + 61] = ((w60 >>> 3) | (w61 << 61)) & mask;
+    dst[dstOffset + 62] = ((w61 >>> 2) | (w62 << 62)) & mask;
+    dst[dstOffset + 63] = w62 >>> 1;
+  }
+}
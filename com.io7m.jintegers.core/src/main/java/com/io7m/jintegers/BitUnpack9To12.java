@@ -0,0 +1,751 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * This file is generated by src/generator/bit_packing.py. Change the
+ * generator and regenerate rather than editing this file by hand.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unrolled kernels that unpack 64 values of widths 9 to 12.
+ *
+ * @see BitUnpack
+ */
+
+final class BitUnpack9To12
+{
+  private static final VarHandle WORDS =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private BitUnpack9To12()
+  {
+
+  }
+
+  static void unpack64(
+    final int bits,
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 9 -> unpack9(src, index, base, dst, dstOffset);
+      case 10 -> unpack10(src, index, base, dst, dstOffset);
+      case 11 -> unpack11(src, index, base, dst, dstOffset);
+      case 12 -> unpack12(src, index, base, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  static void unpack64(
+    final int bits,
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    switch (bits) {
+      case 9 -> unpack9(src, srcOffset, dst, dstOffset);
+      case 10 -> unpack10(src, srcOffset, dst, dstOffset);
+      case 11 -> unpack11(src, srcOffset, dst, dstOffset);
+      case 12 -> unpack12(src, srcOffset, dst, dstOffset);
+      default -> throw BitUnpack.unsupported(bits);
+    }
+  }
+
+  private static void unpack9(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 9) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 18) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 27) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 36) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 45) & mask) + base;
+    dst[dstOffset + 6] = ((w0 >>> 54) & mask) + base;
+    dst[dstOffset + 7] = (((w0 >>> 63) | (w1 << 1)) & mask) + base;
+    dst[dstOffset + 8] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 9] = ((w1 >>> 17) & mask) + base;
+    dst[dstOffset + 10] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 11] = ((w1 >>> 35) & mask) + base;
+    dst[dstOffset + 12] = ((w1 >>> 44) & mask) + base;
+    dst[dstOffset + 13] = ((w1 >>> 53) & mask) + base;
+    dst[dstOffset + 14] = (((w1 >>> 62) | (w2 << 2)) & mask) + base;
+    dst[dstOffset + 15] = ((w2 >>> 7) & mask) + base;
+    dst[dstOffset + 16] = ((w2 >>> 16) & mask) + base;
+    dst[dstOffset + 17] = ((w2 >>> 25) & mask) + base;
+    dst[dstOffset + 18] = ((w2 >>> 34) & mask) + base;
+    dst[dstOffset + 19] = ((w2 >>> 43) & mask) + base;
+    dst[dstOffset + 20] = ((w2 >>> 52) & mask) + base;
+    dst[dstOffset + 21] = (((w2 >>> 61) | (w3 << 3)) & mask) + base;
+    dst[dstOffset + 22] = ((w3 >>> 6) & mask) + base;
+    dst[dstOffset + 23] = ((w3 >>> 15) & mask) + base;
+    dst[dstOffset + 24] = ((w3 >>> 24) & mask) + base;
+    dst[dstOffset + 25] = ((w3 >>> 33) & mask) + base;
+    dst[dstOffset + 26] = ((w3 >>> 42) & mask) + base;
+    dst[dstOffset + 27] = ((w3 >>> 51) & mask) + base;
+    dst[dstOffset + 28] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 29] = ((w4 >>> 5) & mask) + base;
+    dst[dstOffset + 30] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 31] = ((w4 >>> 23) & mask) + base;
+    dst[dstOffset + 32] = ((w4 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = ((w4 >>> 41) & mask) + base;
+    dst[dstOffset + 34] = ((w4 >>> 50) & mask) + base;
+    dst[dstOffset + 35] = (((w4 >>> 59) | (w5 << 5)) & mask) + base;
+    dst[dstOffset + 36] = ((w5 >>> 4) & mask) + base;
+    dst[dstOffset + 37] = ((w5 >>> 13) & mask) + base;
+    dst[dstOffset + 38] = ((w5 >>> 22) & mask) + base;
+    dst[dstOffset + 39] = ((w5 >>> 31) & mask) + base;
+    dst[dstOffset + 40] = ((w5 >>> 40) & mask) + base;
+    dst[dstOffset + 41] = ((w5 >>> 49) & mask) + base;
+    dst[dstOffset + 42] = (((w5 >>> 58) | (w6 << 6)) & mask) + base;
+    dst[dstOffset + 43] = ((w6 >>> 3) & mask) + base;
+    dst[dstOffset + 44] = ((w6 >>> 12) & mask) + base;
+    dst[dstOffset + 45] = ((w6 >>> 21) & mask) + base;
+    dst[dstOffset + 46] = ((w6 >>> 30) & mask) + base;
+    dst[dstOffset + 47] = ((w6 >>> 39) & mask) + base;
+    dst[dstOffset + 48] = ((w6 >>> 48) & mask) + base;
+    dst[dstOffset + 49] = (((w6 >>> 57) | (w7 << 7)) & mask) + base;
+    dst[dstOffset + 50] = ((w7 >>> 2) & mask) + base;
+    dst[dstOffset + 51] = ((w7 >>> 11) & mask) + base;
+    dst[dstOffset + 52] = ((w7 >>> 20) & mask) + base;
+    dst[dstOffset + 53] = ((w7 >>> 29) & mask) + base;
+    dst[dstOffset + 54] = ((w7 >>> 38) & mask) + base;
+    dst[dstOffset + 55] = ((w7 >>> 47) & mask) + base;
+    dst[dstOffset + 56] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 57] = ((w8 >>> 1) & mask) + base;
+    dst[dstOffset + 58] = ((w8 >>> 10) & mask) + base;
+    dst[dstOffset + 59] = ((w8 >>> 19) & mask) + base;
+    dst[dstOffset + 60] = ((w8 >>> 28) & mask) + base;
+    dst[dstOffset + 61] = ((w8 >>> 37) & mask) + base;
+    dst[dstOffset + 62] = ((w8 >>> 46) & mask) + base;
+    dst[dstOffset + 63] = (w8 >>> 55) + base;
+  }
+
+  private static void unpack9(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x1ffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 9) & mask;
+    dst[dstOffset + 2] = (w0 >>> 18) & mask;
+    dst[dstOffset + 3] = (w0 >>> 27) & mask;
+    dst[dstOffset + 4] = (w0 >>> 36) & mask;
+    dst[dstOffset + 5] = (w0 >>> 45) & mask;
+    dst[dstOffset + 6] = (w0 >>> 54) & mask;
+    dst[dstOffset + 7] = ((w0 >>> 63) | (w1 << 1)) & mask;
+    dst[dstOffset + 8] = (w1 >>> 8) & mask;
+    dst[dstOffset + 9] = (w1 >>> 17) & mask;
+    dst[dstOffset + 10] = (w1 >>> 26) & mask;
+    dst[dstOffset + 11] = (w1 >>> 35) & mask;
+    dst[dstOffset + 12] = (w1 >>> 44) & mask;
+    dst[dstOffset + 13] = (w1 >>> 53) & mask;
+    dst[dstOffset + 14] = ((w1 >>> 62) | (w2 << 2)) & mask;
+    dst[dstOffset + 15] = (w2 >>> 7) & mask;
+    dst[dstOffset + 16] = (w2 >>> 16) & mask;
+    dst[dstOffset + 17] = (w2 >>> 25) & mask;
+    dst[dstOffset + 18] = (w2 >>> 34) & mask;
+    dst[dstOffset + 19] = (w2 >>> 43) & mask;
+    dst[dstOffset + 20] = (w2 >>> 52) & mask;
+    dst[dstOffset + 21] = ((w2 >>> 61) | (w3 << 3)) & mask;
+    dst[dstOffset + 22] = (w3 >>> 6) & mask;
+    dst[dstOffset + 23] = (w3 >>> 15) & mask;
+    dst[dstOffset + 24] = (w3 >>> 24) & mask;
+    dst[dstOffset + 25] = (w3 >>> 33) & mask;
+    dst[dstOffset + 26] = (w3 >>> 42) & mask;
+    dst[dstOffset + 27] = (w3 >>> 51) & mask;
+    dst[dstOffset + 28] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 29] = (w4 >>> 5) & mask;
+    dst[dstOffset + 30] = (w4 >>> 14) & mask;
+    dst[dstOffset + 31] = (w4 >>> 23) & mask;
+    dst[dstOffset + 32] = (w4 >>> 32) & mask;
+    dst[dstOffset + 33] = (w4 >>> 41) & mask;
+    dst[dstOffset + 34] = (w4 >>> 50) & mask;
+    dst[dstOffset + 35] = ((w4 >>> 59) | (w5 << 5)) & mask;
+    dst[dstOffset + 36] = (w5 >>> 4) & mask;
+    dst[dstOffset + 37] = (w5 >>> 13) & mask;
+    dst[dstOffset + 38] = (w5 >>> 22) & mask;
+    dst[dstOffset + 39] = (w5 >>> 31) & mask;
+    dst[dstOffset + 40] = (w5 >>> 40) & mask;
+    dst[dstOffset + 41] = (w5 >>> 49) & mask;
+    dst[dstOffset + 42] = ((w5 >>> 58) | (w6 << 6)) & mask;
+    dst[dstOffset + 43] = (w6 >>> 3) & mask;
+    dst[dstOffset + 44] = (w6 >>> 12) & mask;
+    dst[dstOffset + 45] = (w6 >>> 21) & mask;
+    dst[dstOffset + 46] = (w6 >>> 30) & mask;
+    dst[dstOffset + 47] = (w6 >>> 39) & mask;
+    dst[dstOffset + 48] = (w6 >>> 48) & mask;
+    dst[dstOffset + 49] = ((w6 >>> 57) | (w7 << 7)) & mask;
+    dst[dstOffset + 50] = (w7 >>> 2) & mask;
+    dst[dstOffset + 51] = (w7 >>> 11) & mask;
+    dst[dstOffset + 52] = (w7 >>> 20) & mask;
+    dst[dstOffset + 53] = (w7 >>> 29) & mask;
+    dst[dstOffset + 54] = (w7 >>> 38) & mask;
+    dst[dstOffset + 55] = (w7 >>> 47) & mask;
+    dst[dstOffset + 56] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 57] = (w8 >>> 1) & mask;
+    dst[dstOffset + 58] = (w8 >>> 10) & mask;
+    dst[dstOffset + 59] = (w8 >>> 19) & mask;
+    dst[dstOffset + 60] = (w8 >>> 28) & mask;
+    dst[dstOffset + 61] = (w8 >>> 37) & mask;
+    dst[dstOffset + 62] = (w8 >>> 46) & mask;
+    dst[dstOffset + 63] = w8 >>> 55;
+  }
+
+  private static void unpack10(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 10) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 20) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 30) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 40) & mask) + base;
+    dst[dstOffset + 5] = ((w0 >>> 50) & mask) + base;
+    dst[dstOffset + 6] = (((w0 >>> 60) | (w1 << 4)) & mask) + base;
+    dst[dstOffset + 7] = ((w1 >>> 6) & mask) + base;
+    dst[dstOffset + 8] = ((w1 >>> 16) & mask) + base;
+    dst[dstOffset + 9] = ((w1 >>> 26) & mask) + base;
+    dst[dstOffset + 10] = ((w1 >>> 36) & mask) + base;
+    dst[dstOffset + 11] = ((w1 >>> 46) & mask) + base;
+    dst[dstOffset + 12] = (((w1 >>> 56) | (w2 << 8)) & mask) + base;
+    dst[dstOffset + 13] = ((w2 >>> 2) & mask) + base;
+    dst[dstOffset + 14] = ((w2 >>> 12) & mask) + base;
+    dst[dstOffset + 15] = ((w2 >>> 22) & mask) + base;
+    dst[dstOffset + 16] = ((w2 >>> 32) & mask) + base;
+    dst[dstOffset + 17] = ((w2 >>> 42) & mask) + base;
+    dst[dstOffset + 18] = ((w2 >>> 52) & mask) + base;
+    dst[dstOffset + 19] = (((w2 >>> 62) | (w3 << 2)) & mask) + base;
+    dst[dstOffset + 20] = ((w3 >>> 8) & mask) + base;
+    dst[dstOffset + 21] = ((w3 >>> 18) & mask) + base;
+    dst[dstOffset + 22] = ((w3 >>> 28) & mask) + base;
+    dst[dstOffset + 23] = ((w3 >>> 38) & mask) + base;
+    dst[dstOffset + 24] = ((w3 >>> 48) & mask) + base;
+    dst[dstOffset + 25] = (((w3 >>> 58) | (w4 << 6)) & mask) + base;
+    dst[dstOffset + 26] = ((w4 >>> 4) & mask) + base;
+    dst[dstOffset + 27] = ((w4 >>> 14) & mask) + base;
+    dst[dstOffset + 28] = ((w4 >>> 24) & mask) + base;
+    dst[dstOffset + 29] = ((w4 >>> 34) & mask) + base;
+    dst[dstOffset + 30] = ((w4 >>> 44) & mask) + base;
+    dst[dstOffset + 31] = (w4 >>> 54) + base;
+    dst[dstOffset + 32] = (w5 & mask) + base;
+    dst[dstOffset + 33] = ((w5 >>> 10) & mask) + base;
+    dst[dstOffset + 34] = ((w5 >>> 20) & mask) + base;
+    dst[dstOffset + 35] = ((w5 >>> 30) & mask) + base;
+    dst[dstOffset + 36] = ((w5 >>> 40) & mask) + base;
+    dst[dstOffset + 37] = ((w5 >>> 50) & mask) + base;
+    dst[dstOffset + 38] = (((w5 >>> 60) | (w6 << 4)) & mask) + base;
+    dst[dstOffset + 39] = ((w6 >>> 6) & mask) + base;
+    dst[dstOffset + 40] = ((w6 >>> 16) & mask) + base;
+    dst[dstOffset + 41] = ((w6 >>> 26) & mask) + base;
+    dst[dstOffset + 42] = ((w6 >>> 36) & mask) + base;
+    dst[dstOffset + 43] = ((w6 >>> 46) & mask) + base;
+    dst[dstOffset + 44] = (((w6 >>> 56) | (w7 << 8)) & mask) + base;
+    dst[dstOffset + 45] = ((w7 >>> 2) & mask) + base;
+    dst[dstOffset + 46] = ((w7 >>> 12) & mask) + base;
+    dst[dstOffset + 47] = ((w7 >>> 22) & mask) + base;
+    dst[dstOffset + 48] = ((w7 >>> 32) & mask) + base;
+    dst[dstOffset + 49] = ((w7 >>> 42) & mask) + base;
+    dst[dstOffset + 50] = ((w7 >>> 52) & mask) + base;
+    dst[dstOffset + 51] = (((w7 >>> 62) | (w8 << 2)) & mask) + base;
+    dst[dstOffset + 52] = ((w8 >>> 8) & mask) + base;
+    dst[dstOffset + 53] = ((w8 >>> 18) & mask) + base;
+    dst[dstOffset + 54] = ((w8 >>> 28) & mask) + base;
+    dst[dstOffset + 55] = ((w8 >>> 38) & mask) + base;
+    dst[dstOffset + 56] = ((w8 >>> 48) & mask) + base;
+    dst[dstOffset + 57] = (((w8 >>> 58) | (w9 << 6)) & mask) + base;
+    dst[dstOffset + 58] = ((w9 >>> 4) & mask) + base;
+    dst[dstOffset + 59] = ((w9 >>> 14) & mask) + base;
+    dst[dstOffset + 60] = ((w9 >>> 24) & mask) + base;
+    dst[dstOffset + 61] = ((w9 >>> 34) & mask) + base;
+    dst[dstOffset + 62] = ((w9 >>> 44) & mask) + base;
+    dst[dstOffset + 63] = (w9 >>> 54) + base;
+  }
+
+  private static void unpack10(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x3ffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 10) & mask;
+    dst[dstOffset + 2] = (w0 >>> 20) & mask;
+    dst[dstOffset + 3] = (w0 >>> 30) & mask;
+    dst[dstOffset + 4] = (w0 >>> 40) & mask;
+    dst[dstOffset + 5] = (w0 >>> 50) & mask;
+    dst[dstOffset + 6] = ((w0 >>> 60) | (w1 << 4)) & mask;
+    dst[dstOffset + 7] = (w1 >>> 6) & mask;
+    dst[dstOffset + 8] = (w1 >>> 16) & mask;
+    dst[dstOffset + 9] = (w1 >>> 26) & mask;
+    dst[dstOffset + 10] = (w1 >>> 36) & mask;
+    dst[dstOffset + 11] = (w1 >>> 46) & mask;
+    dst[dstOffset + 12] = ((w1 >>> 56) | (w2 << 8)) & mask;
+    dst[dstOffset + 13] = (w2 >>> 2) & mask;
+    dst[dstOffset + 14] = (w2 >>> 12) & mask;
+    dst[dstOffset + 15] = (w2 >>> 22) & mask;
+    dst[dstOffset + 16] = (w2 >>> 32) & mask;
+    dst[dstOffset + 17] = (w2 >>> 42) & mask;
+    dst[dstOffset + 18] = (w2 >>> 52) & mask;
+    dst[dstOffset + 19] = ((w2 >>> 62) | (w3 << 2)) & mask;
+    dst[dstOffset + 20] = (w3 >>> 8) & mask;
+    dst[dstOffset + 21] = (w3 >>> 18) & mask;
+    dst[dstOffset + 22] = (w3 >>> 28) & mask;
+    dst[dstOffset + 23] = (w3 >>> 38) & mask;
+    dst[dstOffset + 24] = (w3 >>> 48) & mask;
+    dst[dstOffset + 25] = ((w3 >>> 58) | (w4 << 6)) & mask;
+    dst[dstOffset + 26] = (w4 >>> 4) & mask;
+    dst[dstOffset + 27] = (w4 >>> 14) & mask;
+    dst[dstOffset + 28] = (w4 >>> 24) & mask;
+    dst[dstOffset + 29] = (w4 >>> 34) & mask;
+    dst[dstOffset + 30] = (w4 >>> 44) & mask;
+    dst[dstOffset + 31] = w4 >>> 54;
+    dst[dstOffset + 32] = w5 & mask;
+    dst[dstOffset + 33] = (w5 >>> 10) & mask;
+    dst[dstOffset + 34] = (w5 >>> 20) & mask;
+    dst[dstOffset + 35] = (w5 >>> 30) & mask;
+    dst[dstOffset + 36] = (w5 >>> 40) & mask;
+    dst[dstOffset + 37] = (w5 >>> 50) & mask;
+    dst[dstOffset + 38] = ((w5 >>> 60) | (w6 << 4)) & mask;
+    dst[dstOffset + 39] = (w6 >>> 6) & mask;
+    dst[dstOffset + 40] = (w6 >>> 16) & mask;
+    dst[dstOffset + 41] = (w6 >>> 26) & mask;
+    dst[dstOffset + 42] = (w6 >>> 36) & mask;
+    dst[dstOffset + 43] = (w6 >>> 46) & mask;
+    dst[dstOffset + 44] = ((w6 >>> 56) | (w7 << 8)) & mask;
+    dst[dstOffset + 45] = (w7 >>> 2) & mask;
+    dst[dstOffset + 46] = (w7 >>> 12) & mask;
+    dst[dstOffset + 47] = (w7 >>> 22) & mask;
+    dst[dstOffset + 48] = (w7 >>> 32) & mask;
+    dst[dstOffset + 49] = (w7 >>> 42) & mask;
+    dst[dstOffset + 50] = (w7 >>> 52) & mask;
+    dst[dstOffset + 51] = ((w7 >>> 62) | (w8 << 2)) & mask;
+    dst[dstOffset + 52] = (w8 >>> 8) & mask;
+    dst[dstOffset + 53] = (w8 >>> 18) & mask;
+    dst[dstOffset + 54] = (w8 >>> 28) & mask;
+    dst[dstOffset + 55] = (w8 >>> 38) & mask;
+    dst[dstOffset + 56] = (w8 >>> 48) & mask;
+    dst[dstOffset + 57] = ((w8 >>> 58) | (w9 << 6)) & mask;
+    dst[dstOffset + 58] = (w9 >>> 4) & mask;
+    dst[dstOffset + 59] = (w9 >>> 14) & mask;
+    dst[dstOffset + 60] = (w9 >>> 24) & mask;
+    dst[dstOffset + 61] = (w9 >>> 34) & mask;
+    dst[dstOffset + 62] = (w9 >>> 44) & mask;
+    dst[dstOffset + 63] = w9 >>> 54;
+  }
+
+  private static void unpack11(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 11) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 22) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 33) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 44) & mask) + base;
+    dst[dstOffset + 5] = (((w0 >>> 55) | (w1 << 9)) & mask) + base;
+    dst[dstOffset + 6] = ((w1 >>> 2) & mask) + base;
+    dst[dstOffset + 7] = ((w1 >>> 13) & mask) + base;
+    dst[dstOffset + 8] = ((w1 >>> 24) & mask) + base;
+    dst[dstOffset + 9] = ((w1 >>> 35) & mask) + base;
+    dst[dstOffset + 10] = ((w1 >>> 46) & mask) + base;
+    dst[dstOffset + 11] = (((w1 >>> 57) | (w2 << 7)) & mask) + base;
+    dst[dstOffset + 12] = ((w2 >>> 4) & mask) + base;
+    dst[dstOffset + 13] = ((w2 >>> 15) & mask) + base;
+    dst[dstOffset + 14] = ((w2 >>> 26) & mask) + base;
+    dst[dstOffset + 15] = ((w2 >>> 37) & mask) + base;
+    dst[dstOffset + 16] = ((w2 >>> 48) & mask) + base;
+    dst[dstOffset + 17] = (((w2 >>> 59) | (w3 << 5)) & mask) + base;
+    dst[dstOffset + 18] = ((w3 >>> 6) & mask) + base;
+    dst[dstOffset + 19] = ((w3 >>> 17) & mask) + base;
+    dst[dstOffset + 20] = ((w3 >>> 28) & mask) + base;
+    dst[dstOffset + 21] = ((w3 >>> 39) & mask) + base;
+    dst[dstOffset + 22] = ((w3 >>> 50) & mask) + base;
+    dst[dstOffset + 23] = (((w3 >>> 61) | (w4 << 3)) & mask) + base;
+    dst[dstOffset + 24] = ((w4 >>> 8) & mask) + base;
+    dst[dstOffset + 25] = ((w4 >>> 19) & mask) + base;
+    dst[dstOffset + 26] = ((w4 >>> 30) & mask) + base;
+    dst[dstOffset + 27] = ((w4 >>> 41) & mask) + base;
+    dst[dstOffset + 28] = ((w4 >>> 52) & mask) + base;
+    dst[dstOffset + 29] = (((w4 >>> 63) | (w5 << 1)) & mask) + base;
+    dst[dstOffset + 30] = ((w5 >>> 10) & mask) + base;
+    dst[dstOffset + 31] = ((w5 >>> 21) & mask) + base;
+    dst[dstOffset + 32] = ((w5 >>> 32) & mask) + base;
+    dst[dstOffset + 33] = ((w5 >>> 43) & mask) + base;
+    dst[dstOffset + 34] = (((w5 >>> 54) | (w6 << 10)) & mask) + base;
+    dst[dstOffset + 35] = ((w6 >>> 1) & mask) + base;
+    dst[dstOffset + 36] = ((w6 >>> 12) & mask) + base;
+    dst[dstOffset + 37] = ((w6 >>> 23) & mask) + base;
+    dst[dstOffset + 38] = ((w6 >>> 34) & mask) + base;
+    dst[dstOffset + 39] = ((w6 >>> 45) & mask) + base;
+    dst[dstOffset + 40] = (((w6 >>> 56) | (w7 << 8)) & mask) + base;
+    dst[dstOffset + 41] = ((w7 >>> 3) & mask) + base;
+    dst[dstOffset + 42] = ((w7 >>> 14) & mask) + base;
+    dst[dstOffset + 43] = ((w7 >>> 25) & mask) + base;
+    dst[dstOffset + 44] = ((w7 >>> 36) & mask) + base;
+    dst[dstOffset + 45] = ((w7 >>> 47) & mask) + base;
+    dst[dstOffset + 46] = (((w7 >>> 58) | (w8 << 6)) & mask) + base;
+    dst[dstOffset + 47] = ((w8 >>> 5) & mask) + base;
+    dst[dstOffset + 48] = ((w8 >>> 16) & mask) + base;
+    dst[dstOffset + 49] = ((w8 >>> 27) & mask) + base;
+    dst[dstOffset + 50] = ((w8 >>> 38) & mask) + base;
+    dst[dstOffset + 51] = ((w8 >>> 49) & mask) + base;
+    dst[dstOffset + 52] = (((w8 >>> 60) | (w9 << 4)) & mask) + base;
+    dst[dstOffset + 53] = ((w9 >>> 7) & mask) + base;
+    dst[dstOffset + 54] = ((w9 >>> 18) & mask) + base;
+    dst[dstOffset + 55] = ((w9 >>> 29) & mask) + base;
+    dst[dstOffset + 56] = ((w9 >>> 40) & mask) + base;
+    dst[dstOffset + 57] = ((w9 >>> 51) & mask) + base;
+    dst[dstOffset + 58] = (((w9 >>> 62) | (w10 << 2)) & mask) + base;
+    dst[dstOffset + 59] = ((w10 >>> 9) & mask) + base;
+    dst[dstOffset + 60] = ((w10 >>> 20) & mask) + base;
+    dst[dstOffset + 61] = ((w10 >>> 31) & mask) + base;
+    dst[dstOffset + 62] = ((w10 >>> 42) & mask) + base;
+    dst[dstOffset + 63] = (w10 >>> 53) + base;
+  }
+
+  private static void unpack11(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0x7ffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 11) & mask;
+    dst[dstOffset + 2] = (w0 >>> 22) & mask;
+    dst[dstOffset + 3] = (w0 >>> 33) & mask;
+    dst[dstOffset + 4] = (w0 >>> 44) & mask;
+    dst[dstOffset + 5] = ((w0 >>> 55) | (w1 << 9)) & mask;
+    dst[dstOffset + 6] = (w1 >>> 2) & mask;
+    dst[dstOffset + 7] = (w1 >>> 13) & mask;
+    dst[dstOffset + 8] = (w1 >>> 24) & mask;
+    dst[dstOffset + 9] = (w1 >>> 35) & mask;
+    dst[dstOffset + 10] = (w1 >>> 46) & mask;
+    dst[dstOffset + 11] = ((w1 >>> 57) | (w2 << 7)) & mask;
+    dst[dstOffset + 12] = (w2 >>> 4) & mask;
+    dst[dstOffset + 13] = (w2 >>> 15) & mask;
+    dst[dstOffset + 14] = (w2 >>> 26) & mask;
+    dst[dstOffset + 15] = (w2 >>> 37) & mask;
+    dst[dstOffset + 16] = (w2 >>> 48) & mask;
+    dst[dstOffset + 17] = ((w2 >>> 59) | (w3 << 5)) & mask;
+    dst[dstOffset + 18] = (w3 >>> 6) & mask;
+    dst[dstOffset + 19] = (w3 >>> 17) & mask;
+    dst[dstOffset + 20] = (w3 >>> 28) & mask;
+    dst[dstOffset + 21] = (w3 >>> 39) & mask;
+    dst[dstOffset + 22] = (w3 >>> 50) & mask;
+    dst[dstOffset + 23] = ((w3 >>> 61) | (w4 << 3)) & mask;
+    dst[dstOffset + 24] = (w4 >>> 8) & mask;
+    dst[dstOffset + 25] = (w4 >>> 19) & mask;
+    dst[dstOffset + 26] = (w4 >>> 30) & mask;
+    dst[dstOffset + 27] = (w4 >>> 41) & mask;
+    dst[dstOffset + 28] = (w4 >>> 52) & mask;
+    dst[dstOffset + 29] = ((w4 >>> 63) | (w5 << 1)) & mask;
+    dst[dstOffset + 30] = (w5 >>> 10) & mask;
+    dst[dstOffset + 31] = (w5 >>> 21) & mask;
+    dst[dstOffset + 32] = (w5 >>> 32) & mask;
+    dst[dstOffset + 33] = (w5 >>> 43) & mask;
+    dst[dstOffset + 34] = ((w5 >>> 54) | (w6 << 10)) & mask;
+    dst[dstOffset + 35] = (w6 >>> 1) & mask;
+    dst[dstOffset + 36] = (w6 >>> 12) & mask;
+    dst[dstOffset + 37] = (w6 >>> 23) & mask;
+    dst[dstOffset + 38] = (w6 >>> 34) & mask;
+    dst[dstOffset + 39] = (w6 >>> 45) & mask;
+    dst[dstOffset + 40] = ((w6 >>> 56) | (w7 << 8)) & mask;
+    dst[dstOffset + 41] = (w7 >>> 3) & mask;
+    dst[dstOffset + 42] = (w7 >>> 14) & mask;
+    dst[dstOffset + 43] = (w7 >>> 25) & mask;
+    dst[dstOffset + 44] = (w7 >>> 36) & mask;
+    dst[dstOffset + 45] = (w7 >>> 47) & mask;
+    dst[dstOffset + 46] = ((w7 >>> 58) | (w8 << 6)) & mask;
+    dst[dstOffset + 47] = (w8 >>> 5) & mask;
+    dst[dstOffset + 48] = (w8 >>> 16) & mask;
+    dst[dstOffset + 49] = (w8 >>> 27) & mask;
+    dst[dstOffset + 50] = (w8 >>> 38) & mask;
+    dst[dstOffset + 51] = (w8 >>> 49) & mask;
+    dst[dstOffset + 52] = ((w8 >>> 60) | (w9 << 4)) & mask;
+    dst[dstOffset + 53] = (w9 >>> 7) & mask;
+    dst[dstOffset + 54] = (w9 >>> 18) & mask;
+    dst[dstOffset + 55] = (w9 >>> 29) & mask;
+    dst[dstOffset + 56] = (w9 >>> 40) & mask;
+    dst[dstOffset + 57] = (w9 >>> 51) & mask;
+    dst[dstOffset + 58] = ((w9 >>> 62) | (w10 << 2)) & mask;
+    dst[dstOffset + 59] = (w10 >>> 9) & mask;
+    dst[dstOffset + 60] = (w10 >>> 20) & mask;
+    dst[dstOffset + 61] = (w10 >>> 31) & mask;
+    dst[dstOffset + 62] = (w10 >>> 42) & mask;
+    dst[dstOffset + 63] = w10 >>> 53;
+  }
+
+  private static void unpack12(
+    final ByteBuffer src,
+    final int index,
+    final long base,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffL;
+    final long w0 = (long) WORDS.get(src, index);
+    final long w1 = (long) WORDS.get(src, index + 8);
+    final long w2 = (long) WORDS.get(src, index + 16);
+    final long w3 = (long) WORDS.get(src, index + 24);
+    final long w4 = (long) WORDS.get(src, index + 32);
+    final long w5 = (long) WORDS.get(src, index + 40);
+    final long w6 = (long) WORDS.get(src, index + 48);
+    final long w7 = (long) WORDS.get(src, index + 56);
+    final long w8 = (long) WORDS.get(src, index + 64);
+    final long w9 = (long) WORDS.get(src, index + 72);
+    final long w10 = (long) WORDS.get(src, index + 80);
+    final long w11 = (long) WORDS.get(src, index + 88);
+    dst[dstOffset] = (w0 & mask) + base;
+    dst[dstOffset + 1] = ((w0 >>> 12) & mask) + base;
+    dst[dstOffset + 2] = ((w0 >>> 24) & mask) + base;
+    dst[dstOffset + 3] = ((w0 >>> 36) & mask) + base;
+    dst[dstOffset + 4] = ((w0 >>> 48) & mask) + base;
+    dst[dstOffset + 5] = (((w0 >>> 60) | (w1 << 4)) & mask) + base;
+    dst[dstOffset + 6] = ((w1 >>> 8) & mask) + base;
+    dst[dstOffset + 7] = ((w1 >>> 20) & mask) + base;
+    dst[dstOffset + 8] = ((w1 >>> 32) & mask) + base;
+    dst[dstOffset + 9] = ((w1 >>> 44) & mask) + base;
+    dst[dstOffset + 10] = (((w1 >>> 56) | (w2 << 8)) & mask) + base;
+    dst[dstOffset + 11] = ((w2 >>> 4) & mask) + base;
+    dst[dstOffset + 12] = ((w2 >>> 16) & mask) + base;
+    dst[dstOffset + 13] = ((w2 >>> 28) & mask) + base;
+    dst[dstOffset + 14] = ((w2 >>> 40) & mask) + base;
+    dst[dstOffset + 15] = (w2 >>> 52) + base;
+    dst[dstOffset + 16] = (w3 & mask) + base;
+    dst[dstOffset + 17] = ((w3 >>> 12) & mask) + base;
+    dst[dstOffset + 18] = ((w3 >>> 24) & mask) + base;
+    dst[dstOffset + 19] = ((w3 >>> 36) & mask) + base;
+    dst[dstOffset + 20] = ((w3 >>> 48) & mask) + base;
+    dst[dstOffset + 21] = (((w3 >>> 60) | (w4 << 4)) & mask) + base;
+    dst[dstOffset + 22] = ((w4 >>> 8) & mask) + base;
+    dst[dstOffset + 23] = ((w4 >>> 20) & mask) + base;
+    dst[dstOffset + 24] = ((w4 >>> 32) & mask) + base;
+    dst[dstOffset + 25] = ((w4 >>> 44) & mask) + base;
+    dst[dstOffset + 26] = (((w4 >>> 56) | (w5 << 8)) & mask) + base;
+    dst[dstOffset + 27] = ((w5 >>> 4) & mask) + base;
+    dst[dstOffset + 28] = ((w5 >>> 16) & mask) + base;
+    dst[dstOffset + 29] = ((w5 >>> 28) & mask) + base;
+    dst[dstOffset + 30] = ((w5 >>> 40) & mask) + base;
+    dst[dstOffset + 31] = (w5 >>> 52) + base;
+    dst[dstOffset + 32] = (w6 & mask) + base;
+    dst[dstOffset + 33] = ((w6 >>> 12) & mask) + base;
+    dst[dstOffset + 34] = ((w6 >>> 24) & mask) + base;
+    dst[dstOffset + 35] = ((w6 >>> 36) & mask) + base;
+    dst[dstOffset + 36] = ((w6 >>> 48) & mask) + base;
+    dst[dstOffset + 37] = (((w6 >>> 60) | (w7 << 4)) & mask) + base;
+    dst[dstOffset + 38] = ((w7 >>> 8) & mask) + base;
+    dst[dstOffset + 39] = ((w7 >>> 20) & mask) + base;
+    dst[dstOffset + 40] = ((w7 >>> 32) & mask) + base;
+    dst[dstOffset + 41] = ((w7 >>> 44) & mask) + base;
+    dst[dstOffset + 42] = (((w7 >>> 56) | (w8 << 8)) & mask) + base;
+    dst[dstOffset + 43] = ((w8 >>> 4) & mask) + base;
+    dst[dstOffset + 44] = ((w8 >>> 16) & mask) + base;
+    dst[dstOffset + 45] = ((w8 >>> 28) & mask) + base;
+    dst[dstOffset + 46] = ((w8 >>> 40) & mask) + base;
+    dst[dstOffset + 47] = (w8 >>> 52) + base;
+    dst[dstOffset + 48] = (w9 & mask) + base;
+    dst[dstOffset + 49] = ((w9 >>> 12) & mask) + base;
+    dst[dstOffset + 50] = ((w9 >>> 24) & mask) + base;
+    dst[dstOffset + 51] = ((w9 >>> 36) & mask) + base;
+    dst[dstOffset + 52] = ((w9 >>> 48) & mask) + base;
+    dst[dstOffset + 53] = (((w9 >>> 60) | (w10 << 4)) & mask) + base;
+    dst[dstOffset + 54] = ((w10 >>> 8) & mask) + base;
+    dst[dstOffset + 55] = ((w10 >>> 20) & mask) + base;
+    dst[dstOffset + 56] = ((w10 >>> 32) & mask) + base;
+    dst[dstOffset + 57] = ((w10 >>> 44) & mask) + base;
+    dst[dstOffset + 58] = (((w10 >>> 56) | (w11 << 8)) & mask) + base;
+    dst[dstOffset + 59] = ((w11 >>> 4) & mask) + base;
+    dst[dstOffset + 60] = ((w11 >>> 16) & mask) + base;
+    dst[dstOffset + 61] = ((w11 >>> 28) & mask) + base;
+    dst[dstOffset + 62] = ((w11 >>> 40) & mask) + base;
+    dst[dstOffset + 63] = (w11 >>> 52) + base;
+  }
+
+  private static void unpack12(
+    final long[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset)
+  {
+    final long mask = 0xfffL;
+    final long w0 = src[srcOffset];
+    final long w1 = src[srcOffset + 1];
+    final long w2 = src[srcOffset + 2];
+    final long w3 = src[srcOffset + 3];
+    final long w4 = src[srcOffset + 4];
+    final long w5 = src[srcOffset + 5];
+    final long w6 = src[srcOffset + 6];
+    final long w7 = src[srcOffset + 7];
+    final long w8 = src[srcOffset + 8];
+    final long w9 = src[srcOffset + 9];
+    final long w10 = src[srcOffset + 10];
+    final long w11 = src[srcOffset + 11];
+    dst[dstOffset] = w0 & mask;
+    dst[dstOffset + 1] = (w0 >>> 12) & mask;
+    dst[dstOffset + 2] = (w0 >>> 24) & mask;
+    dst[dstOffset + 3] = (w0 >>> 36) & mask;
+    dst[dstOffset + 4] = (w0 >>> 48) & mask;
+    dst[dstOffset + 5] = ((w0 >>> 60) | (w1 << 4)) & mask;
+    dst[dstOffset + 6] = (w1 >>> 8) & mask;
+    dst[dstOffset + 7] = (w1 >>> 20) & mask;
+    dst[dstOffset + 8] = (w1 >>> 32) & mask;
+    dst[dstOffset + 9] = (w1 >>> 44) & mask;
+    dst[dstOffset + 10] = ((w1 >>> 56) | (w2 << 8)) & mask;
+    dst[dstOffset + 11] = (w2 >>> 4) & mask;
+    dst[dstOffset + 12] = (w2 >>> 16) & mask;
+    dst[dstOffset + 13] = (w2 >>> 28) & mask;
+    dst[dstOffset + 14] = (w2 >>> 40) & mask;
+    dst[dstOffset + 15] = w2 >>> 52;
+    dst[dstOffset + 16] = w3 & mask;
+    dst[dstOffset + 17] = (w3 >>> 12) & mask;
+    dst[dstOffset + 18] = (w3 >>> 24) & mask;
+    dst[dstOffset + 19] = (w3 >>> 36) & mask;
+    dst[dstOffset + 20] = (w3 >>> 48) & mask;
+    dst[dstOffset + 21] = ((w3 >>> 60) | (w4 << 4)) & mask;
+    dst[dstOffset + 22] = (w4 >>> 8) & mask;
+    dst[dstOffset + 23] = (w4 >>> 20) & mask;
+    dst[dstOffset + 24] = (w4 >>> 32) & mask;
+    dst[dstOffset + 25] = (w4 >>> 44) & mask;
+    dst[dstOffset + 26] = ((w4 >>> 56) | (w5 << 8)) & mask;
+    dst[dstOffset + 27] = (w5 >>> 4) & mask;
+    dst[dstOffset + 28] = (w5 >>> 16) & mask;
+    dst[dstOffset + 29] = (w5 >>> 28) & mask;
+    dst[dstOffset + 30] = (w5 >>> 40) & mask;
+    dst[dstOffset + 31] = w5 >>> 52;
+    dst[dstOffset + 32] = w6 & mask;
+    dst[dstOffset + 33] = (w6 >>> 12) & mask;
+    dst[dstOffset + 34] = (w6 >>> 24) & mask;
+    dst[dstOffset + 35] = (w6 >>> 36) & mask;
+    dst[dstOffset + 36] = (w6 >>> 48) & mask;
+    dst[dstOffset + 37] = ((w6 >>> 60) | (w7 << 4)) & mask;
+    dst[dstOffset + 38] = (w7 >>> 8) & mask;
+    dst[dstOffset + 39] = (w7 >>> 20) & mask;
+    dst[dstOffset + 40] = (w7 >>> 32) & mask;
+    dst[dstOffset + 41] = (w7 >>> 44) & mask;
+    dst[dstOffset + 42] = ((w7 >>> 56) | (w8 << 8)) & mask;
+    dst[dstOffset + 43] = (w8 >>> 4) & mask;
+    dst[dstOffset + 44] = (w8 >>> 16) & mask;
+    dst[dstOffset + 45] = (w8 >>> 28) & mask;
+    dst[dstOffset + 46] = (w8 >>> 40) & mask;
+    dst[dstOffset + 47] = w8 >>> 52;
+    dst[dstOffset + 48] = w9 & mask;
+    dst[dstOffset + 49] = (w9 >>> 12) & mask;
+    dst[dstOffset + 50] = (w9 >>> 24) & mask;
+    dst[dstOffset + 51] = (w9 >>> 36) & mask;
+    dst[dstOffset + 52] = (w9 >>> 48) & mask;
+    dst[dstOffset + 53] = ((w9 >>> 60) | (w10 << 4)) & mask;
+    dst[dstOffset + 54] = (w10 >>> 8) & mask;
+    dst[dstOffset + 55] = (w10 >>> 20) & mask;
+    dst[dstOffset + 56] = (w10 >>> 32) & mask;
+    dst[dstOffset + 57] = (w10 >>> 44) & mask;
+    dst[dstOffset + 58] = ((w10 >>> 56) | (w11 << 8)) & mask;
+    dst[dstOffset + 59] = (w11 >>> 4) & mask;
+    dst[dstOffset + 60] = (w11 >>> 16) & mask;
+    dst[dstOffset + 61] = (w11 >>> 28) & mask;
+    dst[dstOffset + 62] = (w11 >>> 40) & mask;
+    dst[dstOffset + 63] = w11 >>> 52;
+  }
+}
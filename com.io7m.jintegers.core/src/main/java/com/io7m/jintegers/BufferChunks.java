@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A sequence of fixed-width values stored across a series of byte
+ * buffers.
+ * </p>
+ * <p>
+ * Every chunk except the last holds exactly {@code 2^shift} values, so a
+ * value never straddles two chunks, and the chunk and byte offset of a
+ * value are found with a shift and a mask rather than a division.
+ * </p>
+ */
+
+final class BufferChunks
+{
+  /**
+   * The maximum size in bytes of a single chunk.
+   */
+
+  static final int MAXIMUM_CHUNK_BYTES = 1 << 30;
+
+  private final ByteBuffer[] chunks;
+  private final IntegerCodecType codec;
+  private final int width;
+  private final int shift;
+  private final long mask;
+  private final long count;
+
+  BufferChunks(
+    final ByteBuffer[] inChunks,
+    final IntegerCodecType inCodec,
+    final int inShift,
+    final long inCount)
+  {
+    this.chunks = Objects.requireNonNull(inChunks, "Chunks");
+    this.codec = Objects.requireNonNull(inCodec, "Codec");
+    this.width = inCodec.width();
+    this.shift = inShift;
+    this.mask = (1L << inShift) - 1L;
+    this.count = inCount;
+  }
+
+  /**
+   * Calculate the number of values per chunk, as a power of two.
+   *
+   * @param width        The width of values in bytes
+   * @param maximumBytes The maximum size of a chunk in bytes
+   *
+   * @return {@code log2} of the number of values per chunk
+   */
+
+  static int chunkShift(
+    final int width,
+    final int maximumBytes)
+  {
+    final int values = maximumBytes / width;
+    if (values < 1) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Chunk size %d is smaller than the value width %d",
+          Integer.valueOf(maximumBytes),
+          Integer.valueOf(width)));
+    }
+    return 31 - Integer.numberOfLeadingZeros(values);
+  }
+
+  /**
+   * Calculate the number of chunks required to hold {@code count} values.
+   *
+   * @param count The number of values
+   * @param shift {@code log2} of the number of values per chunk
+   *
+   * @return The number of chunks
+   */
+
+  static int chunkCount(
+    final long count,
+    final int shift)
+  {
+    return Math.toIntExact((count + (1L << shift) - 1L) >>> shift);
+  }
+
+  /**
+   * Calculate the size in bytes of chunk {@code chunk}.
+   *
+   * @param count The number of values
+   * @param width The width of values in bytes
+   * @param shift {@code log2} of the number of values per chunk
+   * @param chunk The chunk
+   *
+   * @return The size in bytes
+   */
+
+  static int chunkBytes(
+    final long count,
+    final int width,
+    final int shift,
+    final int chunk)
+  {
+    final long first = (long) chunk << shift;
+    final long values = Math.min(1L << shift, count - first);
+    return Math.toIntExact(values * width);
+  }
+
+  /**
+   * Allocate direct buffers to hold {@code count} values.
+   *
+   * @param codec        The codec used to access values
+   * @param count        The number of values
+   * @param maximumBytes The maximum size of a chunk in bytes
+   *
+   * @return A set of chunks
+   */
+
+  static BufferChunks allocateDirect(
+    final IntegerCodecType codec,
+    final long count,
+    final int maximumBytes)
+  {
+    Objects.requireNonNull(codec, "Codec");
+    if (maximumBytes <= 0 || maximumBytes > MAXIMUM_CHUNK_BYTES) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Chunk size %d must be in the range [1, %d]",
+          Integer.valueOf(maximumBytes),
+          Integer.valueOf(MAXIMUM_CHUNK_BYTES)));
+    }
+    if (count < 0L) {
+      throw new IllegalArgumentException(
+        String.format("Count %d must be non-negative", Long.valueOf(count)));
+    }
+
+    final int width = codec.width();
+    final int shift = chunkShift(width, maximumBytes);
+    final ByteBuffer[] buffers = new ByteBuffer[chunkCount(count, shift)];
+    for (int index = 0; index < buffers.length; ++index) {
+      buffers[index] =
+        ByteBuffer.allocateDirect(chunkBytes(count, width, shift, index));
+    }
+    return new BufferChunks(buffers, codec, shift, count);
+  }
+
+  long count()
+  {
+    return this.count;
+  }
+
+  IntegerCodecType codec()
+  {
+    return this.codec;
+  }
+
+  ByteBuffer[] chunks()
+  {
+    return this.chunks;
+  }
+
+  long get(
+    final long index)
+  {
+    Objects.checkIndex(index, this.count);
+    return this.codec.unpack(
+      this.chunks[(int) (index >>> this.shift)],
+      (int) (index & this.mask) * this.width);
+  }
+
+  void set(
+    final long index,
+    final long value)
+  {
+    Objects.checkIndex(index, this.count);
+    this.codec.pack(
+      value,
+      this.chunks[(int) (index >>> this.shift)],
+      (int) (index & this.mask) * this.width);
+  }
+
+  void getArray(
+    final long index,
+    final long[] dst,
+    final int dstOffset,
+    final int length)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(index, length, this.count);
+    Objects.checkFromIndexSize(dstOffset, length, dst.length);
+
+    long i = index;
+    int offset = dstOffset;
+    int remaining = length;
+    while (remaining > 0) {
+      final int n = this.run(i, remaining);
+      this.codec.unpackArray(
+        this.chunk(i), this.offsetOf(i), dst, offset, n);
+      i += n;
+      offset += n;
+      remaining -= n;
+    }
+  }
+
+  void setArray(
+    final long index,
+    final long[] src,
+    final int srcOffset,
+    final int length)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(index, length, this.count);
+    Objects.checkFromIndexSize(srcOffset, length, src.length);
+
+    long i = index;
+    int offset = srcOffset;
+    int remaining = length;
+    while (remaining > 0) {
+      final int n = this.run(i, remaining);
+      this.codec.packArray(
+        src, offset, this.chunk(i), this.offsetOf(i), n);
+      i += n;
+      offset += n;
+      remaining -= n;
+    }
+  }
+
+  ByteBuffer chunk(
+    final long index)
+  {
+    return this.chunks[(int) (index >>> this.shift)];
+  }
+
+  /**
+   * @param index     A value index
+   * @param remaining The number of values wanted
+   *
+   * @return The number of values, at most {@code remaining}, that can be
+   * accessed from {@code index} without crossing into the next chunk
+   */
+
+  int run(
+    final long index,
+    final long remaining)
+  {
+    return (int) Math.min(remaining, (this.mask + 1L) - (index & this.mask));
+  }
+
+  /**
+   * @param end       One past the last value index
+   * @param remaining The number of values wanted
+   *
+   * @return The number of values, at most {@code remaining}, that can be
+   * accessed backwards from {@code end} without crossing into the previous
+   * chunk
+   */
+
+  int runBackwards(
+    final long end,
+    final long remaining)
+  {
+    return (int) Math.min(remaining, ((end - 1L) & this.mask) + 1L);
+  }
+
+  int chunkOf(
+    final long index)
+  {
+    return (int) (index >>> this.shift);
+  }
+
+  int offsetOf(
+    final long index)
+  {
+    return (int) (index & this.mask) * this.width;
+  }
+}
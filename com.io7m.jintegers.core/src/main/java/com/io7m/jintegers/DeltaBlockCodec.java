@@ -0,0 +1,548 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A codec that stores sequences of {@code long} values as differences
+ * between consecutive values, in blocks with restart points.
+ * </p>
+ * <p>
+ * A first-order codec stores {@code x[i] - x[i - 1]}. A second-order codec
+ * stores {@code (x[i] - x[i - 1]) - (x[i - 1] - x[i - 2])}, which is zero
+ * for values taken at a fixed interval, such as timestamps. The residuals
+ * are stored with a fixed-width {@link IntegerCodecType}. Signed codecs
+ * store residuals directly. Unsigned codecs store the ZigZag encoding of
+ * the residuals (see {@link VarInts#zigZagEncode64(long)}).
+ * </p>
+ * <p>
+ * Values are divided into blocks of {@link #blockLength()} values. Each
+ * block begins with its first value stored as a 64-bit integer and, for
+ * second-order codecs, its first difference stored as a 64-bit integer.
+ * The remaining values of the block are stored as residuals. Blocks
+ * therefore decode independently of one another, and as all residuals
+ * have the same width, the position of any block is computed rather than
+ * looked up: seeking to a value decodes at most one block prefix. The
+ * final block may be shorter than the others. All integers are stored in
+ * the byte order of the codec.
+ * </p>
+ * <p>
+ * Arithmetic wraps on overflow, and so any sequence of {@code long}
+ * values can be encoded, provided that every residual fits into the width
+ * of the codec. Encoding checks every residual before anything is
+ * written.
+ * </p>
+ * <p>
+ * Codecs are immutable and thread-safe. {@link ByteBuffer#order()} and
+ * {@link ByteBuffer#position()} are ignored; indices are absolute.
+ * </p>
+ */
+
+public final class DeltaBlockCodec
+{
+  private final IntegerCodecType codec;
+  private final IntegerCodecType header;
+  private final int blockLength;
+  private final boolean secondOrder;
+  private final int prefix;
+  private final int width;
+  private final int shift;
+  private final int blockBytes;
+
+  private DeltaBlockCodec(
+    final IntegerCodecType inCodec,
+    final int inBlockLength,
+    final boolean inSecondOrder)
+  {
+    this.codec = inCodec;
+    this.header = IntegerCodecs.of(8, true, inCodec.order());
+    this.blockLength = inBlockLength;
+    this.secondOrder = inSecondOrder;
+    this.prefix = inSecondOrder ? 2 : 1;
+    this.width = inCodec.width();
+    this.shift = 64 - (this.width << 3);
+
+    final long bytes = this.bytesFor(inBlockLength);
+    if (bytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Blocks of %d values of width %d exceed %d bytes",
+          Integer.valueOf(inBlockLength),
+          Integer.valueOf(this.width),
+          Integer.valueOf(Integer.MAX_VALUE)));
+    }
+    this.blockBytes = (int) bytes;
+  }
+
+  /**
+   * Create a codec that stores the differences between consecutive
+   * values.
+   *
+   * @param codec       The codec used to store differences
+   * @param blockLength The number of values per block
+   *
+   * @return A codec
+   *
+   * @throws IllegalArgumentException If {@code blockLength < 1}
+   */
+
+  public static DeltaBlockCodec firstOrder(
+    final IntegerCodecType codec,
+    final int blockLength)
+  {
+    return create(codec, blockLength, false);
+  }
+
+  /**
+   * Create a codec that stores the differences between consecutive
+   * differences of values.
+   *
+   * @param codec       The codec used to store differences of differences
+   * @param blockLength The number of values per block
+   *
+   * @return A codec
+   *
+   * @throws IllegalArgumentException If {@code blockLength < 1}
+   */
+
+  public static DeltaBlockCodec secondOrder(
+    final IntegerCodecType codec,
+    final int blockLength)
+  {
+    return create(codec, blockLength, true);
+  }
+
+  private static DeltaBlockCodec create(
+    final IntegerCodecType codec,
+    final int blockLength,
+    final boolean secondOrder)
+  {
+    Objects.requireNonNull(codec, "Codec");
+    if (blockLength < 1) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Block length %d must be at least 1",
+          Integer.valueOf(blockLength)));
+    }
+    return new DeltaBlockCodec(codec, blockLength, secondOrder);
+  }
+
+  /**
+   * @return The codec used to store residuals
+   */
+
+  public IntegerCodecType codec()
+  {
+    return this.codec;
+  }
+
+  /**
+   * @return The number of values per block
+   */
+
+  public int blockLength()
+  {
+    return this.blockLength;
+  }
+
+  /**
+   * @return {@code true} if the codec stores differences of differences
+   */
+
+  public boolean isSecondOrder()
+  {
+    return this.secondOrder;
+  }
+
+  /**
+   * @return The size in bytes of a complete block
+   */
+
+  public int blockBytes()
+  {
+    return this.blockBytes;
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return The number of bytes required to encode {@code count} values
+   *
+   * @throws IllegalArgumentException If {@code count < 0}
+   */
+
+  public long encodedLength(
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        String.format("Count %d must be non-negative", Integer.valueOf(count)));
+    }
+    return this.encodedLengthOf(count);
+  }
+
+  private long encodedLengthOf(
+    final long count)
+  {
+    final long blocks = count / this.blockLength;
+    final int rest = (int) (count - blocks * this.blockLength);
+    return blocks * this.blockBytes + this.bytesFor(rest);
+  }
+
+  private long bytesFor(
+    final int count)
+  {
+    final int headers = Math.min(count, this.prefix);
+    return 8L * headers + (long) (count - headers) * this.width;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a residual
+   * does not fit into the width of the codec. In both cases, nothing is
+   * written.
+   * </p>
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The buffer
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   */
+
+  public int encode(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex,
+      this.encodedLengthOf(count),
+      (long) dst.limit());
+    this.checkEncodable(src, srcOffset, count);
+
+    final int blocks = (count + this.blockLength - 1) / this.blockLength;
+    int index = dstIndex;
+    for (int block = 0; block < blocks; ++block) {
+      final int start = block * this.blockLength;
+      final int length = Math.min(this.blockLength, count - start);
+      index = this.encodeBlock(src, srcOffset + start, length, dst, index);
+    }
+    return index - dstIndex;
+  }
+
+  private int encodeBlock(
+    final long[] src,
+    final int srcOffset,
+    final int count,
+    final ByteBuffer dst,
+    final int dstIndex)
+  {
+    int index = dstIndex;
+    this.header.pack(src[srcOffset], dst, index);
+    index += 8;
+    if (this.secondOrder && count > 1) {
+      this.header.pack(src[srcOffset + 1] - src[srcOffset], dst, index);
+      index += 8;
+    }
+    for (int k = this.prefix; k < count; ++k) {
+      this.codec.pack(
+        this.stored(this.residual(src, srcOffset + k)), dst, index);
+      index += this.width;
+    }
+    return index;
+  }
+
+  private long residual(
+    final long[] src,
+    final int index)
+  {
+    final long delta = src[index] - src[index - 1];
+    if (this.secondOrder) {
+      return delta - (src[index - 1] - src[index - 2]);
+    }
+    return delta;
+  }
+
+  private long stored(
+    final long residual)
+  {
+    return this.codec.isSigned() ? residual : VarInts.zigZagEncode64(residual);
+  }
+
+  private long unstored(
+    final long stored)
+  {
+    return this.codec.isSigned() ? stored : VarInts.zigZagDecode64(stored);
+  }
+
+  private void checkEncodable(
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    final boolean signed = this.codec.isSigned();
+    for (int k = 0; k < count; ++k) {
+      if (k % this.blockLength >= this.prefix) {
+        final long s = this.stored(this.residual(src, srcOffset + k));
+        final long t = signed
+          ? (s << this.shift) >> this.shift
+          : (s << this.shift) >>> this.shift;
+        if (t != s) {
+          throw new IllegalArgumentException(
+            String.format(
+              "Residual %d of value %d does not fit into %d bytes",
+              Long.valueOf(this.residual(src, srcOffset + k)),
+              Integer.valueOf(k),
+              Integer.valueOf(this.width)));
+        }
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dst[dstOffset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer
+   * @param srcIndex  The index of the start of the encoded values
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public long[] decode(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    return this.decodeRange(src, srcIndex, 0, dst, dstOffset, count);
+  }
+
+  /**
+   * <p>
+   * Decode the {@code count} values starting at value {@code first} of the
+   * sequence encoded at {@code srcIndex}, into {@code dst} starting at
+   * {@code dst[dstOffset]}. Decoding starts at the restart point of the
+   * block containing {@code first}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer
+   * @param srcIndex  The index of the start of the encoded values
+   * @param first     The index of the first value to decode
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public long[] decodeRange(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int first,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+    Objects.checkFromIndexSize(first, count, Integer.MAX_VALUE);
+    Objects.checkFromIndexSize(
+      (long) srcIndex,
+      this.encodedLengthOf((long) first + count),
+      (long) src.limit());
+
+    int done = 0;
+    while (done < count) {
+      final int index = first + done;
+      final int block = index / this.blockLength;
+      final int start = index - block * this.blockLength;
+      final int end =
+        (int) Math.min(this.blockLength, (long) start + (count - done));
+      final int blockIndex = srcIndex + block * this.blockBytes;
+      if (start == 0) {
+        this.decodeBlock(src, blockIndex, end, dst, dstOffset + done);
+      } else {
+        this.decodeBlockRange(
+          src, blockIndex, start, end, dst, dstOffset + done);
+      }
+      done += end - start;
+    }
+    return dst;
+  }
+
+  /**
+   * Decode the value at {@code index} of the sequence encoded at
+   * {@code srcIndex}.
+   *
+   * @param src      The buffer
+   * @param srcIndex The index of the start of the encoded values
+   * @param index    The index of the value
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is out of bounds
+   */
+
+  public long get(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int index)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.checkIndex(index, Integer.MAX_VALUE);
+    Objects.checkFromIndexSize(
+      (long) srcIndex,
+      this.encodedLengthOf(index + 1L),
+      (long) src.limit());
+
+    final int block = index / this.blockLength;
+    final int position = index - block * this.blockLength;
+    int p = srcIndex + block * this.blockBytes;
+    long value = this.header.unpack(src, p);
+    long delta = 0L;
+    p += 8;
+    int k = 1;
+    if (this.secondOrder && position > 0) {
+      delta = this.header.unpack(src, p);
+      value += delta;
+      p += 8;
+      k = 2;
+    }
+    for (; k <= position; ++k) {
+      final long r = this.unstored(this.codec.unpack(src, p));
+      delta = this.secondOrder ? delta + r : r;
+      value += delta;
+      p += this.width;
+    }
+    return value;
+  }
+
+  /*
+   * Decode the first {@code count} values of the block at {@code index}.
+   * Residuals are unpacked in bulk by the codec and then summed in place.
+   */
+
+  private void decodeBlock(
+    final ByteBuffer src,
+    final int index,
+    final int count,
+    final long[] dst,
+    final int dstOffset)
+  {
+    long value = this.header.unpack(src, index);
+    long delta = 0L;
+    dst[dstOffset] = value;
+    int p = index + 8;
+    if (this.secondOrder && count > 1) {
+      delta = this.header.unpack(src, p);
+      value += delta;
+      dst[dstOffset + 1] = value;
+      p += 8;
+    }
+    if (count <= this.prefix) {
+      return;
+    }
+
+    this.codec.unpackArray(
+      src, p, dst, dstOffset + this.prefix, count - this.prefix);
+    for (int k = this.prefix; k < count; ++k) {
+      final long r = this.unstored(dst[dstOffset + k]);
+      delta = this.secondOrder ? delta + r : r;
+      value += delta;
+      dst[dstOffset + k] = value;
+    }
+  }
+
+  /*
+   * Decode the values {@code [start, end)} of the block at {@code index}.
+   */
+
+  private void decodeBlockRange(
+    final ByteBuffer src,
+    final int index,
+    final int start,
+    final int end,
+    final long[] dst,
+    final int dstOffset)
+  {
+    long value = this.header.unpack(src, index);
+    long delta = 0L;
+    int p = index + 8;
+    int k = 1;
+    if (this.secondOrder) {
+      delta = this.header.unpack(src, p);
+      value += delta;
+      p += 8;
+      k = 2;
+      if (start == 1) {
+        dst[dstOffset] = value;
+      }
+    }
+    for (; k < end; ++k) {
+      final long r = this.unstored(this.codec.unpack(src, p));
+      delta = this.secondOrder ? delta + r : r;
+      value += delta;
+      p += this.width;
+      if (k >= start) {
+        dst[dstOffset + k - start] = value;
+      }
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[DeltaBlockCodec %s %s %d]",
+      this.secondOrder ? "second-order" : "first-order",
+      this.codec,
+      Integer.valueOf(this.blockLength));
+  }
+}
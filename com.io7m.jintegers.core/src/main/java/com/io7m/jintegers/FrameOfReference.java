@@ -0,0 +1,474 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Frame-of-reference (FOR) and patched frame-of-reference (PFOR) block
+ * encoding of {@code long} values.
+ * </p>
+ * <p>
+ * Values are divided into blocks of up to {@link #BLOCK_VALUES} values.
+ * Each block stores the minimum of its values, and the differences between
+ * each value and the minimum bit-packed at a fixed width. The plain
+ * encoding chooses the smallest width that holds every difference. The
+ * patched encoding chooses the width that minimizes the size of the
+ * block, and stores the high bits of any differences that do not fit as
+ * exceptions, so that a few outliers do not widen the entire block.
+ * </p>
+ * <p>
+ * A block consists of a {@link #HEADER_BYTES} byte header, the packed
+ * differences, and the exceptions. The header holds:
+ * </p>
+ * <ul>
+ *   <li>The number of values, as an {@link Unsigned8}.</li>
+ *   <li>The width in bits, from 0 to 64, as an {@link Unsigned8}.</li>
+ *   <li>The number of exceptions, as an {@link Unsigned8}.</li>
+ *   <li>The length of the block in bytes, including the header, as a
+ *   little-endian {@link Signed32}.</li>
+ *   <li>The minimum, as a little-endian {@link Signed64}.</li>
+ * </ul>
+ * <p>
+ * The differences follow as little-endian 64-bit words, least significant
+ * bit first. The exceptions follow as the {@link Unsigned8} positions of
+ * the exceptional values in the block, and then the high bits of each
+ * exceptional difference as unsigned LEB128 integers (see
+ * {@link VarInts}). Both encodings are decoded by the same functions. The
+ * recorded length allows blocks to be skipped without decoding them.
+ * </p>
+ * <p>
+ * {@link ByteBuffer#order()} and {@link ByteBuffer#position()} are
+ * ignored; indices are absolute and accesses are bounded by
+ * {@link ByteBuffer#limit()}.
+ * </p>
+ */
+
+public final class FrameOfReference
+{
+  /**
+   * The maximum number of values in a block.
+   */
+
+  public static final int BLOCK_VALUES = 128;
+
+  /**
+   * The size of a block header in bytes.
+   */
+
+  public static final int HEADER_BYTES = 15;
+
+  private FrameOfReference()
+  {
+
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return The maximum number of bytes required to encode {@code count}
+   * values with either encoding
+   */
+
+  public static long maximumEncodedLength(
+    final int count)
+  {
+    return (long) blocks(count) * HEADER_BYTES + 8L * count;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at {@code dstIndex},
+   * using the plain frame-of-reference encoding.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, in which case nothing is written.
+   * </p>
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The buffer
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   */
+
+  public static int encode(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return encodeBlocks(src, srcOffset, dst, dstIndex, count, false);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at {@code dstIndex},
+   * using the patched frame-of-reference encoding.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, in which case nothing is written.
+   * </p>
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The buffer
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   */
+
+  public static int encodePatched(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return encodeBlocks(src, srcOffset, dst, dstIndex, count, true);
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values, encoded with either encoding, from
+   * {@code src} starting at {@code srcIndex} into {@code dst} starting at
+   * {@code dst[dstOffset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a block
+   * header is malformed or does not describe the expected number of
+   * values.
+   * </p>
+   *
+   * @param src       The buffer
+   * @param srcIndex  The starting index in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   */
+
+  public static int decode(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int blocks = blocks(count);
+    int index = srcIndex;
+    for (int block = 0; block < blocks; ++block) {
+      final int done = block * BLOCK_VALUES;
+      final int values = Math.min(BLOCK_VALUES, count - done);
+      index += decodeBlock(src, index, values, dst, dstOffset + done);
+    }
+    return index - srcIndex;
+  }
+
+  /**
+   * Read the length of the block starting at {@code index} from its
+   * header, so that the block can be skipped without decoding it.
+   *
+   * @param src   The buffer
+   * @param index The index of the block
+   *
+   * @return The length of the block in bytes
+   */
+
+  public static int blockLength(
+    final ByteBuffer src,
+    final int index)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Ranges.checkBufferRange(src, index, 1, HEADER_BYTES);
+    return Signed32.unpackFromBufferLittleEndian(src, index + 3);
+  }
+
+  private static int encodeBlocks(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final boolean patched)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+
+    /*
+     * Nothing is written unless the whole encoding fits. A buffer with room
+     * for the maximum encoded length is encoded in a single pass. Otherwise,
+     * the blocks are sized in a first pass, and the minimum, spread, and
+     * width of each block are recomputed when encoding.
+     */
+
+    final int blocks = blocks(count);
+    final int[] histogram = new int[65];
+    final boolean fits =
+      dstIndex >= 0
+        && dst.limit() - (long) dstIndex >= maximumEncodedLength(count);
+
+    if (!fits) {
+      long length = 0L;
+      for (int block = 0; block < blocks; ++block) {
+        final int offset = srcOffset + block * BLOCK_VALUES;
+        final int values = Math.min(BLOCK_VALUES, count - block * BLOCK_VALUES);
+        final long minimum = minimum(src, offset, values);
+        final long spread = spread(src, offset, values, minimum);
+        final int bits =
+          width(src, offset, values, minimum, spread, patched, histogram);
+        length += blockLength(src, offset, values, minimum, spread, bits);
+      }
+      Objects.checkFromIndexSize((long) dstIndex, length, (long) dst.limit());
+    }
+
+    int index = dstIndex;
+    for (int block = 0; block < blocks; ++block) {
+      final int offset = srcOffset + block * BLOCK_VALUES;
+      final int values = Math.min(BLOCK_VALUES, count - block * BLOCK_VALUES);
+      final long minimum = minimum(src, offset, values);
+      final long spread = spread(src, offset, values, minimum);
+      final int bits =
+        width(src, offset, values, minimum, spread, patched, histogram);
+      index += encodeBlock(
+        src, offset, values, minimum, spread, bits, dst, index);
+    }
+    return index - dstIndex;
+  }
+
+  private static int blocks(
+    final int count)
+  {
+    return (int) ((count + (long) BLOCK_VALUES - 1L) / BLOCK_VALUES);
+  }
+
+  private static long minimum(
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    long minimum = Long.MAX_VALUE;
+    for (int k = 0; k < count; ++k) {
+      minimum = Math.min(minimum, src[srcOffset + k]);
+    }
+    return minimum;
+  }
+
+  /*
+   * The bitwise union of the differences of a block, the width of which is
+   * the width of the largest difference.
+   */
+
+  private static long spread(
+    final long[] src,
+    final int srcOffset,
+    final int count,
+    final long minimum)
+  {
+    long spread = 0L;
+    for (int k = 0; k < count; ++k) {
+      spread |= src[srcOffset + k] - minimum;
+    }
+    return spread;
+  }
+
+  private static int bitLength(
+    final long difference)
+  {
+    return 64 - Long.numberOfLeadingZeros(difference);
+  }
+
+  /*
+   * Choose the width of a block. The plain encoding uses the width of the
+   * largest difference. The patched encoding uses a histogram of the widths
+   * of the differences to find the width that minimizes the size of the
+   * block, preferring wider widths (and so fewer exceptions) on ties. Each
+   * exception is costed at the size of the widest possible exception, so
+   * the estimate never undercounts and a patched block is never larger
+   * than the plain block. The histogram is supplied by the caller so that
+   * one array serves every block.
+   */
+
+  private static int width(
+    final long[] src,
+    final int srcOffset,
+    final int count,
+    final long minimum,
+    final long spread,
+    final boolean patched,
+    final int[] histogram)
+  {
+    final int widest = bitLength(spread);
+    if (!patched || widest == 0) {
+      return widest;
+    }
+
+    Arrays.fill(histogram, 0, widest + 1, 0);
+    for (int k = 0; k < count; ++k) {
+      ++histogram[bitLength(src[srcOffset + k] - minimum)];
+    }
+
+    int best = widest;
+    long bestSize = 8L * BitPacking.words(widest, count);
+    long exceptions = 0L;
+    for (int bits = widest - 1; bits >= 0; --bits) {
+      exceptions += histogram[bits + 1];
+      final long each =
+        1L + VarInts.encodedLength64(-1L >>> (64 - widest + bits));
+      final long size = 8L * BitPacking.words(bits, count) + exceptions * each;
+      if (size < bestSize) {
+        best = bits;
+        bestSize = size;
+      }
+    }
+    return best;
+  }
+
+  private static long blockLength(
+    final long[] src,
+    final int srcOffset,
+    final int count,
+    final long minimum,
+    final long spread,
+    final int bits)
+  {
+    long length = HEADER_BYTES + 8L * BitPacking.words(bits, count);
+    if (highBits(spread, bits) == 0L) {
+      return length;
+    }
+    for (int k = 0; k < count; ++k) {
+      final long high = highBits(src[srcOffset + k] - minimum, bits);
+      if (high != 0L) {
+        length += 1L + VarInts.encodedLength64(high);
+      }
+    }
+    return length;
+  }
+
+  private static long highBits(
+    final long difference,
+    final int bits)
+  {
+    return bits == 64 ? 0L : difference >>> bits;
+  }
+
+  private static int encodeBlock(
+    final long[] src,
+    final int srcOffset,
+    final int count,
+    final long minimum,
+    final long spread,
+    final int bits,
+    final ByteBuffer dst,
+    final int index)
+  {
+    final int packed = index + HEADER_BYTES;
+    BitPacking.packBuffer(bits, src, srcOffset, count, minimum, dst, packed);
+
+    final int positions = packed + 8 * BitPacking.words(bits, count);
+    final boolean patched = highBits(spread, bits) != 0L;
+    int exceptions = 0;
+    for (int k = 0; patched && k < count; ++k) {
+      if (highBits(src[srcOffset + k] - minimum, bits) != 0L) {
+        Unsigned8.packToBuffer(k, dst, positions + exceptions);
+        ++exceptions;
+      }
+    }
+
+    int end = positions + exceptions;
+    for (int k = 0; patched && k < count; ++k) {
+      final long high = highBits(src[srcOffset + k] - minimum, bits);
+      if (high != 0L) {
+        end += VarInts.encodeUnsigned64(high, dst, end);
+      }
+    }
+
+    final int length = end - index;
+    Unsigned8.packToBuffer(count, dst, index);
+    Unsigned8.packToBuffer(bits, dst, index + 1);
+    Unsigned8.packToBuffer(exceptions, dst, index + 2);
+    Signed32.packToBufferLittleEndian(length, dst, index + 3);
+    Signed64.packToBufferLittleEndian(minimum, dst, index + 7);
+    return length;
+  }
+
+  private static int decodeBlock(
+    final ByteBuffer src,
+    final int index,
+    final int expected,
+    final long[] dst,
+    final int dstOffset)
+  {
+    Ranges.checkBufferRange(src, index, 1, HEADER_BYTES);
+    final int count = Unsigned8.unpackFromBuffer(src, index);
+    final int bits = Unsigned8.unpackFromBuffer(src, index + 1);
+    final int exceptions = Unsigned8.unpackFromBuffer(src, index + 2);
+    final int length = Signed32.unpackFromBufferLittleEndian(src, index + 3);
+    final long minimum =
+      Signed64.unpackFromBufferLittleEndian(src, index + 7);
+
+    final int packed = index + HEADER_BYTES;
+    final int positions =
+      packed + 8 * BitPacking.words(Math.min(bits, 64), count);
+    if (count != expected
+      || bits > 64
+      || exceptions > count
+      || positions + exceptions > index + length) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Malformed block header at %d: %d values (expected %d), "
+            + "width %d, %d exceptions, length %d",
+          Integer.valueOf(index),
+          Integer.valueOf(count),
+          Integer.valueOf(expected),
+          Integer.valueOf(bits),
+          Integer.valueOf(exceptions),
+          Integer.valueOf(length)));
+    }
+    Objects.checkFromIndexSize(index, length, src.limit());
+
+    BitPacking.unpackBuffer(bits, src, packed, count, minimum, dst, dstOffset);
+
+    int high = positions + exceptions;
+    for (int k = 0; k < exceptions; ++k) {
+      final int position = Unsigned8.unpackFromBuffer(src, positions + k);
+      Objects.checkIndex(position, count);
+      final long value = VarInts.decodeUnsigned64(src, high);
+      high += VarInts.decodedLength(src, high);
+      dst[dstOffset + position] += value << bits;
+    }
+    return length;
+  }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A codec for integers of a fixed width, signedness, and byte order.
+ * </p>
+ * <p>
+ * Codecs are stateless and are obtained from {@link IntegerCodecs#of}.
+ * Each codec is specialized to a single byte order, and so avoids the
+ * order dispatch performed by functions such as
+ * {@link Signed32#unpackFromBuffer(ByteBuffer, int)}. Values of all widths
+ * are exchanged as {@code long} values so that code may be written once
+ * against this interface. Values of at most 32 bits may also be exchanged
+ * as {@code int} values, avoiding the widening to {@code long}.
+ * </p>
+ */
+
+public interface IntegerCodecType
+{
+  /**
+   * @return The width of encoded values in bytes
+   */
+
+  int width();
+
+  /**
+   * @return {@code true} if decoded values are sign-extended
+   */
+
+  boolean isSigned();
+
+  /**
+   * @return The byte order of encoded values
+   */
+
+  ByteOrder order();
+
+  /**
+   * Unpack a value from {@code buffer} starting at {@code index}.
+   *
+   * @param buffer The buffer
+   * @param index  The starting index
+   *
+   * @return The unpacked value
+   */
+
+  long unpack(
+    ByteBuffer buffer,
+    int index);
+
+  /**
+   * Pack {@code value} into {@code buffer} starting at {@code index}. Bits
+   * of {@code value} that do not fit into {@link #width()} bytes are
+   * discarded.
+   *
+   * @param value  The value
+   * @param buffer The buffer
+   * @param index  The starting index
+   *
+   * @return {@code buffer}
+   */
+
+  ByteBuffer pack(
+    long value,
+    ByteBuffer buffer,
+    int index);
+
+  /**
+   * Unpack a value from {@code buffer} starting at {@code index}, narrowed
+   * to an {@code int}. Values wider than 32 bits lose their high bits.
+   *
+   * @param buffer The buffer
+   * @param index  The starting index
+   *
+   * @return The unpacked value
+   */
+
+  default int unpackInt(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return (int) this.unpack(buffer, index);
+  }
+
+  /**
+   * Pack {@code value} into {@code buffer} starting at {@code index}. Bits
+   * of {@code value} that do not fit into {@link #width()} bytes are
+   * discarded.
+   *
+   * @param value  The value
+   * @param buffer The buffer
+   * @param index  The starting index
+   *
+   * @return {@code buffer}
+   */
+
+  default ByteBuffer packInt(
+    final int value,
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return this.pack(value, buffer, index);
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dst[dstOffset]}.
+   * The ranges are checked once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  default long[] unpackArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    final int width = this.width();
+    Ranges.checkBufferRange(src, srcIndex, count, width);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    int index = srcIndex;
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = this.unpack(src, index);
+      index += width;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex}. The ranges are checked once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  default ByteBuffer packArray(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    final int width = this.width();
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, width);
+
+    int index = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      this.pack(src[srcOffset + k], dst, index);
+      index += width;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dst[dstOffset]},
+   * narrowing each value as {@link #unpackInt(ByteBuffer, int)} does.
+   * The ranges are checked once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  default int[] unpackArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    final int width = this.width();
+    Ranges.checkBufferRange(src, srcIndex, count, width);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    int index = srcIndex;
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = this.unpackInt(src, index);
+      index += width;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex}. The ranges are checked once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  default ByteBuffer packArray(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    final int width = this.width();
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, width);
+
+    int index = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      this.packInt(src[srcOffset + k], dst, index);
+      index += width;
+    }
+    return dst;
+  }
+}
@@ -0,0 +1,1665 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to obtain {@link IntegerCodecType} instances.
+ * </p>
+ * <p>
+ * The returned codecs are immutable singletons that are each specialized to
+ * a single width, signedness, and byte order. Code that repeatedly packs or
+ * unpacks values of a layout that is only known at run time should look up
+ * a codec once and reuse it, rather than inspecting the buffer byte order
+ * on each call.
+ * </p>
+ */
+
+public final class IntegerCodecs
+{
+  private static final IntegerCodecType UNSIGNED8_BE =
+    new Unsigned8Codec(ByteOrder.BIG_ENDIAN);
+  private static final IntegerCodecType UNSIGNED8_LE =
+    new Unsigned8Codec(ByteOrder.LITTLE_ENDIAN);
+  private static final IntegerCodecType SIGNED16_BE =
+    new Signed16BE();
+  private static final IntegerCodecType SIGNED16_LE =
+    new Signed16LE();
+  private static final IntegerCodecType SIGNED24_BE =
+    new Signed24BE();
+  private static final IntegerCodecType SIGNED24_LE =
+    new Signed24LE();
+  private static final IntegerCodecType SIGNED32_BE =
+    new Signed32BE();
+  private static final IntegerCodecType SIGNED32_LE =
+    new Signed32LE();
+  private static final IntegerCodecType SIGNED64_BE =
+    new Signed64BE();
+  private static final IntegerCodecType SIGNED64_LE =
+    new Signed64LE();
+  private static final IntegerCodecType UNSIGNED16_BE =
+    new Unsigned16BE();
+  private static final IntegerCodecType UNSIGNED16_LE =
+    new Unsigned16LE();
+  private static final IntegerCodecType UNSIGNED24_BE =
+    new Unsigned24BE();
+  private static final IntegerCodecType UNSIGNED24_LE =
+    new Unsigned24LE();
+  private static final IntegerCodecType UNSIGNED32_BE =
+    new Unsigned32BE();
+  private static final IntegerCodecType UNSIGNED32_LE =
+    new Unsigned32LE();
+  private static final IntegerCodecType UNSIGNED64_BE =
+    new Unsigned64BE();
+  private static final IntegerCodecType UNSIGNED64_LE =
+    new Unsigned64LE();
+  private static final IntegerCodecType SIGNED40_BE =
+    new Signed40BE();
+  private static final IntegerCodecType SIGNED40_LE =
+    new Signed40LE();
+  private static final IntegerCodecType UNSIGNED40_BE =
+    new Unsigned40BE();
+  private static final IntegerCodecType UNSIGNED40_LE =
+    new Unsigned40LE();
+  private static final IntegerCodecType SIGNED48_BE =
+    new Signed48BE();
+  private static final IntegerCodecType SIGNED48_LE =
+    new Signed48LE();
+  private static final IntegerCodecType UNSIGNED48_BE =
+    new Unsigned48BE();
+  private static final IntegerCodecType UNSIGNED48_LE =
+    new Unsigned48LE();
+  private static final IntegerCodecType SIGNED56_BE =
+    new Signed56BE();
+  private static final IntegerCodecType SIGNED56_LE =
+    new Signed56LE();
+  private static final IntegerCodecType UNSIGNED56_BE =
+    new Unsigned56BE();
+  private static final IntegerCodecType UNSIGNED56_LE =
+    new Unsigned56LE();
+
+  private IntegerCodecs()
+  {
+
+  }
+
+  /**
+   * <p>
+   * Obtain a codec for values of the given width, signedness, and byte
+   * order.
+   * </p>
+   * <p>
+   * The supported signed widths are 2, 3, 4, 5, 6, 7, and 8 bytes. The
+   * supported unsigned widths are 1 to 8 bytes. Single byte values have no byte
+   * order; the returned codec reports {@code order} but otherwise ignores
+   * it.
+   * </p>
+   *
+   * @param width  The width in bytes
+   * @param signed {@code true} if values are signed
+   * @param order  The byte order
+   *
+   * @return A codec
+   *
+   * @throws IllegalArgumentException If no codec exists for the given
+   *                                  width and signedness
+   */
+
+  public static IntegerCodecType of(
+    final int width,
+    final boolean signed,
+    final ByteOrder order)
+  {
+    Objects.requireNonNull(order, "Order");
+    final boolean big = ByteOrder.BIG_ENDIAN.equals(order);
+    if (signed) {
+      return signedOf(width, big);
+    }
+    return unsignedOf(width, big);
+  }
+
+  private static IntegerCodecType signedOf(
+    final int width,
+    final boolean big)
+  {
+    return switch (width) {
+      case 2 -> big ? SIGNED16_BE : SIGNED16_LE;
+      case 3 -> big ? SIGNED24_BE : SIGNED24_LE;
+      case 4 -> big ? SIGNED32_BE : SIGNED32_LE;
+      default -> signedWideOf(width, big);
+    };
+  }
+
+  private static IntegerCodecType unsignedOf(
+    final int width,
+    final boolean big)
+  {
+    return switch (width) {
+      case 1 -> big ? UNSIGNED8_BE : UNSIGNED8_LE;
+      case 2 -> big ? UNSIGNED16_BE : UNSIGNED16_LE;
+      case 3 -> big ? UNSIGNED24_BE : UNSIGNED24_LE;
+      case 4 -> big ? UNSIGNED32_BE : UNSIGNED32_LE;
+      default -> unsignedWideOf(width, big);
+    };
+  }
+
+  private static IntegerCodecType signedWideOf(
+    final int width,
+    final boolean big)
+  {
+    return switch (width) {
+      case 5 -> big ? SIGNED40_BE : SIGNED40_LE;
+      case 6 -> big ? SIGNED48_BE : SIGNED48_LE;
+      case 7 -> big ? SIGNED56_BE : SIGNED56_LE;
+      case 8 -> big ? SIGNED64_BE : SIGNED64_LE;
+      default -> throw unsupported(width, true);
+    };
+  }
+
+  private static IntegerCodecType unsignedWideOf(
+    final int width,
+    final boolean big)
+  {
+    return switch (width) {
+      case 5 -> big ? UNSIGNED40_BE : UNSIGNED40_LE;
+      case 6 -> big ? UNSIGNED48_BE : UNSIGNED48_LE;
+      case 7 -> big ? UNSIGNED56_BE : UNSIGNED56_LE;
+      case 8 -> big ? UNSIGNED64_BE : UNSIGNED64_LE;
+      default -> throw unsupported(width, false);
+    };
+  }
+
+  private static IllegalArgumentException unsupported(
+    final int width,
+    final boolean signed)
+  {
+    return new IllegalArgumentException(
+      String.format(
+        "No %s codec is available for values of width %d",
+        signed ? "signed" : "unsigned",
+        Integer.valueOf(width)));
+  }
+
+  private abstract static class AbstractCodec implements IntegerCodecType
+  {
+    private final int width;
+    private final boolean signed;
+    private final ByteOrder order;
+
+    AbstractCodec(
+      final int inWidth,
+      final boolean inSigned,
+      final ByteOrder inOrder)
+    {
+      this.width = inWidth;
+      this.signed = inSigned;
+      this.order = inOrder;
+    }
+
+    @Override
+    public final int width()
+    {
+      return this.width;
+    }
+
+    @Override
+    public final boolean isSigned()
+    {
+      return this.signed;
+    }
+
+    @Override
+    public final ByteOrder order()
+    {
+      return this.order;
+    }
+
+    @Override
+    public final String toString()
+    {
+      return String.format(
+        "[IntegerCodec %s%d %s]",
+        this.signed ? "s" : "u",
+        Integer.valueOf(this.width * 8),
+        this.order);
+    }
+  }
+
+  private static final class Unsigned8Codec extends AbstractCodec
+  {
+    Unsigned8Codec(
+      final ByteOrder inOrder)
+    {
+      super(1, false, inOrder);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned8.unpackFromBuffer(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      Unsigned8.packToBuffer((int) value, buffer, index);
+      return buffer;
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned8.unpackArray(src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned8.packArray(src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed16BE extends AbstractCodec
+  {
+    Signed16BE()
+    {
+      super(2, true, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed16Unchecked.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed16Unchecked.packToBufferBigEndian(
+        (int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed16.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed16.packArrayBigEndian(src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed16LE extends AbstractCodec
+  {
+    Signed16LE()
+    {
+      super(2, true, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed16Unchecked.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed16Unchecked.packToBufferLittleEndian(
+        (int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed16.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed16.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed24BE extends AbstractCodec
+  {
+    Signed24BE()
+    {
+      super(3, true, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed24Unchecked.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed24Unchecked.packToBufferBigEndian(
+        (int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed24.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed24.packArrayBigEndian(src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed24LE extends AbstractCodec
+  {
+    Signed24LE()
+    {
+      super(3, true, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed24Unchecked.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed24Unchecked.packToBufferLittleEndian(
+        (int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed24.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed24.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed32BE extends AbstractCodec
+  {
+    Signed32BE()
+    {
+      super(4, true, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed32Unchecked.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed32Unchecked.packToBufferBigEndian(
+        (int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed32.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed32.packArrayBigEndian(src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed32LE extends AbstractCodec
+  {
+    Signed32LE()
+    {
+      super(4, true, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed32Unchecked.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed32Unchecked.packToBufferLittleEndian(
+        (int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed32.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed32.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed64BE extends AbstractCodec
+  {
+    Signed64BE()
+    {
+      super(8, true, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed64Unchecked.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed64Unchecked.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed64.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed64.packArrayBigEndian(src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed64LE extends AbstractCodec
+  {
+    Signed64LE()
+    {
+      super(8, true, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed64Unchecked.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed64Unchecked.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed64.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed64.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned16BE extends AbstractCodec
+  {
+    Unsigned16BE()
+    {
+      super(2, false, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned16.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned16.packToBufferBigEndian((int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned16.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned16.packArrayBigEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned16LE extends AbstractCodec
+  {
+    Unsigned16LE()
+    {
+      super(2, false, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned16.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned16.packToBufferLittleEndian((int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned16.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned16.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned24BE extends AbstractCodec
+  {
+    Unsigned24BE()
+    {
+      super(3, false, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned24.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned24.packToBufferBigEndian((int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned24.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned24.packArrayBigEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned24LE extends AbstractCodec
+  {
+    Unsigned24LE()
+    {
+      super(3, false, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned24.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned24.packToBufferLittleEndian((int) value, buffer, index);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final int[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned24.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final int[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned24.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned32BE extends AbstractCodec
+  {
+    Unsigned32BE()
+    {
+      super(4, false, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned32.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned32.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned32.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned32.packArrayBigEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned32LE extends AbstractCodec
+  {
+    Unsigned32LE()
+    {
+      super(4, false, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned32.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned32.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned32.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned32.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned64BE extends AbstractCodec
+  {
+    Unsigned64BE()
+    {
+      super(8, false, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned64.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned64.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned64.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned64.packArrayBigEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned64LE extends AbstractCodec
+  {
+    Unsigned64LE()
+    {
+      super(8, false, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned64.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned64.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned64.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned64.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed40BE extends AbstractCodec
+  {
+    Signed40BE()
+    {
+      super(5, true, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed40.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed40.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed40.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed40.packArrayBigEndian(src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed40LE extends AbstractCodec
+  {
+    Signed40LE()
+    {
+      super(5, true, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed40.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed40.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed40.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed40.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned40BE extends AbstractCodec
+  {
+    Unsigned40BE()
+    {
+      super(5, false, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned40.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned40.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned40.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned40.packArrayBigEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned40LE extends AbstractCodec
+  {
+    Unsigned40LE()
+    {
+      super(5, false, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned40.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned40.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned40.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned40.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed48BE extends AbstractCodec
+  {
+    Signed48BE()
+    {
+      super(6, true, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed48.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed48.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed48.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed48.packArrayBigEndian(src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed48LE extends AbstractCodec
+  {
+    Signed48LE()
+    {
+      super(6, true, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed48.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed48.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed48.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed48.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned48BE extends AbstractCodec
+  {
+    Unsigned48BE()
+    {
+      super(6, false, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned48.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned48.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned48.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned48.packArrayBigEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned48LE extends AbstractCodec
+  {
+    Unsigned48LE()
+    {
+      super(6, false, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned48.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned48.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned48.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned48.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed56BE extends AbstractCodec
+  {
+    Signed56BE()
+    {
+      super(7, true, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed56.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed56.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed56.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed56.packArrayBigEndian(src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Signed56LE extends AbstractCodec
+  {
+    Signed56LE()
+    {
+      super(7, true, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed56.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Signed56.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Signed56.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Signed56.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned56BE extends AbstractCodec
+  {
+    Unsigned56BE()
+    {
+      super(7, false, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned56.unpackFromBufferBigEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned56.packToBufferBigEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned56.unpackArrayBigEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned56.packArrayBigEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+
+  private static final class Unsigned56LE extends AbstractCodec
+  {
+    Unsigned56LE()
+    {
+      super(7, false, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long unpack(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned56.unpackFromBufferLittleEndian(buffer, index);
+    }
+
+    @Override
+    public ByteBuffer pack(
+      final long value,
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned56.packToBufferLittleEndian(value, buffer, index);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final ByteBuffer src,
+      final int srcIndex,
+      final long[] dst,
+      final int dstOffset,
+      final int count)
+    {
+      return Unsigned56.unpackArrayLittleEndian(
+        src, srcIndex, dst, dstOffset, count);
+    }
+
+    @Override
+    public ByteBuffer packArray(
+      final long[] src,
+      final int srcOffset,
+      final ByteBuffer dst,
+      final int dstIndex,
+      final int count)
+    {
+      return Unsigned56.packArrayLittleEndian(
+        src, srcOffset, dst, dstIndex, count);
+    }
+  }
+}
@@ -0,0 +1,928 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A cursor that reads and writes integers sequentially in a byte buffer.
+ * </p>
+ * <p>
+ * The cursor keeps its own position, and never reads or modifies the
+ * position of the underlying buffer. All accesses are bounded by
+ * {@link ByteBuffer#limit()}. Each access performs a single range check
+ * covering all of the bytes of the value; an access that fails leaves the
+ * position of the cursor unchanged.
+ * </p>
+ * <p>
+ * Byte orders are given explicitly in the names of the methods, and
+ * {@link ByteBuffer#order()} is ignored.
+ * </p>
+ * <p>
+ * Cursors are not thread-safe.
+ * </p>
+ */
+
+public final class IntegerCursor
+{
+  private final ByteBuffer buffer;
+  private final int[] length;
+  private int position;
+
+  private IntegerCursor(
+    final ByteBuffer inBuffer,
+    final int inPosition)
+  {
+    this.buffer = inBuffer;
+    this.length = new int[1];
+    this.position = inPosition;
+  }
+
+  /**
+   * Create a cursor over {@code buffer}, starting at the buffer's current
+   * position.
+   *
+   * @param buffer The buffer
+   *
+   * @return A new cursor
+   */
+
+  public static IntegerCursor of(
+    final ByteBuffer buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    return new IntegerCursor(buffer, buffer.position());
+  }
+
+  /**
+   * Create a cursor over {@code buffer}, starting at {@code position}.
+   *
+   * @param buffer   The buffer
+   * @param position The starting position
+   *
+   * @return A new cursor
+   */
+
+  public static IntegerCursor of(
+    final ByteBuffer buffer,
+    final int position)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkIndex(position, buffer.limit() + 1);
+    return new IntegerCursor(buffer, position);
+  }
+
+  /**
+   * @return The current position of the cursor
+   */
+
+  public int position()
+  {
+    return this.position;
+  }
+
+  /**
+   * Set the position of the cursor.
+   *
+   * @param newPosition The new position, in {@code [0, limit]}
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor position(
+    final int newPosition)
+  {
+    Objects.checkIndex(newPosition, this.buffer.limit() + 1);
+    this.position = newPosition;
+    return this;
+  }
+
+  /**
+   * @return The number of bytes between the position and the limit
+   */
+
+  public int remaining()
+  {
+    return this.buffer.limit() - this.position;
+  }
+
+  /**
+   * <p>
+   * Check that at least {@code count} bytes remain. The position is not
+   * changed, and subsequent accesses still perform their own range checks.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if fewer than
+   * {@code count} bytes remain.
+   * </p>
+   *
+   * @param count The number of bytes
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor require(
+    final int count)
+  {
+    Objects.checkFromIndexSize(this.position, count, this.buffer.limit());
+    return this;
+  }
+
+  /**
+   * <p>
+   * Advance the position by {@code count} bytes.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if fewer than
+   * {@code count} bytes remain.
+   * </p>
+   *
+   * @param count The number of bytes
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor skip(
+    final int count)
+  {
+    Objects.checkFromIndexSize(this.position, count, this.buffer.limit());
+    this.position += count;
+    return this;
+  }
+
+  /**
+   * Read a value using {@code codec} and advance the position by the
+   * width of the codec.
+   *
+   * @param codec The codec
+   *
+   * @return The value
+   */
+
+  public long read(
+    final IntegerCodecType codec)
+  {
+    final int p = this.position;
+    final long x = codec.unpack(this.buffer, p);
+    this.position = p + codec.width();
+    return x;
+  }
+
+  /**
+   * Write a value using {@code codec} and advance the position by the
+   * width of the codec.
+   *
+   * @param codec The codec
+   * @param x     The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor write(
+    final IntegerCodecType codec,
+    final long x)
+  {
+    final int p = this.position;
+    codec.pack(x, this.buffer, p);
+    this.position = p + codec.width();
+    return this;
+  }
+
+  /**
+   * Read an unsigned 8-bit integer and advance the position by 1 byte.
+   *
+   * @return The value
+   */
+
+  public int readUnsigned8()
+  {
+    final int p = this.position;
+    final int x = Unsigned8.unpackFromBuffer(this.buffer, p);
+    this.position = p + 1;
+    return x;
+  }
+
+  /**
+   * Read a signed 16-bit big-endian integer and advance the position by 2
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readSigned16BE()
+  {
+    final int p = this.position;
+    final int x = Signed16Unchecked.unpackFromBufferBigEndian(this.buffer, p);
+    this.position = p + 2;
+    return x;
+  }
+
+  /**
+   * Read an unsigned 16-bit big-endian integer and advance the position by 2
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readUnsigned16BE()
+  {
+    final int p = this.position;
+    final int x =
+      Signed16Unchecked.unpackFromBufferBigEndian(this.buffer, p) & 0xffff;
+    this.position = p + 2;
+    return x;
+  }
+
+  /**
+   * Read a signed 24-bit big-endian integer and advance the position by 3
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readSigned24BE()
+  {
+    final int p = this.position;
+    final int x = Signed24Unchecked.unpackFromBufferBigEndian(this.buffer, p);
+    this.position = p + 3;
+    return x;
+  }
+
+  /**
+   * Read an unsigned 24-bit big-endian integer and advance the position by 3
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readUnsigned24BE()
+  {
+    final int p = this.position;
+    final int x =
+      Signed24Unchecked.unpackFromBufferBigEndian(this.buffer, p) & 0xffffff;
+    this.position = p + 3;
+    return x;
+  }
+
+  /**
+   * Read a signed 32-bit big-endian integer and advance the position by 4
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readSigned32BE()
+  {
+    final int p = this.position;
+    final int x = Signed32Unchecked.unpackFromBufferBigEndian(this.buffer, p);
+    this.position = p + 4;
+    return x;
+  }
+
+  /**
+   * Read an unsigned 32-bit big-endian integer and advance the position by 4
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public long readUnsigned32BE()
+  {
+    final int p = this.position;
+    final long x =
+      Signed32Unchecked.unpackFromBufferBigEndian(this.buffer, p) & 0xffffffffL;
+    this.position = p + 4;
+    return x;
+  }
+
+  /**
+   * Read a signed 64-bit big-endian integer and advance the position by 8
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public long readSigned64BE()
+  {
+    final int p = this.position;
+    final long x = Signed64Unchecked.unpackFromBufferBigEndian(this.buffer, p);
+    this.position = p + 8;
+    return x;
+  }
+
+  /**
+   * Read an unsigned 64-bit big-endian integer and advance the position by 8
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public long readUnsigned64BE()
+  {
+    final int p = this.position;
+    final long x = Signed64Unchecked.unpackFromBufferBigEndian(this.buffer, p);
+    this.position = p + 8;
+    return x;
+  }
+
+  /**
+   * Read a signed 16-bit little-endian integer and advance the position by 2
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readSigned16LE()
+  {
+    final int p = this.position;
+    final int x =
+      Signed16Unchecked.unpackFromBufferLittleEndian(this.buffer, p);
+    this.position = p + 2;
+    return x;
+  }
+
+  /**
+   * Read an unsigned 16-bit little-endian integer and advance the position by 2
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readUnsigned16LE()
+  {
+    final int p = this.position;
+    final int x =
+      Signed16Unchecked.unpackFromBufferLittleEndian(this.buffer, p) & 0xffff;
+    this.position = p + 2;
+    return x;
+  }
+
+  /**
+   * Read a signed 24-bit little-endian integer and advance the position by 3
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readSigned24LE()
+  {
+    final int p = this.position;
+    final int x =
+      Signed24Unchecked.unpackFromBufferLittleEndian(this.buffer, p);
+    this.position = p + 3;
+    return x;
+  }
+
+  /**
+   * Read an unsigned 24-bit little-endian integer and advance the position by 3
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readUnsigned24LE()
+  {
+    final int p = this.position;
+    final int x =
+      Signed24Unchecked.unpackFromBufferLittleEndian(this.buffer, p) & 0xffffff;
+    this.position = p + 3;
+    return x;
+  }
+
+  /**
+   * Read a signed 32-bit little-endian integer and advance the position by 4
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public int readSigned32LE()
+  {
+    final int p = this.position;
+    final int x =
+      Signed32Unchecked.unpackFromBufferLittleEndian(this.buffer, p);
+    this.position = p + 4;
+    return x;
+  }
+
+  /**
+   * Read an unsigned 32-bit little-endian integer and advance the position by 4
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public long readUnsigned32LE()
+  {
+    final int p = this.position;
+    final long x =
+      Signed32Unchecked.unpackFromBufferLittleEndian(this.buffer, p)
+        & 0xffffffffL;
+    this.position = p + 4;
+    return x;
+  }
+
+  /**
+   * Read a signed 64-bit little-endian integer and advance the position by 8
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public long readSigned64LE()
+  {
+    final int p = this.position;
+    final long x =
+      Signed64Unchecked.unpackFromBufferLittleEndian(this.buffer, p);
+    this.position = p + 8;
+    return x;
+  }
+
+  /**
+   * Read an unsigned 64-bit little-endian integer and advance the position by 8
+   * bytes.
+   *
+   * @return The value
+   */
+
+  public long readUnsigned64LE()
+  {
+    final int p = this.position;
+    final long x =
+      Signed64Unchecked.unpackFromBufferLittleEndian(this.buffer, p);
+    this.position = p + 8;
+    return x;
+  }
+
+  /**
+   * Write an unsigned 8-bit integer and advance the position by 1 byte.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned8(
+    final int x)
+  {
+    final int p = this.position;
+    this.buffer.put(p, (byte) x);
+    this.position = p + 1;
+    return this;
+  }
+
+  /**
+   * Write a signed 16-bit big-endian integer and advance the position by 2
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeSigned16BE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed16Unchecked.packToBufferBigEndian(x, this.buffer, p);
+    this.position = p + 2;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 16-bit big-endian integer and advance the position by 2
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned16BE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed16Unchecked.packToBufferBigEndian(x, this.buffer, p);
+    this.position = p + 2;
+    return this;
+  }
+
+  /**
+   * Write a signed 24-bit big-endian integer and advance the position by 3
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeSigned24BE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed24Unchecked.packToBufferBigEndian(x, this.buffer, p);
+    this.position = p + 3;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 24-bit big-endian integer and advance the position by 3
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned24BE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed24Unchecked.packToBufferBigEndian(x, this.buffer, p);
+    this.position = p + 3;
+    return this;
+  }
+
+  /**
+   * Write a signed 32-bit big-endian integer and advance the position by 4
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeSigned32BE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed32Unchecked.packToBufferBigEndian(x, this.buffer, p);
+    this.position = p + 4;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 32-bit big-endian integer and advance the position by 4
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned32BE(
+    final long x)
+  {
+    final int p = this.position;
+    Signed32Unchecked.packToBufferBigEndian((int) x, this.buffer, p);
+    this.position = p + 4;
+    return this;
+  }
+
+  /**
+   * Write a signed 64-bit big-endian integer and advance the position by 8
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeSigned64BE(
+    final long x)
+  {
+    final int p = this.position;
+    Signed64Unchecked.packToBufferBigEndian(x, this.buffer, p);
+    this.position = p + 8;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 64-bit big-endian integer and advance the position by 8
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned64BE(
+    final long x)
+  {
+    final int p = this.position;
+    Signed64Unchecked.packToBufferBigEndian(x, this.buffer, p);
+    this.position = p + 8;
+    return this;
+  }
+
+  /**
+   * Write a signed 16-bit little-endian integer and advance the position by 2
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeSigned16LE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed16Unchecked.packToBufferLittleEndian(x, this.buffer, p);
+    this.position = p + 2;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 16-bit little-endian integer and advance the position by
+   * 2 bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned16LE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed16Unchecked.packToBufferLittleEndian(x, this.buffer, p);
+    this.position = p + 2;
+    return this;
+  }
+
+  /**
+   * Write a signed 24-bit little-endian integer and advance the position by 3
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeSigned24LE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed24Unchecked.packToBufferLittleEndian(x, this.buffer, p);
+    this.position = p + 3;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 24-bit little-endian integer and advance the position by
+   * 3 bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned24LE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed24Unchecked.packToBufferLittleEndian(x, this.buffer, p);
+    this.position = p + 3;
+    return this;
+  }
+
+  /**
+   * Write a signed 32-bit little-endian integer and advance the position by 4
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeSigned32LE(
+    final int x)
+  {
+    final int p = this.position;
+    Signed32Unchecked.packToBufferLittleEndian(x, this.buffer, p);
+    this.position = p + 4;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 32-bit little-endian integer and advance the position by
+   * 4 bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned32LE(
+    final long x)
+  {
+    final int p = this.position;
+    Signed32Unchecked.packToBufferLittleEndian((int) x, this.buffer, p);
+    this.position = p + 4;
+    return this;
+  }
+
+  /**
+   * Write a signed 64-bit little-endian integer and advance the position by 8
+   * bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeSigned64LE(
+    final long x)
+  {
+    final int p = this.position;
+    Signed64Unchecked.packToBufferLittleEndian(x, this.buffer, p);
+    this.position = p + 8;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 64-bit little-endian integer and advance the position by
+   * 8 bytes.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   */
+
+  public IntegerCursor writeUnsigned64LE(
+    final long x)
+  {
+    final int p = this.position;
+    Signed64Unchecked.packToBufferLittleEndian(x, this.buffer, p);
+    this.position = p + 8;
+    return this;
+  }
+
+  /**
+   * Read an unsigned 32-bit LEB128 integer and advance the position by the
+   * length of its encoding.
+   *
+   * @return The value
+   *
+   * @see VarInts
+   */
+
+  public long readVarUnsigned32()
+  {
+    final int p = this.position;
+    final long x =
+      VarInts.decodeUnsigned32(this.buffer, p, this.length) & 0xffffffffL;
+    this.position = p + this.length[0];
+    return x;
+  }
+
+  /**
+   * Read an unsigned 64-bit LEB128 integer and advance the position by the
+   * length of its encoding.
+   *
+   * @return The value
+   *
+   * @see VarInts
+   */
+
+  public long readVarUnsigned64()
+  {
+    final int p = this.position;
+    final long x = VarInts.decodeUnsigned64(this.buffer, p, this.length);
+    this.position = p + this.length[0];
+    return x;
+  }
+
+  /**
+   * Read a signed 32-bit ZigZag LEB128 integer and advance the position by
+   * the length of its encoding.
+   *
+   * @return The value
+   *
+   * @see VarInts
+   */
+
+  public int readVarSigned32()
+  {
+    final int p = this.position;
+    final int x = VarInts.decodeSigned32(this.buffer, p, this.length);
+    this.position = p + this.length[0];
+    return x;
+  }
+
+  /**
+   * Read a signed 64-bit ZigZag LEB128 integer and advance the position by
+   * the length of its encoding.
+   *
+   * @return The value
+   *
+   * @see VarInts
+   */
+
+  public long readVarSigned64()
+  {
+    final int p = this.position;
+    final long x = VarInts.decodeSigned64(this.buffer, p, this.length);
+    this.position = p + this.length[0];
+    return x;
+  }
+
+  /**
+   * Write an unsigned 32-bit LEB128 integer and advance the position by the
+   * length of its encoding.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   *
+   * @see VarInts
+   */
+
+  public IntegerCursor writeVarUnsigned32(
+    final long x)
+  {
+    this.position += VarInts.encodeUnsigned32(
+      (int) x, this.buffer, this.position);
+    return this;
+  }
+
+  /**
+   * Write an unsigned 64-bit LEB128 integer and advance the position by the
+   * length of its encoding.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   *
+   * @see VarInts
+   */
+
+  public IntegerCursor writeVarUnsigned64(
+    final long x)
+  {
+    this.position += VarInts.encodeUnsigned64(x, this.buffer, this.position);
+    return this;
+  }
+
+  /**
+   * Write a signed 32-bit ZigZag LEB128 integer and advance the position by
+   * the length of its encoding.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   *
+   * @see VarInts
+   */
+
+  public IntegerCursor writeVarSigned32(
+    final int x)
+  {
+    this.position += VarInts.encodeSigned32(x, this.buffer, this.position);
+    return this;
+  }
+
+  /**
+   * Write a signed 64-bit ZigZag LEB128 integer and advance the position by
+   * the length of its encoding.
+   *
+   * @param x The value
+   *
+   * @return {@code this}
+   *
+   * @see VarInts
+   */
+
+  public IntegerCursor writeVarSigned64(
+    final long x)
+  {
+    this.position += VarInts.encodeSigned64(x, this.buffer, this.position);
+    return this;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[IntegerCursor %d/%d]",
+      Integer.valueOf(this.position),
+      Integer.valueOf(this.buffer.limit()));
+  }
+}
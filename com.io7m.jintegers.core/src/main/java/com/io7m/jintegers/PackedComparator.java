@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Comparisons and binary search over fixed-width integers packed with an
+ * {@link IntegerCodecType}, without unpacking values through the codec.
+ * </p>
+ * <p>
+ * Values of width 1, 2, 4, and 8 bytes are read with a single load of the
+ * corresponding width in the byte order of the codec, and are compared with
+ * {@link Long#compare(long, long)} for signed codecs and
+ * {@link Long#compareUnsigned(long, long)} for unsigned codecs. Values of
+ * other widths are read with the codec. Keys passed to the search
+ * functions are interpreted with the signedness of the codec, so an
+ * unsigned 64-bit key greater than {@link Long#MAX_VALUE} is given as a
+ * negative {@code long}.
+ * </p>
+ * <p>
+ * Comparators are immutable and thread-safe. {@link ByteBuffer#order()}
+ * and {@link ByteBuffer#position()} are ignored; indices are absolute.
+ * </p>
+ */
+
+public final class PackedComparator
+{
+  private static final VarHandle SHORT_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle SHORT_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle INT_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle LONG_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle LONG_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private final IntegerCodecType codec;
+  private final int width;
+  private final boolean signed;
+  private final boolean big;
+
+  private PackedComparator(
+    final IntegerCodecType inCodec)
+  {
+    this.codec = inCodec;
+    this.width = inCodec.width();
+    this.signed = inCodec.isSigned();
+    this.big = ByteOrder.BIG_ENDIAN.equals(inCodec.order());
+  }
+
+  /**
+   * Create a comparator for values packed with {@code codec}.
+   *
+   * @param codec The codec
+   *
+   * @return A comparator
+   */
+
+  public static PackedComparator of(
+    final IntegerCodecType codec)
+  {
+    return new PackedComparator(Objects.requireNonNull(codec, "Codec"));
+  }
+
+  /**
+   * @return The codec of the compared values
+   */
+
+  public IntegerCodecType codec()
+  {
+    return this.codec;
+  }
+
+  /**
+   * Read the value at {@code index}.
+   *
+   * @param buffer The buffer
+   * @param index  The index of the first byte of the value
+   *
+   * @return The value, sign or zero extended according to the codec
+   *
+   * @throws IndexOutOfBoundsException If the value is out of bounds
+   */
+
+  public long load(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return switch (this.width) {
+      case 1 -> this.load8(buffer, index);
+      case 2 -> this.load16(buffer, index);
+      case 4 -> this.load32(buffer, index);
+      case 8 -> this.load64(buffer, index);
+      default -> this.codec.unpack(buffer, index);
+    };
+  }
+
+  private long load8(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    final byte x = buffer.get(index);
+    return this.signed ? (long) x : (long) (x & 0xff);
+  }
+
+  private long load16(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    final short x = this.big
+      ? (short) SHORT_BE.get(buffer, index)
+      : (short) SHORT_LE.get(buffer, index);
+    return this.signed ? (long) x : (long) (x & 0xffff);
+  }
+
+  private long load32(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    final int x = this.big
+      ? (int) INT_BE.get(buffer, index)
+      : (int) INT_LE.get(buffer, index);
+    return this.signed ? (long) x : Integer.toUnsignedLong(x);
+  }
+
+  private long load64(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return this.big
+      ? (long) LONG_BE.get(buffer, index)
+      : (long) LONG_LE.get(buffer, index);
+  }
+
+  /**
+   * Compare two values with the signedness of the codec.
+   *
+   * @param x The first value
+   * @param y The second value
+   *
+   * @return A negative integer, zero, or a positive integer as {@code x}
+   * is less than, equal to, or greater than {@code y}
+   */
+
+  public int compare(
+    final long x,
+    final long y)
+  {
+    return this.signed ? Long.compare(x, y) : Long.compareUnsigned(x, y);
+  }
+
+  /**
+   * Compare the value at {@code xIndex} in {@code x} with the value at
+   * {@code yIndex} in {@code y}.
+   *
+   * @param x      The first buffer
+   * @param xIndex The index of the first value
+   * @param y      The second buffer
+   * @param yIndex The index of the second value
+   *
+   * @return A negative integer, zero, or a positive integer as the first
+   * value is less than, equal to, or greater than the second
+   *
+   * @throws IndexOutOfBoundsException If either value is out of bounds
+   */
+
+  public int compare(
+    final ByteBuffer x,
+    final int xIndex,
+    final ByteBuffer y,
+    final int yIndex)
+  {
+    Objects.requireNonNull(x, "Buffer");
+    Objects.requireNonNull(y, "Buffer");
+    return this.compare(this.load(x, xIndex), this.load(y, yIndex));
+  }
+
+  /**
+   * <p>
+   * Search {@code count} values starting at {@code index} in
+   * {@code buffer} for {@code key}. The values must be sorted in ascending
+   * order with respect to {@link #compare(long, long)}.
+   * </p>
+   * <p>
+   * The result follows {@link java.util.Arrays#binarySearch(long[], long)}:
+   * if {@code key} is found, the result is the position {@code p} of a
+   * matching value, such that the value is at
+   * {@code index + p * width}. Otherwise, the result is
+   * {@code -(p + 1)}, where {@code p} is the position at which
+   * {@code key} would be inserted.
+   * </p>
+   *
+   * @param buffer The buffer
+   * @param index  The index of the first value
+   * @param count  The number of values
+   * @param key    The key
+   *
+   * @return The position of the key, or {@code -(insertion point + 1)}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public int binarySearch(
+    final ByteBuffer buffer,
+    final int index,
+    final int count,
+    final long key)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Ranges.checkBufferRange(buffer, index, count, this.width);
+
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int c =
+        this.compare(this.load(buffer, index + middle * this.width), key);
+      if (c < 0) {
+        low = middle + 1;
+      } else if (c > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  long binarySearch(
+    final BufferChunks chunks,
+    final long fromIndex,
+    final long toIndex,
+    final long key)
+  {
+    Objects.checkFromToIndex(fromIndex, toIndex, chunks.count());
+
+    long low = fromIndex;
+    long high = toIndex - 1L;
+    while (low <= high) {
+      final long middle = (low + high) >>> 1;
+      final int c = this.compare(
+        this.load(chunks.chunk(middle), chunks.offsetOf(middle)), key);
+      if (c < 0) {
+        low = middle + 1L;
+      } else if (c > 0) {
+        high = middle - 1L;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1L);
+  }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An array of integers of an arbitrary width between 1 and 64 bits, packed
+ * densely into a {@code long[]}.
+ * </p>
+ * <p>
+ * An array of {@code n} values of width {@code b} occupies
+ * {@code ceil(n / 64) * b} words. Values are stored in blocks of 64 that
+ * begin on a word boundary, so the bulk functions decode and encode whole
+ * blocks with a word-at-a-time kernel rather than value by value.
+ * </p>
+ * <p>
+ * As with the fixed-width functions such as {@link Signed24}, values are
+ * truncated to the array's width when written. Signed arrays sign-extend
+ * values when read.
+ * </p>
+ * <p>
+ * Arrays are not thread-safe.
+ * </p>
+ */
+
+public final class PackedIntArray
+{
+  private final long[] words;
+  private final int bits;
+  private final boolean signed;
+  private final long size;
+
+  private PackedIntArray(
+    final int inBits,
+    final boolean inSigned,
+    final long inSize,
+    final long[] inWords)
+  {
+    this.bits = inBits;
+    this.signed = inSigned;
+    this.size = inSize;
+    this.words = inWords;
+  }
+
+  /**
+   * Allocate an array of {@code size} values, initially zero.
+   *
+   * @param bits   The width of values in bits, in the range {@code [1, 64]}
+   * @param signed {@code true} if values are signed
+   * @param size   The number of values
+   *
+   * @return A new array
+   *
+   * @throws IllegalArgumentException If {@code bits} is out of range, or
+   *                                  the array would need more than
+   *                                  {@code 2^31 - 1} words
+   */
+
+  public static PackedIntArray allocate(
+    final int bits,
+    final boolean signed,
+    final long size)
+  {
+    if (bits < 1 || bits > 64) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Bit width %d must be in the range [1, 64]",
+          Integer.valueOf(bits)));
+    }
+    if (size < 0L) {
+      throw new IllegalArgumentException(
+        String.format("Size %d must be non-negative", Long.valueOf(size)));
+    }
+
+    final long blocks = alignUp(size) / BitPacking.BLOCK_VALUES;
+    final long count = blocks * bits;
+    if (count > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(
+        String.format(
+          "An array of %d %d-bit values exceeds the maximum array size",
+          Long.valueOf(size),
+          Integer.valueOf(bits)));
+    }
+    return new PackedIntArray(bits, signed, size, new long[(int) count]);
+  }
+
+  /**
+   * @param value An unsigned value
+   *
+   * @return The minimum number of bits required to store {@code value} in
+   * an unsigned array (at least 1)
+   */
+
+  public static int bitsRequiredUnsigned(
+    final long value)
+  {
+    return Math.max(1, 64 - Long.numberOfLeadingZeros(value));
+  }
+
+  /**
+   * @param value A signed value
+   *
+   * @return The minimum number of bits required to store {@code value} in a
+   * signed array
+   */
+
+  public static int bitsRequiredSigned(
+    final long value)
+  {
+    return 65 - Long.numberOfLeadingZeros(value ^ (value >> 63));
+  }
+
+  /**
+   * @return The width of values in bits
+   */
+
+  public int bits()
+  {
+    return this.bits;
+  }
+
+  /**
+   * @return {@code true} if values are signed
+   */
+
+  public boolean isSigned()
+  {
+    return this.signed;
+  }
+
+  /**
+   * @return The number of values in the array
+   */
+
+  public long size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return The smallest value that can be stored without truncation
+   */
+
+  public long minimum()
+  {
+    return this.signed ? Long.MIN_VALUE >> (64 - this.bits) : 0L;
+  }
+
+  /**
+   * @return The largest value that can be stored without truncation
+   */
+
+  public long maximum()
+  {
+    return this.signed
+      ? Long.MAX_VALUE >>> (64 - this.bits)
+      : BitPacking.mask(this.bits);
+  }
+
+  /**
+   * @param index The value index
+   *
+   * @return The value at {@code index}
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of range
+   */
+
+  public long get(
+    final long index)
+  {
+    Objects.checkIndex(index, this.size);
+    return BitPacking.get(
+      this.bits, this.signed, this.words, index * this.bits);
+  }
+
+  /**
+   * Set the value at {@code index}. Bits of {@code value} above the array's
+   * width are discarded.
+   *
+   * @param index The value index
+   * @param value The value
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of range
+   */
+
+  public void set(
+    final long index,
+    final long value)
+  {
+    Objects.checkIndex(index, this.size);
+    BitPacking.set(this.bits, this.words, index * this.bits, value);
+  }
+
+  /**
+   * Read {@code count} values starting at {@code index} into {@code dst}.
+   * Whole blocks of 64 values within the range are decoded with an
+   * unrolled kernel specialized for the width of the array.
+   *
+   * @param index     The index of the first value
+   * @param dst       The destination array
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public long[] getArray(
+    final long index,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(index, count, this.size);
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    final long end = index + count;
+    final long head = Math.min(end, alignUp(index));
+    final long body = alignDown(end);
+
+    final int block = BitPacking.BLOCK_VALUES;
+    long i = index;
+    int offset = dstOffset;
+    for (; i < head; ++i, ++offset) {
+      dst[offset] = BitPacking.get(
+        this.bits, this.signed, this.words, i * this.bits);
+    }
+    for (; i < body; i += block, offset += block) {
+      BitPacking.unpackBlock(
+        this.bits, this.signed, this.words, this.blockWord(i), dst, offset);
+    }
+    for (; i < end; ++i, ++offset) {
+      dst[offset] = BitPacking.get(
+        this.bits, this.signed, this.words, i * this.bits);
+    }
+    return dst;
+  }
+
+  /**
+   * Write {@code count} values from {@code src} starting at {@code index}.
+   * Whole blocks of 64 values within the range are encoded with an
+   * unrolled kernel specialized for the width of the array.
+   *
+   * @param index     The index of the first value
+   * @param src       The source array
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param count     The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void setArray(
+    final long index,
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(index, count, this.size);
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+    final long end = index + count;
+    final long head = Math.min(end, alignUp(index));
+    final long body = alignDown(end);
+
+    final int block = BitPacking.BLOCK_VALUES;
+    long i = index;
+    int offset = srcOffset;
+    for (; i < head; ++i, ++offset) {
+      BitPacking.set(this.bits, this.words, i * this.bits, src[offset]);
+    }
+    for (; i < body; i += block, offset += block) {
+      BitPacking.packBlock(
+        this.bits, src, offset, this.words, this.blockWord(i));
+    }
+    for (; i < end; ++i, ++offset) {
+      BitPacking.set(this.bits, this.words, i * this.bits, src[offset]);
+    }
+  }
+
+  private int blockWord(
+    final long index)
+  {
+    return (int) ((index / BitPacking.BLOCK_VALUES) * this.bits);
+  }
+
+  private static long alignUp(
+    final long index)
+  {
+    return (index + BitPacking.BLOCK_VALUES - 1L) & -BitPacking.BLOCK_VALUES;
+  }
+
+  private static long alignDown(
+    final long index)
+  {
+    return index & -BitPacking.BLOCK_VALUES;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final PackedIntArray that = (PackedIntArray) other;
+    return this.bits == that.bits
+      && this.signed == that.signed
+      && this.size == that.size
+      && Arrays.equals(this.words, that.words);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(
+      Integer.valueOf(this.bits),
+      Boolean.valueOf(this.signed),
+      Long.valueOf(this.size),
+      Integer.valueOf(Arrays.hashCode(this.words)));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[PackedIntArray %s%d %d]",
+      this.signed ? "s" : "u",
+      Integer.valueOf(this.bits),
+      Long.valueOf(this.size));
+  }
+}
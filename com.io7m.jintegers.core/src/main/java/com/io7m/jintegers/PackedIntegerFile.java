@@ -0,0 +1,417 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A file of fixed-width integers accessed through memory mapping.
+ * </p>
+ * <p>
+ * The file is mapped as a series of windows, each holding a power-of-two
+ * number of values and no more than 1 GiB, so files larger than
+ * {@code 2^31} bytes can be addressed with {@code long} indices. A value
+ * never straddles two windows. Values are read and written with the given
+ * {@link IntegerCodecType}.
+ * </p>
+ * <p>
+ * The file channel is closed as soon as the windows are mapped. There is
+ * no {@code close()} method: Java 17 provides no supported way to unmap a
+ * {@link MappedByteBuffer}, so each window stays mapped until the garbage
+ * collector reclaims it after the instance becomes unreachable. Until then
+ * the mappings hold address space and, on some platforms, prevent the file
+ * from being deleted or truncated. Call {@link #force()} to make writes
+ * durable at a known point rather than relying on the unmapping.
+ * </p>
+ */
+
+public final class PackedIntegerFile
+{
+  private final BufferChunks chunks;
+  private final PackedComparator comparator;
+  private final boolean writable;
+
+  private PackedIntegerFile(
+    final BufferChunks inChunks,
+    final boolean inWritable)
+  {
+    this.chunks = inChunks;
+    this.comparator = PackedComparator.of(inChunks.codec());
+    this.writable = inWritable;
+  }
+
+  /**
+   * Open an existing file for reading. The number of values is the size
+   * of the file divided by the codec width; trailing bytes are ignored.
+   *
+   * @param path  The file
+   * @param codec The codec used to read values
+   *
+   * @return A read-only file
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static PackedIntegerFile openReadOnly(
+    final Path path,
+    final IntegerCodecType codec)
+    throws IOException
+  {
+    return openReadOnly(path, codec, BufferChunks.MAXIMUM_CHUNK_BYTES);
+  }
+
+  /**
+   * Open an existing file for reading, using windows of at most
+   * {@code windowBytes} bytes.
+   *
+   * @param path        The file
+   * @param codec       The codec used to read values
+   * @param windowBytes The maximum size of a mapped window in bytes
+   *
+   * @return A read-only file
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static PackedIntegerFile openReadOnly(
+    final Path path,
+    final IntegerCodecType codec,
+    final int windowBytes)
+    throws IOException
+  {
+    Objects.requireNonNull(path, "Path");
+    Objects.requireNonNull(codec, "Codec");
+    checkWindowBytes(windowBytes);
+
+    try (FileChannel channel = FileChannel.open(
+      path,
+      StandardOpenOption.READ)) {
+      final long count = channel.size() / codec.width();
+      return new PackedIntegerFile(
+        map(channel, FileChannel.MapMode.READ_ONLY, codec, count, windowBytes),
+        false);
+    }
+  }
+
+  /**
+   * Open a file for reading and writing, creating it if it does not exist
+   * and extending it if it is smaller than {@code count} values.
+   *
+   * @param path  The file
+   * @param codec The codec used to read and write values
+   * @param count The number of values
+   *
+   * @return A writable file
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static PackedIntegerFile openReadWrite(
+    final Path path,
+    final IntegerCodecType codec,
+    final long count)
+    throws IOException
+  {
+    return openReadWrite(path, codec, count, BufferChunks.MAXIMUM_CHUNK_BYTES);
+  }
+
+  /**
+   * Open a file for reading and writing, using windows of at most
+   * {@code windowBytes} bytes.
+   *
+   * @param path        The file
+   * @param codec       The codec used to read and write values
+   * @param count       The number of values
+   * @param windowBytes The maximum size of a mapped window in bytes
+   *
+   * @return A writable file
+   *
+   * @throws IOException On I/O errors
+   *
+   * @see #openReadWrite(Path, IntegerCodecType, long)
+   */
+
+  public static PackedIntegerFile openReadWrite(
+    final Path path,
+    final IntegerCodecType codec,
+    final long count,
+    final int windowBytes)
+    throws IOException
+  {
+    Objects.requireNonNull(path, "Path");
+    Objects.requireNonNull(codec, "Codec");
+    checkWindowBytes(windowBytes);
+    if (count < 0L || count > Long.MAX_VALUE / codec.width()) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Count %d is out of range for width %d",
+          Long.valueOf(count),
+          Integer.valueOf(codec.width())));
+    }
+
+    try (FileChannel channel = FileChannel.open(
+      path,
+      StandardOpenOption.CREATE,
+      StandardOpenOption.READ,
+      StandardOpenOption.WRITE)) {
+      return new PackedIntegerFile(
+        map(channel, FileChannel.MapMode.READ_WRITE, codec, count, windowBytes),
+        true);
+    }
+  }
+
+  private static void checkWindowBytes(
+    final int windowBytes)
+  {
+    if (windowBytes <= 0 || windowBytes > BufferChunks.MAXIMUM_CHUNK_BYTES) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Window size %d must be in the range [1, %d]",
+          Integer.valueOf(windowBytes),
+          Integer.valueOf(BufferChunks.MAXIMUM_CHUNK_BYTES)));
+    }
+  }
+
+  private static BufferChunks map(
+    final FileChannel channel,
+    final FileChannel.MapMode mode,
+    final IntegerCodecType codec,
+    final long count,
+    final int windowBytes)
+    throws IOException
+  {
+    final int width = codec.width();
+    final int shift = BufferChunks.chunkShift(width, windowBytes);
+    final int windows = BufferChunks.chunkCount(count, shift);
+    final ByteBuffer[] buffers = new ByteBuffer[windows];
+
+    for (int index = 0; index < windows; ++index) {
+      final long position = ((long) index << shift) * width;
+      final int size = BufferChunks.chunkBytes(count, width, shift, index);
+      buffers[index] = channel.map(mode, position, size);
+    }
+    return new BufferChunks(buffers, codec, shift, count);
+  }
+
+  /**
+   * @return The number of values in the file
+   */
+
+  public long size()
+  {
+    return this.chunks.count();
+  }
+
+  /**
+   * @return The codec used to read and write values
+   */
+
+  public IntegerCodecType codec()
+  {
+    return this.chunks.codec();
+  }
+
+  /**
+   * @return {@code true} if the file was opened for writing
+   */
+
+  public boolean isWritable()
+  {
+    return this.writable;
+  }
+
+  /**
+   * Read the value at {@code index}.
+   *
+   * @param index The value index
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of range
+   */
+
+  public long get(
+    final long index)
+  {
+    return this.chunks.get(index);
+  }
+
+  /**
+   * <p>
+   * Search the values in {@code [fromIndex, toIndex)} for {@code key}. The
+   * values must be sorted in ascending order with respect to the
+   * signedness of the codec; see {@link PackedComparator}.
+   * </p>
+   * <p>
+   * The result follows {@link java.util.Arrays#binarySearch(long[], long)}:
+   * if {@code key} is found, the result is the index of a matching value.
+   * Otherwise, the result is {@code -(p + 1)}, where {@code p} is the
+   * index at which {@code key} would be inserted.
+   * </p>
+   *
+   * @param fromIndex The index of the first value
+   * @param toIndex   One past the index of the last value
+   * @param key       The key
+   *
+   * @return The index of the key, or {@code -(insertion point + 1)}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public long binarySearch(
+    final long fromIndex,
+    final long toIndex,
+    final long key)
+  {
+    return this.comparator.binarySearch(this.chunks, fromIndex, toIndex, key);
+  }
+
+  /**
+   * Write {@code value} at {@code index}.
+   *
+   * @param index The value index
+   * @param value The value
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of range
+   * @throws java.nio.ReadOnlyBufferException If the file is read-only
+   */
+
+  public void set(
+    final long index,
+    final long value)
+  {
+    this.chunks.set(index, value);
+  }
+
+  /**
+   * Read {@code count} values starting at {@code index} into {@code dst}.
+   *
+   * @param index     The index of the first value
+   * @param dst       The destination array
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public long[] getArray(
+    final long index,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    this.chunks.getArray(index, dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * Write {@code count} values from {@code src} starting at {@code index}.
+   *
+   * @param index     The index of the first value
+   * @param src       The source array
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param count     The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @throws java.nio.ReadOnlyBufferException If the file is read-only
+   */
+
+  public void setArray(
+    final long index,
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    this.chunks.setArray(index, src, srcOffset, count);
+  }
+
+  /**
+   * <p>
+   * Load the pages holding the values in {@code [index, index + count)}
+   * into physical memory.
+   * </p>
+   * <p>
+   * This call blocks: it uses {@link MappedByteBuffer#load()}, which reads
+   * every page in the range before returning. It is most useful before a
+   * sequential scan of a region that is not yet resident. Callers that do
+   * not want to wait can run it on another thread. It has no effect on
+   * correctness.
+   * </p>
+   *
+   * @param index The index of the first value
+   * @param count The number of values
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public void prefetch(
+    final long index,
+    final long count)
+  {
+    Objects.checkFromIndexSize(index, count, this.chunks.count());
+    if (count == 0L) {
+      return;
+    }
+
+    final ByteBuffer[] buffers = this.chunks.chunks();
+    final long last = index + count - 1L;
+    final int first = this.chunks.chunkOf(index);
+    final int end = this.chunks.chunkOf(last);
+    final int width = this.chunks.codec().width();
+
+    for (int window = first; window <= end; ++window) {
+      final MappedByteBuffer buffer = (MappedByteBuffer) buffers[window];
+      final int lower = window == first ? this.chunks.offsetOf(index) : 0;
+      final int upper =
+        window == end ? this.chunks.offsetOf(last) + width : buffer.capacity();
+      buffer.slice(lower, upper - lower).load();
+    }
+  }
+
+  /**
+   * Write any modified values back to the underlying storage device. Has
+   * no effect on read-only files.
+   */
+
+  public void force()
+  {
+    if (!this.writable) {
+      return;
+    }
+    for (final ByteBuffer buffer : this.chunks.chunks()) {
+      ((MappedByteBuffer) buffer).force();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[PackedIntegerFile %s %d]",
+      this.chunks.codec(),
+      Long.valueOf(this.chunks.count()));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Range checks shared by the bulk functions.
+ */
+
+final class Ranges
+{
+  private Ranges()
+  {
+
+  }
+
+  /**
+   * Check that {@code count} values of {@code width} bytes starting at
+   * {@code index} lie within the limit of {@code buffer}.
+   *
+   * @param buffer The buffer
+   * @param index  The starting index
+   * @param count  The number of values
+   * @param width  The width of each value in bytes
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  static void checkBufferRange(
+    final ByteBuffer buffer,
+    final int index,
+    final int count,
+    final int width)
+  {
+    Objects.checkFromIndexSize(
+      (long) index,
+      (long) count * (long) width,
+      (long) buffer.limit()
+    );
+  }
+
+  /**
+   * Check that {@code count} elements starting at {@code offset} lie within
+   * an array of length {@code length}.
+   *
+   * @param offset The starting offset
+   * @param count  The number of elements
+   * @param length The array length
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  static void checkArrayRange(
+    final int offset,
+    final int count,
+    final int length)
+  {
+    Objects.checkFromIndexSize(offset, count, length);
+  }
+}
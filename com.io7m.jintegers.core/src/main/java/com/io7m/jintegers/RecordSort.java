@@ -0,0 +1,516 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>
+ * A least-significant-digit radix sort of fixed-size records by an
+ * embedded integer key.
+ * </p>
+ * <p>
+ * Records of {@link #recordSize()} bytes are stored contiguously in a
+ * {@link ByteBuffer}, and each record holds a key, packed with an
+ * {@link IntegerCodecType}, at {@link #keyOffset()} bytes from the start
+ * of the record. For example, a 16-byte record might hold an
+ * {@code Unsigned32} key at offset 4. Records are sorted into ascending
+ * order of their keys, compared with the signedness of the codec. The sort
+ * is stable.
+ * </p>
+ * <p>
+ * Keys are read once, with {@link PackedComparator#load(ByteBuffer, int)},
+ * and sorted together with record indices using one counting pass per
+ * key byte. Passes in which every key has the same byte are skipped. The
+ * records themselves are then moved once: in place, following the cycles
+ * of the permutation, for {@link #sort(ByteBuffer, int, int)}, and through
+ * a scratch buffer of the same size for
+ * {@link #sortParallel(ByteBuffer, int, int, ForkJoinPool)}. Besides any
+ * scratch buffer, sorting {@code n} records allocates {@code 16n} bytes
+ * of heap for keys of up to four bytes, and {@code 32n} bytes for wider
+ * keys.
+ * </p>
+ * <p>
+ * Sorts are immutable and thread-safe. {@link ByteBuffer#order()} and
+ * {@link ByteBuffer#position()} are ignored; indices are absolute.
+ * </p>
+ * <p>
+ * On Java 22 and newer, records held in a {@code MemorySegment} can be
+ * sorted with {@code RecordSegments} in the {@code com.io7m.jintegers.ffm}
+ * module.
+ * </p>
+ */
+
+public final class RecordSort
+{
+  private static final int RADIX = 256;
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final IntegerCodecType key;
+  private final PackedComparator comparator;
+  private final int recordSize;
+  private final int keyOffset;
+  private final int keyBytes;
+  private final long flip;
+  private final long mask;
+
+  private RecordSort(
+    final IntegerCodecType inKey,
+    final int inRecordSize,
+    final int inKeyOffset)
+  {
+    this.key = inKey;
+    this.comparator = PackedComparator.of(inKey);
+    this.recordSize = inRecordSize;
+    this.keyOffset = inKeyOffset;
+    this.keyBytes = inKey.width();
+
+    final int bits = this.keyBytes << 3;
+    this.flip = inKey.isSigned() ? 1L << (bits - 1) : 0L;
+    this.mask = -1L >>> (64 - bits);
+  }
+
+  /**
+   * Create a sort for records of {@code recordSize} bytes with a key
+   * packed with {@code key} at {@code keyOffset} bytes from the start of
+   * each record.
+   *
+   * @param key        The codec of the key
+   * @param recordSize The size of records in bytes
+   * @param keyOffset  The offset of the key within each record
+   *
+   * @return A sort
+   *
+   * @throws IllegalArgumentException If the key does not lie within the
+   *                                  record
+   */
+
+  public static RecordSort of(
+    final IntegerCodecType key,
+    final int recordSize,
+    final int keyOffset)
+  {
+    Objects.requireNonNull(key, "Codec");
+    if (recordSize < 1
+      || keyOffset < 0
+      || keyOffset > recordSize - key.width()) {
+      throw new IllegalArgumentException(
+        String.format(
+          "A key of width %d at offset %d does not fit into records of %d "
+            + "bytes",
+          Integer.valueOf(key.width()),
+          Integer.valueOf(keyOffset),
+          Integer.valueOf(recordSize)));
+    }
+    return new RecordSort(key, recordSize, keyOffset);
+  }
+
+  /**
+   * @return The codec of the key
+   */
+
+  public IntegerCodecType key()
+  {
+    return this.key;
+  }
+
+  /**
+   * @return The size of records in bytes
+   */
+
+  public int recordSize()
+  {
+    return this.recordSize;
+  }
+
+  /**
+   * @return The offset of the key within each record
+   */
+
+  public int keyOffset()
+  {
+    return this.keyOffset;
+  }
+
+  /**
+   * <p>
+   * Sort {@code count} records starting at {@code index} in
+   * {@code buffer}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if the records
+   * do not lie within the limit of {@code buffer}, and
+   * {@link ReadOnlyBufferException} if {@code buffer} is read-only. In both
+   * cases, nothing is modified.
+   * </p>
+   *
+   * @param buffer The buffer
+   * @param index  The index of the first record
+   * @param count  The number of records
+   */
+
+  public void sort(
+    final ByteBuffer buffer,
+    final int index,
+    final int count)
+  {
+    this.checkRange(buffer, index, count);
+    if (count < 2) {
+      return;
+    }
+
+    final Sorting sorting = new Sorting(buffer, index, count, 1);
+    sorting.sortKeys(null);
+    sorting.permuteInPlace();
+  }
+
+  /**
+   * <p>
+   * Sort {@code count} records starting at {@code index} in
+   * {@code buffer}, using {@code pool} to sort keys and move records in
+   * parallel. Small inputs are sorted on the calling thread with
+   * {@link #sort(ByteBuffer, int, int)}. Otherwise, a scratch buffer the
+   * size of the records is allocated; the scratch buffer is direct if
+   * {@code buffer} is direct.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if the records
+   * do not lie within the limit of {@code buffer}, and
+   * {@link ReadOnlyBufferException} if {@code buffer} is read-only. In both
+   * cases, nothing is modified.
+   * </p>
+   *
+   * @param buffer The buffer
+   * @param index  The index of the first record
+   * @param count  The number of records
+   * @param pool   The pool used to run tasks
+   */
+
+  public void sortParallel(
+    final ByteBuffer buffer,
+    final int index,
+    final int count,
+    final ForkJoinPool pool)
+  {
+    Objects.requireNonNull(pool, "Pool");
+    this.checkRange(buffer, index, count);
+    if (count < PARALLEL_THRESHOLD) {
+      this.sort(buffer, index, count);
+      return;
+    }
+
+    final int chunks =
+      Math.min(count, pool.getParallelism() * CHUNKS_PER_THREAD);
+    final Sorting sorting = new Sorting(buffer, index, count, chunks);
+    sorting.sortKeys(pool);
+    sorting.permuteThroughScratch(pool);
+  }
+
+  private void checkRange(
+    final ByteBuffer buffer,
+    final int index,
+    final int count)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Count %d must be non-negative",
+          Integer.valueOf(count)));
+    }
+    Objects.checkFromIndexSize(
+      (long) index, (long) count * this.recordSize, (long) buffer.limit());
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  /*
+   * The state of a single sort. The records are divided into chunks; each
+   * chunk has its own histogram for each pass, so chunks can be counted and
+   * scattered independently.
+   *
+   * Each entry pairs a key with the index of its record. Keys of up to four
+   * bytes are packed into the high 32 bits of a single long, with the index
+   * in the low 32 bits. Wider keys take two longs: the key, then the index.
+   */
+
+  private final class Sorting
+  {
+    private final ByteBuffer buffer;
+    private final int index;
+    private final int count;
+    private final int chunks;
+    private final int chunkSize;
+    private final int[] counts;
+    private final int stride;
+    private final int keyShift;
+    private long[] entries;
+    private long[] entriesNext;
+
+    Sorting(
+      final ByteBuffer inBuffer,
+      final int inIndex,
+      final int inCount,
+      final int inChunks)
+    {
+      this.buffer = inBuffer;
+      this.index = inIndex;
+      this.count = inCount;
+      this.chunks = inChunks;
+      this.chunkSize = (int) (((long) inCount + inChunks - 1L) / inChunks);
+      this.counts = new int[inChunks * RADIX];
+      this.stride = RecordSort.this.keyBytes <= 4 ? 1 : 2;
+      this.keyShift = this.stride == 1 ? 32 : 0;
+      this.entries = new long[inCount * this.stride];
+      this.entriesNext = new long[inCount * this.stride];
+    }
+
+    private int digitOf(
+      final int entry,
+      final int shift)
+    {
+      final long k = this.entries[entry * this.stride];
+      return (int) ((k >>> (shift + this.keyShift)) & 0xffL);
+    }
+
+    private int recordOf(
+      final int entry)
+    {
+      return (int) this.entries[entry * this.stride + this.stride - 1];
+    }
+
+    private void setRecord(
+      final int entry,
+      final int record)
+    {
+      final int slot = entry * this.stride + this.stride - 1;
+      if (this.stride == 1) {
+        this.entries[slot] =
+          (this.entries[slot] & 0xffff_ffff_0000_0000L) | record;
+      } else {
+        this.entries[slot] = record;
+      }
+    }
+
+    private int start(
+      final int chunk)
+    {
+      return (int) Math.min((long) chunk * this.chunkSize, this.count);
+    }
+
+    private int end(
+      final int chunk)
+    {
+      return (int) Math.min((long) (chunk + 1) * this.chunkSize, this.count);
+    }
+
+    private int position(
+      final int record)
+    {
+      return this.index + record * RecordSort.this.recordSize;
+    }
+
+    private void forEachChunk(
+      final ForkJoinPool pool,
+      final IntConsumer body)
+    {
+      if (pool == null) {
+        for (int chunk = 0; chunk < this.chunks; ++chunk) {
+          body.accept(chunk);
+        }
+        return;
+      }
+
+      final List<ForkJoinTask<?>> tasks = new ArrayList<>(this.chunks);
+      for (int chunk = 0; chunk < this.chunks; ++chunk) {
+        final int c = chunk;
+        tasks.add(ForkJoinTask.adapt(() -> body.accept(c)));
+      }
+      pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    void sortKeys(
+      final ForkJoinPool pool)
+    {
+      this.forEachChunk(pool, this::extract);
+      for (int digit = 0; digit < RecordSort.this.keyBytes; ++digit) {
+        final int shift = digit << 3;
+        this.forEachChunk(pool, chunk -> this.histogram(chunk, shift));
+        if (this.offsets()) {
+          this.forEachChunk(pool, chunk -> this.scatter(chunk, shift));
+          this.swap();
+        }
+      }
+    }
+
+    private void extract(
+      final int chunk)
+    {
+      final RecordSort s = RecordSort.this;
+      final int end = this.end(chunk);
+      for (int record = this.start(chunk); record < end; ++record) {
+        final long x =
+          s.comparator.load(this.buffer, this.position(record) + s.keyOffset);
+        final long k = (x ^ s.flip) & s.mask;
+        if (this.stride == 1) {
+          this.entries[record] = (k << 32) | record;
+        } else {
+          this.entries[record << 1] = k;
+          this.entries[(record << 1) + 1] = record;
+        }
+      }
+    }
+
+    private void histogram(
+      final int chunk,
+      final int shift)
+    {
+      final int base = chunk * RADIX;
+      for (int digit = 0; digit < RADIX; ++digit) {
+        this.counts[base + digit] = 0;
+      }
+      final int end = this.end(chunk);
+      for (int record = this.start(chunk); record < end; ++record) {
+        ++this.counts[base + this.digitOf(record, shift)];
+      }
+    }
+
+    /*
+     * Replace the histograms with the output position of the first record
+     * of each digit in each chunk. Return false, leaving the histograms
+     * unchanged, if every record has the same digit and the pass can be
+     * skipped.
+     */
+
+    private boolean offsets()
+    {
+      for (int digit = 0; digit < RADIX; ++digit) {
+        long total = 0L;
+        for (int chunk = 0; chunk < this.chunks; ++chunk) {
+          total += this.counts[chunk * RADIX + digit];
+        }
+        if (total == this.count) {
+          return false;
+        }
+      }
+
+      int running = 0;
+      for (int digit = 0; digit < RADIX; ++digit) {
+        for (int chunk = 0; chunk < this.chunks; ++chunk) {
+          final int slot = chunk * RADIX + digit;
+          final int n = this.counts[slot];
+          this.counts[slot] = running;
+          running += n;
+        }
+      }
+      return true;
+    }
+
+    private void scatter(
+      final int chunk,
+      final int shift)
+    {
+      final int base = chunk * RADIX;
+      final int end = this.end(chunk);
+      for (int entry = this.start(chunk); entry < end; ++entry) {
+        final int slot = base + this.digitOf(entry, shift);
+        final int target = this.counts[slot];
+        this.counts[slot] = target + 1;
+        if (this.stride == 1) {
+          this.entriesNext[target] = this.entries[entry];
+        } else {
+          this.entriesNext[target << 1] = this.entries[entry << 1];
+          this.entriesNext[(target << 1) + 1] =
+            this.entries[(entry << 1) + 1];
+        }
+      }
+    }
+
+    private void swap()
+    {
+      final long[] e = this.entries;
+      this.entries = this.entriesNext;
+      this.entriesNext = e;
+    }
+
+    /*
+     * Move each record to its sorted position by following the cycles of
+     * the permutation. The record at position i is to receive the record
+     * of entry i; positions are marked as done by setting the record of
+     * entry i to i.
+     */
+
+    void permuteInPlace()
+    {
+      final int size = RecordSort.this.recordSize;
+      final byte[] saved = new byte[size];
+      final byte[] moving = new byte[size];
+
+      for (int start = 0; start < this.count; ++start) {
+        if (this.recordOf(start) == start) {
+          continue;
+        }
+
+        this.buffer.get(this.position(start), saved);
+        int current = start;
+        while (true) {
+          final int next = this.recordOf(current);
+          this.setRecord(current, current);
+          if (next == start) {
+            this.buffer.put(this.position(current), saved);
+            break;
+          }
+          this.buffer.get(this.position(next), moving);
+          this.buffer.put(this.position(current), moving);
+          current = next;
+        }
+      }
+    }
+
+    void permuteThroughScratch(
+      final ForkJoinPool pool)
+    {
+      final int size = RecordSort.this.recordSize;
+      final int bytes = this.count * size;
+      final ByteBuffer scratch = this.buffer.isDirect()
+        ? ByteBuffer.allocateDirect(bytes)
+        : ByteBuffer.allocate(bytes);
+
+      this.forEachChunk(pool, chunk -> {
+        final int end = this.end(chunk);
+        for (int record = this.start(chunk); record < end; ++record) {
+          final int source = this.position(this.recordOf(record));
+          scratch.put(record * size, this.buffer, source, size);
+        }
+      });
+      this.forEachChunk(pool, chunk -> {
+        final int start = this.start(chunk);
+        final int length = (this.end(chunk) - start) * size;
+        this.buffer.put(this.position(start), scratch, start * size, length);
+      });
+    }
+  }
+}
@@ -0,0 +1,586 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A codec that stores sequences of {@code long} values as runs of equal
+ * values.
+ * </p>
+ * <p>
+ * Each run is stored as its value, using a fixed-width
+ * {@link IntegerCodecType}, followed by its length. Lengths are stored
+ * either as unsigned LEB128 integers (see {@link VarInts}) or with a
+ * fixed-width unsigned {@link IntegerCodecType} of at most four bytes, such
+ * as {@code Unsigned16} or {@code Unsigned32}. Runs longer than
+ * {@link #maximumRunLength()} are split into several runs. The number of
+ * values is not stored; callers must record it separately.
+ * </p>
+ * <p>
+ * As well as expanding runs into arrays, the codec can compute sums,
+ * minimums, maximums, and counts of equal values directly from the runs,
+ * without expanding them. Each of these takes one step per run rather than
+ * one step per value. Values are compared as signed or unsigned integers
+ * according to the signedness of the value codec.
+ * </p>
+ * <p>
+ * Codecs are immutable and thread-safe. {@link ByteBuffer#order()} and
+ * {@link ByteBuffer#position()} are ignored; indices are absolute.
+ * </p>
+ */
+
+public final class RunLengthCodec
+{
+  private final IntegerCodecType codec;
+
+  /*
+   * The codec used to store run lengths, or {@code null} if run lengths are
+   * stored as LEB128 integers.
+   */
+
+  private final IntegerCodecType lengths;
+  private final int width;
+  private final int shift;
+  private final int maximumRunLength;
+
+  private RunLengthCodec(
+    final IntegerCodecType inCodec,
+    final IntegerCodecType inLengths)
+  {
+    this.codec = inCodec;
+    this.lengths = inLengths;
+    this.width = inCodec.width();
+    this.shift = 64 - (this.width << 3);
+
+    if (inLengths == null || inLengths.width() == 4) {
+      this.maximumRunLength = Integer.MAX_VALUE;
+    } else {
+      this.maximumRunLength = (1 << (inLengths.width() << 3)) - 1;
+    }
+  }
+
+  /**
+   * Create a codec that stores run lengths as unsigned LEB128 integers.
+   *
+   * @param codec The codec used to store values
+   *
+   * @return A codec
+   */
+
+  public static RunLengthCodec withVarIntLengths(
+    final IntegerCodecType codec)
+  {
+    Objects.requireNonNull(codec, "Codec");
+    return new RunLengthCodec(codec, null);
+  }
+
+  /**
+   * Create a codec that stores run lengths with a fixed-width codec.
+   *
+   * @param codec   The codec used to store values
+   * @param lengths The codec used to store run lengths
+   *
+   * @return A codec
+   *
+   * @throws IllegalArgumentException If {@code lengths} is signed or wider
+   *                                  than four bytes
+   */
+
+  public static RunLengthCodec withFixedLengths(
+    final IntegerCodecType codec,
+    final IntegerCodecType lengths)
+  {
+    Objects.requireNonNull(codec, "Codec");
+    Objects.requireNonNull(lengths, "Lengths");
+    if (lengths.isSigned() || lengths.width() > 4) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Run lengths require an unsigned codec of at most 4 bytes "
+            + "(received %s)",
+          lengths));
+    }
+    return new RunLengthCodec(codec, lengths);
+  }
+
+  /**
+   * @return The codec used to store values
+   */
+
+  public IntegerCodecType codec()
+  {
+    return this.codec;
+  }
+
+  /**
+   * @return {@code true} if run lengths are stored as LEB128 integers
+   */
+
+  public boolean hasVarIntLengths()
+  {
+    return this.lengths == null;
+  }
+
+  /**
+   * @return The size in bytes of each stored run length, or {@code 0} if
+   * run lengths are stored as LEB128 integers
+   */
+
+  public int lengthWidth()
+  {
+    return this.lengths == null ? 0 : this.lengths.width();
+  }
+
+  /**
+   * @return The largest number of values stored in a single run
+   */
+
+  public int maximumRunLength()
+  {
+    return this.maximumRunLength;
+  }
+
+  /**
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param count     The number of values
+   *
+   * @return The number of bytes required to encode the values
+   *
+   * @throws IllegalArgumentException If a value does not fit into the width
+   *                                  of the codec
+   */
+
+  public long encodedLength(
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+
+    long length = 0L;
+    int done = 0;
+    while (done < count) {
+      final int index = srcOffset + done;
+      this.checkEncodable(src[index], index);
+      final int run = this.runAt(src, index, count - done);
+      length += this.width + this.lengthBytes(run);
+      done += run;
+    }
+    return length;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at {@code dstIndex}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a value does
+   * not fit into the width of the codec. In both cases, nothing is written.
+   * </p>
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The buffer
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   */
+
+  public int encode(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Buffer");
+    final long length = this.encodedLength(src, srcOffset, count);
+    Objects.checkFromIndexSize((long) dstIndex, length, (long) dst.limit());
+
+    int index = dstIndex;
+    int done = 0;
+    while (done < count) {
+      final int run = this.runAt(src, srcOffset + done, count - done);
+      this.codec.pack(src[srcOffset + done], dst, index);
+      index += this.width;
+      if (this.lengths == null) {
+        index += VarInts.encodeUnsigned32(run, dst, index);
+      } else {
+        this.lengths.pack(run, dst, index);
+        index += this.lengths.width();
+      }
+      done += run;
+    }
+    return index - dstIndex;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dst[dstOffset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a run is
+   * empty or holds more values than remain.
+   * </p>
+   *
+   * @param src       The buffer
+   * @param srcIndex  The starting index in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   */
+
+  public int decode(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final Runs runs = new Runs(src, srcIndex, count);
+    int done = 0;
+    while (runs.next()) {
+      final int start = dstOffset + done;
+      Arrays.fill(dst, start, start + runs.length(), runs.value());
+      done += runs.length();
+    }
+    return runs.index() - srcIndex;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dst[dstOffset]}.
+   * Only the low 32 bits of each value are stored.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a run is
+   * empty or holds more values than remain.
+   * </p>
+   *
+   * @param src       The buffer
+   * @param srcIndex  The starting index in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   */
+
+  public int decode(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final Runs runs = new Runs(src, srcIndex, count);
+    int done = 0;
+    while (runs.next()) {
+      final int start = dstOffset + done;
+      Arrays.fill(dst, start, start + runs.length(), (int) runs.value());
+      done += runs.length();
+    }
+    return runs.index() - srcIndex;
+  }
+
+  /**
+   * @param src      The buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param count    The number of values
+   *
+   * @return The number of runs that encode {@code count} values
+   *
+   * @throws IllegalArgumentException If a run is empty or holds more values
+   *                                  than remain
+   */
+
+  public int runCount(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int count)
+  {
+    final Runs runs = new Runs(src, srcIndex, count);
+    int result = 0;
+    while (runs.next()) {
+      ++result;
+    }
+    return result;
+  }
+
+  /**
+   * Compute the sum of {@code count} values without expanding them.
+   * Arithmetic wraps on overflow.
+   *
+   * @param src      The buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param count    The number of values
+   *
+   * @return The sum of the values
+   *
+   * @throws IllegalArgumentException If a run is empty or holds more values
+   *                                  than remain
+   */
+
+  public long sum(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int count)
+  {
+    final Runs runs = new Runs(src, srcIndex, count);
+    long result = 0L;
+    while (runs.next()) {
+      result += runs.value() * runs.length();
+    }
+    return result;
+  }
+
+  /**
+   * Compute the smallest of {@code count} values without expanding them.
+   *
+   * @param src      The buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param count    The number of values
+   *
+   * @return The smallest value
+   *
+   * @throws IllegalArgumentException If {@code count < 1}, or if a run is
+   *                                  empty or holds more values than remain
+   */
+
+  public long minimum(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int count)
+  {
+    return this.extreme(src, srcIndex, count, false);
+  }
+
+  /**
+   * Compute the largest of {@code count} values without expanding them.
+   *
+   * @param src      The buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param count    The number of values
+   *
+   * @return The largest value
+   *
+   * @throws IllegalArgumentException If {@code count < 1}, or if a run is
+   *                                  empty or holds more values than remain
+   */
+
+  public long maximum(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int count)
+  {
+    return this.extreme(src, srcIndex, count, true);
+  }
+
+  /**
+   * Count the number of values equal to {@code value} without expanding
+   * them.
+   *
+   * @param src      The buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param count    The number of values
+   * @param value    The value
+   *
+   * @return The number of values equal to {@code value}
+   *
+   * @throws IllegalArgumentException If a run is empty or holds more values
+   *                                  than remain
+   */
+
+  public int count(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int count,
+    final long value)
+  {
+    final Runs runs = new Runs(src, srcIndex, count);
+    int result = 0;
+    while (runs.next()) {
+      if (runs.value() == value) {
+        result += runs.length();
+      }
+    }
+    return result;
+  }
+
+  private long extreme(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int count,
+    final boolean largest)
+  {
+    if (count < 1) {
+      throw new IllegalArgumentException(
+        String.format("Count %d must be positive", Integer.valueOf(count)));
+    }
+
+    final boolean signed = this.codec.isSigned();
+    final Runs runs = new Runs(src, srcIndex, count);
+    long result = 0L;
+    boolean first = true;
+    while (runs.next()) {
+      final long value = runs.value();
+      final int c = signed
+        ? Long.compare(value, result)
+        : Long.compareUnsigned(value, result);
+      if (first || (largest ? c > 0 : c < 0)) {
+        result = value;
+        first = false;
+      }
+    }
+    return result;
+  }
+
+  private int runAt(
+    final long[] src,
+    final int index,
+    final int remaining)
+  {
+    final long value = src[index];
+    final int limit = Math.min(remaining, this.maximumRunLength);
+    int run = 1;
+    while (run < limit && src[index + run] == value) {
+      ++run;
+    }
+    return run;
+  }
+
+  private int lengthBytes(
+    final int run)
+  {
+    return this.lengths == null
+      ? VarInts.encodedLength32(run)
+      : this.lengths.width();
+  }
+
+  private void checkEncodable(
+    final long value,
+    final int index)
+  {
+    final long t = this.codec.isSigned()
+      ? (value << this.shift) >> this.shift
+      : (value << this.shift) >>> this.shift;
+    if (t != value) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Value %d at %d does not fit into %d bytes",
+          Long.valueOf(value),
+          Integer.valueOf(index),
+          Integer.valueOf(this.width)));
+    }
+  }
+
+  /*
+   * A reader over the runs that encode a given number of values.
+   */
+
+  private final class Runs
+  {
+    private final ByteBuffer src;
+    private int index;
+    private int remaining;
+    private long value;
+    private int length;
+
+    Runs(
+      final ByteBuffer inSrc,
+      final int inIndex,
+      final int inCount)
+    {
+      this.src = Objects.requireNonNull(inSrc, "Buffer");
+      this.index = inIndex;
+      this.remaining = inCount;
+    }
+
+    int index()
+    {
+      return this.index;
+    }
+
+    long value()
+    {
+      return this.value;
+    }
+
+    int length()
+    {
+      return this.length;
+    }
+
+    boolean next()
+    {
+      if (this.remaining <= 0) {
+        return false;
+      }
+
+      this.value = RunLengthCodec.this.codec.unpack(this.src, this.index);
+      this.index += RunLengthCodec.this.width;
+
+      final long stored;
+      if (RunLengthCodec.this.lengths == null) {
+        final byte first = this.src.get(this.index);
+        if (first >= 0) {
+          stored = first;
+          ++this.index;
+        } else {
+          final int size = VarInts.decodedLength(this.src, this.index);
+          stored = VarInts.decodeUnsigned64(this.src, this.index);
+          this.index += size;
+        }
+      } else {
+        stored = RunLengthCodec.this.lengths.unpack(this.src, this.index);
+        this.index += RunLengthCodec.this.lengths.width();
+      }
+
+      if (stored < 1L || stored > this.remaining) {
+        throw new IllegalArgumentException(
+          String.format(
+            "Run of length %s ending at %d is invalid when %d values remain",
+            Long.toUnsignedString(stored),
+            Integer.valueOf(this.index),
+            Integer.valueOf(this.remaining)));
+      }
+      this.length = (int) stored;
+      this.remaining -= this.length;
+      return true;
+    }
+  }
+}
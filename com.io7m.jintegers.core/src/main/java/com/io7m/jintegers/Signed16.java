@@ -16,6 +16,8 @@
 
 package com.io7m.jintegers;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Objects;
@@ -26,6 +28,23 @@ import java.util.Objects;
 
 public final class Signed16
 {
+  private static final VarHandle BYTES_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
   private Signed16()
   {
 
@@ -71,9 +90,36 @@ public final class Signed16
         "Buffer.length must be >= 2 (is " + r.length + ")");
     }
 
-    final short x = (short) i;
-    r[0] = (byte) (x >> 8);
-    r[1] = (byte) (x & 0xff);
+    BYTES_BE.set(r, 0, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 2 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, r.length);
+
+    BYTES_BE.set(r, offset, (short) i);
     return r;
   }
 
@@ -145,9 +191,37 @@ public final class Signed16
         "Buffer.length must be >= 2 (is " + r.length + ")");
     }
 
-    final short x = (short) i;
-    r[0] = (byte) (x & 0xff);
-    r[1] = (byte) (x >> 8);
+    BYTES_LE.set(r, 0, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 2 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, r.length);
+
+    BYTES_LE.set(r, offset, (short) i);
     return r;
   }
 
@@ -198,10 +272,7 @@ public final class Signed16
   {
     Objects.requireNonNull(r, "Buffer");
 
-    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return packToBufferBigEndian(i, r, index);
-    }
-    return packToBufferLittleEndian(i, r, index);
+    return r.putShort(index, (short) i);
   }
 
   /**
@@ -229,10 +300,33 @@ public final class Signed16
         "Buffer.length must be >= 2 (is " + buffer.length + ")");
     }
 
-    short r = 0;
-    r |= buffer[0] << 8;
-    r |= buffer[1] & 0xff;
-    return r;
+    return (short) BYTES_BE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 2 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 16 bit integer value
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, buffer.length);
+
+    return (short) BYTES_BE.get(buffer, offset);
   }
 
   /**
@@ -277,10 +371,7 @@ public final class Signed16
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return unpackFromBufferBigEndian(buffer, index);
-    }
-    return unpackFromBufferLittleEndian(buffer, index);
+    return buffer.getShort(index);
   }
 
   /**
@@ -308,10 +399,33 @@ public final class Signed16
         "Buffer.length must be >= 2 (is " + buffer.length + ")");
     }
 
-    short r = 0;
-    r |= buffer[0] & 0xff;
-    r |= buffer[1] << 8;
-    return r;
+    return (short) BYTES_LE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 2 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 16 bit integer value
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, buffer.length);
+
+    return (short) BYTES_LE.get(buffer, offset);
   }
 
   /**
@@ -338,4 +452,365 @@ public final class Signed16
     r |= buffer.get(index + 1) << 8;
     return r;
   }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a big-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 2);
+
+    int index = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      final int x = src[srcOffset + k];
+      BUFFER_BE.set(dst, index, (short) x);
+      index += 2;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 2);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    int index = srcIndex;
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = (short) BUFFER_BE.get(src, index);
+      index += 2;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a little-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 2);
+
+    int index = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      final int x = src[srcOffset + k];
+      BUFFER_LE.set(dst, index, (short) x);
+      index += 2;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 2);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    int index = srcIndex;
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = (short) BUFFER_LE.get(src, index);
+      index += 2;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} starting at {@code offset}
+   * big-endian with the sign bit inverted, so that encoded values compare
+   * as unsigned bytes in numeric order.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 2 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesSortable(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, r.length);
+
+    BYTES_BE.set(r, offset, (short) (i ^ 0x8000));
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} starting at {@code index}
+   * using the encoding of {@link #packToBytesSortable(int, byte[], int)}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferSortable(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    return packToBufferBigEndian(i ^ 0x8000, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code offset},
+   * assuming the encoding of {@link #packToBytesSortable(int, byte[], int)}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 2 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 16 bit integer value
+   */
+
+  public static int unpackFromBytesSortable(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, buffer.length);
+
+    return (short) ((short) BYTES_BE.get(buffer, offset) ^ 0x8000);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code index},
+   * assuming the encoding of {@link #packToBytesSortable(int, byte[], int)}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 16 bit integer value.
+   */
+
+  public static int unpackFromBufferSortable(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return (short) (unpackFromBufferBigEndian(buffer, index) ^ 0x8000);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} starting at {@code offset}
+   * big-endian with every bit except the sign bit inverted, so that encoded
+   * values compare as unsigned bytes in reverse numeric order.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 2 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesSortableDescending(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, r.length);
+
+    BYTES_BE.set(r, offset, (short) (i ^ 0x7fff));
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} starting at {@code index}
+   * using the encoding of
+   * {@link #packToBytesSortableDescending(int, byte[], int)}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferSortableDescending(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    return packToBufferBigEndian(i ^ 0x7fff, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code offset},
+   * assuming the encoding of
+   * {@link #packToBytesSortableDescending(int, byte[], int)}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 2 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 16 bit integer value
+   */
+
+  public static int unpackFromBytesSortableDescending(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, buffer.length);
+
+    return (short) ((short) BYTES_BE.get(buffer, offset) ^ 0x7fff);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code index},
+   * assuming the encoding of
+   * {@link #packToBytesSortableDescending(int, byte[], int)}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 16 bit integer value.
+   */
+
+  public static int unpackFromBufferSortableDescending(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return (short) (unpackFromBufferBigEndian(buffer, index) ^ 0x7fff);
+  }
 }
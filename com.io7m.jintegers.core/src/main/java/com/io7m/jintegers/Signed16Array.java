@@ -0,0 +1,208 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An off-heap array of signed 16-bit integers, each occupying 2 bytes.
+ * </p>
+ * <p>
+ * Values are converted to and from the stored representation with the
+ * same functions as {@link Signed16}.
+ * </p>
+ *
+ * @see AbstractPackedArray
+ */
+
+public final class Signed16Array extends AbstractPackedArray
+{
+  private Signed16Array(
+    final BufferChunks inStorage,
+    final ByteOrder inOrder)
+  {
+    super(inStorage, inOrder);
+  }
+
+  /**
+   * Allocate an array of {@code size} elements, initially zero.
+   *
+   * @param size  The number of elements
+   * @param order The byte order of the stored values
+   *
+   * @return A new array
+   */
+
+  public static Signed16Array allocate(
+    final long size,
+    final ByteOrder order)
+  {
+    return allocate(size, order, BufferChunks.MAXIMUM_CHUNK_BYTES);
+  }
+
+  /**
+   * Allocate an array of {@code size} elements, initially zero, stored in
+   * chunks of at most {@code chunkBytes} bytes.
+   *
+   * @param size       The number of elements
+   * @param order      The byte order of the stored values
+   * @param chunkBytes The maximum size in bytes of a single chunk
+   *
+   * @return A new array
+   */
+
+  public static Signed16Array allocate(
+    final long size,
+    final ByteOrder order,
+    final int chunkBytes)
+  {
+    Objects.requireNonNull(order, "Order");
+    return new Signed16Array(
+      BufferChunks.allocateDirect(
+        IntegerCodecs.of(2, true, order), size, chunkBytes),
+      order);
+  }
+
+  /**
+   * @param index The element index
+   *
+   * @return The value at {@code index}
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of range
+   */
+
+  public int get(
+    final long index)
+  {
+    return this.getInt(index);
+  }
+
+  /**
+   * Set the value at {@code index}.
+   *
+   * @param index The element index
+   * @param value The value
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of range
+   */
+
+  public void set(
+    final long index,
+    final int value)
+  {
+    this.setInt(index, value);
+  }
+
+  /**
+   * Set every element to {@code value}.
+   *
+   * @param value The value
+   */
+
+  public void fill(
+    final int value)
+  {
+    this.fill(0L, this.size(), value);
+  }
+
+  /**
+   * Set every element in {@code [from, to)} to {@code value}.
+   *
+   * @param from  The first element index (inclusive)
+   * @param to    The last element index (exclusive)
+   * @param value The value
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public void fill(
+    final long from,
+    final long to,
+    final int value)
+  {
+    this.fillInt(from, to, value);
+  }
+
+  /**
+   * Copy {@code count} elements starting at {@code srcIndex} to
+   * {@code dst} starting at {@code dstIndex}. The arrays may be the same
+   * array, and the ranges may overlap. If the arrays have the same byte order,
+   * the copy is a plain memory copy.
+   *
+   * @param srcIndex The index of the first source element
+   * @param dst      The destination array
+   * @param dstIndex The index of the first destination element
+   * @param count    The number of elements
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void copyTo(
+    final long srcIndex,
+    final Signed16Array dst,
+    final long dstIndex,
+    final long count)
+  {
+    this.copyElements(srcIndex, dst, dstIndex, count);
+  }
+
+  /**
+   * Read {@code count} elements starting at {@code index} into
+   * {@code dst}.
+   *
+   * @param index     The index of the first element
+   * @param dst       The destination array
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of elements
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public int[] getArray(
+    final long index,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    return this.getInts(index, dst, dstOffset, count);
+  }
+
+  /**
+   * Write {@code count} elements from {@code src} starting at
+   * {@code index}.
+   *
+   * @param index     The index of the first element
+   * @param src       The source array
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param count     The number of elements
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void setArray(
+    final long index,
+    final int[] src,
+    final int srcOffset,
+    final int count)
+  {
+    this.setInts(index, src, srcOffset, count);
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.io7m.jintegers;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Objects;
@@ -26,6 +28,18 @@ import java.util.Objects;
 
 public final class Signed24
 {
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * The scale factor that maps the range of a signed 24-bit integer onto
+   * {@code [-1, 1)}.
+   */
+
+  private static final float NORMALIZE = 1.0f / 8388608.0f;
+
   private Signed24()
   {
 
@@ -77,6 +91,37 @@ public final class Signed24
     return r;
   }
 
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 3 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, r.length);
+
+    r[offset] = (byte) (i >> 16);
+    r[offset + 1] = (byte) (i >> 8);
+    r[offset + 2] = (byte) (i & 0xff);
+    return r;
+  }
+
   /**
    * <p>
    * Pack {@code i} into a byte buffer {@code r} using a big-endian
@@ -151,6 +196,38 @@ public final class Signed24
     return r;
   }
 
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 3 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, r.length);
+
+    r[offset] = (byte) (i & 0xff);
+    r[offset + 1] = (byte) (i >> 8);
+    r[offset + 2] = (byte) (i >> 16);
+    return r;
+  }
+
   /**
    * <p>
    * Pack {@code i} into a byte buffer {@code r} using a
@@ -236,6 +313,35 @@ public final class Signed24
     return r0 | r1 | r2;
   }
 
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 3 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 24 bit integer value
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, buffer.length);
+
+    final int r0 = (buffer[offset] << 16);
+    final int r1 = (buffer[offset + 1] & 0xff) << 8;
+    final int r2 = (buffer[offset + 2] & 0xff);
+    return r0 | r1 | r2;
+  }
+
   /**
    * <p>
    * Unpack an integer from {@code buffer} assuming a big-endian encoding
@@ -316,6 +422,35 @@ public final class Signed24
     return r0 | r1 | r2;
   }
 
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 3 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 24 bit integer value
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, buffer.length);
+
+    final int r0 = (buffer[offset] & 0xff);
+    final int r1 = (buffer[offset + 1] & 0xff) << 8;
+    final int r2 = buffer[offset + 2] << 16;
+    return r0 | r1 | r2;
+  }
+
   /**
    * <p>
    * Unpack an integer from {@code buffer} assuming a little-endian
@@ -340,4 +475,731 @@ public final class Signed24
     final int r2 = buffer.get(index + 2) << 16;
     return r0 | r1 | r2;
   }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a big-endian encoding. The ranges are checked
+   * once, up front, and values are encoded in groups of four using three
+   * 32-bit stores per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 3);
+
+    final int groups = count >>> 2;
+    int index = dstIndex;
+    int offset = srcOffset;
+    for (int g = 0; g < groups; ++g) {
+      storeGroupBigEndian(
+        dst,
+        index,
+        src[offset],
+        src[offset + 1],
+        src[offset + 2],
+        src[offset + 3]
+      );
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      packToBufferBigEndian(src[offset], dst, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front, and values are decoded in groups of four using three 32-bit
+   * loads per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 3);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int groups = count >>> 2;
+    int index = srcIndex;
+    int offset = dstOffset;
+    for (int g = 0; g < groups; ++g) {
+      final int i0 = (int) BUFFER_BE.get(src, index);
+      final int i1 = (int) BUFFER_BE.get(src, index + 4);
+      final int i2 = (int) BUFFER_BE.get(src, index + 8);
+      dst[offset] = i0 >> 8;
+      dst[offset + 1] = ((i0 << 24) >> 8) | (i1 >>> 16);
+      dst[offset + 2] = ((i1 << 16) >> 8) | (i2 >>> 24);
+      dst[offset + 3] = (i2 << 8) >> 8;
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      dst[offset] = unpackFromBufferBigEndian(src, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a little-endian encoding. The ranges are checked
+   * once, up front, and values are encoded in groups of four using three
+   * 32-bit stores per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 3);
+
+    final int groups = count >>> 2;
+    int index = dstIndex;
+    int offset = srcOffset;
+    for (int g = 0; g < groups; ++g) {
+      storeGroupLittleEndian(
+        dst,
+        index,
+        src[offset],
+        src[offset + 1],
+        src[offset + 2],
+        src[offset + 3]
+      );
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      packToBufferLittleEndian(src[offset], dst, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front, and values are decoded in groups of four using three 32-bit
+   * loads per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 3);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int groups = count >>> 2;
+    int index = srcIndex;
+    int offset = dstOffset;
+    for (int g = 0; g < groups; ++g) {
+      final int i0 = (int) BUFFER_LE.get(src, index);
+      final int i1 = (int) BUFFER_LE.get(src, index + 4);
+      final int i2 = (int) BUFFER_LE.get(src, index + 8);
+      dst[offset] = (i0 << 8) >> 8;
+      dst[offset + 1] = (i0 >>> 24) | ((i1 << 16) >> 8);
+      dst[offset + 2] = (i1 >>> 16) | ((i2 << 24) >> 8);
+      dst[offset + 3] = i2 >> 8;
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      dst[offset] = unpackFromBufferLittleEndian(src, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. Each value is normalized to the
+   * range {@code [-1, 1)} by dividing it by {@code 2^23}. Values are
+   * decoded in groups of four using three 32-bit loads per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static float[] unpackArrayNormalizedBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final float[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 3);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int groups = count >>> 2;
+    int index = srcIndex;
+    int offset = dstOffset;
+    for (int g = 0; g < groups; ++g) {
+      final int i0 = (int) BUFFER_BE.get(src, index);
+      final int i1 = (int) BUFFER_BE.get(src, index + 4);
+      final int i2 = (int) BUFFER_BE.get(src, index + 8);
+      dst[offset] = (i0 >> 8) * NORMALIZE;
+      dst[offset + 1] = (((i0 << 24) >> 8) | (i1 >>> 16)) * NORMALIZE;
+      dst[offset + 2] = (((i1 << 16) >> 8) | (i2 >>> 24)) * NORMALIZE;
+      dst[offset + 3] = ((i2 << 8) >> 8) * NORMALIZE;
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      dst[offset] = unpackFromBufferBigEndian(src, index) * NORMALIZE;
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} normalized values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a big-endian encoding. Each value is
+   * multiplied by {@code 2^23}, rounded, and clamped to the range of a
+   * signed 24-bit integer. Values are encoded in groups of four using three
+   * 32-bit stores per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayNormalizedBigEndian(
+    final float[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 3);
+
+    final int groups = count >>> 2;
+    int index = dstIndex;
+    int offset = srcOffset;
+    for (int g = 0; g < groups; ++g) {
+      storeGroupBigEndian(
+        dst,
+        index,
+        quantize(src[offset]),
+        quantize(src[offset + 1]),
+        quantize(src[offset + 2]),
+        quantize(src[offset + 3])
+      );
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      packToBufferBigEndian(quantize(src[offset]), dst, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code frames} frames of interleaved samples from {@code src},
+   * starting at {@code srcIndex} assuming a big-endian encoding. Each
+   * frame holds one sample per channel, and the number of channels is
+   * {@code dst.length}. The samples of channel {@code c} are normalized
+   * as per {@link #unpackArrayNormalizedBigEndian} and written to
+   * {@code dst[c]} starting at {@code dstOffset}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if any range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The per-channel arrays that will receive the samples.
+   * @param dstOffset The offset of the first sample in each channel array.
+   * @param frames    The number of frames.
+   *
+   * @return {@code dst}
+   */
+
+  public static float[][] unpackInterleavedNormalizedBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final float[][] dst,
+    final int dstOffset,
+    final int frames)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    final int channels = dst.length;
+    for (int c = 0; c < channels; ++c) {
+      Objects.requireNonNull(dst[c], "Destination");
+      Ranges.checkArrayRange(dstOffset, frames, dst[c].length);
+    }
+    final int samples = Math.multiplyExact(frames, channels);
+    Ranges.checkBufferRange(src, srcIndex, samples, 3);
+
+    final int wideLimit = src.limit() - 4;
+    int index = srcIndex;
+    for (int f = dstOffset; f < dstOffset + frames; ++f) {
+      for (int c = 0; c < channels; ++c) {
+        final int x;
+        if (index <= wideLimit) {
+          x = (int) BUFFER_BE.get(src, index) >> 8;
+        } else {
+          x = unpackFromBufferBigEndian(src, index);
+        }
+        dst[c][f] = x * NORMALIZE;
+        index += 3;
+      }
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code frames} frames of samples from {@code src} into
+   * {@code dst} as interleaved samples starting at {@code dstIndex},
+   * using a big-endian encoding. The number of channels is
+   * {@code src.length}, and the samples of channel {@code c} are read
+   * from {@code src[c]} starting at {@code srcOffset}. Samples are
+   * quantized as per {@link #packArrayNormalizedBigEndian}. No bytes outside
+   * of the target range are modified.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if any range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The per-channel arrays of samples.
+   * @param srcOffset The offset of the first sample in each channel array.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param frames    The number of frames.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packInterleavedNormalizedBigEndian(
+    final float[][] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int frames)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    final int channels = src.length;
+    for (int c = 0; c < channels; ++c) {
+      Objects.requireNonNull(src[c], "Source");
+      Ranges.checkArrayRange(srcOffset, frames, src[c].length);
+    }
+    final int samples = Math.multiplyExact(frames, channels);
+    Ranges.checkBufferRange(dst, dstIndex, samples, 3);
+
+    /*
+     * Each sample is written with a 32-bit store, the last byte of which
+     * is overwritten by the following sample. The final sample is written
+     * bytewise so that the byte following the range is left untouched.
+     */
+
+    final int wideLimit = dstIndex + (samples * 3) - 4;
+    int index = dstIndex;
+    for (int f = srcOffset; f < srcOffset + frames; ++f) {
+      for (int c = 0; c < channels; ++c) {
+        final int x = quantize(src[c][f]);
+        if (index <= wideLimit) {
+          BUFFER_BE.set(dst, index, x << 8);
+        } else {
+          packToBufferBigEndian(x, dst, index);
+        }
+        index += 3;
+      }
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. Each value is normalized to the
+   * range {@code [-1, 1)} by dividing it by {@code 2^23}. Values are
+   * decoded in groups of four using three 32-bit loads per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static float[] unpackArrayNormalizedLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final float[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 3);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int groups = count >>> 2;
+    int index = srcIndex;
+    int offset = dstOffset;
+    for (int g = 0; g < groups; ++g) {
+      final int i0 = (int) BUFFER_LE.get(src, index);
+      final int i1 = (int) BUFFER_LE.get(src, index + 4);
+      final int i2 = (int) BUFFER_LE.get(src, index + 8);
+      dst[offset] = ((i0 << 8) >> 8) * NORMALIZE;
+      dst[offset + 1] = ((i0 >>> 24) | ((i1 << 16) >> 8)) * NORMALIZE;
+      dst[offset + 2] = ((i1 >>> 16) | ((i2 << 24) >> 8)) * NORMALIZE;
+      dst[offset + 3] = (i2 >> 8) * NORMALIZE;
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      dst[offset] = unpackFromBufferLittleEndian(src, index) * NORMALIZE;
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} normalized values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a little-endian encoding. Each value is
+   * multiplied by {@code 2^23}, rounded, and clamped to the range of a
+   * signed 24-bit integer. Values are encoded in groups of four using three
+   * 32-bit stores per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayNormalizedLittleEndian(
+    final float[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 3);
+
+    final int groups = count >>> 2;
+    int index = dstIndex;
+    int offset = srcOffset;
+    for (int g = 0; g < groups; ++g) {
+      storeGroupLittleEndian(
+        dst,
+        index,
+        quantize(src[offset]),
+        quantize(src[offset + 1]),
+        quantize(src[offset + 2]),
+        quantize(src[offset + 3])
+      );
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      packToBufferLittleEndian(quantize(src[offset]), dst, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code frames} frames of interleaved samples from {@code src},
+   * starting at {@code srcIndex} assuming a little-endian encoding. Each
+   * frame holds one sample per channel, and the number of channels is
+   * {@code dst.length}. The samples of channel {@code c} are normalized
+   * as per {@link #unpackArrayNormalizedLittleEndian} and written to
+   * {@code dst[c]} starting at {@code dstOffset}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if any range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The per-channel arrays that will receive the samples.
+   * @param dstOffset The offset of the first sample in each channel array.
+   * @param frames    The number of frames.
+   *
+   * @return {@code dst}
+   */
+
+  public static float[][] unpackInterleavedNormalizedLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final float[][] dst,
+    final int dstOffset,
+    final int frames)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    final int channels = dst.length;
+    for (int c = 0; c < channels; ++c) {
+      Objects.requireNonNull(dst[c], "Destination");
+      Ranges.checkArrayRange(dstOffset, frames, dst[c].length);
+    }
+    final int samples = Math.multiplyExact(frames, channels);
+    Ranges.checkBufferRange(src, srcIndex, samples, 3);
+
+    final int wideLimit = src.limit() - 4;
+    int index = srcIndex;
+    for (int f = dstOffset; f < dstOffset + frames; ++f) {
+      for (int c = 0; c < channels; ++c) {
+        final int x;
+        if (index <= wideLimit) {
+          x = ((int) BUFFER_LE.get(src, index) << 8) >> 8;
+        } else {
+          x = unpackFromBufferLittleEndian(src, index);
+        }
+        dst[c][f] = x * NORMALIZE;
+        index += 3;
+      }
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code frames} frames of samples from {@code src} into
+   * {@code dst} as interleaved samples starting at {@code dstIndex},
+   * using a little-endian encoding. The number of channels is
+   * {@code src.length}, and the samples of channel {@code c} are read
+   * from {@code src[c]} starting at {@code srcOffset}. Samples are
+   * quantized as per {@link #packArrayNormalizedLittleEndian}. No bytes outside
+   * of the target range are modified.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if any range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The per-channel arrays of samples.
+   * @param srcOffset The offset of the first sample in each channel array.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param frames    The number of frames.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packInterleavedNormalizedLittleEndian(
+    final float[][] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int frames)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    final int channels = src.length;
+    for (int c = 0; c < channels; ++c) {
+      Objects.requireNonNull(src[c], "Source");
+      Ranges.checkArrayRange(srcOffset, frames, src[c].length);
+    }
+    final int samples = Math.multiplyExact(frames, channels);
+    Ranges.checkBufferRange(dst, dstIndex, samples, 3);
+
+    /*
+     * Each sample is written with a 32-bit store, the last byte of which
+     * is overwritten by the following sample. The final sample is written
+     * bytewise so that the byte following the range is left untouched.
+     */
+
+    final int wideLimit = dstIndex + (samples * 3) - 4;
+    int index = dstIndex;
+    for (int f = srcOffset; f < srcOffset + frames; ++f) {
+      for (int c = 0; c < channels; ++c) {
+        final int x = quantize(src[c][f]);
+        if (index <= wideLimit) {
+          BUFFER_LE.set(dst, index, x);
+        } else {
+          packToBufferLittleEndian(x, dst, index);
+        }
+        index += 3;
+      }
+    }
+    return dst;
+  }
+
+  private static int quantize(
+    final float x)
+  {
+    final int q = Math.round(x * 8388608.0f);
+    return Math.max(-8388608, Math.min(8388607, q));
+  }
+
+  private static void storeGroupBigEndian(
+    final ByteBuffer dst,
+    final int index,
+    final int s0,
+    final int s1,
+    final int s2,
+    final int s3)
+  {
+    BUFFER_BE.set(dst, index, (s0 << 8) | ((s1 >> 16) & 0xff));
+    BUFFER_BE.set(dst, index + 4, (s1 << 16) | ((s2 >> 8) & 0xffff));
+    BUFFER_BE.set(dst, index + 8, (s2 << 24) | (s3 & 0xffffff));
+  }
+
+  private static void storeGroupLittleEndian(
+    final ByteBuffer dst,
+    final int index,
+    final int s0,
+    final int s1,
+    final int s2,
+    final int s3)
+  {
+    BUFFER_LE.set(dst, index, (s0 & 0xffffff) | (s1 << 24));
+    BUFFER_LE.set(dst, index + 4, ((s1 >> 8) & 0xffff) | (s2 << 16));
+    BUFFER_LE.set(dst, index + 8, ((s2 >> 16) & 0xff) | (s3 << 8));
+  }
 }
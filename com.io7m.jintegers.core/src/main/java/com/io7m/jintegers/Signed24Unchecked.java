@@ -0,0 +1,306 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Unchecked 24-bit integer packing/unpacking functions.
+ * </p>
+ * <p>
+ * These functions are intended for code that has already validated its
+ * input, such as decoders that check the length of a frame before reading
+ * the fields inside it. Unlike the functions in {@link Signed24}, they do not
+ * check their arguments for {@code null} and they perform a single range
+ * check covering all 3 bytes of a value, rather than a check per byte.
+ * Passing {@code null} still results in a {@link NullPointerException},
+ * and out-of-range indices still result in an
+ * {@link IndexOutOfBoundsException}; the functions never read or write
+ * outside of the given array or buffer.
+ * </p>
+ * <p>
+ * Byte buffer functions always use the byte order given in their name, and
+ * ignore {@link ByteBuffer#order()}. Indices are absolute, and the
+ * position of the buffer is neither consulted nor modified.
+ * </p>
+ */
+
+public final class Signed24Unchecked
+{
+  private static final VarHandle BYTES_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle SHORT_BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle SHORT_BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private Signed24Unchecked()
+  {
+
+  }
+
+  /**
+   * Pack {@code i} into {@code r} using a big-endian encoding such that the
+   * most significant byte is in {@code r[offset]}.
+   *
+   * @param i      The value to be packed.
+   * @param r      The destination array.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 3, r.length);
+    r[offset] = (byte) (i >> 16);
+    r[offset + 1] = (byte) (i >> 8);
+    r[offset + 2] = (byte) i;
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * If at least four bytes are available at {@code offset}, the value is
+   * decoded with a single 32-bit load.
+   * </p>
+   *
+   * @param buffer The array from which to unpack data.
+   * @param offset The starting offset.
+   *
+   * @return A 24 bit integer value
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 3, buffer.length);
+    if (buffer.length - offset >= 4) {
+      return ((int) BYTES_BE.get(buffer, offset)) >> 8;
+    }
+
+    final int r0 = buffer[offset] << 16;
+    final int r1 = (buffer[offset + 1] & 0xff) << 8;
+    final int r2 = buffer[offset + 2] & 0xff;
+    return r0 | r1 | r2;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into {@code r} using a big-endian encoding such that the
+   * most significant byte is at {@code index}.
+   * </p>
+   * <p>
+   * The value is written with a single 16-bit store followed by a single
+   * byte store.
+   * </p>
+   *
+   * @param i     The value to be packed.
+   * @param r     The buffer.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferBigEndian(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.checkFromIndexSize(index, 3, r.limit());
+    SHORT_BUFFER_BE.set(r, index, (short) (i >> 8));
+    r.put(index + 2, (byte) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is at {@code index}.
+   * </p>
+   * <p>
+   * If at least four bytes are available at {@code index}, the value is
+   * decoded with a single 32-bit load.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param index  The starting index.
+   *
+   * @return A 24 bit integer value
+   */
+
+  public static int unpackFromBufferBigEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    final int limit = buffer.limit();
+    Objects.checkFromIndexSize(index, 3, limit);
+    if (limit - index >= 4) {
+      return ((int) BUFFER_BE.get(buffer, index)) >> 8;
+    }
+
+    final int r0 = buffer.get(index) << 16;
+    final int r1 = (buffer.get(index + 1) & 0xff) << 8;
+    final int r2 = buffer.get(index + 2) & 0xff;
+    return r0 | r1 | r2;
+  }
+
+  /**
+   * Pack {@code i} into {@code r} using a little-endian encoding such that
+   * the least significant byte is in {@code r[offset]}.
+   *
+   * @param i      The value to be packed.
+   * @param r      The destination array.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 3, r.length);
+    r[offset] = (byte) i;
+    r[offset + 1] = (byte) (i >> 8);
+    r[offset + 2] = (byte) (i >> 16);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * If at least four bytes are available at {@code offset}, the value is
+   * decoded with a single 32-bit load.
+   * </p>
+   *
+   * @param buffer The array from which to unpack data.
+   * @param offset The starting offset.
+   *
+   * @return A 24 bit integer value
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 3, buffer.length);
+    if (buffer.length - offset >= 4) {
+      return ((int) BYTES_LE.get(buffer, offset)) << 8 >> 8;
+    }
+
+    final int r0 = buffer[offset] & 0xff;
+    final int r1 = (buffer[offset + 1] & 0xff) << 8;
+    final int r2 = buffer[offset + 2] << 16;
+    return r0 | r1 | r2;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into {@code r} using a little-endian encoding such that
+   * the least significant byte is at {@code index}.
+   * </p>
+   * <p>
+   * The value is written with a single 16-bit store followed by a single
+   * byte store.
+   * </p>
+   *
+   * @param i     The value to be packed.
+   * @param r     The buffer.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferLittleEndian(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.checkFromIndexSize(index, 3, r.limit());
+    SHORT_BUFFER_LE.set(r, index, (short) i);
+    r.put(index + 2, (byte) (i >> 16));
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is at {@code index}.
+   * </p>
+   * <p>
+   * If at least four bytes are available at {@code index}, the value is
+   * decoded with a single 32-bit load.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param index  The starting index.
+   *
+   * @return A 24 bit integer value
+   */
+
+  public static int unpackFromBufferLittleEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    final int limit = buffer.limit();
+    Objects.checkFromIndexSize(index, 3, limit);
+    if (limit - index >= 4) {
+      return ((int) BUFFER_LE.get(buffer, index)) << 8 >> 8;
+    }
+
+    final int r0 = buffer.get(index) & 0xff;
+    final int r1 = (buffer.get(index + 1) & 0xff) << 8;
+    final int r2 = buffer.get(index + 2) << 16;
+    return r0 | r1 | r2;
+  }
+}
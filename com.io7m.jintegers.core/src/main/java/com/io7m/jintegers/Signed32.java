@@ -16,6 +16,8 @@
 
 package com.io7m.jintegers;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Objects;
@@ -26,6 +28,11 @@ import java.util.Objects;
 
 public final class Signed32
 {
+  private static final VarHandle BYTES_BE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
   private Signed32()
   {
 
@@ -71,14 +78,36 @@ public final class Signed32
         "Buffer.length must be >= 4 (is " + r.length + ")");
     }
 
-    int x = i;
-    r[3] = (byte) (x & 0xff);
-    x >>= 8;
-    r[2] = (byte) (x & 0xff);
-    x >>= 8;
-    r[1] = (byte) (x & 0xff);
-    x >>= 8;
-    r[0] = (byte) (x & 0xff);
+    BYTES_BE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 4 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, r.length);
+
+    BYTES_BE.set(r, offset, i);
     return r;
   }
 
@@ -155,14 +184,37 @@ public final class Signed32
         "Buffer.length must be >= 4 (is " + r.length + ")");
     }
 
-    int x = i;
-    r[0] = (byte) (x & 0xff);
-    x >>= 8;
-    r[1] = (byte) (x & 0xff);
-    x >>= 8;
-    r[2] = (byte) (x & 0xff);
-    x >>= 8;
-    r[3] = (byte) (x & 0xff);
+    BYTES_LE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 4 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, r.length);
+
+    BYTES_LE.set(r, offset, i);
     return r;
   }
 
@@ -218,10 +270,7 @@ public final class Signed32
   {
     Objects.requireNonNull(r, "Buffer");
 
-    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return packToBufferBigEndian(i, r, index);
-    }
-    return packToBufferLittleEndian(i, r, index);
+    return r.putInt(index, i);
   }
 
   /**
@@ -250,15 +299,33 @@ public final class Signed32
         "Buffer.length must be >= 4 (is " + buffer.length + ")");
     }
 
-    int r = 0;
-    r |= buffer[0] & 0xFF;
-    r <<= 8;
-    r |= buffer[1] & 0xFF;
-    r <<= 8;
-    r |= buffer[2] & 0xFF;
-    r <<= 8;
-    r |= buffer[3] & 0xFF;
-    return r;
+    return (int) BYTES_BE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 4 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 32 bit integer value
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, buffer.length);
+
+    return (int) BYTES_BE.get(buffer, offset);
   }
 
   /**
@@ -307,10 +374,7 @@ public final class Signed32
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return unpackFromBufferBigEndian(buffer, index);
-    }
-    return unpackFromBufferLittleEndian(buffer, index);
+    return buffer.getInt(index);
   }
 
   /**
@@ -339,15 +403,33 @@ public final class Signed32
         "Buffer.length must be >= 4 (is " + buffer.length + ")");
     }
 
-    int r = 0;
-    r |= buffer[3] & 0xFF;
-    r <<= 8;
-    r |= buffer[2] & 0xFF;
-    r <<= 8;
-    r |= buffer[1] & 0xFF;
-    r <<= 8;
-    r |= buffer[0] & 0xFF;
-    return r;
+    return (int) BYTES_LE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 4 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 32 bit integer value
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, buffer.length);
+
+    return (int) BYTES_LE.get(buffer, offset);
   }
 
   /**
@@ -378,4 +460,359 @@ public final class Signed32
     r += (buffer.get(index + 0) & 0xff);
     return r;
   }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a big-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 4);
+
+    dst.slice(dstIndex, count * 4)
+      .order(ByteOrder.BIG_ENDIAN)
+      .asIntBuffer()
+      .put(src, srcOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 4);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    src.slice(srcIndex, count * 4)
+      .order(ByteOrder.BIG_ENDIAN)
+      .asIntBuffer()
+      .get(dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a little-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 4);
+
+    dst.slice(dstIndex, count * 4)
+      .order(ByteOrder.LITTLE_ENDIAN)
+      .asIntBuffer()
+      .put(src, srcOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 4);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    src.slice(srcIndex, count * 4)
+      .order(ByteOrder.LITTLE_ENDIAN)
+      .asIntBuffer()
+      .get(dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} starting at {@code offset}
+   * big-endian with the sign bit inverted, so that encoded values compare
+   * as unsigned bytes in numeric order.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 4 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesSortable(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, r.length);
+
+    BYTES_BE.set(r, offset, i ^ Integer.MIN_VALUE);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} starting at {@code index}
+   * using the encoding of {@link #packToBytesSortable(int, byte[], int)}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferSortable(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    return packToBufferBigEndian(i ^ Integer.MIN_VALUE, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code offset},
+   * assuming the encoding of {@link #packToBytesSortable(int, byte[], int)}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 4 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 32 bit integer value
+   */
+
+  public static int unpackFromBytesSortable(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, buffer.length);
+
+    return (int) BYTES_BE.get(buffer, offset) ^ Integer.MIN_VALUE;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code index},
+   * assuming the encoding of {@link #packToBytesSortable(int, byte[], int)}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 32 bit integer value.
+   */
+
+  public static int unpackFromBufferSortable(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return unpackFromBufferBigEndian(buffer, index) ^ Integer.MIN_VALUE;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} starting at {@code offset}
+   * big-endian with every bit except the sign bit inverted, so that encoded
+   * values compare as unsigned bytes in reverse numeric order.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 4 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesSortableDescending(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, r.length);
+
+    BYTES_BE.set(r, offset, i ^ Integer.MAX_VALUE);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} starting at {@code index}
+   * using the encoding of
+   * {@link #packToBytesSortableDescending(int, byte[], int)}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferSortableDescending(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    return packToBufferBigEndian(i ^ Integer.MAX_VALUE, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code offset},
+   * assuming the encoding of
+   * {@link #packToBytesSortableDescending(int, byte[], int)}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 4 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 32 bit integer value
+   */
+
+  public static int unpackFromBytesSortableDescending(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, buffer.length);
+
+    return (int) BYTES_BE.get(buffer, offset) ^ Integer.MAX_VALUE;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code index},
+   * assuming the encoding of
+   * {@link #packToBytesSortableDescending(int, byte[], int)}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 32 bit integer value.
+   */
+
+  public static int unpackFromBufferSortableDescending(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return unpackFromBufferBigEndian(buffer, index) ^ Integer.MAX_VALUE;
+  }
 }
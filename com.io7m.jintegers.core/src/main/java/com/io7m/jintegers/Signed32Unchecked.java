@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>
+ * Unchecked 32-bit integer packing/unpacking functions.
+ * </p>
+ * <p>
+ * These functions are intended for code that has already validated its
+ * input, such as decoders that check the length of a frame before reading
+ * the fields inside it. Unlike the functions in {@link Signed32}, they do not
+ * check their arguments for {@code null} and they perform a single range
+ * check covering all 4 bytes of a value, rather than a check per byte.
+ * Passing {@code null} still results in a {@link NullPointerException},
+ * and out-of-range indices still result in an
+ * {@link IndexOutOfBoundsException}; the functions never read or write
+ * outside of the given array or buffer.
+ * </p>
+ * <p>
+ * Byte buffer functions always use the byte order given in their name, and
+ * ignore {@link ByteBuffer#order()}. Indices are absolute, and the
+ * position of the buffer is neither consulted nor modified.
+ * </p>
+ */
+
+public final class Signed32Unchecked
+{
+  private static final VarHandle BYTES_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private Signed32Unchecked()
+  {
+
+  }
+
+  /**
+   * Pack {@code i} into {@code r} using a big-endian encoding such that the
+   * most significant byte is in {@code r[offset]}.
+   *
+   * @param i      The value to be packed.
+   * @param r      The destination array.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    BYTES_BE.set(r, offset, i);
+    return r;
+  }
+
+  /**
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding such
+   * that the most significant byte is in {@code buffer[offset]}.
+   *
+   * @param buffer The array from which to unpack data.
+   * @param offset The starting offset.
+   *
+   * @return A 32 bit integer value
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    return (int) BYTES_BE.get(buffer, offset);
+  }
+
+  /**
+   * Pack {@code i} into {@code r} using a big-endian encoding such that the
+   * most significant byte is at {@code index}.
+   *
+   * @param i     The value to be packed.
+   * @param r     The buffer.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferBigEndian(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    BUFFER_BE.set(r, index, i);
+    return r;
+  }
+
+  /**
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding such
+   * that the most significant byte is at {@code index}.
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param index  The starting index.
+   *
+   * @return A 32 bit integer value
+   */
+
+  public static int unpackFromBufferBigEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return (int) BUFFER_BE.get(buffer, index);
+  }
+
+  /**
+   * Pack {@code i} into {@code r} using a little-endian encoding such that the
+   * least significant byte is in {@code r[offset]}.
+   *
+   * @param i      The value to be packed.
+   * @param r      The destination array.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    BYTES_LE.set(r, offset, i);
+    return r;
+  }
+
+  /**
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   *
+   * @param buffer The array from which to unpack data.
+   * @param offset The starting offset.
+   *
+   * @return A 32 bit integer value
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    return (int) BYTES_LE.get(buffer, offset);
+  }
+
+  /**
+   * Pack {@code i} into {@code r} using a little-endian encoding such that the
+   * least significant byte is at {@code index}.
+   *
+   * @param i     The value to be packed.
+   * @param r     The buffer.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferLittleEndian(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    BUFFER_LE.set(r, index, i);
+    return r;
+  }
+
+  /**
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is at {@code index}.
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param index  The starting index.
+   *
+   * @return A 32 bit integer value
+   */
+
+  public static int unpackFromBufferLittleEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return (int) BUFFER_LE.get(buffer, index);
+  }
+}
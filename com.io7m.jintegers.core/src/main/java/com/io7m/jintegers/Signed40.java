@@ -0,0 +1,526 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Signed 40-bit integer handling.
+ * </p>
+ * <p>
+ * Values are 5 bytes wide and are passed as {@code long}; bits above
+ * the low 40 bits are ignored when packing. Unpacking performs a single
+ * 64-bit load and sign-extends the result. When
+ * fewer than 8 bytes follow the value, the load covers the last 8 bytes of
+ * the source instead, so only sources shorter than 8 bytes in total are
+ * read a byte at a time.
+ * </p>
+ */
+
+public final class Signed40
+{
+  private Signed40()
+  {
+
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a big-endian
+   * encoding such that the most significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesBigEndianAllocate(
+    final long i)
+  {
+    final byte[] r = new byte[5];
+    return packToBytesBigEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r)
+  {
+    return WideIntegers.packToBytesBigEndian(5, i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 5 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    return WideIntegers.packToBytesBigEndian(5, i, r, offset);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferBigEndian(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    return WideIntegers.packToBufferBigEndian(5, i, r, index);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesLittleEndianAllocate(
+    final long i)
+  {
+    final byte[] r = new byte[5];
+    return packToBytesLittleEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r)
+  {
+    return WideIntegers.packToBytesLittleEndian(5, i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 5 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    return WideIntegers.packToBytesLittleEndian(5, i, r, offset);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferLittleEndian(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    return WideIntegers.packToBufferLittleEndian(5, i, r, index);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using the encoding
+   * returned by {@link ByteBuffer#order()}, starting at {@code index}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBuffer(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return packToBufferBigEndian(i, r, index);
+    }
+    return packToBufferLittleEndian(i, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   *
+   * @return A signed 40 bit integer value
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer)
+  {
+    return WideIntegers.unpackFromBytesBigEndian(5, true, buffer);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 5 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A signed 40 bit integer value
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    return WideIntegers.unpackFromBytesBigEndian(5, true, buffer, offset);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A signed 40 bit integer value.
+   */
+
+  public static long unpackFromBufferBigEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return WideIntegers.unpackFromBufferBigEndian(5, true, buffer, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} using the encoding returned by
+   * {@link ByteBuffer#order()}, starting at {@code index}.
+   * </p>
+   *
+   * @param index  The starting index
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A signed 40 bit integer value.
+   */
+
+  public static long unpackFromBuffer(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return unpackFromBufferBigEndian(buffer, index);
+    }
+    return unpackFromBufferLittleEndian(buffer, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian
+   * encoding such that the least significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   *
+   * @return A signed 40 bit integer value
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer)
+  {
+    return WideIntegers.unpackFromBytesLittleEndian(5, true, buffer);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 5 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A signed 40 bit integer value
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    return WideIntegers.unpackFromBytesLittleEndian(5, true, buffer, offset);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian
+   * encoding such that the least significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A signed 40 bit integer value.
+   */
+
+  public static long unpackFromBufferLittleEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return WideIntegers.unpackFromBufferLittleEndian(5, true, buffer, index);
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a big-endian encoding. The ranges are checked
+   * once, up front. Each value is written with a single 64-bit store whose
+   * trailing bytes are overwritten by the following values; values within
+   * the last 8 bytes of the range are written a byte at a time.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return WideIntegers.packArrayBigEndian(
+      5, src, srcOffset, dst, dstIndex, count);
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front, and each value is decoded with a single 64-bit load.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    return WideIntegers.unpackArrayBigEndian(
+      5, true, src, srcIndex, dst, dstOffset, count);
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a little-endian encoding. The ranges are
+   * checked once, up front. Each value is written with a single 64-bit
+   * store whose trailing bytes are overwritten by the following values;
+   * values within the last 8 bytes of the range are written a byte at a
+   * time.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return WideIntegers.packArrayLittleEndian(
+      5, src, srcOffset, dst, dstIndex, count);
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front, and each value is decoded with a single 64-bit load.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    return WideIntegers.unpackArrayLittleEndian(
+      5, true, src, srcIndex, dst, dstOffset, count);
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.io7m.jintegers;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Objects;
@@ -26,6 +28,11 @@ import java.util.Objects;
 
 public final class Signed64
 {
+  private static final VarHandle BYTES_BE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
   private Signed64()
   {
 
@@ -71,22 +78,36 @@ public final class Signed64
         "Buffer.length must be >= 8 (is " + r.length + ")");
     }
 
-    long x = i;
-    r[7] = (byte) (x & 0xff);
-    x >>= 8;
-    r[6] = (byte) (x & 0xff);
-    x >>= 8;
-    r[5] = (byte) (x & 0xff);
-    x >>= 8;
-    r[4] = (byte) (x & 0xff);
-    x >>= 8;
-    r[3] = (byte) (x & 0xff);
-    x >>= 8;
-    r[2] = (byte) (x & 0xff);
-    x >>= 8;
-    r[1] = (byte) (x & 0xff);
-    x >>= 8;
-    r[0] = (byte) (x & 0xff);
+    BYTES_BE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, r.length);
+
+    BYTES_BE.set(r, offset, i);
     return r;
   }
 
@@ -171,22 +192,37 @@ public final class Signed64
         "Buffer.length must be >= 8 (is " + r.length + ")");
     }
 
-    long x = i;
-    r[0] = (byte) (x & 0xff);
-    x >>= 8;
-    r[1] = (byte) (x & 0xff);
-    x >>= 8;
-    r[2] = (byte) (x & 0xff);
-    x >>= 8;
-    r[3] = (byte) (x & 0xff);
-    x >>= 8;
-    r[4] = (byte) (x & 0xff);
-    x >>= 8;
-    r[5] = (byte) (x & 0xff);
-    x >>= 8;
-    r[6] = (byte) (x & 0xff);
-    x >>= 8;
-    r[7] = (byte) (x & 0xff);
+    BYTES_LE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, r.length);
+
+    BYTES_LE.set(r, offset, i);
     return r;
   }
 
@@ -250,10 +286,7 @@ public final class Signed64
   {
     Objects.requireNonNull(r, "Buffer");
 
-    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return packToBufferBigEndian(i, r, index);
-    }
-    return packToBufferLittleEndian(i, r, index);
+    return r.putLong(index, i);
   }
 
   /**
@@ -282,23 +315,33 @@ public final class Signed64
         "Buffer.length must be >= 8 (is " + buffer.length + ")");
     }
 
-    long r = 0;
-    r |= buffer[0] & 0xFF;
-    r <<= 8;
-    r |= buffer[1] & 0xFF;
-    r <<= 8;
-    r |= buffer[2] & 0xFF;
-    r <<= 8;
-    r |= buffer[3] & 0xFF;
-    r <<= 8;
-    r |= buffer[4] & 0xFF;
-    r <<= 8;
-    r |= buffer[5] & 0xFF;
-    r <<= 8;
-    r |= buffer[6] & 0xFF;
-    r <<= 8;
-    r |= buffer[7] & 0xFF;
-    return r;
+    return (long) BYTES_BE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 64 bit integer value
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, buffer.length);
+
+    return (long) BYTES_BE.get(buffer, offset);
   }
 
   /**
@@ -355,10 +398,7 @@ public final class Signed64
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return unpackFromBufferBigEndian(buffer, index);
-    }
-    return unpackFromBufferLittleEndian(buffer, index);
+    return buffer.getLong(index);
   }
 
   /**
@@ -387,23 +427,33 @@ public final class Signed64
         "Buffer.length must be >= 8 (is " + buffer.length + ")");
     }
 
-    long r = 0;
-    r |= buffer[7] & 0xFF;
-    r <<= 8;
-    r |= buffer[6] & 0xFF;
-    r <<= 8;
-    r |= buffer[5] & 0xFF;
-    r <<= 8;
-    r |= buffer[4] & 0xFF;
-    r <<= 8;
-    r |= buffer[3] & 0xFF;
-    r <<= 8;
-    r |= buffer[2] & 0xFF;
-    r <<= 8;
-    r |= buffer[1] & 0xFF;
-    r <<= 8;
-    r |= buffer[0] & 0xFF;
-    return r;
+    return (long) BYTES_LE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 64 bit integer value
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, buffer.length);
+
+    return (long) BYTES_LE.get(buffer, offset);
   }
 
   /**
@@ -442,4 +492,359 @@ public final class Signed64
     r += (buffer.get(index + 0) & 0xff);
     return r;
   }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a big-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 8);
+
+    dst.slice(dstIndex, count * 8)
+      .order(ByteOrder.BIG_ENDIAN)
+      .asLongBuffer()
+      .put(src, srcOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 8);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    src.slice(srcIndex, count * 8)
+      .order(ByteOrder.BIG_ENDIAN)
+      .asLongBuffer()
+      .get(dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a little-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 8);
+
+    dst.slice(dstIndex, count * 8)
+      .order(ByteOrder.LITTLE_ENDIAN)
+      .asLongBuffer()
+      .put(src, srcOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 8);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    src.slice(srcIndex, count * 8)
+      .order(ByteOrder.LITTLE_ENDIAN)
+      .asLongBuffer()
+      .get(dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} starting at {@code offset}
+   * big-endian with the sign bit inverted, so that encoded values compare
+   * as unsigned bytes in numeric order.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesSortable(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, r.length);
+
+    BYTES_BE.set(r, offset, i ^ Long.MIN_VALUE);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} starting at {@code index}
+   * using the encoding of {@link #packToBytesSortable(long, byte[], int)}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferSortable(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    return packToBufferBigEndian(i ^ Long.MIN_VALUE, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code offset},
+   * assuming the encoding of {@link #packToBytesSortable(long, byte[], int)}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 64 bit integer value
+   */
+
+  public static long unpackFromBytesSortable(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, buffer.length);
+
+    return (long) BYTES_BE.get(buffer, offset) ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code index},
+   * assuming the encoding of {@link #packToBytesSortable(long, byte[], int)}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 64 bit integer value.
+   */
+
+  public static long unpackFromBufferSortable(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return unpackFromBufferBigEndian(buffer, index) ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} starting at {@code offset}
+   * big-endian with every bit except the sign bit inverted, so that encoded
+   * values compare as unsigned bytes in reverse numeric order.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesSortableDescending(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, r.length);
+
+    BYTES_BE.set(r, offset, i ^ Long.MAX_VALUE);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} starting at {@code index}
+   * using the encoding of
+   * {@link #packToBytesSortableDescending(long, byte[], int)}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferSortableDescending(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    return packToBufferBigEndian(i ^ Long.MAX_VALUE, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code offset},
+   * assuming the encoding of
+   * {@link #packToBytesSortableDescending(long, byte[], int)}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return A 64 bit integer value
+   */
+
+  public static long unpackFromBytesSortableDescending(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, buffer.length);
+
+    return (long) BYTES_BE.get(buffer, offset) ^ Long.MAX_VALUE;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} starting at {@code index},
+   * assuming the encoding of
+   * {@link #packToBytesSortableDescending(long, byte[], int)}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 64 bit integer value.
+   */
+
+  public static long unpackFromBufferSortableDescending(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    return unpackFromBufferBigEndian(buffer, index) ^ Long.MAX_VALUE;
+  }
 }
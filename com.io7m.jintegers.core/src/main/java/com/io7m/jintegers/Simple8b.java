@@ -0,0 +1,473 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Simple-8b encoding of unsigned and signed {@code long} values.
+ * </p>
+ * <p>
+ * Values are packed into 64-bit words. The high four bits of each word
+ * hold a selector, and the low 60 bits hold as many values of a fixed width
+ * as fit, least significant value first:
+ * </p>
+ * <table>
+ *   <caption>Selectors</caption>
+ *   <tr><th>Selector</th><th>Values</th><th>Bits</th></tr>
+ *   <tr><td>0</td><td>240</td><td>0</td></tr>
+ *   <tr><td>1</td><td>120</td><td>0</td></tr>
+ *   <tr><td>2</td><td>60</td><td>1</td></tr>
+ *   <tr><td>3</td><td>30</td><td>2</td></tr>
+ *   <tr><td>4</td><td>20</td><td>3</td></tr>
+ *   <tr><td>5</td><td>15</td><td>4</td></tr>
+ *   <tr><td>6</td><td>12</td><td>5</td></tr>
+ *   <tr><td>7</td><td>10</td><td>6</td></tr>
+ *   <tr><td>8</td><td>8</td><td>7</td></tr>
+ *   <tr><td>9</td><td>7</td><td>8</td></tr>
+ *   <tr><td>10</td><td>6</td><td>10</td></tr>
+ *   <tr><td>11</td><td>5</td><td>12</td></tr>
+ *   <tr><td>12</td><td>4</td><td>15</td></tr>
+ *   <tr><td>13</td><td>3</td><td>20</td></tr>
+ *   <tr><td>14</td><td>2</td><td>30</td></tr>
+ *   <tr><td>15</td><td>1</td><td>60</td></tr>
+ * </table>
+ * <p>
+ * Selectors 0 and 1 encode runs of zeros. Unsigned values must lie in
+ * {@code [0, 2^60)}. Signed values are ZigZag encoded (see
+ * {@link VarInts#zigZagEncode64(long)}) and must lie in
+ * {@code [-2^59, 2^59)}. The encoder chooses, for each word, the selector
+ * that holds the most values, and never chooses a selector holding more
+ * values than remain. A sequence of {@code n} values therefore decodes
+ * from exactly the words that encode it, and the number of values is not
+ * stored; callers must record it separately.
+ * </p>
+ * <p>
+ * Words are written with {@link Signed64#packToBufferLittleEndian} or
+ * {@link Signed64#packToBufferBigEndian}, according to the given byte
+ * order. {@link ByteBuffer#order()} and {@link ByteBuffer#position()} are
+ * ignored; indices are absolute and accesses are bounded by
+ * {@link ByteBuffer#limit()}.
+ * </p>
+ */
+
+public final class Simple8b
+{
+  /**
+   * The largest unsigned value that can be encoded.
+   */
+
+  public static final long MAXIMUM_VALUE = (1L << 60) - 1L;
+
+  private static final int LONG_ZERO_RUN = 240;
+  private static final int SHORT_ZERO_RUN = 120;
+
+  /*
+   * For each selector, the number of values in bits 8-15 and the width of
+   * each value in bits 0-7.
+   */
+
+  private static final int[] SELECTORS = {
+    240 << 8, 120 << 8, 60 << 8 | 1, 30 << 8 | 2,
+    20 << 8 | 3, 15 << 8 | 4, 12 << 8 | 5, 10 << 8 | 6,
+    8 << 8 | 7, 7 << 8 | 8, 6 << 8 | 10, 5 << 8 | 12,
+    4 << 8 | 15, 3 << 8 | 20, 2 << 8 | 30, 1 << 8 | 60,
+  };
+
+  private Simple8b()
+  {
+
+  }
+
+  /**
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param count     The number of values
+   *
+   * @return The number of bytes required to encode the unsigned values
+   *
+   * @throws IllegalArgumentException If a value is out of range
+   */
+
+  public static long encodedLength(
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    return measure(src, srcOffset, count, false);
+  }
+
+  /**
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param count     The number of values
+   *
+   * @return The number of bytes required to encode the signed values
+   *
+   * @throws IllegalArgumentException If a value is out of range
+   */
+
+  public static long encodedLengthSigned(
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    return measure(src, srcOffset, count, true);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} unsigned values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at {@code dstIndex}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a value is
+   * out of range. In both cases, nothing is written.
+   * </p>
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The buffer
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   * @param order     The byte order of the words
+   *
+   * @return The number of bytes written
+   */
+
+  public static int encode(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final ByteOrder order)
+  {
+    return encodeWords(src, srcOffset, dst, dstIndex, count, order, false);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} signed values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at {@code dstIndex}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a value is
+   * out of range. In both cases, nothing is written.
+   * </p>
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The buffer
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   * @param order     The byte order of the words
+   *
+   * @return The number of bytes written
+   */
+
+  public static int encodeSigned(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final ByteOrder order)
+  {
+    return encodeWords(src, srcOffset, dst, dstIndex, count, order, true);
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} unsigned values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dst[dstOffset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a word holds
+   * more values than remain.
+   * </p>
+   *
+   * @param src       The buffer
+   * @param srcIndex  The starting index in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   * @param order     The byte order of the words
+   *
+   * @return The number of bytes consumed
+   */
+
+  public static int decode(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count,
+    final ByteOrder order)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.requireNonNull(order, "Order");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final boolean big = ByteOrder.BIG_ENDIAN.equals(order);
+    int index = srcIndex;
+    int done = 0;
+    while (done < count) {
+      final long word = big
+        ? Signed64.unpackFromBufferBigEndian(src, index)
+        : Signed64.unpackFromBufferLittleEndian(src, index);
+      done += unpackWord(word, dst, dstOffset + done, count - done, index);
+      index += 8;
+    }
+    return index - srcIndex;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} signed values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dst[dstOffset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds, and {@link IllegalArgumentException} if a word holds
+   * more values than remain.
+   * </p>
+   *
+   * @param src       The buffer
+   * @param srcIndex  The starting index in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   * @param order     The byte order of the words
+   *
+   * @return The number of bytes consumed
+   */
+
+  public static int decodeSigned(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count,
+    final ByteOrder order)
+  {
+    final int length = decode(src, srcIndex, dst, dstOffset, count, order);
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = VarInts.zigZagDecode64(dst[dstOffset + k]);
+    }
+    return length;
+  }
+
+  private static int unpackWord(
+    final long word,
+    final long[] dst,
+    final int dstOffset,
+    final int remaining,
+    final int index)
+  {
+    final int selector = (int) (word >>> 60);
+    final int count = countOf(selector);
+    if (count > remaining) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Word at %d holds %d values but only %d remain",
+          Integer.valueOf(index),
+          Integer.valueOf(count),
+          Integer.valueOf(remaining)));
+    }
+
+    final int bits = bitsOf(selector);
+    if (bits == 0) {
+      for (int k = 0; k < count; ++k) {
+        dst[dstOffset + k] = 0L;
+      }
+    } else {
+      final long mask = BitPacking.mask(bits);
+      long payload = word;
+      for (int k = 0; k < count; ++k) {
+        dst[dstOffset + k] = payload & mask;
+        payload >>>= bits;
+      }
+    }
+    return count;
+  }
+
+  private static int countOf(
+    final int selector)
+  {
+    return SELECTORS[selector] >>> 8;
+  }
+
+  private static int bitsOf(
+    final int selector)
+  {
+    return SELECTORS[selector] & 0xff;
+  }
+
+  private static long value(
+    final long[] src,
+    final int index,
+    final boolean signed)
+  {
+    final long x = src[index];
+    return signed ? VarInts.zigZagEncode64(x) : x;
+  }
+
+  /*
+   * Return the end of the run of zeros that starts at {@code index}, looking
+   * no further than one long zero run or {@code end}. {@code zeroEnd} is the
+   * end returned for the previous word. A run of zeros that spans several
+   * words is therefore scanned only once.
+   */
+
+  private static int zeroRunEnd(
+    final long[] src,
+    final int index,
+    final int end,
+    final int zeroEnd,
+    final boolean signed)
+  {
+    final int run = index + Math.min(end - index, LONG_ZERO_RUN);
+    int k = Math.max(zeroEnd, index);
+    while (k < run && value(src, k, signed) == 0L) {
+      ++k;
+    }
+    return k;
+  }
+
+  /*
+   * Choose the selector for the word starting at {@code index}, given that
+   * the first {@code zeros} values are zero: the first selector, in order of
+   * decreasing density, whose width holds each of the values that the word
+   * would contain. The selector is widened as wider values are encountered,
+   * and so each value is examined once.
+   */
+
+  private static int selector(
+    final long[] src,
+    final int index,
+    final int remaining,
+    final int zeros,
+    final boolean signed)
+  {
+    if (zeros == LONG_ZERO_RUN) {
+      return 0;
+    }
+    if (zeros >= SHORT_ZERO_RUN) {
+      return 1;
+    }
+
+    int selector = 2;
+    while (countOf(selector) > remaining) {
+      ++selector;
+    }
+
+    for (int k = zeros; k < countOf(selector); ++k) {
+      final int width =
+        64 - Long.numberOfLeadingZeros(value(src, index + k, signed));
+      while (bitsOf(selector) < width) {
+        if (selector == 15) {
+          throw outOfRange(src, index + k, signed);
+        }
+        ++selector;
+      }
+    }
+    return selector;
+  }
+
+  private static IllegalArgumentException outOfRange(
+    final long[] src,
+    final int index,
+    final boolean signed)
+  {
+    return new IllegalArgumentException(
+      String.format(
+        "Value %d at %d is out of range for %s encoding",
+        Long.valueOf(src[index]),
+        Integer.valueOf(index),
+        signed ? "signed" : "unsigned"));
+  }
+
+  private static long measure(
+    final long[] src,
+    final int srcOffset,
+    final int count,
+    final boolean signed)
+  {
+    Objects.requireNonNull(src, "Source");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+
+    final int end = srcOffset + count;
+    long words = 0L;
+    int index = srcOffset;
+    int zeroEnd = srcOffset;
+    while (index < end) {
+      zeroEnd = zeroRunEnd(src, index, end, zeroEnd, signed);
+      index += countOf(
+        selector(src, index, end - index, zeroEnd - index, signed));
+      ++words;
+    }
+    return words << 3;
+  }
+
+  private static int encodeWords(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final ByteOrder order,
+    final boolean signed)
+  {
+    Objects.requireNonNull(dst, "Buffer");
+    Objects.requireNonNull(order, "Order");
+    final long length = measure(src, srcOffset, count, signed);
+    Objects.checkFromIndexSize((long) dstIndex, length, (long) dst.limit());
+
+    final boolean big = ByteOrder.BIG_ENDIAN.equals(order);
+    final int end = srcOffset + count;
+    int index = dstIndex;
+    int done = srcOffset;
+    int zeroEnd = srcOffset;
+    while (done < end) {
+      zeroEnd = zeroRunEnd(src, done, end, zeroEnd, signed);
+      final int selector =
+        selector(src, done, end - done, zeroEnd - done, signed);
+      final int values = countOf(selector);
+      final int bits = bitsOf(selector);
+      long word = (long) selector << 60;
+      for (int k = 0; bits > 0 && k < values; ++k) {
+        word |= value(src, done + k, signed) << (k * bits);
+      }
+      if (big) {
+        Signed64.packToBufferBigEndian(word, dst, index);
+      } else {
+        Signed64.packToBufferLittleEndian(word, dst, index);
+      }
+      done += values;
+      index += 8;
+    }
+    return index - dstIndex;
+  }
+}
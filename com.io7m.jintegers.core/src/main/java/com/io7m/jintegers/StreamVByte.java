@@ -0,0 +1,821 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Stream VByte encoding of arrays of unsigned integers.
+ * </p>
+ * <p>
+ * The encoding of {@code n} values consists of {@code (n + 3) / 4} control
+ * bytes followed by the data bytes. Each control byte describes four
+ * consecutive values with a two-bit code per value, starting at the least
+ * significant bits. For 32-bit values, code {@code k} denotes a
+ * little-endian value of {@code k + 1} bytes. For 64-bit values, the codes
+ * denote values of 1, 2, 4 and 8 bytes. Unused codes in the final control
+ * byte are zero. The number of values is not stored; callers must record
+ * it separately.
+ * </p>
+ * <p>
+ * Keeping the lengths apart from the data means that the decoder never
+ * branches on the contents of the data. A table indexed by the control
+ * byte gives the offsets of all four values of a group, so the four loads
+ * are independent of one another. Where enough bytes remain, each value
+ * is read with a single full-width load and masked to its length.
+ * </p>
+ * <p>
+ * Signed values should be mapped with
+ * {@link VarInts#zigZagEncode32(int)} or
+ * {@link VarInts#zigZagEncode64(long)} before encoding, as negative values
+ * otherwise always occupy the maximum number of bytes.
+ * </p>
+ * <p>
+ * Encoding functions return the number of bytes written, and never write
+ * anything if the destination is too small. {@link ByteBuffer#order()} and
+ * {@link ByteBuffer#position()} are ignored; indices are absolute and
+ * accesses are bounded by {@link ByteBuffer#limit()}.
+ * </p>
+ */
+
+public final class StreamVByte
+{
+  private static final int[] LANES_32 = {1, 2, 3, 4};
+  private static final int[] LANES_64 = {1, 2, 4, 8};
+  private static final int[] MASKS_32 = {0xff, 0xffff, 0xffffff, 0xffffffff};
+  private static final long[] MASKS_64 =
+    {0xffL, 0xffffL, 0xffffffffL, 0xffffffffffffffffL};
+
+  /*
+   * For each control byte, the offsets of the second, third, and fourth
+   * values of the group in bits 0-23, and the length of the group in bits
+   * 24-31.
+   */
+
+  private static final int[] GROUPS_32 = groups(1, 2, 3, 4);
+  private static final int[] GROUPS_64 = groups(1, 2, 4, 8);
+
+  private StreamVByte()
+  {
+
+  }
+
+  private static int[] groups(
+    final int... lanes)
+  {
+    final int[] groups = new int[256];
+    for (int c = 0; c < 256; ++c) {
+      int offset = 0;
+      int layout = 0;
+      for (int k = 0; k < 4; ++k) {
+        offset += lanes[(c >>> (k << 1)) & 3];
+        layout |= offset << (k << 3);
+      }
+      groups[c] = layout;
+    }
+    return groups;
+  }
+
+  private static int controlLength(
+    final int count)
+  {
+    return (int) ((count + 3L) >>> 2);
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return The maximum number of bytes required to encode {@code count}
+   * 32-bit values
+   */
+
+  public static long maximumEncodedLength32(
+    final int count)
+  {
+    return controlLength(count) + 4L * count;
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return The maximum number of bytes required to encode {@code count}
+   * 64-bit values
+   */
+
+  public static long maximumEncodedLength64(
+    final int count)
+  {
+    return controlLength(count) + 8L * count;
+  }
+
+  /**
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param count     The number of values
+   *
+   * @return The exact number of bytes required to encode the values
+   */
+
+  public static long encodedLength32(
+    final int[] src,
+    final int srcOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    return controlLength(count) + dataLength32(src, srcOffset, count);
+  }
+
+  /**
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param count     The number of values
+   *
+   * @return The exact number of bytes required to encode the values
+   */
+
+  public static long encodedLength64(
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    return controlLength(count) + dataLength64(src, srcOffset, count);
+  }
+
+  /**
+   * Encode {@code count} unsigned 32-bit values. The encoded length is
+   * computed, and checked against {@code dst}, before anything is written.
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The destination
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static int encode32(
+    final int[] src,
+    final int srcOffset,
+    final byte[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    final int control = controlLength(count);
+    final long length = control + dataLength32(src, srcOffset, count);
+    Objects.checkFromIndexSize((long) dstOffset, length, (long) dst.length);
+    final int end = (int) (dstOffset + length);
+
+    int p = dstOffset + control;
+    int c = 0;
+    for (int k = 0; k < count; ++k) {
+      final int x = src[srcOffset + k];
+      final int code = code32(x);
+      if (end - p >= 4) {
+        Signed32Unchecked.packToBytesLittleEndian(x, dst, p);
+      } else {
+        storeTail32(x, code, dst, p);
+      }
+      p += LANES_32[code];
+      c |= code << ((k & 3) << 1);
+      if ((k & 3) == 3) {
+        dst[dstOffset + (k >>> 2)] = (byte) c;
+        c = 0;
+      }
+    }
+    if ((count & 3) != 0) {
+      dst[dstOffset + (count >>> 2)] = (byte) c;
+    }
+    return p - dstOffset;
+  }
+
+  /**
+   * Decode {@code count} unsigned 32-bit values.
+   *
+   * @param src       The source
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   *
+   * @throws IndexOutOfBoundsException If the encoded values are truncated
+   *                                   or {@code dst} is too small
+   */
+
+  public static int decode32(
+    final byte[] src,
+    final int srcOffset,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+    final int limit = src.length;
+    final int control = controlLength(count);
+    Objects.checkFromIndexSize(srcOffset, control, limit);
+    Objects.checkFromIndexSize(
+      (long) srcOffset + control,
+      dataLength(src, srcOffset, count, GROUPS_32, LANES_32),
+      (long) limit);
+
+    final int groups = count >>> 2;
+    int p = srcOffset + control;
+    int g = 0;
+    for (; g < groups; ++g) {
+      if (limit - p < 16) {
+        break;
+      }
+      final int c = src[srcOffset + g] & 0xff;
+      final int layout = GROUPS_32[c];
+      final int p1 = p + (layout & 0xff);
+      final int p2 = p + ((layout >>> 8) & 0xff);
+      final int p3 = p + ((layout >>> 16) & 0xff);
+      final int k = dstOffset + (g << 2);
+      dst[k] = Signed32Unchecked.unpackFromBytesLittleEndian(src, p)
+        & MASKS_32[c & 3];
+      dst[k + 1] = Signed32Unchecked.unpackFromBytesLittleEndian(src, p1)
+        & MASKS_32[(c >>> 2) & 3];
+      dst[k + 2] = Signed32Unchecked.unpackFromBytesLittleEndian(src, p2)
+        & MASKS_32[(c >>> 4) & 3];
+      dst[k + 3] = Signed32Unchecked.unpackFromBytesLittleEndian(src, p3)
+        & MASKS_32[c >>> 6];
+      p += layout >>> 24;
+    }
+    for (int k = g << 2; k < count; ++k) {
+      final int code = (src[srcOffset + (k >>> 2)] >>> ((k & 3) << 1)) & 3;
+      dst[dstOffset + k] = loadTail32(src, p, code);
+      p += LANES_32[code];
+    }
+    return p - srcOffset;
+  }
+
+  /**
+   * Encode {@code count} unsigned 32-bit values. The encoded length is
+   * computed, and checked against {@code dst}, before anything is written.
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The destination
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static int encode32(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    final int control = controlLength(count);
+    final long length = control + dataLength32(src, srcOffset, count);
+    Objects.checkFromIndexSize((long) dstIndex, length, (long) dst.limit());
+    final int end = (int) (dstIndex + length);
+
+    int p = dstIndex + control;
+    int c = 0;
+    for (int k = 0; k < count; ++k) {
+      final int x = src[srcOffset + k];
+      final int code = code32(x);
+      if (end - p >= 4) {
+        Signed32Unchecked.packToBufferLittleEndian(x, dst, p);
+      } else {
+        storeTail32(x, code, dst, p);
+      }
+      p += LANES_32[code];
+      c |= code << ((k & 3) << 1);
+      if ((k & 3) == 3) {
+        dst.put(dstIndex + (k >>> 2), (byte) c);
+        c = 0;
+      }
+    }
+    if ((count & 3) != 0) {
+      dst.put(dstIndex + (count >>> 2), (byte) c);
+    }
+    return p - dstIndex;
+  }
+
+  /**
+   * Decode {@code count} unsigned 32-bit values.
+   *
+   * @param src       The source
+   * @param srcIndex  The starting index in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   *
+   * @throws IndexOutOfBoundsException If the encoded values are truncated
+   *                                   or {@code dst} is too small
+   */
+
+  public static int decode32(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+    final int limit = src.limit();
+    final int control = controlLength(count);
+    Objects.checkFromIndexSize(srcIndex, control, limit);
+    Objects.checkFromIndexSize(
+      (long) srcIndex + control,
+      dataLength(src, srcIndex, count, GROUPS_32, LANES_32),
+      (long) limit);
+
+    final int groups = count >>> 2;
+    int p = srcIndex + control;
+    int g = 0;
+    for (; g < groups; ++g) {
+      if (limit - p < 16) {
+        break;
+      }
+      final int c = src.get(srcIndex + g) & 0xff;
+      final int layout = GROUPS_32[c];
+      final int p1 = p + (layout & 0xff);
+      final int p2 = p + ((layout >>> 8) & 0xff);
+      final int p3 = p + ((layout >>> 16) & 0xff);
+      final int k = dstOffset + (g << 2);
+      dst[k] = Signed32Unchecked.unpackFromBufferLittleEndian(src, p)
+        & MASKS_32[c & 3];
+      dst[k + 1] = Signed32Unchecked.unpackFromBufferLittleEndian(src, p1)
+        & MASKS_32[(c >>> 2) & 3];
+      dst[k + 2] = Signed32Unchecked.unpackFromBufferLittleEndian(src, p2)
+        & MASKS_32[(c >>> 4) & 3];
+      dst[k + 3] = Signed32Unchecked.unpackFromBufferLittleEndian(src, p3)
+        & MASKS_32[c >>> 6];
+      p += layout >>> 24;
+    }
+    for (int k = g << 2; k < count; ++k) {
+      final int code = (src.get(srcIndex + (k >>> 2)) >>> ((k & 3) << 1)) & 3;
+      dst[dstOffset + k] = loadTail32(src, p, code);
+      p += LANES_32[code];
+    }
+    return p - srcIndex;
+  }
+
+  /**
+   * Encode {@code count} unsigned 64-bit values. The encoded length is
+   * computed, and checked against {@code dst}, before anything is written.
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The destination
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static int encode64(
+    final long[] src,
+    final int srcOffset,
+    final byte[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    final int control = controlLength(count);
+    final long length = control + dataLength64(src, srcOffset, count);
+    Objects.checkFromIndexSize((long) dstOffset, length, (long) dst.length);
+    final int end = (int) (dstOffset + length);
+
+    int p = dstOffset + control;
+    int c = 0;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOffset + k];
+      final int code = code64(x);
+      if (end - p >= 8) {
+        Signed64Unchecked.packToBytesLittleEndian(x, dst, p);
+      } else {
+        storeTail64(x, code, dst, p);
+      }
+      p += LANES_64[code];
+      c |= code << ((k & 3) << 1);
+      if ((k & 3) == 3) {
+        dst[dstOffset + (k >>> 2)] = (byte) c;
+        c = 0;
+      }
+    }
+    if ((count & 3) != 0) {
+      dst[dstOffset + (count >>> 2)] = (byte) c;
+    }
+    return p - dstOffset;
+  }
+
+  /**
+   * Decode {@code count} unsigned 64-bit values.
+   *
+   * @param src       The source
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   *
+   * @throws IndexOutOfBoundsException If the encoded values are truncated
+   *                                   or {@code dst} is too small
+   */
+
+  public static int decode64(
+    final byte[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+    final int limit = src.length;
+    final int control = controlLength(count);
+    Objects.checkFromIndexSize(srcOffset, control, limit);
+    Objects.checkFromIndexSize(
+      (long) srcOffset + control,
+      dataLength(src, srcOffset, count, GROUPS_64, LANES_64),
+      (long) limit);
+
+    final int groups = count >>> 2;
+    int p = srcOffset + control;
+    int g = 0;
+    for (; g < groups; ++g) {
+      if (limit - p < 32) {
+        break;
+      }
+      final int c = src[srcOffset + g] & 0xff;
+      final int layout = GROUPS_64[c];
+      final int p1 = p + (layout & 0xff);
+      final int p2 = p + ((layout >>> 8) & 0xff);
+      final int p3 = p + ((layout >>> 16) & 0xff);
+      final int k = dstOffset + (g << 2);
+      dst[k] = Signed64Unchecked.unpackFromBytesLittleEndian(src, p)
+        & MASKS_64[c & 3];
+      dst[k + 1] = Signed64Unchecked.unpackFromBytesLittleEndian(src, p1)
+        & MASKS_64[(c >>> 2) & 3];
+      dst[k + 2] = Signed64Unchecked.unpackFromBytesLittleEndian(src, p2)
+        & MASKS_64[(c >>> 4) & 3];
+      dst[k + 3] = Signed64Unchecked.unpackFromBytesLittleEndian(src, p3)
+        & MASKS_64[c >>> 6];
+      p += layout >>> 24;
+    }
+    for (int k = g << 2; k < count; ++k) {
+      final int code = (src[srcOffset + (k >>> 2)] >>> ((k & 3) << 1)) & 3;
+      dst[dstOffset + k] = loadTail64(src, p, code);
+      p += LANES_64[code];
+    }
+    return p - srcOffset;
+  }
+
+  /**
+   * Encode {@code count} unsigned 64-bit values. The encoded length is
+   * computed, and checked against {@code dst}, before anything is written.
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The destination
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static int encode64(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    final int control = controlLength(count);
+    final long length = control + dataLength64(src, srcOffset, count);
+    Objects.checkFromIndexSize((long) dstIndex, length, (long) dst.limit());
+    final int end = (int) (dstIndex + length);
+
+    int p = dstIndex + control;
+    int c = 0;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOffset + k];
+      final int code = code64(x);
+      if (end - p >= 8) {
+        Signed64Unchecked.packToBufferLittleEndian(x, dst, p);
+      } else {
+        storeTail64(x, code, dst, p);
+      }
+      p += LANES_64[code];
+      c |= code << ((k & 3) << 1);
+      if ((k & 3) == 3) {
+        dst.put(dstIndex + (k >>> 2), (byte) c);
+        c = 0;
+      }
+    }
+    if ((count & 3) != 0) {
+      dst.put(dstIndex + (count >>> 2), (byte) c);
+    }
+    return p - dstIndex;
+  }
+
+  /**
+   * Decode {@code count} unsigned 64-bit values.
+   *
+   * @param src       The source
+   * @param srcIndex  The starting index in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   *
+   * @throws IndexOutOfBoundsException If the encoded values are truncated
+   *                                   or {@code dst} is too small
+   */
+
+  public static int decode64(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+    final int limit = src.limit();
+    final int control = controlLength(count);
+    Objects.checkFromIndexSize(srcIndex, control, limit);
+    Objects.checkFromIndexSize(
+      (long) srcIndex + control,
+      dataLength(src, srcIndex, count, GROUPS_64, LANES_64),
+      (long) limit);
+
+    final int groups = count >>> 2;
+    int p = srcIndex + control;
+    int g = 0;
+    for (; g < groups; ++g) {
+      if (limit - p < 32) {
+        break;
+      }
+      final int c = src.get(srcIndex + g) & 0xff;
+      final int layout = GROUPS_64[c];
+      final int p1 = p + (layout & 0xff);
+      final int p2 = p + ((layout >>> 8) & 0xff);
+      final int p3 = p + ((layout >>> 16) & 0xff);
+      final int k = dstOffset + (g << 2);
+      dst[k] = Signed64Unchecked.unpackFromBufferLittleEndian(src, p)
+        & MASKS_64[c & 3];
+      dst[k + 1] = Signed64Unchecked.unpackFromBufferLittleEndian(src, p1)
+        & MASKS_64[(c >>> 2) & 3];
+      dst[k + 2] = Signed64Unchecked.unpackFromBufferLittleEndian(src, p2)
+        & MASKS_64[(c >>> 4) & 3];
+      dst[k + 3] = Signed64Unchecked.unpackFromBufferLittleEndian(src, p3)
+        & MASKS_64[c >>> 6];
+      p += layout >>> 24;
+    }
+    for (int k = g << 2; k < count; ++k) {
+      final int code = (src.get(srcIndex + (k >>> 2)) >>> ((k & 3) << 1)) & 3;
+      dst[dstOffset + k] = loadTail64(src, p, code);
+      p += LANES_64[code];
+    }
+    return p - srcIndex;
+  }
+
+  private static int code32(
+    final int x)
+  {
+    return (31 - Integer.numberOfLeadingZeros(x | 1)) >>> 3;
+  }
+
+  private static long dataLength32(
+    final int[] src,
+    final int srcOffset,
+    final int count)
+  {
+    long length = 0L;
+    for (int k = 0; k < count; ++k) {
+      length += LANES_32[code32(src[srcOffset + k])];
+    }
+    return length;
+  }
+
+  private static int code64(
+    final long x)
+  {
+    final int highest = 63 - Long.numberOfLeadingZeros(x | 1L);
+    return 32 - Integer.numberOfLeadingZeros(highest >>> 3);
+  }
+
+  private static long dataLength64(
+    final long[] src,
+    final int srcOffset,
+    final int count)
+  {
+    long length = 0L;
+    for (int k = 0; k < count; ++k) {
+      length += LANES_64[code64(src[srcOffset + k])];
+    }
+    return length;
+  }
+
+  private static long dataLength(
+    final byte[] src,
+    final int srcOffset,
+    final int count,
+    final int[] groups,
+    final int[] lanes)
+  {
+    final int full = count >>> 2;
+    long length = 0L;
+    for (int k = 0; k < full; ++k) {
+      length += groups[src[srcOffset + k] & 0xff] >>> 24;
+    }
+    final int rest = count & 3;
+    if (rest != 0) {
+      final int c = src[srcOffset + full];
+      for (int k = 0; k < rest; ++k) {
+        length += lanes[(c >>> (k << 1)) & 3];
+      }
+    }
+    return length;
+  }
+
+  private static long dataLength(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int count,
+    final int[] groups,
+    final int[] lanes)
+  {
+    final int full = count >>> 2;
+    long length = 0L;
+    for (int k = 0; k < full; ++k) {
+      length += groups[src.get(srcIndex + k) & 0xff] >>> 24;
+    }
+    final int rest = count & 3;
+    if (rest != 0) {
+      final int c = src.get(srcIndex + full);
+      for (int k = 0; k < rest; ++k) {
+        length += lanes[(c >>> (k << 1)) & 3];
+      }
+    }
+    return length;
+  }
+
+  private static int loadTail32(
+    final byte[] src,
+    final int p,
+    final int code)
+  {
+    return switch (code) {
+      case 0 -> Unsigned8.unpackFromBytes(src, p);
+      case 1 -> Unsigned16.unpackFromBytesLittleEndian(src, p);
+      case 2 -> Unsigned24.unpackFromBytesLittleEndian(src, p);
+      default -> (int) Unsigned32.unpackFromBytesLittleEndian(src, p);
+    };
+  }
+
+  private static long loadTail64(
+    final byte[] src,
+    final int p,
+    final int code)
+  {
+    return switch (code) {
+      case 0 -> Unsigned8.unpackFromBytes(src, p);
+      case 1 -> Unsigned16.unpackFromBytesLittleEndian(src, p);
+      case 2 -> Unsigned32.unpackFromBytesLittleEndian(src, p);
+      default -> Signed64.unpackFromBytesLittleEndian(src, p);
+    };
+  }
+
+  private static void storeTail32(
+    final int x,
+    final int code,
+    final byte[] dst,
+    final int p)
+  {
+    switch (code) {
+      case 0 -> Unsigned8.packToBytes(x, dst, p);
+      case 1 -> Unsigned16.packToBytesLittleEndian(x, dst, p);
+      case 2 -> Unsigned24.packToBytesLittleEndian(x, dst, p);
+      default -> Unsigned32.packToBytesLittleEndian(
+        Integer.toUnsignedLong(x), dst, p);
+    }
+  }
+
+  private static void storeTail64(
+    final long x,
+    final int code,
+    final byte[] dst,
+    final int p)
+  {
+    switch (code) {
+      case 0 -> Unsigned8.packToBytes((int) x, dst, p);
+      case 1 -> Unsigned16.packToBytesLittleEndian((int) x, dst, p);
+      case 2 -> Unsigned32.packToBytesLittleEndian(x, dst, p);
+      default -> Signed64.packToBytesLittleEndian(x, dst, p);
+    }
+  }
+
+  private static int loadTail32(
+    final ByteBuffer src,
+    final int p,
+    final int code)
+  {
+    return switch (code) {
+      case 0 -> Unsigned8.unpackFromBuffer(src, p);
+      case 1 -> Unsigned16.unpackFromBufferLittleEndian(src, p);
+      case 2 -> Unsigned24.unpackFromBufferLittleEndian(src, p);
+      default -> (int) Unsigned32.unpackFromBufferLittleEndian(src, p);
+    };
+  }
+
+  private static long loadTail64(
+    final ByteBuffer src,
+    final int p,
+    final int code)
+  {
+    return switch (code) {
+      case 0 -> Unsigned8.unpackFromBuffer(src, p);
+      case 1 -> Unsigned16.unpackFromBufferLittleEndian(src, p);
+      case 2 -> Unsigned32.unpackFromBufferLittleEndian(src, p);
+      default -> Signed64.unpackFromBufferLittleEndian(src, p);
+    };
+  }
+
+  private static void storeTail32(
+    final int x,
+    final int code,
+    final ByteBuffer dst,
+    final int p)
+  {
+    switch (code) {
+      case 0 -> Unsigned8.packToBuffer(x, dst, p);
+      case 1 -> Unsigned16.packToBufferLittleEndian(x, dst, p);
+      case 2 -> Unsigned24.packToBufferLittleEndian(x, dst, p);
+      default -> Unsigned32.packToBufferLittleEndian(
+        Integer.toUnsignedLong(x), dst, p);
+    }
+  }
+
+  private static void storeTail64(
+    final long x,
+    final int code,
+    final ByteBuffer dst,
+    final int p)
+  {
+    switch (code) {
+      case 0 -> Unsigned8.packToBuffer((int) x, dst, p);
+      case 1 -> Unsigned16.packToBufferLittleEndian((int) x, dst, p);
+      case 2 -> Unsigned32.packToBufferLittleEndian(x, dst, p);
+      default -> Signed64.packToBufferLittleEndian(x, dst, p);
+    }
+  }
+}
@@ -0,0 +1,755 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Unsigned 24-bit integer handling.
+ */
+
+public final class Unsigned24
+{
+  private static final VarHandle BYTES_BE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private Unsigned24()
+  {
+
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a big-endian
+   * encoding such that the most significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesBigEndianAllocate(
+    final int i)
+  {
+    final byte[] r = new byte[3];
+    return packToBytesBigEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 3) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 3 (is " + r.length + ")");
+    }
+
+    r[0] = (byte) (i >> 16);
+    r[1] = (byte) (i >> 8);
+    r[2] = (byte) (i & 0xff);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 3 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, r.length);
+
+    r[offset] = (byte) (i >> 16);
+    r[offset + 1] = (byte) (i >> 8);
+    r[offset + 2] = (byte) (i & 0xff);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferBigEndian(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    r.put(index + 0, (byte) (i >> 16));
+    r.put(index + 1, (byte) (i >> 8));
+    r.put(index + 2, (byte) (i & 0xff));
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesLittleEndianAllocate(
+    final int i)
+  {
+    final byte[] r = new byte[3];
+    return packToBytesLittleEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code b[0]}.
+   * </p>
+   *
+   * @param r The buffer
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 3) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 3 (is " + r.length + ")");
+    }
+
+    r[0] = (byte) (i & 0xff);
+    r[1] = (byte) (i >> 8);
+    r[2] = (byte) (i >> 16);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte array {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 3 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer
+   * @param i      The value to be packed.
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, r.length);
+
+    r[offset] = (byte) (i & 0xff);
+    r[offset + 1] = (byte) (i >> 8);
+    r[offset + 2] = (byte) (i >> 16);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferLittleEndian(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    r.put(index + 0, (byte) (i & 0xff));
+    r.put(index + 1, (byte) (i >> 8));
+    r.put(index + 2, (byte) (i >> 16));
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using the encoding
+   * returned by {@link ByteBuffer#order()}, starting at {@code index}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBuffer(
+    final int i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return packToBufferBigEndian(i, r, index);
+    }
+    return packToBufferLittleEndian(i, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   *
+   * @return An unsigned 24 bit integer value
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 3) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 3 (is " + buffer.length + ")");
+    }
+    return unpackFromBytesBigEndian(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 3 bytes starting at {@code offset}.
+   * </p>
+   * <p>
+   * If at least four bytes are available at {@code offset}, the value is
+   * decoded with a single masked 32-bit load.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return An unsigned 24 bit integer value
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, buffer.length);
+
+    if (buffer.length - offset >= 4) {
+      return ((int) BYTES_BE.get(buffer, offset)) >>> 8;
+    }
+
+    final int r0 = (buffer[offset] & 0xff) << 16;
+    final int r1 = (buffer[offset + 1] & 0xff) << 8;
+    final int r2 = (buffer[offset + 2] & 0xff);
+    return r0 | r1 | r2;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[index]}.
+   * </p>
+   * <p>
+   * If at least four bytes are available at {@code index}, the value is
+   * decoded with a single masked 32-bit load.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return An unsigned 24 bit integer value.
+   */
+
+  public static int unpackFromBufferBigEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    final int limit = buffer.limit();
+    Objects.checkFromIndexSize(index, 3, limit);
+    if (limit - index >= 4) {
+      return ((int) BUFFER_BE.get(buffer, index)) >>> 8;
+    }
+
+    final int r0 = (buffer.get(index) & 0xff) << 16;
+    final int r1 = (buffer.get(index + 1) & 0xff) << 8;
+    final int r2 = (buffer.get(index + 2) & 0xff);
+    return r0 | r1 | r2;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} using the encoding returned by
+   * {@link ByteBuffer#order()}, starting at {@code index}.
+   * </p>
+   *
+   * @param index  The starting index
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return An unsigned 24 bit integer value.
+   */
+
+  public static int unpackFromBuffer(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return unpackFromBufferBigEndian(buffer, index);
+    }
+    return unpackFromBufferLittleEndian(buffer, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian
+   * encoding such that the least significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   *
+   * @return An unsigned 24 bit integer value
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 3) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 3 (is " + buffer.length + ")");
+    }
+    return unpackFromBytesLittleEndian(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 3 bytes starting at {@code offset}.
+   * </p>
+   * <p>
+   * If at least four bytes are available at {@code offset}, the value is
+   * decoded with a single masked 32-bit load.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return An unsigned 24 bit integer value
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, buffer.length);
+
+    if (buffer.length - offset >= 4) {
+      return ((int) BYTES_LE.get(buffer, offset)) & 0xffffff;
+    }
+
+    final int r0 = (buffer[offset] & 0xff);
+    final int r1 = (buffer[offset + 1] & 0xff) << 8;
+    final int r2 = (buffer[offset + 2] & 0xff) << 16;
+    return r0 | r1 | r2;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian
+   * encoding such that the least significant byte is in {@code b[index]}
+   * .
+   * </p>
+   * <p>
+   * If at least four bytes are available at {@code index}, the value is
+   * decoded with a single masked 32-bit load.
+   * </p>
+   *
+   * @param index  The starting index
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return An unsigned 24 bit integer value.
+   */
+
+  public static int unpackFromBufferLittleEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    final int limit = buffer.limit();
+    Objects.checkFromIndexSize(index, 3, limit);
+    if (limit - index >= 4) {
+      return ((int) BUFFER_LE.get(buffer, index)) & 0xffffff;
+    }
+
+    final int r0 = (buffer.get(index) & 0xff);
+    final int r1 = (buffer.get(index + 1) & 0xff) << 8;
+    final int r2 = (buffer.get(index + 2) & 0xff) << 16;
+    return r0 | r1 | r2;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a big-endian encoding. The ranges are checked
+   * once, up front, and values are encoded in groups of four using three
+   * 32-bit stores per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 3);
+
+    final int groups = count >>> 2;
+    int index = dstIndex;
+    int offset = srcOffset;
+    for (int g = 0; g < groups; ++g) {
+      storeGroupBigEndian(
+        dst,
+        index,
+        src[offset],
+        src[offset + 1],
+        src[offset + 2],
+        src[offset + 3]
+      );
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      packToBufferBigEndian(src[offset], dst, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front, and values are decoded in groups of four using three 32-bit
+   * loads per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 3);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int groups = count >>> 2;
+    int index = srcIndex;
+    int offset = dstOffset;
+    for (int g = 0; g < groups; ++g) {
+      final int i0 = (int) BUFFER_BE.get(src, index);
+      final int i1 = (int) BUFFER_BE.get(src, index + 4);
+      final int i2 = (int) BUFFER_BE.get(src, index + 8);
+      dst[offset] = i0 >>> 8;
+      dst[offset + 1] = ((i0 & 0xff) << 16) | (i1 >>> 16);
+      dst[offset + 2] = ((i1 & 0xffff) << 8) | (i2 >>> 24);
+      dst[offset + 3] = i2 & 0xffffff;
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      dst[offset] = unpackFromBufferBigEndian(src, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a little-endian encoding. The ranges are checked
+   * once, up front, and values are encoded in groups of four using three
+   * 32-bit stores per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 3);
+
+    final int groups = count >>> 2;
+    int index = dstIndex;
+    int offset = srcOffset;
+    for (int g = 0; g < groups; ++g) {
+      storeGroupLittleEndian(
+        dst,
+        index,
+        src[offset],
+        src[offset + 1],
+        src[offset + 2],
+        src[offset + 3]
+      );
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      packToBufferLittleEndian(src[offset], dst, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front, and values are decoded in groups of four using three 32-bit
+   * loads per group.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 3);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int groups = count >>> 2;
+    int index = srcIndex;
+    int offset = dstOffset;
+    for (int g = 0; g < groups; ++g) {
+      final int i0 = (int) BUFFER_LE.get(src, index);
+      final int i1 = (int) BUFFER_LE.get(src, index + 4);
+      final int i2 = (int) BUFFER_LE.get(src, index + 8);
+      dst[offset] = i0 & 0xffffff;
+      dst[offset + 1] = (i0 >>> 24) | ((i1 & 0xffff) << 8);
+      dst[offset + 2] = (i1 >>> 16) | ((i2 & 0xff) << 16);
+      dst[offset + 3] = i2 >>> 8;
+      index += 12;
+      offset += 4;
+    }
+    for (int k = groups << 2; k < count; ++k) {
+      dst[offset] = unpackFromBufferLittleEndian(src, index);
+      index += 3;
+      ++offset;
+    }
+    return dst;
+  }
+
+  private static void storeGroupBigEndian(
+    final ByteBuffer dst,
+    final int index,
+    final int s0,
+    final int s1,
+    final int s2,
+    final int s3)
+  {
+    BUFFER_BE.set(dst, index, (s0 << 8) | ((s1 >> 16) & 0xff));
+    BUFFER_BE.set(dst, index + 4, (s1 << 16) | ((s2 >> 8) & 0xffff));
+    BUFFER_BE.set(dst, index + 8, (s2 << 24) | (s3 & 0xffffff));
+  }
+
+  private static void storeGroupLittleEndian(
+    final ByteBuffer dst,
+    final int index,
+    final int s0,
+    final int s1,
+    final int s2,
+    final int s3)
+  {
+    BUFFER_LE.set(dst, index, (s0 & 0xffffff) | (s1 << 24));
+    BUFFER_LE.set(dst, index + 4, ((s1 >> 8) & 0xffff) | (s2 << 16));
+    BUFFER_LE.set(dst, index + 8, ((s2 >> 16) & 0xff) | (s3 << 8));
+  }
+}
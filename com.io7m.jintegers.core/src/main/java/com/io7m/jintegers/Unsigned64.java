@@ -0,0 +1,719 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Unsigned 64-bit integer handling.
+ * </p>
+ * <p>
+ * Values are held in {@code long} values and are interpreted as unsigned
+ * integers in the range {@code [0, 2^64 - 1]}. The arithmetic and text
+ * conversion functions in this class do not allocate.
+ * </p>
+ */
+
+public final class Unsigned64
+{
+  /**
+   * The maximum number of decimal digits required to represent an
+   * unsigned 64-bit integer.
+   */
+
+  public static final int MAXIMUM_DECIMAL_LENGTH = 20;
+
+  private static final VarHandle BYTES_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * {@code (2^64 - 1) / 10}: The largest value that can be multiplied by
+   * ten without overflow.
+   */
+
+  private static final long PARSE_LIMIT = 0x1999_9999_9999_9999L;
+
+  /**
+   * {@code 10^19}, which is greater than {@code 2^63}.
+   */
+
+  private static final long TEN_POW_19 = 0x8AC7_2304_89E8_0000L;
+
+  /**
+   * The number of decimal digits that can always be accumulated into a
+   * {@code long} without overflow.
+   */
+
+  private static final int PARSE_SAFE_DIGITS = 18;
+
+  private Unsigned64()
+  {
+
+  }
+
+  /**
+   * Pack an unsigned 64-bit integer into the buffer using the encoding
+   * returned by {@link ByteBuffer#order()}.
+   *
+   * @param x     The value.
+   * @param data  The buffer.
+   * @param index The starting index.
+   */
+
+  public static void packToBuffer(
+    final long x,
+    final ByteBuffer data,
+    final int index)
+  {
+    Objects.requireNonNull(data, "Buffer");
+    data.putLong(index, x);
+  }
+
+  /**
+   * Unpack an unsigned 64-bit integer from the buffer using the encoding
+   * returned by {@link ByteBuffer#order()}.
+   *
+   * @param data  The buffer.
+   * @param index The starting index.
+   *
+   * @return An unpacked integer value.
+   */
+
+  public static long unpackFromBuffer(
+    final ByteBuffer data,
+    final int index)
+  {
+    Objects.requireNonNull(data, "Buffer");
+    return data.getLong(index);
+  }
+
+  /**
+   * <p>
+   * Pack {@code x} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param x     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferBigEndian(
+    final long x,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    BUFFER_BE.set(r, index, x);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code x} into a byte buffer {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param x     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferLittleEndian(
+    final long x,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    BUFFER_LE.set(r, index, x);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return An unsigned 64 bit integer value.
+   */
+
+  public static long unpackFromBufferBigEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    return (long) BUFFER_BE.get(buffer, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian
+   * encoding such that the least significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return An unsigned 64 bit integer value.
+   */
+
+  public static long unpackFromBufferLittleEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    return (long) BUFFER_LE.get(buffer, index);
+  }
+
+  /**
+   * <p>
+   * Pack {@code x} into a byte array {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param x      The value to be packed.
+   * @param r      The buffer
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long x,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    BYTES_BE.set(r, offset, x);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code x} into a byte array {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param x      The value to be packed.
+   * @param r      The buffer
+   * @param offset The starting offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long x,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    BYTES_LE.set(r, offset, x);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return An unsigned 64 bit integer value
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    return (long) BYTES_BE.get(buffer, offset);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian
+   * encoding such that the least significant byte is in
+   * {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes starting at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The starting offset.
+   *
+   * @return An unsigned 64 bit integer value
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    return (long) BYTES_LE.get(buffer, offset);
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a big-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return Signed64.packArrayBigEndian(src, srcOffset, dst, dstIndex, count);
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    return Signed64.unpackArrayBigEndian(src, srcIndex, dst, dstOffset, count);
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex} using a little-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return Signed64.packArrayLittleEndian(src, srcOffset, dst, dstIndex, count);
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    return Signed64.unpackArrayLittleEndian(
+      src, srcIndex, dst, dstOffset, count);
+  }
+
+  /**
+   * Compare two unsigned 64-bit integers.
+   *
+   * @param x The first value
+   * @param y The second value
+   *
+   * @return A negative value, zero, or a positive value if {@code x} is
+   * less than, equal to, or greater than {@code y}, respectively
+   */
+
+  public static int compare(
+    final long x,
+    final long y)
+  {
+    return Long.compareUnsigned(x, y);
+  }
+
+  /**
+   * <p>
+   * Divide {@code dividend} by {@code divisor}, treating both values as
+   * unsigned.
+   * </p>
+   * <p>
+   * The function throws {@link ArithmeticException} if
+   * {@code divisor == 0}.
+   * </p>
+   *
+   * @param dividend The dividend
+   * @param divisor  The divisor
+   *
+   * @return The unsigned quotient
+   */
+
+  public static long divide(
+    final long dividend,
+    final long divisor)
+  {
+    return Long.divideUnsigned(dividend, divisor);
+  }
+
+  /**
+   * <p>
+   * Calculate the remainder of dividing {@code dividend} by
+   * {@code divisor}, treating both values as unsigned.
+   * </p>
+   * <p>
+   * The function throws {@link ArithmeticException} if
+   * {@code divisor == 0}.
+   * </p>
+   *
+   * @param dividend The dividend
+   * @param divisor  The divisor
+   *
+   * @return The unsigned remainder
+   */
+
+  public static long remainder(
+    final long dividend,
+    final long divisor)
+  {
+    return Long.remainderUnsigned(dividend, divisor);
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The number of decimal digits required to represent {@code x}
+   */
+
+  public static int decimalLength(
+    final long x)
+  {
+    if (x < 0L) {
+      return Long.compareUnsigned(x, TEN_POW_19) >= 0
+        ? MAXIMUM_DECIMAL_LENGTH
+        : MAXIMUM_DECIMAL_LENGTH - 1;
+    }
+    long p = 10L;
+    for (int k = 1; k < 19; ++k) {
+      if (x < p) {
+        return k;
+      }
+      p *= 10L;
+    }
+    return 19;
+  }
+
+  /**
+   * <p>
+   * Write the decimal representation of the unsigned value {@code x} into
+   * {@code dst} as ASCII digits, starting at {@code dst[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if {@code dst}
+   * does not have room for {@link #decimalLength(long)} bytes starting at
+   * {@code offset}. In that case, {@code dst} is not modified.
+   * </p>
+   *
+   * @param x      The value
+   * @param dst    The destination array
+   * @param offset The starting offset
+   *
+   * @return The number of bytes written
+   */
+
+  public static int toString(
+    final long x,
+    final byte[] dst,
+    final int offset)
+  {
+    Objects.requireNonNull(dst, "Destination");
+
+    final int length = decimalLength(x);
+    Objects.checkFromIndexSize(offset, length, dst.length);
+
+    int index = offset + length;
+    long v = x;
+    if (v < 0L) {
+      final long q = divide(v, 10L);
+      dst[--index] = (byte) ('0' + (int) (v - (q * 10L)));
+      v = q;
+    }
+    while (v >= 10L) {
+      final long q = v / 10L;
+      dst[--index] = (byte) ('0' + (int) (v - (q * 10L)));
+      v = q;
+    }
+    dst[--index] = (byte) ('0' + (int) v);
+    return length;
+  }
+
+  /**
+   * <p>
+   * Write the decimal representation of the unsigned value {@code x} into
+   * {@code dst} at its current position, advancing the position by the
+   * number of characters written.
+   * </p>
+   * <p>
+   * The function throws {@link BufferOverflowException} if
+   * {@code dst} has fewer than {@link #decimalLength(long)} characters
+   * remaining. In that case, {@code dst} is not modified.
+   * </p>
+   *
+   * @param x   The value
+   * @param dst The destination buffer
+   *
+   * @return The number of characters written
+   */
+
+  public static int toString(
+    final long x,
+    final CharBuffer dst)
+  {
+    Objects.requireNonNull(dst, "Destination");
+
+    final int length = decimalLength(x);
+    final int start = dst.position();
+    if (dst.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+
+    int index = start + length;
+    long v = x;
+    if (v < 0L) {
+      final long q = divide(v, 10L);
+      dst.put(--index, (char) ('0' + (int) (v - (q * 10L))));
+      v = q;
+    }
+    while (v >= 10L) {
+      final long q = v / 10L;
+      dst.put(--index, (char) ('0' + (int) (v - (q * 10L))));
+      v = q;
+    }
+    dst.put(--index, (char) ('0' + (int) v));
+    dst.position(start + length);
+    return length;
+  }
+
+  /**
+   * <p>
+   * Parse the unsigned decimal integer held in {@code text} between
+   * {@code start} (inclusive) and {@code end} (exclusive).
+   * </p>
+   * <p>
+   * The text must consist only of the ASCII digits {@code 0-9}; signs and
+   * whitespace are not accepted.
+   * </p>
+   *
+   * @param text  The text
+   * @param start The index of the first character
+   * @param end   The index after the last character
+   *
+   * @return The parsed value
+   *
+   * @throws NumberFormatException If the text is empty, contains anything
+   *                               other than digits, or denotes a value
+   *                               greater than {@code 2^64 - 1}
+   */
+
+  public static long parse(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    Objects.requireNonNull(text, "Text");
+    Objects.checkFromToIndex(start, end, text.length());
+    if (start == end) {
+      throw new NumberFormatException(
+        "Empty range [" + start + ", " + end + ") in text of length "
+          + text.length());
+    }
+
+    final int safe = Math.min(end, start + PARSE_SAFE_DIGITS);
+    long r = 0L;
+    int index = start;
+    while (index < safe) {
+      r = (r * 10L) + digit(text, start, end, index);
+      ++index;
+    }
+    while (index < end) {
+      final int d = digit(text, start, end, index);
+      if (compare(r, PARSE_LIMIT) > 0) {
+        throw overflow(text, start, end);
+      }
+      final long t = r * 10L;
+      r = t + d;
+      if (compare(r, t) < 0) {
+        throw overflow(text, start, end);
+      }
+      ++index;
+    }
+    return r;
+  }
+
+  /**
+   * Parse the unsigned decimal integer held in {@code text}.
+   *
+   * @param text The text
+   *
+   * @return The parsed value
+   *
+   * @throws NumberFormatException If the text is empty, contains anything
+   *                               other than digits, or denotes a value
+   *                               greater than {@code 2^64 - 1}
+   * @see #parse(CharSequence, int, int)
+   */
+
+  public static long parse(
+    final CharSequence text)
+  {
+    Objects.requireNonNull(text, "Text");
+    return parse(text, 0, text.length());
+  }
+
+  private static int digit(
+    final CharSequence text,
+    final int start,
+    final int end,
+    final int index)
+  {
+    final int d = text.charAt(index) - '0';
+    if (d < 0 || d > 9) {
+      throw new NumberFormatException(
+        "Not an unsigned decimal integer: \""
+          + text.subSequence(start, end) + "\"");
+    }
+    return d;
+  }
+
+  private static NumberFormatException overflow(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    return new NumberFormatException(
+      "Value out of range for an unsigned 64-bit integer: \""
+        + text.subSequence(start, end) + "\"");
+  }
+}
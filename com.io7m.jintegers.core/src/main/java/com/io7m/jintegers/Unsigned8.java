@@ -64,4 +64,129 @@ public final class Unsigned8
     Objects.requireNonNull(data, "Buffer");
     data.put(index, (byte) (x & 0xff));
   }
+
+  /**
+   * <p>
+   * Unpack an unsigned 8-bit integer from {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code offset} is not a valid index in {@code buffer}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   * @param offset The offset.
+   *
+   * @return An unpacked integer value.
+   */
+
+  public static int unpackFromBytes(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    return buffer[offset] & 0xff;
+  }
+
+  /**
+   * <p>
+   * Pack an unsigned 8-bit integer into {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code offset} is not a valid index in {@code r}.
+   * </p>
+   *
+   * @param x      The value.
+   * @param r      The buffer
+   * @param offset The offset.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytes(
+    final int x,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    r[offset] = (byte) x;
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstIndex}. The ranges are checked once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The values to be packed.
+   * @param srcOffset The offset of the first value in {@code src}.
+   * @param dst       The buffer.
+   * @param dstIndex  The starting index in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArray(
+    final int[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, 1);
+
+    for (int k = 0; k < count; ++k) {
+      dst.put(dstIndex + k, (byte) (src[srcOffset + k] & 0xff));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at
+   * {@code dst[dstOffset]}. The ranges are checked once, up front.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if either range
+   * is out of bounds.
+   * </p>
+   *
+   * @param src       The buffer from which to unpack data.
+   * @param srcIndex  The starting index in {@code src}.
+   * @param dst       The array that will receive the values.
+   * @param dstOffset The offset of the first value in {@code dst}.
+   * @param count     The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, 1);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = src.get(srcIndex + k) & 0xff;
+    }
+    return dst;
+  }
 }
@@ -0,0 +1,1211 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Variable-length integer encoding.
+ * </p>
+ * <p>
+ * Unsigned values are encoded as LEB128: seven bits per byte, least
+ * significant group first, with the high bit of each byte set on every byte
+ * but the last. A 32-bit value occupies 1 to 5 bytes, and a 64-bit value 1
+ * to 10 bytes. Signed values are first mapped to unsigned values with the
+ * ZigZag encoding ({@code 0, -1, 1, -2, ...} map to {@code 0, 1, 2, 3,
+ * ...}) so that values of small magnitude encode to few bytes regardless of
+ * sign.
+ * </p>
+ * <p>
+ * Encoding functions return the number of bytes written, and never write
+ * anything if the destination is too small. Decoding functions throw
+ * {@link IndexOutOfBoundsException} if the encoded value runs past the end
+ * of the source, and {@link IllegalArgumentException} if it is longer than
+ * the maximum length for its width. The number of bytes occupied by an
+ * encoded value can be obtained without decoding it with
+ * {@code decodedLength}. The decoding functions that accept a
+ * {@code length} array, and the bulk functions, report the number of bytes
+ * consumed from the same scan that decodes the values.
+ * </p>
+ * <p>
+ * When at least 8 bytes are available, decoding reads them with a single
+ * 64-bit load, finds the terminating byte by counting the trailing zeros
+ * of the inverted continuation bits, and gathers the 7-bit groups with
+ * three mask-and-shift steps rather than a loop over bytes.
+ * </p>
+ * <p>
+ * {@link ByteBuffer#order()} and {@link ByteBuffer#position()} are
+ * ignored; indices are absolute and accesses are bounded by
+ * {@link ByteBuffer#limit()}.
+ * </p>
+ */
+
+public final class VarInts
+{
+  /**
+   * The maximum encoded length of a 32-bit value.
+   */
+
+  public static final int MAXIMUM_LENGTH_32 = 5;
+
+  /**
+   * The maximum encoded length of a 64-bit value.
+   */
+
+  public static final int MAXIMUM_LENGTH_64 = 10;
+
+  private static final long CONTINUATION = 0x8080_8080_8080_8080L;
+  private static final long PAYLOAD = 0x7f7f_7f7f_7f7f_7f7fL;
+
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private VarInts()
+  {
+
+  }
+
+  /**
+   * @param x A signed value
+   *
+   * @return The ZigZag encoding of {@code x}
+   */
+
+  public static int zigZagEncode32(
+    final int x)
+  {
+    return (x << 1) ^ (x >> 31);
+  }
+
+  /**
+   * @param x A ZigZag encoded value
+   *
+   * @return The signed value
+   */
+
+  public static int zigZagDecode32(
+    final int x)
+  {
+    return (x >>> 1) ^ -(x & 1);
+  }
+
+  /**
+   * @param x A signed value
+   *
+   * @return The ZigZag encoding of {@code x}
+   */
+
+  public static long zigZagEncode64(
+    final long x)
+  {
+    return (x << 1) ^ (x >> 63);
+  }
+
+  /**
+   * @param x A ZigZag encoded value
+   *
+   * @return The signed value
+   */
+
+  public static long zigZagDecode64(
+    final long x)
+  {
+    return (x >>> 1) ^ -(x & 1L);
+  }
+
+  /**
+   * @param x An unsigned 32-bit value
+   *
+   * @return The number of bytes required to encode {@code x}
+   */
+
+  public static int encodedLength32(
+    final int x)
+  {
+    return encodedLength64(Integer.toUnsignedLong(x));
+  }
+
+  /**
+   * @param x An unsigned 64-bit value
+   *
+   * @return The number of bytes required to encode {@code x}
+   */
+
+  public static int encodedLength64(
+    final long x)
+  {
+    return (70 - Long.numberOfLeadingZeros(x | 1L)) / 7;
+  }
+
+  /**
+   * Encode an unsigned 32-bit value.
+   *
+   * @param x      The value
+   * @param dst    The destination
+   * @param offset The starting offset
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If {@code dst} is too small
+   */
+
+  public static int encodeUnsigned32(
+    final int x,
+    final byte[] dst,
+    final int offset)
+  {
+    return encodeUnsigned64(Integer.toUnsignedLong(x), dst, offset);
+  }
+
+  /**
+   * Encode an unsigned 64-bit value.
+   *
+   * @param x      The value
+   * @param dst    The destination
+   * @param offset The starting offset
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If {@code dst} is too small
+   */
+
+  public static int encodeUnsigned64(
+    final long x,
+    final byte[] dst,
+    final int offset)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    final int length = encodedLength64(x);
+    Objects.checkFromIndexSize(offset, length, dst.length);
+    store(x, length, dst, offset);
+    return length;
+  }
+
+  /**
+   * Encode a signed 32-bit value with ZigZag encoding.
+   *
+   * @param x      The value
+   * @param dst    The destination
+   * @param offset The starting offset
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If {@code dst} is too small
+   */
+
+  public static int encodeSigned32(
+    final int x,
+    final byte[] dst,
+    final int offset)
+  {
+    return encodeUnsigned32(zigZagEncode32(x), dst, offset);
+  }
+
+  /**
+   * Encode a signed 64-bit value with ZigZag encoding.
+   *
+   * @param x      The value
+   * @param dst    The destination
+   * @param offset The starting offset
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If {@code dst} is too small
+   */
+
+  public static int encodeSigned64(
+    final long x,
+    final byte[] dst,
+    final int offset)
+  {
+    return encodeUnsigned64(zigZagEncode64(x), dst, offset);
+  }
+
+  /**
+   * Encode an unsigned 32-bit value.
+   *
+   * @param x     The value
+   * @param dst   The destination
+   * @param index The starting index
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If {@code dst} is too small
+   */
+
+  public static int encodeUnsigned32(
+    final int x,
+    final ByteBuffer dst,
+    final int index)
+  {
+    return encodeUnsigned64(Integer.toUnsignedLong(x), dst, index);
+  }
+
+  /**
+   * Encode an unsigned 64-bit value.
+   *
+   * @param x     The value
+   * @param dst   The destination
+   * @param index The starting index
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If {@code dst} is too small
+   */
+
+  public static int encodeUnsigned64(
+    final long x,
+    final ByteBuffer dst,
+    final int index)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    final int length = encodedLength64(x);
+    Objects.checkFromIndexSize(index, length, dst.limit());
+    store(x, length, dst, index);
+    return length;
+  }
+
+  /**
+   * Encode a signed 32-bit value with ZigZag encoding.
+   *
+   * @param x     The value
+   * @param dst   The destination
+   * @param index The starting index
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If {@code dst} is too small
+   */
+
+  public static int encodeSigned32(
+    final int x,
+    final ByteBuffer dst,
+    final int index)
+  {
+    return encodeUnsigned32(zigZagEncode32(x), dst, index);
+  }
+
+  /**
+   * Encode a signed 64-bit value with ZigZag encoding.
+   *
+   * @param x     The value
+   * @param dst   The destination
+   * @param index The starting index
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If {@code dst} is too small
+   */
+
+  public static int encodeSigned64(
+    final long x,
+    final ByteBuffer dst,
+    final int index)
+  {
+    return encodeUnsigned64(zigZagEncode64(x), dst, index);
+  }
+
+  /**
+   * Determine the length of the encoded value at {@code offset}.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   *
+   * @return The length in bytes of the encoded value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static int decodedLength(
+    final byte[] src,
+    final int offset)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(offset, src.length);
+
+    if (src.length - offset >= 8) {
+      final long stop = ~(long) BYTES_LE.get(src, offset) & CONTINUATION;
+      if (stop != 0L) {
+        return (Long.numberOfTrailingZeros(stop) >>> 3) + 1;
+      }
+    }
+    for (int k = 0; k < MAXIMUM_LENGTH_64; ++k) {
+      if (src[checkTruncated(offset, k, src.length)] >= 0) {
+        return k + 1;
+      }
+    }
+    throw tooLong(offset, MAXIMUM_LENGTH_64);
+  }
+
+  /**
+   * Determine the length of the encoded value at {@code index}.
+   *
+   * @param src   The source
+   * @param index The starting index
+   *
+   * @return The length in bytes of the encoded value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static int decodedLength(
+    final ByteBuffer src,
+    final int index)
+  {
+    Objects.requireNonNull(src, "Source");
+    final int limit = src.limit();
+    Objects.checkIndex(index, limit);
+
+    if (limit - index >= 8) {
+      final long stop = ~(long) BUFFER_LE.get(src, index) & CONTINUATION;
+      if (stop != 0L) {
+        return (Long.numberOfTrailingZeros(stop) >>> 3) + 1;
+      }
+    }
+    for (int k = 0; k < MAXIMUM_LENGTH_64; ++k) {
+      if (src.get(checkTruncated(index, k, limit)) >= 0) {
+        return k + 1;
+      }
+    }
+    throw tooLong(index, MAXIMUM_LENGTH_64);
+  }
+
+  /**
+   * Decode an unsigned 32-bit value. Bits above bit 31 in the fifth byte
+   * are discarded.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_32} bytes
+   */
+
+  public static int decodeUnsigned32(
+    final byte[] src,
+    final int offset)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(offset, src.length);
+    return (int) load(src, offset, MAXIMUM_LENGTH_32);
+  }
+
+  /**
+   * Decode an unsigned 64-bit value. Bits above bit 63 in the tenth byte
+   * are discarded.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static long decodeUnsigned64(
+    final byte[] src,
+    final int offset)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(offset, src.length);
+    return load(src, offset, MAXIMUM_LENGTH_64);
+  }
+
+  /**
+   * Decode a ZigZag encoded signed 32-bit value.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_32} bytes
+   */
+
+  public static int decodeSigned32(
+    final byte[] src,
+    final int offset)
+  {
+    return zigZagDecode32(decodeUnsigned32(src, offset));
+  }
+
+  /**
+   * Decode a ZigZag encoded signed 64-bit value.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static long decodeSigned64(
+    final byte[] src,
+    final int offset)
+  {
+    return zigZagDecode64(decodeUnsigned64(src, offset));
+  }
+
+  /**
+   * Decode an unsigned 32-bit value. Bits above bit 31 in the fifth byte
+   * are discarded.
+   *
+   * @param src   The source
+   * @param index The starting index
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_32} bytes
+   */
+
+  public static int decodeUnsigned32(
+    final ByteBuffer src,
+    final int index)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(index, src.limit());
+    return (int) load(src, index, MAXIMUM_LENGTH_32);
+  }
+
+  /**
+   * Decode an unsigned 64-bit value. Bits above bit 63 in the tenth byte
+   * are discarded.
+   *
+   * @param src   The source
+   * @param index The starting index
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static long decodeUnsigned64(
+    final ByteBuffer src,
+    final int index)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(index, src.limit());
+    return load(src, index, MAXIMUM_LENGTH_64);
+  }
+
+  /**
+   * Decode a ZigZag encoded signed 32-bit value.
+   *
+   * @param src   The source
+   * @param index The starting index
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_32} bytes
+   */
+
+  public static int decodeSigned32(
+    final ByteBuffer src,
+    final int index)
+  {
+    return zigZagDecode32(decodeUnsigned32(src, index));
+  }
+
+  /**
+   * Decode a ZigZag encoded signed 64-bit value.
+   *
+   * @param src   The source
+   * @param index The starting index
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static long decodeSigned64(
+    final ByteBuffer src,
+    final int index)
+  {
+    return zigZagDecode64(decodeUnsigned64(src, index));
+  }
+
+  /**
+   * Decode an unsigned 32-bit value, and store the number of bytes consumed in
+   * {@code length[0]}. The length is found by the same scan that decodes
+   * the value.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   * @param length The array that will receive the length
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_32} bytes
+   */
+
+  public static int decodeUnsigned32(
+    final byte[] src,
+    final int offset,
+    final int[] length)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(length, "Length");
+    Objects.checkIndex(offset, src.length);
+    return (int) load(src, offset, MAXIMUM_LENGTH_32, length);
+  }
+
+  /**
+   * Decode an unsigned 64-bit value, and store the number of bytes consumed in
+   * {@code length[0]}. The length is found by the same scan that decodes
+   * the value.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   * @param length The array that will receive the length
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static long decodeUnsigned64(
+    final byte[] src,
+    final int offset,
+    final int[] length)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(length, "Length");
+    Objects.checkIndex(offset, src.length);
+    return load(src, offset, MAXIMUM_LENGTH_64, length);
+  }
+
+  /**
+   * Decode a ZigZag encoded signed 32-bit value, and store the number of
+   * bytes consumed in {@code length[0]}. The length is found by the same
+   * scan that decodes the value.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   * @param length The array that will receive the length
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_32} bytes
+   */
+
+  public static int decodeSigned32(
+    final byte[] src,
+    final int offset,
+    final int[] length)
+  {
+    return zigZagDecode32(decodeUnsigned32(src, offset, length));
+  }
+
+  /**
+   * Decode a ZigZag encoded signed 64-bit value, and store the number of
+   * bytes consumed in {@code length[0]}. The length is found by the same
+   * scan that decodes the value.
+   *
+   * @param src    The source
+   * @param offset The starting offset
+   * @param length The array that will receive the length
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static long decodeSigned64(
+    final byte[] src,
+    final int offset,
+    final int[] length)
+  {
+    return zigZagDecode64(decodeUnsigned64(src, offset, length));
+  }
+
+  /**
+   * Decode an unsigned 32-bit value, and store the number of bytes consumed in
+   * {@code length[0]}. The length is found by the same scan that decodes
+   * the value.
+   *
+   * @param src    The source
+   * @param index  The starting index
+   * @param length The array that will receive the length
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_32} bytes
+   */
+
+  public static int decodeUnsigned32(
+    final ByteBuffer src,
+    final int index,
+    final int[] length)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(length, "Length");
+    Objects.checkIndex(index, src.limit());
+    return (int) load(src, index, MAXIMUM_LENGTH_32, length);
+  }
+
+  /**
+   * Decode an unsigned 64-bit value, and store the number of bytes consumed in
+   * {@code length[0]}. The length is found by the same scan that decodes
+   * the value.
+   *
+   * @param src    The source
+   * @param index  The starting index
+   * @param length The array that will receive the length
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static long decodeUnsigned64(
+    final ByteBuffer src,
+    final int index,
+    final int[] length)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(length, "Length");
+    Objects.checkIndex(index, src.limit());
+    return load(src, index, MAXIMUM_LENGTH_64, length);
+  }
+
+  /**
+   * Decode a ZigZag encoded signed 32-bit value, and store the number of
+   * bytes consumed in {@code length[0]}. The length is found by the same
+   * scan that decodes the value.
+   *
+   * @param src    The source
+   * @param index  The starting index
+   * @param length The array that will receive the length
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_32} bytes
+   */
+
+  public static int decodeSigned32(
+    final ByteBuffer src,
+    final int index,
+    final int[] length)
+  {
+    return zigZagDecode32(decodeUnsigned32(src, index, length));
+  }
+
+  /**
+   * Decode a ZigZag encoded signed 64-bit value, and store the number of
+   * bytes consumed in {@code length[0]}. The length is found by the same
+   * scan that decodes the value.
+   *
+   * @param src    The source
+   * @param index  The starting index
+   * @param length The array that will receive the length
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the value is truncated
+   * @throws IllegalArgumentException  If the value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static long decodeSigned64(
+    final ByteBuffer src,
+    final int index,
+    final int[] length)
+  {
+    return zigZagDecode64(decodeUnsigned64(src, index, length));
+  }
+
+  /**
+   * Encode {@code count} unsigned 64-bit values. The total length is
+   * computed, and checked against {@code dst}, before anything is written.
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The destination
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static int encodeArrayUnsigned64(
+    final long[] src,
+    final int srcOffset,
+    final byte[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(
+      dstOffset, encodedLength(src, srcOffset, count, false), dst.length);
+
+    int index = dstOffset;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOffset + k];
+      final int length = encodedLength64(x);
+      store(x, length, dst, index);
+      index += length;
+    }
+    return index - dstOffset;
+  }
+
+  /**
+   * Encode {@code count} signed 64-bit values with ZigZag encoding. The
+   * total length is computed, and checked against {@code dst}, before
+   * anything is written.
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The destination
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static int encodeArraySigned64(
+    final long[] src,
+    final int srcOffset,
+    final byte[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(
+      dstOffset, encodedLength(src, srcOffset, count, true), dst.length);
+
+    int index = dstOffset;
+    for (int k = 0; k < count; ++k) {
+      final long x = zigZagEncode64(src[srcOffset + k]);
+      final int length = encodedLength64(x);
+      store(x, length, dst, index);
+      index += length;
+    }
+    return index - dstOffset;
+  }
+
+  /**
+   * Decode {@code count} unsigned 64-bit values.
+   *
+   * @param src       The source
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   *
+   * @throws IndexOutOfBoundsException If a value is truncated or
+   *                                   {@code dst} is too small
+   * @throws IllegalArgumentException  If a value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static int decodeArrayUnsigned64(
+    final byte[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    int index = srcOffset;
+    for (int k = 0; k < count; ++k) {
+      final byte first = src[index];
+      final int length;
+      if (first >= 0) {
+        dst[dstOffset + k] = first;
+        length = 1;
+      } else if (src.length - index >= 8) {
+        final long w = (long) BYTES_LE.get(src, index);
+        final long stop = ~w & CONTINUATION;
+        if (stop != 0L) {
+          dst[dstOffset + k] = gather(w & (stop ^ (stop - 1L)));
+          length = (Long.numberOfTrailingZeros(stop) >>> 3) + 1;
+        } else {
+          dst[dstOffset + k] = load(src, index, MAXIMUM_LENGTH_64);
+          length = decodedLength(src, index);
+        }
+      } else {
+        dst[dstOffset + k] = load(src, index, MAXIMUM_LENGTH_64);
+        length = decodedLength(src, index);
+      }
+      index += length;
+    }
+    return index - srcOffset;
+  }
+
+  /**
+   * Decode {@code count} ZigZag encoded signed 64-bit values.
+   *
+   * @param src       The source
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   *
+   * @throws IndexOutOfBoundsException If a value is truncated or
+   *                                   {@code dst} is too small
+   * @throws IllegalArgumentException  If a value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static int decodeArraySigned64(
+    final byte[] src,
+    final int srcOffset,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    final int length =
+      decodeArrayUnsigned64(src, srcOffset, dst, dstOffset, count);
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = zigZagDecode64(dst[dstOffset + k]);
+    }
+    return length;
+  }
+
+  /**
+   * Encode {@code count} unsigned 64-bit values. The total length is
+   * computed, and checked against {@code dst}, before anything is written.
+   *
+   * @param src       The values
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The destination
+   * @param dstIndex  The starting index in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static int encodeArrayUnsigned64(
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(
+      dstIndex, encodedLength(src, srcOffset, count, false), dst.limit());
+
+    int index = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOffset + k];
+      final int length = encodedLength64(x);
+      store(x, length, dst, index);
+      index += length;
+    }
+    return index - dstIndex;
+  }
+
+  /**
+   * Decode {@code count} unsigned 64-bit values.
+   *
+   * @param src       The source
+   * @param srcIndex  The starting index in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return The number of bytes consumed
+   *
+   * @throws IndexOutOfBoundsException If a value is truncated or
+   *                                   {@code dst} is too small
+   * @throws IllegalArgumentException  If a value is longer than
+   *                                   {@link #MAXIMUM_LENGTH_64} bytes
+   */
+
+  public static int decodeArrayUnsigned64(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int limit = src.limit();
+    int index = srcIndex;
+    for (int k = 0; k < count; ++k) {
+      final byte first = src.get(index);
+      final int length;
+      if (first >= 0) {
+        dst[dstOffset + k] = first;
+        length = 1;
+      } else if (limit - index >= 8) {
+        final long w = (long) BUFFER_LE.get(src, index);
+        final long stop = ~w & CONTINUATION;
+        if (stop != 0L) {
+          dst[dstOffset + k] = gather(w & (stop ^ (stop - 1L)));
+          length = (Long.numberOfTrailingZeros(stop) >>> 3) + 1;
+        } else {
+          dst[dstOffset + k] = load(src, index, MAXIMUM_LENGTH_64);
+          length = decodedLength(src, index);
+        }
+      } else {
+        dst[dstOffset + k] = load(src, index, MAXIMUM_LENGTH_64);
+        length = decodedLength(src, index);
+      }
+      index += length;
+    }
+    return index - srcIndex;
+  }
+
+  private static int encodedLength(
+    final long[] src,
+    final int srcOffset,
+    final int count,
+    final boolean signed)
+  {
+    long total = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOffset + k];
+      total += encodedLength64(signed ? zigZagEncode64(x) : x);
+    }
+    return (int) Math.min(total, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Gather the 7-bit groups of up to 8 encoded bytes, loaded in
+   * little-endian order, into a single value. Bytes following the
+   * terminating byte must already have been cleared.
+   */
+
+  private static long gather(
+    final long w)
+  {
+    long x = w & PAYLOAD;
+    x = (x & 0x007f_007f_007f_007fL) | ((x & 0x7f00_7f00_7f00_7f00L) >>> 1);
+    x = (x & 0x0000_3fff_0000_3fffL) | ((x & 0x3fff_0000_3fff_0000L) >>> 2);
+    return (x & 0x0000_0000_0fff_ffffL) | ((x & 0x0fff_ffff_0000_0000L) >>> 4);
+  }
+
+  private static long load(
+    final byte[] src,
+    final int offset,
+    final int maximum)
+  {
+    return load(src, offset, maximum, null);
+  }
+
+  /*
+   * Decode the value at {@code offset}, storing its length in
+   * {@code length[0]} if {@code length} is not null.
+   */
+
+  private static long load(
+    final byte[] src,
+    final int offset,
+    final int maximum,
+    final int[] length)
+  {
+    if (src.length - offset >= 8) {
+      final long w = (long) BYTES_LE.get(src, offset);
+      final long stop = ~w & CONTINUATION;
+      final int last = Long.numberOfTrailingZeros(stop) >>> 3;
+      if (stop != 0L && last < maximum) {
+        if (length != null) {
+          length[0] = last + 1;
+        }
+        return gather(w & (stop ^ (stop - 1L)));
+      }
+    }
+
+    long result = 0L;
+    for (int k = 0; k < maximum; ++k) {
+      final byte b = src[checkTruncated(offset, k, src.length)];
+      result |= (b & 0x7fL) << (7 * k);
+      if (b >= 0) {
+        if (length != null) {
+          length[0] = k + 1;
+        }
+        return result;
+      }
+    }
+    throw tooLong(offset, maximum);
+  }
+
+  private static long load(
+    final ByteBuffer src,
+    final int index,
+    final int maximum)
+  {
+    return load(src, index, maximum, null);
+  }
+
+  /*
+   * Decode the value at {@code index}, storing its length in
+   * {@code length[0]} if {@code length} is not null.
+   */
+
+  private static long load(
+    final ByteBuffer src,
+    final int index,
+    final int maximum,
+    final int[] length)
+  {
+    final int limit = src.limit();
+    if (limit - index >= 8) {
+      final long w = (long) BUFFER_LE.get(src, index);
+      final long stop = ~w & CONTINUATION;
+      final int last = Long.numberOfTrailingZeros(stop) >>> 3;
+      if (stop != 0L && last < maximum) {
+        if (length != null) {
+          length[0] = last + 1;
+        }
+        return gather(w & (stop ^ (stop - 1L)));
+      }
+    }
+
+    long result = 0L;
+    for (int k = 0; k < maximum; ++k) {
+      final byte b = src.get(checkTruncated(index, k, limit));
+      result |= (b & 0x7fL) << (7 * k);
+      if (b >= 0) {
+        if (length != null) {
+          length[0] = k + 1;
+        }
+        return result;
+      }
+    }
+    throw tooLong(index, maximum);
+  }
+
+  private static void store(
+    final long x,
+    final int length,
+    final byte[] dst,
+    final int offset)
+  {
+    long v = x;
+    final int last = offset + length - 1;
+    for (int index = offset; index < last; ++index) {
+      dst[index] = (byte) (v | 0x80L);
+      v >>>= 7;
+    }
+    dst[last] = (byte) v;
+  }
+
+  private static void store(
+    final long x,
+    final int length,
+    final ByteBuffer dst,
+    final int offset)
+  {
+    long v = x;
+    final int last = offset + length - 1;
+    for (int index = offset; index < last; ++index) {
+      dst.put(index, (byte) (v | 0x80L));
+      v >>>= 7;
+    }
+    dst.put(last, (byte) v);
+  }
+
+  private static int checkTruncated(
+    final int start,
+    final int k,
+    final int limit)
+  {
+    final int index = start + k;
+    if (index >= limit) {
+      throw new IndexOutOfBoundsException(
+        String.format(
+          "Variable-length integer at %d is truncated at %d (limit %d)",
+          Integer.valueOf(start),
+          Integer.valueOf(index),
+          Integer.valueOf(limit)));
+    }
+    return index;
+  }
+
+  private static IllegalArgumentException tooLong(
+    final int start,
+    final int maximum)
+  {
+    return new IllegalArgumentException(
+      String.format(
+        "Variable-length integer at %d is longer than %d bytes",
+        Integer.valueOf(start),
+        Integer.valueOf(maximum)));
+  }
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The shared implementation of the 40, 48, and 56-bit integer classes,
+ * parameterized by the width in bytes and the signedness of the values.
+ * The public classes pass both as constants, so each call site is
+ * specialized once inlined.
+ * </p>
+ * <p>
+ * Unpacking performs a single 64-bit load and shifts the value into place,
+ * sign-extending or zero-extending it. When fewer than 8 bytes follow the
+ * value, the load covers the last 8 bytes of the source instead, so only
+ * sources shorter than 8 bytes in total are read a byte at a time. The
+ * bulk packing functions write each value with a single 64-bit store whose
+ * trailing bytes are overwritten by the following values.
+ * </p>
+ *
+ * @see Signed40
+ * @see Signed48
+ * @see Signed56
+ * @see Unsigned40
+ * @see Unsigned48
+ * @see Unsigned56
+ */
+
+final class WideIntegers
+{
+  private static final VarHandle BYTES_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BYTES_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  private WideIntegers()
+  {
+
+  }
+
+  static byte[] packToBytesBigEndian(
+    final int width,
+    final long i,
+    final byte[] r)
+  {
+    checkLength(width, r);
+    storeBytesBigEndian(width, i, r, 0);
+    return r;
+  }
+
+  static byte[] packToBytesBigEndian(
+    final int width,
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, width, r.length);
+    storeBytesBigEndian(width, i, r, offset);
+    return r;
+  }
+
+  static ByteBuffer packToBufferBigEndian(
+    final int width,
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(index, width, r.limit());
+    storeBufferBigEndian(width, i, r, index);
+    return r;
+  }
+
+  static byte[] packToBytesLittleEndian(
+    final int width,
+    final long i,
+    final byte[] r)
+  {
+    checkLength(width, r);
+    storeBytesLittleEndian(width, i, r, 0);
+    return r;
+  }
+
+  static byte[] packToBytesLittleEndian(
+    final int width,
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, width, r.length);
+    storeBytesLittleEndian(width, i, r, offset);
+    return r;
+  }
+
+  static ByteBuffer packToBufferLittleEndian(
+    final int width,
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(index, width, r.limit());
+    storeBufferLittleEndian(width, i, r, index);
+    return r;
+  }
+
+  static long unpackFromBytesBigEndian(
+    final int width,
+    final boolean signed,
+    final byte[] buffer)
+  {
+    checkLength(width, buffer);
+    return loadBytesBigEndian(width, signed, buffer, 0);
+  }
+
+  static long unpackFromBytesBigEndian(
+    final int width,
+    final boolean signed,
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, width, buffer.length);
+    return loadBytesBigEndian(width, signed, buffer, offset);
+  }
+
+  static long unpackFromBufferBigEndian(
+    final int width,
+    final boolean signed,
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(index, width, buffer.limit());
+    return loadBufferBigEndian(width, signed, buffer, index);
+  }
+
+  static long unpackFromBytesLittleEndian(
+    final int width,
+    final boolean signed,
+    final byte[] buffer)
+  {
+    checkLength(width, buffer);
+    return loadBytesLittleEndian(width, signed, buffer, 0);
+  }
+
+  static long unpackFromBytesLittleEndian(
+    final int width,
+    final boolean signed,
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, width, buffer.length);
+    return loadBytesLittleEndian(width, signed, buffer, offset);
+  }
+
+  static long unpackFromBufferLittleEndian(
+    final int width,
+    final boolean signed,
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(index, width, buffer.limit());
+    return loadBufferLittleEndian(width, signed, buffer, index);
+  }
+
+  static ByteBuffer packArrayBigEndian(
+    final int width,
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, width);
+
+    final int shift = 64 - (width << 3);
+    final int end = dstIndex + count * width;
+    int index = dstIndex;
+    int offset = srcOffset;
+    for (; end - index >= 8; index += width, ++offset) {
+      BUFFER_BE.set(dst, index, src[offset] << shift);
+    }
+    for (; index < end; index += width, ++offset) {
+      storeBufferBigEndian(width, src[offset], dst, index);
+    }
+    return dst;
+  }
+
+  static long[] unpackArrayBigEndian(
+    final int width,
+    final boolean signed,
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, width);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int shift = 64 - (width << 3);
+    final int limit = src.limit();
+    int index = srcIndex;
+    int offset = dstOffset;
+    for (int k = 0; k < count && limit - index >= 8; ++k) {
+      dst[offset] = extend((long) BUFFER_BE.get(src, index), shift, signed);
+      index += width;
+      ++offset;
+    }
+    for (; offset < dstOffset + count; ++offset) {
+      dst[offset] = loadBufferBigEndian(width, signed, src, index);
+      index += width;
+    }
+    return dst;
+  }
+
+  static ByteBuffer packArrayLittleEndian(
+    final int width,
+    final long[] src,
+    final int srcOffset,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Buffer");
+    Ranges.checkArrayRange(srcOffset, count, src.length);
+    Ranges.checkBufferRange(dst, dstIndex, count, width);
+
+    final int end = dstIndex + count * width;
+    int index = dstIndex;
+    int offset = srcOffset;
+    for (; end - index >= 8; index += width, ++offset) {
+      BUFFER_LE.set(dst, index, src[offset]);
+    }
+    for (; index < end; index += width, ++offset) {
+      storeBufferLittleEndian(width, src[offset], dst, index);
+    }
+    return dst;
+  }
+
+  static long[] unpackArrayLittleEndian(
+    final int width,
+    final boolean signed,
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.requireNonNull(dst, "Destination");
+    Ranges.checkBufferRange(src, srcIndex, count, width);
+    Ranges.checkArrayRange(dstOffset, count, dst.length);
+
+    final int shift = 64 - (width << 3);
+    final int limit = src.limit();
+    int index = srcIndex;
+    int offset = dstOffset;
+    for (int k = 0; k < count && limit - index >= 8; ++k) {
+      final long x = (long) BUFFER_LE.get(src, index);
+      dst[offset] = extend(x << shift, shift, signed);
+      index += width;
+      ++offset;
+    }
+    for (; offset < dstOffset + count; ++offset) {
+      dst[offset] = loadBufferLittleEndian(width, signed, src, index);
+      index += width;
+    }
+    return dst;
+  }
+
+  private static void checkLength(
+    final int width,
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < width) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Buffer.length must be >= %d (is %d)",
+          Integer.valueOf(width),
+          Integer.valueOf(buffer.length)));
+    }
+  }
+
+  /*
+   * Shift a value held in the high bytes of {@code x} down into the low
+   * bytes, sign-extending or zero-extending it.
+   */
+
+  private static long extend(
+    final long x,
+    final int shift,
+    final boolean signed)
+  {
+    return signed ? x >> shift : x >>> shift;
+  }
+
+  private static long loadBytesBigEndian(
+    final int width,
+    final boolean signed,
+    final byte[] b,
+    final int o)
+  {
+    final int shift = 64 - (width << 3);
+    if (b.length - o >= 8) {
+      return extend((long) BYTES_BE.get(b, o), shift, signed);
+    }
+    if (b.length >= 8) {
+      final int start = b.length - 8;
+      final long x = (long) BYTES_BE.get(b, start);
+      return extend(x << ((o - start) << 3), shift, signed);
+    }
+    long r = 0L;
+    for (int k = 0; k < width; ++k) {
+      r = (r << 8) | (b[o + k] & 0xffL);
+    }
+    return extend(r << shift, shift, signed);
+  }
+
+  private static long loadBytesLittleEndian(
+    final int width,
+    final boolean signed,
+    final byte[] b,
+    final int o)
+  {
+    final int shift = 64 - (width << 3);
+    if (b.length - o >= 8) {
+      return extend((long) BYTES_LE.get(b, o) << shift, shift, signed);
+    }
+    if (b.length >= 8) {
+      final int start = b.length - 8;
+      final long x = (long) BYTES_LE.get(b, start);
+      return extend(x << ((8 - width - (o - start)) << 3), shift, signed);
+    }
+    long r = 0L;
+    for (int k = width - 1; k >= 0; --k) {
+      r = (r << 8) | (b[o + k] & 0xffL);
+    }
+    return extend(r << shift, shift, signed);
+  }
+
+  private static long loadBufferBigEndian(
+    final int width,
+    final boolean signed,
+    final ByteBuffer b,
+    final int o)
+  {
+    final int shift = 64 - (width << 3);
+    final int limit = b.limit();
+    if (limit - o >= 8) {
+      return extend((long) BUFFER_BE.get(b, o), shift, signed);
+    }
+    if (limit >= 8) {
+      final int start = limit - 8;
+      final long x = (long) BUFFER_BE.get(b, start);
+      return extend(x << ((o - start) << 3), shift, signed);
+    }
+    long r = 0L;
+    for (int k = 0; k < width; ++k) {
+      r = (r << 8) | (b.get(o + k) & 0xffL);
+    }
+    return extend(r << shift, shift, signed);
+  }
+
+  private static long loadBufferLittleEndian(
+    final int width,
+    final boolean signed,
+    final ByteBuffer b,
+    final int o)
+  {
+    final int shift = 64 - (width << 3);
+    final int limit = b.limit();
+    if (limit - o >= 8) {
+      return extend((long) BUFFER_LE.get(b, o) << shift, shift, signed);
+    }
+    if (limit >= 8) {
+      final int start = limit - 8;
+      final long x = (long) BUFFER_LE.get(b, start);
+      return extend(x << ((8 - width - (o - start)) << 3), shift, signed);
+    }
+    long r = 0L;
+    for (int k = width - 1; k >= 0; --k) {
+      r = (r << 8) | (b.get(o + k) & 0xffL);
+    }
+    return extend(r << shift, shift, signed);
+  }
+
+  private static void storeBytesBigEndian(
+    final int width,
+    final long i,
+    final byte[] b,
+    final int o)
+  {
+    for (int k = 0; k < width; ++k) {
+      b[o + k] = (byte) (i >> ((width - 1 - k) << 3));
+    }
+  }
+
+  private static void storeBytesLittleEndian(
+    final int width,
+    final long i,
+    final byte[] b,
+    final int o)
+  {
+    for (int k = 0; k < width; ++k) {
+      b[o + k] = (byte) (i >> (k << 3));
+    }
+  }
+
+  private static void storeBufferBigEndian(
+    final int width,
+    final long i,
+    final ByteBuffer b,
+    final int o)
+  {
+    for (int k = 0; k < width; ++k) {
+      b.put(o + k, (byte) (i >> ((width - 1 - k) << 3)));
+    }
+  }
+
+  private static void storeBufferLittleEndian(
+    final int width,
+    final long i,
+    final ByteBuffer b,
+    final int o)
+  {
+    for (int k = 0; k < width; ++k) {
+      b.put(o + k, (byte) (i >> (k << 3)));
+    }
+  }
+}
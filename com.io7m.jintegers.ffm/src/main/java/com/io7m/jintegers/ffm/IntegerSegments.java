@@ -0,0 +1,1362 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.ffm;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Integer packing/unpacking functions for {@link MemorySegment} values.
+ * </p>
+ * <p>
+ * These functions mirror the {@code ByteBuffer} functions of the
+ * {@code Signed*} and {@code Unsigned*} classes in the
+ * {@code com.io7m.jintegers} package, but take {@code long}
+ * offsets so that segments larger than 2GiB, such as large arenas and
+ * memory-mapped files, can be addressed directly. All accesses use
+ * unaligned layouts, and so values may start at any offset. Out-of-range
+ * offsets result in {@link IndexOutOfBoundsException}.
+ * </p>
+ * <p>
+ * This class requires Java 22 or newer, and so lives in its own module
+ * rather than in {@code com.io7m.jintegers.core}, which targets Java 17.
+ * </p>
+ */
+
+public final class IntegerSegments
+{
+  private static final ValueLayout.OfShort SHORT_BE =
+    ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+  private static final ValueLayout.OfShort SHORT_LE =
+    ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+  private static final ValueLayout.OfInt INT_BE =
+    ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+  private static final ValueLayout.OfInt INT_LE =
+    ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+  private static final ValueLayout.OfLong LONG_BE =
+    ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+  private static final ValueLayout.OfLong LONG_LE =
+    ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private IntegerSegments()
+  {
+
+  }
+
+  /**
+   * Unpack an unsigned 8-bit integer from {@code segment}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackUnsigned8(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(ValueLayout.JAVA_BYTE, offset) & 0xff;
+  }
+
+  /**
+   * Pack an unsigned 8-bit integer into {@code segment}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned8(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(ValueLayout.JAVA_BYTE, offset, (byte) x);
+    return segment;
+  }
+
+  /**
+   * Unpack a signed 16-bit integer from {@code segment} assuming a
+   * big-endian encoding such that the most significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackSigned16BigEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(SHORT_BE, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a big-endian encoding such
+   * that the most significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packSigned16BigEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(SHORT_BE, offset, (short) x);
+    return segment;
+  }
+
+  /**
+   * Unpack an unsigned 16-bit integer from {@code segment} assuming a
+   * big-endian encoding such that the most significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackUnsigned16BigEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(SHORT_BE, offset) & 0xffff;
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a big-endian encoding such
+   * that the most significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned16BigEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(SHORT_BE, offset, (short) x);
+    return segment;
+  }
+
+  /**
+   * Unpack a signed 24-bit integer from {@code segment} assuming a
+   * big-endian encoding such that the most significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackSigned24BigEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return signExtend24(unpack24BE(segment, offset));
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a big-endian encoding such
+   * that the most significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packSigned24BigEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    pack24BE(x, segment, offset);
+    return segment;
+  }
+
+  /**
+   * Unpack an unsigned 24-bit integer from {@code segment} assuming a
+   * big-endian encoding such that the most significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackUnsigned24BigEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return unpack24BE(segment, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a big-endian encoding such
+   * that the most significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned24BigEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    pack24BE(x, segment, offset);
+    return segment;
+  }
+
+  /**
+   * Unpack a signed 32-bit integer from {@code segment} assuming a
+   * big-endian encoding such that the most significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackSigned32BigEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(INT_BE, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a big-endian encoding such
+   * that the most significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packSigned32BigEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(INT_BE, offset, x);
+    return segment;
+  }
+
+  /**
+   * Unpack an unsigned 32-bit integer from {@code segment} assuming a
+   * big-endian encoding such that the most significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static long unpackUnsigned32BigEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(INT_BE, offset) & 0xffffffffL;
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a big-endian encoding such
+   * that the most significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned32BigEndian(
+    final long x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(INT_BE, offset, (int) x);
+    return segment;
+  }
+
+  /**
+   * Unpack a signed 64-bit integer from {@code segment} assuming a
+   * big-endian encoding such that the most significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static long unpackSigned64BigEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(LONG_BE, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a big-endian encoding such
+   * that the most significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packSigned64BigEndian(
+    final long x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(LONG_BE, offset, x);
+    return segment;
+  }
+
+  /**
+   * Unpack an unsigned 64-bit integer from {@code segment} assuming a
+   * big-endian encoding such that the most significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static long unpackUnsigned64BigEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(LONG_BE, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a big-endian encoding such
+   * that the most significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned64BigEndian(
+    final long x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(LONG_BE, offset, x);
+    return segment;
+  }
+
+  /**
+   * Unpack a signed 16-bit integer from {@code segment} assuming a
+   * little-endian encoding such that the least significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackSigned16LittleEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(SHORT_LE, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a little-endian encoding such
+   * that the least significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packSigned16LittleEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(SHORT_LE, offset, (short) x);
+    return segment;
+  }
+
+  /**
+   * Unpack an unsigned 16-bit integer from {@code segment} assuming a
+   * little-endian encoding such that the least significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackUnsigned16LittleEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(SHORT_LE, offset) & 0xffff;
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a little-endian encoding such
+   * that the least significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned16LittleEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(SHORT_LE, offset, (short) x);
+    return segment;
+  }
+
+  /**
+   * Unpack a signed 24-bit integer from {@code segment} assuming a
+   * little-endian encoding such that the least significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackSigned24LittleEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return signExtend24(unpack24LE(segment, offset));
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a little-endian encoding such
+   * that the least significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packSigned24LittleEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    pack24LE(x, segment, offset);
+    return segment;
+  }
+
+  /**
+   * Unpack an unsigned 24-bit integer from {@code segment} assuming a
+   * little-endian encoding such that the least significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackUnsigned24LittleEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return unpack24LE(segment, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a little-endian encoding such
+   * that the least significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned24LittleEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    pack24LE(x, segment, offset);
+    return segment;
+  }
+
+  /**
+   * Unpack a signed 32-bit integer from {@code segment} assuming a
+   * little-endian encoding such that the least significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static int unpackSigned32LittleEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(INT_LE, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a little-endian encoding such
+   * that the least significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packSigned32LittleEndian(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(INT_LE, offset, x);
+    return segment;
+  }
+
+  /**
+   * Unpack an unsigned 32-bit integer from {@code segment} assuming a
+   * little-endian encoding such that the least significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static long unpackUnsigned32LittleEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(INT_LE, offset) & 0xffffffffL;
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a little-endian encoding such
+   * that the least significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned32LittleEndian(
+    final long x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(INT_LE, offset, (int) x);
+    return segment;
+  }
+
+  /**
+   * Unpack a signed 64-bit integer from {@code segment} assuming a
+   * little-endian encoding such that the least significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static long unpackSigned64LittleEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(LONG_LE, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a little-endian encoding such
+   * that the least significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packSigned64LittleEndian(
+    final long x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(LONG_LE, offset, x);
+    return segment;
+  }
+
+  /**
+   * Unpack an unsigned 64-bit integer from {@code segment} assuming a
+   * little-endian encoding such that the least significant byte is at
+   * {@code offset}.
+   *
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return An unpacked integer value
+   */
+
+  public static long unpackUnsigned64LittleEndian(
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    return segment.get(LONG_LE, offset);
+  }
+
+  /**
+   * Pack {@code x} into {@code segment} using a little-endian encoding such
+   * that the least significant byte is at {@code offset}.
+   *
+   * @param x       The value
+   * @param segment The segment
+   * @param offset  The offset
+   *
+   * @return {@code segment}
+   */
+
+  public static MemorySegment packUnsigned64LittleEndian(
+    final long x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    segment.set(LONG_LE, offset, x);
+    return segment;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} signed 16-bit values from {@code src}, starting at
+   * {@code srcOffset} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   *
+   * @param src       The segment from which to unpack data
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArraySigned16BigEndian(
+    final MemorySegment src,
+    final long srcOffset,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Segment");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOffset, (long) count * 2L, src.byteSize());
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    long offset = srcOffset;
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = src.get(SHORT_BE, offset);
+      offset += 2L;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} signed 16-bit values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstOffset} using a big-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   *
+   * @param src       The values to be packed
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The segment
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static MemorySegment packArraySigned16BigEndian(
+    final int[] src,
+    final int srcOffset,
+    final MemorySegment dst,
+    final long dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Segment");
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(dstOffset, (long) count * 2L, dst.byteSize());
+
+    long offset = dstOffset;
+    for (int k = 0; k < count; ++k) {
+      dst.set(SHORT_BE, offset, (short) src[srcOffset + k]);
+      offset += 2L;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} signed 24-bit values from {@code src}, starting at
+   * {@code srcOffset} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   *
+   * @param src       The segment from which to unpack data
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArraySigned24BigEndian(
+    final MemorySegment src,
+    final long srcOffset,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Segment");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOffset, (long) count * 3L, src.byteSize());
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    long offset = srcOffset;
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = signExtend24(unpack24BE(src, offset));
+      offset += 3L;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} signed 24-bit values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstOffset} using a big-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   *
+   * @param src       The values to be packed
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The segment
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static MemorySegment packArraySigned24BigEndian(
+    final int[] src,
+    final int srcOffset,
+    final MemorySegment dst,
+    final long dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Segment");
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(dstOffset, (long) count * 3L, dst.byteSize());
+
+    long offset = dstOffset;
+    for (int k = 0; k < count; ++k) {
+      pack24BE(src[srcOffset + k], dst, offset);
+      offset += 3L;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} signed 32-bit values from {@code src}, starting at
+   * {@code srcOffset} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   *
+   * @param src       The segment from which to unpack data
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArraySigned32BigEndian(
+    final MemorySegment src,
+    final long srcOffset,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Segment");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOffset, (long) count * 4L, src.byteSize());
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    MemorySegment.copy(src, INT_BE, srcOffset, dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} signed 32-bit values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstOffset} using a big-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   *
+   * @param src       The values to be packed
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The segment
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static MemorySegment packArraySigned32BigEndian(
+    final int[] src,
+    final int srcOffset,
+    final MemorySegment dst,
+    final long dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Segment");
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(dstOffset, (long) count * 4L, dst.byteSize());
+
+    MemorySegment.copy(src, srcOffset, dst, INT_BE, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} signed 64-bit values from {@code src}, starting at
+   * {@code srcOffset} assuming a big-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   *
+   * @param src       The segment from which to unpack data
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArraySigned64BigEndian(
+    final MemorySegment src,
+    final long srcOffset,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Segment");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOffset, (long) count * 8L, src.byteSize());
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    MemorySegment.copy(src, LONG_BE, srcOffset, dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} signed 64-bit values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstOffset} using a big-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   *
+   * @param src       The values to be packed
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The segment
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static MemorySegment packArraySigned64BigEndian(
+    final long[] src,
+    final int srcOffset,
+    final MemorySegment dst,
+    final long dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Segment");
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(dstOffset, (long) count * 8L, dst.byteSize());
+
+    MemorySegment.copy(src, srcOffset, dst, LONG_BE, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} signed 16-bit values from {@code src}, starting at
+   * {@code srcOffset} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   *
+   * @param src       The segment from which to unpack data
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArraySigned16LittleEndian(
+    final MemorySegment src,
+    final long srcOffset,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Segment");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOffset, (long) count * 2L, src.byteSize());
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    long offset = srcOffset;
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = src.get(SHORT_LE, offset);
+      offset += 2L;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} signed 16-bit values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstOffset} using a little-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   *
+   * @param src       The values to be packed
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The segment
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static MemorySegment packArraySigned16LittleEndian(
+    final int[] src,
+    final int srcOffset,
+    final MemorySegment dst,
+    final long dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Segment");
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(dstOffset, (long) count * 2L, dst.byteSize());
+
+    long offset = dstOffset;
+    for (int k = 0; k < count; ++k) {
+      dst.set(SHORT_LE, offset, (short) src[srcOffset + k]);
+      offset += 2L;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} signed 24-bit values from {@code src}, starting at
+   * {@code srcOffset} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   *
+   * @param src       The segment from which to unpack data
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArraySigned24LittleEndian(
+    final MemorySegment src,
+    final long srcOffset,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Segment");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOffset, (long) count * 3L, src.byteSize());
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    long offset = srcOffset;
+    for (int k = 0; k < count; ++k) {
+      dst[dstOffset + k] = signExtend24(unpack24LE(src, offset));
+      offset += 3L;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} signed 24-bit values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstOffset} using a little-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   *
+   * @param src       The values to be packed
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The segment
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static MemorySegment packArraySigned24LittleEndian(
+    final int[] src,
+    final int srcOffset,
+    final MemorySegment dst,
+    final long dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Segment");
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(dstOffset, (long) count * 3L, dst.byteSize());
+
+    long offset = dstOffset;
+    for (int k = 0; k < count; ++k) {
+      pack24LE(src[srcOffset + k], dst, offset);
+      offset += 3L;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} signed 32-bit values from {@code src}, starting at
+   * {@code srcOffset} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   *
+   * @param src       The segment from which to unpack data
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArraySigned32LittleEndian(
+    final MemorySegment src,
+    final long srcOffset,
+    final int[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Segment");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOffset, (long) count * 4L, src.byteSize());
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    MemorySegment.copy(src, INT_LE, srcOffset, dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} signed 32-bit values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstOffset} using a little-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   *
+   * @param src       The values to be packed
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The segment
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static MemorySegment packArraySigned32LittleEndian(
+    final int[] src,
+    final int srcOffset,
+    final MemorySegment dst,
+    final long dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Segment");
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(dstOffset, (long) count * 4L, dst.byteSize());
+
+    MemorySegment.copy(src, srcOffset, dst, INT_LE, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} signed 64-bit values from {@code src}, starting at
+   * {@code srcOffset} assuming a little-endian encoding, into {@code dst}
+   * starting at {@code dst[dstOffset]}. The ranges are checked once, up
+   * front.
+   * </p>
+   *
+   * @param src       The segment from which to unpack data
+   * @param srcOffset The starting offset in {@code src}
+   * @param dst       The array that will receive the values
+   * @param dstOffset The offset of the first value in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArraySigned64LittleEndian(
+    final MemorySegment src,
+    final long srcOffset,
+    final long[] dst,
+    final int dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Segment");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOffset, (long) count * 8L, src.byteSize());
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+    MemorySegment.copy(src, LONG_LE, srcOffset, dst, dstOffset, count);
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} signed 64-bit values from {@code src}, starting at
+   * {@code src[srcOffset]}, into {@code dst} starting at
+   * {@code dstOffset} using a little-endian encoding. The ranges are checked
+   * once, up front.
+   * </p>
+   *
+   * @param src       The values to be packed
+   * @param srcOffset The offset of the first value in {@code src}
+   * @param dst       The segment
+   * @param dstOffset The starting offset in {@code dst}
+   * @param count     The number of values
+   *
+   * @return {@code dst}
+   */
+
+  public static MemorySegment packArraySigned64LittleEndian(
+    final long[] src,
+    final int srcOffset,
+    final MemorySegment dst,
+    final long dstOffset,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Segment");
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(dstOffset, (long) count * 8L, dst.byteSize());
+
+    MemorySegment.copy(src, srcOffset, dst, LONG_LE, dstOffset, count);
+    return dst;
+  }
+
+  private static int signExtend24(
+    final int x)
+  {
+    return (x << 8) >> 8;
+  }
+
+  private static int unpack24BE(
+    final MemorySegment segment,
+    final long offset)
+  {
+    final long size = segment.byteSize();
+    Objects.checkFromIndexSize(offset, 3L, size);
+    if (size - offset >= 4L) {
+      return segment.get(INT_BE, offset) >>> 8;
+    }
+
+    final int r0 = (segment.get(ValueLayout.JAVA_BYTE, offset) & 0xff) << 16;
+    final int r1 =
+      (segment.get(ValueLayout.JAVA_BYTE, offset + 1L) & 0xff) << 8;
+    final int r2 = segment.get(ValueLayout.JAVA_BYTE, offset + 2L) & 0xff;
+    return r0 | r1 | r2;
+  }
+
+  private static int unpack24LE(
+    final MemorySegment segment,
+    final long offset)
+  {
+    final long size = segment.byteSize();
+    Objects.checkFromIndexSize(offset, 3L, size);
+    if (size - offset >= 4L) {
+      return segment.get(INT_LE, offset) & 0xffffff;
+    }
+
+    final int r0 = segment.get(ValueLayout.JAVA_BYTE, offset) & 0xff;
+    final int r1 =
+      (segment.get(ValueLayout.JAVA_BYTE, offset + 1L) & 0xff) << 8;
+    final int r2 =
+      (segment.get(ValueLayout.JAVA_BYTE, offset + 2L) & 0xff) << 16;
+    return r0 | r1 | r2;
+  }
+
+  private static void pack24BE(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.checkFromIndexSize(offset, 3L, segment.byteSize());
+    segment.set(ValueLayout.JAVA_BYTE, offset, (byte) (x >> 16));
+    segment.set(ValueLayout.JAVA_BYTE, offset + 1L, (byte) (x >> 8));
+    segment.set(ValueLayout.JAVA_BYTE, offset + 2L, (byte) x);
+  }
+
+  private static void pack24LE(
+    final int x,
+    final MemorySegment segment,
+    final long offset)
+  {
+    Objects.checkFromIndexSize(offset, 3L, segment.byteSize());
+    segment.set(ValueLayout.JAVA_BYTE, offset, (byte) x);
+    segment.set(ValueLayout.JAVA_BYTE, offset + 1L, (byte) (x >> 8));
+    segment.set(ValueLayout.JAVA_BYTE, offset + 2L, (byte) (x >> 16));
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.ffm;
+
+import com.io7m.jintegers.RecordSort;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>
+ * Functions that sort fixed-size records held in a {@link MemorySegment},
+ * such as an off-heap arena or a memory-mapped file, with a
+ * {@link RecordSort}.
+ * </p>
+ * <p>
+ * The records are sorted in place through a {@link ByteBuffer} view of the
+ * segment, without copying them onto the heap. The offset of the records
+ * within the segment is a {@code long}, and so records may lie anywhere in
+ * a segment larger than 2GiB, but the records of a single sort must occupy
+ * no more than {@link Integer#MAX_VALUE} bytes, the limit of a buffer view.
+ * </p>
+ */
+
+public final class RecordSegments
+{
+  private RecordSegments()
+  {
+
+  }
+
+  /**
+   * <p>
+   * Sort {@code count} records starting at {@code offset} in
+   * {@code segment} with {@link RecordSort#sort(ByteBuffer, int, int)}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if the records
+   * do not lie within {@code segment}, {@link IllegalArgumentException} if
+   * they occupy more than {@link Integer#MAX_VALUE} bytes, and
+   * {@link ReadOnlyBufferException} if {@code segment} is read-only. In
+   * all cases, nothing is modified.
+   * </p>
+   *
+   * @param sort    The sort
+   * @param segment The segment
+   * @param offset  The offset of the first record
+   * @param count   The number of records
+   */
+
+  public static void sort(
+    final RecordSort sort,
+    final MemorySegment segment,
+    final long offset,
+    final int count)
+  {
+    Objects.requireNonNull(sort, "Sort");
+    sort.sort(view(sort, segment, offset, count), 0, count);
+  }
+
+  /**
+   * <p>
+   * Sort {@code count} records starting at {@code offset} in
+   * {@code segment} with
+   * {@link RecordSort#sortParallel(ByteBuffer, int, int, ForkJoinPool)}.
+   * The scratch buffer is direct if {@code segment} is native. The threads
+   * of {@code pool} read and write the segment, and so it must not be
+   * confined to a single thread: allocate it with {@link Arena#ofShared()}
+   * or {@link Arena#ofAuto()}, for example.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if the records
+   * do not lie within {@code segment}, {@link IllegalArgumentException} if
+   * they occupy more than {@link Integer#MAX_VALUE} bytes, and
+   * {@link ReadOnlyBufferException} if {@code segment} is read-only. In
+   * all cases, nothing is modified.
+   * </p>
+   *
+   * @param sort    The sort
+   * @param segment The segment
+   * @param offset  The offset of the first record
+   * @param count   The number of records
+   * @param pool    The pool used to run tasks
+   */
+
+  public static void sortParallel(
+    final RecordSort sort,
+    final MemorySegment segment,
+    final long offset,
+    final int count,
+    final ForkJoinPool pool)
+  {
+    Objects.requireNonNull(sort, "Sort");
+    Objects.requireNonNull(pool, "Pool");
+    sort.sortParallel(view(sort, segment, offset, count), 0, count, pool);
+  }
+
+  private static ByteBuffer view(
+    final RecordSort sort,
+    final MemorySegment segment,
+    final long offset,
+    final int count)
+  {
+    Objects.requireNonNull(segment, "Segment");
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        String.format("Count %d must be non-negative", Integer.valueOf(count)));
+    }
+
+    final long bytes = (long) count * sort.recordSize();
+    Objects.checkFromIndexSize(offset, bytes, segment.byteSize());
+    if (bytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        String.format(
+          "%d records of %d bytes exceed the maximum of %d bytes per sort",
+          Integer.valueOf(count),
+          Integer.valueOf(sort.recordSize()),
+          Integer.valueOf(Integer.MAX_VALUE)));
+    }
+    return segment.asSlice(offset, bytes).asByteBuffer();
+  }
+}
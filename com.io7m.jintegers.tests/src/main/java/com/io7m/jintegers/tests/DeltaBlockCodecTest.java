@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.DeltaBlockCodec;
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+
+@SuppressWarnings({ "null", "static-method" }) public final class DeltaBlockCodecTest
+{
+  private static long[] timestamps(
+    final Random r,
+    final int count)
+  {
+    final long[] values = new long[count];
+    long time = 1_700_000_000_000L;
+    for (int k = 0; k < count; ++k) {
+      time += 1000L + r.nextInt(21) - 10;
+      values[k] = time;
+    }
+    return values;
+  }
+
+  private static DeltaBlockCodec[] codecs(
+    final int blockLength)
+  {
+    final IntegerCodecType s16 = IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN);
+    final IntegerCodecType u8 = IntegerCodecs.of(1, false, ByteOrder.LITTLE_ENDIAN);
+    final IntegerCodecType s24 = IntegerCodecs.of(3, true, ByteOrder.LITTLE_ENDIAN);
+    return new DeltaBlockCodec[] {
+      DeltaBlockCodec.firstOrder(s16, blockLength),
+      DeltaBlockCodec.firstOrder(s24, blockLength),
+      DeltaBlockCodec.secondOrder(s16, blockLength),
+      DeltaBlockCodec.secondOrder(u8, blockLength),
+    };
+  }
+
+  @Test public void testRoundTrip()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final int blockLength : new int[] { 1, 2, 3, 7, 64 }) {
+      for (final DeltaBlockCodec c : codecs(blockLength)) {
+        for (int count = 0; count < 150; count += 7) {
+          final long[] values = timestamps(r, count);
+          final int length = (int) c.encodedLength(count);
+          final ByteBuffer b = ByteBuffer.allocate(length + 3);
+          Assert.assertEquals(length, c.encode(values, 0, b, 3, count));
+          final long[] out = new long[count];
+          c.decode(b, 3, out, 0, count);
+          Assert.assertArrayEquals(c.toString(), values, out);
+        }
+      }
+    }
+  }
+
+  @Test public void testDecodeRangeAndGet()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = timestamps(r, 500);
+    for (final int blockLength : new int[] { 1, 2, 5, 64 }) {
+      for (final DeltaBlockCodec c : codecs(blockLength)) {
+        final ByteBuffer b = ByteBuffer.allocateDirect((int) c.encodedLength(values.length));
+        c.encode(values, 0, b, 0, values.length);
+
+        for (int k = 0; k < values.length; ++k) {
+          Assert.assertEquals(values[k], c.get(b, 0, k));
+        }
+        for (int k = 0; k < 100; ++k) {
+          final int first = r.nextInt(values.length);
+          final int count = r.nextInt(values.length - first + 1);
+          final long[] out = new long[count + 1];
+          c.decodeRange(b, 0, first, out, 1, count);
+          Assert.assertArrayEquals(
+            Arrays.copyOfRange(values, first, first + count),
+            Arrays.copyOfRange(out, 1, count + 1));
+        }
+      }
+    }
+  }
+
+  @Test public void testEncodedLength()
+  {
+    final DeltaBlockCodec first =
+      DeltaBlockCodec.firstOrder(IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 128);
+    Assert.assertEquals(0L, first.encodedLength(0));
+    Assert.assertEquals(8L, first.encodedLength(1));
+    Assert.assertEquals(8L + 127L * 2L, first.blockBytes());
+    Assert.assertEquals(2L * first.blockBytes() + 8L + 2L, first.encodedLength(258));
+
+    final DeltaBlockCodec second =
+      DeltaBlockCodec.secondOrder(IntegerCodecs.of(1, false, ByteOrder.BIG_ENDIAN), 128);
+    Assert.assertEquals(16L, second.encodedLength(2));
+    Assert.assertEquals(16L + 126L, second.blockBytes());
+    Assert.assertTrue(second.encodedLength(1024) * 6L < 1024L * 8L);
+  }
+
+  @Test public void testWrapping()
+  {
+    final long[] values = { Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, Long.MIN_VALUE };
+    final DeltaBlockCodec c =
+      DeltaBlockCodec.secondOrder(IntegerCodecs.of(8, true, ByteOrder.LITTLE_ENDIAN), 3);
+    final ByteBuffer b = ByteBuffer.allocate((int) c.encodedLength(values.length));
+    c.encode(values, 0, b, 0, values.length);
+    Assert.assertArrayEquals(values, c.decode(b, 0, new long[values.length], 0, values.length));
+  }
+
+  @Test public void testResidualTooLargeWritesNothing()
+  {
+    final long[] values = { 0L, 10L, 20L, 40_000L };
+    final DeltaBlockCodec c =
+      DeltaBlockCodec.firstOrder(IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 16);
+    final ByteBuffer b = ByteBuffer.allocate(32);
+    try {
+      c.encode(values, 0, b, 0, values.length);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      Assert.assertEquals(ByteBuffer.allocate(32), b);
+    }
+
+    final DeltaBlockCodec restart =
+      DeltaBlockCodec.firstOrder(IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 3);
+    restart.encode(values, 0, b, 0, values.length);
+    Assert.assertEquals(40_000L, restart.get(b, 0, 3));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testBlockLengthInvalid()
+  {
+    DeltaBlockCodec.firstOrder(IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testGetOutOfBounds()
+  {
+    final DeltaBlockCodec c =
+      DeltaBlockCodec.firstOrder(IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 4);
+    final ByteBuffer b = ByteBuffer.allocate((int) c.encodedLength(4));
+    c.get(b, 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testEncodeBufferTooSmall()
+  {
+    final DeltaBlockCodec c =
+      DeltaBlockCodec.firstOrder(IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 4);
+    c.encode(new long[4], 0, ByteBuffer.allocate(13), 0, 4);
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.FrameOfReference;
+
+@SuppressWarnings({ "null", "static-method" }) public final class FrameOfReferenceTest
+{
+  private static long[] randomValues(
+    final Random r,
+    final int count,
+    final int bits)
+  {
+    final long base = r.nextLong();
+    final long[] values = new long[count];
+    for (int k = 0; k < count; ++k) {
+      values[k] = base + (bits == 0 ? 0L : r.nextLong() >>> (64 - bits));
+    }
+    return values;
+  }
+
+  private static void checkRoundTrip(
+    final long[] values,
+    final boolean patched,
+    final ByteBuffer b)
+  {
+    final int count = values.length;
+    final int written = patched
+      ? FrameOfReference.encodePatched(values, 0, b, 1, count)
+      : FrameOfReference.encode(values, 0, b, 1, count);
+    Assert.assertTrue(
+      written <= FrameOfReference.maximumEncodedLength(count));
+    final long[] out = new long[count];
+    Assert.assertEquals(written, FrameOfReference.decode(b, 1, out, 0, count));
+    Assert.assertArrayEquals(values, out);
+  }
+
+  @Test public void testRoundTripAllWidths()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final ByteBuffer b = ByteBuffer.allocate(4096);
+    for (int bits = 0; bits <= 64; ++bits) {
+      for (final int count : new int[] { 1, 63, 64, 65, 128, 200 }) {
+        final long[] values = randomValues(r, count, bits);
+        checkRoundTrip(values, false, b);
+        checkRoundTrip(values, true, b);
+      }
+    }
+  }
+
+  @Test public void testRoundTripDirect()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final ByteBuffer b = ByteBuffer.allocateDirect(16384);
+    for (int count = 0; count < 600; count += 37) {
+      checkRoundTrip(randomValues(r, count, r.nextInt(65)), false, b);
+      checkRoundTrip(randomValues(r, count, r.nextInt(65)), true, b);
+    }
+  }
+
+  @Test public void testExtremes()
+  {
+    final long[] values = { Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, 1L };
+    final ByteBuffer b = ByteBuffer.allocate(128);
+    checkRoundTrip(values, false, b);
+    Assert.assertEquals(64, b.get(2));
+    checkRoundTrip(values, true, b);
+  }
+
+  @Test public void testPatchedExceptions()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = new long[FrameOfReference.BLOCK_VALUES];
+    for (int k = 0; k < values.length; ++k) {
+      values[k] = 1000L + r.nextInt(16);
+    }
+    values[17] = 1L << 40;
+    values[90] = 1L << 50;
+
+    final ByteBuffer plain = ByteBuffer.allocate(2048);
+    final ByteBuffer patched = ByteBuffer.allocate(2048);
+    final int plainLength =
+      FrameOfReference.encode(values, 0, plain, 0, values.length);
+    final int patchedLength =
+      FrameOfReference.encodePatched(values, 0, patched, 0, values.length);
+    Assert.assertEquals(50, plain.get(1));
+    Assert.assertEquals(4, patched.get(1));
+    Assert.assertEquals(2, patched.get(2));
+    Assert.assertTrue(patchedLength * 5 < plainLength);
+    Assert.assertEquals(
+      patchedLength,
+      FrameOfReference.blockLength(patched, 0));
+
+    final long[] out = new long[values.length];
+    FrameOfReference.decode(patched, 0, out, 0, values.length);
+    Assert.assertArrayEquals(values, out);
+  }
+
+  @Test public void testBlockLengthSkips()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = randomValues(r, 300, 20);
+    final ByteBuffer b = ByteBuffer.allocate(4096);
+    FrameOfReference.encodePatched(values, 0, b, 0, values.length);
+
+    int index = FrameOfReference.blockLength(b, 0);
+    index += FrameOfReference.blockLength(b, index);
+    final long[] out = new long[44];
+    FrameOfReference.decode(b, index, out, 0, 44);
+    for (int k = 0; k < 44; ++k) {
+      Assert.assertEquals(values[256 + k], out[k]);
+    }
+  }
+
+  @Test public void testEncodeTooSmallWritesNothing()
+  {
+    final long[] values = randomValues(new Random(0x6a696e74L), 200, 30);
+    final ByteBuffer b = ByteBuffer.allocate(600);
+    try {
+      FrameOfReference.encode(values, 0, b, 0, values.length);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertEquals(ByteBuffer.allocate(600), b);
+    }
+  }
+
+  @Test public void testEncodeExactFit()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = randomValues(r, 300, 20);
+    values[7] = 1L << 50;
+
+    final ByteBuffer large = ByteBuffer.allocate(4096);
+    final int length =
+      FrameOfReference.encodePatched(values, 0, large, 0, values.length);
+    Assert.assertTrue(
+      length < FrameOfReference.maximumEncodedLength(values.length));
+
+    final ByteBuffer exact = ByteBuffer.allocate(length);
+    Assert.assertEquals(
+      length,
+      FrameOfReference.encodePatched(values, 0, exact, 0, values.length));
+    Assert.assertEquals(large.limit(length), exact);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testDecodeCountMismatch()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(256);
+    FrameOfReference.encode(new long[10], 0, b, 0, 10);
+    FrameOfReference.decode(b, 0, new long[11], 0, 11);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeTruncated()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(256);
+    final int length =
+      FrameOfReference.encode(new long[] { 1L, 300L }, 0, b, 0, 2);
+    b.limit(length - 1);
+    FrameOfReference.decode(b, 0, new long[2], 0, 2);
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.Unsigned16;
+import com.io7m.jintegers.Unsigned24;
+import com.io7m.jintegers.Unsigned32;
+import com.io7m.jintegers.Unsigned8;
+
+@SuppressWarnings({ "boxing", "static-method" }) public final class IntegerCodecsTest
+{
+  private static final ByteOrder[] ORDERS = {
+    ByteOrder.BIG_ENDIAN,
+    ByteOrder.LITTLE_ENDIAN,
+  };
+
+  private static final int[] SIGNED_WIDTHS = { 2, 3, 4, 5, 6, 7, 8 };
+  private static final int[] UNSIGNED_WIDTHS = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+  private static long truncate(
+    final long x,
+    final int width,
+    final boolean signed)
+  {
+    if (width == 8) {
+      return x;
+    }
+    final int shift = 64 - (width * 8);
+    if (signed) {
+      return (x << shift) >> shift;
+    }
+    return (x << shift) >>> shift;
+  }
+
+  private static void checkRoundTrip(
+    final IntegerCodecType c)
+  {
+    final Random r = new Random(0x6a696e74L);
+    final ByteBuffer b = ByteBuffer.allocate(c.width() + 3);
+    for (int k = 0; k < 1000; ++k) {
+      final long x = r.nextLong();
+      final long e = IntegerCodecsTest.truncate(x, c.width(), c.isSigned());
+      Assert.assertSame(b, c.pack(x, b, 3));
+      Assert.assertEquals(e, c.unpack(b, 3));
+    }
+  }
+
+  @Test public void testMetadata()
+  {
+    for (final ByteOrder o : IntegerCodecsTest.ORDERS) {
+      for (final int w : IntegerCodecsTest.SIGNED_WIDTHS) {
+        final IntegerCodecType c = IntegerCodecs.of(w, true, o);
+        Assert.assertEquals(w, c.width());
+        Assert.assertTrue(c.isSigned());
+        Assert.assertEquals(o, c.order());
+        Assert.assertSame(c, IntegerCodecs.of(w, true, o));
+      }
+      for (final int w : IntegerCodecsTest.UNSIGNED_WIDTHS) {
+        final IntegerCodecType c = IntegerCodecs.of(w, false, o);
+        Assert.assertEquals(w, c.width());
+        Assert.assertFalse(c.isSigned());
+        Assert.assertEquals(o, c.order());
+        Assert.assertSame(c, IntegerCodecs.of(w, false, o));
+      }
+    }
+  }
+
+  @Test public void testRoundTrip()
+  {
+    for (final ByteOrder o : IntegerCodecsTest.ORDERS) {
+      for (final int w : IntegerCodecsTest.SIGNED_WIDTHS) {
+        IntegerCodecsTest.checkRoundTrip(IntegerCodecs.of(w, true, o));
+      }
+      for (final int w : IntegerCodecsTest.UNSIGNED_WIDTHS) {
+        IntegerCodecsTest.checkRoundTrip(IntegerCodecs.of(w, false, o));
+      }
+    }
+  }
+
+  @Test public void testLayoutBigEndian()
+  {
+    final ByteOrder o = ByteOrder.BIG_ENDIAN;
+    final ByteBuffer e = ByteBuffer.allocate(8);
+    final ByteBuffer b = ByteBuffer.allocate(8);
+
+    IntegerCodecs.of(2, true, o).pack(0x1234, b, 0);
+    Signed16.packToBufferBigEndian(0x1234, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(3, true, o).pack(0x123456, b, 0);
+    Signed24.packToBufferBigEndian(0x123456, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(4, true, o).pack(0x12345678, b, 0);
+    Signed32.packToBufferBigEndian(0x12345678, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(8, true, o).pack(0x123456789abcdef0L, b, 0);
+    Signed64.packToBufferBigEndian(0x123456789abcdef0L, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(1, false, o).pack(0xfe, b, 0);
+    Unsigned8.packToBuffer(0xfe, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(2, false, o).pack(0xfedc, b, 0);
+    Unsigned16.packToBufferBigEndian(0xfedc, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(3, false, o).pack(0xfedcbaL, b, 0);
+    Unsigned24.packToBufferBigEndian(0xfedcba, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(4, false, o).pack(0xfedcba98L, b, 0);
+    Unsigned32.packToBufferBigEndian(0xfedcba98L, e, 0);
+    Assert.assertEquals(e, b);
+  }
+
+  @Test public void testLayoutLittleEndian()
+  {
+    final ByteOrder o = ByteOrder.LITTLE_ENDIAN;
+    final ByteBuffer e = ByteBuffer.allocate(8);
+    final ByteBuffer b = ByteBuffer.allocate(8);
+
+    IntegerCodecs.of(2, true, o).pack(0x1234, b, 0);
+    Signed16.packToBufferLittleEndian(0x1234, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(3, true, o).pack(0x123456, b, 0);
+    Signed24.packToBufferLittleEndian(0x123456, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(4, true, o).pack(0x12345678, b, 0);
+    Signed32.packToBufferLittleEndian(0x12345678, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(8, true, o).pack(0x123456789abcdef0L, b, 0);
+    Signed64.packToBufferLittleEndian(0x123456789abcdef0L, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(2, false, o).pack(0xfedc, b, 0);
+    Unsigned16.packToBufferLittleEndian(0xfedc, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(3, false, o).pack(0xfedcbaL, b, 0);
+    Unsigned24.packToBufferLittleEndian(0xfedcba, e, 0);
+    Assert.assertEquals(e, b);
+
+    IntegerCodecs.of(4, false, o).pack(0xfedcba98L, b, 0);
+    Unsigned32.packToBufferLittleEndian(0xfedcba98L, e, 0);
+    Assert.assertEquals(e, b);
+  }
+
+  @Test public void testIgnoresBufferOrder()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4);
+    b.order(ByteOrder.LITTLE_ENDIAN);
+    IntegerCodecs.of(4, true, ByteOrder.BIG_ENDIAN).pack(0x12345678, b, 0);
+    Assert.assertEquals(0x12, b.get(0));
+    Assert.assertEquals(0x78, b.get(3));
+  }
+
+  @Test public void testBulk()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int count = 67;
+
+    for (final ByteOrder o : IntegerCodecsTest.ORDERS) {
+      for (final boolean signed : new boolean[] { true, false }) {
+        final int[] widths = signed
+          ? IntegerCodecsTest.SIGNED_WIDTHS
+          : IntegerCodecsTest.UNSIGNED_WIDTHS;
+
+        for (final int w : widths) {
+          final IntegerCodecType c = IntegerCodecs.of(w, signed, o);
+          final long[] src = new long[count + 2];
+          for (int k = 0; k < src.length; ++k) {
+            src[k] = IntegerCodecsTest.truncate(r.nextLong(), w, signed);
+          }
+
+          final ByteBuffer b = ByteBuffer.allocateDirect(5 + (count * w));
+          Assert.assertSame(b, c.packArray(src, 2, b, 5, count));
+          for (int k = 0; k < count; ++k) {
+            Assert.assertEquals(src[k + 2], c.unpack(b, 5 + (k * w)));
+          }
+
+          final long[] dst = new long[count + 1];
+          Assert.assertSame(dst, c.unpackArray(b, 5, dst, 1, count));
+          for (int k = 0; k < count; ++k) {
+            Assert.assertEquals(src[k + 2], dst[k + 1]);
+          }
+        }
+      }
+    }
+  }
+
+  @Test public void testBulkInt()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int count = 67;
+
+    for (final ByteOrder o : IntegerCodecsTest.ORDERS) {
+      for (final boolean signed : new boolean[] { true, false }) {
+        final int[] widths = signed
+          ? IntegerCodecsTest.SIGNED_WIDTHS
+          : IntegerCodecsTest.UNSIGNED_WIDTHS;
+
+        for (final int w : widths) {
+          final IntegerCodecType c = IntegerCodecs.of(w, signed, o);
+          final int[] src = new int[count + 2];
+          for (int k = 0; k < src.length; ++k) {
+            src[k] = r.nextInt();
+          }
+
+          final ByteBuffer b = ByteBuffer.allocateDirect(5 + (count * w));
+          Assert.assertSame(b, c.packArray(src, 2, b, 5, count));
+          for (int k = 0; k < count; ++k) {
+            final int index = 5 + (k * w);
+            final long expected = IntegerCodecsTest.truncate(src[k + 2], w, signed);
+            Assert.assertEquals(expected, c.unpack(b, index));
+            Assert.assertEquals((int) expected, c.unpackInt(b, index));
+          }
+
+          final int[] dst = new int[count + 1];
+          Assert.assertSame(dst, c.unpackArray(b, 5, dst, 1, count));
+          for (int k = 0; k < count; ++k) {
+            Assert.assertEquals(c.unpackInt(b, 5 + (k * w)), dst[k + 1]);
+          }
+
+          final ByteBuffer e = ByteBuffer.allocate(w);
+          Assert.assertSame(e, c.packInt(src[0], e, 0));
+          Assert.assertEquals(
+            IntegerCodecsTest.truncate(src[0], w, signed), c.unpack(e, 0));
+        }
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds()
+  {
+    final IntegerCodecType c = IntegerCodecs.of(3, true, ByteOrder.BIG_ENDIAN);
+    c.unpackArray(ByteBuffer.allocate(9), 1, new long[3], 0, 3);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testUnsupportedSigned()
+  {
+    IntegerCodecs.of(1, true, ByteOrder.BIG_ENDIAN);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testUnsupportedUnsigned()
+  {
+    IntegerCodecs.of(16, false, ByteOrder.BIG_ENDIAN);
+  }
+}
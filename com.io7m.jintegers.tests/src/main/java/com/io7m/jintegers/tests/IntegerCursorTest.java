@@ -0,0 +1,258 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.IntegerCursor;
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.Unsigned16;
+import com.io7m.jintegers.Unsigned24;
+import com.io7m.jintegers.Unsigned32;
+import com.io7m.jintegers.Unsigned64;
+import com.io7m.jintegers.Unsigned8;
+import com.io7m.jintegers.VarInts;
+
+@SuppressWarnings({ "null", "static-method" }) public final class IntegerCursorTest
+{
+  private static final int RECORD_SIZE = 1 + 2 + 2 + 3 + 3 + 4 + 4 + 8 + 8;
+
+  @Test public void testWriteMatchesStatic()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(64);
+    final IntegerCursor c = IntegerCursor.of(b, 3);
+    c.writeUnsigned8(0xfe)
+      .writeSigned16BE(-2)
+      .writeUnsigned16LE(0xfedc)
+      .writeSigned24BE(-3)
+      .writeUnsigned24LE(0xfedcba)
+      .writeSigned32LE(-4)
+      .writeUnsigned32BE(0xfedcba98L)
+      .writeSigned64LE(-5L)
+      .writeUnsigned64BE(-6L);
+
+    Assert.assertEquals(3 + IntegerCursorTest.RECORD_SIZE, c.position());
+    Assert.assertEquals(0, b.position());
+
+    final ByteBuffer e = ByteBuffer.allocate(64);
+    int p = 3;
+    Unsigned8.packToBuffer(0xfe, e, p);
+    p += 1;
+    Signed16.packToBufferBigEndian(-2, e, p);
+    p += 2;
+    Unsigned16.packToBufferLittleEndian(0xfedc, e, p);
+    p += 2;
+    Signed24.packToBufferBigEndian(-3, e, p);
+    p += 3;
+    Unsigned24.packToBufferLittleEndian(0xfedcba, e, p);
+    p += 3;
+    Signed32.packToBufferLittleEndian(-4, e, p);
+    p += 4;
+    Unsigned32.packToBufferBigEndian(0xfedcba98L, e, p);
+    p += 4;
+    Signed64.packToBufferLittleEndian(-5L, e, p);
+    p += 8;
+    Unsigned64.packToBufferBigEndian(-6L, e, p);
+    Assert.assertEquals(e, b);
+
+    c.position(3);
+    Assert.assertEquals(0xfe, c.readUnsigned8());
+    Assert.assertEquals(-2, c.readSigned16BE());
+    Assert.assertEquals(0xfedc, c.readUnsigned16LE());
+    Assert.assertEquals(-3, c.readSigned24BE());
+    Assert.assertEquals(0xfedcba, c.readUnsigned24LE());
+    Assert.assertEquals(-4, c.readSigned32LE());
+    Assert.assertEquals(0xfedcba98L, c.readUnsigned32BE());
+    Assert.assertEquals(-5L, c.readSigned64LE());
+    Assert.assertEquals(-6L, c.readUnsigned64BE());
+    Assert.assertEquals(64 - 3 - IntegerCursorTest.RECORD_SIZE, c.remaining());
+  }
+
+  @Test public void testRoundTripRecords()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int count = 100;
+    final ByteBuffer b =
+      ByteBuffer.allocateDirect(count * IntegerCursorTest.RECORD_SIZE);
+    final long[] v = new long[count * 9];
+    for (int k = 0; k < v.length; ++k) {
+      v[k] = r.nextLong();
+    }
+
+    final IntegerCursor w = IntegerCursor.of(b);
+    for (int k = 0; k < count; ++k) {
+      final int i = k * 9;
+      w.require(IntegerCursorTest.RECORD_SIZE)
+        .writeUnsigned8((int) v[i])
+        .writeSigned16LE((int) v[i + 1])
+        .writeUnsigned16BE((int) v[i + 2])
+        .writeSigned24LE((int) v[i + 3])
+        .writeUnsigned24BE((int) v[i + 4])
+        .writeSigned32BE((int) v[i + 5])
+        .writeUnsigned32LE(v[i + 6])
+        .writeSigned64BE(v[i + 7])
+        .writeUnsigned64LE(v[i + 8]);
+    }
+    Assert.assertEquals(0, w.remaining());
+
+    final IntegerCursor c = IntegerCursor.of(b);
+    for (int k = 0; k < count; ++k) {
+      final int i = k * 9;
+      c.require(IntegerCursorTest.RECORD_SIZE);
+      Assert.assertEquals(v[i] & 0xff, c.readUnsigned8());
+      Assert.assertEquals((short) v[i + 1], c.readSigned16LE());
+      Assert.assertEquals(v[i + 2] & 0xffff, c.readUnsigned16BE());
+      Assert.assertEquals(((int) v[i + 3] << 8) >> 8, c.readSigned24LE());
+      Assert.assertEquals(v[i + 4] & 0xffffff, c.readUnsigned24BE());
+      Assert.assertEquals((int) v[i + 5], c.readSigned32BE());
+      Assert.assertEquals(v[i + 6] & 0xffffffffL, c.readUnsigned32LE());
+      Assert.assertEquals(v[i + 7], c.readSigned64BE());
+      Assert.assertEquals(v[i + 8], c.readUnsigned64LE());
+    }
+    Assert.assertEquals(0, c.remaining());
+  }
+
+  @Test public void testCodec()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(16);
+    final IntegerCodecType s24 =
+      IntegerCodecs.of(3, true, ByteOrder.LITTLE_ENDIAN);
+    final IntegerCodecType u32 =
+      IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN);
+
+    final IntegerCursor c = IntegerCursor.of(b);
+    c.write(s24, -7L).write(u32, 0xfedcba98L);
+    Assert.assertEquals(7, c.position());
+
+    c.position(0);
+    Assert.assertEquals(-7, c.readSigned24LE());
+    Assert.assertEquals(0xfedcba98L, c.read(u32));
+  }
+
+  @Test public void testFailedReadDoesNotAdvance()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    final IntegerCursor c = IntegerCursor.of(b, 5);
+    try {
+      c.readSigned32BE();
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertEquals(5, c.position());
+    }
+    Assert.assertEquals(0, c.readSigned24BE());
+    Assert.assertEquals(8, c.position());
+  }
+
+  @Test public void testLimit()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    b.limit(4);
+    final IntegerCursor c = IntegerCursor.of(b);
+    Assert.assertEquals(4, c.remaining());
+    c.readSigned32LE();
+    try {
+      c.readUnsigned8();
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertEquals(4, c.position());
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testRequire()
+  {
+    IntegerCursor.of(ByteBuffer.allocate(8), 2).require(7);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSkip()
+  {
+    IntegerCursor.of(ByteBuffer.allocate(8)).skip(4).skip(5);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testPositionOutOfBounds()
+  {
+    IntegerCursor.of(ByteBuffer.allocate(8)).position(9);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testReadOnly()
+  {
+    IntegerCursor.of(ByteBuffer.allocate(8).asReadOnlyBuffer())
+      .writeSigned64BE(0L);
+  }
+  @Test public void testVarRoundTrip()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(64);
+    final IntegerCursor w = IntegerCursor.of(b, 1);
+    w.writeVarUnsigned32(0xfedcba98L)
+      .writeVarSigned32(-2)
+      .writeVarUnsigned64(300L)
+      .writeVarSigned64(Long.MIN_VALUE);
+    Assert.assertEquals(1 + 5 + 1 + 2 + 10, w.position());
+
+    final IntegerCursor r = IntegerCursor.of(b, 1);
+    Assert.assertEquals(0xfedcba98L, r.readVarUnsigned32());
+    Assert.assertEquals(6, r.position());
+    Assert.assertEquals(-2, r.readVarSigned32());
+    Assert.assertEquals(300L, r.readVarUnsigned64());
+    Assert.assertEquals(Long.MIN_VALUE, r.readVarSigned64());
+    Assert.assertEquals(w.position(), r.position());
+    Assert.assertEquals(VarInts.decodeSigned64(b, 9), Long.MIN_VALUE);
+  }
+
+  @Test public void testVarWriteFailureKeepsPosition()
+  {
+    final IntegerCursor c = IntegerCursor.of(ByteBuffer.allocate(4), 2);
+    try {
+      c.writeVarUnsigned64(1L << 14);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertEquals(2, c.position());
+    }
+  }
+
+  @Test public void testVarReadFailureKeepsPosition()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4);
+    b.put(2, (byte) 0x80);
+    b.put(3, (byte) 0x80);
+    final IntegerCursor c = IntegerCursor.of(b, 2);
+    try {
+      c.readVarUnsigned64();
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertEquals(2, c.position());
+    }
+  }
+}
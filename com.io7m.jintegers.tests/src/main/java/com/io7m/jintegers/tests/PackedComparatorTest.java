@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.PackedComparator;
+
+@SuppressWarnings({ "null", "static-method" }) public final class PackedComparatorTest
+{
+  private static long random(
+    final Random r,
+    final IntegerCodecType codec)
+  {
+    final int shift = 64 - codec.width() * 8;
+    final long x = r.nextLong() << shift;
+    return codec.isSigned() ? x >> shift : x >>> shift;
+  }
+
+  /*
+   * Sort values with the signedness of the codec, by sorting them with the
+   * sign bit flipped when unsigned.
+   */
+
+  private static long[] sorted(
+    final Random r,
+    final IntegerCodecType codec,
+    final int count)
+  {
+    final long flip = codec.isSigned() ? 0L : Long.MIN_VALUE;
+    final long[] values = new long[count];
+    for (int k = 0; k < count; ++k) {
+      values[k] = random(r, codec) ^ flip;
+    }
+    Arrays.sort(values);
+    for (int k = 0; k < count; ++k) {
+      values[k] ^= flip;
+    }
+    return values;
+  }
+
+  private static IntegerCodecType[] codecs()
+  {
+    final IntegerCodecType[] codecs = new IntegerCodecType[30];
+    int index = 0;
+    final ByteOrder[] orders = {
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    };
+    for (final ByteOrder order : orders) {
+      for (int width = 1; width <= 8; ++width) {
+        codecs[index] = IntegerCodecs.of(width, false, order);
+        ++index;
+        if (width > 1) {
+          codecs[index] = IntegerCodecs.of(width, true, order);
+          ++index;
+        }
+      }
+    }
+    return codecs;
+  }
+
+  @Test public void testLoad()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final IntegerCodecType codec : codecs()) {
+      final PackedComparator c = PackedComparator.of(codec);
+      final ByteBuffer b = ByteBuffer.allocateDirect(codec.width() + 3);
+      for (int k = 0; k < 200; ++k) {
+        final long x = random(r, codec);
+        codec.pack(x, b, 3);
+        Assert.assertEquals(codec.toString(), x, c.load(b, 3));
+      }
+    }
+  }
+
+  @Test public void testCompare()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final IntegerCodecType codec : codecs()) {
+      final PackedComparator c = PackedComparator.of(codec);
+      final ByteBuffer x = ByteBuffer.allocate(codec.width());
+      final ByteBuffer y = ByteBuffer.allocate(codec.width() * 2);
+      for (int k = 0; k < 200; ++k) {
+        final long[] values = sorted(r, codec, 2);
+        codec.pack(values[0], x, 0);
+        codec.pack(values[1], y, codec.width());
+        Assert.assertTrue(c.compare(x, 0, y, codec.width()) <= 0);
+        Assert.assertTrue(c.compare(y, codec.width(), x, 0) >= 0);
+        Assert.assertEquals(0, c.compare(x, 0, x, 0));
+      }
+    }
+  }
+
+  @Test public void testCompareUnsigned()
+  {
+    final PackedComparator c =
+      PackedComparator.of(IntegerCodecs.of(8, false, ByteOrder.BIG_ENDIAN));
+    Assert.assertTrue(c.compare(-1L, 1L) > 0);
+    Assert.assertTrue(c.compare(Long.MIN_VALUE, Long.MAX_VALUE) > 0);
+
+    final PackedComparator s =
+      PackedComparator.of(IntegerCodecs.of(8, true, ByteOrder.BIG_ENDIAN));
+    Assert.assertTrue(s.compare(-1L, 1L) < 0);
+  }
+
+  @Test public void testBinarySearch()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final IntegerCodecType codec : codecs()) {
+      final PackedComparator c = PackedComparator.of(codec);
+      final long flip = codec.isSigned() ? 0L : Long.MIN_VALUE;
+      for (final int count : new int[] { 0, 1, 2, 17, 500 }) {
+        final long[] values = sorted(r, codec, count);
+        final ByteBuffer b =
+          ByteBuffer.allocateDirect(5 + count * codec.width());
+        codec.packArray(values, 0, b, 5, count);
+
+        final long[] flipped = new long[count];
+        for (int k = 0; k < count; ++k) {
+          flipped[k] = values[k] ^ flip;
+        }
+
+        for (int k = 0; k < count; ++k) {
+          final int p = c.binarySearch(b, 5, count, values[k]);
+          Assert.assertEquals(values[k], values[p]);
+        }
+        for (int k = 0; k < 100; ++k) {
+          final long key = random(r, codec);
+          final int expected = Arrays.binarySearch(flipped, key ^ flip);
+          final int received = c.binarySearch(b, 5, count, key);
+          if (expected < 0) {
+            Assert.assertEquals(expected, received);
+          } else {
+            Assert.assertEquals(key, values[received]);
+          }
+        }
+      }
+    }
+  }
+
+  @Test public void testBinarySearchBounds()
+  {
+    final PackedComparator c =
+      PackedComparator.of(IntegerCodecs.of(2, false, ByteOrder.BIG_ENDIAN));
+    final ByteBuffer b = ByteBuffer.wrap(new byte[] { 0, 1, 0, 3, 0, 5 });
+    Assert.assertEquals(-1, c.binarySearch(b, 0, 3, 0L));
+    Assert.assertEquals(0, c.binarySearch(b, 0, 3, 1L));
+    Assert.assertEquals(-2, c.binarySearch(b, 0, 3, 2L));
+    Assert.assertEquals(2, c.binarySearch(b, 0, 3, 5L));
+    Assert.assertEquals(-4, c.binarySearch(b, 0, 3, 6L));
+    Assert.assertEquals(-4, c.binarySearch(b, 0, 3, -1L));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBinarySearchOutOfBounds()
+  {
+    PackedComparator.of(IntegerCodecs.of(4, true, ByteOrder.BIG_ENDIAN))
+      .binarySearch(ByteBuffer.allocate(15), 0, 4, 0L);
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.PackedIntArray;
+
+@SuppressWarnings({ "null", "static-method" }) public final class PackedIntArrayTest
+{
+  private static long truncate(
+    final long value,
+    final int bits,
+    final boolean signed)
+  {
+    final int shift = 64 - bits;
+    return signed ? (value << shift) >> shift : (value << shift) >>> shift;
+  }
+
+  @Test public void testGetSetAllWidths()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int bits = 1; bits <= 64; ++bits) {
+      for (final boolean signed : new boolean[] { false, true }) {
+        final PackedIntArray a = PackedIntArray.allocate(bits, signed, 200L);
+        final long[] values = new long[200];
+        for (int index = 0; index < values.length; ++index) {
+          values[index] =
+            PackedIntArrayTest.truncate(r.nextLong(), bits, signed);
+          a.set(index, values[index]);
+        }
+        for (int index = 0; index < values.length; ++index) {
+          Assert.assertEquals(a.toString(), values[index], a.get(index));
+        }
+      }
+    }
+  }
+
+  @Test public void testSetPreservesNeighbours()
+  {
+    for (int bits = 1; bits <= 64; ++bits) {
+      final PackedIntArray a = PackedIntArray.allocate(bits, false, 130L);
+      for (int index = 0; index < 130; ++index) {
+        a.set(index, -1L);
+      }
+      a.set(65L, 0L);
+      for (int index = 0; index < 130; ++index) {
+        Assert.assertEquals(index == 65 ? 0L : a.maximum(), a.get(index));
+      }
+    }
+  }
+
+  @Test public void testArraysAllWidths()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int bits = 1; bits <= 64; ++bits) {
+      for (final boolean signed : new boolean[] { false, true }) {
+        final long[] values = new long[300];
+        for (int index = 0; index < values.length; ++index) {
+          values[index] =
+            PackedIntArrayTest.truncate(r.nextLong(), bits, signed);
+        }
+
+        final PackedIntArray a = PackedIntArray.allocate(bits, signed, 310L);
+        a.setArray(5L, values, 0, values.length);
+        Assert.assertEquals(0L, a.get(4L));
+        Assert.assertEquals(0L, a.get(305L));
+        for (int index = 0; index < values.length; ++index) {
+          Assert.assertEquals(values[index], a.get(index + 5L));
+        }
+
+        final long[] out = a.getArray(5L, new long[302], 1, 300);
+        for (int index = 0; index < values.length; ++index) {
+          Assert.assertEquals(values[index], out[index + 1]);
+        }
+
+        final long[] aligned = a.getArray(64L, new long[128], 0, 128);
+        for (int index = 0; index < aligned.length; ++index) {
+          Assert.assertEquals(values[index + 59], aligned[index]);
+        }
+      }
+    }
+  }
+
+  @Test public void testSetArrayTruncatesAllWidths()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int bits = 1; bits <= 64; ++bits) {
+      for (final boolean signed : new boolean[] { false, true }) {
+        final long[] values = new long[128];
+        for (int index = 0; index < values.length; ++index) {
+          values[index] = r.nextLong();
+        }
+
+        final PackedIntArray a = PackedIntArray.allocate(bits, signed, 128L);
+        a.setArray(0L, values, 0, values.length);
+        final long[] out = a.getArray(0L, new long[128], 0, 128);
+        for (int index = 0; index < values.length; ++index) {
+          final long expected =
+            PackedIntArrayTest.truncate(values[index], bits, signed);
+          Assert.assertEquals(expected, a.get(index));
+          Assert.assertEquals(expected, out[index]);
+        }
+      }
+    }
+  }
+
+  @Test public void testTruncation()
+  {
+    final PackedIntArray u = PackedIntArray.allocate(19, false, 1L);
+    u.set(0L, 0x1234_5678L);
+    Assert.assertEquals(0x1234_5678L & 0x7ffffL, u.get(0L));
+
+    final PackedIntArray s = PackedIntArray.allocate(19, true, 1L);
+    s.set(0L, s.maximum() + 1L);
+    Assert.assertEquals(s.minimum(), s.get(0L));
+  }
+
+  @Test public void testRanges()
+  {
+    final PackedIntArray s = PackedIntArray.allocate(37, true, 1L);
+    Assert.assertEquals(-(1L << 36), s.minimum());
+    Assert.assertEquals((1L << 36) - 1L, s.maximum());
+
+    final PackedIntArray u = PackedIntArray.allocate(37, false, 1L);
+    Assert.assertEquals(0L, u.minimum());
+    Assert.assertEquals((1L << 37) - 1L, u.maximum());
+
+    final PackedIntArray w = PackedIntArray.allocate(64, false, 1L);
+    Assert.assertEquals(-1L, w.maximum());
+  }
+
+  @Test public void testBitsRequired()
+  {
+    Assert.assertEquals(1, PackedIntArray.bitsRequiredUnsigned(0L));
+    Assert.assertEquals(1, PackedIntArray.bitsRequiredUnsigned(1L));
+    Assert.assertEquals(19, PackedIntArray.bitsRequiredUnsigned(0x7ffffL));
+    Assert.assertEquals(20, PackedIntArray.bitsRequiredUnsigned(0x80000L));
+    Assert.assertEquals(64, PackedIntArray.bitsRequiredUnsigned(-1L));
+
+    Assert.assertEquals(1, PackedIntArray.bitsRequiredSigned(0L));
+    Assert.assertEquals(1, PackedIntArray.bitsRequiredSigned(-1L));
+    Assert.assertEquals(2, PackedIntArray.bitsRequiredSigned(1L));
+    Assert.assertEquals(8, PackedIntArray.bitsRequiredSigned(-128L));
+    Assert.assertEquals(9, PackedIntArray.bitsRequiredSigned(128L));
+    Assert.assertEquals(64, PackedIntArray.bitsRequiredSigned(Long.MIN_VALUE));
+    Assert.assertEquals(64, PackedIntArray.bitsRequiredSigned(Long.MAX_VALUE));
+  }
+
+  @Test public void testEquals()
+  {
+    final PackedIntArray a = PackedIntArray.allocate(7, false, 10L);
+    final PackedIntArray b = PackedIntArray.allocate(7, false, 10L);
+    Assert.assertEquals(a, b);
+    Assert.assertEquals(a.hashCode(), b.hashCode());
+    a.set(3L, 5L);
+    Assert.assertNotEquals(a, b);
+    b.set(3L, 5L);
+    Assert.assertEquals(a, b);
+    Assert.assertNotEquals(a, PackedIntArray.allocate(7, true, 10L));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testGetOutOfRange()
+  {
+    PackedIntArray.allocate(7, false, 10L).get(10L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSetNegative()
+  {
+    PackedIntArray.allocate(7, false, 10L).set(-1L, 0L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testGetArrayOutOfRange()
+  {
+    PackedIntArray.allocate(7, false, 100L).getArray(40L, new long[100], 0, 61);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testBitsZero()
+  {
+    PackedIntArray.allocate(0, false, 10L);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testBitsTooLarge()
+  {
+    PackedIntArray.allocate(65, false, 10L);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testTooLarge()
+  {
+    PackedIntArray.allocate(64, false, 1L << 40);
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.PackedIntegerFile;
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Unsigned64;
+
+@SuppressWarnings({ "null", "static-method" }) public final class PackedIntegerFileTest
+{
+  private static Path temporary()
+    throws IOException
+  {
+    final Path path = Files.createTempFile("jintegers-", ".bin");
+    path.toFile().deleteOnExit();
+    return path;
+  }
+
+  @Test public void testRoundTripWindows()
+    throws IOException
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[][] formats = { { 1, 0 }, { 2, 1 }, { 3, 1 }, { 3, 0 }, { 4, 1 }, { 8, 0 } };
+
+    for (final int[] format : formats) {
+      for (final ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+        final IntegerCodecType codec =
+          IntegerCodecs.of(format[0], format[1] == 1, order);
+        final int shift = 64 - codec.width() * 8;
+        final Path path = PackedIntegerFileTest.temporary();
+        final long[] values = new long[1000];
+
+        final PackedIntegerFile w = PackedIntegerFile.openReadWrite(path, codec, values.length, 64);
+        Assert.assertTrue(w.isWritable());
+        Assert.assertEquals(values.length, w.size());
+        for (int index = 0; index < values.length; ++index) {
+          final long v = r.nextLong();
+          values[index] = codec.isSigned() ? (v << shift) >> shift : (v << shift) >>> shift;
+          w.set(index, values[index]);
+        }
+        w.force();
+
+        Assert.assertEquals((long) values.length * codec.width(), Files.size(path));
+
+        final PackedIntegerFile f = PackedIntegerFile.openReadOnly(path, codec, 64);
+        Assert.assertFalse(f.isWritable());
+        Assert.assertEquals(values.length, f.size());
+        f.prefetch(0L, f.size());
+        for (int index = 0; index < values.length; ++index) {
+          Assert.assertEquals(values[index], f.get(index));
+        }
+
+        final long[] out = f.getArray(5L, new long[values.length], 3, values.length - 10);
+        for (int index = 0; index < values.length - 10; ++index) {
+          Assert.assertEquals(values[index + 5], out[index + 3]);
+        }
+      }
+    }
+  }
+
+  @Test public void testMatchesStatic()
+    throws IOException
+  {
+    final Path path = PackedIntegerFileTest.temporary();
+    final PackedIntegerFile f =
+      PackedIntegerFile.openReadWrite(path, IntegerCodecs.of(3, true, ByteOrder.LITTLE_ENDIAN), 100L, 7);
+
+    f.set(0L, -2L);
+    f.set(1L, 0x123456L);
+    f.set(99L, -0x800000L);
+    f.force();
+
+    final ByteBuffer b = ByteBuffer.wrap(Files.readAllBytes(path));
+    Assert.assertEquals(-2, Signed24.unpackFromBufferLittleEndian(b, 0));
+    Assert.assertEquals(0x123456, Signed24.unpackFromBufferLittleEndian(b, 3));
+    Assert.assertEquals(-0x800000, Signed24.unpackFromBufferLittleEndian(b, 297));
+  }
+
+  @Test public void testBinarySearch()
+    throws IOException
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = new long[1000];
+    for (int k = 0; k < values.length; ++k) {
+      values[k] = r.nextLong();
+    }
+    Arrays.sort(values);
+
+    final Path path = PackedIntegerFileTest.temporary();
+    final IntegerCodecType codec = IntegerCodecs.of(8, true, ByteOrder.BIG_ENDIAN);
+    PackedIntegerFile.openReadWrite(path, codec, values.length, 64)
+      .setArray(0L, values, 0, values.length);
+
+    final PackedIntegerFile f = PackedIntegerFile.openReadOnly(path, codec, 64);
+    for (int k = 0; k < values.length; ++k) {
+      Assert.assertEquals(k, f.binarySearch(0L, f.size(), values[k]));
+    }
+    for (int k = 0; k < 1000; ++k) {
+      final long key = r.nextLong();
+      Assert.assertEquals(
+        Arrays.binarySearch(values, key),
+        f.binarySearch(0L, f.size(), key));
+      Assert.assertEquals(
+        Arrays.binarySearch(values, 100, 900, key),
+        f.binarySearch(100L, 900L, key));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBinarySearchOutOfBounds()
+      throws IOException
+  {
+    PackedIntegerFile.openReadWrite(
+      PackedIntegerFileTest.temporary(), IntegerCodecs.of(8, true, ByteOrder.BIG_ENDIAN), 10L)
+      .binarySearch(0L, 11L, 0L);
+  }
+
+  @Test public void testSetArrayAcrossWindows()
+    throws IOException
+  {
+    final Path path = PackedIntegerFileTest.temporary();
+    final PackedIntegerFile f =
+      PackedIntegerFile.openReadWrite(path, IntegerCodecs.of(8, false, ByteOrder.BIG_ENDIAN), 50L, 32);
+
+    final long[] src = new long[40];
+    for (int index = 0; index < src.length; ++index) {
+      src[index] = -1L - index;
+    }
+    f.setArray(7L, src, 0, src.length);
+
+    Assert.assertEquals(0L, f.get(6L));
+    Assert.assertEquals(0L, f.get(47L));
+    final ByteBuffer b = ByteBuffer.wrap(Files.readAllBytes(path));
+    for (int index = 0; index < src.length; ++index) {
+      Assert.assertEquals(src[index], f.get(7L + index));
+      Assert.assertEquals(src[index], Unsigned64.unpackFromBufferBigEndian(b, (7 + index) * 8));
+    }
+  }
+
+  @Test public void testReopenExtends()
+    throws IOException
+  {
+    final Path path = PackedIntegerFileTest.temporary();
+    final PackedIntegerFile a =
+      PackedIntegerFile.openReadWrite(path, IntegerCodecs.of(4, true, ByteOrder.BIG_ENDIAN), 10L);
+    a.set(9L, 0x7fffffffL);
+    a.force();
+
+    final PackedIntegerFile b =
+      PackedIntegerFile.openReadWrite(path, IntegerCodecs.of(4, true, ByteOrder.BIG_ENDIAN), 20L);
+    Assert.assertEquals(20L, b.size());
+    Assert.assertEquals(0x7fffffffL, b.get(9L));
+    Assert.assertEquals(0L, b.get(19L));
+  }
+
+  @Test public void testEmpty()
+    throws IOException
+  {
+    final Path path = PackedIntegerFileTest.temporary();
+    final PackedIntegerFile f = PackedIntegerFile.openReadOnly(path, IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN));
+    Assert.assertEquals(0L, f.size());
+    f.prefetch(0L, 0L);
+    f.force();
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testGetOutOfRange()
+      throws IOException
+  {
+    final PackedIntegerFile f = PackedIntegerFile.openReadWrite(
+      PackedIntegerFileTest.temporary(), IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 10L);
+    f.get(10L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testGetNegative()
+      throws IOException
+  {
+    final PackedIntegerFile f = PackedIntegerFile.openReadWrite(
+      PackedIntegerFileTest.temporary(), IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 10L);
+    f.get(-1L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testPrefetchOutOfRange()
+      throws IOException
+  {
+    final PackedIntegerFile f = PackedIntegerFile.openReadWrite(
+      PackedIntegerFileTest.temporary(), IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 10L);
+    f.prefetch(5L, 6L);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testSetReadOnly()
+      throws IOException
+  {
+    final Path path = PackedIntegerFileTest.temporary();
+    PackedIntegerFile.openReadWrite(path, IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN), 10L);
+    PackedIntegerFile.openReadOnly(path, IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN)).set(0L, 1L);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testWindowTooSmall()
+      throws IOException
+  {
+    PackedIntegerFile.openReadWrite(
+      PackedIntegerFileTest.temporary(), IntegerCodecs.of(8, true, ByteOrder.BIG_ENDIAN), 10L, 7);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testCountNegative()
+      throws IOException
+  {
+    PackedIntegerFile.openReadWrite(
+      PackedIntegerFileTest.temporary(), IntegerCodecs.of(8, true, ByteOrder.BIG_ENDIAN), -1L);
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.PackedComparator;
+import com.io7m.jintegers.RecordSort;
+import com.io7m.jintegers.Signed32;
+
+@SuppressWarnings({ "null", "static-method" }) public final class RecordSortTest
+{
+  /*
+   * Fill records with a Signed32 record number at offset 0 and a random
+   * key at offset 4. Keys are drawn from a small range so that equal keys
+   * are common and stability is exercised.
+   */
+
+  private static ByteBuffer records(
+    final Random r,
+    final IntegerCodecType codec,
+    final int recordSize,
+    final int count,
+    final boolean direct)
+  {
+    final ByteBuffer b = direct
+      ? ByteBuffer.allocateDirect(3 + count * recordSize)
+      : ByteBuffer.allocate(3 + count * recordSize);
+    final int shift = 64 - codec.width() * 8;
+    for (int k = 0; k < count; ++k) {
+      final int index = 3 + k * recordSize;
+      final long x = r.nextBoolean()
+        ? r.nextLong() << shift
+        : (long) r.nextInt(16) << shift;
+      codec.pack(codec.isSigned() ? x >> shift : x >>> shift, b, index + 4);
+      Signed32.packToBufferBigEndian(k, b, index);
+    }
+    return b;
+  }
+
+  private static ByteBuffer copy(
+    final ByteBuffer b)
+  {
+    return ByteBuffer.allocate(b.capacity()).put(0, b, 0, b.capacity());
+  }
+
+  private static void checkSorted(
+    final ByteBuffer original,
+    final ByteBuffer sorted,
+    final IntegerCodecType codec,
+    final int recordSize,
+    final int count)
+  {
+    final PackedComparator c = PackedComparator.of(codec);
+    final Integer[] expected = new Integer[count];
+    for (int k = 0; k < count; ++k) {
+      expected[k] = Integer.valueOf(k);
+    }
+    Arrays.sort(expected, (x, y) -> c.compare(
+      original, 3 + x.intValue() * recordSize + 4,
+      original, 3 + y.intValue() * recordSize + 4));
+
+    for (int k = 0; k < count; ++k) {
+      final int index = 3 + k * recordSize;
+      final int record = Signed32.unpackFromBufferBigEndian(sorted, index);
+      Assert.assertEquals(expected[k].intValue(), record);
+      for (int i = 0; i < recordSize; ++i) {
+        Assert.assertEquals(
+          original.get(3 + record * recordSize + i),
+          sorted.get(index + i));
+      }
+    }
+  }
+
+  @Test public void testSort()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final ByteOrder[] orders = {
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    };
+    for (final ByteOrder order : orders) {
+      for (int width = 1; width <= 8; ++width) {
+        for (final boolean signed : new boolean[] { false, true }) {
+          if (signed && width == 1) {
+            continue;
+          }
+          final IntegerCodecType codec =
+            IntegerCodecs.of(width, signed, order);
+          final int recordSize = 4 + width + r.nextInt(5);
+          final RecordSort sort = RecordSort.of(codec, recordSize, 4);
+          for (final int count : new int[] { 0, 1, 2, 100, 3000 }) {
+            final ByteBuffer b =
+              records(r, codec, recordSize, count, r.nextBoolean());
+            final ByteBuffer original = copy(b);
+            sort.sort(b, 3, count);
+            checkSorted(original, b, codec, recordSize, count);
+          }
+        }
+      }
+    }
+  }
+
+  @Test public void testSortParallel()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      for (final IntegerCodecType codec : new IntegerCodecType[] {
+        IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN),
+        IntegerCodecs.of(8, true, ByteOrder.LITTLE_ENDIAN),
+      }) {
+        final int count = 200_000;
+        final ByteBuffer b = records(r, codec, 16, count, true);
+        final ByteBuffer original = copy(b);
+        final ByteBuffer sequential = copy(b);
+
+        RecordSort.of(codec, 16, 4).sortParallel(b, 3, count, pool);
+        RecordSort.of(codec, 16, 4).sort(sequential, 3, count);
+        checkSorted(original, b, codec, 16, count);
+        Assert.assertEquals(sequential.rewind(), b.rewind());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test public void testSortParallelSmall()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final IntegerCodecType codec =
+      IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN);
+    final ByteBuffer b = records(r, codec, 6, 500, false);
+    final ByteBuffer original = copy(b);
+    RecordSort.of(codec, 6, 4)
+      .sortParallel(b, 3, 500, ForkJoinPool.commonPool());
+    checkSorted(original, b, codec, 6, 500);
+  }
+
+  @Test public void testAccessors()
+  {
+    final IntegerCodecType codec =
+      IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN);
+    final RecordSort sort = RecordSort.of(codec, 16, 4);
+    Assert.assertEquals(codec, sort.key());
+    Assert.assertEquals(16, sort.recordSize());
+    Assert.assertEquals(4, sort.keyOffset());
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testKeyOutsideRecord()
+  {
+    RecordSort.of(IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN), 16, 13);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testKeyNegativeOffset()
+  {
+    RecordSort.of(IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN), 16, -1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOutOfBounds()
+  {
+    RecordSort.of(IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN), 16, 4)
+      .sort(ByteBuffer.allocate(63), 0, 4);
+  }
+
+  @Test public void testReadOnlyUnmodified()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4);
+    b.put(0, (byte) 2);
+    b.put(1, (byte) 1);
+    try {
+      RecordSort.of(IntegerCodecs.of(1, false, ByteOrder.BIG_ENDIAN), 1, 0)
+        .sort(b.asReadOnlyBuffer(), 0, 2);
+      Assert.fail();
+    } catch (final ReadOnlyBufferException e) {
+      Assert.assertEquals(2, b.get(0));
+      Assert.assertEquals(1, b.get(1));
+    }
+  }
+}
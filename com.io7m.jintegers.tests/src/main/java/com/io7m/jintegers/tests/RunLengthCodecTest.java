@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.RunLengthCodec;
+
+@SuppressWarnings({ "null", "static-method" }) public final class RunLengthCodecTest
+{
+  private static final IntegerCodecType UNSIGNED8 =
+    IntegerCodecs.of(1, false, ByteOrder.BIG_ENDIAN);
+
+  private static long[] randomRuns(
+    final Random r,
+    final int count,
+    final int bits,
+    final boolean signed)
+  {
+    final long[] values = new long[count];
+    int k = 0;
+    while (k < count) {
+      final int run = Math.min(count - k, 1 + r.nextInt(r.nextBoolean() ? 4 : 3000));
+      final long x = r.nextLong();
+      final long value = signed ? x >> (64 - bits) : x >>> (64 - bits);
+      for (int i = 0; i < run; ++i) {
+        values[k + i] = value;
+      }
+      k += run;
+    }
+    return values;
+  }
+
+  private static RunLengthCodec[] codecs(
+    final IntegerCodecType codec)
+  {
+    return new RunLengthCodec[] {
+      RunLengthCodec.withVarIntLengths(codec),
+      RunLengthCodec.withFixedLengths(codec, IntegerCodecs.of(2, false, ByteOrder.LITTLE_ENDIAN)),
+      RunLengthCodec.withFixedLengths(codec, IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN)),
+    };
+  }
+
+  @Test public void testLayout()
+  {
+    final RunLengthCodec c = RunLengthCodec.withVarIntLengths(UNSIGNED8);
+    final long[] values = new long[205];
+    Arrays.fill(values, 0, 3, 5L);
+    Arrays.fill(values, 3, 205, 7L);
+
+    Assert.assertEquals(5L, c.encodedLength(values, 0, values.length));
+    final ByteBuffer b = ByteBuffer.allocate(5);
+    Assert.assertEquals(5, c.encode(values, 0, b, 0, values.length));
+    Assert.assertArrayEquals(
+      new byte[] { 5, 3, 7, (byte) 0xca, 0x01 },
+      b.array());
+    Assert.assertEquals(2, c.runCount(b, 0, values.length));
+  }
+
+  @Test public void testRoundTrip()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final int width : new int[] { 1, 2, 3, 4, 8 }) {
+      final IntegerCodecType codec = IntegerCodecs.of(width, width != 1, ByteOrder.LITTLE_ENDIAN);
+      for (final RunLengthCodec c : codecs(codec)) {
+        final long[] values = randomRuns(r, 20000, width * 8, width != 1);
+        final int length = (int) c.encodedLength(values, 0, values.length);
+        final ByteBuffer b = ByteBuffer.allocateDirect(length + 3);
+        Assert.assertEquals(length, c.encode(values, 0, b, 3, values.length));
+
+        final long[] out = new long[values.length + 1];
+        Assert.assertEquals(length, c.decode(b, 3, out, 1, values.length));
+        final int[] ints = new int[values.length];
+        Assert.assertEquals(length, c.decode(b, 3, ints, 0, values.length));
+        for (int k = 0; k < values.length; ++k) {
+          Assert.assertEquals(values[k], out[k + 1]);
+          Assert.assertEquals((int) values[k], ints[k]);
+        }
+      }
+    }
+  }
+
+  @Test public void testSplitRuns()
+  {
+    final RunLengthCodec c = RunLengthCodec.withFixedLengths(
+      UNSIGNED8, IntegerCodecs.of(2, false, ByteOrder.BIG_ENDIAN));
+    Assert.assertEquals(65535, c.maximumRunLength());
+    Assert.assertEquals(2, c.lengthWidth());
+
+    final long[] values = new long[70000];
+    Arrays.fill(values, 9L);
+    final ByteBuffer b = ByteBuffer.allocate(6);
+    Assert.assertEquals(6, c.encode(values, 0, b, 0, values.length));
+    Assert.assertEquals(2, c.runCount(b, 0, values.length));
+    Assert.assertEquals(70000, c.count(b, 0, values.length, 9L));
+    Assert.assertEquals(630000L, c.sum(b, 0, values.length));
+  }
+
+  @Test public void testAggregates()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final boolean signed : new boolean[] { true, false }) {
+      final IntegerCodecType codec = IntegerCodecs.of(8, signed, ByteOrder.BIG_ENDIAN);
+      for (final RunLengthCodec c : codecs(codec)) {
+        final long[] values = randomRuns(r, 10000, 64, signed);
+        final ByteBuffer b = ByteBuffer.allocate((int) c.encodedLength(values, 0, values.length));
+        c.encode(values, 0, b, 0, values.length);
+
+        long sum = 0L;
+        long min = values[0];
+        long max = values[0];
+        int equal = 0;
+        for (final long x : values) {
+          sum += x;
+          min = signed ? Math.min(min, x) : (Long.compareUnsigned(x, min) < 0 ? x : min);
+          max = signed ? Math.max(max, x) : (Long.compareUnsigned(x, max) > 0 ? x : max);
+          equal += x == values[values.length / 2] ? 1 : 0;
+        }
+        Assert.assertEquals(sum, c.sum(b, 0, values.length));
+        Assert.assertEquals(min, c.minimum(b, 0, values.length));
+        Assert.assertEquals(max, c.maximum(b, 0, values.length));
+        Assert.assertEquals(equal, c.count(b, 0, values.length, values[values.length / 2]));
+      }
+    }
+  }
+
+  @Test public void testEmpty()
+  {
+    final RunLengthCodec c = RunLengthCodec.withVarIntLengths(UNSIGNED8);
+    final ByteBuffer b = ByteBuffer.allocate(0);
+    Assert.assertEquals(0, c.encode(new long[0], 0, b, 0, 0));
+    Assert.assertEquals(0, c.decode(b, 0, new long[0], 0, 0));
+    Assert.assertEquals(0L, c.sum(b, 0, 0));
+    Assert.assertEquals(0, c.runCount(b, 0, 0));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testMinimumEmpty()
+  {
+    RunLengthCodec.withVarIntLengths(UNSIGNED8).minimum(ByteBuffer.allocate(0), 0, 0);
+  }
+
+  @Test public void testOutOfRangeWritesNothing()
+  {
+    final RunLengthCodec c = RunLengthCodec.withVarIntLengths(UNSIGNED8);
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    try {
+      c.encode(new long[] { 1L, 1L, 256L }, 0, b, 0, 3);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      Assert.assertEquals(ByteBuffer.allocate(8), b);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testEncodeTooSmall()
+  {
+    RunLengthCodec.withVarIntLengths(UNSIGNED8)
+      .encode(new long[] { 1L, 2L }, 0, ByteBuffer.allocate(3), 0, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testSignedLengths()
+  {
+    RunLengthCodec.withFixedLengths(UNSIGNED8, IntegerCodecs.of(2, true, ByteOrder.BIG_ENDIAN));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testWideLengths()
+  {
+    RunLengthCodec.withFixedLengths(UNSIGNED8, IntegerCodecs.of(8, false, ByteOrder.BIG_ENDIAN));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testDecodeRunTooLong()
+  {
+    final ByteBuffer b = ByteBuffer.wrap(new byte[] { 1, 10 });
+    RunLengthCodec.withVarIntLengths(UNSIGNED8).decode(b, 0, new long[9], 0, 9);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testDecodeRunEmpty()
+  {
+    final ByteBuffer b = ByteBuffer.wrap(new byte[] { 1, 0, 0, 2, 2 });
+    RunLengthCodec.withFixedLengths(UNSIGNED8, IntegerCodecs.of(2, false, ByteOrder.BIG_ENDIAN))
+      .sum(b, 0, 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeTruncated()
+  {
+    final ByteBuffer b = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+    RunLengthCodec.withVarIntLengths(UNSIGNED8).decode(b, 0, new long[4], 0, 4);
+  }
+}
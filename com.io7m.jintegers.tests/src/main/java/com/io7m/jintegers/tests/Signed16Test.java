@@ -18,6 +18,9 @@ package com.io7m.jintegers.tests;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -112,4 +115,226 @@ import com.io7m.jintegers.Signed16;
   {
     Signed16.packToBytesLittleEndian(0, new byte[1]);
   }
+
+  @Test public void testLayoutBE_Bytes()
+  {
+    final byte[] b = Signed16.packToBytesBigEndianAllocate(0x0102);
+    Assert.assertArrayEquals(new byte[]{1, 2}, b);
+    Assert.assertEquals(0x0102, Signed16.unpackFromBytesBigEndian(b));
+  }
+
+  @Test public void testLayoutLE_Bytes()
+  {
+    final byte[] b = Signed16.packToBytesLittleEndianAllocate(0x0102);
+    Assert.assertArrayEquals(new byte[]{2, 1}, b);
+    Assert.assertEquals(0x0102, Signed16.unpackFromBytesLittleEndian(b));
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testNull_0()
+  {
+    Signed16.unpackFromBytesBigEndian(null);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testNull_1()
+  {
+    Signed16.packToBytesLittleEndian(0, null);
+  }
+
+  @Test public void testIdentityOffset_All()
+  {
+    final byte[] b = new byte[2 + 3];
+    for (int offset = 0; offset <= 3; ++offset) {
+      for (int k = 0; k < 15; ++k) {
+        final int x = (1 << k) - 1;
+        Signed16.packToBytesBigEndian(x, b, offset);
+        Assert.assertEquals(x, Signed16.unpackFromBytesBigEndian(b, offset));
+        Signed16.packToBytesBigEndian(-x, b, offset);
+        Assert.assertEquals(-x, Signed16.unpackFromBytesBigEndian(b, offset));
+        Signed16.packToBytesLittleEndian(x, b, offset);
+        Assert.assertEquals(x, Signed16.unpackFromBytesLittleEndian(b, offset));
+        Signed16.packToBytesLittleEndian(-x, b, offset);
+        Assert.assertEquals(-x, Signed16.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testLayoutOffset_Bytes()
+  {
+    final byte[] b = new byte[2 + 2];
+    Signed16.packToBytesBigEndian(0x0102, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 1, 2, 0}, b);
+    Signed16.packToBytesLittleEndian(0x0102, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 2, 1, 0}, b);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_0()
+  {
+    Signed16.unpackFromBytesBigEndian(new byte[2 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_1()
+  {
+    Signed16.unpackFromBytesLittleEndian(new byte[2], -1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_2()
+  {
+    Signed16.packToBytesBigEndian(0, new byte[2 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_3()
+  {
+    Signed16.packToBytesLittleEndian(0, new byte[2], 1);
+  }
+
+  @Test public void testBulkBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = (short) r.nextInt();
+    }
+
+    final int size = 1 + (src.length * 2);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Signed16.packToBufferBigEndian(src[k], expected, 1 + (k * 2));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Signed16.packArrayBigEndian(src, 2, b, 1 + (2 * 2), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Signed16.unpackArrayBigEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 2), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = (short) r.nextInt();
+    }
+
+    final int size = 1 + (src.length * 2);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Signed16.packToBufferLittleEndian(src[k], expected, 1 + (k * 2));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Signed16.packArrayLittleEndian(src, 2, b, 1 + (2 * 2), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Signed16.unpackArrayLittleEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 2), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Signed16.packArrayBigEndian(new int[4], 0, ByteBuffer.allocate(4 * 2 - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Signed16.unpackArrayBigEndian(ByteBuffer.allocate(4 * 2), 0, new int[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Signed16.packArrayBigEndian(
+      new int[4], 0, ByteBuffer.allocate(4 * 2).asReadOnlyBuffer(), 0, 4);
+  }
+
+  @Test public void testSortableOrder()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] values = new int[1000];
+    final int[] extremes = { Short.MIN_VALUE, -1, 0, 1, Short.MAX_VALUE };
+    System.arraycopy(extremes, 0, values, 0, extremes.length);
+    for (int k = extremes.length; k < values.length; ++k) {
+      values[k] = (short) r.nextInt();
+    }
+
+    final byte[][] ascending = new byte[values.length][];
+    final byte[][] descending = new byte[values.length][];
+    final ByteBuffer b = ByteBuffer.allocate(2 + 1);
+    for (int k = 0; k < values.length; ++k) {
+      ascending[k] =
+        Signed16.packToBytesSortable(values[k], new byte[2 + 1], 1);
+      descending[k] =
+        Signed16.packToBytesSortableDescending(values[k], new byte[2 + 1], 1);
+      Assert.assertEquals(
+        values[k],
+        Signed16.unpackFromBytesSortable(ascending[k], 1));
+      Assert.assertEquals(
+        values[k],
+        Signed16.unpackFromBytesSortableDescending(descending[k], 1));
+
+      Signed16.packToBufferSortable(values[k], b, 1);
+      Assert.assertArrayEquals(ascending[k], b.array());
+      Assert.assertEquals(values[k], Signed16.unpackFromBufferSortable(b, 1));
+      Signed16.packToBufferSortableDescending(values[k], b, 1);
+      Assert.assertArrayEquals(descending[k], b.array());
+      Assert.assertEquals(
+        values[k],
+        Signed16.unpackFromBufferSortableDescending(b, 1));
+    }
+
+    for (int k = 1; k < values.length; ++k) {
+      final int expected =
+        Integer.signum(Integer.compare(values[k - 1], values[k]));
+      Assert.assertEquals(
+        expected,
+        Integer.signum(Arrays.compareUnsigned(ascending[k - 1], ascending[k])));
+      Assert.assertEquals(
+        -expected,
+        Integer.signum(
+          Arrays.compareUnsigned(descending[k - 1], descending[k])));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSortableOutOfBounds()
+  {
+    Signed16.packToBytesSortable(0, new byte[2], 1);
+  }
 }
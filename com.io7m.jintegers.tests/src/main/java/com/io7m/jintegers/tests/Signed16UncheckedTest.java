@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed16Unchecked;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Signed16UncheckedTest
+{
+  @Test public void testBytesBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int offset = 0; offset <= 5; ++offset) {
+      for (int k = 0; k < 100; ++k) {
+        final int x = (short) r.nextInt();
+        final byte[] e = new byte[2 + 5];
+        final byte[] b = new byte[2 + 5];
+        Signed16.packToBytesBigEndian(x, e, offset);
+        Assert.assertSame(b, Signed16Unchecked.packToBytesBigEndian(x, b, offset));
+        Assert.assertArrayEquals(e, b);
+        Assert.assertEquals(x, Signed16Unchecked.unpackFromBytesBigEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final boolean direct : new boolean[] { false, true }) {
+      for (int offset = 0; offset <= 5; ++offset) {
+        for (int k = 0; k < 100; ++k) {
+          final int x = (short) r.nextInt();
+          final ByteBuffer e = ByteBuffer.allocate(2 + 5);
+          final ByteBuffer b = direct
+            ? ByteBuffer.allocateDirect(2 + 5)
+            : ByteBuffer.allocate(2 + 5);
+          Signed16.packToBufferBigEndian(x, e, offset);
+          Assert.assertSame(b, Signed16Unchecked.packToBufferBigEndian(x, b, offset));
+          Assert.assertEquals(e, b);
+          Assert.assertEquals(x, Signed16Unchecked.unpackFromBufferBigEndian(b, offset));
+          Assert.assertEquals(0, b.position());
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimitBigEndian()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(2 + 5);
+    Signed16.packToBufferBigEndian(-2, b, 4);
+    b.limit(4 + 2);
+    Assert.assertEquals(-2, Signed16Unchecked.unpackFromBufferBigEndian(b, 4));
+    try {
+      Signed16Unchecked.unpackFromBufferBigEndian(b, 5);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      // Expected
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsBigEndian()
+  {
+    Signed16Unchecked.unpackFromBytesBigEndian(new byte[2 + 1], 2);
+  }
+
+  @Test public void testBytesOutOfBoundsUnmodifiedBigEndian()
+  {
+    final byte[] b = new byte[2 + 1];
+    try {
+      Signed16Unchecked.packToBytesBigEndian(-1, b, 2);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      Assert.assertArrayEquals(new byte[2 + 1], b);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferNegativeBigEndian()
+  {
+    Signed16Unchecked.unpackFromBufferBigEndian(ByteBuffer.allocate(2 + 1), -1);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testBufferNullBigEndian()
+  {
+    Signed16Unchecked.unpackFromBufferBigEndian(null, 0);
+  }
+
+  @Test public void testBytesLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int offset = 0; offset <= 5; ++offset) {
+      for (int k = 0; k < 100; ++k) {
+        final int x = (short) r.nextInt();
+        final byte[] e = new byte[2 + 5];
+        final byte[] b = new byte[2 + 5];
+        Signed16.packToBytesLittleEndian(x, e, offset);
+        Assert.assertSame(b, Signed16Unchecked.packToBytesLittleEndian(x, b, offset));
+        Assert.assertArrayEquals(e, b);
+        Assert.assertEquals(x, Signed16Unchecked.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final boolean direct : new boolean[] { false, true }) {
+      for (int offset = 0; offset <= 5; ++offset) {
+        for (int k = 0; k < 100; ++k) {
+          final int x = (short) r.nextInt();
+          final ByteBuffer e = ByteBuffer.allocate(2 + 5);
+          final ByteBuffer b = direct
+            ? ByteBuffer.allocateDirect(2 + 5)
+            : ByteBuffer.allocate(2 + 5);
+          Signed16.packToBufferLittleEndian(x, e, offset);
+          Assert.assertSame(b, Signed16Unchecked.packToBufferLittleEndian(x, b, offset));
+          Assert.assertEquals(e, b);
+          Assert.assertEquals(x, Signed16Unchecked.unpackFromBufferLittleEndian(b, offset));
+          Assert.assertEquals(0, b.position());
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimitLittleEndian()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(2 + 5);
+    Signed16.packToBufferLittleEndian(-2, b, 4);
+    b.limit(4 + 2);
+    Assert.assertEquals(-2, Signed16Unchecked.unpackFromBufferLittleEndian(b, 4));
+    try {
+      Signed16Unchecked.unpackFromBufferLittleEndian(b, 5);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      // Expected
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsLittleEndian()
+  {
+    Signed16Unchecked.unpackFromBytesLittleEndian(new byte[2 + 1], 2);
+  }
+
+  @Test public void testBytesOutOfBoundsUnmodifiedLittleEndian()
+  {
+    final byte[] b = new byte[2 + 1];
+    try {
+      Signed16Unchecked.packToBytesLittleEndian(-1, b, 2);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      Assert.assertArrayEquals(new byte[2 + 1], b);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferNegativeLittleEndian()
+  {
+    Signed16Unchecked.unpackFromBufferLittleEndian(ByteBuffer.allocate(2 + 1), -1);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testBufferNullLittleEndian()
+  {
+    Signed16Unchecked.unpackFromBufferLittleEndian(null, 0);
+  }
+}
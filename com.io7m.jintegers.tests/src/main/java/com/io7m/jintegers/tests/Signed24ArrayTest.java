@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed24Array;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Signed24ArrayTest
+{
+  private static final int CHUNK = 3 * 5;
+
+  private static int[] values(
+    final Random r,
+    final int count)
+  {
+    final int[] values = new int[count];
+    for (int index = 0; index < count; ++index) {
+      final long v = r.nextLong();
+      values[index] = (int) ((v << 40) >> 40);
+    }
+    return values;
+  }
+
+  @Test public void testGetSet()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      final int[] values = Signed24ArrayTest.values(r, 100);
+      final Signed24Array a = Signed24Array.allocate(100L, order, CHUNK);
+      Assert.assertEquals(100L, a.size());
+      Assert.assertEquals(3, a.width());
+      Assert.assertEquals(order, a.order());
+
+      for (int index = 0; index < values.length; ++index) {
+        Assert.assertEquals(0, a.get(index));
+        a.set(index, values[index]);
+      }
+      for (int index = 0; index < values.length; ++index) {
+        Assert.assertEquals(values[index], a.get(index));
+        Assert.assertEquals(values[index], a.codec().unpack(
+          a.codec().pack(values[index], ByteBuffer.allocate(3), 0), 0));
+      }
+    }
+  }
+
+  @Test public void testArrays()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      final int[] values = Signed24ArrayTest.values(r, 100);
+      final Signed24Array a = Signed24Array.allocate(103L, order, CHUNK);
+      a.setArray(3L, values, 0, values.length);
+      Assert.assertEquals(0, a.get(2L));
+
+      for (int index = 0; index < values.length; ++index) {
+        Assert.assertEquals(values[index], a.get(index + 3L));
+      }
+
+      final int[] out = a.getArray(5L, new int[100], 1, 97);
+      Assert.assertEquals(0, out[0]);
+      for (int index = 0; index < 97; ++index) {
+        Assert.assertEquals(values[index + 2], out[index + 1]);
+      }
+    }
+  }
+
+  @Test public void testFill()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      final int value = Signed24ArrayTest.values(r, 1)[0];
+      final Signed24Array a = Signed24Array.allocate(100L, order, CHUNK);
+      a.fill(3L, 97L, value);
+      for (int index = 0; index < 100; ++index) {
+        final int expected = index >= 3 && index < 97 ? value : 0;
+        Assert.assertEquals(expected, a.get(index));
+      }
+
+      a.fill(value);
+      for (int index = 0; index < 100; ++index) {
+        Assert.assertEquals(value, a.get(index));
+      }
+      a.fill(50L, 50L, 0);
+      Assert.assertEquals(value, a.get(50L));
+    }
+  }
+
+  @Test public void testFillLargeChunks()
+  {
+    final Signed24Array a = Signed24Array.allocate(1000L, ByteOrder.BIG_ENDIAN);
+    a.fill(1, 999, 0x7f);
+    Assert.assertEquals(0, a.get(0L));
+    Assert.assertEquals(0x7f, a.get(1L));
+    Assert.assertEquals(0x7f, a.get(998L));
+    Assert.assertEquals(0, a.get(999L));
+  }
+
+  @Test public void testCopyOverlapping()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      final int[] values = Signed24ArrayTest.values(r, 100);
+
+      for (final int[] shift : new int[][] { { 10, 17 }, { 17, 10 }, { 0, 1 }, { 1, 0 } }) {
+        final Signed24Array a = Signed24Array.allocate(100L, order, CHUNK);
+        a.setArray(0L, values, 0, values.length);
+        final int[] expected = values.clone();
+        System.arraycopy(expected, shift[0], expected, shift[1], 80);
+
+        a.copyTo(shift[0], a, shift[1], 80L);
+        Assert.assertArrayEquals(expected, a.getArray(0L, new int[100], 0, 100));
+      }
+    }
+  }
+
+  @Test public void testCopyToOtherOrder()
+  {
+    final int[] values = Signed24ArrayTest.values(new Random(0x6a696e74L), 100);
+    final Signed24Array a = Signed24Array.allocate(100L, ByteOrder.BIG_ENDIAN, CHUNK);
+    final Signed24Array b = Signed24Array.allocate(100L, ByteOrder.LITTLE_ENDIAN, CHUNK);
+    a.setArray(0L, values, 0, values.length);
+    a.copyTo(10L, b, 20L, 50L);
+
+    for (int index = 0; index < 100; ++index) {
+      final int expected = index >= 20 && index < 70 ? values[index - 10] : 0;
+      Assert.assertEquals(expected, b.get(index));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testGetOutOfRange()
+  {
+    Signed24Array.allocate(10L, ByteOrder.BIG_ENDIAN).get(10L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSetNegative()
+  {
+    Signed24Array.allocate(10L, ByteOrder.BIG_ENDIAN).set(-1L, 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testFillOutOfRange()
+  {
+    Signed24Array.allocate(10L, ByteOrder.BIG_ENDIAN).fill(5L, 11L, 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testCopyOutOfRange()
+  {
+    final Signed24Array a = Signed24Array.allocate(10L, ByteOrder.BIG_ENDIAN);
+    a.copyTo(0L, a, 5L, 6L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testGetArrayOutOfRange()
+  {
+    Signed24Array.allocate(10L, ByteOrder.BIG_ENDIAN).getArray(0L, new int[20], 0, 11);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testAllocateNegative()
+  {
+    Signed24Array.allocate(-1L, ByteOrder.BIG_ENDIAN);
+  }
+}
@@ -18,6 +18,8 @@ package com.io7m.jintegers.tests;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -225,4 +227,311 @@ import com.io7m.jintegers.Signed24;
   {
     Signed24.packToBytesLittleEndian(0, new byte[1]);
   }
+
+  @Test public void testIdentityOffset_All()
+  {
+    final byte[] b = new byte[3 + 3];
+    for (int offset = 0; offset <= 3; ++offset) {
+      for (int k = 0; k < 23; ++k) {
+        final int x = (1 << k) - 1;
+        Signed24.packToBytesBigEndian(x, b, offset);
+        Assert.assertEquals(x, Signed24.unpackFromBytesBigEndian(b, offset));
+        Signed24.packToBytesBigEndian(-x, b, offset);
+        Assert.assertEquals(-x, Signed24.unpackFromBytesBigEndian(b, offset));
+        Signed24.packToBytesLittleEndian(x, b, offset);
+        Assert.assertEquals(x, Signed24.unpackFromBytesLittleEndian(b, offset));
+        Signed24.packToBytesLittleEndian(-x, b, offset);
+        Assert.assertEquals(-x, Signed24.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testLayoutOffset_Bytes()
+  {
+    final byte[] b = new byte[3 + 2];
+    Signed24.packToBytesBigEndian(0x010203, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 1, 2, 3, 0}, b);
+    Signed24.packToBytesLittleEndian(0x010203, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 3, 2, 1, 0}, b);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_0()
+  {
+    Signed24.unpackFromBytesBigEndian(new byte[3 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_1()
+  {
+    Signed24.unpackFromBytesLittleEndian(new byte[3], -1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_2()
+  {
+    Signed24.packToBytesBigEndian(0, new byte[3 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_3()
+  {
+    Signed24.packToBytesLittleEndian(0, new byte[3], 1);
+  }
+
+  @Test public void testBulkBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = (r.nextInt() << 8) >> 8;
+    }
+
+    final int size = 1 + (src.length * 3);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Signed24.packToBufferBigEndian(src[k], expected, 1 + (k * 3));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Signed24.packArrayBigEndian(src, 2, b, 1 + (2 * 3), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Signed24.unpackArrayBigEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 3), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = (r.nextInt() << 8) >> 8;
+    }
+
+    final int size = 1 + (src.length * 3);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Signed24.packToBufferLittleEndian(src[k], expected, 1 + (k * 3));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Signed24.packArrayLittleEndian(src, 2, b, 1 + (2 * 3), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Signed24.unpackArrayLittleEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 3), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Signed24.packArrayBigEndian(new int[4], 0, ByteBuffer.allocate(4 * 3 - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Signed24.unpackArrayBigEndian(ByteBuffer.allocate(4 * 3), 0, new int[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Signed24.packArrayBigEndian(
+      new int[4], 0, ByteBuffer.allocate(4 * 3).asReadOnlyBuffer(), 0, 4);
+  }
+
+  @Test public void testBulkNormalizedBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = (r.nextInt() << 8) >> 8;
+    }
+    src[0] = 0x7fffff;
+    src[1] = -0x800000;
+
+    final ByteBuffer b = ByteBuffer.allocate(1 + (src.length * 3));
+    Signed24.packArrayBigEndian(src, 0, b, 1, src.length);
+
+    final float[] f = new float[src.length];
+    Signed24.unpackArrayNormalizedBigEndian(b, 1, f, 0, src.length);
+    for (int k = 0; k < src.length; ++k) {
+      Assert.assertEquals(src[k] / 8388608.0f, f[k], 0.0f);
+      Assert.assertTrue(f[k] >= -1.0f && f[k] < 1.0f);
+    }
+
+    final ByteBuffer c = ByteBuffer.allocateDirect(1 + (src.length * 3));
+    Signed24.packArrayNormalizedBigEndian(f, 0, c, 1, src.length);
+    Assert.assertEquals(b.rewind(), c.rewind());
+  }
+
+  @Test public void testBulkNormalizedClampBigEndian()
+  {
+    final float[] f = {1.0f, -1.0f, 2.0f, -2.0f, 0.5f};
+    final ByteBuffer b = ByteBuffer.allocate(f.length * 3);
+    Signed24.packArrayNormalizedBigEndian(f, 0, b, 0, f.length);
+
+    final int[] x = new int[f.length];
+    Signed24.unpackArrayBigEndian(b, 0, x, 0, f.length);
+    Assert.assertArrayEquals(
+      new int[]{0x7fffff, -0x800000, 0x7fffff, -0x800000, 0x400000}, x);
+  }
+
+  @Test public void testInterleavedBigEndian()
+  {
+    final int channels = 3;
+    final int frames = 5;
+    final Random r = new Random(0x6a696e74L);
+    final float[][] src = new float[channels][frames + 1];
+    for (int c = 0; c < channels; ++c) {
+      for (int f = 0; f < src[c].length; ++f) {
+        src[c][f] = ((r.nextInt() << 8) >> 8) / 8388608.0f;
+      }
+    }
+
+    final int size = 2 + (channels * frames * 3);
+    final ByteBuffer b = ByteBuffer.allocate(size);
+    b.put(size - 1, (byte) 0x7f);
+    Signed24.packInterleavedNormalizedBigEndian(src, 1, b, 1, frames);
+    Assert.assertEquals(0, b.get(0));
+    Assert.assertEquals(0x7f, b.get(size - 1));
+
+    for (int f = 0; f < frames; ++f) {
+      for (int c = 0; c < channels; ++c) {
+        final int index = 1 + (((f * channels) + c) * 3);
+        final int x = Signed24.unpackFromBufferBigEndian(b, index);
+        Assert.assertEquals(src[c][f + 1], x / 8388608.0f, 0.0f);
+      }
+    }
+
+    final float[][] dst = new float[channels][frames];
+    Signed24.unpackInterleavedNormalizedBigEndian(
+      b.asReadOnlyBuffer(), 1, dst, 0, frames);
+    for (int c = 0; c < channels; ++c) {
+      for (int f = 0; f < frames; ++f) {
+        Assert.assertEquals(src[c][f + 1], dst[c][f], 0.0f);
+      }
+    }
+  }
+
+  @Test public void testBulkNormalizedLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = (r.nextInt() << 8) >> 8;
+    }
+    src[0] = 0x7fffff;
+    src[1] = -0x800000;
+
+    final ByteBuffer b = ByteBuffer.allocate(1 + (src.length * 3));
+    Signed24.packArrayLittleEndian(src, 0, b, 1, src.length);
+
+    final float[] f = new float[src.length];
+    Signed24.unpackArrayNormalizedLittleEndian(b, 1, f, 0, src.length);
+    for (int k = 0; k < src.length; ++k) {
+      Assert.assertEquals(src[k] / 8388608.0f, f[k], 0.0f);
+      Assert.assertTrue(f[k] >= -1.0f && f[k] < 1.0f);
+    }
+
+    final ByteBuffer c = ByteBuffer.allocateDirect(1 + (src.length * 3));
+    Signed24.packArrayNormalizedLittleEndian(f, 0, c, 1, src.length);
+    Assert.assertEquals(b.rewind(), c.rewind());
+  }
+
+  @Test public void testBulkNormalizedClampLittleEndian()
+  {
+    final float[] f = {1.0f, -1.0f, 2.0f, -2.0f, 0.5f};
+    final ByteBuffer b = ByteBuffer.allocate(f.length * 3);
+    Signed24.packArrayNormalizedLittleEndian(f, 0, b, 0, f.length);
+
+    final int[] x = new int[f.length];
+    Signed24.unpackArrayLittleEndian(b, 0, x, 0, f.length);
+    Assert.assertArrayEquals(
+      new int[]{0x7fffff, -0x800000, 0x7fffff, -0x800000, 0x400000}, x);
+  }
+
+  @Test public void testInterleavedLittleEndian()
+  {
+    final int channels = 3;
+    final int frames = 5;
+    final Random r = new Random(0x6a696e74L);
+    final float[][] src = new float[channels][frames + 1];
+    for (int c = 0; c < channels; ++c) {
+      for (int f = 0; f < src[c].length; ++f) {
+        src[c][f] = ((r.nextInt() << 8) >> 8) / 8388608.0f;
+      }
+    }
+
+    final int size = 2 + (channels * frames * 3);
+    final ByteBuffer b = ByteBuffer.allocate(size);
+    b.put(size - 1, (byte) 0x7f);
+    Signed24.packInterleavedNormalizedLittleEndian(src, 1, b, 1, frames);
+    Assert.assertEquals(0, b.get(0));
+    Assert.assertEquals(0x7f, b.get(size - 1));
+
+    for (int f = 0; f < frames; ++f) {
+      for (int c = 0; c < channels; ++c) {
+        final int index = 1 + (((f * channels) + c) * 3);
+        final int x = Signed24.unpackFromBufferLittleEndian(b, index);
+        Assert.assertEquals(src[c][f + 1], x / 8388608.0f, 0.0f);
+      }
+    }
+
+    final float[][] dst = new float[channels][frames];
+    Signed24.unpackInterleavedNormalizedLittleEndian(
+      b.asReadOnlyBuffer(), 1, dst, 0, frames);
+    for (int c = 0; c < channels; ++c) {
+      for (int f = 0; f < frames; ++f) {
+        Assert.assertEquals(src[c][f + 1], dst[c][f], 0.0f);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testInterleavedOutOfBounds_0()
+  {
+    Signed24.unpackInterleavedNormalizedLittleEndian(
+      ByteBuffer.allocate(17), 0, new float[2][3], 0, 3);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testInterleavedOutOfBounds_1()
+  {
+    Signed24.packInterleavedNormalizedLittleEndian(
+      new float[][]{new float[3], new float[2]},
+      0,
+      ByteBuffer.allocate(18),
+      0,
+      3);
+  }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed24Unchecked;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Signed24UncheckedTest
+{
+  @Test public void testBytesBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int offset = 0; offset <= 5; ++offset) {
+      for (int k = 0; k < 100; ++k) {
+        final int x = (r.nextInt() << 8) >> 8;
+        final byte[] e = new byte[3 + 5];
+        final byte[] b = new byte[3 + 5];
+        Signed24.packToBytesBigEndian(x, e, offset);
+        Assert.assertSame(b, Signed24Unchecked.packToBytesBigEndian(x, b, offset));
+        Assert.assertArrayEquals(e, b);
+        Assert.assertEquals(x, Signed24Unchecked.unpackFromBytesBigEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final boolean direct : new boolean[] { false, true }) {
+      for (int offset = 0; offset <= 5; ++offset) {
+        for (int k = 0; k < 100; ++k) {
+          final int x = (r.nextInt() << 8) >> 8;
+          final ByteBuffer e = ByteBuffer.allocate(3 + 5);
+          final ByteBuffer b = direct
+            ? ByteBuffer.allocateDirect(3 + 5)
+            : ByteBuffer.allocate(3 + 5);
+          Signed24.packToBufferBigEndian(x, e, offset);
+          Assert.assertSame(b, Signed24Unchecked.packToBufferBigEndian(x, b, offset));
+          Assert.assertEquals(e, b);
+          Assert.assertEquals(x, Signed24Unchecked.unpackFromBufferBigEndian(b, offset));
+          Assert.assertEquals(0, b.position());
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimitBigEndian()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(3 + 5);
+    Signed24.packToBufferBigEndian(-2, b, 4);
+    b.limit(4 + 3);
+    Assert.assertEquals(-2, Signed24Unchecked.unpackFromBufferBigEndian(b, 4));
+    try {
+      Signed24Unchecked.unpackFromBufferBigEndian(b, 5);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      // Expected
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsBigEndian()
+  {
+    Signed24Unchecked.unpackFromBytesBigEndian(new byte[3 + 1], 2);
+  }
+
+  @Test public void testBytesOutOfBoundsUnmodifiedBigEndian()
+  {
+    final byte[] b = new byte[3 + 1];
+    try {
+      Signed24Unchecked.packToBytesBigEndian(-1, b, 2);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      Assert.assertArrayEquals(new byte[3 + 1], b);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferNegativeBigEndian()
+  {
+    Signed24Unchecked.unpackFromBufferBigEndian(ByteBuffer.allocate(3 + 1), -1);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testBufferNullBigEndian()
+  {
+    Signed24Unchecked.unpackFromBufferBigEndian(null, 0);
+  }
+
+  @Test public void testBytesLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int offset = 0; offset <= 5; ++offset) {
+      for (int k = 0; k < 100; ++k) {
+        final int x = (r.nextInt() << 8) >> 8;
+        final byte[] e = new byte[3 + 5];
+        final byte[] b = new byte[3 + 5];
+        Signed24.packToBytesLittleEndian(x, e, offset);
+        Assert.assertSame(b, Signed24Unchecked.packToBytesLittleEndian(x, b, offset));
+        Assert.assertArrayEquals(e, b);
+        Assert.assertEquals(x, Signed24Unchecked.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final boolean direct : new boolean[] { false, true }) {
+      for (int offset = 0; offset <= 5; ++offset) {
+        for (int k = 0; k < 100; ++k) {
+          final int x = (r.nextInt() << 8) >> 8;
+          final ByteBuffer e = ByteBuffer.allocate(3 + 5);
+          final ByteBuffer b = direct
+            ? ByteBuffer.allocateDirect(3 + 5)
+            : ByteBuffer.allocate(3 + 5);
+          Signed24.packToBufferLittleEndian(x, e, offset);
+          Assert.assertSame(b, Signed24Unchecked.packToBufferLittleEndian(x, b, offset));
+          Assert.assertEquals(e, b);
+          Assert.assertEquals(x, Signed24Unchecked.unpackFromBufferLittleEndian(b, offset));
+          Assert.assertEquals(0, b.position());
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimitLittleEndian()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(3 + 5);
+    Signed24.packToBufferLittleEndian(-2, b, 4);
+    b.limit(4 + 3);
+    Assert.assertEquals(-2, Signed24Unchecked.unpackFromBufferLittleEndian(b, 4));
+    try {
+      Signed24Unchecked.unpackFromBufferLittleEndian(b, 5);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      // Expected
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsLittleEndian()
+  {
+    Signed24Unchecked.unpackFromBytesLittleEndian(new byte[3 + 1], 2);
+  }
+
+  @Test public void testBytesOutOfBoundsUnmodifiedLittleEndian()
+  {
+    final byte[] b = new byte[3 + 1];
+    try {
+      Signed24Unchecked.packToBytesLittleEndian(-1, b, 2);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      Assert.assertArrayEquals(new byte[3 + 1], b);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferNegativeLittleEndian()
+  {
+    Signed24Unchecked.unpackFromBufferLittleEndian(ByteBuffer.allocate(3 + 1), -1);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testBufferNullLittleEndian()
+  {
+    Signed24Unchecked.unpackFromBufferLittleEndian(null, 0);
+  }
+}
@@ -18,6 +18,9 @@ package com.io7m.jintegers.tests;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -225,4 +228,226 @@ import com.io7m.jintegers.Signed32;
   {
     Signed32.packToBytesLittleEndian(0, new byte[3]);
   }
+
+  @Test public void testLayoutBE_Bytes()
+  {
+    final byte[] b = Signed32.packToBytesBigEndianAllocate(0x01020304);
+    Assert.assertArrayEquals(new byte[]{1, 2, 3, 4}, b);
+    Assert.assertEquals(0x01020304, Signed32.unpackFromBytesBigEndian(b));
+  }
+
+  @Test public void testLayoutLE_Bytes()
+  {
+    final byte[] b = Signed32.packToBytesLittleEndianAllocate(0x01020304);
+    Assert.assertArrayEquals(new byte[]{4, 3, 2, 1}, b);
+    Assert.assertEquals(0x01020304, Signed32.unpackFromBytesLittleEndian(b));
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testNull_0()
+  {
+    Signed32.unpackFromBytesBigEndian(null);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testNull_1()
+  {
+    Signed32.packToBytesLittleEndian(0, null);
+  }
+
+  @Test public void testIdentityOffset_All()
+  {
+    final byte[] b = new byte[4 + 3];
+    for (int offset = 0; offset <= 3; ++offset) {
+      for (int k = 0; k < 31; ++k) {
+        final int x = (1 << k) - 1;
+        Signed32.packToBytesBigEndian(x, b, offset);
+        Assert.assertEquals(x, Signed32.unpackFromBytesBigEndian(b, offset));
+        Signed32.packToBytesBigEndian(-x, b, offset);
+        Assert.assertEquals(-x, Signed32.unpackFromBytesBigEndian(b, offset));
+        Signed32.packToBytesLittleEndian(x, b, offset);
+        Assert.assertEquals(x, Signed32.unpackFromBytesLittleEndian(b, offset));
+        Signed32.packToBytesLittleEndian(-x, b, offset);
+        Assert.assertEquals(-x, Signed32.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testLayoutOffset_Bytes()
+  {
+    final byte[] b = new byte[4 + 2];
+    Signed32.packToBytesBigEndian(0x01020304, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 1, 2, 3, 4, 0}, b);
+    Signed32.packToBytesLittleEndian(0x01020304, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 4, 3, 2, 1, 0}, b);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_0()
+  {
+    Signed32.unpackFromBytesBigEndian(new byte[4 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_1()
+  {
+    Signed32.unpackFromBytesLittleEndian(new byte[4], -1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_2()
+  {
+    Signed32.packToBytesBigEndian(0, new byte[4 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_3()
+  {
+    Signed32.packToBytesLittleEndian(0, new byte[4], 1);
+  }
+
+  @Test public void testBulkBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt();
+    }
+
+    final int size = 1 + (src.length * 4);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Signed32.packToBufferBigEndian(src[k], expected, 1 + (k * 4));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Signed32.packArrayBigEndian(src, 2, b, 1 + (2 * 4), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Signed32.unpackArrayBigEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 4), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt();
+    }
+
+    final int size = 1 + (src.length * 4);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Signed32.packToBufferLittleEndian(src[k], expected, 1 + (k * 4));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Signed32.packArrayLittleEndian(src, 2, b, 1 + (2 * 4), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Signed32.unpackArrayLittleEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 4), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Signed32.packArrayBigEndian(new int[4], 0, ByteBuffer.allocate(4 * 4 - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Signed32.unpackArrayBigEndian(ByteBuffer.allocate(4 * 4), 0, new int[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Signed32.packArrayBigEndian(
+      new int[4], 0, ByteBuffer.allocate(4 * 4).asReadOnlyBuffer(), 0, 4);
+  }
+
+  @Test public void testSortableOrder()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] values = new int[1000];
+    final int[] extremes = { Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE };
+    System.arraycopy(extremes, 0, values, 0, extremes.length);
+    for (int k = extremes.length; k < values.length; ++k) {
+      values[k] = r.nextInt();
+    }
+
+    final byte[][] ascending = new byte[values.length][];
+    final byte[][] descending = new byte[values.length][];
+    final ByteBuffer b = ByteBuffer.allocate(4 + 1);
+    for (int k = 0; k < values.length; ++k) {
+      ascending[k] =
+        Signed32.packToBytesSortable(values[k], new byte[4 + 1], 1);
+      descending[k] =
+        Signed32.packToBytesSortableDescending(values[k], new byte[4 + 1], 1);
+      Assert.assertEquals(
+        values[k],
+        Signed32.unpackFromBytesSortable(ascending[k], 1));
+      Assert.assertEquals(
+        values[k],
+        Signed32.unpackFromBytesSortableDescending(descending[k], 1));
+
+      Signed32.packToBufferSortable(values[k], b, 1);
+      Assert.assertArrayEquals(ascending[k], b.array());
+      Assert.assertEquals(values[k], Signed32.unpackFromBufferSortable(b, 1));
+      Signed32.packToBufferSortableDescending(values[k], b, 1);
+      Assert.assertArrayEquals(descending[k], b.array());
+      Assert.assertEquals(
+        values[k],
+        Signed32.unpackFromBufferSortableDescending(b, 1));
+    }
+
+    for (int k = 1; k < values.length; ++k) {
+      final int expected =
+        Integer.signum(Integer.compare(values[k - 1], values[k]));
+      Assert.assertEquals(
+        expected,
+        Integer.signum(Arrays.compareUnsigned(ascending[k - 1], ascending[k])));
+      Assert.assertEquals(
+        -expected,
+        Integer.signum(
+          Arrays.compareUnsigned(descending[k - 1], descending[k])));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSortableOutOfBounds()
+  {
+    Signed32.packToBytesSortable(0, new byte[4], 1);
+  }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed32Unchecked;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Signed32UncheckedTest
+{
+  @Test public void testBytesBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int offset = 0; offset <= 5; ++offset) {
+      for (int k = 0; k < 100; ++k) {
+        final int x = r.nextInt();
+        final byte[] e = new byte[4 + 5];
+        final byte[] b = new byte[4 + 5];
+        Signed32.packToBytesBigEndian(x, e, offset);
+        Assert.assertSame(b, Signed32Unchecked.packToBytesBigEndian(x, b, offset));
+        Assert.assertArrayEquals(e, b);
+        Assert.assertEquals(x, Signed32Unchecked.unpackFromBytesBigEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final boolean direct : new boolean[] { false, true }) {
+      for (int offset = 0; offset <= 5; ++offset) {
+        for (int k = 0; k < 100; ++k) {
+          final int x = r.nextInt();
+          final ByteBuffer e = ByteBuffer.allocate(4 + 5);
+          final ByteBuffer b = direct
+            ? ByteBuffer.allocateDirect(4 + 5)
+            : ByteBuffer.allocate(4 + 5);
+          Signed32.packToBufferBigEndian(x, e, offset);
+          Assert.assertSame(b, Signed32Unchecked.packToBufferBigEndian(x, b, offset));
+          Assert.assertEquals(e, b);
+          Assert.assertEquals(x, Signed32Unchecked.unpackFromBufferBigEndian(b, offset));
+          Assert.assertEquals(0, b.position());
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimitBigEndian()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4 + 5);
+    Signed32.packToBufferBigEndian(-2, b, 4);
+    b.limit(4 + 4);
+    Assert.assertEquals(-2, Signed32Unchecked.unpackFromBufferBigEndian(b, 4));
+    try {
+      Signed32Unchecked.unpackFromBufferBigEndian(b, 5);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      // Expected
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsBigEndian()
+  {
+    Signed32Unchecked.unpackFromBytesBigEndian(new byte[4 + 1], 2);
+  }
+
+  @Test public void testBytesOutOfBoundsUnmodifiedBigEndian()
+  {
+    final byte[] b = new byte[4 + 1];
+    try {
+      Signed32Unchecked.packToBytesBigEndian(-1, b, 2);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      Assert.assertArrayEquals(new byte[4 + 1], b);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferNegativeBigEndian()
+  {
+    Signed32Unchecked.unpackFromBufferBigEndian(ByteBuffer.allocate(4 + 1), -1);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testBufferNullBigEndian()
+  {
+    Signed32Unchecked.unpackFromBufferBigEndian(null, 0);
+  }
+
+  @Test public void testBytesLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int offset = 0; offset <= 5; ++offset) {
+      for (int k = 0; k < 100; ++k) {
+        final int x = r.nextInt();
+        final byte[] e = new byte[4 + 5];
+        final byte[] b = new byte[4 + 5];
+        Signed32.packToBytesLittleEndian(x, e, offset);
+        Assert.assertSame(b, Signed32Unchecked.packToBytesLittleEndian(x, b, offset));
+        Assert.assertArrayEquals(e, b);
+        Assert.assertEquals(x, Signed32Unchecked.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final boolean direct : new boolean[] { false, true }) {
+      for (int offset = 0; offset <= 5; ++offset) {
+        for (int k = 0; k < 100; ++k) {
+          final int x = r.nextInt();
+          final ByteBuffer e = ByteBuffer.allocate(4 + 5);
+          final ByteBuffer b = direct
+            ? ByteBuffer.allocateDirect(4 + 5)
+            : ByteBuffer.allocate(4 + 5);
+          Signed32.packToBufferLittleEndian(x, e, offset);
+          Assert.assertSame(b, Signed32Unchecked.packToBufferLittleEndian(x, b, offset));
+          Assert.assertEquals(e, b);
+          Assert.assertEquals(x, Signed32Unchecked.unpackFromBufferLittleEndian(b, offset));
+          Assert.assertEquals(0, b.position());
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimitLittleEndian()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4 + 5);
+    Signed32.packToBufferLittleEndian(-2, b, 4);
+    b.limit(4 + 4);
+    Assert.assertEquals(-2, Signed32Unchecked.unpackFromBufferLittleEndian(b, 4));
+    try {
+      Signed32Unchecked.unpackFromBufferLittleEndian(b, 5);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      // Expected
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsLittleEndian()
+  {
+    Signed32Unchecked.unpackFromBytesLittleEndian(new byte[4 + 1], 2);
+  }
+
+  @Test public void testBytesOutOfBoundsUnmodifiedLittleEndian()
+  {
+    final byte[] b = new byte[4 + 1];
+    try {
+      Signed32Unchecked.packToBytesLittleEndian(-1, b, 2);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      Assert.assertArrayEquals(new byte[4 + 1], b);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferNegativeLittleEndian()
+  {
+    Signed32Unchecked.unpackFromBufferLittleEndian(ByteBuffer.allocate(4 + 1), -1);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testBufferNullLittleEndian()
+  {
+    Signed32Unchecked.unpackFromBufferLittleEndian(null, 0);
+  }
+}
@@ -18,6 +18,9 @@ package com.io7m.jintegers.tests;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -225,4 +228,226 @@ import com.io7m.jintegers.Signed64;
   {
     Signed64.packToBytesLittleEndian(0, new byte[7]);
   }
+
+  @Test public void testLayoutBE_Bytes()
+  {
+    final byte[] b = Signed64.packToBytesBigEndianAllocate(0x0102030405060708L);
+    Assert.assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}, b);
+    Assert.assertEquals(0x0102030405060708L, Signed64.unpackFromBytesBigEndian(b));
+  }
+
+  @Test public void testLayoutLE_Bytes()
+  {
+    final byte[] b = Signed64.packToBytesLittleEndianAllocate(0x0102030405060708L);
+    Assert.assertArrayEquals(new byte[]{8, 7, 6, 5, 4, 3, 2, 1}, b);
+    Assert.assertEquals(0x0102030405060708L, Signed64.unpackFromBytesLittleEndian(b));
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testNull_0()
+  {
+    Signed64.unpackFromBytesBigEndian(null);
+  }
+
+  @Test(expected = NullPointerException.class) public
+    void
+    testNull_1()
+  {
+    Signed64.packToBytesLittleEndian(0, null);
+  }
+
+  @Test public void testIdentityOffset_All()
+  {
+    final byte[] b = new byte[8 + 3];
+    for (int offset = 0; offset <= 3; ++offset) {
+      for (int k = 0; k < 63; ++k) {
+        final long x = (1L << k) - 1;
+        Signed64.packToBytesBigEndian(x, b, offset);
+        Assert.assertEquals(x, Signed64.unpackFromBytesBigEndian(b, offset));
+        Signed64.packToBytesBigEndian(-x, b, offset);
+        Assert.assertEquals(-x, Signed64.unpackFromBytesBigEndian(b, offset));
+        Signed64.packToBytesLittleEndian(x, b, offset);
+        Assert.assertEquals(x, Signed64.unpackFromBytesLittleEndian(b, offset));
+        Signed64.packToBytesLittleEndian(-x, b, offset);
+        Assert.assertEquals(-x, Signed64.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testLayoutOffset_Bytes()
+  {
+    final byte[] b = new byte[8 + 2];
+    Signed64.packToBytesBigEndian(0x0102030405060708L, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 0}, b);
+    Signed64.packToBytesLittleEndian(0x0102030405060708L, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 8, 7, 6, 5, 4, 3, 2, 1, 0}, b);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_0()
+  {
+    Signed64.unpackFromBytesBigEndian(new byte[8 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_1()
+  {
+    Signed64.unpackFromBytesLittleEndian(new byte[8], -1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_2()
+  {
+    Signed64.packToBytesBigEndian(0, new byte[8 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_3()
+  {
+    Signed64.packToBytesLittleEndian(0, new byte[8], 1);
+  }
+
+  @Test public void testBulkBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] src = new long[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextLong();
+    }
+
+    final int size = 1 + (src.length * 8);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Signed64.packToBufferBigEndian(src[k], expected, 1 + (k * 8));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Signed64.packArrayBigEndian(src, 2, b, 1 + (2 * 8), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final long[] dst = new long[src.length];
+      Signed64.unpackArrayBigEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 8), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] src = new long[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextLong();
+    }
+
+    final int size = 1 + (src.length * 8);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Signed64.packToBufferLittleEndian(src[k], expected, 1 + (k * 8));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Signed64.packArrayLittleEndian(src, 2, b, 1 + (2 * 8), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final long[] dst = new long[src.length];
+      Signed64.unpackArrayLittleEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 8), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Signed64.packArrayBigEndian(new long[4], 0, ByteBuffer.allocate(4 * 8 - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Signed64.unpackArrayBigEndian(ByteBuffer.allocate(4 * 8), 0, new long[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Signed64.packArrayBigEndian(
+      new long[4], 0, ByteBuffer.allocate(4 * 8).asReadOnlyBuffer(), 0, 4);
+  }
+
+  @Test public void testSortableOrder()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = new long[1000];
+    final long[] extremes = { Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE };
+    System.arraycopy(extremes, 0, values, 0, extremes.length);
+    for (int k = extremes.length; k < values.length; ++k) {
+      values[k] = r.nextLong();
+    }
+
+    final byte[][] ascending = new byte[values.length][];
+    final byte[][] descending = new byte[values.length][];
+    final ByteBuffer b = ByteBuffer.allocate(8 + 1);
+    for (int k = 0; k < values.length; ++k) {
+      ascending[k] =
+        Signed64.packToBytesSortable(values[k], new byte[8 + 1], 1);
+      descending[k] =
+        Signed64.packToBytesSortableDescending(values[k], new byte[8 + 1], 1);
+      Assert.assertEquals(
+        values[k],
+        Signed64.unpackFromBytesSortable(ascending[k], 1));
+      Assert.assertEquals(
+        values[k],
+        Signed64.unpackFromBytesSortableDescending(descending[k], 1));
+
+      Signed64.packToBufferSortable(values[k], b, 1);
+      Assert.assertArrayEquals(ascending[k], b.array());
+      Assert.assertEquals(values[k], Signed64.unpackFromBufferSortable(b, 1));
+      Signed64.packToBufferSortableDescending(values[k], b, 1);
+      Assert.assertArrayEquals(descending[k], b.array());
+      Assert.assertEquals(
+        values[k],
+        Signed64.unpackFromBufferSortableDescending(b, 1));
+    }
+
+    for (int k = 1; k < values.length; ++k) {
+      final int expected =
+        Integer.signum(Long.compare(values[k - 1], values[k]));
+      Assert.assertEquals(
+        expected,
+        Integer.signum(Arrays.compareUnsigned(ascending[k - 1], ascending[k])));
+      Assert.assertEquals(
+        -expected,
+        Integer.signum(
+          Arrays.compareUnsigned(descending[k - 1], descending[k])));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSortableOutOfBounds()
+  {
+    Signed64.packToBytesSortable(0, new byte[8], 1);
+  }
 }
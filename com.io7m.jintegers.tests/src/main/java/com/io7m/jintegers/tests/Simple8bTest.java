@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.Simple8b;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Simple8bTest
+{
+  private static long[] randomValues(
+    final Random r,
+    final int count)
+  {
+    final long[] values = new long[count];
+    int k = 0;
+    while (k < count) {
+      final int run = Math.min(count - k, 1 + r.nextInt(300));
+      final int bits = r.nextInt(61);
+      for (int i = 0; i < run; ++i) {
+        values[k + i] = bits == 0 ? 0L : r.nextLong() >>> (64 - bits);
+      }
+      k += run;
+    }
+    return values;
+  }
+
+  @Test public void testSelectors()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(64);
+    Assert.assertEquals(8, Simple8b.encode(new long[240], 0, b, 0, 240, ByteOrder.LITTLE_ENDIAN));
+    Assert.assertEquals(0L, Signed64.unpackFromBufferLittleEndian(b, 0) >>> 60);
+
+    Assert.assertEquals(8, Simple8b.encode(new long[120], 0, b, 0, 120, ByteOrder.LITTLE_ENDIAN));
+    Assert.assertEquals(1L, Signed64.unpackFromBufferLittleEndian(b, 0) >>> 60);
+
+    final long[] small = new long[8];
+    for (int k = 0; k < small.length; ++k) {
+      small[k] = 127L - k;
+    }
+    Assert.assertEquals(8, Simple8b.encode(small, 0, b, 0, 8, ByteOrder.BIG_ENDIAN));
+    Assert.assertEquals(8L, Signed64.unpackFromBufferBigEndian(b, 0) >>> 60);
+    Assert.assertEquals(127L, Signed64.unpackFromBufferBigEndian(b, 0) & 0x7fL);
+
+    final long[] wide = { Simple8b.MAXIMUM_VALUE, 1L };
+    Assert.assertEquals(16, Simple8b.encode(wide, 0, b, 0, 2, ByteOrder.LITTLE_ENDIAN));
+    Assert.assertEquals(
+      15L << 60 | Simple8b.MAXIMUM_VALUE,
+      Signed64.unpackFromBufferLittleEndian(b, 0));
+  }
+
+  @Test public void testZeroRunSpanningWords()
+  {
+    final long[] values = new long[304];
+    values[303] = 5L;
+    final ByteBuffer b = ByteBuffer.allocate(24);
+    Assert.assertEquals(24L, Simple8b.encodedLength(values, 3, 301));
+    Assert.assertEquals(
+      24, Simple8b.encode(values, 3, b, 0, 301, ByteOrder.LITTLE_ENDIAN));
+    Assert.assertEquals(0L, Signed64.unpackFromBufferLittleEndian(b, 0) >>> 60);
+    Assert.assertEquals(
+      2L << 60, Signed64.unpackFromBufferLittleEndian(b, 8));
+    Assert.assertEquals(
+      15L << 60 | 5L, Signed64.unpackFromBufferLittleEndian(b, 16));
+
+    final long[] out = new long[301];
+    Simple8b.decode(b, 0, out, 0, 301, ByteOrder.LITTLE_ENDIAN);
+    Assert.assertArrayEquals(
+      Arrays.copyOfRange(values, 3, 304), out);
+  }
+
+  @Test public void testRoundTrip()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (final ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      for (int count = 0; count < 2000; count += 97) {
+        final long[] values = randomValues(r, count);
+        final int length = (int) Simple8b.encodedLength(values, 0, count);
+        final ByteBuffer b = ByteBuffer.allocateDirect(length + 5);
+        Assert.assertEquals(length, Simple8b.encode(values, 0, b, 5, count, order));
+        final long[] out = new long[count + 1];
+        Assert.assertEquals(length, Simple8b.decode(b, 5, out, 1, count, order));
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(values[k], out[k + 1]);
+        }
+      }
+    }
+  }
+
+  @Test public void testRoundTripSigned()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = randomValues(r, 1000);
+    for (int k = 0; k < values.length; ++k) {
+      values[k] = (values[k] >>> 1) * (r.nextBoolean() ? -1L : 1L);
+    }
+    values[0] = -(1L << 59);
+    values[1] = (1L << 59) - 1L;
+
+    final int length = (int) Simple8b.encodedLengthSigned(values, 0, values.length);
+    final ByteBuffer b = ByteBuffer.allocate(length);
+    Simple8b.encodeSigned(values, 0, b, 0, values.length, ByteOrder.LITTLE_ENDIAN);
+    final long[] out = new long[values.length];
+    Simple8b.decodeSigned(b, 0, out, 0, values.length, ByteOrder.LITTLE_ENDIAN);
+    Assert.assertArrayEquals(values, out);
+  }
+
+  @Test public void testDensity()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = new long[7000];
+    for (int k = 0; k < values.length; ++k) {
+      values[k] = r.nextInt(256);
+    }
+    Assert.assertEquals(8000L, Simple8b.encodedLength(values, 0, values.length));
+  }
+
+  @Test public void testOutOfRangeWritesNothing()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(32);
+    try {
+      Simple8b.encode(new long[] { 1L, 1L << 60 }, 0, b, 0, 2, ByteOrder.LITTLE_ENDIAN);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      Assert.assertEquals(ByteBuffer.allocate(32), b);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testOutOfRangeSigned()
+  {
+    Simple8b.encodedLengthSigned(new long[] { 1L << 59 }, 0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testOutOfRangeNegative()
+  {
+    Simple8b.encodedLength(new long[] { -1L }, 0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testDecodeCountMismatch()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    Simple8b.encode(new long[60], 0, b, 0, 60, ByteOrder.LITTLE_ENDIAN);
+    Simple8b.decode(b, 0, new long[30], 0, 30, ByteOrder.LITTLE_ENDIAN);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeTruncated()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(16);
+    Simple8b.encode(new long[] { -1L >>> 4, 1L }, 0, b, 0, 2, ByteOrder.LITTLE_ENDIAN);
+    b.limit(12);
+    Simple8b.decode(b, 0, new long[2], 0, 2, ByteOrder.LITTLE_ENDIAN);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testEncodeTooSmall()
+  {
+    Simple8b.encode(new long[2], 0, ByteBuffer.allocate(7), 0, 2, ByteOrder.LITTLE_ENDIAN);
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.StreamVByte;
+
+@SuppressWarnings({ "null", "static-method" }) public final class StreamVByteTest
+{
+  private static int[] randomInts(
+    final Random r,
+    final int count)
+  {
+    final int[] values = new int[count];
+    for (int k = 0; k < count; ++k) {
+      values[k] = r.nextInt() >>> r.nextInt(32);
+    }
+    return values;
+  }
+
+  private static long[] randomLongs(
+    final Random r,
+    final int count)
+  {
+    final long[] values = new long[count];
+    for (int k = 0; k < count; ++k) {
+      values[k] = r.nextLong() >>> r.nextInt(64);
+    }
+    return values;
+  }
+
+  @Test public void testLayout32()
+  {
+    final byte[] b = new byte[16];
+    final int[] values = { 1, 0x200, 0x30000, 0x4000000, 5 };
+    final int written = StreamVByte.encode32(values, 0, b, 0, 5);
+    Assert.assertEquals(2 + 1 + 2 + 3 + 4 + 1, written);
+    Assert.assertEquals((byte) 0b11_10_01_00, b[0]);
+    Assert.assertEquals(0, b[1]);
+    Assert.assertEquals(1, b[2]);
+    Assert.assertEquals(0, b[3]);
+    Assert.assertEquals(2, b[4]);
+    Assert.assertEquals(3, b[7]);
+    Assert.assertEquals(4, b[11]);
+    Assert.assertEquals(5, b[12]);
+  }
+
+  @Test public void testLayout64()
+  {
+    final byte[] b = new byte[32];
+    final long[] values = { 1L, 0x100L, 0x10000L, 0x100000000L };
+    final int written = StreamVByte.encode64(values, 0, b, 0, 4);
+    Assert.assertEquals(1 + 1 + 2 + 4 + 8, written);
+    Assert.assertEquals((byte) 0b11_10_01_00, b[0]);
+    Assert.assertEquals(1, b[1]);
+    Assert.assertEquals(1, b[3]);
+    Assert.assertEquals(1, b[6]);
+    Assert.assertEquals(1, b[12]);
+  }
+
+  @Test public void testRoundTrip32()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int count = 0; count < 100; ++count) {
+      final int[] values = randomInts(r, count);
+      final int length = (int) StreamVByte.encodedLength32(values, 0, count);
+      final byte[] b = new byte[length + 2];
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(length + 2);
+      Assert.assertEquals(length, StreamVByte.encode32(values, 0, b, 2, count));
+      Assert.assertEquals(
+        length,
+        StreamVByte.encode32(values, 0, buffer, 2, count));
+      for (int k = 0; k < b.length; ++k) {
+        Assert.assertEquals(b[k], buffer.get(k));
+      }
+
+      final int[] out = new int[count];
+      Assert.assertEquals(length, StreamVByte.decode32(b, 2, out, 0, count));
+      Assert.assertArrayEquals(values, out);
+      final int[] outBuffer = new int[count];
+      Assert.assertEquals(
+        length,
+        StreamVByte.decode32(buffer, 2, outBuffer, 0, count));
+      Assert.assertArrayEquals(values, outBuffer);
+    }
+  }
+
+  @Test public void testRoundTrip64()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int count = 0; count < 100; ++count) {
+      final long[] values = randomLongs(r, count);
+      final int length = (int) StreamVByte.encodedLength64(values, 0, count);
+      final byte[] b = new byte[length + 2];
+      final ByteBuffer buffer = ByteBuffer.allocate(length + 2);
+      Assert.assertEquals(length, StreamVByte.encode64(values, 0, b, 2, count));
+      Assert.assertEquals(
+        length,
+        StreamVByte.encode64(values, 0, buffer, 2, count));
+      Assert.assertEquals(ByteBuffer.wrap(b), buffer);
+
+      final long[] out = new long[count];
+      Assert.assertEquals(length, StreamVByte.decode64(b, 2, out, 0, count));
+      Assert.assertArrayEquals(values, out);
+      final long[] outBuffer = new long[count];
+      Assert.assertEquals(
+        length,
+        StreamVByte.decode64(buffer, 2, outBuffer, 0, count));
+      Assert.assertArrayEquals(values, outBuffer);
+    }
+  }
+
+  @Test public void testEncodeDoesNotWritePastEnd()
+  {
+    final int[] values = { 1, 1, 1, 1, 1 };
+    final byte[] b = new byte[16];
+    Arrays.fill(b, (byte) 0x55);
+    final int written = StreamVByte.encode32(values, 0, b, 0, values.length);
+    Assert.assertEquals(7, written);
+    for (int k = written; k < b.length; ++k) {
+      Assert.assertEquals(0x55, b[k]);
+    }
+  }
+
+  @Test public void testEncodeTooSmallWritesNothing()
+  {
+    final byte[] b = new byte[4];
+    try {
+      StreamVByte.encode32(new int[] { 1, 2, 3, 0x1000 }, 0, b, 0, 4);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertArrayEquals(new byte[4], b);
+    }
+  }
+
+  @Test public void testMaximumEncodedLength()
+  {
+    Assert.assertEquals(0L, StreamVByte.maximumEncodedLength32(0));
+    Assert.assertEquals(1L + 4L, StreamVByte.maximumEncodedLength32(1));
+    Assert.assertEquals(2L + 40L, StreamVByte.maximumEncodedLength64(5));
+    final int[] values = { -1, -1, -1, -1, -1 };
+    Assert.assertEquals(
+      StreamVByte.maximumEncodedLength32(5),
+      StreamVByte.encodedLength32(values, 0, 5));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeTruncatedData()
+  {
+    final byte[] b = new byte[8];
+    StreamVByte.encode32(new int[] { 1, 2, 3, 0x10000 }, 0, b, 0, 4);
+    final byte[] truncated = new byte[6];
+    System.arraycopy(b, 0, truncated, 0, 6);
+    StreamVByte.decode32(truncated, 0, new int[4], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeTruncatedControl()
+  {
+    StreamVByte.decode64(ByteBuffer.allocate(1), 0, new long[5], 0, 5);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeDestinationTooSmall()
+  {
+    StreamVByte.decode32(new byte[16], 0, new int[3], 0, 4);
+  }
+}
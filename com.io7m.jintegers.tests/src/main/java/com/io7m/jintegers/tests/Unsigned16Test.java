@@ -18,6 +18,9 @@ package com.io7m.jintegers.tests;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -66,4 +69,140 @@ import com.io7m.jintegers.Unsigned16;
       Assert.assertEquals(x, y);
     }
   }
+
+  @Test public void testBulkBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt(0x10000);
+    }
+
+    final int size = 1 + (src.length * 2);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned16.packToBufferBigEndian(src[k], expected, 1 + (k * 2));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned16.packArrayBigEndian(src, 2, b, 1 + (2 * 2), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Unsigned16.unpackArrayBigEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 2), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt(0x10000);
+    }
+
+    final int size = 1 + (src.length * 2);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned16.packToBufferLittleEndian(src[k], expected, 1 + (k * 2));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned16.packArrayLittleEndian(src, 2, b, 1 + (2 * 2), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Unsigned16.unpackArrayLittleEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 2), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Unsigned16.packArrayBigEndian(new int[4], 0, ByteBuffer.allocate(4 * 2 - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Unsigned16.unpackArrayBigEndian(ByteBuffer.allocate(4 * 2), 0, new int[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Unsigned16.packArrayBigEndian(
+      new int[4], 0, ByteBuffer.allocate(4 * 2).asReadOnlyBuffer(), 0, 4);
+  }
+
+  @Test public void testBytesIdentityBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] b = new byte[2 + 3];
+    final ByteBuffer e = ByteBuffer.allocate(2 + 3);
+    for (int k = 0; k < 1000; ++k) {
+      final int x = r.nextInt() & 0xffff;
+      final int offset = k % 4;
+      Arrays.fill(e.array(), (byte) 0);
+      Arrays.fill(b, (byte) 0);
+      Unsigned16.packToBufferBigEndian(x, e, offset);
+      Assert.assertSame(b, Unsigned16.packToBytesBigEndian(x, b, offset));
+      Assert.assertArrayEquals(e.array(), b);
+      Assert.assertEquals(x, Unsigned16.unpackFromBytesBigEndian(b, offset));
+    }
+    Unsigned16.packToBytesBigEndian(-1, b, 0);
+    Assert.assertEquals(0xffff, Unsigned16.unpackFromBytesBigEndian(b, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsBigEndian()
+  {
+    Unsigned16.unpackFromBytesBigEndian(new byte[2 + 1], 2);
+  }
+
+  @Test public void testBytesIdentityLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] b = new byte[2 + 3];
+    final ByteBuffer e = ByteBuffer.allocate(2 + 3);
+    for (int k = 0; k < 1000; ++k) {
+      final int x = r.nextInt() & 0xffff;
+      final int offset = k % 4;
+      Arrays.fill(e.array(), (byte) 0);
+      Arrays.fill(b, (byte) 0);
+      Unsigned16.packToBufferLittleEndian(x, e, offset);
+      Assert.assertSame(b, Unsigned16.packToBytesLittleEndian(x, b, offset));
+      Assert.assertArrayEquals(e.array(), b);
+      Assert.assertEquals(x, Unsigned16.unpackFromBytesLittleEndian(b, offset));
+    }
+    Unsigned16.packToBytesLittleEndian(-1, b, 0);
+    Assert.assertEquals(0xffff, Unsigned16.unpackFromBytesLittleEndian(b, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsLittleEndian()
+  {
+    Unsigned16.unpackFromBytesLittleEndian(new byte[2 + 1], 2);
+  }
 }
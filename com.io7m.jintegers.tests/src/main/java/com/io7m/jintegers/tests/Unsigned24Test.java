@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Unsigned24;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Unsigned24Test
+{
+  @Test public void testIdentityBE_All()
+  {
+    for (int k = 0; k <= 24; ++k) {
+      final int x = (1 << k) - 1;
+      final byte[] b = Unsigned24.packToBytesBigEndianAllocate(x);
+      Assert.assertEquals(x, Unsigned24.unpackFromBytesBigEndian(b));
+    }
+  }
+
+  @Test public void testIdentityLE_All()
+  {
+    for (int k = 0; k <= 24; ++k) {
+      final int x = (1 << k) - 1;
+      final byte[] b = Unsigned24.packToBytesLittleEndianAllocate(x);
+      Assert.assertEquals(x, Unsigned24.unpackFromBytesLittleEndian(b));
+    }
+  }
+
+  @Test public void testIdentityInferred_BufferAll()
+  {
+    for (final ByteOrder o : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocate(3).order(o);
+      for (int k = 0; k <= 24; ++k) {
+        final int x = (1 << k) - 1;
+        Unsigned24.packToBuffer(x, b, 0);
+        Assert.assertEquals(x, Unsigned24.unpackFromBuffer(b, 0));
+      }
+    }
+  }
+
+  @Test public void testTruncate()
+  {
+    final byte[] b = Unsigned24.packToBytesBigEndianAllocate(0x7f123456);
+    Assert.assertEquals(0x123456, Unsigned24.unpackFromBytesBigEndian(b));
+    final byte[] c = Unsigned24.packToBytesLittleEndianAllocate(-1);
+    Assert.assertEquals(0xffffff, Unsigned24.unpackFromBytesLittleEndian(c));
+  }
+
+  @Test public void testLayoutOffset_Bytes()
+  {
+    final byte[] b = new byte[3 + 2];
+    Unsigned24.packToBytesBigEndian(0xf10203, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, (byte) 0xf1, 2, 3, 0}, b);
+    Unsigned24.packToBytesLittleEndian(0xf10203, b, 1);
+    Assert.assertArrayEquals(new byte[]{0, 3, 2, (byte) 0xf1, 0}, b);
+  }
+
+  /**
+   * Values are decoded both with a wide load and, at the end of the data,
+   * byte by byte. Both paths must agree.
+   */
+
+  @Test public void testWideAndTail()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] a = new byte[3 + 4];
+    for (int k = 0; k < 1000; ++k) {
+      r.nextBytes(a);
+      final ByteBuffer b = ByteBuffer.wrap(a);
+      for (int offset = 0; offset <= 4; ++offset) {
+        final int be =
+          ((a[offset] & 0xff) << 16)
+            | ((a[offset + 1] & 0xff) << 8)
+            | (a[offset + 2] & 0xff);
+        final int le =
+          ((a[offset + 2] & 0xff) << 16)
+            | ((a[offset + 1] & 0xff) << 8)
+            | (a[offset] & 0xff);
+
+        Assert.assertEquals(be, Unsigned24.unpackFromBytesBigEndian(a, offset));
+        Assert.assertEquals(le, Unsigned24.unpackFromBytesLittleEndian(a, offset));
+        Assert.assertEquals(be, Unsigned24.unpackFromBufferBigEndian(b, offset));
+        Assert.assertEquals(le, Unsigned24.unpackFromBufferLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferLimit()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    b.put(3, (byte) 0x7f);
+    b.limit(3);
+    Assert.assertEquals(0, Unsigned24.unpackFromBufferBigEndian(b, 0));
+    Assert.assertEquals(0, Unsigned24.unpackFromBufferLittleEndian(b, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferOutOfBounds_0()
+  {
+    Unsigned24.unpackFromBufferBigEndian(ByteBuffer.allocate(4), 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferOutOfBounds_1()
+  {
+    Unsigned24.unpackFromBufferLittleEndian(ByteBuffer.allocate(4), -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testTooSmall_0()
+  {
+    Unsigned24.unpackFromBytesBigEndian(new byte[2]);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testTooSmall_1()
+  {
+    Unsigned24.packToBytesLittleEndian(0, new byte[2]);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_0()
+  {
+    Unsigned24.unpackFromBytesBigEndian(new byte[3 + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_1()
+  {
+    Unsigned24.packToBytesLittleEndian(0, new byte[3], 1);
+  }
+
+  @Test public void testBulkBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt() & 0xffffff;
+    }
+
+    final int size = 1 + (src.length * 3);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned24.packToBufferBigEndian(src[k], expected, 1 + (k * 3));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned24.packArrayBigEndian(src, 2, b, 1 + (2 * 3), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Unsigned24.unpackArrayBigEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 3), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt() & 0xffffff;
+    }
+
+    final int size = 1 + (src.length * 3);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned24.packToBufferLittleEndian(src[k], expected, 1 + (k * 3));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned24.packArrayLittleEndian(src, 2, b, 1 + (2 * 3), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Unsigned24.unpackArrayLittleEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 3), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Unsigned24.packArrayBigEndian(new int[4], 0, ByteBuffer.allocate(4 * 3 - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Unsigned24.unpackArrayLittleEndian(ByteBuffer.allocate(4 * 3), 0, new int[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Unsigned24.packArrayBigEndian(
+      new int[4], 0, ByteBuffer.allocate(4 * 3).asReadOnlyBuffer(), 0, 4);
+  }
+}
@@ -18,6 +18,9 @@ package com.io7m.jintegers.tests;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -85,4 +88,140 @@ import com.io7m.jintegers.Unsigned32;
       Assert.assertEquals(x, y);
     }
   }
+
+  @Test public void testBulkBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] src = new long[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt() & 0xffffffffL;
+    }
+
+    final int size = 1 + (src.length * 4);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned32.packToBuffer(src[k], expected, 1 + (k * 4));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned32.packArrayBigEndian(src, 2, b, 1 + (2 * 4), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final long[] dst = new long[src.length];
+      Unsigned32.unpackArrayBigEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 4), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] src = new long[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt() & 0xffffffffL;
+    }
+
+    final int size = 1 + (src.length * 4);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned32.packToBuffer(src[k], expected, 1 + (k * 4));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned32.packArrayLittleEndian(src, 2, b, 1 + (2 * 4), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final long[] dst = new long[src.length];
+      Unsigned32.unpackArrayLittleEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * 4), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Unsigned32.packArrayBigEndian(new long[4], 0, ByteBuffer.allocate(4 * 4 - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Unsigned32.unpackArrayBigEndian(ByteBuffer.allocate(4 * 4), 0, new long[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Unsigned32.packArrayBigEndian(
+      new long[4], 0, ByteBuffer.allocate(4 * 4).asReadOnlyBuffer(), 0, 4);
+  }
+
+  @Test public void testBytesIdentityBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] b = new byte[4 + 3];
+    final ByteBuffer e = ByteBuffer.allocate(4 + 3);
+    for (int k = 0; k < 1000; ++k) {
+      final long x = r.nextLong() & 0xffffffffL;
+      final int offset = k % 4;
+      Arrays.fill(e.array(), (byte) 0);
+      Arrays.fill(b, (byte) 0);
+      Unsigned32.packToBufferBigEndian(x, e, offset);
+      Assert.assertSame(b, Unsigned32.packToBytesBigEndian(x, b, offset));
+      Assert.assertArrayEquals(e.array(), b);
+      Assert.assertEquals(x, Unsigned32.unpackFromBytesBigEndian(b, offset));
+    }
+    Unsigned32.packToBytesBigEndian(-1, b, 0);
+    Assert.assertEquals(0xffffffffL, Unsigned32.unpackFromBytesBigEndian(b, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsBigEndian()
+  {
+    Unsigned32.unpackFromBytesBigEndian(new byte[4 + 1], 2);
+  }
+
+  @Test public void testBytesIdentityLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] b = new byte[4 + 3];
+    final ByteBuffer e = ByteBuffer.allocate(4 + 3);
+    for (int k = 0; k < 1000; ++k) {
+      final long x = r.nextLong() & 0xffffffffL;
+      final int offset = k % 4;
+      Arrays.fill(e.array(), (byte) 0);
+      Arrays.fill(b, (byte) 0);
+      Unsigned32.packToBufferLittleEndian(x, e, offset);
+      Assert.assertSame(b, Unsigned32.packToBytesLittleEndian(x, b, offset));
+      Assert.assertArrayEquals(e.array(), b);
+      Assert.assertEquals(x, Unsigned32.unpackFromBytesLittleEndian(b, offset));
+    }
+    Unsigned32.packToBytesLittleEndian(-1, b, 0);
+    Assert.assertEquals(0xffffffffL, Unsigned32.unpackFromBytesLittleEndian(b, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBoundsLittleEndian()
+  {
+    Unsigned32.unpackFromBytesLittleEndian(new byte[4 + 1], 2);
+  }
 }
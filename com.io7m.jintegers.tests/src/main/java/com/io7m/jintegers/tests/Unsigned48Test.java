@@ -0,0 +1,319 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Unsigned48;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Unsigned48Test
+{
+  private static final int WIDTH = 6;
+
+  private static long truncate(
+    final long x)
+  {
+    return (x << 16) >>> 16;
+  }
+
+  private static long referenceBE(
+    final byte[] a,
+    final int offset)
+  {
+    long r = 0L;
+    for (int k = 0; k < Unsigned48Test.WIDTH; ++k) {
+      r = (r << 8) | (a[offset + k] & 0xffL);
+    }
+    return Unsigned48Test.truncate(r);
+  }
+
+  private static long referenceLE(
+    final byte[] a,
+    final int offset)
+  {
+    long r = 0L;
+    for (int k = Unsigned48Test.WIDTH - 1; k >= 0; --k) {
+      r = (r << 8) | (a[offset + k] & 0xffL);
+    }
+    return Unsigned48Test.truncate(r);
+  }
+
+  @Test public void testIdentityBE_All()
+  {
+    for (int k = 0; k <= 48; ++k) {
+      final long x = Unsigned48Test.truncate((1L << k) - 1L);
+      final byte[] b = Unsigned48.packToBytesBigEndianAllocate(x);
+      Assert.assertEquals(Unsigned48Test.WIDTH, b.length);
+      Assert.assertEquals(x, Unsigned48.unpackFromBytesBigEndian(b));
+    }
+  }
+
+  @Test public void testIdentityLE_All()
+  {
+    for (int k = 0; k <= 48; ++k) {
+      final long x = Unsigned48Test.truncate((1L << k) - 1L);
+      final byte[] b = Unsigned48.packToBytesLittleEndianAllocate(x);
+      Assert.assertEquals(Unsigned48Test.WIDTH, b.length);
+      Assert.assertEquals(x, Unsigned48.unpackFromBytesLittleEndian(b));
+    }
+  }
+
+  @Test public void testIdentityInferred_BufferAll()
+  {
+    for (final ByteOrder o : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocate(Unsigned48Test.WIDTH + 9).order(o);
+      for (int k = 0; k <= 48; ++k) {
+        final long x = Unsigned48Test.truncate((1L << k) - 1L);
+        for (final int index : new int[] { 0, 9 }) {
+          Unsigned48.packToBuffer(x, b, index);
+          Assert.assertEquals(x, Unsigned48.unpackFromBuffer(b, index));
+        }
+      }
+    }
+  }
+
+  @Test public void testRange()
+  {
+    final long max = (1L << 48) - 1L;
+    final long min = 0L;
+    for (final long x : new long[] { min, max, 0L, 1L }) {
+      Assert.assertEquals(x, Unsigned48.unpackFromBytesBigEndian(Unsigned48.packToBytesBigEndianAllocate(x)));
+      Assert.assertEquals(x, Unsigned48.unpackFromBytesLittleEndian(Unsigned48.packToBytesLittleEndianAllocate(x)));
+    }
+  }
+
+  @Test public void testTruncate()
+  {
+    final long x = 0x7123_4567_89ab_cdefL;
+    final byte[] b = Unsigned48.packToBytesBigEndianAllocate(x);
+    Assert.assertEquals(Unsigned48Test.truncate(x), Unsigned48.unpackFromBytesBigEndian(b));
+    final byte[] c = Unsigned48.packToBytesLittleEndianAllocate(-1L);
+    Assert.assertEquals(Unsigned48Test.truncate(-1L), Unsigned48.unpackFromBytesLittleEndian(c));
+  }
+
+  @Test public void testLayoutOffset_Bytes()
+  {
+    final byte[] b = new byte[Unsigned48Test.WIDTH + 2];
+    final byte[] be = new byte[Unsigned48Test.WIDTH + 2];
+    final byte[] le = new byte[Unsigned48Test.WIDTH + 2];
+    long x = 0L;
+    for (int k = 0; k < Unsigned48Test.WIDTH; ++k) {
+      x = (x << 8) | (k + 1);
+      be[k + 1] = (byte) (k + 1);
+      le[Unsigned48Test.WIDTH - k] = (byte) (k + 1);
+    }
+    Unsigned48.packToBytesBigEndian(x, b, 1);
+    Assert.assertArrayEquals(be, b);
+    Unsigned48.packToBytesLittleEndian(x, b, 1);
+    Assert.assertArrayEquals(le, b);
+  }
+
+  /**
+   * Values are decoded with a wide load, with a wide load ending at the end
+   * of the data, or, for data shorter than 8 bytes, byte by byte. All paths
+   * must agree.
+   */
+
+  @Test public void testWideAndTail()
+  {
+    final Random r = new Random(0x6a696e74L);
+    for (int length = Unsigned48Test.WIDTH; length <= Unsigned48Test.WIDTH + 9; ++length) {
+      final byte[] a = new byte[length];
+      for (int k = 0; k < 100; ++k) {
+        r.nextBytes(a);
+        final ByteBuffer b = ByteBuffer.wrap(a);
+        for (int offset = 0; offset <= length - Unsigned48Test.WIDTH; ++offset) {
+          final long be = Unsigned48Test.referenceBE(a, offset);
+          final long le = Unsigned48Test.referenceLE(a, offset);
+          Assert.assertEquals(be, Unsigned48.unpackFromBytesBigEndian(a, offset));
+          Assert.assertEquals(le, Unsigned48.unpackFromBytesLittleEndian(a, offset));
+          Assert.assertEquals(be, Unsigned48.unpackFromBufferBigEndian(b, offset));
+          Assert.assertEquals(le, Unsigned48.unpackFromBufferLittleEndian(b, offset));
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimit()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(16);
+    for (int k = 0; k < 16; ++k) {
+      b.put(k, (byte) 0xff);
+    }
+    for (int k = 0; k < Unsigned48Test.WIDTH; ++k) {
+      b.put(k, (byte) 0);
+    }
+    b.limit(Unsigned48Test.WIDTH);
+    Assert.assertEquals(0L, Unsigned48.unpackFromBufferBigEndian(b, 0));
+    Assert.assertEquals(0L, Unsigned48.unpackFromBufferLittleEndian(b, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferOutOfBounds_0()
+  {
+    Unsigned48.unpackFromBufferBigEndian(ByteBuffer.allocate(Unsigned48Test.WIDTH + 1), 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferOutOfBounds_1()
+  {
+    Unsigned48.unpackFromBufferLittleEndian(ByteBuffer.allocate(16), -1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBufferOutOfBounds_2()
+  {
+    Unsigned48.packToBufferBigEndian(0L, ByteBuffer.allocate(Unsigned48Test.WIDTH), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testTooSmall_0()
+  {
+    Unsigned48.unpackFromBytesBigEndian(new byte[Unsigned48Test.WIDTH - 1]);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testTooSmall_1()
+  {
+    Unsigned48.packToBytesLittleEndian(0L, new byte[Unsigned48Test.WIDTH - 1]);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_0()
+  {
+    Unsigned48.unpackFromBytesBigEndian(new byte[Unsigned48Test.WIDTH + 1], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds_1()
+  {
+    Unsigned48.packToBytesLittleEndian(0L, new byte[Unsigned48Test.WIDTH], 1);
+  }
+
+  @Test public void testBulkBigEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] src = new long[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = Unsigned48Test.truncate(r.nextLong());
+    }
+
+    final int size = 1 + (src.length * Unsigned48Test.WIDTH);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned48.packToBufferBigEndian(src[k], expected, 1 + (k * Unsigned48Test.WIDTH));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned48.packArrayBigEndian(src, 2, b, 1 + (2 * Unsigned48Test.WIDTH), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final long[] dst = new long[src.length];
+      Unsigned48.unpackArrayBigEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * Unsigned48Test.WIDTH), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkLittleEndian()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] src = new long[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = Unsigned48Test.truncate(r.nextLong());
+    }
+
+    final int size = 1 + (src.length * Unsigned48Test.WIDTH);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned48.packToBufferLittleEndian(src[k], expected, 1 + (k * Unsigned48Test.WIDTH));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned48.packArrayLittleEndian(src, 2, b, 1 + (2 * Unsigned48Test.WIDTH), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final long[] dst = new long[src.length];
+      Unsigned48.unpackArrayLittleEndian(
+        b.asReadOnlyBuffer(), 1 + (2 * Unsigned48Test.WIDTH), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test public void testBulkPreservesTrailing()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4 * Unsigned48Test.WIDTH + 8);
+    for (int k = 0; k < b.capacity(); ++k) {
+      b.put(k, (byte) 0x5a);
+    }
+    Unsigned48.packArrayBigEndian(new long[4], 0, b, 0, 4);
+    Unsigned48.packArrayLittleEndian(new long[4], 0, b, 0, 4);
+    for (int k = 0; k < b.capacity(); ++k) {
+      Assert.assertEquals(k < 4 * Unsigned48Test.WIDTH ? 0 : 0x5a, b.get(k));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Unsigned48.packArrayBigEndian(new long[4], 0, ByteBuffer.allocate(4 * Unsigned48Test.WIDTH - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Unsigned48.unpackArrayLittleEndian(ByteBuffer.allocate(4 * Unsigned48Test.WIDTH), 0, new long[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Unsigned48.packArrayBigEndian(
+      new long[4], 0, ByteBuffer.allocate(4 * Unsigned48Test.WIDTH).asReadOnlyBuffer(), 0, 4);
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.Unsigned64;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Unsigned64Test
+{
+  private static final BigInteger TWO_64 = BigInteger.ONE.shiftLeft(64);
+
+  private static final long[] EDGES = {
+    0L,
+    1L,
+    2L,
+    9L,
+    10L,
+    99L,
+    100L,
+    0x7fffffffL,
+    0xffffffffL,
+    0x100000000L,
+    999_999_999_999_999_999L,
+    1_000_000_000_000_000_000L,
+    Long.MAX_VALUE - 1L,
+    Long.MAX_VALUE,
+    Long.MIN_VALUE,
+    Long.MIN_VALUE + 1L,
+    0x9999_9999_9999_9999L,
+    -10L,
+    -2L,
+    -1L,
+  };
+
+  private static BigInteger big(
+    final long x)
+  {
+    final BigInteger b = BigInteger.valueOf(x);
+    return x < 0L ? b.add(Unsigned64Test.TWO_64) : b;
+  }
+
+  private static long[] values()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] v = new long[Unsigned64Test.EDGES.length + 2000];
+    System.arraycopy(Unsigned64Test.EDGES, 0, v, 0, Unsigned64Test.EDGES.length);
+    for (int k = Unsigned64Test.EDGES.length; k < v.length; ++k) {
+      v[k] = r.nextLong() >>> r.nextInt(64);
+    }
+    return v;
+  }
+
+  @Test public void testBytesAndBuffers()
+  {
+    final byte[] e = new byte[8 + 3];
+    final byte[] b = new byte[8 + 3];
+    final ByteBuffer bb = ByteBuffer.allocateDirect(8 + 3);
+
+    for (final long x : Unsigned64Test.values()) {
+      Signed64.packToBytesBigEndian(x, e, 3);
+      Unsigned64.packToBytesBigEndian(x, b, 3);
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(x, Unsigned64.unpackFromBytesBigEndian(b, 3));
+
+      Signed64.packToBytesLittleEndian(x, e, 3);
+      Unsigned64.packToBytesLittleEndian(x, b, 3);
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(x, Unsigned64.unpackFromBytesLittleEndian(b, 3));
+
+      Unsigned64.packToBufferBigEndian(x, bb, 3);
+      Assert.assertEquals(x, Signed64.unpackFromBufferBigEndian(bb, 3));
+      Assert.assertEquals(x, Unsigned64.unpackFromBufferBigEndian(bb, 3));
+
+      Unsigned64.packToBufferLittleEndian(x, bb, 3);
+      Assert.assertEquals(x, Signed64.unpackFromBufferLittleEndian(bb, 3));
+      Assert.assertEquals(x, Unsigned64.unpackFromBufferLittleEndian(bb, 3));
+    }
+  }
+
+  @Test public void testBufferInferred()
+  {
+    for (final ByteOrder o : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocate(8).order(o);
+      for (final long x : Unsigned64Test.EDGES) {
+        Unsigned64.packToBuffer(x, b, 0);
+        Assert.assertEquals(x, Signed64.unpackFromBuffer(b, 0));
+        Assert.assertEquals(x, Unsigned64.unpackFromBuffer(b, 0));
+      }
+    }
+  }
+
+  @Test public void testBulk()
+  {
+    final long[] src = Unsigned64Test.values();
+    final ByteBuffer b = ByteBuffer.allocate(src.length * 8);
+    Unsigned64.packArrayBigEndian(src, 0, b, 0, src.length);
+    final long[] dst = new long[src.length];
+    Unsigned64.unpackArrayBigEndian(b, 0, dst, 0, src.length);
+    Assert.assertArrayEquals(src, dst);
+
+    Unsigned64.packArrayLittleEndian(src, 0, b, 0, src.length);
+    Unsigned64.unpackArrayLittleEndian(b, 0, dst, 0, src.length);
+    Assert.assertArrayEquals(src, dst);
+    Assert.assertEquals(src[1], Unsigned64.unpackFromBufferLittleEndian(b, 8));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetOutOfBounds()
+  {
+    Unsigned64.unpackFromBytesBigEndian(new byte[8], 1);
+  }
+
+  @Test public void testCompare()
+  {
+    final long[] v = Unsigned64Test.values();
+    for (int k = 1; k < v.length; ++k) {
+      final int expected =
+        Integer.signum(Unsigned64Test.big(v[k - 1]).compareTo(Unsigned64Test.big(v[k])));
+      Assert.assertEquals(expected, Integer.signum(Unsigned64.compare(v[k - 1], v[k])));
+    }
+    Assert.assertTrue(Unsigned64.compare(-1L, 0L) > 0);
+    Assert.assertTrue(Unsigned64.compare(Long.MIN_VALUE, Long.MAX_VALUE) > 0);
+  }
+
+  @Test public void testDivideRemainder()
+  {
+    final long[] v = Unsigned64Test.values();
+    for (final long x : v) {
+      for (final long y : Unsigned64Test.EDGES) {
+        if (y == 0L) {
+          continue;
+        }
+        final BigInteger[] qr =
+          Unsigned64Test.big(x).divideAndRemainder(Unsigned64Test.big(y));
+        Assert.assertEquals(qr[0].longValue(), Unsigned64.divide(x, y));
+        Assert.assertEquals(qr[1].longValue(), Unsigned64.remainder(x, y));
+      }
+    }
+
+    final Random r = new Random(0x6a696e74L);
+    for (int k = 0; k < 100000; ++k) {
+      final long x = r.nextLong();
+      final long y = r.nextLong() >>> r.nextInt(64);
+      if (y == 0L) {
+        continue;
+      }
+      final BigInteger[] qr =
+        Unsigned64Test.big(x).divideAndRemainder(Unsigned64Test.big(y));
+      Assert.assertEquals(qr[0].longValue(), Unsigned64.divide(x, y));
+      Assert.assertEquals(qr[1].longValue(), Unsigned64.remainder(x, y));
+    }
+  }
+
+  @Test(expected = ArithmeticException.class) public
+    void
+    testDivideZero()
+  {
+    Unsigned64.divide(-1L, 0L);
+  }
+
+  @Test(expected = ArithmeticException.class) public
+    void
+    testRemainderZero()
+  {
+    Unsigned64.remainder(1L, 0L);
+  }
+
+  @Test public void testToStringBytes()
+  {
+    final byte[] b = new byte[Unsigned64.MAXIMUM_DECIMAL_LENGTH + 2];
+    for (final long x : Unsigned64Test.values()) {
+      final String e = Long.toUnsignedString(x);
+      Assert.assertEquals(e.length(), Unsigned64.decimalLength(x));
+      final int n = Unsigned64.toString(x, b, 2);
+      Assert.assertEquals(e.length(), n);
+      Assert.assertEquals(e, new String(b, 2, n, StandardCharsets.US_ASCII));
+    }
+  }
+
+  @Test public void testToStringCharBuffer()
+  {
+    final CharBuffer c = CharBuffer.allocate(64);
+    c.put('<');
+    Assert.assertEquals(20, Unsigned64.toString(-1L, c));
+    c.put('>');
+    Assert.assertEquals(1, Unsigned64.toString(0L, c));
+    c.flip();
+    Assert.assertEquals("<18446744073709551615>0", c.toString());
+  }
+
+  @Test public void testToStringBytesTooSmall()
+  {
+    final byte[] b = new byte[3];
+    try {
+      Unsigned64.toString(1000L, b, 0);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertArrayEquals(new byte[3], b);
+    }
+  }
+
+  @Test public void testToStringCharBufferTooSmall()
+  {
+    final CharBuffer c = CharBuffer.allocate(3);
+    try {
+      Unsigned64.toString(1000L, c);
+      Assert.fail();
+    } catch (final BufferOverflowException e) {
+      Assert.assertEquals(0, c.position());
+    }
+  }
+
+  @Test public void testParse()
+  {
+    for (final long x : Unsigned64Test.values()) {
+      final String s = "xx" + Long.toUnsignedString(x) + "yy";
+      Assert.assertEquals(x, Unsigned64.parse(s, 2, s.length() - 2));
+    }
+    Assert.assertEquals(-1L, Unsigned64.parse("18446744073709551615"));
+    Assert.assertEquals(7L, Unsigned64.parse("0000000000000000000000007"));
+  }
+
+  @Test public void testParseErrors()
+  {
+    for (final String s : new String[]{
+      "",
+      "-1",
+      "+1",
+      " 1",
+      "1a",
+      "18446744073709551616",
+      "18446744073709551620",
+      "99999999999999999999",
+      "184467440737095516150",
+    }) {
+      try {
+        Unsigned64.parse(s);
+        Assert.fail(s);
+      } catch (final NumberFormatException e) {
+        // Expected
+      }
+    }
+  }
+}
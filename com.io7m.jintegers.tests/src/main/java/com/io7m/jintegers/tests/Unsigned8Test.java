@@ -18,6 +18,8 @@ package com.io7m.jintegers.tests;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -79,4 +81,76 @@ import com.io7m.jintegers.Unsigned8;
       Assert.assertEquals(x, y);
     }
   }
+
+  @Test public void testBulkIdentity()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] src = new int[67];
+    for (int k = 0; k < src.length; ++k) {
+      src[k] = r.nextInt(0x100);
+    }
+
+    final int size = 1 + (src.length * 1);
+    final ByteBuffer expected =
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+    for (int k = 2; k < src.length; ++k) {
+      Unsigned8.packToBuffer(src[k], expected, 1 + (k * 1));
+    }
+
+    for (final ByteBuffer b : new ByteBuffer[]{
+      ByteBuffer.allocate(size),
+      ByteBuffer.allocateDirect(size),
+    }) {
+      Unsigned8.packArray(src, 2, b, 1 + (2 * 1), src.length - 2);
+      Assert.assertEquals(expected.rewind(), b.rewind());
+
+      final int[] dst = new int[src.length];
+      Unsigned8.unpackArray(
+        b.asReadOnlyBuffer(), 1 + (2 * 1), dst, 2, src.length - 2);
+      for (int k = 2; k < src.length; ++k) {
+        Assert.assertEquals(src[k], dst[k]);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_0()
+  {
+    Unsigned8.packArray(new int[4], 0, ByteBuffer.allocate(4 * 1 - 1), 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds_1()
+  {
+    Unsigned8.unpackArray(ByteBuffer.allocate(4 * 1), 0, new int[4], 1, 4);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class) public
+    void
+    testBulkReadOnly()
+  {
+    Unsigned8.packArray(
+      new int[4], 0, ByteBuffer.allocate(4 * 1).asReadOnlyBuffer(), 0, 4);
+  }
+
+  @Test public void testBytesIdentity()
+  {
+    final byte[] b = new byte[3];
+    final ByteBuffer e = ByteBuffer.allocate(3);
+    for (int x = 0; x <= 0xff; ++x) {
+      Unsigned8.packToBuffer(x, e, 1);
+      Assert.assertSame(b, Unsigned8.packToBytes(x, b, 1));
+      Assert.assertArrayEquals(e.array(), b);
+      Assert.assertEquals(x, Unsigned8.unpackFromBytes(b, 1));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBytesOutOfBounds()
+  {
+    Unsigned8.unpackFromBytes(new byte[1], 1);
+  }
 }
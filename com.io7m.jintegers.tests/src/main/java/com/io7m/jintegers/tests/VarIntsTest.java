@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.VarInts;
+
+@SuppressWarnings({ "null", "static-method" }) public final class VarIntsTest
+{
+  private static long randomValue(
+    final Random r)
+  {
+    return r.nextLong() >>> r.nextInt(64);
+  }
+
+  private static byte[] reference(
+    final long x)
+  {
+    final byte[] out = new byte[10];
+    long v = x;
+    int k = 0;
+    while ((v & ~0x7fL) != 0L) {
+      out[k] = (byte) ((v & 0x7fL) | 0x80L);
+      v >>>= 7;
+      ++k;
+    }
+    out[k] = (byte) v;
+    final byte[] r = new byte[k + 1];
+    System.arraycopy(out, 0, r, 0, k + 1);
+    return r;
+  }
+
+  @Test public void testZigZag()
+  {
+    Assert.assertEquals(0, VarInts.zigZagEncode32(0));
+    Assert.assertEquals(1, VarInts.zigZagEncode32(-1));
+    Assert.assertEquals(2, VarInts.zigZagEncode32(1));
+    Assert.assertEquals(-1, VarInts.zigZagEncode32(Integer.MIN_VALUE));
+    Assert.assertEquals(-2, VarInts.zigZagEncode32(Integer.MAX_VALUE));
+    Assert.assertEquals(-1L, VarInts.zigZagEncode64(Long.MIN_VALUE));
+
+    final Random r = new Random(0x6a696e74L);
+    for (int k = 0; k < 10000; ++k) {
+      final long x = r.nextLong();
+      Assert.assertEquals(x, VarInts.zigZagDecode64(VarInts.zigZagEncode64(x)));
+      final int y = (int) x;
+      Assert.assertEquals(y, VarInts.zigZagDecode32(VarInts.zigZagEncode32(y)));
+    }
+  }
+
+  @Test public void testEncodedLength()
+  {
+    Assert.assertEquals(1, VarInts.encodedLength64(0L));
+    Assert.assertEquals(1, VarInts.encodedLength64(127L));
+    Assert.assertEquals(2, VarInts.encodedLength64(128L));
+    Assert.assertEquals(9, VarInts.encodedLength64(Long.MAX_VALUE));
+    Assert.assertEquals(10, VarInts.encodedLength64(-1L));
+    Assert.assertEquals(5, VarInts.encodedLength32(-1));
+    for (int bits = 0; bits < 64; ++bits) {
+      Assert.assertEquals(reference(1L << bits).length, VarInts.encodedLength64(1L << bits));
+    }
+  }
+
+  @Test public void testEncodeMatchesReference()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] b = new byte[16];
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+    for (int k = 0; k < 10000; ++k) {
+      final long x = randomValue(r);
+      final byte[] e = reference(x);
+      Assert.assertEquals(e.length, VarInts.encodeUnsigned64(x, b, 3));
+      Assert.assertEquals(e.length, VarInts.encodeUnsigned64(x, buffer, 3));
+      for (int i = 0; i < e.length; ++i) {
+        Assert.assertEquals(e[i], b[3 + i]);
+        Assert.assertEquals(e[i], buffer.get(3 + i));
+      }
+    }
+  }
+
+  @Test public void testRoundTripAllOffsets()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] b = new byte[24];
+    final ByteBuffer direct = ByteBuffer.allocateDirect(24);
+    for (int k = 0; k < 10000; ++k) {
+      final long x = randomValue(r);
+      final int length = VarInts.encodedLength64(x);
+      final int offset = r.nextInt(b.length - length + 1);
+      VarInts.encodeUnsigned64(x, b, offset);
+      VarInts.encodeUnsigned64(x, direct, offset);
+      Assert.assertEquals(x, VarInts.decodeUnsigned64(b, offset));
+      Assert.assertEquals(x, VarInts.decodeUnsigned64(direct, offset));
+      Assert.assertEquals(length, VarInts.decodedLength(b, offset));
+      Assert.assertEquals(length, VarInts.decodedLength(direct, offset));
+
+      final long s = r.nextLong() >> r.nextInt(64);
+      final int sl = VarInts.encodeSigned64(s, b, 0);
+      Assert.assertEquals(s, VarInts.decodeSigned64(b, 0));
+      Assert.assertEquals(sl, VarInts.decodedLength(b, 0));
+
+      final int i = (int) s;
+      VarInts.encodeSigned32(i, direct, 0);
+      Assert.assertEquals(i, VarInts.decodeSigned32(direct, 0));
+      VarInts.encodeUnsigned32(i, b, 0);
+      Assert.assertEquals(i, VarInts.decodeUnsigned32(b, 0));
+    }
+  }
+
+  @Test public void testDecodeRecordsLength()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] b = new byte[24];
+    final ByteBuffer direct = ByteBuffer.allocateDirect(24);
+    final int[] length = new int[1];
+    for (int k = 0; k < 10000; ++k) {
+      final long x = randomValue(r);
+      final int offset = r.nextInt(b.length - VarInts.MAXIMUM_LENGTH_64 + 1);
+      final int ul = VarInts.encodeUnsigned64(x, b, offset);
+      VarInts.encodeUnsigned64(x, direct, offset);
+      Assert.assertEquals(x, VarInts.decodeUnsigned64(b, offset, length));
+      Assert.assertEquals(ul, length[0]);
+      length[0] = 0;
+      Assert.assertEquals(x, VarInts.decodeUnsigned64(direct, offset, length));
+      Assert.assertEquals(ul, length[0]);
+
+      final int tail = b.length - ul;
+      VarInts.encodeUnsigned64(x, b, tail);
+      Assert.assertEquals(x, VarInts.decodeUnsigned64(b, tail, length));
+      Assert.assertEquals(ul, length[0]);
+
+      final long s = r.nextLong() >> r.nextInt(64);
+      final int sl = VarInts.encodeSigned64(s, b, offset);
+      VarInts.encodeSigned64(s, direct, offset);
+      Assert.assertEquals(s, VarInts.decodeSigned64(b, offset, length));
+      Assert.assertEquals(sl, length[0]);
+      length[0] = 0;
+      Assert.assertEquals(s, VarInts.decodeSigned64(direct, offset, length));
+      Assert.assertEquals(sl, length[0]);
+
+      final int i = (int) s;
+      final int il = VarInts.encodeSigned32(i, b, offset);
+      VarInts.encodeSigned32(i, direct, offset);
+      Assert.assertEquals(i, VarInts.decodeSigned32(b, offset, length));
+      Assert.assertEquals(il, length[0]);
+      length[0] = 0;
+      Assert.assertEquals(i, VarInts.decodeSigned32(direct, offset, length));
+      Assert.assertEquals(il, length[0]);
+
+      final int ql = VarInts.encodeUnsigned32(i, b, offset);
+      VarInts.encodeUnsigned32(i, direct, offset);
+      Assert.assertEquals(i, VarInts.decodeUnsigned32(b, offset, length));
+      Assert.assertEquals(ql, length[0]);
+      length[0] = 0;
+      Assert.assertEquals(i, VarInts.decodeUnsigned32(direct, offset, length));
+      Assert.assertEquals(ql, length[0]);
+    }
+  }
+
+  @Test public void testArrays()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final long[] values = new long[1000];
+    for (int k = 0; k < values.length; ++k) {
+      values[k] = r.nextLong() >> r.nextInt(64);
+    }
+
+    final byte[] b = new byte[values.length * 10];
+    final int written = VarInts.encodeArraySigned64(values, 0, b, 0, values.length);
+    final long[] out = new long[values.length];
+    Assert.assertEquals(written, VarInts.decodeArraySigned64(b, 0, out, 0, values.length));
+    Assert.assertArrayEquals(values, out);
+
+    int index = 0;
+    for (int k = 0; k < values.length; ++k) {
+      Assert.assertEquals(values[k], VarInts.decodeSigned64(b, index));
+      index += VarInts.decodedLength(b, index);
+    }
+    Assert.assertEquals(written, index);
+
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(b.length);
+    Assert.assertEquals(
+      VarInts.encodeArrayUnsigned64(values, 0, b, 1, values.length),
+      VarInts.encodeArrayUnsigned64(values, 0, buffer, 1, values.length));
+    final long[] outBuffer = new long[values.length];
+    final int read = VarInts.decodeArrayUnsigned64(buffer, 1, outBuffer, 0, values.length);
+    Assert.assertEquals(read, VarInts.decodeArrayUnsigned64(b, 1, out, 0, values.length));
+    Assert.assertArrayEquals(values, outBuffer);
+    Assert.assertArrayEquals(values, out);
+  }
+
+  @Test public void testEncodeTooSmallWritesNothing()
+  {
+    final byte[] b = new byte[4];
+    try {
+      VarInts.encodeUnsigned64(1L << 28, b, 0);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertArrayEquals(new byte[4], b);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeTruncated()
+  {
+    VarInts.decodeUnsigned64(new byte[] { (byte) 0x80, (byte) 0x80 }, 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeTruncatedBuffer()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(12);
+    for (int k = 0; k < 12; ++k) {
+      b.put(k, (byte) 0xff);
+    }
+    b.limit(9);
+    VarInts.decodeUnsigned64(b, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testDecodeTooLong32()
+  {
+    final byte[] b = new byte[16];
+    for (int k = 0; k < 5; ++k) {
+      b[k] = (byte) 0x80;
+    }
+    VarInts.decodeUnsigned32(b, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testDecodeTooLong64()
+  {
+    final byte[] b = new byte[16];
+    for (int k = 0; k < 10; ++k) {
+      b[k] = (byte) 0x80;
+    }
+    VarInts.decodedLength(b, 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testDecodeOutOfBounds()
+  {
+    VarInts.decodeUnsigned32(new byte[4], 4);
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.ffm.IntegerSegments;
+
+@SuppressWarnings({ "null", "static-method" }) public final class IntegerSegmentsTest
+{
+  private static final int COUNT = 67;
+
+  @Test public void testSingleMatchesBuffers()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final byte[] data = new byte[16];
+    final MemorySegment s = MemorySegment.ofArray(data);
+    final ByteBuffer b = ByteBuffer.wrap(data);
+    final ByteBuffer e = ByteBuffer.allocate(16);
+
+    for (int k = 0; k < 1000; ++k) {
+      final long x = r.nextLong();
+      final int offset = k % 9;
+
+      IntegerSegments.packSigned16BigEndian((int) x, s, offset);
+      Signed16.packToBufferBigEndian((int) x, e.clear(), offset);
+      Assert.assertEquals((short) x, IntegerSegments.unpackSigned16BigEndian(s, offset));
+      Assert.assertEquals(x & 0xffff, IntegerSegments.unpackUnsigned16BigEndian(s, offset));
+      Assert.assertEquals(Signed16.unpackFromBufferBigEndian(e, offset), Signed16.unpackFromBufferBigEndian(b, offset));
+
+      IntegerSegments.packSigned24LittleEndian((int) x, s, offset);
+      Assert.assertEquals(((int) x << 8) >> 8, Signed24.unpackFromBufferLittleEndian(b, offset));
+      Assert.assertEquals(((int) x << 8) >> 8, IntegerSegments.unpackSigned24LittleEndian(s, offset));
+      Assert.assertEquals(x & 0xffffff, IntegerSegments.unpackUnsigned24LittleEndian(s, offset));
+
+      IntegerSegments.packSigned24BigEndian((int) x, s, offset);
+      Assert.assertEquals(((int) x << 8) >> 8, Signed24.unpackFromBufferBigEndian(b, offset));
+      Assert.assertEquals(x & 0xffffff, IntegerSegments.unpackUnsigned24BigEndian(s, offset));
+
+      IntegerSegments.packUnsigned32LittleEndian(x, s, offset);
+      Assert.assertEquals((int) x, Signed32.unpackFromBufferLittleEndian(b, offset));
+      Assert.assertEquals(x & 0xffffffffL, IntegerSegments.unpackUnsigned32LittleEndian(s, offset));
+
+      IntegerSegments.packSigned64BigEndian(x, s, offset);
+      Assert.assertEquals(x, Signed64.unpackFromBufferBigEndian(b, offset));
+      Assert.assertEquals(x, IntegerSegments.unpackUnsigned64BigEndian(s, offset));
+
+      IntegerSegments.packUnsigned8((int) x, s, offset);
+      Assert.assertEquals(x & 0xff, IntegerSegments.unpackUnsigned8(s, offset));
+    }
+  }
+
+  @Test public void testSigned24Tail()
+  {
+    final MemorySegment s = MemorySegment.ofArray(new byte[3]);
+    IntegerSegments.packSigned24BigEndian(-2, s, 0L);
+    Assert.assertEquals(-2, IntegerSegments.unpackSigned24BigEndian(s, 0L));
+    IntegerSegments.packSigned24LittleEndian(-3, s, 0L);
+    Assert.assertEquals(-3, IntegerSegments.unpackSigned24LittleEndian(s, 0L));
+  }
+
+  @Test public void testBulk()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final int[] ints = new int[COUNT];
+    final long[] longs = new long[COUNT];
+    for (int k = 0; k < COUNT; ++k) {
+      ints[k] = r.nextInt();
+      longs[k] = r.nextLong();
+    }
+
+    try (Arena arena = Arena.ofConfined()) {
+      final MemorySegment s = arena.allocate(1L + (COUNT * 8L));
+      final int[] di = new int[COUNT];
+      final long[] dl = new long[COUNT];
+
+      IntegerSegments.packArraySigned16LittleEndian(ints, 0, s, 1L, COUNT);
+      IntegerSegments.unpackArraySigned16LittleEndian(s, 1L, di, 0, COUNT);
+      for (int k = 0; k < COUNT; ++k) {
+        Assert.assertEquals((short) ints[k], di[k]);
+      }
+
+      IntegerSegments.packArraySigned24BigEndian(ints, 0, s, 1L, COUNT);
+      IntegerSegments.unpackArraySigned24BigEndian(s, 1L, di, 0, COUNT);
+      for (int k = 0; k < COUNT; ++k) {
+        Assert.assertEquals((ints[k] << 8) >> 8, di[k]);
+      }
+
+      IntegerSegments.packArraySigned32BigEndian(ints, 0, s, 1L, COUNT);
+      Assert.assertEquals(ints[3], IntegerSegments.unpackSigned32BigEndian(s, 1L + 12L));
+      IntegerSegments.unpackArraySigned32BigEndian(s, 1L, di, 0, COUNT);
+      Assert.assertArrayEquals(ints, di);
+
+      IntegerSegments.packArraySigned64LittleEndian(longs, 0, s, 1L, COUNT);
+      Assert.assertEquals(longs[5], IntegerSegments.unpackSigned64LittleEndian(s, 1L + 40L));
+      IntegerSegments.unpackArraySigned64LittleEndian(s, 1L, dl, 0, COUNT);
+      Assert.assertArrayEquals(longs, dl);
+    }
+  }
+
+  @Test public void testLargeOffset()
+  {
+    final MemorySegment s = MemorySegment.ofArray(new byte[16]);
+    final MemorySegment shifted = s.asSlice(8L);
+    IntegerSegments.packSigned64LittleEndian(-9L, shifted, 0L);
+    Assert.assertEquals(-9L, IntegerSegments.unpackSigned64LittleEndian(s, 8L));
+    try {
+      IntegerSegments.unpackSigned32BigEndian(s, 0x1_0000_0000L);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSigned24OutOfBounds()
+  {
+    IntegerSegments.unpackSigned24BigEndian(MemorySegment.ofArray(new byte[4]), 2L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testBulkOutOfBounds()
+  {
+    IntegerSegments.unpackArraySigned32BigEndian(
+      MemorySegment.ofArray(new byte[15]), 0L, new int[4], 0, 4);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.IntegerCodecType;
+import com.io7m.jintegers.IntegerCodecs;
+import com.io7m.jintegers.RecordSort;
+import com.io7m.jintegers.ffm.RecordSegments;
+
+@SuppressWarnings({ "null", "static-method" }) public final class RecordSegmentsTest
+{
+  private static void fill(
+    final Random r,
+    final MemorySegment s)
+  {
+    for (long k = 0L; k < s.byteSize(); ++k) {
+      s.set(ValueLayout.JAVA_BYTE, k, (byte) r.nextInt(4));
+    }
+  }
+
+  @Test public void testSortMatchesBuffers()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final IntegerCodecType codec =
+      IntegerCodecs.of(4, true, ByteOrder.LITTLE_ENDIAN);
+    final RecordSort sort = RecordSort.of(codec, 12, 4);
+
+    try (Arena arena = Arena.ofConfined()) {
+      for (final int count : new int[] { 0, 1, 2, 100, 3000 }) {
+        final MemorySegment s = arena.allocate(3L + count * 12L);
+        fill(r, s);
+        final ByteBuffer expected =
+          ByteBuffer.wrap(s.toArray(ValueLayout.JAVA_BYTE));
+
+        RecordSegments.sort(sort, s, 3L, count);
+        sort.sort(expected, 3, count);
+        Assert.assertEquals(expected, s.asByteBuffer());
+      }
+    }
+  }
+
+  @Test public void testSortParallelMatchesBuffers()
+  {
+    final Random r = new Random(0x6a696e74L);
+    final IntegerCodecType codec =
+      IntegerCodecs.of(8, false, ByteOrder.BIG_ENDIAN);
+    final RecordSort sort = RecordSort.of(codec, 16, 8);
+    final ForkJoinPool pool = new ForkJoinPool(3);
+
+    try (Arena arena = Arena.ofShared()) {
+      final int count = 100_000;
+      final MemorySegment s = arena.allocate(5L + count * 16L);
+      fill(r, s);
+      final ByteBuffer expected =
+        ByteBuffer.wrap(s.toArray(ValueLayout.JAVA_BYTE));
+
+      RecordSegments.sortParallel(sort, s, 5L, count, pool);
+      sort.sort(expected, 5, count);
+      Assert.assertEquals(expected, s.asByteBuffer());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOutOfBounds()
+  {
+    final RecordSort sort =
+      RecordSort.of(IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN), 16, 4);
+    RecordSegments.sort(sort, MemorySegment.ofArray(new byte[63]), 0L, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testNegativeCount()
+  {
+    final RecordSort sort =
+      RecordSort.of(IntegerCodecs.of(4, false, ByteOrder.BIG_ENDIAN), 16, 4);
+    RecordSegments.sort(sort, MemorySegment.ofArray(new byte[64]), 0L, -1);
+  }
+
+  @Test public void testReadOnlyUnmodified()
+  {
+    final byte[] data = { 2, 1 };
+    final RecordSort sort =
+      RecordSort.of(IntegerCodecs.of(1, false, ByteOrder.BIG_ENDIAN), 1, 0);
+    try {
+      RecordSegments.sort(
+        sort, MemorySegment.ofArray(data).asReadOnly(), 0L, 2);
+      Assert.fail();
+    } catch (final ReadOnlyBufferException e) {
+      Assert.assertEquals(2, data[0]);
+      Assert.assertEquals(1, data[1]);
+    }
+  }
+}